@@ -218,6 +218,11 @@ public class GaiaSky implements ApplicationListener, IObserver {
      * The session start time, in milliseconds.
      */
     private long startTime;
+    /**
+     * Startup spans which stay open across frames.
+     */
+    private StartupProfiler.Span welcomeSpan, loadingSpan;
+    private StartupProfiler.AssetManagerLogger assetManagerLogger;
     /**
      * Holds the session run time in seconds.
      */
@@ -450,6 +455,8 @@ public class GaiaSky implements ApplicationListener, IObserver {
     @Override
     public void create() {
         startTime = TimeUtils.millis();
+        final StartupProfiler profiler = StartupProfiler.instance;
+        final StartupProfiler.Span createSpan = profiler.start("GaiaSky.create");
         // Set log level.
         Gdx.app.setLogLevel(debugMode ? Application.LOG_DEBUG : Application.LOG_INFO);
         Logger.level = debugMode ? Logger.LoggerLevel.DEBUG : Logger.LoggerLevel.INFO;
@@ -477,12 +484,17 @@ public class GaiaSky implements ApplicationListener, IObserver {
         logger.info(I18n.msg("notif.javaversion", System.getProperty("java.version"), System.getProperty("java.vendor")));
         logger.info(I18n.msg("notif.info.maxattribs", GL30.glGetInteger(GL30.GL_MAX_VERTEX_ATTRIBS)));
         logger.info(I18n.msg("notif.info.maxtexsize", GL30.glGetInteger(GL30.GL_MAX_TEXTURE_SIZE)));
+        profiler.setProperty("version", settings.version.version);
+        profiler.setProperty("build", settings.version.build);
+        profiler.setProperty("device", GL30.glGetString(GL30.GL_RENDERER));
+        profiler.setProperty("glVersion", GL30.glGetString(GL30.GL_VERSION));
 
         // Disable all kinds of input.
         EventManager.publish(Event.INPUT_ENABLED_CMD, this, false);
 
         if (!settings.initialized) {
             logger.error(new RuntimeException(I18n.msg("notif.error", "global configuration not initialized")));
+            createSpan.close();
             return;
         }
 
@@ -503,6 +515,9 @@ public class GaiaSky implements ApplicationListener, IObserver {
         final FileHandleResolver internalResolver = new InternalFileHandleResolver();
         final FileHandleResolver dataResolver = fileName -> settings.data.dataFileHandle(fileName);
         assetManager = new AssetManager(internalResolver);
+        // Records the load time of each asset.
+        assetManagerLogger = new StartupProfiler.AssetManagerLogger(com.badlogic.gdx.utils.Logger.NONE);
+        assetManager.setLogger(assetManagerLogger);
         assetManager.setLoader(Texture.class, ".pfm", new PFMTextureLoader(dataResolver));
         assetManager.setLoader(PFMData.class, new PFMDataLoader(dataResolver));
         assetManager.setLoader(Pixmap.class, new OwnPixmapLoader(dataResolver));
@@ -523,7 +538,9 @@ public class GaiaSky implements ApplicationListener, IObserver {
         assetManager.setLoader(GaiaSkyAssets.class, new GaiaSkyLoader(internalResolver));
 
         // Init global resources -- Can't be postponed!
-        this.globalResources = new GlobalResources(assetManager);
+        try (var ignored = profiler.start("Global resources")) {
+            this.globalResources = new GlobalResources(assetManager);
+        }
 
         // Catalog manager.
         this.catalogManager = new CatalogManager();
@@ -553,8 +570,10 @@ public class GaiaSky implements ApplicationListener, IObserver {
         postProcessor = new MainPostProcessor(null);
 
         // Scene renderer.
-        sceneRenderer = new SceneRenderer(vrContext, globalResources);
-        sceneRenderer.initialize(assetManager);
+        try (var ignored = profiler.start("Scene renderer initialization")) {
+            sceneRenderer = new SceneRenderer(vrContext, globalResources);
+            sceneRenderer.initialize(assetManager);
+        }
 
         // Screenshots and frame output manager.
         new ScreenshotsManager(this, sceneRenderer, globalResources);
@@ -582,6 +601,10 @@ public class GaiaSky implements ApplicationListener, IObserver {
             welcomeGuiVR = new VRGui<>(WelcomeGuiVR.class, (int) (settings.graphics.backBufferResolution[0] / 2f), globalResources.getSkin(), graphics, 1f / settings.program.ui.scale);
             welcomeGuiVR.initialize(assetManager, globalResources.getSpriteBatch());
         }
+        createSpan.close();
+
+        // Time until the data is loaded, which includes the user interaction with the welcome screen.
+        welcomeSpan = profiler.start("Welcome screen");
     }
 
     /**
@@ -658,6 +681,10 @@ public class GaiaSky implements ApplicationListener, IObserver {
      * to their classes and removes the Loading message.
      */
     private void doneLoading() {
+        final StartupProfiler profiler = StartupProfiler.instance;
+        loadingSpan.close();
+        final StartupProfiler.Span doneLoadingSpan = profiler.start("GaiaSky.doneLoading");
+
         // Get assets.
         final var assets = assetManager.get("gaiasky-assets", GaiaSkyAssets.class);
 
@@ -696,7 +723,9 @@ public class GaiaSky implements ApplicationListener, IObserver {
         /*
          * Complete post-processor loading.
          */
-        postProcessor.doneLoading(assetManager);
+        try (var ignored = profiler.start("Post-processor doneLoading")) {
+            postProcessor.doneLoading(assetManager);
+        }
 
         /*
          * Fetch scene object.
@@ -722,13 +751,19 @@ public class GaiaSky implements ApplicationListener, IObserver {
         /*
          * Complete scene renderer loading.
          */
-        sceneRenderer.doneLoading(assetManager);
-        sceneRenderer.resize(graphics.getWidth(), graphics.getHeight(), (int) Math.round(graphics.getWidth() * settings.graphics.backBufferScale), (int) Math.round(graphics.getHeight() * settings.graphics.backBufferScale));
+        try (var ignored = profiler.start("Scene renderer doneLoading")) {
+            sceneRenderer.doneLoading(assetManager);
+            sceneRenderer.resize(graphics.getWidth(), graphics.getHeight(), (int) Math.round(graphics.getWidth() * settings.graphics.backBufferScale), (int) Math.round(graphics.getHeight() * settings.graphics.backBufferScale));
+        }
 
         // Set up entities.
-        scene.setUpEntities();
+        try (var ignored = profiler.start("Entity set-up")) {
+            scene.setUpEntities();
+        }
         // Prepare scene for update.
-        scene.prepareUpdateSystems(sceneRenderer);
+        try (var ignored = profiler.start("Update systems")) {
+            scene.prepareUpdateSystems(sceneRenderer);
+        }
 
         // Initialize input multiplexer to handle various input processors.
         inputMultiplexer.clear();
@@ -740,7 +775,9 @@ public class GaiaSky implements ApplicationListener, IObserver {
         consoleLogger.setUseHistorical(false);
 
         // Init GUIs, step 2.
-        reinitialiseGUI2();
+        try (var ignored = profiler.start("GUI initialization")) {
+            reinitialiseGUI2();
+        }
 
         // Publish visibility.
         EventManager.publish(Event.VISIBILITY_OF_COMPONENTS, this, sceneRenderer.visible);
@@ -853,6 +890,11 @@ public class GaiaSky implements ApplicationListener, IObserver {
         // Initial report.
         scene.reportDebugObjects();
 
+        // Startup profile.
+        doneLoadingSpan.close();
+        profiler.finish();
+        EventManager.publish(Event.DEBUG_STARTUP, this, profiler.getTotalMs() / 1000d, profiler.summary(2));
+
         // Initialized.
         EventManager.publish(Event.INITIALIZED_INFO, this);
         sceneRenderer.setRendering(true);
@@ -1373,8 +1415,14 @@ public class GaiaSky implements ApplicationListener, IObserver {
     public void notify(final Event event, Object source, final Object... data) {
         switch (event) {
         case LOAD_DATA_CMD -> { // Init components that need assets in data folder.
+            welcomeSpan.close();
+            // Closed when all assets are loaded. Asset tasks and the parts of the loaders which run in this thread go in it.
+            loadingSpan = StartupProfiler.instance.start("Loading");
+            assetManagerLogger.setParent(loadingSpan);
             reinitialiseGUI1();
-            postProcessor.initialize(assetManager);
+            try (var ignored = StartupProfiler.instance.start("Post-processor initialization")) {
+                postProcessor.initialize(assetManager);
+            }
 
             // Initialise loading screen.
             loadingGui = new LoadingGui(globalResources.getSkin(), graphics, 1f / settings.program.ui.scale, false);
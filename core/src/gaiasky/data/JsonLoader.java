@@ -8,7 +8,6 @@ import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.reflect.ClassReflection;
 import com.badlogic.gdx.utils.reflect.Constructor;
-import com.badlogic.gdx.utils.reflect.Method;
 import com.badlogic.gdx.utils.reflect.ReflectionException;
 import gaiasky.event.Event;
 import gaiasky.event.EventManager;
@@ -23,11 +22,10 @@ import gaiasky.util.Logger;
 import gaiasky.util.Pair;
 import gaiasky.util.Settings;
 import gaiasky.util.TextUtils;
-import gaiasky.util.coord.IBodyCoordinates;
 import gaiasky.util.i18n.I18n;
 
 import java.io.FileNotFoundException;
-import java.lang.reflect.Field;
+import java.lang.invoke.MethodHandle;
 import java.util.*;
 
 public class JsonLoader extends AbstractSceneLoader {
@@ -48,6 +46,11 @@ public class JsonLoader extends AbstractSceneLoader {
 
     /** Maps old attributes to components. **/
     private final AttributeMap attributeMap;
+    /** Update files found by {@link #loadObjects()}, to be run by {@link #loadUpdates()}. **/
+    private final Array<JsonValue> updates = new Array<>();
+    private final Array<FileHandle> updateFiles = new Array<>();
+    /** Snapshot to get the JSON trees from, may be null. **/
+    private SceneSnapshot snapshot;
 
     /**
      * Creates a new instance with the given index.
@@ -65,6 +68,15 @@ public class JsonLoader extends AbstractSceneLoader {
         this(null);
     }
 
+    /**
+     * Sets the snapshot to get the trees of the files from. If null, the files are parsed.
+     *
+     * @param snapshot The snapshot.
+     */
+    public void setSnapshot(SceneSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
     private static String replace(String key) {
         if (REPLACE.containsKey(key)) {
             return REPLACE.get(key);
@@ -74,16 +86,29 @@ public class JsonLoader extends AbstractSceneLoader {
 
     @Override
     public Array<Entity> loadData() throws FileNotFoundException {
+        Array<Entity> loadedEntities = loadObjects();
+        loadUpdates();
+        return loadedEntities;
+    }
+
+    /**
+     * Loads the new objects of the files, and keeps the updates of existing objects for {@link #loadUpdates()}. This
+     * only adds entities to the index, so it can run concurrently with other loaders, as long as each has its own
+     * index.
+     *
+     * @return The loaded entities.
+     */
+    public Array<Entity> loadObjects() {
         Array<Entity> loadedEntities = new Array<>();
         Array<String> filePaths = new Array<>(this.filePaths);
-        Array<JsonValue> updates = new Array<>();
-        Array<FileHandle> updateFiles = new Array<>();
+        updates.clear();
+        updateFiles.clear();
 
         // Actually load the files.
         JsonReader json = new JsonReader();
         for (String filePath : filePaths) {
             FileHandle file = Settings.settings.data.dataFileHandle(filePath, datasetDirectory);
-            JsonValue root = json.parse(file.read());
+            JsonValue root = snapshot != null ? snapshot.parse(file) : json.parse(file.read());
             if (root.has("objects")) {
                 // If the top element is 'objects', we have a list of new objects.
                 JsonValue child = root.get("objects").child;
@@ -130,7 +155,13 @@ public class JsonLoader extends AbstractSceneLoader {
             }
         }
 
-        // Run the cached updates.
+        return loadedEntities;
+    }
+
+    /**
+     * Runs the updates found by {@link #loadObjects()}, which look up the objects to update in the index.
+     */
+    public void loadUpdates() {
         int i = 0;
         for (var model : updates) {
             var file = updateFiles.get(i);
@@ -166,7 +197,8 @@ public class JsonLoader extends AbstractSceneLoader {
             }
             i++;
         }
-        return loadedEntities;
+        updates.clear();
+        updateFiles.clear();
     }
 
     /**
@@ -362,16 +394,14 @@ public class JsonLoader extends AbstractSceneLoader {
     }
 
     public boolean set(Object instance, String fieldName, Object fieldValue) throws IllegalStateException {
-        Class<?> clazz = instance.getClass();
-        while (clazz != null) {
+        MethodHandle setter = SetterCache.field(instance.getClass(), fieldName);
+        if (setter != null) {
             try {
-                Field field = clazz.getDeclaredField(fieldName);
-                field.setAccessible(true);
-                field.set(instance, fieldValue);
+                setter.invokeExact(instance, fieldValue);
                 return true;
-            } catch (NoSuchFieldException e) {
-                clazz = clazz.getSuperclass();
-            } catch (Exception e) {
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
                 return false;
             }
         }
@@ -379,62 +409,31 @@ public class JsonLoader extends AbstractSceneLoader {
     }
 
     private boolean set(JsonValue attribute, Object instance, Object value, Class<?> valueClass, Class<?> instanceClass) {
-        String methodName = "set" + TextUtils.propertyToMethodName(attribute.name);
-        Method m = searchMethod(methodName, valueClass, instanceClass, false);
-        if (m != null) {
-            try {
-                m.invoke(instance, value);
-            } catch (ReflectionException e) {
-                throw new RuntimeException(e);
-            }
-            return true;
-        } else {
-            return false;
-        }
+        return invoke("set", attribute, instance, value, valueClass, instanceClass);
     }
 
     private boolean update(JsonValue attribute, Object instance, Object value, Class<?> valueClass, Class<?> instanceClass) {
-        String methodName = "update" + TextUtils.propertyToMethodName(attribute.name);
-        Method m = searchMethod(methodName, valueClass, instanceClass, false);
-        if (m != null) {
-            try {
-                m.invoke(instance, value);
-            } catch (ReflectionException e) {
-                throw new RuntimeException(e);
-            }
-            return true;
-        } else {
-            return false;
-        }
+        return invoke("update", attribute, instance, value, valueClass, instanceClass);
     }
 
     /**
-     * Searches for the given method with the given class. If none is found, it looks for fitting methods
-     * with the class' interfaces and superclasses recursively.
+     * Invokes the method <code>prefix + Attribute</code> of the instance with the given value. Methods are resolved once
+     * per class, attribute and value class, and cached in {@link SetterCache}.
      *
-     * @param methodName     The method name.
-     * @param parameterType  The parameter class type.
-     * @param source         The class of the source object.
-     * @param printException Whether to print an exception if no method is found.
-     * @return The method, if found. Null otherwise.
+     * @return Whether the method exists.
      */
-    private Method searchMethod(String methodName, Class<?> parameterType, Class<?> source, boolean printException) {
-        Method m = null;
-        try {
-            m = ClassReflection.getMethod(source, methodName, parameterType);
-        } catch (ReflectionException e) {
+    private boolean invoke(String prefix, JsonValue attribute, Object instance, Object value, Class<?> valueClass, Class<?> instanceClass) {
+        MethodHandle m = SetterCache.method(prefix, attribute.name, valueClass, instanceClass);
+        if (m != null) {
             try {
-                if (methodName.contains("setCoordinates")) {
-                    // Special case
-                    m = ClassReflection.getMethod(source, methodName, IBodyCoordinates.class);
-                }
-            } catch (ReflectionException e1) {
-                if (printException) {
-                    logger.error(e1);
-                }
+                m.invokeExact(instance, value);
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
             }
+            return true;
+        } else {
+            return false;
         }
-        return m;
     }
 
     private Object getValue(JsonValue val) {
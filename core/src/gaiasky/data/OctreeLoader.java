@@ -30,8 +30,10 @@ import gaiasky.util.CatalogInfo.CatalogInfoSource;
 import gaiasky.util.Logger;
 import gaiasky.util.Logger.Log;
 import gaiasky.util.Settings;
+import gaiasky.util.StartupProfiler;
 import gaiasky.util.concurrent.ServiceThread;
 import gaiasky.util.coord.AstroUtils;
+import gaiasky.util.filter.attrib.AttributeStatistics;
 import gaiasky.util.i18n.I18n;
 import gaiasky.util.tree.IOctreeObject;
 import gaiasky.util.tree.LoadStatus;
@@ -230,7 +232,7 @@ public class OctreeLoader extends AbstractSceneLoader implements IObserver, IOct
             /*
              * LOAD LOD LEVELS - LOAD PARTICLE DATA
              */
-            try {
+            try (var ignored = StartupProfiler.instance.start("Octree preload")) {
                 int depthLevel = Math.min(OctreeNode.maxDepth, PRELOAD_DEPTH);
                 loadLod(depthLevel, entity);
                 flushLoadedIds();
@@ -297,6 +299,8 @@ public class OctreeLoader extends AbstractSceneLoader implements IObserver, IOct
 
             addLoadedInfo(octreeNode.pageId, octreeNode.countObjects());
         }
+        // Update attribute statistics of the loaded data, if any
+        AttributeStatistics.instance.octantLoaded(datasetDesc.catalogInfo, octreeNode, data);
         return true;
     }
 
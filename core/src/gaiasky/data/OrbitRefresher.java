@@ -6,7 +6,6 @@
 package gaiasky.data;
 
 import com.badlogic.ashley.core.Entity;
-import com.badlogic.gdx.utils.Array;
 import gaiasky.GaiaSky;
 import gaiasky.data.orbit.OrbitSamplerDataProvider;
 import gaiasky.data.util.OrbitDataLoader.OrbitDataLoaderParameters;
@@ -19,34 +18,50 @@ import gaiasky.scene.entity.TrajectoryUtils;
 import gaiasky.scene.view.VertsView;
 import gaiasky.util.Logger;
 import gaiasky.util.Logger.Log;
-import gaiasky.util.concurrent.ServiceThread;
+import gaiasky.util.Settings;
 
-import java.util.Queue;
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.*;
 
 /**
  * Refreshes sampled orbit data from the underlying data provider algorithms.
+ * <p>
+ * Requests are coalesced by entity, so that only the latest parameters of each orbit are sampled, and they are
+ * processed by a pool of worker threads. Requests for orbits which are currently visible are processed before the
+ * rest. No request is ever dropped, and each orbit is sampled by at most one worker at a time. The results of each
+ * orbit are posted to the main thread before the next request of the orbit can be taken, so they reach the entity in
+ * request order.
  */
 public class OrbitRefresher implements IObserver {
-    // Maximum number of pages to send to load every batch.
-    protected static final int MAX_LOAD_CHUNK = 5;
     private static final Log logger = Logger.getLogger(OrbitRefresher.class);
-    // Maximum size of load queue.
-    private static final int LOAD_QUEUE_MAX_SIZE = 15;
-    private final Queue<OrbitDataLoaderParameters> toLoadQueue;
-    private final OrbitUpdaterThread daemon;
-    private final boolean loadingPaused = false;
+    // Maximum number of worker threads.
+    private static final int MAX_WORKERS = 4;
+
+    private final Object lock = new Object();
+    // Pending requests of visible orbits, by key, in arrival order.
+    private final Map<Object, Request> visibleQueue = new LinkedHashMap<>();
+    // Pending requests of the rest of orbits, by key, in arrival order.
+    private final Map<Object, Request> backgroundQueue = new LinkedHashMap<>();
+    // Keys of the orbits being sampled right now.
+    private final Set<Object> running = new HashSet<>();
+    // Sequence number of the latest request of each orbit whose result has not reached the entity yet.
+    private final Map<Object, Long> latest = new HashMap<>();
+    private long sequence = 0;
+    private final OrbitUpdaterThread[] workers;
+    private volatile boolean disposed = false;
 
     public OrbitRefresher(String threadName) {
         super();
-        toLoadQueue = new ArrayBlockingQueue<>(LOAD_QUEUE_MAX_SIZE);
+        int nWorkers = !Settings.settings.performance.multithreading ? 1 : Math.max(1, Math.min(MAX_WORKERS, Settings.settings.performance.getNumberOfThreads() - 1));
 
-        // Start daemon
-        daemon = new OrbitUpdaterThread(this);
-        daemon.setDaemon(true);
-        daemon.setName(threadName);
-        daemon.setPriority(Thread.MIN_PRIORITY);
-        daemon.start();
+        // Start workers
+        workers = new OrbitUpdaterThread[nWorkers];
+        for (int i = 0; i < nWorkers; i++) {
+            workers[i] = new OrbitUpdaterThread(this);
+            workers[i].setDaemon(true);
+            workers[i].setName(threadName + "-" + i);
+            workers[i].setPriority(Thread.MIN_PRIORITY);
+            workers[i].start();
+        }
 
         EventManager.instance.subscribe(this, Event.DISPOSE);
     }
@@ -55,80 +70,213 @@ public class OrbitRefresher implements IObserver {
         this("gaiasky-worker-orbitupdate");
     }
 
+    /**
+     * Queues a refresh request, which has normal priority.
+     *
+     * @param params The parameters of the orbit.
+     */
     public void queue(OrbitDataLoaderParameters params) {
-        if (!loadingPaused && toLoadQueue.size() < LOAD_QUEUE_MAX_SIZE - 1) {
-            toLoadQueue.remove(params);
-            toLoadQueue.add(params);
-            if (params.entity != null) {
-                Mapper.trajectory.get(params.entity).refreshing = true;
+        queue(params, false);
+    }
+
+    /**
+     * Queues a refresh request. If there is already a pending request for the same entity, it is replaced by this one.
+     *
+     * @param params  The parameters of the orbit.
+     * @param visible Whether the orbit is currently visible. Visible orbits are refreshed first.
+     */
+    public void queue(OrbitDataLoaderParameters params, boolean visible) {
+        if (disposed) {
+            return;
+        }
+        Object key = key(params);
+        synchronized (lock) {
+            Request request = new Request(params, ++sequence);
+            latest.put(key, request.sequence);
+            boolean wasVisible = visibleQueue.remove(key) != null;
+            backgroundQueue.remove(key);
+            if (visible || wasVisible) {
+                visibleQueue.put(key, request);
+            } else {
+                backgroundQueue.put(key, request);
+            }
+            lock.notify();
+        }
+        if (params.entity != null) {
+            Mapper.trajectory.get(params.entity).refreshing = true;
+        }
+    }
+
+    /**
+     * Moves the pending request of the given entity, if any, to the front, as its orbit is visible.
+     *
+     * @param entity The entity.
+     */
+    public void prioritize(Entity entity) {
+        synchronized (lock) {
+            Request request = backgroundQueue.remove(entity);
+            if (request != null) {
+                visibleQueue.put(entity, request);
+            }
+        }
+    }
+
+    private static Object key(OrbitDataLoaderParameters params) {
+        return params.entity != null ? params.entity : params;
+    }
+
+    /**
+     * Takes the next request whose orbit is not being sampled, waiting for one if needed, and marks it as running.
+     *
+     * @return The request, or null if the refresher has been disposed.
+     */
+    private Request take() throws InterruptedException {
+        synchronized (lock) {
+            while (!disposed) {
+                Request request = poll(visibleQueue);
+                if (request == null) {
+                    request = poll(backgroundQueue);
+                }
+                if (request != null) {
+                    running.add(key(request.params));
+                    return request;
+                }
+                lock.wait();
+            }
+            return null;
+        }
+    }
+
+    private Request poll(Map<Object, Request> queue) {
+        Iterator<Map.Entry<Object, Request>> it = queue.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Object, Request> entry = it.next();
+            if (!running.contains(entry.getKey())) {
+                it.remove();
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Marks the request as finished, so that the next request of the same orbit can be taken. Must be called after
+     * the result of the request has been posted.
+     */
+    private void finish(Request request) {
+        synchronized (lock) {
+            running.remove(key(request.params));
+            // Requests of this orbit may have been skipped while it was running
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Called in the main thread when the result of the given request reaches the entity. Tells whether it is the
+     * latest request of its orbit, in which case the orbit is no longer refreshing.
+     */
+    private boolean delivered(Request request) {
+        Object key = key(request.params);
+        synchronized (lock) {
+            Long last = latest.get(key);
+            if (last == null || last == request.sequence) {
+                latest.remove(key);
+                return true;
             }
-            daemon.wakeUp();
+            return false;
         }
     }
 
     @Override
     public void notify(Event event, Object source, Object... data) {
-        if (event == Event.DISPOSE && daemon != null) {
-            daemon.stopDaemon();
+        if (event == Event.DISPOSE && workers != null) {
+            disposed = true;
+            synchronized (lock) {
+                visibleQueue.clear();
+                backgroundQueue.clear();
+                latest.clear();
+                lock.notifyAll();
+            }
         }
     }
 
     /**
-     * The orbit refresher thread.
+     * An orbit refresher worker thread, with its own data provider.
      */
-    protected static class OrbitUpdaterThread extends ServiceThread {
+    protected static class OrbitUpdaterThread extends Thread {
+        private final OrbitRefresher orbitRefresher;
         private final OrbitSamplerDataProvider provider;
-        private final Array<OrbitDataLoaderParameters> toLoad;
 
         public OrbitUpdaterThread(final OrbitRefresher orbitRefresher) {
             super();
-            this.toLoad = new Array<>();
+            this.orbitRefresher = orbitRefresher;
             this.provider = new OrbitSamplerDataProvider();
-            this.task = () -> {
-                /* ----------- PROCESS REQUESTS ----------- */
-                while (!orbitRefresher.toLoadQueue.isEmpty()) {
-                    toLoad.clear();
-                    int i = 0;
-                    while (orbitRefresher.toLoadQueue.peek() != null && i <= MAX_LOAD_CHUNK) {
-                        OrbitDataLoaderParameters param = orbitRefresher.toLoadQueue.poll();
-                        toLoad.add(param);
-                        i++;
+        }
+
+        @Override
+        public void run() {
+            while (!orbitRefresher.disposed) {
+                Request request;
+                try {
+                    request = orbitRefresher.take();
+                } catch (InterruptedException e) {
+                    // Keep on!
+                    continue;
+                }
+                if (request == null) {
+                    break;
+                }
+                final OrbitDataLoaderParameters params = request.params;
+                PointCloudData pcd = null;
+                try {
+                    if (params.entity != null) {
+                        // Generate data
+                        provider.load(null, params);
+                        pcd = provider.getData();
                     }
+                } catch (Exception e) {
+                    logger.debug("Refreshing orbit operation failed: " + params.name);
+                }
+                if (params.entity != null) {
+                    final Entity entity = params.entity;
+                    final PointCloudData data = pcd;
+                    // Post new data to object
+                    GaiaSky.postRunnable(() -> {
+                        var trajectory = Mapper.trajectory.get(entity);
+                        if (data != null) {
+                            // Update orbit object
+                            var utils = new TrajectoryUtils();
+                            var vertsView = new VertsView(entity);
 
-                    // Generate orbits if any
-                    if (toLoad.size > 0) {
-                        try {
-                            for (OrbitDataLoaderParameters params : toLoad) {
-                                if (params.entity != null) {
-                                    Entity entity = params.entity;
-                                    // Generate data
-                                    provider.load(null, params);
-                                    final PointCloudData pcd = provider.getData();
-                                    // Post new data to object
-                                    GaiaSky.postRunnable(() -> {
-                                        // Update orbit object
-                                        var utils = new TrajectoryUtils();
-                                        var vertsView = new VertsView(entity);
-
-                                        var body = Mapper.body.get(entity);
-                                        var verts = Mapper.verts.get(entity);
-                                        var trajectory = Mapper.trajectory.get(entity);
-                                        verts.pointCloudData = pcd;
-                                        utils.initOrbitMetadata(body, trajectory, verts);
-                                        vertsView.markForUpdate();
-
-                                        trajectory.refreshing = false;
-                                    });
-
-                                }
-                            }
-                        } catch (Exception e) {
-                            // This will happen when the queue has been cleared during processing.
-                            logger.debug("Refreshing orbits operation failed.");
+                            var body = Mapper.body.get(entity);
+                            var verts = Mapper.verts.get(entity);
+                            verts.pointCloudData = data;
+                            utils.initOrbitMetadata(body, trajectory, verts);
+                            vertsView.markForUpdate();
                         }
-                    }
+                        if (orbitRefresher.delivered(request)) {
+                            trajectory.refreshing = false;
+                        }
+                    });
+                } else {
+                    orbitRefresher.delivered(request);
                 }
-            };
+                // Only now can a newer request of this orbit be taken, so its result is posted after this one
+                orbitRefresher.finish(request);
+            }
+        }
+    }
+
+    /**
+     * A refresh request, with its sequence number.
+     */
+    private static class Request {
+        final OrbitDataLoaderParameters params;
+        final long sequence;
+
+        Request(OrbitDataLoaderParameters params, long sequence) {
+            this.params = params;
+            this.sequence = sequence;
         }
     }
 }
@@ -1,5 +1,6 @@
 package gaiasky.data;
 
+import com.badlogic.ashley.core.ComponentType;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
@@ -9,22 +10,33 @@ import com.badlogic.gdx.utils.reflect.ClassReflection;
 import com.badlogic.gdx.utils.reflect.Constructor;
 import com.badlogic.gdx.utils.reflect.Method;
 import com.badlogic.gdx.utils.reflect.ReflectionException;
+import gaiasky.scene.AttributeMap;
 import gaiasky.scene.Scene;
 import gaiasky.util.Logger;
 import gaiasky.util.Logger.Log;
 import gaiasky.util.Settings;
+import gaiasky.util.StartupProfiler;
 import gaiasky.util.TextUtils;
 import gaiasky.util.coord.IBodyCoordinates;
 import gaiasky.util.i18n.I18n;
 
 import java.io.FileNotFoundException;
 import java.nio.file.Path;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Loads JSON files into a scene object, which contains an
  * ECS world.
+ * <p>
+ * When loading a scene, the files are parsed in parallel, and the objects of the files handled by {@link JsonLoader}
+ * are created in parallel too, each file with its own index. The results are then merged in the order of the files,
+ * which is also when the updates of existing objects and the rest of loaders run, so that the index and the list of
+ * entities are the same as when loading the files one after the other.
+ * <p>
+ * Unless disabled in the settings, the JSON trees of the files are taken from a {@link SceneSnapshot} while the files
+ * do not change.
  */
 public class SceneJsonLoader {
     private static final Log logger = Logger.getLogger(SceneJsonLoader.class);
@@ -39,29 +51,108 @@ public class SceneJsonLoader {
             }
         }
 
+        final long start = System.nanoTime();
+        final SceneSnapshot snapshot = Settings.settings.data.sceneSnapshot ? SceneSnapshot.open(jsonFiles) : null;
+
+        // Component types are registered in a static map the first time they are used, so we
+        // register them all before creating entities in several threads.
+        for (var componentClass : new AttributeMap().initialize().values()) {
+            ComponentType.getFor(componentClass);
+        }
+
+        final StartupProfiler profiler = StartupProfiler.instance;
         final Array<Entity> loadedEntities = new Array<>();
-        // Load files.
-        for (FileHandle jsonFile : jsonFiles) {
-            loadedEntities.addAll(loadJsonFile(jsonFile, scene));
+        try (var filesSpan = profiler.start("Scene files")) {
+            // Parse files and load their objects in parallel.
+            final List<CompletableFuture<List<LoaderTask>>> files = new ArrayList<>(jsonFiles.length);
+            for (FileHandle jsonFile : jsonFiles) {
+                files.add(CompletableFuture.supplyAsync(() -> {
+                    try (var ignored = profiler.start("Prepare " + jsonFile.name(), filesSpan)) {
+                        return prepareJsonFile(jsonFile, scene, snapshot);
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                }));
+            }
+
+            // Merge the results in order.
+            for (int i = 0; i < jsonFiles.length; i++) {
+                try (var ignored = profiler.start("Merge " + jsonFiles[i].name())) {
+                    for (LoaderTask task : join(files.get(i))) {
+                        loadedEntities.addAll(task.finish(scene));
+                    }
+                }
+            }
         }
         // Add entities to engine.
         loadedEntities.forEach(scene.engine::addEntity);
 
         // Initialize nodes, look for octrees and star groups.
-        scene.initializeEntities();
+        try (var ignored = profiler.start("Initializers")) {
+            scene.initializeEntities();
+        }
 
         // Initialize index and hip map with names.
-        scene.initializeIndex();
+        try (var ignored = profiler.start("Index")) {
+            scene.initializeIndex();
+        }
 
         // Construct scene graph in GraphNodes.
-        scene.buildSceneGraph();
+        try (var ignored = profiler.start("Scene graph")) {
+            scene.buildSceneGraph();
+        }
 
+        final double elapsedMs = (System.nanoTime() - start) / 1e6;
+        if (snapshot != null) {
+            snapshot.save();
+            logger.info(String.format("Scene loaded in %.1f ms: %d JSON files from snapshot (%.1f ms, %.1f ms when parsed), %d parsed (%.1f ms)", elapsedMs, snapshot.hits(), snapshot.hitTimeMs(), snapshot.parsedTimeMs(), snapshot.misses(), snapshot.missTimeMs()));
+        } else {
+            logger.info(String.format("Scene loaded from JSON files in %.1f ms", elapsedMs));
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) throws FileNotFoundException, ReflectionException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof FileNotFoundException) {
+                throw (FileNotFoundException) cause;
+            } else if (cause instanceof ReflectionException) {
+                throw (ReflectionException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
     }
 
     public synchronized static Array<Entity> loadJsonFile(FileHandle jsonFile, Scene scene) throws ReflectionException, FileNotFoundException {
         Array<Entity> loadedEntities = new Array<>();
-        JsonReader jsonReader = new JsonReader();
-        JsonValue model = jsonReader.parse(jsonFile.read());
+        for (LoaderTask task : parseJsonFile(jsonFile, null)) {
+            loadedEntities.addAll(task.finish(scene));
+        }
+        return loadedEntities;
+    }
+
+    /**
+     * Parses the given file and runs the parts of its loaders that can run concurrently with other files.
+     */
+    private static List<LoaderTask> prepareJsonFile(FileHandle jsonFile, Scene scene, SceneSnapshot snapshot) throws ReflectionException {
+        List<LoaderTask> tasks = parseJsonFile(jsonFile, snapshot);
+        for (LoaderTask task : tasks) {
+            task.prepare(scene);
+        }
+        return tasks;
+    }
+
+    /**
+     * Parses the given file into the list of loaders to run. The file and the files of its {@link JsonLoader}s are read
+     * from the snapshot, if not null.
+     */
+    private static List<LoaderTask> parseJsonFile(FileHandle jsonFile, SceneSnapshot snapshot) throws ReflectionException {
+        List<LoaderTask> tasks = new ArrayList<>();
+        JsonValue model = snapshot != null ? snapshot.parse(jsonFile) : new JsonReader().parse(jsonFile.read());
 
         // The dataset directory corresponding to this JSON file. Usually coincides with the dataset key.
         // For old-style datasets, this should be null.
@@ -89,66 +180,16 @@ public class SceneJsonLoader {
 
                 JsonValue filesJson = child.get("files");
                 if (filesJson != null) {
-                    String[] files = filesJson.asStringArray();
-
-                    Constructor c = ClassReflection.getConstructor(clazz);
-                    ISceneLoader loader = (ISceneLoader) c.newInstance();
-                    loader.setIndex(globalIndex);
-
-                    if (name != null)
-                        loader.setName(name);
-                    if (desc != null)
-                        loader.setDescription(desc);
-                    if (params.size() > 0)
-                        loader.setParams(params);
-
-                    // Init loader.
-                    loader.initialize(files, datasetDirectory, scene);
-
-                    JsonValue curr = filesJson;
-                    while (curr.next != null) {
-                        curr = curr.next;
-                        String nameAttr = curr.name;
-                        Object val = null;
-                        Class<?> valueClass = null;
-                        if (curr.isDouble()) {
-                            val = curr.asDouble();
-                            valueClass = Double.class;
-                        } else if (curr.isString()) {
-                            val = curr.asString();
-                            valueClass = String.class;
-                        } else if (curr.isNumber()) {
-                            val = curr.asLong();
-                            valueClass = Long.class;
-                        }
-                        if (val != null) {
-                            String methodName = "set" + TextUtils.propertyToMethodName(nameAttr);
-                            Method m = searchMethod(methodName, valueClass, clazz);
-                            if (m != null)
-                                m.invoke(loader, val);
-                            else
-                                logger.error("ERROR: No method " + methodName + "(" + valueClass.getName() + ") in class " + clazz + " or its superclass/interfaces.");
-                        }
-                    }
-
-                    // Load data.
-                    var data = loader.loadData();
-                    // Add to list.
-                    loadedEntities.addAll(data);
+                    tasks.add(new LoaderTask(clazz, filesJson, datasetDirectory, name, desc, params, snapshot));
                 }
 
                 child = child.next;
             }
         } else {
             // Use regular JsonLoader.
-            JsonLoader loader = new JsonLoader(globalIndex);
-            loader.initialize(new String[] { jsonFile.file().getAbsolutePath() }, scene);
-            // Load data.
-            var data = loader.loadData();
-            // Add to list.
-            loadedEntities.addAll(data);
+            tasks.add(new LoaderTask(jsonFile.file().getAbsolutePath(), snapshot));
         }
-        return loadedEntities;
+        return tasks;
     }
 
     /**
@@ -172,4 +213,128 @@ public class SceneJsonLoader {
         return m;
     }
 
+    /**
+     * A loader of a scene file. Loaders of type {@link JsonLoader} are created and load their objects in
+     * {@link #prepare(Scene)}, which may run in any thread, with their own index. The rest of the work, and all the
+     * work of other loaders, is done in {@link #finish(Scene)}, in the loading thread.
+     */
+    private static class LoaderTask {
+        private final Class<Object> clazz;
+        private final JsonValue filesJson;
+        private final String[] files;
+        private final String datasetDirectory;
+        private final String name, desc;
+        private final Map<String, Object> params;
+        private final SceneSnapshot snapshot;
+
+        private ISceneLoader loader;
+        private Array<Entity> entities;
+        private Map<String, Entity> localIndex;
+
+        /** A data descriptor entry. **/
+        LoaderTask(Class<Object> clazz, JsonValue filesJson, String datasetDirectory, String name, String desc, Map<String, Object> params, SceneSnapshot snapshot) {
+            this.clazz = clazz;
+            this.filesJson = filesJson;
+            this.files = filesJson.asStringArray();
+            this.datasetDirectory = datasetDirectory;
+            this.name = name;
+            this.desc = desc;
+            this.params = params;
+            this.snapshot = snapshot;
+        }
+
+        /** A plain JSON file of objects. **/
+        LoaderTask(String file, SceneSnapshot snapshot) {
+            this.clazz = null;
+            this.filesJson = null;
+            this.files = new String[] { file };
+            this.datasetDirectory = null;
+            this.name = null;
+            this.desc = null;
+            this.params = null;
+            this.snapshot = snapshot;
+        }
+
+        private boolean isJsonLoader() {
+            return clazz == null || clazz == (Class<?>) JsonLoader.class;
+        }
+
+        void prepare(Scene scene) throws ReflectionException {
+            if (isJsonLoader()) {
+                localIndex = new LinkedHashMap<>();
+                loader = createLoader(scene, localIndex);
+                entities = ((JsonLoader) loader).loadObjects();
+            }
+        }
+
+        Array<Entity> finish(Scene scene) throws ReflectionException, FileNotFoundException {
+            if (entities != null) {
+                // Merge the index, keeping the entities that were there first.
+                for (Map.Entry<String, Entity> entry : localIndex.entrySet()) {
+                    globalIndex.putIfAbsent(entry.getKey(), entry.getValue());
+                }
+                loader.setIndex(globalIndex);
+                ((JsonLoader) loader).loadUpdates();
+                return entities;
+            } else {
+                try (var ignored = StartupProfiler.instance.start(clazz.getSimpleName() + " " + String.join(", ", files))) {
+                    loader = createLoader(scene, globalIndex);
+                    return loader.loadData();
+                }
+            }
+        }
+
+        private ISceneLoader createLoader(Scene scene, Map<String, Entity> index) throws ReflectionException {
+            if (clazz == null) {
+                JsonLoader jsonLoader = new JsonLoader(index);
+                jsonLoader.setSnapshot(snapshot);
+                jsonLoader.initialize(files, scene);
+                return jsonLoader;
+            }
+            Constructor c = ClassReflection.getConstructor(clazz);
+            ISceneLoader loader = (ISceneLoader) c.newInstance();
+            loader.setIndex(index);
+            if (loader instanceof JsonLoader) {
+                ((JsonLoader) loader).setSnapshot(snapshot);
+            }
+
+            if (name != null)
+                loader.setName(name);
+            if (desc != null)
+                loader.setDescription(desc);
+            if (params.size() > 0)
+                loader.setParams(params);
+
+            // Init loader.
+            loader.initialize(files, datasetDirectory, scene);
+
+            JsonValue curr = filesJson;
+            while (curr.next != null) {
+                curr = curr.next;
+                String nameAttr = curr.name;
+                Object val = null;
+                Class<?> valueClass = null;
+                if (curr.isDouble()) {
+                    val = curr.asDouble();
+                    valueClass = Double.class;
+                } else if (curr.isString()) {
+                    val = curr.asString();
+                    valueClass = String.class;
+                } else if (curr.isNumber()) {
+                    val = curr.asLong();
+                    valueClass = Long.class;
+                }
+                if (val != null) {
+                    String methodName = "set" + TextUtils.propertyToMethodName(nameAttr);
+                    Method m = searchMethod(methodName, valueClass, clazz);
+                    if (m != null)
+                        m.invoke(loader, val);
+                    else
+                        logger.error("ERROR: No method " + methodName + "(" + valueClass.getName() + ") in class " + clazz + " or its superclass/interfaces.");
+                }
+            }
+            return loader;
+        }
+    }
+
 }
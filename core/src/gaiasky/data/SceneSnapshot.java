@@ -0,0 +1,364 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.data;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonValue.ValueType;
+import gaiasky.util.Logger;
+import gaiasky.util.Logger.Log;
+import gaiasky.util.SysUtils;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Binary snapshot of the JSON files of a scene. The snapshot contains the parsed tree of each file in a compact binary
+ * form, together with the size and the last modification time of the file it comes from, and the time it took to read
+ * and parse it. When a file is requested, its tree is decoded from the snapshot if the size and the modification time
+ * of the file still match, without reading the file, and the file is parsed otherwise. The time saved by the snapshot
+ * is measured as the difference between the parse times stored for the files and the time it takes to decode them.
+ * <p>
+ * There is a snapshot for each list of scene files, in the <code>scene</code> directory of the cache directory. It is
+ * rewritten with {@link #save()} whenever some file was parsed. The trees are read in several threads at once.
+ */
+public class SceneSnapshot {
+    private static final Log logger = Logger.getLogger(SceneSnapshot.class);
+
+    private static final int MAGIC = 0x6773536E;
+    private static final int VERSION = 2;
+
+    // Node types
+    private static final byte OBJECT = 0;
+    private static final byte ARRAY = 1;
+    private static final byte STRING = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte LONG = 4;
+    private static final byte BOOLEAN = 5;
+    private static final byte NULL = 6;
+
+    private final Path snapshotFile;
+    /** Entries read from the snapshot file, by path. **/
+    private final Map<String, Entry> stored;
+    /** Entries of the files requested in this load, by path. **/
+    private final Map<String, Entry> used = new ConcurrentHashMap<>();
+
+    private final AtomicInteger hits = new AtomicInteger(), misses = new AtomicInteger();
+    private final AtomicLong hitNanos = new AtomicLong(), missNanos = new AtomicLong(), parsedNanos = new AtomicLong();
+
+    private SceneSnapshot(Path snapshotFile, Map<String, Entry> stored) {
+        this.snapshotFile = snapshotFile;
+        this.stored = stored;
+    }
+
+    /**
+     * Opens the snapshot of the given scene files. If there is no snapshot, or it can't be read, the returned snapshot
+     * is empty, and all files are parsed.
+     *
+     * @param sceneFiles The scene files.
+     *
+     * @return The snapshot.
+     */
+    public static SceneSnapshot open(FileHandle[] sceneFiles) {
+        StringBuilder key = new StringBuilder();
+        for (FileHandle sceneFile : sceneFiles) {
+            key.append(sceneFile.file().getAbsolutePath()).append('\n');
+        }
+        Path snapshotFile = SysUtils.getCacheDir().resolve("scene").resolve(UUID.nameUUIDFromBytes(key.toString().getBytes(StandardCharsets.UTF_8)) + ".snap");
+        return new SceneSnapshot(snapshotFile, read(snapshotFile));
+    }
+
+    /**
+     * Gets the JSON tree of the given file, from the snapshot if the file has not changed, or parsing it otherwise.
+     *
+     * @param file The JSON file.
+     *
+     * @return The root of the tree.
+     */
+    public JsonValue parse(FileHandle file) {
+        final long start = System.nanoTime();
+        final File f = file.file();
+        final String path = f.getAbsolutePath();
+        final long size = f.length();
+        final long modified = f.lastModified();
+
+        Entry entry = stored.get(path);
+        if (entry != null && modified != 0 && entry.size == size && entry.modified == modified) {
+            try {
+                JsonValue root = decode(entry.tree.duplicate());
+                used.put(path, entry);
+                hits.incrementAndGet();
+                hitNanos.addAndGet(System.nanoTime() - start);
+                parsedNanos.addAndGet(entry.parseNanos);
+                return root;
+            } catch (Exception e) {
+                logger.debug("Could not decode " + path + " from scene snapshot: " + e.getMessage());
+            }
+        }
+        JsonValue root = new JsonReader().parse(new ByteArrayInputStream(file.readBytes()));
+        final long parseNanos = System.nanoTime() - start;
+        used.put(path, new Entry(size, modified, parseNanos, ByteBuffer.wrap(encode(root))));
+        misses.incrementAndGet();
+        missNanos.addAndGet(System.nanoTime() - start);
+        return root;
+    }
+
+    /**
+     * Writes the snapshot with the trees of the files requested so far, unless they all came from the snapshot.
+     */
+    public void save() {
+        if (misses.get() == 0 && used.keySet().equals(stored.keySet())) {
+            return;
+        }
+        Path tmp = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(snapshotFile.getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(used.size());
+                for (String path : new TreeSet<>(used.keySet())) {
+                    Entry entry = used.get(path);
+                    byte[] pathBytes = path.getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(pathBytes.length);
+                    out.write(pathBytes);
+                    out.writeLong(entry.size);
+                    out.writeLong(entry.modified);
+                    out.writeLong(entry.parseNanos);
+                    ByteBuffer tree = entry.tree;
+                    out.writeInt(tree.remaining());
+                    out.write(tree.array(), tree.arrayOffset() + tree.position(), tree.remaining());
+                }
+            }
+            Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.debug("Could not write scene snapshot " + snapshotFile + ": " + e.getMessage());
+            try {
+                Files.deleteIfExists(tmp);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * @return The number of files whose tree came from the snapshot.
+     */
+    public int hits() {
+        return hits.get();
+    }
+
+    /**
+     * @return The number of files which had to be parsed.
+     */
+    public int misses() {
+        return misses.get();
+    }
+
+    /**
+     * @return The time spent decoding the files which came from the snapshot, in ms, added over all threads.
+     */
+    public double hitTimeMs() {
+        return hitNanos.get() / 1e6;
+    }
+
+    /**
+     * @return The time it took to read and parse the files which came from the snapshot, the last time they were
+     * parsed, in ms, added over all threads. The time saved by the snapshot is this minus {@link #hitTimeMs()}.
+     */
+    public double parsedTimeMs() {
+        return parsedNanos.get() / 1e6;
+    }
+
+    /**
+     * @return The time spent reading, parsing and encoding the files which had to be parsed, in ms, added over all
+     * threads.
+     */
+    public double missTimeMs() {
+        return missNanos.get() / 1e6;
+    }
+
+    private static Map<String, Entry> read(Path snapshotFile) {
+        Map<String, Entry> entries = new HashMap<>();
+        if (!Files.isRegularFile(snapshotFile)) {
+            return entries;
+        }
+        try {
+            ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(snapshotFile));
+            if (in.getInt() != MAGIC || in.getInt() != VERSION) {
+                return entries;
+            }
+            final int n = in.getInt();
+            for (int i = 0; i < n; i++) {
+                byte[] pathBytes = new byte[in.getInt()];
+                in.get(pathBytes);
+                long size = in.getLong();
+                long modified = in.getLong();
+                long parseNanos = in.getLong();
+                int length = in.getInt();
+                ByteBuffer tree = in.slice();
+                tree.limit(length);
+                in.position(in.position() + length);
+                entries.put(new String(pathBytes, StandardCharsets.UTF_8), new Entry(size, modified, parseNanos, tree));
+            }
+        } catch (Exception e) {
+            logger.debug("Could not read scene snapshot " + snapshotFile + ": " + e.getMessage());
+            entries.clear();
+        }
+        return entries;
+    }
+
+    /**
+     * Encodes a tree as a table of strings followed by the nodes in depth-first order.
+     */
+    static byte[] encode(JsonValue root) {
+        try {
+            Map<String, Integer> strings = new HashMap<>();
+            List<String> table = new ArrayList<>();
+            ByteArrayOutputStream nodes = new ByteArrayOutputStream();
+            write(root, new DataOutputStream(nodes), strings, table);
+
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(nodes.size() + table.size() * 16);
+            DataOutputStream out = new DataOutputStream(bos);
+            out.writeInt(table.size());
+            for (String str : table) {
+                byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            nodes.writeTo(out);
+            out.flush();
+            return bos.toByteArray();
+        } catch (IOException e) {
+            // Not with byte array streams
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void write(JsonValue value, DataOutputStream out, Map<String, Integer> strings, List<String> table) throws IOException {
+        out.writeInt(string(value.name, strings, table));
+        switch (value.type()) {
+        case object, array -> {
+            out.writeByte(value.isObject() ? OBJECT : ARRAY);
+            int n = 0;
+            for (JsonValue child = value.child; child != null; child = child.next) {
+                n++;
+            }
+            out.writeInt(n);
+            for (JsonValue child = value.child; child != null; child = child.next) {
+                write(child, out, strings, table);
+            }
+        }
+        case stringValue -> {
+            out.writeByte(STRING);
+            out.writeInt(string(value.asString(), strings, table));
+        }
+        case doubleValue -> {
+            out.writeByte(DOUBLE);
+            out.writeDouble(value.asDouble());
+            out.writeInt(string(value.asString(), strings, table));
+        }
+        case longValue -> {
+            out.writeByte(LONG);
+            out.writeLong(value.asLong());
+            out.writeInt(string(value.asString(), strings, table));
+        }
+        case booleanValue -> {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean(value.asBoolean());
+        }
+        default -> out.writeByte(NULL);
+        }
+    }
+
+    private static int string(String str, Map<String, Integer> strings, List<String> table) {
+        if (str == null) {
+            return -1;
+        }
+        Integer index = strings.get(str);
+        if (index == null) {
+            index = table.size();
+            strings.put(str, index);
+            table.add(str);
+        }
+        return index;
+    }
+
+    /**
+     * Decodes a tree written by {@link #encode(JsonValue)}.
+     */
+    static JsonValue decode(ByteBuffer in) {
+        String[] table = new String[in.getInt()];
+        for (int i = 0; i < table.length; i++) {
+            byte[] bytes = new byte[in.getInt()];
+            in.get(bytes);
+            table[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return read(in, table);
+    }
+
+    private static JsonValue read(ByteBuffer in, String[] table) {
+        final int name = in.getInt();
+        final byte type = in.get();
+        final JsonValue value;
+        switch (type) {
+        case OBJECT, ARRAY -> {
+            value = new JsonValue(type == OBJECT ? ValueType.object : ValueType.array);
+            final int n = in.getInt();
+            JsonValue prev = null;
+            for (int i = 0; i < n; i++) {
+                JsonValue child = read(in, table);
+                child.parent = value;
+                if (prev == null) {
+                    value.child = child;
+                } else {
+                    prev.next = child;
+                    child.prev = prev;
+                }
+                prev = child;
+            }
+            value.size = n;
+        }
+        case STRING -> value = new JsonValue(table[in.getInt()]);
+        case DOUBLE -> {
+            double d = in.getDouble();
+            value = new JsonValue(d, table[in.getInt()]);
+        }
+        case LONG -> {
+            long l = in.getLong();
+            value = new JsonValue(l, table[in.getInt()]);
+        }
+        case BOOLEAN -> value = new JsonValue(in.get() != 0);
+        default -> value = new JsonValue(ValueType.nullValue);
+        }
+        value.name = name < 0 ? null : table[name];
+        return value;
+    }
+
+    private static class Entry {
+        final long size;
+        /** Last modification time of the file, in ms since the epoch. **/
+        final long modified;
+        /** Time it took to read and parse the file. **/
+        final long parseNanos;
+        final ByteBuffer tree;
+
+        Entry(long size, long modified, long parseNanos, ByteBuffer tree) {
+            this.size = size;
+            this.modified = modified;
+            this.parseNanos = parseNanos;
+            this.tree = tree;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.data;
+
+import gaiasky.util.TextUtils;
+import gaiasky.util.coord.IBodyCoordinates;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the setters used to load objects from JSON, and caches them as method handles. Methods are looked up
+ * by class, method name and value class, and fields by class and field name. Failed lookups are cached too, so that
+ * each combination is resolved once. The cache is safe to use from several threads.
+ */
+public final class SetterCache {
+    /** The setter handles have this type, so that they can be invoked exactly with any instance and value. **/
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    /** Placeholder for failed lookups. **/
+    private static final MethodHandle NONE = MethodHandles.constant(Object.class, null);
+    /** {@link Field#set(Object, Object)}, used for the fields which have no setter handle. **/
+    private static final MethodHandle FIELD_SET = fieldSet();
+
+    private static final Map<MethodKey, MethodHandle> methods = new ConcurrentHashMap<>();
+    private static final Map<FieldKey, MethodHandle> fields = new ConcurrentHashMap<>();
+    private static final Map<String, String> methodNames = new ConcurrentHashMap<>();
+
+    private SetterCache() {
+    }
+
+    /**
+     * Gets the method <code>prefix + Attribute</code> of the given class, whose only parameter has the given
+     * class. <code>setCoordinates</code> methods may also take an {@link IBodyCoordinates}.
+     *
+     * @param prefix     The prefix of the method name, like <code>set</code> or <code>update</code>.
+     * @param attribute  The attribute, as given in the JSON file. Dots separate words.
+     * @param valueClass The class of the value.
+     * @param type       The class of the object.
+     *
+     * @return A handle of type <code>(Object, Object)void</code>, or null if there is no such method.
+     */
+    public static MethodHandle method(String prefix, String attribute, Class<?> valueClass, Class<?> type) {
+        MethodHandle handle = methods.computeIfAbsent(new MethodKey(type, prefix, attribute, valueClass), SetterCache::resolveMethod);
+        return handle == NONE ? null : handle;
+    }
+
+    /**
+     * Gets a setter for the given field of the given class or its superclasses, which may be private. Final
+     * fields are set with {@link Field#set(Object, Object)}.
+     *
+     * @param type      The class of the object.
+     * @param fieldName The name of the field.
+     *
+     * @return A handle of type <code>(Object, Object)void</code>, or null if there is no such field.
+     */
+    public static MethodHandle field(Class<?> type, String fieldName) {
+        MethodHandle handle = fields.computeIfAbsent(new FieldKey(type, fieldName), SetterCache::resolveField);
+        return handle == NONE ? null : handle;
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public static void clear() {
+        methods.clear();
+        fields.clear();
+        methodNames.clear();
+    }
+
+    private static MethodHandle resolveMethod(MethodKey key) {
+        String methodName = key.prefix + methodNames.computeIfAbsent(key.attribute, TextUtils::propertyToMethodName);
+        Method m = findMethod(key.type, methodName, key.valueClass);
+        if (m == null && methodName.contains("setCoordinates")) {
+            // Special case
+            m = findMethod(key.type, methodName, IBodyCoordinates.class);
+        }
+        if (m == null) {
+            return NONE;
+        }
+        try {
+            m.setAccessible(true);
+            return MethodHandles.lookup().unreflect(m).asType(SETTER_TYPE);
+        } catch (Exception e) {
+            return NONE;
+        }
+    }
+
+    private static Method findMethod(Class<?> type, String methodName, Class<?> parameterType) {
+        try {
+            return type.getMethod(methodName, parameterType);
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle resolveField(FieldKey key) {
+        Class<?> clazz = key.type;
+        while (clazz != null) {
+            Field field;
+            try {
+                field = clazz.getDeclaredField(key.fieldName);
+            } catch (NoSuchFieldException e) {
+                clazz = clazz.getSuperclass();
+                continue;
+            }
+            try {
+                field.setAccessible(true);
+            } catch (RuntimeException e) {
+                // Inaccessible
+                return NONE;
+            }
+            try {
+                return MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                // Final fields have no setter handle, but accessible final instance fields can be set by reflection
+                return FIELD_SET.bindTo(field);
+            }
+        }
+        return NONE;
+    }
+
+    private static MethodHandle fieldSet() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Field.class, "set", SETTER_TYPE);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class MethodKey {
+        final Class<?> type;
+        final String prefix;
+        final String attribute;
+        final Class<?> valueClass;
+        final int hash;
+
+        MethodKey(Class<?> type, String prefix, String attribute, Class<?> valueClass) {
+            this.type = type;
+            this.prefix = prefix;
+            this.attribute = attribute;
+            this.valueClass = valueClass;
+            this.hash = Objects.hash(type, prefix, attribute, valueClass);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof MethodKey))
+                return false;
+            MethodKey other = (MethodKey) o;
+            return type == other.type && valueClass == other.valueClass && prefix.equals(other.prefix) && attribute.equals(other.attribute);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class FieldKey {
+        final Class<?> type;
+        final String fieldName;
+        final int hash;
+
+        FieldKey(Class<?> type, String fieldName) {
+            this.type = type;
+            this.fieldName = fieldName;
+            this.hash = 31 * type.hashCode() + fieldName.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof FieldKey))
+                return false;
+            FieldKey other = (FieldKey) o;
+            return type == other.type && fieldName.equals(other.fieldName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -340,18 +340,20 @@ public abstract class AbstractStarGroupDataProvider implements IStarGroupDataPro
             dumpToDiskCsv(data, filename);
     }
 
-    protected void dumpToDiskBin(List<IParticleRecord> data, String filename, boolean serialized) {
-        if (serialized) {
-            // Use java serialization method
-            List<IParticleRecord> l = new ArrayList<>(data.size());
-            for (IParticleRecord p : data)
-                l.add(p);
-
-            try {
-                ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(filename));
-                oos.writeObject(l);
-                oos.close();
-                logger.info("File " + filename + " written with " + l.size() + " stars");
+    /**
+     * Writes the given records to disk.
+     *
+     * @param data     The records.
+     * @param filename The output file.
+     * @param columnar Whether to write the columnar container of {@link ColumnarParticleIO}, read by the
+     *                 {@link SerializedDataProvider}, which keeps extra attributes. Otherwise, the format of the
+     *                 {@link BinaryDataProvider} is used.
+     */
+    protected void dumpToDiskBin(List<IParticleRecord> data, String filename, boolean columnar) {
+        if (columnar) {
+            try (OutputStream out = new FileOutputStream(filename)) {
+                ColumnarParticleIO.write(data, colors, out);
+                logger.info("File " + filename + " written with " + data.size() + " stars");
             } catch (Exception e) {
                 logger.error(e);
             }
@@ -360,7 +362,9 @@ public abstract class AbstractStarGroupDataProvider implements IStarGroupDataPro
             BinaryDataProvider io = new BinaryDataProvider();
             try {
                 int n = data.size();
-                io.writeData(data, new FileOutputStream(filename));
+                // Large files get an index of record offsets, for parallel decoding
+                OutputStream indexOut = n > BinaryRecordIndex.DEFAULT_STRIDE ? Files.newOutputStream(BinaryRecordIndex.path(Path.of(filename))) : null;
+                io.writeData(data, new FileOutputStream(filename), BinaryDataProvider.DEFAULT_OUTPUT_VERSION, indexOut);
                 logger.info("File " + filename + " written with " + n + " stars");
             } catch (Exception e) {
                 logger.error(e);
@@ -6,14 +6,21 @@
 package gaiasky.data.group;
 
 import gaiasky.scene.api.IParticleRecord;
+import gaiasky.scene.record.NameDictionary;
 import gaiasky.util.Settings;
 import gaiasky.util.i18n.I18n;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Reads arrays of star beans from binary files, usually to go in an octree.
@@ -78,8 +85,23 @@ public class BinaryDataProvider extends AbstractStarGroupDataProvider {
     }
 
     public void writeData(List<IParticleRecord> data, OutputStream out, int version) {
-        // Wrap the FileOutputStream with a DataOutputStream
-        DataOutputStream data_out = new DataOutputStream(out);
+        writeData(data, out, version, null);
+    }
+
+    /**
+     * Writes the data and, optionally, the index of the offsets of its records (see {@link BinaryRecordIndex}), which
+     * enables the parallel decoding of the file.
+     *
+     * @param data     The particle records.
+     * @param out      The output stream of the data file.
+     * @param version  The format version.
+     * @param indexOut The output stream of the sidecar index file, {@link BinaryRecordIndex#path(Path)}, or null.
+     */
+    public void writeData(List<IParticleRecord> data, OutputStream out, int version, OutputStream indexOut) {
+        // Wrap the FileOutputStream with a DataOutputStream, counting the bytes for the index
+        CountingOutputStream counter = new CountingOutputStream(new BufferedOutputStream(out));
+        DataOutputStream data_out = new DataOutputStream(counter);
+        BinaryRecordIndex.Builder index = indexOut != null ? new BinaryRecordIndex.Builder(version, BinaryRecordIndex.DEFAULT_STRIDE, data.size()) : null;
         try {
             if (version >= 2) {
                 // In new version, write token as negative int. Version afterwards
@@ -89,14 +111,20 @@ public class BinaryDataProvider extends AbstractStarGroupDataProvider {
             // Number of stars
             data_out.writeInt(data.size());
             for (IParticleRecord sb : data) {
+                if (index != null)
+                    index.record(counter.count);
                 binaryVersions[version].writeParticleRecord(sb, data_out);
             }
+            if (index != null)
+                index.build(counter.count).write(indexOut);
 
         } catch (Exception e) {
             logger.error(e);
         } finally {
             try {
                 data_out.close();
+                if (indexOut != null)
+                    indexOut.close();
             } catch (IOException e) {
                 logger.error(e);
             }
@@ -104,6 +132,32 @@ public class BinaryDataProvider extends AbstractStarGroupDataProvider {
 
     }
 
+    /**
+     * Builds the index of the offsets of the records of an existing data file and writes it next to it.
+     *
+     * @param file        The data file.
+     * @param versionHint Data version number, in case of version 0 or 1, since these formats were
+     *                    not annotated. If version >=2, the version number is read from the file header
+     *
+     * @return The index, or null if it could not be written.
+     */
+    public BinaryRecordIndex writeRecordIndex(String file, int versionHint) {
+        Path path = Path.of(Settings.settings.data.dataFile(file));
+        try (RandomAccessFile raf = new RandomAccessFile(path.toFile(), "r"); FileChannel fc = raf.getChannel()) {
+            MappedByteBuffer mem = fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size());
+            int version = readVersion(mem, versionHint);
+            int size = mem.getInt();
+            BinaryRecordIndex index = BinaryRecordIndex.build(mem, binaryVersions[version], version, size, BinaryRecordIndex.DEFAULT_STRIDE);
+            try (OutputStream indexOut = Files.newOutputStream(BinaryRecordIndex.path(path))) {
+                index.write(indexOut);
+            }
+            return index;
+        } catch (Exception e) {
+            logger.error(e);
+        }
+        return null;
+    }
+
     public List<IParticleRecord> readData(InputStream in, double factor) {
         List<IParticleRecord> data = null;
         DataInputStream data_in = new DataInputStream(in);
@@ -121,9 +175,11 @@ public class BinaryDataProvider extends AbstractStarGroupDataProvider {
             // Read size of stars
             int size = data_in.readInt();
             data = new ArrayList<>(size);
+            NameDictionary names = new NameDictionary(size);
             for (int i = 0; i < size; i++) {
-                data.add(binaryVersions[version].readParticleRecord(data_in, factor));
+                data.add(binaryVersions[version].readParticleRecord(data_in, factor, names));
             }
+            names.trim();
 
         } catch (IOException e) {
             logger.error(e);
@@ -140,31 +196,31 @@ public class BinaryDataProvider extends AbstractStarGroupDataProvider {
 
     @Override
     public List<IParticleRecord> loadDataMapped(String file, double factor) {
-        try {
-            FileChannel fc = new RandomAccessFile(Settings.settings.data.dataFile(file), "r").getChannel();
+        return loadDataMapped(file, factor, 1);
+    }
 
+    /**
+     * Loads data mapped with a version hint.
+     *
+     * @param file        The file to load
+     * @param factor      Distance factor, if any
+     * @param versionHint Data version number, in case of version 0 or 1, since these formats were
+     *                    not annotated. If version >=2, the version number is read from the file header
+     *
+     * @return
+     */
+    public List<IParticleRecord> loadDataMapped(String file, double factor, int versionHint) {
+        Path path = Path.of(Settings.settings.data.dataFile(file));
+        try (RandomAccessFile raf = new RandomAccessFile(path.toFile(), "r"); FileChannel fc = raf.getChannel()) {
             MappedByteBuffer mem = fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size());
-
-            int version = 1;
-            mem.mark();
-            int versionToken = mem.getInt();
-            if (versionToken < 0) {
-                version = mem.getInt();
-            } else {
-                // Rewind
-                mem.reset();
-            }
-            // Read size of stars
-            int size = mem.getInt();
-            list = new ArrayList<>(size);
-            for (int i = 0; i < size; i++) {
-                list.add(binaryVersions[version].readParticleRecord(mem, factor));
+            BinaryRecordIndex index = null;
+            try {
+                index = BinaryRecordIndex.read(path);
+            } catch (IOException e) {
+                logger.warn(e);
             }
-
-            fc.close();
-
+            list = readDataMapped(mem, factor, versionHint, index);
             return list;
-
         } catch (Exception e) {
             logger.error(e);
         }
@@ -172,49 +228,115 @@ public class BinaryDataProvider extends AbstractStarGroupDataProvider {
     }
 
     /**
-     * Loads data mapped with a version hint.
+     * Reads the data in the given mapped buffer, decoding the records in bulk.
      *
-     * @param file        The file to load
+     * @param mem         The mapped buffer, positioned at the header.
      * @param factor      Distance factor, if any
      * @param versionHint Data version number, in case of version 0 or 1, since these formats were
      *                    not annotated. If version >=2, the version number is read from the file header
      *
-     * @return
+     * @return The list of particle records.
      */
-    public List<IParticleRecord> loadDataMapped(String file, double factor, int versionHint) {
-        try {
-            FileChannel fc = new RandomAccessFile(Settings.settings.data.dataFile(file), "r").getChannel();
-
-            MappedByteBuffer mem = fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size());
-
-            int version = versionHint;
-            mem.mark();
-            int versionToken = mem.getInt();
-            if (versionToken < 0) {
-                version = mem.getInt();
-            } else {
-                // Rewind
-                mem.reset();
-            }
-            // Read size of stars
-            int size = mem.getInt();
-            list = new ArrayList<>(size);
-            for (int i = 0; i < size; i++) {
-                list.add(binaryVersions[version].readParticleRecord(mem, factor));
-            }
+    public List<IParticleRecord> readDataMapped(MappedByteBuffer mem, double factor, int versionHint) {
+        return readDataMapped(mem, factor, versionHint, null);
+    }
 
-            fc.close();
+    /**
+     * Reads the data in the given mapped buffer, decoding the records in bulk. If an index of the record offsets
+     * is given and matches the data, the blocks of records it delimits are decoded in parallel.
+     *
+     * @param mem         The mapped buffer, positioned at the header.
+     * @param factor      Distance factor, if any
+     * @param versionHint Data version number, in case of version 0 or 1, since these formats were
+     *                    not annotated. If version >=2, the version number is read from the file header
+     * @param index       The index of the record offsets, or null.
+     *
+     * @return The list of particle records.
+     */
+    public List<IParticleRecord> readDataMapped(MappedByteBuffer mem, double factor, int versionHint, BinaryRecordIndex index) {
+        final int version = readVersion(mem, versionHint);
+        // Read size of stars
+        final int size = mem.getInt();
+        final BinaryIO io = binaryVersions[version];
+        if (index != null && !index.matches(version, size, mem.limit())) {
+            logger.warn("Record index does not match the data file, ignoring it");
+            index = null;
+        }
+        if (index == null || parallelism <= 1 || index.numBlocks() <= 1) {
+            List<IParticleRecord> data = new ArrayList<>(size);
+            NameDictionary names = new NameDictionary(size);
+            io.readParticleRecords(mem, size, factor, names, data);
+            names.trim();
+            return data;
+        }
 
-            return list;
+        // Decode the blocks in parallel, each with its own view of the buffer and name dictionary
+        final BinaryRecordIndex blocks = index;
+        final ByteOrder order = mem.order();
+        List<List<IParticleRecord>> results = IntStream.range(0, blocks.numBlocks()).parallel().mapToObj(block -> {
+            int blockSize = blocks.blockSize(block);
+            ByteBuffer buffer = mem.duplicate().order(order);
+            buffer.position((int) blocks.offset(block));
+            List<IParticleRecord> blockData = new ArrayList<>(blockSize);
+            NameDictionary names = new NameDictionary(blockSize);
+            io.readParticleRecords(buffer, blockSize, factor, names, blockData);
+            names.trim();
+            return blockData;
+        }).collect(Collectors.toList());
+
+        List<IParticleRecord> data = new ArrayList<>(size);
+        for (List<IParticleRecord> blockData : results) {
+            data.addAll(blockData);
+        }
+        return data;
+    }
 
-        } catch (Exception e) {
-            logger.error(e);
+    /**
+     * Reads the header token and the version of the data file, if present.
+     *
+     * @param mem         The buffer, positioned at the header. It is left positioned at the number of stars.
+     * @param versionHint The version to use if the file is not annotated.
+     *
+     * @return The format version.
+     */
+    private int readVersion(ByteBuffer mem, int versionHint) {
+        int version = versionHint;
+        mem.mark();
+        int versionToken = mem.getInt();
+        if (versionToken < 0) {
+            version = mem.getInt();
+        } else {
+            // Rewind
+            mem.reset();
         }
-        return null;
+        return version;
     }
 
     @Override
     public void setOutputFormatVersion(int version) {
         this.outputVersion = version;
     }
+
+    /**
+     * Output stream that counts the bytes written through it, to record the offsets of the records.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+        long count = 0;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
 }
@@ -6,12 +6,15 @@
 package gaiasky.data.group;
 
 import gaiasky.scene.api.IParticleRecord;
+import gaiasky.scene.record.NameDictionary;
 import gaiasky.scene.record.ParticleRecord;
 
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
+import java.util.List;
 
 /**
  * Interface to read and write stars, to be implemented by different binary format versions.
@@ -26,7 +29,41 @@ public interface BinaryIO {
      *
      * @return The star.
      */
-    ParticleRecord readParticleRecord(MappedByteBuffer mem, double factor);
+    default ParticleRecord readParticleRecord(MappedByteBuffer mem, double factor) {
+        return readParticleRecord(mem, factor, null);
+    }
+
+    /**
+     * Read a star from the mapped buffer, storing its names in the given dictionary.
+     *
+     * @param mem            Mapped memory buffer to read from.
+     * @param factor         Scale factor to apply to the positions.
+     * @param nameDictionary The name dictionary of the dataset. If null, the names are stored in the record.
+     *
+     * @return The star.
+     */
+    ParticleRecord readParticleRecord(MappedByteBuffer mem, double factor, NameDictionary nameDictionary);
+
+    /**
+     * Read the given number of consecutive stars from the buffer, starting at its current position.
+     *
+     * @param mem            Buffer to read from, usually mapped. Its position is left after the last star.
+     * @param count          The number of stars to read.
+     * @param factor         Scale factor to apply to the positions.
+     * @param nameDictionary The name dictionary of the dataset. If null, the names are stored in the records.
+     * @param out            The list to add the stars to.
+     */
+    void readParticleRecords(ByteBuffer mem, int count, double factor, NameDictionary nameDictionary, List<IParticleRecord> out);
+
+    /**
+     * Gets the length in bytes of the star record that starts at the given position of the buffer, without decoding it.
+     *
+     * @param mem      The buffer.
+     * @param position The absolute position of the record in the buffer.
+     *
+     * @return The length of the record.
+     */
+    int recordLength(ByteBuffer mem, int position);
 
     /**
      * Read a star from the input stream.
@@ -38,7 +75,22 @@ public interface BinaryIO {
      *
      * @throws IOException If the read fails.
      */
-    ParticleRecord readParticleRecord(DataInputStream in, double factor) throws IOException;
+    default ParticleRecord readParticleRecord(DataInputStream in, double factor) throws IOException {
+        return readParticleRecord(in, factor, null);
+    }
+
+    /**
+     * Read a star from the input stream, storing its names in the given dictionary.
+     *
+     * @param in             Input stream.
+     * @param factor         Scale factor to apply to the positions.
+     * @param nameDictionary The name dictionary of the dataset. If null, the names are stored in the record.
+     *
+     * @return The star.
+     *
+     * @throws IOException If the read fails.
+     */
+    ParticleRecord readParticleRecord(DataInputStream in, double factor, NameDictionary nameDictionary) throws IOException;
 
     /**
      * Write the star bean to the output stream.
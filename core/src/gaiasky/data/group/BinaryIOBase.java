@@ -1,11 +1,17 @@
 package gaiasky.data.group;
 
+import gaiasky.scene.api.IParticleRecord;
+import gaiasky.scene.record.NameDictionary;
 import gaiasky.scene.record.ParticleRecord;
 import gaiasky.util.Constants;
 
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
 import java.nio.MappedByteBuffer;
+import java.util.List;
 
 /**
  * Base implementation of binary version, which accommodates most versions.
@@ -23,7 +29,7 @@ public abstract class BinaryIOBase implements BinaryIO {
     }
 
     @Override
-    public ParticleRecord readParticleRecord(MappedByteBuffer mem, double factor) {
+    public ParticleRecord readParticleRecord(MappedByteBuffer mem, double factor, NameDictionary nameDictionary) {
         double[] dataD = new double[ParticleRecord.STAR_SIZE_D];
         float[] dataF = new float[ParticleRecord.STAR_SIZE_F];
         int floatOffset = 0;
@@ -63,6 +69,17 @@ public abstract class BinaryIOBase implements BinaryIO {
 
         // NAME
         int nameLength = mem.getInt();
+        if (nameDictionary != null) {
+            // Decode directly into the dictionary, the name is the ID if there is none
+            int handle = -1;
+            if (nameLength > 0) {
+                char[] chars = nameDictionary.charBuffer(nameLength);
+                for (int i = 0; i < nameLength; i++)
+                    chars[i] = mem.getChar();
+                handle = nameDictionary.add(chars, nameLength);
+            }
+            return new ParticleRecord(dataD, dataF, id, nameDictionary, handle);
+        }
         String[] names;
         if (nameLength == 0) {
             names = new String[] { id.toString() };
@@ -76,8 +93,98 @@ public abstract class BinaryIOBase implements BinaryIO {
         return new ParticleRecord(dataD, dataF, id, names);
     }
 
+    /**
+     * Reads the stars in bulk. The fixed-width part of each record (everything up to and including the name length) is
+     * copied from the mapped buffer with a single bulk get into a scratch array, and the doubles and floats are
+     * transferred from typed views of that array, created once, straight into the arrays of the record. The
+     * scratch buffer uses the byte order of the mapped buffer.
+     */
+    @Override
+    public void readParticleRecords(ByteBuffer mem, int count, double factor, NameDictionary nameDictionary, List<IParticleRecord> out) {
+        final int nD = Math.min(nDoubles, ParticleRecord.STAR_SIZE_D);
+        final int floatOffset = nDoubles - nD;
+        final int floatsStart = nDoubles * Double.BYTES;
+        final int hipStart = floatsStart + nFloats * Float.BYTES;
+        final int idStart = hipStart + Integer.BYTES * (tychoIds ? 4 : 1);
+        final int nameLengthStart = idStart + Long.BYTES;
+        final int fixedLength = fixedLength();
+        final double posFactor = factor * Constants.DISTANCE_SCALE_FACTOR;
+        final boolean scaleSize = ParticleRecord.I_FSIZE >= floatOffset && ParticleRecord.I_FSIZE < floatOffset + nFloats;
+
+        final byte[] scratch = new byte[fixedLength];
+        final ByteBuffer record = ByteBuffer.wrap(scratch).order(mem.order());
+        final DoubleBuffer doubles = record.asDoubleBuffer();
+        final FloatBuffer floats = ByteBuffer.wrap(scratch, floatsStart, fixedLength - floatsStart).slice().order(mem.order()).asFloatBuffer();
+
+        for (int i = 0; i < count; i++) {
+            mem.get(scratch, 0, fixedLength);
+
+            double[] dataD = new double[ParticleRecord.STAR_SIZE_D];
+            float[] dataF = new float[ParticleRecord.STAR_SIZE_F];
+            // Doubles, the ones beyond the double array go to the float array
+            doubles.rewind();
+            doubles.get(dataD, 0, nD);
+            for (int j = 0; j < nD; j++) {
+                dataD[j] *= posFactor;
+            }
+            for (int j = nD; j < nDoubles; j++) {
+                dataF[j - nD] = (float) doubles.get(j);
+            }
+            // Floats
+            floats.rewind();
+            floats.get(dataF, floatOffset, nFloats);
+            if (scaleSize) {
+                dataF[ParticleRecord.I_FSIZE] *= Constants.DISTANCE_SCALE_FACTOR;
+            }
+            // HIP, tycho identifiers are skipped
+            dataF[ParticleRecord.I_FHIP] = record.getInt(hipStart);
+            // ID
+            long id = record.getLong(idStart);
+
+            // NAME
+            int nameLength = record.getInt(nameLengthStart);
+            if (nameDictionary != null) {
+                int handle = -1;
+                if (nameLength > 0) {
+                    char[] chars = nameDictionary.charBuffer(nameLength);
+                    readChars(mem, chars, nameLength);
+                    handle = nameDictionary.add(chars, nameLength);
+                }
+                out.add(new ParticleRecord(dataD, dataF, id, nameDictionary, handle));
+            } else {
+                String[] names;
+                if (nameLength == 0) {
+                    names = new String[] { Long.toString(id) };
+                } else {
+                    char[] chars = new char[nameLength];
+                    readChars(mem, chars, nameLength);
+                    names = new String(chars).split(Constants.nameSeparatorRegex);
+                }
+                out.add(new ParticleRecord(dataD, dataF, id, names));
+            }
+        }
+    }
+
+    /**
+     * @return The length in bytes of the fixed-width part of a record, everything up to and including the name length.
+     */
+    protected int fixedLength() {
+        return nDoubles * Double.BYTES + nFloats * Float.BYTES + Integer.BYTES * (tychoIds ? 4 : 1) + Long.BYTES + Integer.BYTES;
+    }
+
+    @Override
+    public int recordLength(ByteBuffer mem, int position) {
+        final int fixedLength = fixedLength();
+        return fixedLength + mem.getInt(position + fixedLength - Integer.BYTES) * Character.BYTES;
+    }
+
+    private static void readChars(ByteBuffer mem, char[] chars, int count) {
+        mem.asCharBuffer().get(chars, 0, count);
+        mem.position(mem.position() + count * Character.BYTES);
+    }
+
     @Override
-    public ParticleRecord readParticleRecord(DataInputStream in, double factor) throws IOException {
+    public ParticleRecord readParticleRecord(DataInputStream in, double factor, NameDictionary nameDictionary) throws IOException {
         double[] dataD = new double[ParticleRecord.STAR_SIZE_D];
         float[] dataF = new float[ParticleRecord.STAR_SIZE_F];
         int floatOffset = 0;
@@ -117,6 +224,17 @@ public abstract class BinaryIOBase implements BinaryIO {
 
         // NAME
         int nameLength = in.readInt();
+        if (nameDictionary != null) {
+            // Decode directly into the dictionary, the name is the ID if there is none
+            int handle = -1;
+            if (nameLength > 0) {
+                char[] chars = nameDictionary.charBuffer(nameLength);
+                for (int i = 0; i < nameLength; i++)
+                    chars[i] = in.readChar();
+                handle = nameDictionary.add(chars, nameLength);
+            }
+            return new ParticleRecord(dataD, dataF, id, nameDictionary, handle);
+        }
         String[] names;
         if (nameLength == 0) {
             names = new String[] { id.toString() };
@@ -0,0 +1,195 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.data.group;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Index of the byte offsets of the records of a binary star file (see {@link BinaryDataProvider}), stored in a
+ * sidecar file next to it, with the suffix {@link #SUFFIX}. Since names make records variable-length, records
+ * can't be located without scanning the file. The index stores the offset of every {@link #stride}-th record,
+ * so that disjoint ranges of the file can be decoded in parallel.
+ * <p>
+ * Format of the sidecar file:
+ * <ul>
+ *     <li>int: magic number</li>
+ *     <li>int: version of the index format</li>
+ *     <li>int: format version of the data file</li>
+ *     <li>int: stride, number of records between consecutive offsets</li>
+ *     <li>int: number of records in the data file</li>
+ *     <li>long: size of the data file, in bytes</li>
+ *     <li>int: number of offsets</li>
+ *     <li>long[]: absolute offsets, in bytes, of records 0, stride, 2 * stride, ...</li>
+ * </ul>
+ */
+public class BinaryRecordIndex {
+    /** Suffix of the sidecar file, appended to the name of the data file. **/
+    public static final String SUFFIX = ".offsets";
+    /** Default number of records between consecutive offsets. **/
+    public static final int DEFAULT_STRIDE = 16_384;
+
+    private static final int MAGIC = 0x67734F66;
+    private static final int FORMAT_VERSION = 1;
+
+    /** Format version of the data file. **/
+    public final int version;
+    /** Number of records between consecutive offsets. **/
+    public final int stride;
+    /** Number of records in the data file. **/
+    public final int size;
+    /** Size of the data file, in bytes. **/
+    public final long dataSize;
+    private final long[] offsets;
+
+    public BinaryRecordIndex(int version, int stride, int size, long dataSize, long[] offsets) {
+        this.version = version;
+        this.stride = stride;
+        this.size = size;
+        this.dataSize = dataSize;
+        this.offsets = offsets;
+    }
+
+    /** @return The number of blocks of records, each starting at an indexed offset. **/
+    public int numBlocks() {
+        return offsets.length;
+    }
+
+    /** @return The absolute offset of the first record of the given block. **/
+    public long offset(int block) {
+        return offsets[block];
+    }
+
+    /** @return The number of records in the given block. **/
+    public int blockSize(int block) {
+        return Math.min(stride, size - block * stride);
+    }
+
+    /**
+     * Checks whether this index describes the given data file.
+     *
+     * @param version  The format version of the data file.
+     * @param size     The number of records in the data file.
+     * @param dataSize The size of the data file, in bytes.
+     *
+     * @return Whether the index matches.
+     */
+    public boolean matches(int version, int size, long dataSize) {
+        return this.version == version && this.size == size && this.dataSize == dataSize && offsets.length == (size + stride - 1) / stride;
+    }
+
+    /**
+     * Gets the path of the sidecar index of the given data file.
+     *
+     * @param dataFile The data file.
+     *
+     * @return The path of the index.
+     */
+    public static Path path(Path dataFile) {
+        return dataFile.resolveSibling(dataFile.getFileName().toString() + SUFFIX);
+    }
+
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(out));
+        dos.writeInt(MAGIC);
+        dos.writeInt(FORMAT_VERSION);
+        dos.writeInt(version);
+        dos.writeInt(stride);
+        dos.writeInt(size);
+        dos.writeLong(dataSize);
+        dos.writeInt(offsets.length);
+        for (long offset : offsets) {
+            dos.writeLong(offset);
+        }
+        dos.flush();
+    }
+
+    /**
+     * Reads the sidecar index of the given data file.
+     *
+     * @param dataFile The data file.
+     *
+     * @return The index, or null if the data file has no index.
+     *
+     * @throws IOException If the index exists but can't be read, or it has an unknown format.
+     */
+    public static BinaryRecordIndex read(Path dataFile) throws IOException {
+        Path indexFile = path(dataFile);
+        if (!Files.isRegularFile(indexFile)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unknown record index format: " + indexFile);
+            }
+            int version = in.readInt();
+            int stride = in.readInt();
+            int size = in.readInt();
+            long dataSize = in.readLong();
+            long[] offsets = new long[in.readInt()];
+            for (int i = 0; i < offsets.length; i++) {
+                offsets[i] = in.readLong();
+            }
+            return new BinaryRecordIndex(version, stride, size, dataSize, offsets);
+        }
+    }
+
+    /**
+     * Builds the index of the records in the given buffer by scanning their lengths.
+     *
+     * @param mem     The buffer, positioned at the first record. Its position is not modified.
+     * @param io      The binary IO of the format version.
+     * @param version The format version.
+     * @param size    The number of records.
+     * @param stride  The number of records between consecutive offsets.
+     *
+     * @return The index.
+     */
+    public static BinaryRecordIndex build(ByteBuffer mem, BinaryIO io, int version, int size, int stride) {
+        Builder builder = new Builder(version, stride, size);
+        int position = mem.position();
+        for (int i = 0; i < size; i++) {
+            builder.record(position);
+            position += io.recordLength(mem, position);
+        }
+        return builder.build(mem.limit());
+    }
+
+    /**
+     * Collects the offsets of the records as they are written or scanned, in order.
+     */
+    public static class Builder {
+        private final int version, stride, size;
+        private final long[] offsets;
+        private int count = 0;
+
+        public Builder(int version, int stride, int size) {
+            this.version = version;
+            this.stride = stride;
+            this.size = size;
+            this.offsets = new long[(size + stride - 1) / stride];
+        }
+
+        /**
+         * Notifies the start of the next record.
+         *
+         * @param offset The absolute offset of the record.
+         */
+        public void record(long offset) {
+            if (count % stride == 0) {
+                offsets[count / stride] = offset;
+            }
+            count++;
+        }
+
+        public BinaryRecordIndex build(long dataSize) {
+            return new BinaryRecordIndex(version, stride, size, dataSize, Arrays.copyOf(offsets, (count + stride - 1) / stride));
+        }
+    }
+}
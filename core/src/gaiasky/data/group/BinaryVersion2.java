@@ -12,7 +12,7 @@ import java.io.IOException;
  */
 public class BinaryVersion2 extends BinaryIOBase {
 
-    protected BinaryVersion2() {
+    public BinaryVersion2() {
         super(3, 10, false);
     }
 
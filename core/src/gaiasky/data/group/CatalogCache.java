@@ -0,0 +1,222 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.data.group;
+
+import com.badlogic.gdx.utils.LongMap;
+import gaiasky.scene.api.IParticleRecord;
+import gaiasky.util.Logger;
+import gaiasky.util.Logger.Log;
+import gaiasky.util.SysUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Cache of the records converted from catalog files, so that importing the same file again with the same options
+ * skips the parsing and the conversion. Entries are keyed by the SHA-256 hash of the contents of the file together
+ * with the parameters which affect the conversion, so that renamed or copied files hit the cache and modified files
+ * miss it. The records are stored in the container of {@link ColumnarParticleIO}, which is memory-mapped and decoded
+ * with bulk reads.
+ * <p>
+ * The cache lives in the <code>catalogs</code> directory of the cache directory. Its size is capped, and the least
+ * recently used entries are evicted when a new entry does not fit.
+ */
+public class CatalogCache {
+    private static final Log logger = Logger.getLogger(CatalogCache.class);
+
+    public static final CatalogCache instance = new CatalogCache();
+
+    /** Default maximum size of the cache, in bytes. **/
+    public static final long DEFAULT_MAX_SIZE = 4L * 1024L * 1024L * 1024L;
+
+    private static final String SUFFIX = ".cat";
+    /** Version of the keys, to be increased when the conversion changes in a way that invalidates existing entries. **/
+    private static final int KEY_VERSION = 2;
+
+    private final Path dir;
+    private long maxSize = DEFAULT_MAX_SIZE;
+
+    private CatalogCache() {
+        dir = SysUtils.getCacheDir().resolve("catalogs");
+    }
+
+    /**
+     * Sets the maximum size of the cache. Entries are evicted, least recently used first, when a new entry would make the
+     * cache exceed it.
+     *
+     * @param maxSize The maximum size, in bytes.
+     */
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Computes the key of the given file with the given conversion parameters.
+     *
+     * @param file       The catalog file.
+     * @param parameters A string with the parameters which affect the records converted from the file.
+     *
+     * @return The key, or null if the file can't be read.
+     */
+    public String key(Path file, String parameters) {
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            md.update((KEY_VERSION + ";" + ColumnarParticleIO.VERSION + ";" + parameters + ";").getBytes(StandardCharsets.UTF_8));
+            byte[] buffer = new byte[1 << 20];
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                md.update(buffer, 0, n);
+            }
+            StringBuilder sb = new StringBuilder(64);
+            for (byte b : md.digest()) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            logger.warn("Could not compute the cache key of " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Loads the records of the entry with the given key, if it exists, and marks it as recently used.
+     *
+     * @param key    The key.
+     * @param colors If not null, the RGB colors of the stars are put in this map, by identifier.
+     *
+     * @return The records, or null if the cache has no entry with the given key or it can't be read.
+     */
+    public List<IParticleRecord> load(String key, LongMap<float[]> colors) {
+        Path file = dir.resolve(key + SUFFIX);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r"); FileChannel fc = raf.getChannel()) {
+            List<IParticleRecord> records = ColumnarParticleIO.read(fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size()), colors);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return records;
+        } catch (Exception e) {
+            logger.warn("Could not read catalog cache entry " + file + ", deleting it: " + e.getMessage());
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Stores the given records under the given key, and evicts the least recently used entries if the cache is over its
+     * maximum size. Entries must be mapped in a single buffer, so entries larger than 2 GB are not stored.
+     *
+     * @param key     The key.
+     * @param records The records.
+     * @param colors  The RGB colors of the stars, by identifier, or null.
+     *
+     * @return Whether the records have been stored.
+     */
+    public synchronized boolean store(String key, List<IParticleRecord> records, LongMap<float[]> colors) {
+        if (records.isEmpty()) {
+            return false;
+        }
+        Path file = dir.resolve(key + SUFFIX);
+        Path tmp = dir.resolve(key + ".tmp");
+        try {
+            Files.createDirectories(dir);
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                ColumnarParticleIO.write(records, colors, out);
+            }
+            if (Files.size(tmp) > Integer.MAX_VALUE) {
+                Files.delete(tmp);
+                return false;
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            evict(file);
+            return true;
+        } catch (IOException e) {
+            logger.warn("Could not write catalog cache entry " + file + ": " + e.getMessage());
+            try {
+                Files.deleteIfExists(tmp);
+            } catch (IOException ignored) {
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Deletes all the entries of the cache.
+     *
+     * @return The number of bytes freed.
+     */
+    public synchronized long purge() {
+        long freed = 0;
+        for (Path file : entries()) {
+            try {
+                long size = Files.size(file);
+                Files.delete(file);
+                freed += size;
+            } catch (IOException e) {
+                logger.warn("Could not delete catalog cache entry " + file + ": " + e.getMessage());
+            }
+        }
+        return freed;
+    }
+
+    /** Deletes the least recently used entries, except the given one, until the cache fits in its maximum size. **/
+    private void evict(Path keep) throws IOException {
+        List<Path> entries = entries();
+        long total = 0;
+        for (Path entry : entries) {
+            total += Files.size(entry);
+        }
+        entries.sort(Comparator.comparingLong(this::lastUsed));
+        for (Path entry : entries) {
+            if (total <= maxSize) {
+                break;
+            }
+            if (!entry.equals(keep)) {
+                total -= Files.size(entry);
+                Files.delete(entry);
+                logger.debug("Evicted catalog cache entry " + entry.getFileName());
+            }
+        }
+    }
+
+    private long lastUsed(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private List<Path> entries() {
+        if (!Files.isDirectory(dir)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(SUFFIX)).collect(Collectors.toList());
+        } catch (IOException e) {
+            logger.warn("Could not list the catalog cache: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+}
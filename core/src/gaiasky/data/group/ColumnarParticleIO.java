@@ -0,0 +1,616 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.data.group;
+
+import com.badlogic.gdx.utils.LongMap;
+import gaiasky.scene.api.IParticleRecord;
+import gaiasky.scene.record.ParticleRecord;
+import gaiasky.scene.record.VariableRecord;
+import gaiasky.util.ObjectDoubleMap;
+import gaiasky.util.ucd.UCD;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads and writes lists of particle records in a versioned, columnar binary container. The container starts with
+ * a schema which lists its columns, each with a tag, an element size and a number of elements, so that readers skip
+ * the columns they don't know, and new columns can be added without breaking older readers. Columns are stored
+ * contiguously and aligned to 8 bytes, so that they are read with bulk conversions, either from a stream or from a
+ * memory-mapped buffer.
+ * <p>
+ * Format (big-endian):
+ * <ul>
+ *     <li>int: magic number</li>
+ *     <li>int: version of the format</li>
+ *     <li>int: number of records, n</li>
+ *     <li>byte: flags (stars, extra attributes, variable stars)</li>
+ *     <li>int: number of extra attributes, e, followed by their UCDs (UCD, column name, unit, index)</li>
+ *     <li>int: number of columns, followed by their descriptors (byte tag, byte element size, long number of elements)</li>
+ *     <li>padding to 8 bytes</li>
+ *     <li>the columns, in the order of the descriptors, each padded to 8 bytes</li>
+ * </ul>
+ * The columns are: positions (double[3n]), identifiers (long[n]), extra attributes (double[n*e]), periods (double[n]),
+ * light curve times (double[v]), star data (float[11n]), RGB colors (float[3n]), light curve magnitudes (float[v]),
+ * light curve sizes (int[n], -1 for non-variable records and -2 for variable records without light curve), name offsets
+ * (int[n+1]) and names (UTF-8, separated by zeroes). Only positions are mandatory.
+ */
+public class ColumnarParticleIO {
+    /** Magic number of the container. **/
+    public static final int MAGIC = 0x67735043;
+    /** Version of the container format. **/
+    public static final int VERSION = 1;
+
+    private static final byte FLAG_STARS = 1, FLAG_EXTRA = 2, FLAG_VARIABLES = 4;
+    private static final byte COL_POS = 1, COL_ID = 2, COL_EXTRA = 3, COL_PERIOD = 4, COL_VARI_TIMES = 5, COL_DATA_F = 6, COL_RGB = 7, COL_VARI_MAGS = 8, COL_VARI_SIZES = 9, COL_NAME_OFFSETS = 10, COL_NAMES = 11;
+    private static final int NO_VARI = -1, NO_CURVE = -2;
+    private static final int RGB_SIZE = 3;
+    private static final int ALIGN = 8;
+
+    private ColumnarParticleIO() {
+    }
+
+    /**
+     * Checks whether the given bytes are the start of a container.
+     *
+     * @param header The first four bytes, as a big-endian int.
+     *
+     * @return Whether they are the magic number.
+     */
+    public static boolean isColumnar(int header) {
+        return header == MAGIC;
+    }
+
+    /**
+     * Writes the given records. All the records must have the same kind of data: float data for all or none, and the
+     * same extra attributes.
+     *
+     * @param records The records.
+     * @param colors  The RGB colors of the stars, by identifier, or null.
+     * @param os      The output stream. It is not closed.
+     *
+     * @throws IOException If the stream can't be written.
+     */
+    public static void write(List<IParticleRecord> records, LongMap<float[]> colors, OutputStream os) throws IOException {
+        final int n = records.size();
+        final IParticleRecord first = n > 0 ? records.get(0) : null;
+        final int widthD = first != null ? first.rawDoubleData().length : 3;
+        final int widthF = first != null && first.rawFloatData() != null ? first.rawFloatData().length : 0;
+        final boolean stars = widthF > 0;
+        final boolean hasRgb = stars && colors != null;
+        final UCD[] extra = first != null && first.hasExtra() ? toArray(first.extraKeys()) : new UCD[0];
+        final int nExtra = extra.length;
+
+        boolean variables = false;
+        boolean hasNames = false;
+        long totalVari = 0;
+        final byte[][] names = new byte[n][];
+        long nameBytes = 0;
+        for (int i = 0; i < n; i++) {
+            IParticleRecord record = records.get(i);
+            if (record instanceof VariableRecord) {
+                variables = true;
+                totalVari += Math.max(((VariableRecord) record).nVari, 0);
+            }
+            String[] recordNames = record.names();
+            names[i] = recordNames != null && recordNames.length > 0 ? String.join("\0", recordNames).getBytes(StandardCharsets.UTF_8) : new byte[0];
+            nameBytes += names[i].length;
+            hasNames |= names[i].length > 0;
+        }
+
+        // Schema
+        final List<long[]> schema = new ArrayList<>();
+        schema.add(new long[] { COL_POS, Double.BYTES, (long) n * widthD });
+        schema.add(new long[] { COL_ID, Long.BYTES, n });
+        if (nExtra > 0)
+            schema.add(new long[] { COL_EXTRA, Double.BYTES, (long) n * nExtra });
+        if (variables) {
+            schema.add(new long[] { COL_PERIOD, Double.BYTES, n });
+            schema.add(new long[] { COL_VARI_TIMES, Double.BYTES, totalVari });
+        }
+        if (stars)
+            schema.add(new long[] { COL_DATA_F, Float.BYTES, (long) n * widthF });
+        if (hasRgb)
+            schema.add(new long[] { COL_RGB, Float.BYTES, (long) n * RGB_SIZE });
+        if (variables) {
+            schema.add(new long[] { COL_VARI_MAGS, Float.BYTES, totalVari });
+            schema.add(new long[] { COL_VARI_SIZES, Integer.BYTES, n });
+        }
+        if (hasNames) {
+            schema.add(new long[] { COL_NAME_OFFSETS, Integer.BYTES, n + 1 });
+            schema.add(new long[] { COL_NAMES, 1, nameBytes });
+        }
+
+        final PositionOutputStream counter = new PositionOutputStream(new BufferedOutputStream(os, 1 << 16));
+        final DataOutputStream out = new DataOutputStream(counter);
+
+        // Header
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(n);
+        out.writeByte((stars ? FLAG_STARS : 0) | (first != null && first.hasExtra() ? FLAG_EXTRA : 0) | (variables ? FLAG_VARIABLES : 0));
+        out.writeInt(nExtra);
+        for (UCD ucd : extra) {
+            writeString(ucd.originalucd, out);
+            writeString(ucd.colname, out);
+            writeString(ucd.unit, out);
+            out.writeInt(ucd.index);
+        }
+        out.writeInt(schema.size());
+        for (long[] column : schema) {
+            out.writeByte((int) column[0]);
+            out.writeByte((int) column[1]);
+            out.writeLong(column[2]);
+        }
+        counter.pad();
+
+        // Columns
+        for (long[] column : schema) {
+            switch ((byte) column[0]) {
+            case COL_POS:
+                for (IParticleRecord record : records) {
+                    double[] dataD = record.rawDoubleData();
+                    for (int i = 0; i < widthD; i++)
+                        out.writeDouble(dataD[i]);
+                }
+                break;
+            case COL_ID:
+                for (IParticleRecord record : records)
+                    out.writeLong(record.id());
+                break;
+            case COL_EXTRA:
+                for (IParticleRecord record : records) {
+                    for (UCD ucd : extra)
+                        out.writeDouble(record.hasExtra(ucd) ? record.getExtra(ucd) : Double.NaN);
+                }
+                break;
+            case COL_PERIOD:
+                for (IParticleRecord record : records)
+                    out.writeDouble(record instanceof VariableRecord ? ((VariableRecord) record).period : 0);
+                break;
+            case COL_VARI_TIMES:
+                for (IParticleRecord record : records) {
+                    if (record instanceof VariableRecord) {
+                        VariableRecord vr = (VariableRecord) record;
+                        for (int i = 0; i < vr.nVari; i++)
+                            out.writeDouble(vr.variTimes[i]);
+                    }
+                }
+                break;
+            case COL_DATA_F:
+                for (IParticleRecord record : records) {
+                    float[] dataF = record.rawFloatData();
+                    for (int i = 0; i < widthF; i++)
+                        out.writeFloat(dataF[i]);
+                }
+                break;
+            case COL_RGB:
+                for (IParticleRecord record : records) {
+                    float[] rgb = colors.get(record.id());
+                    for (int i = 0; i < RGB_SIZE; i++)
+                        out.writeFloat(rgb != null ? rgb[i] : 1f);
+                }
+                break;
+            case COL_VARI_MAGS:
+                for (IParticleRecord record : records) {
+                    if (record instanceof VariableRecord) {
+                        VariableRecord vr = (VariableRecord) record;
+                        for (int i = 0; i < vr.nVari; i++)
+                            out.writeFloat(vr.variMags[i]);
+                    }
+                }
+                break;
+            case COL_VARI_SIZES:
+                for (IParticleRecord record : records) {
+                    if (record instanceof VariableRecord) {
+                        VariableRecord vr = (VariableRecord) record;
+                        out.writeInt(vr.variMags != null ? vr.nVari : NO_CURVE);
+                    } else {
+                        out.writeInt(NO_VARI);
+                    }
+                }
+                break;
+            case COL_NAME_OFFSETS:
+                int offset = 0;
+                out.writeInt(offset);
+                for (byte[] bytes : names) {
+                    offset += bytes.length;
+                    out.writeInt(offset);
+                }
+                break;
+            case COL_NAMES:
+                for (byte[] bytes : names)
+                    out.write(bytes);
+                break;
+            }
+            counter.pad();
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads the records of a container from a stream.
+     *
+     * @param is     The input stream. It is not closed.
+     * @param colors If not null, the RGB colors of the stars are put in this map, by identifier.
+     *
+     * @return The records.
+     *
+     * @throws IOException If the stream can't be read, or it is not a valid container.
+     */
+    public static List<IParticleRecord> read(InputStream is, LongMap<float[]> colors) throws IOException {
+        return read(new StreamSource(is), colors);
+    }
+
+    /**
+     * Reads the records of a container from a buffer, typically a memory-mapped file.
+     *
+     * @param mem    The buffer, positioned at the start of the container.
+     * @param colors If not null, the RGB colors of the stars are put in this map, by identifier.
+     *
+     * @return The records.
+     *
+     * @throws IOException If the buffer is not a valid container.
+     */
+    public static List<IParticleRecord> read(ByteBuffer mem, LongMap<float[]> colors) throws IOException {
+        return read(new BufferSource(mem), colors);
+    }
+
+    private static List<IParticleRecord> read(Source in, LongMap<float[]> colors) throws IOException {
+        if (in.getInt() != MAGIC) {
+            throw new IOException("Not a columnar particle file");
+        }
+        int version = in.getInt();
+        if (version > VERSION) {
+            throw new IOException("Unsupported columnar particle file version: " + version);
+        }
+        final int n = in.getInt();
+        final byte flags = in.get();
+        final int nExtra = in.getInt();
+        final UCD[] extra = new UCD[nExtra];
+        for (int e = 0; e < nExtra; e++) {
+            extra[e] = new UCD(readString(in), readString(in), readString(in), in.getInt());
+        }
+        final int nColumns = in.getInt();
+        final byte[] tags = new byte[nColumns];
+        final byte[] sizes = new byte[nColumns];
+        final long[] counts = new long[nColumns];
+        for (int c = 0; c < nColumns; c++) {
+            tags[c] = in.get();
+            sizes[c] = in.get();
+            counts[c] = in.getLong();
+        }
+        in.pad();
+
+        double[] dataD = null, extraValues = null, periods = null, variTimes = null;
+        long[] ids = null;
+        float[] dataF = null, rgb = null, variMags = null;
+        int[] variSizes = null, nameOffsets = null;
+        byte[] names = null;
+        for (int c = 0; c < nColumns; c++) {
+            final int count = checkCount(counts[c]);
+            switch (tags[c]) {
+            case COL_POS:
+                in.get(dataD = new double[count]);
+                break;
+            case COL_ID:
+                in.get(ids = new long[count]);
+                break;
+            case COL_EXTRA:
+                in.get(extraValues = new double[count]);
+                break;
+            case COL_PERIOD:
+                in.get(periods = new double[count]);
+                break;
+            case COL_VARI_TIMES:
+                in.get(variTimes = new double[count]);
+                break;
+            case COL_DATA_F:
+                in.get(dataF = new float[count]);
+                break;
+            case COL_RGB:
+                in.get(rgb = new float[count]);
+                break;
+            case COL_VARI_MAGS:
+                in.get(variMags = new float[count]);
+                break;
+            case COL_VARI_SIZES:
+                in.get(variSizes = new int[count]);
+                break;
+            case COL_NAME_OFFSETS:
+                in.get(nameOffsets = new int[count]);
+                break;
+            case COL_NAMES:
+                in.get(names = new byte[count]);
+                break;
+            default:
+                // Unknown column, written by a later version
+                in.skip(counts[c] * sizes[c]);
+                break;
+            }
+            in.pad();
+        }
+        if (dataD == null || n > 0 && (dataD.length % n != 0 || dataF != null && dataF.length % n != 0)) {
+            throw new IOException("Malformed columnar particle file");
+        }
+
+        // Records
+        final int widthD = n > 0 ? dataD.length / n : 0;
+        final int widthF = dataF != null ? dataF.length / n : 0;
+        final boolean hasExtra = (flags & FLAG_EXTRA) != 0 && (nExtra == 0 || extraValues != null);
+        final boolean variables = (flags & FLAG_VARIABLES) != 0 && variSizes != null && periods != null;
+        final List<IParticleRecord> records = new ArrayList<>(n);
+        int vari = 0;
+        for (int i = 0; i < n; i++) {
+            final double[] d = Arrays.copyOfRange(dataD, widthD * i, widthD * (i + 1));
+            final float[] f = dataF != null ? Arrays.copyOfRange(dataF, widthF * i, widthF * (i + 1)) : null;
+            final long id = ids != null ? ids[i] : -1;
+            String[] recordNames = null;
+            if (names != null && nameOffsets != null && nameOffsets[i + 1] > nameOffsets[i]) {
+                recordNames = new String(names, nameOffsets[i], nameOffsets[i + 1] - nameOffsets[i], StandardCharsets.UTF_8).split("\0", -1);
+            }
+            ObjectDoubleMap<UCD> recordExtra = null;
+            if (hasExtra) {
+                recordExtra = new ObjectDoubleMap<>(Math.max((int) (nExtra * 1.25f), 5), 0.8f);
+                for (int e = 0; e < nExtra; e++) {
+                    recordExtra.put(extra[e], extraValues[i * nExtra + e]);
+                }
+            }
+
+            if (variables && variSizes[i] != NO_VARI) {
+                final int size = Math.max(variSizes[i], 0);
+                final boolean curve = variSizes[i] != NO_CURVE && variMags != null && variTimes != null;
+                final float[] mags = curve ? Arrays.copyOfRange(variMags, vari, vari + size) : null;
+                final double[] times = curve ? Arrays.copyOfRange(variTimes, vari, vari + size) : null;
+                vari += size;
+                records.add(new VariableRecord(d, f, curve ? size : 0, periods[i], mags, times, id, recordNames, recordExtra));
+            } else {
+                records.add(new ParticleRecord(d, f, id, recordNames, recordExtra));
+            }
+            if (rgb != null && colors != null) {
+                colors.put(id, Arrays.copyOfRange(rgb, RGB_SIZE * i, RGB_SIZE * (i + 1)));
+            }
+        }
+        return records;
+    }
+
+    private static int checkCount(long count) throws IOException {
+        if (count < 0 || count > Integer.MAX_VALUE - 8) {
+            throw new IOException("Column too large: " + count);
+        }
+        return (int) count;
+    }
+
+    private static UCD[] toArray(ObjectDoubleMap.Keys<UCD> keys) {
+        List<UCD> ucds = new ArrayList<>();
+        for (UCD ucd : keys) {
+            ucds.add(ucd);
+        }
+        return ucds.toArray(new UCD[0]);
+    }
+
+    private static void writeString(String str, DataOutputStream out) throws IOException {
+        if (str == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(Source in) throws IOException {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Counts the bytes written, to pad to the column alignment. {@link DataOutputStream#size()} overflows at 2 GB, so
+     * it can't be used.
+     */
+    private static class PositionOutputStream extends FilterOutputStream {
+        private long position = 0;
+
+        PositionOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            position++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            position += len;
+        }
+
+        void pad() throws IOException {
+            while (position % ALIGN != 0) {
+                write(0);
+            }
+        }
+    }
+
+    /** Source of the bytes of a container. Arrays are read in bulk. **/
+    private interface Source {
+        byte get() throws IOException;
+
+        int getInt() throws IOException;
+
+        long getLong() throws IOException;
+
+        void get(byte[] out) throws IOException;
+
+        void get(int[] out) throws IOException;
+
+        void get(long[] out) throws IOException;
+
+        void get(float[] out) throws IOException;
+
+        void get(double[] out) throws IOException;
+
+        void skip(long bytes) throws IOException;
+
+        /** Skips the padding up to the column alignment. **/
+        void pad() throws IOException;
+    }
+
+    private static class BufferSource implements Source {
+        private final ByteBuffer mem;
+        private final int start;
+
+        BufferSource(ByteBuffer mem) {
+            this.mem = mem;
+            this.start = mem.position();
+        }
+
+        public byte get() {
+            return mem.get();
+        }
+
+        public int getInt() {
+            return mem.getInt();
+        }
+
+        public long getLong() {
+            return mem.getLong();
+        }
+
+        public void get(byte[] out) {
+            mem.get(out);
+        }
+
+        public void get(int[] out) {
+            mem.asIntBuffer().get(out);
+            mem.position(mem.position() + out.length * Integer.BYTES);
+        }
+
+        public void get(long[] out) {
+            mem.asLongBuffer().get(out);
+            mem.position(mem.position() + out.length * Long.BYTES);
+        }
+
+        public void get(float[] out) {
+            mem.asFloatBuffer().get(out);
+            mem.position(mem.position() + out.length * Float.BYTES);
+        }
+
+        public void get(double[] out) {
+            mem.asDoubleBuffer().get(out);
+            mem.position(mem.position() + out.length * Double.BYTES);
+        }
+
+        public void skip(long bytes) {
+            mem.position(Math.toIntExact(mem.position() + bytes));
+        }
+
+        public void pad() {
+            int relative = mem.position() - start;
+            mem.position(start + ((relative + ALIGN - 1) & -ALIGN));
+        }
+    }
+
+    private static class StreamSource implements Source {
+        private final DataInputStream in;
+        private final byte[] chunk = new byte[1 << 16];
+        private final ByteBuffer chunkBuffer = ByteBuffer.wrap(chunk);
+        private long position = 0;
+
+        StreamSource(InputStream is) {
+            this.in = new DataInputStream(new BufferedInputStream(is, 1 << 16));
+        }
+
+        public byte get() throws IOException {
+            position++;
+            return in.readByte();
+        }
+
+        public int getInt() throws IOException {
+            position += Integer.BYTES;
+            return in.readInt();
+        }
+
+        public long getLong() throws IOException {
+            position += Long.BYTES;
+            return in.readLong();
+        }
+
+        public void get(byte[] out) throws IOException {
+            in.readFully(out);
+            position += out.length;
+        }
+
+        /**
+         * Fills the chunk with the next elements.
+         *
+         * @return The number of elements in the chunk.
+         */
+        private int fill(int remaining, int elementSize) throws IOException {
+            int len = Math.min(remaining, chunk.length / elementSize);
+            in.readFully(chunk, 0, len * elementSize);
+            position += (long) len * elementSize;
+            chunkBuffer.clear();
+            return len;
+        }
+
+        public void get(int[] out) throws IOException {
+            for (int i = 0; i < out.length; ) {
+                int len = fill(out.length - i, Integer.BYTES);
+                chunkBuffer.asIntBuffer().get(out, i, len);
+                i += len;
+            }
+        }
+
+        public void get(long[] out) throws IOException {
+            for (int i = 0; i < out.length; ) {
+                int len = fill(out.length - i, Long.BYTES);
+                chunkBuffer.asLongBuffer().get(out, i, len);
+                i += len;
+            }
+        }
+
+        public void get(float[] out) throws IOException {
+            for (int i = 0; i < out.length; ) {
+                int len = fill(out.length - i, Float.BYTES);
+                chunkBuffer.asFloatBuffer().get(out, i, len);
+                i += len;
+            }
+        }
+
+        public void get(double[] out) throws IOException {
+            for (int i = 0; i < out.length; ) {
+                int len = fill(out.length - i, Double.BYTES);
+                chunkBuffer.asDoubleBuffer().get(out, i, len);
+                i += len;
+            }
+        }
+
+        public void skip(long bytes) throws IOException {
+            while (bytes > 0) {
+                int len = (int) Math.min(bytes, chunk.length);
+                in.readFully(chunk, 0, len);
+                bytes -= len;
+                position += len;
+            }
+        }
+
+        public void pad() throws IOException {
+            skip((ALIGN - position % ALIGN) % ALIGN);
+        }
+    }
+}
@@ -8,6 +8,8 @@ package gaiasky.data.group;
 import gaiasky.render.ComponentTypes.ComponentType;
 
 public class DatasetOptions {
+    /** Size of the catalog files, in bytes, from which the dataset load dialog enables progressive loading by default. **/
+    public static final long STREAMING_MIN_FILE_SIZE = 64L * 1024L * 1024L;
 
     public DatasetLoadType type;
     // Particles
@@ -26,6 +28,12 @@ public class DatasetOptions {
     public double[] fadeIn;
     public double[] fadeOut;
     public boolean initializeCatalogInfo = true;
+    // Precompute the spherical coordinates (ra/dec, l/b, ecliptic) of all particles
+    public boolean derivedCoordinates = false;
+    // Display the dataset progressively, while it is still loading
+    public boolean streaming = false;
+    // Keep the converted records of the catalog file in the catalog cache, and reuse them if the same file is loaded again
+    public boolean cache = true;
 
     public static DatasetOptions getStarDatasetOptions(String datasetName, double magnitudeScale, double[] labelColor, double[] fadeIn, double[] fadeOut) {
         DatasetOptions datasetOptions = new DatasetOptions();
@@ -0,0 +1,197 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.data.group;
+
+import java.util.Arrays;
+
+/**
+ * Prepares the light curves of variable stars for rendering: drops the invalid samples, folds the times with the period,
+ * sorts the samples by phase and, if there are too many, resamples them linearly at evenly spaced phases.
+ * <p>
+ * All the work is done in primitive buffers which grow on demand and are reused for the next light curve, so that
+ * processing a light curve only allocates its results. Processors are not thread-safe; {@link #get()} returns the one
+ * of the current thread.
+ */
+public class LightCurveProcessor {
+    private static final ThreadLocal<LightCurveProcessor> processors = ThreadLocal.withInitial(LightCurveProcessor::new);
+
+    // Sanitized samples
+    private double[] mags = new double[0], times = new double[0];
+    // Phases, and sort order
+    private double[] phases = new double[0];
+    private int[] order = new int[0], orderAux = new int[0];
+    // Output samples
+    private double[] outMags = new double[0], outTimes = new double[0];
+    private int n;
+    private boolean resampled;
+
+    /**
+     * Gets the processor of the current thread.
+     *
+     * @return The processor.
+     */
+    public static LightCurveProcessor get() {
+        return processors.get();
+    }
+
+    /**
+     * Processes a light curve. The results are available with {@link #size()}, {@link #time(int)},
+     * {@link #mag(int)} and {@link #copyTimes()} until the next call.
+     *
+     * @param rawMags    The magnitudes. Non-finite values are dropped.
+     * @param rawTimes   The times of the magnitudes, with at least as many elements.
+     * @param magOffset  Offset subtracted from the magnitudes.
+     * @param period     The period, in the units of the times.
+     * @param maxSamples Maximum number of samples. Longer light curves are resampled to this size.
+     *
+     * @return The number of samples, 0 if the light curve has no valid samples.
+     */
+    public int process(double[] rawMags, double[] rawTimes, double magOffset, double period, int maxSamples) {
+        final int len = Math.min(rawMags.length, rawTimes.length);
+        ensureCapacity(len);
+        resampled = false;
+
+        // SANITIZE (no NaNs)
+        int nVari = 0;
+        for (int k = 0; k < len; k++) {
+            if (Double.isFinite(rawMags[k])) {
+                mags[nVari] = rawMags[k] - magOffset;
+                times[nVari] = rawTimes[k];
+                nVari++;
+            }
+        }
+        n = nVari;
+        if (nVari == 0) {
+            return 0;
+        }
+
+        // FOLD
+        final double t0 = times[0];
+        for (int k = 0; k < nVari; k++) {
+            phases[k] = (times[k] - t0) % period;
+            order[k] = k;
+        }
+        sortByKey(nVari);
+        ensureOutputCapacity(nVari);
+        for (int k = 0; k < nVari; k++) {
+            outTimes[k] = phases[order[k]] + t0;
+            outMags[k] = mags[order[k]];
+        }
+
+        // RESAMPLE (only if too many samples)
+        if (nVari > maxSamples) {
+            resample(nVari, maxSamples);
+            n = maxSamples;
+            resampled = true;
+        }
+        return n;
+    }
+
+    /**
+     * Resamples the folded curve, which is in the output buffers, at evenly spaced times. The folded samples go to the
+     * sanitized buffers, which are not needed anymore, so that the result stays in the output buffers.
+     */
+    private void resample(int nIn, int nOut) {
+        System.arraycopy(outTimes, 0, times, 0, nIn);
+        System.arraycopy(outMags, 0, mags, 0, nIn);
+
+        final double tStart = times[0];
+        final double tEnd = times[nIn - 1];
+        final double tStep = nOut > 1 ? (tEnd - tStart) / (nOut - 1) : 0;
+        int i = 0;
+        for (int k = 0; k < nOut; k++) {
+            final double t = Math.min(tStart + tStep * k, tEnd);
+            // Times are sorted, so the interval only moves forward
+            while (i < nIn - 2 && times[i + 1] <= t) {
+                i++;
+            }
+            final double dt = times[i + 1] - times[i];
+            final double a = dt > 0 ? Math.max(0, Math.min(1, (t - times[i]) / dt)) : 0;
+            outTimes[k] = t;
+            outMags[k] = mags[i] + (mags[i + 1] - mags[i]) * a;
+        }
+    }
+
+    /**
+     * Stable merge sort of the first <code>n</code> indices in {@link #order} by their phase, without boxing.
+     */
+    private void sortByKey(int n) {
+        int[] src = order, dst = orderAux;
+        for (int width = 1; width < n; width *= 2) {
+            for (int lo = 0; lo < n; lo += 2 * width) {
+                int mid = Math.min(lo + width, n), hi = Math.min(lo + 2 * width, n);
+                int i = lo, k = mid, o = lo;
+                while (i < mid && k < hi) {
+                    dst[o++] = phases[src[k]] < phases[src[i]] ? src[k++] : src[i++];
+                }
+                while (i < mid)
+                    dst[o++] = src[i++];
+                while (k < hi)
+                    dst[o++] = src[k++];
+            }
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+        if (src != order) {
+            System.arraycopy(src, 0, order, 0, n);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (mags.length < capacity) {
+            int newCapacity = Math.max(capacity, mags.length * 2);
+            mags = new double[newCapacity];
+            times = new double[newCapacity];
+            phases = new double[newCapacity];
+            order = new int[newCapacity];
+            orderAux = new int[newCapacity];
+        }
+    }
+
+    private void ensureOutputCapacity(int capacity) {
+        if (outMags.length < capacity) {
+            int newCapacity = Math.max(capacity, outMags.length * 2);
+            outMags = new double[newCapacity];
+            outTimes = new double[newCapacity];
+        }
+    }
+
+    /**
+     * @return The number of samples of the last light curve.
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * @return Whether the last light curve was resampled.
+     */
+    public boolean isResampled() {
+        return resampled;
+    }
+
+    /**
+     * @return The folded time of the given sample of the last light curve.
+     */
+    public double time(int i) {
+        return outTimes[i];
+    }
+
+    /**
+     * @return The magnitude of the given sample of the last light curve.
+     */
+    public double mag(int i) {
+        return outMags[i];
+    }
+
+    /**
+     * @return A copy of the folded times of the last light curve, with exactly {@link #size()} elements.
+     */
+    public double[] copyTimes() {
+        return Arrays.copyOf(outTimes, n);
+    }
+}
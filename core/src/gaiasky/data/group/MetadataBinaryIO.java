@@ -5,11 +5,15 @@
 
 package gaiasky.data.group;
 
+import gaiasky.scene.api.IParticleRecord;
 import gaiasky.util.Constants;
 import gaiasky.util.Logger;
 import gaiasky.util.Logger.Log;
 import gaiasky.util.Pair;
 import gaiasky.util.Settings;
+import gaiasky.util.filter.attrib.AttributeStatistics;
+import gaiasky.util.filter.attrib.AttributeStats;
+import gaiasky.util.filter.attrib.IAttribute;
 import gaiasky.util.tree.LoadStatus;
 import gaiasky.util.tree.OctreeNode;
 
@@ -17,10 +21,9 @@ import java.io.*;
 import java.nio.BufferUnderflowException;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
 
 /**
  * Writes and reads the metadata to/from binary. The format is as follows:
@@ -38,9 +41,20 @@ import java.util.Map;
  * - 32 bits (int) - nObjects - The cumulative number of objects of this node and its descendants
  * - 32 bits (int) - ownObjects - The number of objects of this node
  * - 32 bits (int) - childCount - The number of children nodes
+ * <p>
+ * Versions 1 and above start with a negative token and the version number, and use 64 bits (long) for
+ * pageId and childrenIds. Version 2 adds per-octant attribute summaries:
+ * <p>
+ * - After the number of nodes, 32 bits (int) with the number of attributes, nAttributes, followed by the
+ * attribute keys (see {@link AttributeStatistics#key(gaiasky.util.filter.attrib.IAttribute)}), each as a
+ * 16-bit length plus the UTF-8 bytes.
+ * - After each node, nAttributes times: 32 bits (int) count, 32 bits (float) min, 32 bits (float) max and
+ * 64 bits (double) sum of the attribute values of the objects in the node.
  */
 public class MetadataBinaryIO {
     private static final Log logger = Logger.getLogger(MetadataBinaryIO.class);
+    /** Version of the format written when the nodes have attribute summaries. **/
+    private static final int VERSION_ATTRIBUTES = 2;
 
     public Map<Long, Pair<OctreeNode, long[]>> nodesMap;
 
@@ -88,6 +102,16 @@ public class MetadataBinaryIO {
             } else {
                 size = token;
             }
+            // Attribute keys
+            String[] attributes = null;
+            if (version >= VERSION_ATTRIBUTES) {
+                attributes = new String[data_in.readInt()];
+                for (int i = 0; i < attributes.length; i++) {
+                    byte[] bytes = new byte[data_in.readUnsignedShort()];
+                    data_in.readFully(bytes);
+                    attributes[i] = new String(bytes, StandardCharsets.UTF_8);
+                }
+            }
             int maxDepth = 0;
 
             for (int idx = 0; idx < size; idx++) {
@@ -112,6 +136,16 @@ public class MetadataBinaryIO {
                     maxDepth = Math.max(maxDepth, depth);
 
                     OctreeNode node = new OctreeNode(pageId, x, y, z, hsx, hsy, hsz, childrenCount, nObjects, ownObjects, depth);
+                    if (attributes != null) {
+                        node.attributeStats = new HashMap<>();
+                        for (String attribute : attributes) {
+                            int count = data_in.readInt();
+                            float min = data_in.readFloat();
+                            float max = data_in.readFloat();
+                            double sum = data_in.readDouble();
+                            node.attributeStats.put(attribute, new AttributeStats(count, min, max, sum));
+                        }
+                    }
                     nodesMap.put(pageId, new Pair<>(node, childrenIds));
                     if (status != null)
                         node.setStatus(status);
@@ -174,6 +208,16 @@ public class MetadataBinaryIO {
             } else {
                 size = token;
             }
+            // Attribute keys
+            String[] attributes = null;
+            if (version >= VERSION_ATTRIBUTES) {
+                attributes = new String[mem.getInt()];
+                for (int i = 0; i < attributes.length; i++) {
+                    byte[] bytes = new byte[mem.getShort() & 0xffff];
+                    mem.get(bytes);
+                    attributes[i] = new String(bytes, StandardCharsets.UTF_8);
+                }
+            }
 
             int maxDepth = 0;
 
@@ -203,6 +247,16 @@ public class MetadataBinaryIO {
                     maxDepth = Math.max(maxDepth, depth);
 
                     OctreeNode node = new OctreeNode(pageId, x, y, z, hsx, hsy, hsz, childrenCount, nObjects, ownObjects, depth);
+                    if (attributes != null) {
+                        node.attributeStats = new HashMap<>();
+                        for (String attribute : attributes) {
+                            int count = mem.getInt();
+                            float min = mem.getFloat();
+                            float max = mem.getFloat();
+                            double sum = mem.getDouble();
+                            node.attributeStats.put(attribute, new AttributeStats(count, min, max, sum));
+                        }
+                    }
                     nodesMap.put(pageId, new Pair<>(node, childrenIds));
                     if (status != null)
                         node.setStatus(status);
@@ -237,7 +291,9 @@ public class MetadataBinaryIO {
 
     /**
      * Writes the metadata of the given octree node and its descendants to the
-     * given output stream in binary.
+     * given output stream in binary. If any of the nodes has attribute summaries (see
+     * {@link AttributeStatistics#computeOctantSummaries(OctreeNode, List, gaiasky.util.filter.attrib.IAttribute...)}),
+     * version 2 of the format is written. Otherwise, version 0 is written.
      *
      * @param root
      * @param out
@@ -246,15 +302,45 @@ public class MetadataBinaryIO {
         List<OctreeNode> nodes = new ArrayList<>();
         toList(root, nodes);
 
+        // Attribute keys
+        Set<String> attributeSet = new LinkedHashSet<>();
+        for (OctreeNode node : nodes) {
+            if (node.attributeStats != null) {
+                attributeSet.addAll(node.attributeStats.keySet());
+            }
+        }
+        boolean withAttributes = !attributeSet.isEmpty();
+
         // Wrap the FileOutputStream with a DataOutputStream
         DataOutputStream data_out = new DataOutputStream(out);
 
         try {
+            if (withAttributes) {
+                // Token and version
+                data_out.writeInt(-1);
+                data_out.writeInt(VERSION_ATTRIBUTES);
+            }
             // Number of nodes
             data_out.writeInt(nodes.size());
+            if (withAttributes) {
+                data_out.writeInt(attributeSet.size());
+                for (String attribute : attributeSet) {
+                    // Plain UTF-8, not the modified UTF-8 of writeUTF, so that the mapped reader decodes the same bytes
+                    byte[] bytes = attribute.getBytes(StandardCharsets.UTF_8);
+                    if (bytes.length > 0xffff) {
+                        throw new IOException("Attribute key too long: " + attribute);
+                    }
+                    data_out.writeShort(bytes.length);
+                    data_out.write(bytes);
+                }
+            }
 
             for (OctreeNode node : nodes) {
-                data_out.writeInt((int) node.pageId);
+                if (withAttributes) {
+                    data_out.writeLong(node.pageId);
+                } else {
+                    data_out.writeInt((int) node.pageId);
+                }
                 data_out.writeFloat((float) node.centre.x);
                 data_out.writeFloat((float) node.centre.y);
                 data_out.writeFloat((float) node.centre.z);
@@ -262,12 +348,33 @@ public class MetadataBinaryIO {
                 data_out.writeFloat((float) node.size.y);
                 data_out.writeFloat((float) node.size.z);
                 for (int i = 0; i < 8; i++) {
-                    data_out.writeInt((int) (node.children[i] != null ? node.children[i].pageId : -1));
+                    long childId = node.children[i] != null ? node.children[i].pageId : -1;
+                    if (withAttributes) {
+                        data_out.writeLong(childId);
+                    } else {
+                        data_out.writeInt((int) childId);
+                    }
                 }
                 data_out.writeInt(node.depth);
                 data_out.writeInt(node.numObjectsRec);
                 data_out.writeInt(node.numObjects);
                 data_out.writeInt(node.numChildren);
+                if (withAttributes) {
+                    for (String attribute : attributeSet) {
+                        AttributeStats stats = node.attributeStats != null ? node.attributeStats.get(attribute) : null;
+                        if (stats != null && stats.count() > 0) {
+                            data_out.writeInt((int) stats.count());
+                            data_out.writeFloat((float) stats.min());
+                            data_out.writeFloat((float) stats.max());
+                            data_out.writeDouble(stats.sum());
+                        } else {
+                            data_out.writeInt(0);
+                            data_out.writeFloat(Float.NaN);
+                            data_out.writeFloat(Float.NaN);
+                            data_out.writeDouble(0);
+                        }
+                    }
+                }
             }
 
             data_out.close();
@@ -279,6 +386,26 @@ public class MetadataBinaryIO {
 
     }
 
+    /**
+     * Computes the summaries of the given attributes for all the nodes of the given octree, and writes the metadata
+     * with them (version 2 of the format) to the given output stream. This is the metadata write used when generating
+     * LOD datasets.
+     *
+     * @param root       The root node.
+     * @param data       Gets the particles of a node (not including its descendants), or null if the node has none.
+     * @param out        The output stream.
+     * @param attributes The attributes to summarize.
+     */
+    public void writeMetadata(OctreeNode root, Function<OctreeNode, List<IParticleRecord>> data, OutputStream out, IAttribute... attributes) {
+        List<OctreeNode> nodes = new ArrayList<>();
+        toList(root, nodes);
+        for (OctreeNode node : nodes) {
+            List<IParticleRecord> particles = data.apply(node);
+            AttributeStatistics.instance.computeOctantSummaries(node, particles != null ? particles : Collections.emptyList(), attributes);
+        }
+        writeMetadata(root, out);
+    }
+
     public void toList(OctreeNode node, List<OctreeNode> nodes) {
         nodes.add(node);
         for (OctreeNode child : node.children) {
@@ -11,14 +11,13 @@ import gaiasky.util.Logger;
 import gaiasky.util.Logger.Log;
 import gaiasky.util.Settings;
 import gaiasky.util.i18n.I18n;
+import gaiasky.util.parse.Parser;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.zip.GZIPInputStream;
 
 /**
@@ -27,6 +26,11 @@ import java.util.zip.GZIPInputStream;
 public class PointDataProvider implements IParticleGroupDataProvider {
     private static final Log logger = Logger.getLogger(PointDataProvider.class);
 
+    /** Size of the blocks of text parsed in parallel. **/
+    private static final int BLOCK_SIZE = 4 * 1024 * 1024;
+    /** Size of the input buffer of the inflater, for gzipped files. **/
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
     public List<IParticleRecord> loadData(String file) {
         return loadData(file, 1d);
     }
@@ -36,7 +40,7 @@ public class PointDataProvider implements IParticleGroupDataProvider {
 
         if (file.endsWith(".gz")) {
             try {
-                is = new GZIPInputStream(Settings.settings.data.dataFileHandle(file).read());
+                is = new GZIPInputStream(Settings.settings.data.dataFileHandle(file).read(), GZIP_BUFFER_SIZE);
             } catch (IOException e) {
                 logger.error("File ends with '.gz' (" + file + ") but is not a Gzipped file!", e);
             }
@@ -50,42 +54,139 @@ public class PointDataProvider implements IParticleGroupDataProvider {
         return pointData;
     }
 
+    /**
+     * Loads the points in the given stream. The stream is read (and inflated, if compressed) by the calling thread in
+     * blocks of {@link #BLOCK_SIZE} bytes, cut at line boundaries. The blocks are tokenized and parsed in parallel by
+     * worker threads, directly from the bytes, while the calling thread keeps reading. The points are merged back in
+     * the original order.
+     *
+     * @param is     The input stream.
+     * @param factor Factor to apply to all values.
+     *
+     * @return The list of points, or null if the stream could not be read.
+     */
     @Override
     public List<IParticleRecord> loadData(InputStream is, double factor) {
         List<IParticleRecord> pointData = new ArrayList<>();
+        final int parallelism = ForkJoinPool.commonPool().getParallelism();
+        final int maxInFlight = Math.max(2, parallelism * 2);
+        final Deque<CompletableFuture<List<IParticleRecord>>> inFlight = new ArrayDeque<>(maxInFlight);
         try (is) {
-            int tokensLength;
-            BufferedReader br = new BufferedReader(new InputStreamReader(is));
-            String line;
-            while ((line = br.readLine()) != null) {
-                if (!line.isEmpty() && !line.startsWith("#")) {
-                    try {
-                        // Read line
-                        String[] tokens = line.split("\\s+");
-                        tokensLength = tokens.length;
-                        double[] point = new double[tokensLength];
-                        for (int j = 0; j < tokensLength; j++) {
-                            // We use regular parser because of scientific notation
-                            point[j] = Double.parseDouble(tokens[j]) * factor;
-                        }
-                        pointData.add(new PointParticleRecord(point));
-                    } catch (NumberFormatException e) {
-                        // Skip line
+            byte[] buffer = new byte[BLOCK_SIZE];
+            int length = 0;
+            boolean eof = false;
+            while (!eof) {
+                length += is.readNBytes(buffer, length, buffer.length - length);
+                // Fewer bytes than requested only at the end of the stream
+                eof = length < buffer.length;
+                int end = eof ? length : lastLineEnd(buffer, length);
+                if (end == 0) {
+                    if (!eof) {
+                        // Line longer than the buffer
+                        buffer = Arrays.copyOf(buffer, buffer.length * 2);
                     }
+                    continue;
                 }
-            }
+                inFlight.add(submit(buffer, end, factor, parallelism > 1));
 
-            br.close();
+                // Carry the incomplete line over to the next block
+                byte[] next = new byte[Math.max(BLOCK_SIZE, length - end)];
+                System.arraycopy(buffer, end, next, 0, length - end);
+                length -= end;
+                buffer = next;
 
+                if (inFlight.size() >= maxInFlight) {
+                    pointData.addAll(inFlight.poll().join());
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                pointData.addAll(inFlight.poll().join());
+            }
         } catch (Exception e) {
             logger.error(e);
             return null;
         }
-        // Nothing
 
         return pointData;
     }
 
+    private CompletableFuture<List<IParticleRecord>> submit(final byte[] block, final int length, final double factor, final boolean parallel) {
+        if (parallel) {
+            return CompletableFuture.supplyAsync(() -> parse(block, length, factor));
+        } else {
+            return CompletableFuture.completedFuture(parse(block, length, factor));
+        }
+    }
+
+    /**
+     * @return The position after the last new line character in the first length bytes of the buffer, or 0 if there is none.
+     */
+    private static int lastLineEnd(byte[] buffer, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (buffer[i] == '\n')
+                return i + 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Parses the lines in the given block. Empty lines and lines starting with '#' are skipped, as well
+     * as lines with tokens that are not numbers.
+     *
+     * @param block  The bytes.
+     * @param length The number of bytes to parse, ending at a line boundary or at the end of the data.
+     * @param factor Factor to apply to all values.
+     *
+     * @return The points.
+     */
+    private static List<IParticleRecord> parse(byte[] block, int length, double factor) {
+        List<IParticleRecord> points = new ArrayList<>();
+        // Start and end of each token in the current line
+        int[] tokens = new int[64];
+        int pos = 0;
+        while (pos < length) {
+            int lineEnd = pos;
+            while (lineEnd < length && block[lineEnd] != '\n')
+                lineEnd++;
+
+            if (block[pos] != '#') {
+                int nTokens = 0;
+                int i = pos;
+                while (true) {
+                    while (i < lineEnd && isWhitespace(block[i]))
+                        i++;
+                    if (i >= lineEnd)
+                        break;
+                    if (2 * nTokens + 2 > tokens.length)
+                        tokens = Arrays.copyOf(tokens, tokens.length * 2);
+                    tokens[2 * nTokens] = i;
+                    while (i < lineEnd && !isWhitespace(block[i]))
+                        i++;
+                    tokens[2 * nTokens + 1] = i;
+                    nTokens++;
+                }
+                if (nTokens > 0) {
+                    try {
+                        double[] point = new double[nTokens];
+                        for (int j = 0; j < nTokens; j++) {
+                            // Exact parser, handles scientific notation
+                            point[j] = Parser.parseDouble(block, tokens[2 * j], tokens[2 * j + 1]) * factor;
+                        }
+                        points.add(new PointParticleRecord(point));
+                    } catch (NumberFormatException e) {
+                        // Skip line
+                    }
+                }
+            }
+            pos = lineEnd + 1;
+        }
+        return points;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\f' || b == 0x0B;
+    }
+
     public void setFileNumberCap(int cap) {
     }
 
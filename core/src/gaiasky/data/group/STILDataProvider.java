@@ -21,18 +21,15 @@ import gaiasky.util.coord.AstroUtils;
 import gaiasky.util.coord.Coordinates;
 import gaiasky.util.i18n.I18n;
 import gaiasky.util.math.MathUtilsDouble;
-import gaiasky.util.math.Vector2d;
-import gaiasky.util.math.Vector3d;
-import gaiasky.util.parse.Parser;
 import gaiasky.util.ucd.UCD;
+import gaiasky.util.ucd.UCDAccessor;
 import gaiasky.util.ucd.UCDParser;
-import gaiasky.util.units.Position;
 import gaiasky.util.units.Position.PositionType;
 import gaiasky.util.units.Quantity.Angle;
 import gaiasky.util.units.Quantity.Angle.AngleUnit;
-import org.apache.commons.math3.analysis.UnivariateFunction;
-import org.apache.commons.math3.analysis.interpolation.LinearInterpolator;
-import org.apache.commons.math3.analysis.interpolation.UnivariateInterpolator;
+import gaiasky.util.units.Quantity.Length;
+import gaiasky.util.units.Quantity.Length.LengthUnit;
+import net.jafama.FastMath;
 import uk.ac.starlink.table.RowSequence;
 import uk.ac.starlink.table.StarTable;
 import uk.ac.starlink.table.StarTableFactory;
@@ -47,6 +44,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 
 /**
@@ -57,6 +56,16 @@ import java.util.logging.Level;
  */
 public class STILDataProvider extends AbstractStarGroupDataProvider {
     private static final Log logger = Logger.getLogger(STILDataProvider.class);
+    /** Number of rows per work unit of the parallel conversion. **/
+    private static final int BLOCK_SIZE = 10_000;
+    /** Parallax used for rows with a missing or negative parallax, in mas. **/
+    private static final double DEFAULT_PARALLAX_MAS = 0.04;
+    /** Default apparent magnitude. **/
+    private static final double DEFAULT_MAG = 15;
+    /** Default B-V color. **/
+    private static final float DEFAULT_COLOR = 0.656f;
+    /** Minimum number of records passed at once to the chunk consumer, if any. **/
+    private static final int MIN_CHUNK_SIZE = 50_000;
     // These names are not allowed
     private static final String[] forbiddenNameValues = { "-", "...", "nop", "nan", "?", "_", "x", "n/a" };
     // Store already visited colname:attribute pairs.
@@ -67,6 +76,10 @@ public class STILDataProvider extends AbstractStarGroupDataProvider {
     private long starId = 10000000;
     // Dataset options, may be null
     private DatasetOptions datasetOptions;
+    // Receives the records while the table is still loading, may be null
+    private Consumer<List<IParticleRecord>> chunkConsumer;
+    // Number of records already passed to the chunk consumer
+    private int published;
 
     public STILDataProvider() {
         super();
@@ -89,6 +102,19 @@ public class STILDataProvider extends AbstractStarGroupDataProvider {
         this.datasetOptions = datasetOptions;
     }
 
+    /**
+     * Sets a consumer that receives the loaded records in chunks, in order, while the table is still loading, so that
+     * the dataset can be displayed progressively. The consumer runs in the loading thread. Chunks grow with the number
+     * of records already published (each chunk has at least half as many records as all previous chunks together), so that
+     * the total work of the consumer, if it is linear in the size of the dataset for each chunk, stays linear overall.
+     * The last chunk is published when the table has been read completely.
+     *
+     * @param chunkConsumer The consumer, or null to disable progressive loading.
+     */
+    public void setChunkConsumer(Consumer<List<IParticleRecord>> chunkConsumer) {
+        this.chunkConsumer = chunkConsumer;
+    }
+
     @Override
     public List<IParticleRecord> loadData(String file, double factor) {
         logger.info(I18n.msg("notif.datafile", file));
@@ -107,500 +133,755 @@ public class STILDataProvider extends AbstractStarGroupDataProvider {
         return list;
     }
 
+    public List<IParticleRecord> loadData(DataSource ds, double factor) {
+        return loadData(ds, factor, null, null, null);
+    }
+
     /**
-     * Gets the first ucd that can be translated to a double from the set.
+     * Loads the table in the given data source. Rows are read in blocks of {@link #BLOCK_SIZE} by the calling thread,
+     * converted in parallel by worker threads, and merged back in the calling thread in the original row order.
      *
-     * @param UCDs The array of UCDs. The UCDs which coincide with the names should be first.
-     * @param row  The row objects
+     * @param ds             The data source.
+     * @param factor         Length factor.
+     * @param preCallback    A function that runs before.
+     * @param updateCallback A function that runs after each block of objects has loaded. Gets two longs, the first holds the current number of loaded objects and the
+     *                       second holds the total number of objects to load.
+     * @param postCallback   A function that runs after the data has been loaded.
      *
-     * @return Pair of <UCD,Double>
+     * @return The list of particle records.
      */
-    private Pair<UCD, Double> getDoubleUcd(Array<UCD> UCDs, Object[] row) {
-        for (UCD ucd : UCDs) {
-            try {
-                double num = ((Number) row[ucd.index]).doubleValue();
-                if (Double.isNaN(num)) {
-                    throw new Exception();
+    public List<IParticleRecord> loadData(DataSource ds, double factor, Runnable preCallback, RunnableLongLong updateCallback, Runnable postCallback) {
+        try {
+            if (factory != null) {
+                // Add extra builders
+                List<TableBuilder> builders = factory.getDefaultBuilders();
+                builders.add(new CsvTableBuilder());
+                builders.add(new AsciiTableBuilder());
+
+                if (preCallback != null)
+                    preCallback.run();
+
+                // Try the catalog cache
+                final String cacheKey = cacheKey(ds, factor);
+                if (cacheKey != null) {
+                    List<IParticleRecord> cached = CatalogCache.instance.load(cacheKey, colors);
+                    if (cached != null) {
+                        logger.info("Loaded " + cached.size() + " records of " + ds.getName() + " from the catalog cache");
+                        loadCached(cached, updateCallback);
+                        return list;
+                    }
                 }
-                return new Pair<>(ucd, num);
-            } catch (Exception e0) {
-                // not working, try String
-                try {
-                    double num = Parser.parseDouble((String) row[ucd.index]);
-                    if (Double.isNaN(num)) {
-                        throw new Exception();
+
+                // Try to load
+                StarTable table = factory.makeStarTable(ds);
+
+                long count = table.getRowCount();
+                initLists(count > 0 ? (int) count : 1000);
+
+                UCDParser ucdParser = new UCDParser();
+                ucdParser.parse(table);
+
+                if (ucdParser.haspos) {
+                    final Columns columns = new Columns(ucdParser);
+                    final int maxInFlight = Math.max(2, parallelism * 2);
+                    final Deque<CompletableFuture<Block>> inFlight = new ArrayDeque<>(maxInFlight);
+                    final int[] totals = new int[3];
+                    long loaded = 0L;
+                    long start = 0L;
+                    published = 0;
+
+                    RowSequence rs = table.getRowSequence();
+                    try {
+                        Object[][] rows = new Object[BLOCK_SIZE][];
+                        int n = 0;
+                        while (rs.next()) {
+                            rows[n++] = rs.getRow();
+                            if (n == BLOCK_SIZE) {
+                                inFlight.add(submit(rows, n, start, columns));
+                                start += n;
+                                rows = new Object[BLOCK_SIZE][];
+                                n = 0;
+                                if (inFlight.size() >= maxInFlight) {
+                                    loaded = merge(inFlight.poll().join(), columns, totals, loaded, count, updateCallback);
+                                }
+                            }
+                        }
+                        if (n > 0) {
+                            inFlight.add(submit(rows, n, start, columns));
+                        }
+                        while (!inFlight.isEmpty()) {
+                            loaded = merge(inFlight.poll().join(), columns, totals, loaded, count, updateCallback);
+                        }
+                        publish(true);
+                    } finally {
+                        rs.close();
+                    }
+
+                    if (totals[0] > 0) {
+                        logger.warn("Found " + totals[0] + " rows with nonexistent or negative parallax. Using the default 0.04 mas for them.");
+                    }
+                    if (totals[1] > 0) {
+                        logger.warn(totals[1] + " light curves resampled to fit in default array size (=" + VariableSetRenderer.MAX_VARI + ")");
                     }
-                    return new Pair<>(ucd, num);
-                } catch (Exception e1) {
-                    // Out of ideas
+                    if (totals[2] > 0) {
+                        logger.warn("Skipped " + totals[2] + " variable stars without a period");
+                    }
+
+                    if (cacheKey != null) {
+                        CatalogCache.instance.store(cacheKey, list, colors);
+                    }
+                } else {
+                    logger.error("Table not loaded: Position not found");
                 }
             }
+        } catch (Exception e) {
+            logger.error(e);
+        } finally {
+            if (postCallback != null)
+                postCallback.run();
         }
-        return null;
+
+        return list;
     }
 
     /**
-     * Gets the first ucd that can be translated to a double[] from the set.
-     *
-     * @param UCDs The array of UCDs. The UCDs which coincide with the names should be first.
-     * @param row  The row objects
+     * Computes the catalog cache key of the given data source. Only files are cached.
      *
-     * @return Pair of <UCD,double[]>
+     * @return The key, or null if the data source must not be cached.
      */
-    private Pair<UCD, double[]> getDoubleArrayUcd(Array<UCD> UCDs, Object[] row) {
-        for (UCD ucd : UCDs) {
-            try {
-                double[] nums = (double[]) row[ucd.index];
-                return new Pair<>(ucd, nums);
-            } catch (Exception e0) {
-                // not working, try String
-                try {
-                    double[] nums = Parser.parseDoubleArray((String) row[ucd.index]);
-                    return new Pair<>(ucd, nums);
-                } catch (Exception e1) {
-                    // Out of ideas
-                }
+    private String cacheKey(DataSource ds, double factor) {
+        if (!(ds instanceof FileDataSource) || (datasetOptions != null && !datasetOptions.cache)) {
+            return null;
+        }
+        // Everything the conversion depends on
+        final String parameters = "stil;" + (datasetOptions != null ? datasetOptions.type + ";" + datasetOptions.magnitudeScale : "default") + ";" + factor + ";" + parallaxZeroPoint + ";" + parallaxErrorFactorFaint + ";" + parallaxErrorFactorBright + ";" + magCorrections + ";" + adaptiveParallax + ";" + VariableSetRenderer.MAX_VARI;
+        return CatalogCache.instance.key(((FileDataSource) ds).getFile().toPath(), parameters);
+    }
+
+    /**
+     * Adds the records loaded from the catalog cache, as if they had been converted from the table.
+     */
+    private void loadCached(List<IParticleRecord> cached, RunnableLongLong updateCallback) {
+        initLists(cached.size());
+        for (IParticleRecord record : cached) {
+            list.add(record);
+            if (record.rawFloatData() != null) {
+                int appMagClamp = (int) MathUtilsDouble.clamp(record.appmag(), 0, 21);
+                countsPerMag[appMagClamp] += 1;
             }
         }
-        return null;
+        if (updateCallback != null) {
+            updateCallback.run(cached.size(), cached.size());
+        }
+        published = 0;
+        publish(true);
+    }
+
+    private CompletableFuture<Block> submit(final Object[][] rows, final int n, final long start, final Columns columns) {
+        if (parallelism > 1) {
+            return CompletableFuture.supplyAsync(() -> convert(rows, n, start, columns));
+        } else {
+            return CompletableFuture.completedFuture(convert(rows, n, start, columns));
+        }
     }
 
     /**
-     * Gets the first ucd as a string from the set.
+     * Converts a block of rows. Runs in a worker thread, so it must not modify the state of the provider.
+     * The positions and proper motions of all the rows are read first, and converted in batches over the columns
+     * (see {@link Positions}). Then, the rest of the attributes are read row by row.
      *
-     * @param UCDs The set of UCD objects
-     * @param row  The row
+     * @param rows    The rows.
+     * @param n       The number of rows in the block.
+     * @param start   The index of the first row of the block in the table.
+     * @param columns The resolved columns.
      *
-     * @return A pair with the UCD and the string
+     * @return The converted block.
      */
-    private Pair<UCD, String> getStringUcd(Array<UCD> UCDs, Object[] row) {
-        for (UCD ucd : UCDs) {
+    private Block convert(Object[][] rows, int n, long start, Columns columns) {
+        final Block block = new Block(n, columns.extra.length);
+        if (!columns.stars && !columns.particles) {
+            return block;
+        }
+        final int[] col = new int[1];
+        final Positions positions = new Positions(n);
+        for (int r = 0; r < n; r++) {
             try {
-                String str = row[ucd.index].toString().strip();
-                return new Pair<>(ucd, str);
+                readPosition(rows[r], columns, block, col, positions, r);
             } catch (Exception e) {
-                // not working, try next
+                positions.type[r] = null;
+                logger.debug(e);
+                logger.debug("Exception parsing row " + (start + r) + ": skipping");
             }
         }
-        return null;
-    }
-
-    private Pair<UCD, String>[] getAllStringsUcd(Array<UCD> UCDs, Object[] row) {
-        Array<Pair<UCD, String>> strings = new Array<>(false, 2);
-        for (UCD ucd : UCDs) {
+        positions.convert(n, columns.stars);
+        for (int r = 0; r < n; r++) {
+            final Object[] row = rows[r];
+            rows[r] = null;
+            if (positions.type[r] == null) {
+                continue;
+            }
             try {
-                String str = row[ucd.index].toString().strip();
-                strings.add(new Pair<>(ucd, str));
+                convertRow(row, columns, block, col, positions, r);
             } catch (Exception e) {
-                // not working, try next
+                logger.debug(e);
+                logger.debug("Exception parsing row " + (start + r) + ": skipping");
             }
         }
-        Pair<UCD, String>[] result = new Pair[strings.size];
-        int i = 0;
-        for (Pair<UCD, String> value : strings) {
-            result[i++] = value;
-        }
-        return result;
-
-    }
-
-    public List<IParticleRecord> loadData(DataSource ds, double factor) {
-        return loadData(ds, factor, null, null, null);
+        return block;
     }
 
     /**
-     * @param ds             The data source.
-     * @param factor         Length factor.
-     * @param preCallback    A function that runs before.
-     * @param updateCallback A function that runs after each object has loaded. Gets two longs, the first holds the current number of loaded objects and the
-     *                       second holds the total number of objects to load.
-     * @param postCallback   A function that runs after the data has been loaded.
-     *
-     * @return The list of particle records.
+     * Reads the position of the given row, and its proper motion if needed, into the given row of the position
+     * columns. Positions in spherical coordinates are stored as longitude, latitude and distance in parsecs, to be
+     * converted later. Rows without a valid position get a null position type.
      */
-    public List<IParticleRecord> loadData(DataSource ds, double factor, Runnable preCallback, RunnableLongLong updateCallback, Runnable postCallback) {
-        try {
-            if (factory != null) {
-                // RNG
-                final Random r = new Random(123L);
-
-                // Add extra builders
-                List<TableBuilder> builders = factory.getDefaultBuilders();
-                builders.add(new CsvTableBuilder());
-                builders.add(new AsciiTableBuilder());
+    private void readPosition(Object[] row, Columns c, Block block, int[] col, Positions p, int r) {
+        p.type[r] = null;
+        double a = c.pos1.getDouble(row, col);
+        final int k1 = col[0];
+        double b = c.pos2.getDouble(row, col);
+        final int k2 = col[0];
+        if (k1 < 0 || k2 < 0) {
+            return;
+        }
+        double pos3 = Double.NaN;
+        int k3 = -1;
+        if (!c.pos3.isEmpty()) {
+            pos3 = c.pos3.getDouble(row, col);
+            k3 = col[0];
+        }
+        boolean defaultParallax = false;
+        // Check missing pos3 -> Use default parallax
+        if (k3 < 0 || !Double.isFinite(pos3)) {
+            k3 = -1;
+            pos3 = DEFAULT_PARALLAX_MAS;
+            defaultParallax = true;
+            block.nInvalidParallaxes++;
+        }
+        final PositionType pt = c.positionType(k1, k2, k3);
+        if (pt == null) {
+            return;
+        }
+        // Check negative parallaxes -> Use default for consistency
+        if (pt.isParallax() && pos3 <= 0) {
+            pos3 = DEFAULT_PARALLAX_MAS;
+            defaultParallax = true;
+            block.nInvalidParallaxes++;
+        }
+        final double pos3ToMas = defaultParallax ? 1 : c.pos3ToMas[k3];
+        final double pos3ToPc = defaultParallax ? Double.NaN : c.pos3ToPc[k3];
+
+        // Equivalent to Position, without the per-row unit parsing
+        final double raRad = a * c.pos1ToRad[k1];
+        final double decRad = b * c.pos2ToRad[k2];
+        switch (pt) {
+        case EQ_XYZ, GAL_XYZ, ECL_XYZ -> {
+            p.x[r] = a * c.pos1ToPc[k1];
+            p.y[r] = b * c.pos2ToPc[k2];
+            p.z[r] = pos3 * pos3ToPc;
+        }
+        default -> {
+            double dist;
+            if (pt.isParallax()) {
+                double mas = pos3 * pos3ToMas;
+                dist = Double.isFinite(mas) && mas <= 0 ? -1 : 1000d / mas;
+            } else {
+                dist = pos3 * pos3ToPc;
+            }
+            if (dist <= 0) {
+                return;
+            }
+            // Converted in place to cartesian later
+            p.x[r] = raRad;
+            p.y[r] = decRad;
+            p.z[r] = dist;
+        }
+        }
 
-                if (preCallback != null)
-                    preCallback.run();
+        // PROPER MOTION
+        // Only supported if position is equatorial spherical coordinates (ra/dec)
+        if (c.stars && (pt == PositionType.EQ_SPH_DIST || pt == PositionType.EQ_SPH_PLX)) {
+            p.ra[r] = raRad;
+            p.dec[r] = decRad;
+            p.muAlphaStar[r] = valueOr(c.pmra.getDouble(row), 0);
+            p.muDelta[r] = valueOr(c.pmdec.getDouble(row), 0);
+            p.radVel[r] = valueOr(c.radvel.getDouble(row), 0);
+        }
+        p.type[r] = pt;
+    }
 
-                // Try to load
-                StarTable table = factory.makeStarTable(ds);
+    private void convertRow(Object[] row, Columns c, Block block, int[] col, Positions p, int r) {
+        final double distPc = p.distPc[r];
+        if (!Double.isFinite(distPc) || distPc < 0) {
+            // Next
+            return;
+        }
+        final double x = p.x[r] * Constants.PC_TO_U;
+        final double y = p.y[r] * Constants.PC_TO_U;
+        final double z = p.z[r] * Constants.PC_TO_U;
+
+        if (c.particles) {
+            final int j = block.size;
+            block.dataD[j] = new double[] { x, y, z };
+            readNames(row, c, block, j, col);
+            readExtra(row, c, block, j);
+            block.size++;
+            return;
+        }
 
-                long count = table.getRowCount();
-                initLists((int) count);
+        // PROPER MOTION, already converted
+        final double muAlphaStar = p.muAlphaStar[r], muDelta = p.muDelta[r], radVel = p.radVel[r];
+
+        // MAGNITUDE
+        double appMag = c.mag.isEmpty() ? DEFAULT_MAG : valueOr(c.mag.getDouble(row), DEFAULT_MAG);
+        // Scale magnitude if needed
+        appMag = appMag - c.magScale;
+
+        // Absolute magnitude to pseudo-size
+        final double absMag = AstroUtils.apparentToAbsoluteMagnitude(distPc, appMag);
+        final float size = (float) absoluteMagnitudeToPseudoSize(absMag);
+
+        // COLOR
+        final float color = c.col.isEmpty() ? DEFAULT_COLOR : (float) valueOr(c.col.getDouble(row), DEFAULT_COLOR);
+
+        // VARIABILITY
+        final int j = block.size;
+        if (c.hasVari) {
+            double period = c.variPeriod.getDouble(row);
+            if (!c.hasPeriod || !Double.isFinite(period)) {
+                // Skip stars without period
+                block.nNoPeriod++;
+                return;
+            }
+            if (!readLightCurve(row, c, block, j, period, distPc)) {
+                return;
+            }
+        }
 
-                UCDParser ucdParser = new UCDParser();
-                ucdParser.parse(table);
+        // EFFECTIVE TEMPERATURE
+        float tEff = Float.NaN;
+        if (!c.teff.isEmpty()) {
+            tEff = (float) c.teff.getDouble(row);
+        }
+        if (Float.isNaN(tEff)) {
+            // Convert B-V to T_eff using Ballesteros 2012
+            tEff = (float) c.bvToTEff.bvToTeff(color);
+        }
 
-                int resampledLightCurves = 0;
-                int noPeriods = 0;
+        // RGB
+        final float[] rgb = ColorUtils.BVtoRGB(color);
+        final float[] dataF = new float[ParticleRecord.STAR_SIZE_F];
+        dataF[ParticleRecord.I_FPMX] = (float) p.pmx[r];
+        dataF[ParticleRecord.I_FPMY] = (float) p.pmy[r];
+        dataF[ParticleRecord.I_FPMZ] = (float) p.pmz[r];
+        dataF[ParticleRecord.I_FMUALPHA] = (float) muAlphaStar;
+        dataF[ParticleRecord.I_FMUDELTA] = (float) muDelta;
+        dataF[ParticleRecord.I_FRADVEL] = (float) radVel;
+        dataF[ParticleRecord.I_FAPPMAG] = (float) appMag;
+        dataF[ParticleRecord.I_FABSMAG] = (float) absMag;
+        dataF[ParticleRecord.I_FCOL] = Color.toFloatBits(rgb[0], rgb[1], rgb[2], 1.0f);
+        dataF[ParticleRecord.I_FSIZE] = size;
+        dataF[ParticleRecord.I_FHIP] = -1;
+
+        block.dataD[j] = new double[] { x, y, z };
+        block.dataF[j] = dataF;
+        block.rgb[j] = rgb;
+        block.tEff[j] = tEff;
+        readNames(row, c, block, j, col);
+        if (block.hip[j] >= 0) {
+            dataF[ParticleRecord.I_FHIP] = block.hip[j];
+        }
+        readExtra(row, c, block, j);
+        block.size++;
+    }
 
-                if (ucdParser.haspos) {
-                    BVToTeff_ballesteros bvToTEff = new BVToTeff_ballesteros();
+    private static double valueOr(double value, double defaultValue) {
+        return Double.isNaN(value) ? defaultValue : value;
+    }
 
-                    int nInvalidParallaxes = 0;
-                    long i = 0L;
-                    long step = Math.max(1L, Math.round(count / 100d));
+    /**
+     * Reads, sanitizes, folds and resamples the light curve of the given row, and stores it in the block.
+     *
+     * @return False if the row has no light curve.
+     */
+    private boolean readLightCurve(Object[] row, Columns c, Block block, int j, double period, double distPc) {
+        final double[] rawMags = c.variMags.getDoubleArray(row);
+        final double[] rawTimes = c.variTimes.getDoubleArray(row);
+        if (rawMags == null || rawTimes == null) {
+            return false;
+        }
+        final LightCurveProcessor lc = LightCurveProcessor.get();
+        final int nVari = lc.process(rawMags, rawTimes, c.magScale, period, VariableSetRenderer.MAX_VARI);
+        if (nVari == 0) {
+            return false;
+        }
+        if (lc.isResampled()) {
+            block.nResampled++;
+        }
 
-                    RowSequence rs = table.getRowSequence();
-                    while (rs.next()) {
-                        Object[] row = rs.getRow();
-                        try {
-                            // POSITION
-                            Pair<UCD, Double> a = getDoubleUcd(ucdParser.POS1, row);
-                            Pair<UCD, Double> b = getDoubleUcd(ucdParser.POS2, row);
-                            Pair<UCD, Double> c;
-                            String unitC;
-
-                            Pair<UCD, Double> pos3 = getDoubleUcd(ucdParser.POS3, row);
-                            // Check missing pos3 -> Use default parallax
-                            if (ucdParser.POS3.isEmpty() || pos3 == null || pos3.getSecond() == null || !Double.isFinite(pos3.getSecond())) {
-                                c = new Pair<>(null, 0.04);
-                                unitC = "mas";
-                                nInvalidParallaxes++;
-                            } else {
-                                c = getDoubleUcd(ucdParser.POS3, row);
-                                assert c != null;
-                                unitC = c.getFirst().unit;
-                            }
+        // Convert magnitudes to sizes
+        final float[] sizes = new float[nVari];
+        for (int k = 0; k < nVari; k++) {
+            double variAbsoluteMag = AstroUtils.apparentToAbsoluteMagnitude(distPc, lc.mag(k));
+            sizes[k] = (float) absoluteMagnitudeToPseudoSize(variAbsoluteMag);
+        }
+        block.variMags[j] = sizes;
+        block.variTimes[j] = lc.copyTimes();
+        block.periods[j] = period;
+        return true;
+    }
 
-                            assert a != null;
-                            assert b != null;
-                            PositionType pt = ucdParser.getPositionType(a.getFirst(), b.getFirst(), c.getFirst());
-                            // Check negative parallaxes -> Use default for consistency
-                            if (pt.isParallax() && (c.getSecond() == null || c.getSecond().isNaN() || c.getSecond() <= 0)) {
-                                c.setSecond(0.04);
-                                unitC = "mas";
-                                nInvalidParallaxes++;
-                            }
+    /**
+     * Reads the names and the identifier of the given row. Rows whose identifier is not a HIP number get
+     * their identifier assigned in {@link #merge(Block, Columns, int[], long, long, RunnableLongLong)}.
+     */
+    private void readNames(Object[] row, Columns c, Block block, int j, int[] col) {
+        String[] names = null;
+        if (!c.name.isEmpty()) {
+            // We have a name
+            Array<String> namesArray = new Array<>(false, 2);
+            for (int k = 0; k < c.name.size(); k++) {
+                Object cell = c.name.get(row, k);
+                if (cell != null) {
+                    String[] currNames = cell.toString().strip().split(Constants.nameSeparatorRegex);
+                    for (String actualName : currNames) {
+                        if (actualName != null && !actualName.isEmpty() && !TextUtils.contains(forbiddenNameValues, actualName, true)) {
+                            namesArray.add(actualName);
+                        }
+                    }
+                }
+            }
+            if (namesArray.size > 0) {
+                names = namesArray.toArray(String.class);
+            }
+        }
+        if (!c.id.isEmpty()) {
+            String id = c.id.getString(row, col);
+            if (id != null) {
+                if (c.idIsHip[col[0]]) {
+                    int hip = Integer.parseInt(id);
+                    block.hip[j] = hip;
+                    block.ids[j] = hip;
+                }
+                if (c.name.isEmpty()) {
+                    names = new String[] { id };
+                }
+            }
+        }
+        // Null names are replaced with the identifier in the merge
+        block.names[j] = names;
+    }
 
-                            Position p = new Position(a.getSecond(), a.getFirst().unit, b.getSecond(), b.getFirst().unit, c.getSecond(), unitC, pt);
+    private void readExtra(Object[] row, Columns c, Block block, int j) {
+        final int nExtra = c.extra.length;
+        for (int e = 0; e < nExtra; e++) {
+            Object cell = row[c.extra[e].index];
+            double val = Double.NaN;
+            if (cell instanceof Number) {
+                val = ((Number) cell).doubleValue();
+            } else if (cell instanceof String || cell instanceof Character) {
+                // Resolved in the merge, indices depend on the row order
+                block.extraString(j * nExtra + e, cell.toString());
+            }
+            block.extra[j * nExtra + e] = val;
+        }
+    }
 
-                            double distPc = p.realPosition.len();
-                            if ((pt.isParallax() && c.getSecond() <= 0) || !Double.isFinite(distPc) || distPc < 0) {
-                                // Next
-                                break;
-                            }
+    /**
+     * Merges a converted block into the list. Runs in the loading thread, in row order.
+     *
+     * @return The number of rows loaded so far.
+     */
+    private long merge(Block block, Columns c, int[] totals, long loaded, long count, RunnableLongLong updateCallback) {
+        final int nExtra = c.extra.length;
+        for (int j = 0; j < block.size; j++) {
+            long id = block.ids[j];
+            if (id < 0) {
+                id = ++starId;
+            }
+            final String[] names = block.names[j] != null ? block.names[j] : new String[] { Long.toString(id) };
+
+            // Extra
+            ObjectDoubleMap<UCD> extraAttributes = null;
+            if (nExtra > 0) {
+                extraAttributes = new ObjectDoubleMap<>((int) (nExtra * 1.25f), 0.8f);
+                for (int e = 0; e < nExtra; e++) {
+                    int idx = j * nExtra + e;
+                    String str = block.extraStrings != null ? block.extraStrings[idx] : null;
+                    extraAttributes.put(c.extra[e], str != null ? getStringAttributeValue(c.extra[e], str) : block.extra[idx]);
+                }
+            }
 
-                            p.realPosition.scl(Constants.PC_TO_U);
-                            // Find out RA/DEC/Dist
-                            Vector3d sph = new Vector3d();
-                            Coordinates.cartesianToSpherical(p.realPosition, sph);
-
-                            // PROPER MOTION
-                            Vector3d pm;
-                            double muAlphaStar = 0, muDelta = 0, radVel = 0;
-                            // Only supported if position is equatorial spherical coordinates (ra/dec)
-                            if (pt == PositionType.EQ_SPH_DIST || pt == PositionType.EQ_SPH_PLX) {
-                                Pair<UCD, Double> pma = getDoubleUcd(ucdParser.PMRA, row);
-                                Pair<UCD, Double> pmb = getDoubleUcd(ucdParser.PMDEC, row);
-                                Pair<UCD, Double> pmc = getDoubleUcd(ucdParser.RADVEL, row);
-
-                                muAlphaStar = pma != null ? pma.getSecond() : 0;
-                                muDelta = pmb != null ? pmb.getSecond() : 0;
-                                radVel = pmc != null ? pmc.getSecond() : 0;
-
-                                double raRad = new Angle(a.getSecond(), a.getFirst().unit).get(AngleUnit.RAD);
-                                double decRad = new Angle(b.getSecond(), b.getFirst().unit).get(AngleUnit.RAD);
-                                pm = AstroUtils.properMotionsToCartesian(muAlphaStar, muDelta, radVel, raRad, decRad, distPc, new Vector3d());
-                            } else {
-                                pm = new Vector3d(Vector3d.Zero);
-                            }
+            if (c.stars) {
+                colors.put(id, block.rgb[j]);
+                if (extraAttributes == null)
+                    extraAttributes = new ObjectDoubleMap<>(5);
+                extraAttributes.put(c.tEffUCD, block.tEff[j]);
+
+                final float[] dataF = block.dataF[j];
+                final IParticleRecord sb;
+                if (c.variables || block.variMags[j] != null) {
+                    int nVari = block.variMags[j] != null ? block.variMags[j].length : 0;
+                    sb = new VariableRecord(block.dataD[j], dataF, nVari, block.periods[j], block.variMags[j], block.variTimes[j], id, names, extraAttributes);
+                } else {
+                    sb = new ParticleRecord(block.dataD[j], dataF, id, names, extraAttributes);
+                }
+                list.add(sb);
 
-                            // MAGNITUDE
-                            double appMag;
-                            if (!ucdParser.MAG.isEmpty()) {
-                                Pair<UCD, Double> appMagPair = getDoubleUcd(ucdParser.MAG, row);
-                                if (appMagPair == null) {
-                                    // Default magnitude
-                                    appMag = 15;
-                                } else {
-                                    appMag = appMagPair.getSecond();
-                                }
-                            } else {
-                                // Default magnitude
-                                appMag = 15;
-                            }
-                            // Scale magnitude if needed
-                            double magScl = (datasetOptions != null && datasetOptions.type == DatasetOptions.DatasetLoadType.STARS || (datasetOptions != null && datasetOptions.type == DatasetLoadType.VARIABLES)) ? datasetOptions.magnitudeScale : 0f;
-                            appMag = appMag - magScl;
-
-                            // Absolute magnitude to pseudo-size
-                            final double absMag = AstroUtils.apparentToAbsoluteMagnitude(distPc, appMag);
-                            final float size = (float) absoluteMagnitudeToPseudoSize(absMag);
-
-                            // COLOR
-                            float color;
-                            if (!ucdParser.COL.isEmpty()) {
-                                Pair<UCD, Double> colPair = getDoubleUcd(ucdParser.COL, row);
-                                if (colPair == null) {
-                                    color = 0.656f;
-                                } else {
-                                    color = colPair.getSecond().floatValue();
-                                }
-                            } else {
-                                // Default color
-                                color = 0.656f;
-                            }
+                int appMagClamp = (int) MathUtilsDouble.clamp(dataF[ParticleRecord.I_FAPPMAG], 0, 21);
+                countsPerMag[appMagClamp] += 1;
+            } else {
+                list.add(new ParticleRecord(block.dataD[j], null, null, names, extraAttributes));
+            }
+        }
+        totals[0] += block.nInvalidParallaxes;
+        totals[1] += block.nResampled;
+        totals[2] += block.nNoPeriod;
 
-                            // VARIABILITY
-                            float[] variMags = null;
-                            double[] variTimes = null;
-                            double pf = 0;
-                            int nVari = 0;
-
-                            if (ucdParser.hasvari) {
-                                Pair<UCD, Double> period = getDoubleUcd(ucdParser.VARI_PERIOD, row);
-                                if (!ucdParser.hasperiod || period == null || !Double.isFinite(period.getSecond())) {
-                                    // Skip stars without period
-                                    noPeriods++;
-                                    continue;
-                                } else {
-                                    pf = period.getSecond();
-                                }
-                                Pair<UCD, double[]> variMagsPair = getDoubleArrayUcd(ucdParser.VARI_MAGS, row);
-                                assert variMagsPair != null;
-                                double[] variMagsDouble = variMagsPair.getSecond();
-                                nVari = variMagsDouble.length;
-                                variMags = new float[nVari];
-
-                                Pair<UCD, double[]> variTimesPair = getDoubleArrayUcd(ucdParser.VARI_TIMES, row);
-                                assert variTimesPair != null;
-                                variTimes = variTimesPair.getSecond();
-
-                                double[] auxMags = variMagsDouble;
-                                double[] auxTimes = variTimes;
-
-                                // SANITIZE (no NaNs)
-                                List<Double> magnitudesList = new ArrayList<>();
-                                List<Double> timesList = new ArrayList<>();
-                                int idx = 0;
-                                for (double mag : auxMags) {
-                                    if (Double.isFinite(mag)) {
-                                        magnitudesList.add(mag - magScl);
-                                        timesList.add(auxTimes[idx]);
-                                    }
-                                    idx++;
-                                }
-                                variMagsDouble = magnitudesList.stream().mapToDouble(Double::doubleValue).toArray();
-                                variTimes = timesList.stream().mapToDouble(Double::doubleValue).toArray();
-                                nVari = variMagsDouble.length;
-
-                                // FOLD
-                                List<Vector2d> list = new ArrayList<>(nVari);
-                                for (int k = 0; k < nVari; k++) {
-                                    double phase = ((variTimes[k] - variTimes[0]) % pf);
-                                    list.add(new Vector2d(phase, variMagsDouble[k]));
-                                }
-                                list.sort(Comparator.comparingDouble(o -> o.x));
+        loaded += block.rows;
+        if (updateCallback != null) {
+            updateCallback.run(loaded, count);
+        }
+        publish(false);
+        return loaded;
+    }
 
-                                for (int k = 0; k < nVari; k++) {
-                                    Vector2d point = list.get(k);
-                                    variTimes[k] = point.x + variTimes[0];
-                                    variMagsDouble[k] = point.y;
-                                }
+    /**
+     * Passes the records loaded since the last call to the chunk consumer, if any, when there are enough of them.
+     *
+     * @param last Whether the table has been read completely, in which case all pending records are passed.
+     */
+    private void publish(boolean last) {
+        if (chunkConsumer != null) {
+            final int size = list.size();
+            final int pending = size - published;
+            if (pending > 0 && (last || pending >= Math.max(MIN_CHUNK_SIZE, published / 2))) {
+                chunkConsumer.accept(new ArrayList<>(list.subList(published, size)));
+                published = size;
+            }
+        }
+    }
 
-                                // RESAMPLE (only if too many samples)
-                                final int MAX_VARI = VariableSetRenderer.MAX_VARI;
-                                if (variMagsDouble.length > MAX_VARI) {
-                                    nVari = MAX_VARI;
-                                    double t0 = variTimes[0];
-                                    double tn = variTimes[variTimes.length - 1];
-                                    double tStep = (tn - t0) / (nVari - 1);
-
-                                    UnivariateInterpolator interp = new LinearInterpolator();
-                                    UnivariateFunction f = interp.interpolate(variTimes, variMagsDouble);
-
-                                    variMagsDouble = new double[nVari];
-                                    variTimes = new double[nVari];
-
-                                    for (idx = 0; idx < nVari; idx++) {
-                                        double t = t0 + tStep * idx;
-                                        variTimes[idx] = t;
-                                        variMagsDouble[idx] = f.value(t);
-                                    }
-                                    resampledLightCurves++;
-                                }
+    /**
+     * The columns of a table resolved to typed accessors, with their unit conversion factors, computed once per table.
+     */
+    private class Columns {
+        final UCDAccessor pos1, pos2, pos3, pmra, pmdec, radvel, mag, col, teff, id, name, variMags, variTimes, variPeriod;
+        final UCD[] extra;
+        final boolean[] idIsHip;
+        /** Conversion factors of the position columns. NaN if the unit is not valid for the conversion. **/
+        final double[] pos1ToRad, pos2ToRad, pos1ToPc, pos2ToPc, pos3ToMas, pos3ToPc;
+        /** Position type of every combination of position columns, indexed by [pos1][pos2][pos3 + 1]. **/
+        final PositionType[][][] positionTypes;
+        final UCD tEffUCD;
+        final BVToTeff_ballesteros bvToTEff = new BVToTeff_ballesteros();
+        final boolean stars, particles, variables, hasVari, hasPeriod;
+        final double magScale;
+
+        Columns(UCDParser ucdParser) {
+            pos1 = new UCDAccessor(ucdParser.POS1);
+            pos2 = new UCDAccessor(ucdParser.POS2);
+            pos3 = new UCDAccessor(ucdParser.POS3);
+            pmra = new UCDAccessor(ucdParser.PMRA);
+            pmdec = new UCDAccessor(ucdParser.PMDEC);
+            radvel = new UCDAccessor(ucdParser.RADVEL);
+            mag = new UCDAccessor(ucdParser.MAG);
+            col = new UCDAccessor(ucdParser.COL);
+            teff = new UCDAccessor(ucdParser.TEFF);
+            id = new UCDAccessor(ucdParser.ID);
+            name = new UCDAccessor(ucdParser.NAME);
+            variMags = new UCDAccessor(ucdParser.VARI_MAGS);
+            variTimes = new UCDAccessor(ucdParser.VARI_TIMES);
+            variPeriod = new UCDAccessor(ucdParser.VARI_PERIOD);
+            extra = ucdParser.extra.toArray(UCD.class);
+
+            idIsHip = new boolean[id.size()];
+            for (int k = 0; k < id.size(); k++) {
+                idIsHip[k] = id.ucds[k].colname.equalsIgnoreCase("hip");
+            }
 
-                                // Convert magnitudes to sizes
-                                assert variMags.length == variTimes.length;
-                                for (int j = 0; j < variMagsDouble.length; j++) {
-                                    double variAbsoluteMag = AstroUtils.apparentToAbsoluteMagnitude(distPc, variMagsDouble[j]);
-                                    variMags[j] = (float) absoluteMagnitudeToPseudoSize(variAbsoluteMag);
-                                }
-                            }
+            pos1ToRad = new double[pos1.size()];
+            pos1ToPc = new double[pos1.size()];
+            for (int k = 0; k < pos1.size(); k++) {
+                pos1ToRad[k] = angleFactor(pos1.ucds[k].unit, AngleUnit.RAD);
+                pos1ToPc[k] = lengthFactor(pos1.ucds[k].unit);
+            }
+            pos2ToRad = new double[pos2.size()];
+            pos2ToPc = new double[pos2.size()];
+            for (int k = 0; k < pos2.size(); k++) {
+                pos2ToRad[k] = angleFactor(pos2.ucds[k].unit, AngleUnit.RAD);
+                pos2ToPc[k] = lengthFactor(pos2.ucds[k].unit);
+            }
+            pos3ToMas = new double[pos3.size()];
+            pos3ToPc = new double[pos3.size()];
+            for (int k = 0; k < pos3.size(); k++) {
+                pos3ToMas[k] = angleFactor(pos3.ucds[k].unit, AngleUnit.MAS);
+                pos3ToPc[k] = lengthFactor(pos3.ucds[k].unit);
+            }
 
-                            // EFFECTIVE TEMPERATURE
-                            float tEff;
-                            if (!ucdParser.TEFF.isEmpty()) {
-                                Pair<UCD, Double> tEffPair = getDoubleUcd(ucdParser.TEFF, row);
-                                assert tEffPair != null;
-                                tEff = tEffPair.getSecond().floatValue();
-                            } else {
-                                // Convert B-V to T_eff using Ballesteros 2012
-                                tEff = (float) bvToTEff.bvToTeff(color);
-                            }
+            positionTypes = new PositionType[pos1.size()][pos2.size()][pos3.size() + 1];
+            for (int k1 = 0; k1 < pos1.size(); k1++) {
+                for (int k2 = 0; k2 < pos2.size(); k2++) {
+                    for (int k3 = -1; k3 < pos3.size(); k3++) {
+                        try {
+                            positionTypes[k1][k2][k3 + 1] = ucdParser.getPositionType(pos1.ucds[k1], pos2.ucds[k2], k3 >= 0 ? pos3.ucds[k3] : null);
+                        } catch (Exception e) {
+                            positionTypes[k1][k2][k3 + 1] = null;
+                        }
+                    }
+                }
+            }
 
-                            // RGB
-                            float[] rgb = ColorUtils.BVtoRGB(color);
-                            //float[] rgb = ColorUtils.teffToRGB_harre(teff);
-
-                            float col = Color.toFloatBits(rgb[0], rgb[1], rgb[2], 1.0f);
-
-                            // IDENTIFIER AND NAME
-                            String[] names;
-                            long id = -1L;
-                            int hip = -1;
-                            if (ucdParser.NAME.isEmpty()) {
-                                // Empty name
-                                if (!ucdParser.ID.isEmpty()) {
-                                    // We have ID
-                                    Pair<UCD, String> namePair = getStringUcd(ucdParser.ID, row);
-                                    assert namePair != null;
-                                    names = new String[] { namePair.getSecond() };
-                                    if (namePair.getFirst().colname.equalsIgnoreCase("hip")) {
-                                        hip = Integer.parseInt(namePair.getSecond());
-                                        id = hip;
-                                    } else {
-                                        id = ++starId;
-                                    }
-                                } else {
-                                    // Empty ID
-                                    id = ++starId;
-                                    names = new String[] { Long.toString(id) };
-                                }
-                            } else {
-                                // We have a name
-                                Pair<UCD, String>[] namePairs = getAllStringsUcd(ucdParser.NAME, row);
-                                Array<String> namesArray = new Array<>(false, namePairs.length);
-                                for (Pair<UCD, String> pair : namePairs) {
-                                    String[] currNames = pair.getSecond().split(Constants.nameSeparatorRegex);
-                                    for (String actualName : currNames) {
-                                        if (actualName != null && !actualName.isEmpty() && !TextUtils.contains(forbiddenNameValues, actualName, true)) {
-                                            namesArray.add(actualName);
-                                        }
-                                    }
-                                }
-                                names = new String[namesArray.size];
-                                int k = 0;
-                                for (String n : namesArray) {
-                                    names[k++] = n;
-                                }
-                                if (names.length == 0) {
-                                    names = new String[] { Long.toString(id) };
-                                }
+            tEffUCD = ucdParser.TEFF.isEmpty() ? new UCD("phys.temperature.effective", "teff", "K", -1) : ucdParser.TEFF.first();
+            stars = datasetOptions == null || datasetOptions.type == DatasetLoadType.STARS || datasetOptions.type == DatasetLoadType.VARIABLES;
+            particles = !stars && datasetOptions.type == DatasetLoadType.PARTICLES;
+            variables = datasetOptions != null && datasetOptions.type == DatasetLoadType.VARIABLES;
+            hasVari = ucdParser.hasvari;
+            hasPeriod = ucdParser.hasperiod;
+            magScale = stars && datasetOptions != null ? datasetOptions.magnitudeScale : 0;
+        }
 
-                                // Take care of HIP stars
-                                if (!ucdParser.ID.isEmpty()) {
-                                    Pair<UCD, String> idPair = getStringUcd(ucdParser.ID, row);
-                                    assert idPair != null;
-                                    if (idPair.getFirst().colname.equalsIgnoreCase("hip")) {
-                                        hip = Integer.parseInt(idPair.getSecond());
-                                        id = hip;
-                                    } else {
-                                        id = ++starId;
-                                    }
-                                } else {
-                                    id = ++starId;
-                                }
-                            }
+        PositionType positionType(int k1, int k2, int k3) {
+            return positionTypes[k1][k2][k3 + 1];
+        }
 
-                            // Populate provider lists
-                            colors.put(id, rgb);
-                            sphericalPositions.put(id, new double[] { sph.x, sph.y, sph.z });
-
-                            if (datasetOptions == null || datasetOptions.type == DatasetOptions.DatasetLoadType.STARS || datasetOptions.type == DatasetOptions.DatasetLoadType.VARIABLES) {
-                                double[] dataD = new double[ParticleRecord.STAR_SIZE_D];
-                                float[] dataF = new float[ParticleRecord.STAR_SIZE_F];
-                                dataD[ParticleRecord.I_X] = p.realPosition.x;
-                                dataD[ParticleRecord.I_Y] = p.realPosition.y;
-                                dataD[ParticleRecord.I_Z] = p.realPosition.z;
-
-                                dataF[ParticleRecord.I_FPMX] = (float) pm.x;
-                                dataF[ParticleRecord.I_FPMY] = (float) pm.y;
-                                dataF[ParticleRecord.I_FPMZ] = (float) pm.z;
-                                dataF[ParticleRecord.I_FMUALPHA] = (float) muAlphaStar;
-                                dataF[ParticleRecord.I_FMUDELTA] = (float) muDelta;
-                                dataF[ParticleRecord.I_FRADVEL] = (float) radVel;
-                                dataF[ParticleRecord.I_FAPPMAG] = (float) appMag;
-                                dataF[ParticleRecord.I_FABSMAG] = (float) absMag;
-                                dataF[ParticleRecord.I_FCOL] = col;
-                                dataF[ParticleRecord.I_FSIZE] = size;
-                                dataF[ParticleRecord.I_FHIP] = hip;
-
-                                // Extra
-                                ObjectDoubleMap<UCD> extraAttributes = addExtraAttributes(ucdParser, row);
-                                if (ucdParser.TEFF.isEmpty()) {
-                                    UCD tEffUCD = new UCD("phys.temperature.effective", "teff", "K", -1);
-                                    extraAttributes = initExtraAttributes(extraAttributes);
-                                    extraAttributes.put(tEffUCD, tEff);
-                                } else {
-                                    extraAttributes = initExtraAttributes(extraAttributes);
-                                    extraAttributes.put(ucdParser.TEFF.first(), tEff);
-                                }
-                                final IParticleRecord sb;
-                                if (datasetOptions != null && datasetOptions.type == DatasetLoadType.VARIABLES || variMags != null) {
-                                    sb = new VariableRecord(dataD, dataF, nVari, pf, variMags, variTimes, id, names, extraAttributes);
-                                } else {
-                                    sb = new ParticleRecord(dataD, dataF, id, names, extraAttributes);
-                                }
+        private double angleFactor(String unit, AngleUnit to) {
+            try {
+                return new Angle(1, unit).get(to);
+            } catch (Exception e) {
+                return Double.NaN;
+            }
+        }
 
-                                list.add(sb);
+        private double lengthFactor(String unit) {
+            try {
+                return new Length(1, unit).get(LengthUnit.PC);
+            } catch (Exception e) {
+                return Double.NaN;
+            }
+        }
+    }
 
-                                int appMagClamp = (int) MathUtilsDouble.clamp(appMag, 0, 21);
-                                countsPerMag[appMagClamp] += 1;
-                            } else if (datasetOptions.type == DatasetOptions.DatasetLoadType.PARTICLES) {
-                                double[] point = new double[3];
-                                point[ParticleRecord.I_X] = p.realPosition.x;
-                                point[ParticleRecord.I_Y] = p.realPosition.y;
-                                point[ParticleRecord.I_Z] = p.realPosition.z;
+    /**
+     * A block of converted rows. Only rows that produce a record are stored, compacted at the start of the arrays.
+     */
+    private static class Block {
+        /** Number of rows read into this block. **/
+        final int rows;
+        /** Number of records in this block. **/
+        int size = 0;
+        final double[][] dataD;
+        final float[][] dataF;
+        final float[][] rgb;
+        final float[] tEff;
+        /** Identifiers, or -1 if a new one must be assigned. **/
+        final long[] ids;
+        final int[] hip;
+        /** Names, or null if the name is the identifier. **/
+        final String[][] names;
+        final float[][] variMags;
+        final double[][] variTimes;
+        final double[] periods;
+        /** Extra attribute values, row-major. **/
+        final double[] extra;
+        /** String extra attribute values, row-major, created on demand. **/
+        String[] extraStrings;
+        int nInvalidParallaxes, nResampled, nNoPeriod;
+
+        Block(int rows, int nExtra) {
+            this.rows = rows;
+            dataD = new double[rows][];
+            dataF = new float[rows][];
+            rgb = new float[rows][];
+            tEff = new float[rows];
+            ids = new long[rows];
+            Arrays.fill(ids, -1L);
+            hip = new int[rows];
+            Arrays.fill(hip, -1);
+            names = new String[rows][];
+            variMags = new float[rows][];
+            variTimes = new double[rows][];
+            periods = new double[rows];
+            extra = new double[rows * nExtra];
+        }
 
-                                // Extra
-                                ObjectDoubleMap<UCD> extraAttributes = addExtraAttributes(ucdParser, row);
+        void extraString(int idx, String value) {
+            if (extraStrings == null) {
+                extraStrings = new String[extra.length];
+            }
+            extraStrings[idx] = value;
+        }
+    }
 
-                                IParticleRecord pb = new ParticleRecord(point, null, null, names, extraAttributes);
-                                list.add(pb);
-                            }
+    /**
+     * Positions and proper motions of the rows of a block, in columns, so that they are converted with the batched
+     * operations of {@link Coordinates}, {@link gaiasky.util.math.Matrix4d} and {@link AstroUtils}. Rows are indexed
+     * by their index in the block.
+     */
+    private static class Positions {
+        /** Position type of each row, or null if the row has no valid position. **/
+        final PositionType[] type;
+        /** Position in parsecs. Holds longitude, latitude and distance for spherical types until converted. **/
+        final double[] x, y, z;
+        final double[] distPc;
+        /** Proper motion inputs, only for equatorial spherical positions of stars. **/
+        final double[] ra, dec, muAlphaStar, muDelta, radVel;
+        /** Proper motion vectors, in internal units per year. **/
+        final double[] pmx, pmy, pmz;
+
+        Positions(int rows) {
+            type = new PositionType[rows];
+            x = new double[rows];
+            y = new double[rows];
+            z = new double[rows];
+            distPc = new double[rows];
+            ra = new double[rows];
+            dec = new double[rows];
+            muAlphaStar = new double[rows];
+            muDelta = new double[rows];
+            radVel = new double[rows];
+            pmx = new double[rows];
+            pmy = new double[rows];
+            pmz = new double[rows];
+        }
 
-                        } catch (Exception e) {
-                            logger.debug(e);
-                            logger.debug("Exception parsing row " + i + ": skipping");
-                        }
-                        i++;
-                        if (updateCallback != null && i % step == 0) {
-                            updateCallback.run(i, count);
-                        }
-                    }
-                    if (nInvalidParallaxes > 0) {
-                        logger.warn("Found " + nInvalidParallaxes + " rows with nonexistent or negative parallax. Using the default 0.04 mas for them.");
-                    }
-                    if (resampledLightCurves > 0) {
-                        logger.warn(resampledLightCurves + " light curves resampled to fit in default array size (=" + VariableSetRenderer.MAX_VARI + ")");
-                    }
-                    if (noPeriods > 0) {
-                        logger.warn("Skipped " + noPeriods + " variable stars without a period");
-                    }
-                } else {
-                    logger.error("Table not loaded: Position not found");
+        /**
+         * Converts the positions of the first n rows to equatorial cartesian coordinates, computes their distances, and
+         * converts the proper motions if needed. Each run of consecutive rows with the same position type is converted
+         * in one batch.
+         */
+        void convert(int n, boolean properMotions) {
+            int from = 0;
+            while (from < n) {
+                final PositionType pt = type[from];
+                int to = from + 1;
+                while (to < n && type[to] == pt) {
+                    to++;
+                }
+                if (pt != null) {
+                    convert(pt, from, to, properMotions);
                 }
+                from = to;
             }
-        } catch (Exception e) {
-            logger.error(e);
-        } finally {
-            if (postCallback != null)
-                postCallback.run();
         }
 
-        return list;
+        private void convert(PositionType pt, int from, int to, boolean properMotions) {
+            switch (pt) {
+            case EQ_XYZ, GAL_XYZ, ECL_XYZ -> {
+            }
+            default -> Coordinates.sphericalToCartesian(x, y, z, x, y, z, from, to);
+            }
+            switch (pt) {
+            case GAL_SPH_DIST, GAL_SPH_PLX, GAL_XYZ -> Coordinates.galToEq().transform(x, y, z, from, to);
+            case ECL_SPH_DIST, ECL_SPH_PLX, ECL_XYZ -> Coordinates.eclToEq().transform(x, y, z, from, to);
+            }
+            for (int i = from; i < to; i++) {
+                distPc[i] = FastMath.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i]);
+            }
+            if (properMotions && (pt == PositionType.EQ_SPH_DIST || pt == PositionType.EQ_SPH_PLX)) {
+                AstroUtils.properMotionsToCartesian(muAlphaStar, muDelta, radVel, ra, dec, distPc, pmx, pmy, pmz, from, to);
+            }
+        }
     }
 
     private void exportCsv(double[] x, double[] y, int n, Path p, String... cols) {
@@ -619,35 +900,6 @@ public class STILDataProvider extends AbstractStarGroupDataProvider {
 
     }
 
-    private ObjectDoubleMap<UCD> initExtraAttributes(ObjectDoubleMap<UCD> extra) {
-        if (extra == null)
-            extra = new ObjectDoubleMap<>(5);
-        return extra;
-    }
-
-    private ObjectDoubleMap<UCD> addExtraAttributes(UCDParser ucdp, Object[] row) {
-        // Extra
-        ObjectDoubleMap<UCD> extraAttributes = null;
-        for (UCD extra : ucdp.extra) {
-            double val = Double.NaN;
-            try {
-                val = ((Number) row[extra.index]).doubleValue();
-            } catch (Exception e) {
-                Object o = row[extra.index];
-                if (o instanceof Character) {
-                    Character c = (Character) o;
-                    val = getStringAttributeValue(extra, c.toString());
-                } else if (o instanceof String) {
-                    val = getStringAttributeValue(extra, o);
-                }
-            }
-            if (extraAttributes == null)
-                extraAttributes = new ObjectDoubleMap<>((int) (ucdp.extra.size * 1.25f), 0.8f);
-            extraAttributes.put(extra, val);
-        }
-        return extraAttributes;
-    }
-
     private double getStringAttributeValue(UCD extra, Object o) {
         double val;
         String value = (String) o;
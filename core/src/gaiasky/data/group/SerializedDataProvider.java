@@ -10,11 +10,22 @@ import gaiasky.scene.api.IParticleRecord;
 import gaiasky.util.Settings;
 import gaiasky.util.i18n.I18n;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
 import java.io.InputStream;
-import java.io.ObjectInputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
 import java.util.List;
 
+/**
+ * Loads particle lists stored in the columnar container of {@link ColumnarParticleIO}, which keeps names and extra
+ * attributes. Java serialization is not read anymore, as deserialization is slow, depends on the layout of the classes
+ * and can run arbitrary code. No catalog can have been written with it, since the particle records are not
+ * serializable.
+ */
 public class SerializedDataProvider extends AbstractStarGroupDataProvider {
+    /** First bytes of a Java serialization stream. **/
+    private static final int JAVA_SERIALIZATION_MAGIC = 0xACED0005;
 
     public SerializedDataProvider() {
         super();
@@ -31,16 +42,16 @@ public class SerializedDataProvider extends AbstractStarGroupDataProvider {
     }
 
     public List<IParticleRecord> loadData(InputStream is, double factor) {
-        try {
-            ObjectInputStream ois = new ObjectInputStream(is);
-            @SuppressWarnings("unchecked")
-            List<IParticleRecord> l = (List<IParticleRecord>) ois.readObject(); // cast is needed.
-            ois.close();
-
-            // Convert to Array, reconstruct index
-            int n = l.size();
-            initLists(n);
-
+        try (BufferedInputStream in = new BufferedInputStream(is)) {
+            in.mark(Integer.BYTES);
+            int header = new DataInputStream(in).readInt();
+            in.reset();
+            if (!ColumnarParticleIO.isColumnar(header)) {
+                logFormatError(header);
+                return null;
+            }
+            List<IParticleRecord> l = ColumnarParticleIO.read(in, colors);
+            initLists(l.size());
             list.addAll(l);
 
             return list;
@@ -52,7 +63,24 @@ public class SerializedDataProvider extends AbstractStarGroupDataProvider {
 
     @Override
     public List<IParticleRecord> loadDataMapped(String file, double factor) {
+        try (RandomAccessFile raf = new RandomAccessFile(Settings.settings.data.dataFile(file), "r"); FileChannel fc = raf.getChannel()) {
+            List<IParticleRecord> l = ColumnarParticleIO.read(fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size()), colors);
+            initLists(l.size());
+            list.addAll(l);
+
+            return list;
+        } catch (Exception e) {
+            logger.error(e);
+        }
         return null;
     }
 
+    private void logFormatError(int header) {
+        if (header == JAVA_SERIALIZATION_MAGIC) {
+            logger.error("Java serialized catalogs are not supported, write the catalog in the columnar format instead");
+        } else {
+            logger.error("Unknown catalog format");
+        }
+    }
+
 }
@@ -7,16 +7,39 @@ package gaiasky.data.orbit;
 
 import gaiasky.data.util.PointCloudData;
 import gaiasky.util.Constants;
-import gaiasky.util.math.Matrix4d;
-import gaiasky.util.math.Vector3d;
+import gaiasky.util.Logger;
+import gaiasky.util.Logger.Log;
+import gaiasky.util.SysUtils;
 import gaiasky.util.parse.Parser;
 
-import java.io.BufferedReader;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.UUID;
 
+/**
+ * Loads orbit files, with one sample per line: a time stamp of the form <code>yyyy-MM-dd_HH:mm:ss[.f]</code>, in
+ * the default time zone, and the X, Y and Z coordinates in km. Lines are tokenized in their byte form, and the samples
+ * are collected in primitive arrays.
+ * <p>
+ * When loading from a file, the samples are cached in a binary file in the <code>orbits</code> directory of the cache
+ * directory, which is memory-mapped in subsequent loads. Cache files are invalidated when the size or the modification
+ * time of the orbit file change.
+ */
 public class FileDataLoader {
+    private static final Log logger = Logger.getLogger(FileDataLoader.class);
+
+    private static final int MAGIC = 0x67734F62;
+    private static final int VERSION = 1;
+    /** Separators after each field of a time stamp. **/
+    private static final byte[] TIME_SEPARATORS = { '-', '-', '_', ':', ':' };
 
     public FileDataLoader() {
         super();
@@ -26,44 +49,217 @@ public class FileDataLoader {
      * Loads the data in the input stream into an OrbitData object.
      */
     public PointCloudData load(InputStream data) throws Exception {
-        PointCloudData orbitData = new PointCloudData();
-
-        BufferedReader br = new BufferedReader(new InputStreamReader(data));
-        String line;
-
-        Timestamp last = new Timestamp(0);
-        while ((line = br.readLine()) != null) {
-            line = line.trim();
-            if (!line.isBlank() && !line.startsWith("#")) {
-                // Read line
-                String[] tokens = line.split("\\s+");
-                if (tokens.length >= 4) {
-                    // Valid data line
-                    Timestamp t = Timestamp.valueOf(tokens[0].trim().replace('_', ' '));
-                    Matrix4d transform = new Matrix4d();
-                    transform.scl(Constants.KM_TO_U);
-                    if (!t.equals(last)) {
-                        orbitData.time.add(t.toInstant());
-
-                        /* From Data coordinates to OpenGL world coordinates
-                         * Z -> -X
-                         * X -> Y
-                         * Y -> Z
-                         */
-                        Vector3d pos = new Vector3d(parsed(tokens[1]), parsed(tokens[2]), parsed(tokens[3]));
-                        pos.mul(transform);
-                        orbitData.x.add(pos.x);
-                        orbitData.y.add(pos.y);
-                        orbitData.z.add(pos.z);
-                        last.setTime(t.getTime());
+        try (data) {
+            return parse(data.readAllBytes()).toPointCloudData();
+        }
+    }
+
+    /**
+     * Loads the given orbit file into an OrbitData object, using the binary cache if it is up-to-date.
+     */
+    public PointCloudData load(Path file) throws Exception {
+        final Path cacheFile = cacheFile(file);
+        final long size = Files.size(file);
+        final long lastModified = Files.getLastModifiedTime(file).toMillis();
+        final String zone = ZoneId.systemDefault().getId();
+
+        Samples samples = readCache(cacheFile, size, lastModified, zone);
+        if (samples == null) {
+            samples = parse(Files.readAllBytes(file));
+            writeCache(cacheFile, samples, size, lastModified, zone);
+        }
+        return samples.toPointCloudData();
+    }
+
+    /**
+     * Parses the lines of an orbit file.
+     *
+     * @param bytes The contents of the file.
+     *
+     * @return The samples.
+     */
+    protected Samples parse(byte[] bytes) {
+        final Samples samples = new Samples(Math.max(16, bytes.length / 64));
+        final int[] tokenStart = new int[4];
+        final int[] tokenEnd = new int[4];
+        final int len = bytes.length;
+        long last = Long.MIN_VALUE;
+
+        int pos = 0;
+        while (pos < len) {
+            // Tokenize the line, we only need the first four tokens
+            int tokens = 0;
+            boolean comment = false;
+            while (pos < len && bytes[pos] != '\n') {
+                byte b = bytes[pos];
+                if (isWhitespace(b)) {
+                    pos++;
+                } else if (tokens == 0 && b == '#') {
+                    comment = true;
+                    break;
+                } else {
+                    int start = pos;
+                    while (pos < len && !isWhitespace(bytes[pos]) && bytes[pos] != '\n') {
+                        pos++;
                     }
+                    if (tokens < 4) {
+                        tokenStart[tokens] = start;
+                        tokenEnd[tokens] = pos;
+                    }
+                    tokens++;
                 }
             }
+            if (comment) {
+                while (pos < len && bytes[pos] != '\n') {
+                    pos++;
+                }
+            }
+            pos++;
+
+            if (tokens >= 4) {
+                // Valid data line
+                long t = parseTime(bytes, tokenStart[0], tokenEnd[0]);
+                if (t != last) {
+                    samples.add(t, parseDouble(bytes, tokenStart[1], tokenEnd[1]) * Constants.KM_TO_U, parseDouble(bytes, tokenStart[2], tokenEnd[2]) * Constants.KM_TO_U, parseDouble(bytes, tokenStart[3], tokenEnd[3]) * Constants.KM_TO_U);
+                    last = t;
+                }
+            }
+        }
+        return samples;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\f' || b == 0x0B;
+    }
+
+    private static double parseDouble(byte[] bytes, int from, int to) {
+        try {
+            return Parser.parseDouble(bytes, from, to);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Parses a time stamp of the form <code>yyyy-MM-dd_HH:mm:ss[.f]</code> in the default time zone, with the same result
+     * as {@link Timestamp#valueOf(String)}, but without creating intermediate strings. Anything else is passed on to
+     * {@link Timestamp#valueOf(String)}.
+     *
+     * @return The time, in milliseconds since the epoch.
+     */
+    @SuppressWarnings("deprecation")
+    private static long parseTime(byte[] bytes, int from, int to) {
+        final int[] fields = new int[6];
+        int pos = from;
+        for (int f = 0; f < 6; f++) {
+            int value = 0, digits = 0;
+            while (pos < to && bytes[pos] >= '0' && bytes[pos] <= '9' && digits < 9) {
+                value = value * 10 + (bytes[pos++] - '0');
+                digits++;
+            }
+            if (digits == 0 || (f == 0 && digits != 4) || ((f == 1 || f == 2) && digits > 2) || (f < 5 && (pos >= to || bytes[pos++] != TIME_SEPARATORS[f]))) {
+                return parseTimeSlow(bytes, from, to);
+            }
+            fields[f] = value;
+        }
+        int nanos = 0;
+        if (pos < to && bytes[pos] == '.') {
+            pos++;
+            int digits = 0;
+            while (pos < to && bytes[pos] >= '0' && bytes[pos] <= '9' && digits < 9) {
+                nanos = nanos * 10 + (bytes[pos++] - '0');
+                digits++;
+            }
+            if (digits == 0) {
+                return parseTimeSlow(bytes, from, to);
+            }
+            while (digits++ < 9) {
+                nanos *= 10;
+            }
+        }
+        if (pos != to || fields[1] < 1 || fields[1] > 12 || fields[2] < 1 || fields[2] > 31) {
+            return parseTimeSlow(bytes, from, to);
         }
+        // This is what Timestamp.valueOf() does after parsing the string
+        return new Timestamp(fields[0] - 1900, fields[1] - 1, fields[2], fields[3], fields[4], fields[5], nanos).getTime();
+    }
+
+    private static long parseTimeSlow(byte[] bytes, int from, int to) {
+        String str = new String(bytes, from, to - from, StandardCharsets.ISO_8859_1);
+        return Timestamp.valueOf(str.replace('_', ' ')).getTime();
+    }
 
-        br.close();
+    private static Path cacheFile(Path file) {
+        String key = UUID.nameUUIDFromBytes(file.toAbsolutePath().normalize().toString().getBytes(StandardCharsets.UTF_8)).toString();
+        return SysUtils.getCacheDir().resolve("orbits").resolve(key + ".orb");
+    }
 
-        return orbitData;
+    private Samples readCache(Path cacheFile, long size, long lastModified, String zone) {
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(cacheFile.toFile(), "r"); FileChannel fc = raf.getChannel()) {
+            MappedByteBuffer mem = fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size());
+            if (mem.getInt() != MAGIC || mem.getInt() != VERSION || mem.getLong() != size || mem.getLong() != lastModified) {
+                return null;
+            }
+            byte[] zoneBytes = new byte[mem.getInt()];
+            mem.get(zoneBytes);
+            if (!zone.equals(new String(zoneBytes, StandardCharsets.UTF_8))) {
+                return null;
+            }
+            final int n = mem.getInt();
+            // Samples are aligned to 8 bytes
+            mem.position((mem.position() + 7) & ~7);
+            Samples samples = new Samples(n);
+            mem.asLongBuffer().get(samples.times, 0, n);
+            mem.position(mem.position() + n * Long.BYTES);
+            mem.asDoubleBuffer().get(samples.x, 0, n);
+            mem.position(mem.position() + n * Double.BYTES);
+            mem.asDoubleBuffer().get(samples.y, 0, n);
+            mem.position(mem.position() + n * Double.BYTES);
+            mem.asDoubleBuffer().get(samples.z, 0, n);
+            samples.n = n;
+            return samples;
+        } catch (Exception e) {
+            logger.debug("Could not read orbit cache file " + cacheFile + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCache(Path cacheFile, Samples samples, long size, long lastModified, String zone) {
+        Path tmp = cacheFile.resolveSibling(cacheFile.getFileName() + "." + Thread.currentThread().getId() + ".tmp");
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                byte[] zoneBytes = zone.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(size);
+                out.writeLong(lastModified);
+                out.writeInt(zoneBytes.length);
+                out.write(zoneBytes);
+                out.writeInt(samples.n);
+                while (out.size() % 8 != 0) {
+                    out.writeByte(0);
+                }
+                for (int i = 0; i < samples.n; i++)
+                    out.writeLong(samples.times[i]);
+                for (int i = 0; i < samples.n; i++)
+                    out.writeDouble(samples.x[i]);
+                for (int i = 0; i < samples.n; i++)
+                    out.writeDouble(samples.y[i]);
+                for (int i = 0; i < samples.n; i++)
+                    out.writeDouble(samples.z[i]);
+            }
+            Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.debug("Could not write orbit cache file " + cacheFile + ": " + e.getMessage());
+            try {
+                Files.deleteIfExists(tmp);
+            } catch (IOException ignored) {
+            }
+        }
     }
 
     protected float parsef(String str) {
@@ -78,4 +274,41 @@ public class FileDataLoader {
         return Parser.parseInt(str);
     }
 
+    /**
+     * Orbit samples in primitive arrays: times in milliseconds since the epoch, and positions in internal units.
+     */
+    protected static class Samples {
+        long[] times;
+        double[] x, y, z;
+        int n = 0;
+
+        Samples(int capacity) {
+            times = new long[capacity];
+            x = new double[capacity];
+            y = new double[capacity];
+            z = new double[capacity];
+        }
+
+        void add(long time, double px, double py, double pz) {
+            if (n == times.length) {
+                int capacity = Math.max(16, n * 2);
+                times = Arrays.copyOf(times, capacity);
+                x = Arrays.copyOf(x, capacity);
+                y = Arrays.copyOf(y, capacity);
+                z = Arrays.copyOf(z, capacity);
+            }
+            times[n] = time;
+            x[n] = px;
+            y[n] = py;
+            z[n] = pz;
+            n++;
+        }
+
+        PointCloudData toPointCloudData() {
+            PointCloudData data = new PointCloudData(n);
+            data.addSamples(times, x, y, z, n);
+            return data;
+        }
+    }
+
 }
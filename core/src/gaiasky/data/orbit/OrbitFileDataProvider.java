@@ -13,26 +13,59 @@ import gaiasky.event.EventManager;
 import gaiasky.util.Logger;
 import gaiasky.util.Settings;
 
+import java.io.File;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Reads an orbit file into an OrbitData object.
  */
 public class OrbitFileDataProvider implements IOrbitDataProvider {
+    /** Orbit files being loaded in the background, by file name. Each result is taken by the first provider to load the file. **/
+    private static final Map<String, CompletableFuture<PointCloudData>> preloaded = new ConcurrentHashMap<>();
+
     PointCloudData data;
 
+    /**
+     * Starts loading the given orbit files in parallel, in the background, so that the subsequent calls to
+     * {@link #load(String, OrbitDataLoaderParameters)} for them only wait for the results.
+     *
+     * @param files The orbit files, as given to {@link #load(String, OrbitDataLoaderParameters)}.
+     */
+    public static void preload(Collection<String> files) {
+        for (String file : files) {
+            preloaded.computeIfAbsent(file, f -> CompletableFuture.supplyAsync(() -> {
+                try {
+                    return loadFile(f);
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }));
+        }
+    }
+
+    private static PointCloudData loadFile(String file) throws Exception {
+        FileDataLoader odl = new FileDataLoader();
+        FileHandle f = Settings.settings.data.dataFileHandle(file);
+        File actual = f.file();
+        if (actual.isFile()) {
+            return odl.load(actual.toPath());
+        } else {
+            return odl.load(f.read());
+        }
+    }
+
     @Override
     public void load(String file, OrbitDataLoaderParameters parameter) {
         if (file != null) {
-            FileDataLoader odl = new FileDataLoader();
             try {
-                FileHandle f = Settings.settings.data.dataFileHandle(file);
-                data = odl.load(f.read());
+                CompletableFuture<PointCloudData> future = preloaded.remove(file);
+                data = future != null ? future.join() : loadFile(file);
                 if (parameter.multiplier != 1f) {
-                    int n = data.x.size();
-                    for (int i = 0; i < n; i++) {
-                        data.x.set(i, data.x.get(i) * parameter.multiplier);
-                        data.y.set(i, data.y.get(i) * parameter.multiplier);
-                        data.z.set(i, data.z.get(i) * parameter.multiplier);
-                    }
+                    data.scale(parameter.multiplier);
                 }
                 EventManager.publish(Event.ORBIT_DATA_LOADED, this, data, file);
             } catch (Exception e) {
@@ -131,20 +131,14 @@ public class OrbitSamplerDataProvider implements IOrbitDataProvider {
 
             Coordinates.sphericalToCartesian(ecl, ecl);
             ecl.mul(Coordinates.eclToEq()).scl(1);
-            data.x.add(ecl.x.doubleValue());
-            data.y.add(ecl.y.doubleValue());
-            data.z.add(ecl.z.doubleValue());
-            data.time.add(d);
+            data.addPoint(d, ecl.x.doubleValue(), ecl.y.doubleValue(), ecl.z.doubleValue());
 
             d = Instant.ofEpochMilli(d.toEpochMilli() + (long) stepMs);
         }
 
         // Close the circle
-        data.x.add(data.x.get(0));
-        data.y.add(data.y.get(0));
-        data.z.add(data.z.get(0));
         d = Instant.ofEpochMilli(d.toEpochMilli() + (long) stepMs);
-        data.time.add(Instant.ofEpochMilli(d.toEpochMilli()));
+        data.addPoint(d, data.getX(0), data.getY(0), data.getZ(0));
 
         if (writeData) {
             try {
@@ -52,21 +52,14 @@ public class OrbitalParametersProvider implements IOrbitDataProvider {
                 for (int n = 0; n < parameter.numSamples; n++) {
                     params.loadDataPoint(out, t);
 
+                    Instant time = AstroUtils.julianDateToInstant(epoch + t);
                     if (n == parameter.numSamples - 1) {
                         // Close orbit
-                        double sx = data.getX(0);
-                        double sy = data.getY(0);
-                        double sz = data.getZ(0);
-                        data.x.add(sx);
-                        data.y.add(sy);
-                        data.z.add(sz);
+                        data.addPoint(time, data.getX(0), data.getY(0), data.getZ(0));
                     } else {
                         // Add point
-                        data.x.add(out.x);
-                        data.y.add(out.y);
-                        data.z.add(out.z);
+                        data.addPoint(time, out.x, out.y, out.z);
                     }
-                    data.time.add(AstroUtils.julianDateToInstant(epoch + t));
 
                     t += t_step;
                 }
@@ -106,10 +99,7 @@ public class OrbitalParametersProvider implements IOrbitDataProvider {
             data = new PointCloudData();
             for (Vector3d point : samples) {
                 point.mul(transform);
-                data.x.add(point.x);
-                data.y.add(point.y);
-                data.z.add(point.z);
-                data.time.add(Instant.now());
+                data.addPoint(Instant.now(), point.x, point.y, point.z);
             }
             EventManager.publish(Event.ORBIT_DATA_LOADED, this, data, parameter.name);
         } catch (Exception e) {
@@ -11,55 +11,69 @@ import gaiasky.util.math.Vector3d;
 
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Contains a point cloud dataset, with cartesian XYZ positions in the equatorial
  * system with the origin in the barycenter of the solar system, and optionally times
  * for each of those.
+ * <p>
+ * Positions and times are stored in primitive arrays which grow on demand. Times, when present,
+ * are sorted and there is one for each point. Lookups by time may use a {@link Cursor} owned by
+ * the caller, which remembers the last interval and makes the lookup constant-time when the
+ * time advances monotonically.
  */
 public class PointCloudData {
-    private final Vector3d v0;
-    private final Vector3d v1;
     // Values of x, y, z in world coordinates
-    public List<Double> x, y, z;
-    public List<Instant> time;
+    private double[] x, y, z;
+    // Times in milliseconds since the epoch
+    private long[] time;
+    // Number of points, and number of times
+    private int n, nTimes;
     // Period in days
     public double period = -1;
-    private Instant start, end;
 
     public PointCloudData() {
         this(16);
     }
 
     public PointCloudData(int capacity) {
-        x = new ArrayList<>(capacity);
-        y = new ArrayList<>(capacity);
-        z = new ArrayList<>(capacity);
-        time = new ArrayList<>(capacity);
-
-        v0 = new Vector3d();
-        v1 = new Vector3d();
+        capacity = Math.max(capacity, 1);
+        x = new double[capacity];
+        y = new double[capacity];
+        z = new double[capacity];
+        time = new long[0];
     }
 
     /**
      * Clears all data
      **/
     public void clear() {
-        x.clear();
-        y.clear();
-        z.clear();
-        time.clear();
-        v0.setZero();
-        v1.setZero();
+        n = 0;
+        nTimes = 0;
     }
 
     public boolean isEmpty() {
-        return x.isEmpty() && y.isEmpty() && z.isEmpty();
+        return n == 0;
     }
 
     public boolean hasTime() {
-        return time != null && !time.isEmpty();
+        return nTimes > 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > x.length) {
+            int newCapacity = Math.max(capacity, x.length + (x.length >> 1) + 1);
+            x = Arrays.copyOf(x, newCapacity);
+            y = Arrays.copyOf(y, newCapacity);
+            z = Arrays.copyOf(z, newCapacity);
+        }
+    }
+
+    private void ensureTimeCapacity(int capacity) {
+        if (capacity > time.length) {
+            time = Arrays.copyOf(time, Math.max(capacity, Math.max(x.length, time.length + (time.length >> 1) + 1)));
+        }
     }
 
     /**
@@ -72,10 +86,12 @@ public class PointCloudData {
     public void addPoints(double[] points) {
         if (points.length % 3 == 0) {
             int nPoints = points.length / 3;
+            ensureCapacity(n + nPoints);
             for (int i = 0; i < nPoints; i++) {
-                x.add(points[i * 3]);
-                y.add(points[i * 3 + 1]);
-                z.add(points[i * 3 + 2]);
+                x[n] = points[i * 3];
+                y[n] = points[i * 3 + 1];
+                z[n] = points[i * 3 + 2];
+                n++;
             }
         }
     }
@@ -88,10 +104,12 @@ public class PointCloudData {
     public void addPoints(ArrayList points) {
         if (points.size() % 3 == 0) {
             int nPoints = points.size() / 3;
+            ensureCapacity(n + nPoints);
             for (int i = 0; i < nPoints; i++) {
-                x.add((double) points.get(i * 3));
-                y.add((double) points.get(i * 3 + 1));
-                z.add((double) points.get(i * 3 + 2));
+                x[n] = (double) points.get(i * 3);
+                y[n] = (double) points.get(i * 3 + 1);
+                z[n] = (double) points.get(i * 3 + 2);
+                n++;
             }
         }
     }
@@ -102,9 +120,7 @@ public class PointCloudData {
      * @param point The point
      */
     public void addPoint(Vector3d point) {
-        x.add(point.x);
-        y.add(point.y);
-        z.add(point.z);
+        addPoint(point.x, point.y, point.z);
     }
 
     /**
@@ -115,9 +131,97 @@ public class PointCloudData {
      * @param z The z component
      */
     public void addPoint(double x, double y, double z) {
-        this.x.add(x);
-        this.y.add(y);
-        this.z.add(z);
+        ensureCapacity(n + 1);
+        this.x[n] = x;
+        this.y[n] = y;
+        this.z[n] = z;
+        n++;
+    }
+
+    /**
+     * Adds a single point with its time to the cloud. Times must be added in ascending order.
+     *
+     * @param timeMs The time, in milliseconds since the epoch.
+     * @param x      The x component
+     * @param y      The y component
+     * @param z      The z component
+     */
+    public void addPoint(long timeMs, double x, double y, double z) {
+        ensureTimeCapacity(nTimes + 1);
+        time[nTimes++] = timeMs;
+        addPoint(x, y, z);
+    }
+
+    /**
+     * Adds a single point with its time to the cloud. Times must be added in ascending order.
+     *
+     * @param instant The time.
+     * @param x       The x component
+     * @param y       The y component
+     * @param z       The z component
+     */
+    public void addPoint(Instant instant, double x, double y, double z) {
+        addPoint(instant.toEpochMilli(), x, y, z);
+    }
+
+    /**
+     * Adds the given samples, with their times.
+     *
+     * @param timesMs The times, in milliseconds since the epoch.
+     * @param x       The x components.
+     * @param y       The y components.
+     * @param z       The z components.
+     * @param n       The number of samples to add, from the start of the arrays.
+     */
+    public void addSamples(long[] timesMs, double[] x, double[] y, double[] z, int n) {
+        ensureCapacity(this.n + n);
+        ensureTimeCapacity(nTimes + n);
+        System.arraycopy(timesMs, 0, this.time, nTimes, n);
+        System.arraycopy(x, 0, this.x, this.n, n);
+        System.arraycopy(y, 0, this.y, this.n, n);
+        System.arraycopy(z, 0, this.z, this.n, n);
+        this.n += n;
+        nTimes += n;
+    }
+
+    /**
+     * Sets the position of the point at the given index.
+     *
+     * @param index The index.
+     * @param x     The x component
+     * @param y     The y component
+     * @param z     The z component
+     */
+    public void setPoint(int index, double x, double y, double z) {
+        checkIndex(index);
+        this.x[index] = x;
+        this.y[index] = y;
+        this.z[index] = z;
+    }
+
+    /**
+     * Multiplies all the positions by the given factor.
+     *
+     * @param factor The factor.
+     */
+    public void scale(double factor) {
+        for (int i = 0; i < n; i++) {
+            x[i] *= factor;
+            y[i] *= factor;
+            z[i] *= factor;
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= n) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + n);
+        }
+    }
+
+    private void checkTimeIndex(int index) {
+        if (index < 0 || index >= nTimes) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + nTimes);
+        }
     }
 
     /**
@@ -128,69 +232,83 @@ public class PointCloudData {
      * @param index The data index.
      */
     public void loadPoint(Vector3d v, int index) {
-        v.set(x.get(index), y.get(index), z.get(index));
+        checkIndex(index);
+        v.set(x[index], y[index], z[index]);
     }
 
     public void loadPoint(Vector3b v, int index) {
-        v.set(x.get(index), y.get(index), z.get(index));
+        checkIndex(index);
+        v.set(x[index], y[index], z[index]);
     }
 
     public Instant loadTime(int index) {
-        return time.get(index);
+        return getDate(index);
     }
 
     public int getNumPoints() {
-        return x.size();
+        return n;
     }
 
     public double getX(int index) {
-        return x.get(index);
+        checkIndex(index);
+        return x[index];
     }
 
     public void setX(int index, double value) {
-        x.set(index, value);
+        checkIndex(index);
+        x[index] = value;
     }
 
     public double getY(int index) {
-        return y.get(index);
+        checkIndex(index);
+        return y[index];
     }
 
     public void setY(int index, double value) {
-        y.set(index, value);
+        checkIndex(index);
+        y[index] = value;
     }
 
     public double getZ(int index) {
-        return z.get(index);
+        checkIndex(index);
+        return z[index];
     }
 
     public void setZ(int index, double value) {
-        z.set(index, value);
+        checkIndex(index);
+        z[index] = value;
     }
 
     public Instant getDate(int index) {
-        return time.get(index);
+        return Instant.ofEpochMilli(getTimeMs(index));
+    }
+
+    /**
+     * Gets the time of the point at the given index.
+     *
+     * @param index The index.
+     *
+     * @return The time, in milliseconds since the epoch.
+     */
+    public long getTimeMs(int index) {
+        checkTimeIndex(index);
+        return time[index];
     }
 
     public Instant getStart() {
-        if (start == null) {
-            start = time.get(0);
-        }
-        return start;
+        return Instant.ofEpochMilli(getStartMs());
     }
 
     public long getStartMs() {
-        return getStart().toEpochMilli();
+        return getTimeMs(0);
     }
 
     public Instant getEnd() {
-        if (end == null) {
-            end = time.get(time.size() - 1);
-        }
-        return end;
+        return Instant.ofEpochMilli(getEndMs());
     }
 
     public long getEndMs() {
-        return getEnd().toEpochMilli();
+        return getTimeMs(nTimes - 1);
     }
 
     /**
@@ -201,7 +319,8 @@ public class PointCloudData {
      * @param index The index of the point to load.
      */
     public void loadPointF(Vector3 v, int index) {
-        v.set(x.get(index).floatValue(), y.get(index).floatValue(), z.get(index).floatValue());
+        checkIndex(index);
+        v.set((float) x[index], (float) y[index], (float) z[index]);
     }
 
     /**
@@ -214,11 +333,25 @@ public class PointCloudData {
      * @return Whether the operation completes successfully
      */
     public boolean loadPoint(Vector3d v, Instant instant) {
-        return loadPoint(v, instant.toEpochMilli());
+        return loadPoint(v, instant.toEpochMilli(), null);
     }
 
     public boolean loadPoint(Vector3b v, Instant instant) {
-        return loadPoint(v, instant.toEpochMilli());
+        return loadPoint(v, instant.toEpochMilli(), null);
+    }
+
+    /**
+     * Same as {@link #loadPoint(Vector3d, Instant)}, using the given cursor to speed up the lookup.
+     */
+    public boolean loadPoint(Vector3d v, Instant instant, Cursor cursor) {
+        return loadPoint(v, instant.toEpochMilli(), cursor);
+    }
+
+    /**
+     * Same as {@link #loadPoint(Vector3b, Instant)}, using the given cursor to speed up the lookup.
+     */
+    public boolean loadPoint(Vector3b v, Instant instant, Cursor cursor) {
+        return loadPoint(v, instant.toEpochMilli(), cursor);
     }
 
     /**
@@ -231,52 +364,115 @@ public class PointCloudData {
      * @return Whether the operation completes successfully
      */
     public boolean loadPoint(Vector3d v, long timeMs) {
-        // Data is sorted
-        int idx = binarySearch(time, timeMs);
+        return loadPoint(v, timeMs, null);
+    }
+
+    public boolean loadPoint(Vector3b v, long timeMs) {
+        return loadPoint(v, timeMs, null);
+    }
 
-        if (idx < 0 || idx >= time.size()) {
+    /**
+     * Same as {@link #loadPoint(Vector3d, long)}, using the given cursor to speed up the lookup.
+     *
+     * @param v      The vector
+     * @param timeMs The time in milliseconds
+     * @param cursor The cursor of the caller, or null.
+     *
+     * @return Whether the operation completes successfully
+     */
+    public boolean loadPoint(Vector3d v, long timeMs, Cursor cursor) {
+        int idx = getIndex(timeMs, cursor);
+        if (idx < 0) {
             // No data for this time
             return false;
         }
-
-        if (time.get(idx).toEpochMilli() == timeMs) {
-            v.set(x.get(idx), y.get(idx), z.get(idx));
+        if (time[idx] == timeMs || idx + 1 >= nTimes) {
+            v.set(x[idx], y[idx], z[idx]);
         } else {
             // Interpolate
-            loadPoint(v0, idx);
-            loadPoint(v1, idx + 1);
-            Instant t0 = time.get(idx);
-            Instant t1 = time.get(idx + 1);
-
-            double scl = (double) (timeMs - t0.toEpochMilli()) / (t1.toEpochMilli() - t0.toEpochMilli());
-            v.set(v1.sub(v0).scl(scl).add(v0));
+            double scl = (double) (timeMs - time[idx]) / (time[idx + 1] - time[idx]);
+            v.set(x[idx] + (x[idx + 1] - x[idx]) * scl, y[idx] + (y[idx + 1] - y[idx]) * scl, z[idx] + (z[idx + 1] - z[idx]) * scl);
         }
         return true;
     }
 
-    public boolean loadPoint(Vector3b v, long timeMs) {
-        // Data is sorted
-        int idx = binarySearch(time, timeMs);
-
-        if (idx < 0 || idx >= time.size()) {
+    /**
+     * Same as {@link #loadPoint(Vector3b, long)}, using the given cursor to speed up the lookup.
+     *
+     * @param v      The vector
+     * @param timeMs The time in milliseconds
+     * @param cursor The cursor of the caller, or null.
+     *
+     * @return Whether the operation completes successfully
+     */
+    public boolean loadPoint(Vector3b v, long timeMs, Cursor cursor) {
+        int idx = getIndex(timeMs, cursor);
+        if (idx < 0) {
             // No data for this time
             return false;
         }
-
-        if (time.get(idx).toEpochMilli() == timeMs) {
-            v.set(x.get(idx), y.get(idx), z.get(idx));
+        if (time[idx] == timeMs || idx + 1 >= nTimes) {
+            v.set(x[idx], y[idx], z[idx]);
         } else {
             // Interpolate
-            loadPoint(v0, idx);
-            loadPoint(v1, idx + 1);
-            Instant t0 = time.get(idx);
-            Instant t1 = time.get(idx + 1);
-
-            double scl = (double) (timeMs - t0.toEpochMilli()) / (t1.toEpochMilli() - t0.toEpochMilli());
-            v.set(v1.sub(v0).scl(scl).add(v0));
+            double scl = (double) (timeMs - time[idx]) / (time[idx + 1] - time[idx]);
+            v.set(x[idx] + (x[idx + 1] - x[idx]) * scl, y[idx] + (y[idx + 1] - y[idx]) * scl, z[idx] + (z[idx + 1] - z[idx]) * scl);
         }
         return true;
+    }
 
+    /**
+     * Samples the point cloud at <code>count</code> evenly spaced times between <code>t0Ms</code> and <code>t1Ms</code>, both
+     * included, with linear interpolation. Times out of the range of the data are clamped to it. The intervals of all
+     * samples are located in a single pass, and the interpolation runs in a separate loop over the arrays, which the
+     * compiler can vectorize.
+     *
+     * @param t0Ms  The first time, in milliseconds since the epoch.
+     * @param t1Ms  The last time, in milliseconds since the epoch.
+     * @param count The number of samples.
+     * @param out   The output array, with room for <code>count * 3</code> values, as [x0, y0, z0, x1, y1, z1, ...].
+     *
+     * @return The number of samples written, which is 0 if this point cloud has no times.
+     */
+    public int resample(long t0Ms, long t1Ms, int count, double[] out) {
+        if (nTimes == 0 || count <= 0) {
+            return 0;
+        }
+        if (out.length < count * 3) {
+            throw new IllegalArgumentException("Output array too small: " + out.length + " < " + count * 3);
+        }
+        final int[] indices = new int[count];
+        final double[] weights = new double[count];
+        final double step = count > 1 ? (double) (t1Ms - t0Ms) / (count - 1) : 0;
+        final int last = nTimes - 1;
+        int idx = 0;
+        for (int i = 0; i < count; i++) {
+            long t = Math.min(Math.max(t0Ms + Math.round(step * i), time[0]), time[last]);
+            // Samples are sorted, so the interval only moves forward (or backward, for t1 < t0)
+            while (idx < last && time[idx + 1] <= t) {
+                idx++;
+            }
+            while (idx > 0 && time[idx] > t) {
+                idx--;
+            }
+            if (idx == last) {
+                indices[i] = last - (last > 0 ? 1 : 0);
+                weights[i] = last > 0 ? 1 : 0;
+            } else {
+                indices[i] = idx;
+                weights[i] = (double) (t - time[idx]) / (time[idx + 1] - time[idx]);
+            }
+        }
+        final int maxIdx = Math.min(n, nTimes) - 1;
+        for (int i = 0; i < count; i++) {
+            int i0 = indices[i];
+            int i1 = Math.min(i0 + 1, maxIdx);
+            double w = weights[i];
+            out[i * 3] = x[i0] + (x[i1] - x[i0]) * w;
+            out[i * 3 + 1] = y[i0] + (y[i1] - y[i0]) * w;
+            out[i * 3 + 2] = z[i0] + (z[i1] - z[i0]) * w;
+        }
+        return count;
     }
 
     public Instant getWrapTime(Instant instant) {
@@ -284,7 +480,10 @@ public class PointCloudData {
     }
 
     public long getWrapTimeMs(Instant instant) {
-        long c = instant.toEpochMilli();
+        return getWrapTimeMs(instant.toEpochMilli());
+    }
+
+    public long getWrapTimeMs(long c) {
         long s = getStartMs();
         long e = getEndMs();
 
@@ -302,43 +501,72 @@ public class PointCloudData {
      * @return The two indices
      */
     public int getIndex(Instant instant) {
-        return binarySearch(time, getWrapTimeMs(instant));
+        return getIndex(getWrapTimeMs(instant), null);
     }
 
     public int getIndex(long wrappedTimeMs) {
-        return binarySearch(time, wrappedTimeMs);
+        return getIndex(wrappedTimeMs, null);
     }
 
-    private int binarySearch(List<Instant> times, Instant elem) {
-        return binarySearch(times, elem.toEpochMilli());
-    }
-
-    private int binarySearch(List<Instant> times, long time) {
-        if (time >= times.get(0).toEpochMilli() && time <= times.get(times.size() - 1).toEpochMilli()) {
-            return binarySearch(times, time, 0, times.size() - 1);
-        } else {
+    /**
+     * Gets the index of the last point whose time is not after the given time.
+     *
+     * @param timeMs The time, in milliseconds since the epoch.
+     * @param cursor The cursor of the caller, used as a hint and updated with the result. May be null.
+     *
+     * @return The index, or -1 if the time is out of the range of the data.
+     */
+    public int getIndex(long timeMs, Cursor cursor) {
+        if (nTimes == 0 || timeMs < time[0] || timeMs > time[nTimes - 1]) {
             return -1;
         }
+        if (cursor != null) {
+            int hint = cursor.index;
+            if (hint >= 0 && hint < nTimes && time[hint] <= timeMs) {
+                // Same interval, or one of the next two
+                for (int i = hint; i < nTimes && i <= hint + 2; i++) {
+                    if (i + 1 >= nTimes || timeMs < time[i + 1]) {
+                        cursor.index = i;
+                        return i;
+                    }
+                }
+            }
+            int idx = binarySearch(timeMs);
+            cursor.index = idx;
+            return idx;
+        }
+        return binarySearch(timeMs);
     }
 
-    private int binarySearch(List<Instant> times, long time, int i0, int i1) {
-        if (i0 > i1) {
-            return -1;
-        } else if (i0 == i1) {
-            if (times.get(i0).toEpochMilli() > time) {
-                return i0 - 1;
+    /**
+     * Finds the index of the last time not after the given time, which must be in the range of the data.
+     */
+    private int binarySearch(long timeMs) {
+        int lo = 0, hi = nTimes - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (time[mid] <= timeMs) {
+                lo = mid;
             } else {
-                return i0;
+                hi = mid - 1;
             }
         }
+        return lo;
+    }
 
-        int mid = (i0 + i1) / 2;
-        if (times.get(mid).toEpochMilli() == time) {
-            return mid;
-        } else if (times.get(mid).toEpochMilli() < time) {
-            return binarySearch(times, time, mid + 1, i1);
-        } else {
-            return binarySearch(times, time, i0, mid);
+    /**
+     * Remembers the last interval looked up by its owner, so that lookups at nearby later times do not need a binary
+     * search. Each consumer of the data should have its own cursor. Cursors are only hints, so they can be shared
+     * among point clouds, but then they are less effective.
+     */
+    public static class Cursor {
+        private int index = -1;
+
+        /**
+         * Forgets the last interval.
+         */
+        public void reset() {
+            index = -1;
         }
     }
 
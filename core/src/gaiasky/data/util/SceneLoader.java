@@ -16,6 +16,7 @@ import gaiasky.util.CrashReporter;
 import gaiasky.util.Logger;
 import gaiasky.util.Logger.Log;
 import gaiasky.util.Settings;
+import gaiasky.util.StartupProfiler;
 import gaiasky.util.i18n.I18n;
 
 import java.io.File;
@@ -51,7 +52,7 @@ public class SceneLoader extends AsynchronousAssetLoader<Scene, SceneLoaderParam
             fileHandles[i] = this.resolve(filePaths.get(i));
         }
 
-        try {
+        try (var ignored = StartupProfiler.instance.start("Scene load")) {
             scene = new Scene();
             scene.initialize();
             SceneJsonLoader.loadScene(fileHandles, scene);
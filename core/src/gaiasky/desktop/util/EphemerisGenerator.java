@@ -0,0 +1,40 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.desktop.util;
+
+import gaiasky.util.coord.*;
+import gaiasky.util.coord.vsop87.*;
+import gaiasky.util.math.MathManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Fits the Chebyshev ephemerides of the planets, the Moon and Pluto ahead of time, and writes them to the
+ * <code>ephemeris</code> directory in the cache, where they are picked up when the <code>data.ephemerisCache</code>
+ * setting is on. Usage: <code>EphemerisGenerator [from_year] [to_year]</code>. The default range is 1900 to 2100.
+ */
+public class EphemerisGenerator {
+
+    public static void main(String[] args) throws IOException {
+        MathManager.initialize(true);
+        int fromYear = args.length > 0 ? Integer.parseInt(args[0]) : 1900;
+        int toYear = args.length > 1 ? Integer.parseInt(args[1]) : 2100;
+        double from = AstroUtils.getJulianDate(fromYear, 1, 1, 0, 0, 0, 0, true);
+        double to = AstroUtils.getJulianDate(toYear, 1, 1, 0, 0, 0, 0, true);
+
+        String[] names = new String[] { "mercury", "venus", "earth", "mars", "jupiter", "saturn", "uranus", "neptune", "moon", "pluto" };
+        AbstractOrbitCoordinates[] bodies = new AbstractOrbitCoordinates[] { new MercuryVSOP87(), new VenusVSOP87(), new EarthVSOP87(), new MarsVSOP87(), new JupiterVSOP87(), new SaturnVSOP87(), new UranusVSOP87(), new NeptuneVSOP87(), new MoonAACoordinates(), new PlutoCoordinates() };
+        for (int i = 0; i < names.length; i++) {
+            AbstractOrbitCoordinates body = bodies[i];
+            long start = System.currentTimeMillis();
+            ChebyshevEphemeris ephemeris = ChebyshevEphemeris.fit((ChebyshevEphemeris.Source) body, body.getEphemerisWindow(), ChebyshevEphemeris.DEFAULT_DEGREE, from, to);
+            Path file = AbstractOrbitCoordinates.getEphemerisFile(names[i]);
+            ephemeris.write(file);
+            System.out.println(names[i] + ": " + ephemeris.size() + " segments of " + ephemeris.getWindow() + " days, " + (System.currentTimeMillis() - start) + " ms -> " + file);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.desktop.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Files;
+import gaiasky.data.group.BinaryDataProvider;
+import gaiasky.data.group.MetadataBinaryIO;
+import gaiasky.gui.ConsoleLogger;
+import gaiasky.util.Logger;
+import gaiasky.util.Logger.Log;
+import gaiasky.util.SettingsManager;
+import gaiasky.util.filter.attrib.*;
+import gaiasky.util.tree.OctreeNode;
+
+import java.io.BufferedOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Writes the per-octant attribute summaries to the metadata of an LOD dataset, so that the attribute statistics of
+ * the full catalog are available without loading its particles (see {@link AttributeStatistics}). It reads the
+ * metadata and the particles of every octant, and writes the metadata again in version 2 of the format. This is the
+ * last step of the generation of LOD datasets.
+ * <p>
+ * Usage: <code>OctreeSummaryGenerator dataset_dir [version_hint]</code>, where <code>dataset_dir</code> contains
+ * <code>metadata.bin</code> and the <code>particles</code> directory, and <code>version_hint</code> is the version of the
+ * particle files if they are not annotated (0 for DR2, 1 otherwise, which is the default).
+ */
+public class OctreeSummaryGenerator {
+    private static final Log logger = Logger.getLogger(OctreeSummaryGenerator.class);
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.out.println("Usage: OctreeSummaryGenerator dataset_dir [version_hint]");
+            return;
+        }
+        try {
+            Gdx.files = new Lwjgl3Files();
+            SettingsManager.initialize(false);
+            new ConsoleLogger();
+
+            final Path dir = Path.of(args[0]);
+            final int versionHint = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+            final Path metadata = dir.resolve("metadata.bin");
+            final Path particles = dir.resolve("particles");
+
+            MetadataBinaryIO io = new MetadataBinaryIO();
+            OctreeNode root;
+            try (InputStream in = Files.newInputStream(metadata)) {
+                root = io.readMetadata(in);
+            }
+            if (root == null) {
+                logger.error("Could not read the metadata: " + metadata);
+                return;
+            }
+
+            final BinaryDataProvider provider = new BinaryDataProvider();
+            final IAttribute[] attributes = new IAttribute[] { new AttributeAppmag(), new AttributeAbsmag(), new AttributeDistance(), new AttributeRA(), new AttributeDEC(), new AttributeGalLongitude(), new AttributeGalLatitude(), new AttributeEclLongitude(), new AttributeEclLatitude(), new AttributeMualpha(), new AttributeMudelta(), new AttributeRadvel() };
+            long start = System.currentTimeMillis();
+            Path tmp = metadata.resolveSibling(metadata.getFileName() + ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                io.writeMetadata(root, node -> {
+                    Path file = particles.resolve("particles_" + String.format("%06d", node.pageId) + ".bin");
+                    return Files.isRegularFile(file) ? provider.loadDataMapped(file.toString(), 1.0, versionHint) : null;
+                }, out, attributes);
+            }
+            Files.move(tmp, metadata, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Wrote the summaries of " + attributes.length + " attributes for " + root.numNodesRec() + " octants to " + metadata + " in " + (System.currentTimeMillis() - start) + " ms");
+        } catch (Exception e) {
+            logger.error(e);
+        }
+    }
+}
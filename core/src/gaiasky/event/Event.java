@@ -313,6 +313,8 @@ public enum Event {
     DEBUG_THREADS,
     /** Contains the current dynamic resolution level and the corresponding back buffer scale **/
     DEBUG_DYN_RES,
+    /** Contains the startup time in seconds, and a summary of the startup phases as a string. **/
+    DEBUG_STARTUP,
     /**
      * Toggles whole GUI display. Contains the a boolean
      * with the state (display/no display) and the localised name.
@@ -5,7 +5,6 @@
 
 package gaiasky.gui;
 
-import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input.Buttons;
 import com.badlogic.gdx.graphics.Cursor.SystemCursor;
@@ -18,12 +17,11 @@ import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener.ChangeEvent;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.utils.Array;
+import gaiasky.GaiaSky;
 import gaiasky.gui.beans.AttributeComboBoxBean;
 import gaiasky.gui.beans.ComboBoxBean;
-import gaiasky.scene.Mapper;
 import gaiasky.scene.api.IParticleRecord;
 import gaiasky.scene.view.FocusView;
-import gaiasky.scene.view.OctreeObjectView;
 import gaiasky.util.CatalogInfo;
 import gaiasky.util.ObjectDoubleMap;
 import gaiasky.util.Pair;
@@ -32,7 +30,6 @@ import gaiasky.util.filter.attrib.*;
 import gaiasky.util.i18n.I18n;
 import gaiasky.util.parse.Parser;
 import gaiasky.util.scene2d.*;
-import gaiasky.util.tree.IOctreeObject;
 import gaiasky.util.ucd.UCD;
 import gaiasky.util.validator.FloatValidator;
 import gaiasky.util.validator.HexColorValidator;
@@ -210,8 +207,6 @@ public class ColormapPicker extends ColorPickerAbstract {
         private final Map<Integer, Image> cmapImages;
         private final DecimalFormat nf;
         private final ColorPickerColormapDialog cpd;
-        private final Array<Entity> pgarray;
-        private final Array<IOctreeObject> apearray;
         private CheckBox plainColor, colormap;
         private Image cmapImage;
         private Cell cmapImageCell;
@@ -232,8 +227,6 @@ public class ColormapPicker extends ColorPickerAbstract {
             this.color[2] = color[2];
             this.color[3] = color[3];
 
-            this.pgarray = new Array<>();
-            this.apearray = new Array<>();
             this.nf = new DecimalFormat("0.00");
 
             cmapImages = new HashMap<>();
@@ -467,7 +460,7 @@ public class ColormapPicker extends ColorPickerAbstract {
             return (ci != null ? ci.name + "-" : "") + (attrib != null ? attrib.toString() : "dummy");
         }
 
-        /** Compute every time, this is costly **/
+        /** Gets the attribute range from the attribute statistics, computed in the background if needed. **/
         private void recomputeAttributeMinMax(CatalogInfo ci, IAttribute attrib) {
             recomputeAttributeMinMax(ci, attrib, false);
         }
@@ -483,37 +476,21 @@ public class ColormapPicker extends ColorPickerAbstract {
                 cmapMin = minmax[0];
                 cmapMax = minmax[1];
             } else if (view.isSet() || view.isOctree()) {
-                pgarray.clear();
-                apearray.clear();
-                if (view.isOctree()) {
-                    var octant = view.getOctant();
-                    octant.addParticlesTo(apearray);
-                    for (IOctreeObject ape : apearray) {
-                        pgarray.add(((OctreeObjectView) ape).getEntity());
+                AttributeStatistics.instance.get(ci, attrib, force).thenAccept(stats -> GaiaSky.postRunnable(() -> {
+                    // The selected attribute may have changed in the meantime
+                    if (attrib != cmapAttrib || stats.count() == 0) {
+                        return;
                     }
-                } else {
-                    pgarray.add(ci.entity);
-                }
-                double min = Double.MAX_VALUE, max = Double.MIN_VALUE;
-                for (Entity pg : pgarray) {
-                    var set = Mapper.particleSet.has(pg) ? Mapper.particleSet.get(pg) : Mapper.starSet.get(pg);
-                    for (IParticleRecord pb : set.data()) {
-                        double val = attrib.get(pb);
-                        if (!Double.isNaN(val) && !Double.isInfinite(val)) {
-                            if (val < min)
-                                min = val;
-                            if (val > max)
-                                max = val;
-                        }
-                    }
-                }
-                // Set to fields
-                minMap.setText(Double.toString(min));
-                maxMap.setText(Double.toString(max));
-                cmapMin = min;
-                cmapMax = max;
-                // Add to map
-                minMaxMap.put(key, new double[] { min, max });
+                    double min = stats.min();
+                    double max = stats.max();
+                    // Set to fields
+                    minMap.setText(Double.toString(min));
+                    maxMap.setText(Double.toString(max));
+                    cmapMin = min;
+                    cmapMax = max;
+                    // Add to map
+                    minMaxMap.put(key, new double[] { min, max });
+                }));
             }
         }
 
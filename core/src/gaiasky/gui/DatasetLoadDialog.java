@@ -26,21 +26,37 @@ import gaiasky.util.validator.TextFieldComparatorValidator;
 public class DatasetLoadDialog extends GenericDialog {
 
     private final String fileName;
+    private final long fileSize;
     private final float sliderWidth;
     private final float fieldWidth;
     private final float titleWidth;
     private final float cpSize;
     private final float taWidth;
-    public OwnCheckBox particles, stars, clusters, variables, fadeIn, fadeOut;
+    public OwnCheckBox particles, stars, clusters, variables, fadeIn, fadeOut, streaming, derivedCoordinates;
     public OwnTextField dsName, magnitudeScale, fadeInMin, fadeInMax, fadeOutMin, fadeOutMax, profileDecay;
     public OwnSliderPlus particleSize, colorNoise;
     public ColorPicker particleColor, labelColor;
     public OwnSelectBox<ComponentTypeBean> componentType;
 
     public DatasetLoadDialog(final String title, final String fileName, final Skin skin, final Stage ui) {
+        this(title, fileName, -1, skin, ui);
+    }
+
+    /**
+     * Creates a dataset load dialog.
+     *
+     * @param title    The title.
+     * @param fileName The name of the file to load.
+     * @param fileSize The size of the file to load, in bytes, or -1 if unknown. Progressive loading is enabled by default
+     *                 for files of at least {@link DatasetOptions#STREAMING_MIN_FILE_SIZE} bytes.
+     * @param skin     The skin.
+     * @param ui       The stage.
+     */
+    public DatasetLoadDialog(final String title, final String fileName, final long fileSize, final Skin skin, final Stage ui) {
         super(title, skin, ui);
 
         this.fileName = fileName;
+        this.fileSize = fileSize;
         sliderWidth = 664f;
         fieldWidth = 288f;
         titleWidth = 288f;
@@ -153,6 +169,9 @@ public class DatasetLoadDialog extends GenericDialog {
         fadeOut.setChecked(true);
         fadeOutMin.setText("10000");
         fadeOutMax.setText("80000");
+
+        // Loading
+        addLoadingAttributes(container);
     }
 
     private void addParticlesWidget(Table container) {
@@ -222,6 +241,9 @@ public class DatasetLoadDialog extends GenericDialog {
 
         // Fade
         addFadeAttributes(container);
+
+        // Loading
+        addLoadingAttributes(container);
     }
 
     private void addStarClustersWidget(Table container) {
@@ -303,6 +325,9 @@ public class DatasetLoadDialog extends GenericDialog {
         fadeOut.setChecked(true);
         fadeOutMin.setText("10000");
         fadeOutMax.setText("80000");
+
+        // Loading
+        addLoadingAttributes(container);
     }
 
     private void addFileName(Table container) {
@@ -425,12 +450,29 @@ public class DatasetLoadDialog extends GenericDialog {
         container.add(fadeOutGroup).left().padBottom(pad10).row();
     }
 
+    private void addLoadingAttributes(Table container) {
+        OwnLabel loadingLabel = new OwnLabel(I18n.msg("gui.dsload.loading"), skin, "hud-subheader");
+        container.add(loadingLabel).colspan(2).left().padTop(pad20).padBottom(pad18).row();
+
+        // Progressive loading
+        streaming = new OwnCheckBox(I18n.msg("gui.dsload.streaming"), skin, pad10);
+        streaming.setChecked(fileSize >= DatasetOptions.STREAMING_MIN_FILE_SIZE);
+        container.add(GuiUtils.tooltipHg(streaming, "gui.dsload.streaming.tooltip", skin)).colspan(2).left().padBottom(pad10).row();
+
+        // Precomputed spherical coordinates
+        derivedCoordinates = new OwnCheckBox(I18n.msg("gui.dsload.derived"), skin, pad10);
+        derivedCoordinates.setChecked(false);
+        container.add(GuiUtils.tooltipHg(derivedCoordinates, "gui.dsload.derived.tooltip", skin)).colspan(2).left().padBottom(pad10).row();
+    }
+
     public DatasetOptions generateDatasetOptions() {
         DatasetOptions datasetOptions = new DatasetOptions();
 
         if (stars.isChecked()) {
             datasetOptions.type = DatasetLoadType.STARS;
             datasetOptions.magnitudeScale = magnitudeScale.getDoubleValue(0);
+            datasetOptions.streaming = streaming.isChecked();
+            datasetOptions.derivedCoordinates = derivedCoordinates.isChecked();
         } else if (particles.isChecked()) {
             datasetOptions.type = DatasetLoadType.PARTICLES;
             datasetOptions.ct = componentType.getSelected().ct;
@@ -439,6 +481,8 @@ public class DatasetLoadDialog extends GenericDialog {
             datasetOptions.particleColorNoise = colorNoise.getValue();
             datasetOptions.particleSize = particleSize.getValue() * (Settings.settings.scene.renderer.pointCloud.isTriangles() ? .2e-3 : 1.0);
             datasetOptions.particleSizeLimits = new double[] { 2.5d, Math.min(100d, 5d * datasetOptions.particleSize) };
+            datasetOptions.streaming = streaming.isChecked();
+            datasetOptions.derivedCoordinates = derivedCoordinates.isChecked();
         } else if (clusters.isChecked()) {
             datasetOptions.type = DatasetLoadType.CLUSTERS;
             datasetOptions.ct = componentType.getSelected().ct;
@@ -446,6 +490,8 @@ public class DatasetLoadDialog extends GenericDialog {
         } else if (variables.isChecked()) {
             datasetOptions.type = DatasetLoadType.VARIABLES;
             datasetOptions.magnitudeScale = magnitudeScale.getDoubleValue(0);
+            datasetOptions.streaming = streaming.isChecked();
+            datasetOptions.derivedCoordinates = derivedCoordinates.isChecked();
         }
         // Common properties
         datasetOptions.catalogName = dsName.getText();
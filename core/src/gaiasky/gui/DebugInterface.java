@@ -25,6 +25,7 @@ import java.text.DecimalFormat;
 
 public class DebugInterface extends TableGuiInterface implements IObserver {
     private final OwnLabel debugRuntime;
+    private final OwnLabel debugStartup;
     private final OwnLabel debugRAMUsed;
     private final OwnLabel debugRAMFree;
     private final OwnLabel debugRAMAlloc;
@@ -167,6 +168,15 @@ public class DebugInterface extends TableGuiInterface implements IObserver {
         extra.add(runTimeLabel).left().padBottom(pad20);
         extra.row();
 
+        /* STARTUP TIME */
+        debugStartup = new OwnLabel(I18n.msg("gui.debug.na"), skin, "hud");
+        Label startupLabel = new OwnLabel(I18n.msg("gui.debug.startup"), skin, "hud-big");
+        startupLabel.addListener(new OwnTextTooltip(I18n.msg("gui.debug.startup.info"), skin));
+        startupLabel.setColor(skin.getColor("theme"));
+        extra.add(debugStartup).right().padRight(pad10).padBottom(pad20);
+        extra.add(startupLabel).left().padBottom(pad20);
+        extra.row();
+
         /* MEMORY */
         debugRAMUsed = new OwnLabel("", skin, "hud");
         debugRAMFree = new OwnLabel("", skin, "hud");
@@ -285,7 +295,7 @@ public class DebugInterface extends TableGuiInterface implements IObserver {
 
         this.setVisible(settings.program.debugInfo);
         this.lock = lock;
-        EventManager.instance.subscribe(this, Event.DEBUG_TIME, Event.DEBUG_RAM, Event.DEBUG_VRAM, Event.DEBUG_THREADS, Event.DEBUG_OBJECTS, Event.DEBUG_QUEUE, Event.DEBUG_DYN_RES, Event.FPS_INFO, Event.SHOW_DEBUG_CMD, Event.SAMP_INFO);
+        EventManager.instance.subscribe(this, Event.DEBUG_TIME, Event.DEBUG_RAM, Event.DEBUG_VRAM, Event.DEBUG_THREADS, Event.DEBUG_OBJECTS, Event.DEBUG_QUEUE, Event.DEBUG_DYN_RES, Event.DEBUG_STARTUP, Event.FPS_INFO, Event.SHOW_DEBUG_CMD, Event.SAMP_INFO);
     }
 
     private void unsubscribe() {
@@ -386,6 +396,15 @@ public class DebugInterface extends TableGuiInterface implements IObserver {
                     debugDynRes.setText("L" + data[0] + ": " + fpsFormatter.format((Double) data[1]));
                 }
             }
+            case DEBUG_STARTUP -> {
+                if (data.length > 1) {
+                    // Startup time in seconds, and summary of phases
+                    Double startupTime = (Double) data[0];
+                    debugStartup.setText(fpsFormatter.format(startupTime) + " " + I18n.msg("gui.debug.startup.unit"));
+                    debugStartup.clearListeners();
+                    debugStartup.addListener(new OwnTextTooltip((String) data[1], skin));
+                }
+            }
             case FPS_INFO -> {
                 if (debug && data.length > 0) {
                     double dfps = (Float) data[0];
@@ -45,7 +45,11 @@ public class Archetype {
 
     public Entity createEntity() {
 
-        Entity entity = engine.createEntity();
+        Entity entity;
+        // The scene loaders create entities from several threads, and the engine pools are not thread-safe.
+        synchronized (engine) {
+            entity = engine.createEntity();
+        }
         addComponentsRecursive(entity);
 
         // Set archetype reference.
@@ -3,6 +3,7 @@ package gaiasky.scene;
 import com.badlogic.ashley.core.Entity;
 import gaiasky.scene.api.IParticleRecord;
 import gaiasky.scene.component.*;
+import gaiasky.scene.record.NameIndex;
 import gaiasky.scene.record.Position;
 import gaiasky.scene.view.PositionView;
 import gaiasky.util.Logger;
@@ -18,8 +19,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Contains the index of objects. For each object name, the index keeps a reference to the
- * object itself. It also contains the Hipparcos index, where each HIP id is linked to
- * a star.
+ * object itself. The names of the particles of particle and star sets are not copied here,
+ * they are looked up in the name index of each set. It also contains the Hipparcos index,
+ * where each HIP id is linked to a star.
  */
 public class Index {
     private static final Logger.Log logger = Logger.getLogger(Index.class);
@@ -27,6 +29,9 @@ public class Index {
     /** Quick lookup map. Name to node. **/
     protected final Map<String, Entity> index;
 
+    /** Particle and star sets, whose particle names are looked up in their own name index. **/
+    protected final Map<Entity, ParticleSet> particleSets;
+
     /**
      * Map from integer to position with all Hipparcos stars, for the
      * constellations.
@@ -48,6 +53,7 @@ public class Index {
         // String-to-node map. The number of objects is a first approximation, as
         // some nodes actually contain multiple objects.
         index = new ConcurrentHashMap<>((int) (numberEntities * 1.25));
+        particleSets = new ConcurrentHashMap<>();
 
         // HIP map with 121k * 1.25
         hipMap = new ConcurrentHashMap<>(151250);
@@ -63,7 +69,22 @@ public class Index {
      */
     public Entity getEntity(String name) {
         name = name.toLowerCase().strip();
-        return index.get(name);
+        Entity entity = index.get(name);
+        if (entity == null && !particleSets.isEmpty()) {
+            entity = getParticleSet(NameIndex.key(name));
+        }
+        return entity;
+    }
+
+    /** Returns the particle or star set which contains a particle with the given key, or null. **/
+    private Entity getParticleSet(byte[] key) {
+        for (var entry : particleSets.entrySet()) {
+            NameIndex setIndex = entry.getValue().index;
+            if (setIndex != null && setIndex.get(key, -1) >= 0) {
+                return entry.getKey();
+            }
+        }
+        return null;
     }
 
     /**
@@ -74,7 +95,8 @@ public class Index {
      * @return True if the index contains an entity with the given name. False otherwise.
      */
     public boolean containsEntity(String name) {
-        return index.containsKey(name.toLowerCase().trim());
+        name = name.toLowerCase().trim();
+        return index.containsKey(name) || (!particleSets.isEmpty() && getParticleSet(NameIndex.key(name)) != null);
     }
 
     /**
@@ -153,12 +175,8 @@ public class Index {
 
     private void addParticleSet(Entity entity, ParticleSet particleSet) {
         if (particleSet != null) {
-            if (particleSet.index != null) {
-                Set<String> keys = particleSet.index.keySet();
-                for (String key : keys) {
-                    index.put(key, entity);
-                }
-            }
+            // The set index is read at lookup time, so particles appended later are found too.
+            particleSets.put(entity, particleSet);
         }
     }
 
@@ -249,12 +267,7 @@ public class Index {
 
     /** Removes the entities in the given particle set from this index. **/
     public void removeFromIndex(ParticleSet set) {
-        if (set.index != null) {
-            Set<String> keys = set.index.keySet();
-            for (String key : keys) {
-                index.remove(key);
-            }
-        }
+        particleSets.values().remove(set);
     }
 
     /**
@@ -285,6 +298,9 @@ public class Index {
                 if (i >= maxResults)
                     return;
             }
+            i = matchingParticleNames(name, true, results, i, maxResults, abort);
+            if (i >= maxResults)
+                return;
             // Contains
             for (String key : keys) {
                 if (abort != null && abort.get())
@@ -297,6 +313,24 @@ public class Index {
                 if (i >= maxResults)
                     return;
             }
+            matchingParticleNames(name, false, results, i, maxResults, abort);
+        }
+    }
+
+    /**
+     * Adds the names of the particles in the particle and star sets which start with, or contain, the given name to
+     * the results, and returns the new number of results.
+     */
+    private int matchingParticleNames(String name, boolean prefix, SortedSet<String> results, int i, int maxResults, AtomicBoolean abort) {
+        byte[] key = NameIndex.key(name);
+        for (var entry : particleSets.entrySet()) {
+            if (abort != null && abort.get() || i >= maxResults)
+                break;
+            NameIndex setIndex = entry.getValue().index;
+            if (setIndex != null && Mapper.focus.has(entry.getKey())) {
+                i += setIndex.matchingKeys(key, prefix, results, maxResults - i);
+            }
         }
+        return i;
     }
 }
@@ -21,6 +21,7 @@ import gaiasky.scene.view.FocusView;
 import gaiasky.util.Logger;
 import gaiasky.util.i18n.I18n;
 import gaiasky.util.math.Vector3b;
+import gaiasky.util.math.Vector3dd;
 import gaiasky.util.time.ITimeFrameProvider;
 import gaiasky.util.tree.IOctreeObject;
 import gaiasky.util.tree.OctreeNode;
@@ -444,7 +445,7 @@ public class Scene {
      * @param parentTranslation The parent translation.
      * @param opacity           The opacity value.
      */
-    public void updateEntityGraph(Entity entity, ITimeFrameProvider time, Vector3b parentTranslation, float opacity) {
+    public void updateEntityGraph(Entity entity, ITimeFrameProvider time, Vector3dd parentTranslation, float opacity) {
         var updater = findUpdater(GraphUpdater.class);
         if (updater != null) {
             updater.update(entity, time, parentTranslation, opacity);
@@ -33,6 +33,13 @@ public interface IParticleRecord {
 
     String namesConcat();
 
+    /**
+     * Gets the first name of the record without allocating, for code that runs every frame, like the labels.
+     *
+     * @return The first name, or null if the record has no names.
+     */
+    String firstName();
+
     boolean hasName(String candidate);
 
     boolean hasName(String candidate, boolean matchCase);
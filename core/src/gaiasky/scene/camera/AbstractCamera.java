@@ -23,6 +23,7 @@ import gaiasky.util.math.Frustumd;
 import gaiasky.util.math.Matrix4d;
 import gaiasky.util.math.Vector3b;
 import gaiasky.util.math.Vector3d;
+import gaiasky.util.math.Vector3dd;
 
 public abstract class AbstractCamera implements ICamera {
     protected static final Log logger = Logger.getLogger(AbstractCamera.class);
@@ -209,7 +210,7 @@ public abstract class AbstractCamera implements ICamera {
         return (!(this instanceof FovCamera) && viewAngle > VIEW_ANGLE) || GlobalResources.isInView(pos, distToCamera, angleEdgeRad, tmp.set(getCamera().direction));
     }
 
-    public boolean isVisible(double viewAngle, Vector3b pos, double distToCamera) {
+    public boolean isVisible(double viewAngle, Vector3dd pos, double distToCamera) {
         return (!(this instanceof FovCamera) && viewAngle > VIEW_ANGLE) || GlobalResources.isInView(pos, distToCamera, angleEdgeRad, tmp.set(getCamera().direction));
     }
 
@@ -10,7 +10,8 @@ import gaiasky.scene.system.update.GraphUpdater;
 import gaiasky.util.Consumers.Consumer3;
 import gaiasky.util.Functions.Function3;
 import gaiasky.util.math.Matrix4d;
-import gaiasky.util.math.Vector3b;
+import gaiasky.util.math.Vector3bCache;
+import gaiasky.util.math.Vector3dd;
 
 public class GraphNode implements Component, ICopy {
 
@@ -40,7 +41,13 @@ public class GraphNode implements Component, ICopy {
      * the position relative to the parent, this contains the absolute position in the
      * internal reference system.
      */
-    public Vector3b translation;
+    public Vector3dd translation;
+
+    /**
+     * Double-double value of the position of the body, used to update the translation without
+     * converting the position every frame.
+     */
+    public final Vector3bCache localPosition = new Vector3bCache();
 
     /**
      * Local transform matrix. Contains the transform matrix and the
@@ -154,7 +161,7 @@ public class GraphNode implements Component, ICopy {
         var copy = engine.createComponent(this.getClass());
         copy.parent = null;
         copy.parentName = parentName;
-        copy.translation = new Vector3b(translation);
+        copy.translation = new Vector3dd(translation);
         if (copy.children != null) {
             copy.children.clear();
         }
@@ -8,6 +8,9 @@ import gaiasky.event.EventManager;
 import gaiasky.scene.Mapper;
 import gaiasky.scene.api.IParticleRecord;
 import gaiasky.scene.camera.ICamera;
+import gaiasky.scene.record.DerivedCoordinates;
+import gaiasky.scene.record.NameIndex;
+import gaiasky.scene.record.ParticleRecord;
 import gaiasky.scene.task.ParticleSetUpdaterTask;
 import gaiasky.scene.view.FilterView;
 import gaiasky.util.Constants;
@@ -15,6 +18,7 @@ import gaiasky.util.GlobalResources;
 import gaiasky.util.Settings;
 import gaiasky.util.camera.Proximity;
 import gaiasky.util.coord.Coordinates;
+import gaiasky.util.filter.FilterMask;
 import gaiasky.util.i18n.I18n;
 import gaiasky.util.math.MathUtilsDouble;
 import gaiasky.util.math.Vector2d;
@@ -114,7 +118,7 @@ public class ParticleSet implements Component, IDisposable {
     // Has been disposed
     public boolean disposed = false;
     // Name index
-    public Map<String, Integer> index;
+    public NameIndex index;
     // Metadata, for sorting - holds distances from each particle to the camera, squared.
     public double[] metadata;
     // Indices list buffer 1
@@ -129,6 +133,17 @@ public class ParticleSet implements Component, IDisposable {
     // Visibility array with 1 (visible) or 0 (hidden) for each particle
     public byte[] visibilityArray;
 
+    // Cached evaluation of the dataset filter, as a bit mask
+    public final FilterMask filterMask = new FilterMask();
+
+    /**
+     * Whether to precompute the spherical coordinates (equatorial, ecliptic, galactic) of the particles
+     * into a {@link DerivedCoordinates} cache, so that the records serve them by array lookup.
+     **/
+    public boolean computeDerivedCoordinates = false;
+    // Derived coordinates cache, if enabled
+    public DerivedCoordinates derivedCoordinates;
+
     // Is it updating?
     public volatile boolean updating = false;
 
@@ -189,6 +204,8 @@ public class ParticleSet implements Component, IDisposable {
 
     public void setData(List<IParticleRecord> pointData, boolean regenerateIndex) {
         this.pointData = pointData;
+        this.filterMask.invalidate();
+        initializeDerivedCoordinates();
 
         // Regenerate index
         if (regenerateIndex)
@@ -200,6 +217,45 @@ public class ParticleSet implements Component, IDisposable {
         }
     }
 
+    /**
+     * Creates and computes the derived coordinates cache for the current data, if enabled.
+     */
+    public void initializeDerivedCoordinates() {
+        if (computeDerivedCoordinates && pointData != null) {
+            derivedCoordinates = new DerivedCoordinates(pointData);
+            derivedCoordinates.compute();
+        } else {
+            derivedCoordinates = null;
+        }
+    }
+
+    /**
+     * Invalidates the caches that depend on the positions of the particles, so that they are recomputed.
+     * Must be called after modifying positions in place.
+     */
+    public void positionsChanged() {
+        filterMask.invalidate();
+        if (derivedCoordinates != null) {
+            derivedCoordinates.invalidate();
+        }
+    }
+
+    public void setDerivedCoordinates(Boolean derivedCoordinates) {
+        boolean changed = this.computeDerivedCoordinates != derivedCoordinates;
+        this.computeDerivedCoordinates = derivedCoordinates;
+        if (changed && pointData != null) {
+            if (!derivedCoordinates) {
+                // Unlink records from the cache
+                for (IParticleRecord record : pointData) {
+                    if (record instanceof ParticleRecord) {
+                        ((ParticleRecord) record).setDerivedCoordinates(null, -1);
+                    }
+                }
+            }
+            initializeDerivedCoordinates();
+        }
+    }
+
     /**
      * Regenerates the name index
      */
@@ -213,21 +269,137 @@ public class ParticleSet implements Component, IDisposable {
      *
      * @param pointData The data
      *
-     * @return An map{string,int} mapping names to indices
+     * @return An index mapping names to indices
      */
-    public Map<String, Integer> generateIndex(List<IParticleRecord> pointData) {
-        Map<String, Integer> index = new HashMap<>((int) (pointData.size() * 1.25));
+    public NameIndex generateIndex(List<IParticleRecord> pointData) {
         int n = pointData.size();
+        NameIndex index = new NameIndex(n);
         for (int i = 0; i < n; i++) {
-            IParticleRecord pb = pointData.get(i);
-            if (pb.names() != null) {
-                final int idx = i;
-                Arrays.stream(pb.names()).forEach(name -> index.put(name.toLowerCase(), idx));
-            }
+            indexRecord(index, pointData.get(i), i);
         }
         return index;
     }
 
+    private void indexRecord(NameIndex index, IParticleRecord pb, int i) {
+        if (pb instanceof ParticleRecord) {
+            // Hashed from the dictionary bytes, if any
+            ((ParticleRecord) pb).indexNames(index, i);
+        } else if (pb.names() != null) {
+            for (String name : pb.names()) {
+                index.put(name, i);
+            }
+        }
+    }
+
+    /**
+     * Appends the given particles to the data of this set. Used when the set is displayed while its
+     * data is still being loaded. The name index, the visibility array and the sorting buffers are
+     * extended with the new particles instead of being rebuilt. The list of particles is replaced by a
+     * new one, and the arrays are replaced by longer copies, so that the background sorting task, which
+     * may be iterating the old ones, never sees an inconsistent state. Must be called from the main thread.
+     *
+     * @param chunk The new particles.
+     */
+    public void appendData(List<IParticleRecord> chunk) {
+        if (chunk == null || chunk.isEmpty()) {
+            return;
+        }
+        if (pointData == null) {
+            setData(new ArrayList<>(chunk));
+            return;
+        }
+        final int offset = pointData.size();
+        final int n = offset + chunk.size();
+
+        // Sorting buffers, new particles in natural order
+        if (metadata != null) {
+            boolean firstActive = active == indices1;
+            metadata = Arrays.copyOf(metadata, n);
+            indices1 = extendIndices(indices1, offset, n);
+            indices2 = extendIndices(indices2, offset, n);
+            active = firstActive ? indices1 : indices2;
+            background = firstActive ? indices2 : indices1;
+        }
+
+        // Visibility, new particles visible
+        byte[] visibility = Arrays.copyOf(visibilityArray, n);
+        Arrays.fill(visibility, offset, n, (byte) 1);
+        visibilityArray = visibility;
+
+        // Index
+        if (index == null) {
+            index = new NameIndex(n);
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            indexRecord(index, chunk.get(i), offset + i);
+        }
+
+        List<IParticleRecord> data = new ArrayList<>(n);
+        data.addAll(pointData);
+        data.addAll(chunk);
+        this.pointData = data;
+        this.filterMask.invalidate();
+        initializeDerivedCoordinates();
+    }
+
+    private Integer[] extendIndices(Integer[] indices, int offset, int n) {
+        Integer[] result = Arrays.copyOf(indices, n);
+        for (int i = offset; i < n; i++) {
+            result[i] = i;
+        }
+        return result;
+    }
+
+    /**
+     * Computes the minimum, mean and maximum distances of the particles to the origin. The mean
+     * is computed as half of the 90th percentile, to avoid outliers.
+     */
+    public void computeMinMeanMaxDistances() {
+        meanDistance = 0;
+        maxDistance = Double.MIN_VALUE;
+        minDistance = Double.MAX_VALUE;
+        List<Double> distances = new ArrayList<>();
+        for (IParticleRecord point : data()) {
+            // Add sample to mean distance
+            double dist = Math.sqrt(point.x() * point.x() + point.y() * point.y() + point.z() * point.z());
+            if (Double.isFinite(dist)) {
+                distances.add(dist);
+                maxDistance = Math.max(maxDistance, dist);
+                minDistance = Math.min(minDistance, dist);
+            }
+        }
+        // Mean is computed as half of the 90th percentile to avoid outliers
+        distances.sort(Double::compare);
+        int idx = (int) Math.ceil((90d / 100d) * (double) distances.size());
+        meanDistance = distances.get(idx - 1) / 2d;
+    }
+
+    /**
+     * Computes the mean position of this set, which is the given one if set, or the
+     * mean of the positions of the particles otherwise.
+     *
+     * @param out The vector to put the result in.
+     *
+     * @return The out vector.
+     */
+    public Vector3b computeMeanPosition(Vector3b out) {
+        if (meanPosition != null) {
+            // Use given mean position.
+            out.set(meanPosition);
+        } else if (data() == null || data().size() == 0) {
+            // Mean position is 0.
+            out.set(0, 0, 0);
+        } else {
+            // Compute mean position from particles.
+            out.set(0, 0, 0);
+            for (IParticleRecord point : data()) {
+                out.add(point.x(), point.y(), point.z());
+            }
+            out.scl(1d / data().size());
+        }
+        return out;
+    }
+
     public void setPosition(double[] pos) {
         this.meanPosition = new Vector3d(pos[0], pos[1], pos[2]);
     }
@@ -334,7 +506,7 @@ public class ParticleSet implements Component, IDisposable {
     }
 
     public void setFocusIndex(String name) {
-        candidateFocusIndex = index.getOrDefault(name.toLowerCase().trim(), -1);
+        candidateFocusIndex = index.get(name.trim(), -1);
     }
 
     public IParticleRecord getCandidateBean() {
@@ -403,8 +575,9 @@ public class ParticleSet implements Component, IDisposable {
     }
 
     public void setVisible(boolean visible, String name, Render render) {
-        if (index.containsKey(name)) {
-            this.setVisible(index.get(name), visible, render);
+        int idx = index.get(name, -1);
+        if (idx >= 0) {
+            this.setVisible(idx, visible, render);
         }
     }
 
@@ -437,8 +610,8 @@ public class ParticleSet implements Component, IDisposable {
     /** Returns the position of the particle with the given name, if any, in the out vector. **/
     public Vector3b getAbsolutePosition(String name, Vector3b out) {
         name = name.toLowerCase().trim();
-        if (index.containsKey(name)) {
-            int idx = index.get(name);
+        int idx = index.get(name, -1);
+        if (idx >= 0) {
             IParticleRecord pb = pointData.get(idx);
             out.set(pb.x(), pb.y(), pb.z());
             return out;
@@ -481,12 +654,13 @@ public class ParticleSet implements Component, IDisposable {
     }
 
     public String getCandidateName() {
-        return pointData.get(candidateFocusIndex).names() != null ? pointData.get(candidateFocusIndex).names()[0] : getName();
+        String name = pointData.get(candidateFocusIndex).firstName();
+        return name != null ? name : getName();
     }
 
     public String getName() {
-        if (focus != null && focus.names() != null)
-            return focus.names()[0];
+        if (focus != null)
+            return focus.firstName();
         return null;
     }
 
@@ -564,5 +738,7 @@ public class ParticleSet implements Component, IDisposable {
         markForUpdate(Mapper.render.get(entity));
         // Data to be gc'd
         this.pointData = null;
+        this.filterMask.invalidate();
+        this.derivedCoordinates = null;
     }
 }
@@ -43,8 +43,8 @@ public class StarSet extends ParticleSet {
 
     public Vector3d getAbsolutePosition(String name, Vector3d aux) {
         name = name.toLowerCase().trim();
-        if (index.containsKey(name)) {
-            int idx = index.get(name);
+        int idx = index.get(name, -1);
+        if (idx >= 0) {
             IParticleRecord sb = pointData.get(idx);
             fetchPosition(sb, null, aux, currDeltaYears);
             return aux;
@@ -139,7 +139,7 @@ public class StarSet extends ParticleSet {
     }
 
     public String getCandidateName() {
-        return pointData.get(candidateFocusIndex).names()[0];
+        return pointData.get(candidateFocusIndex).firstName();
     }
 
     public double getCandidateSolidAngleApparent() {
@@ -184,8 +184,8 @@ public class StarSet extends ParticleSet {
 
     public void setForceLabel(Boolean forceLabel, String name) {
         name = name.toLowerCase().trim();
-        if (index.containsKey(name)) {
-            int idx = index.get(name);
+        int idx = index.get(name, -1);
+        if (idx >= 0) {
             if (forceLabelStars.contains(idx)) {
                 if (!forceLabel) {
                     // Remove from forceLabelStars
@@ -200,8 +200,8 @@ public class StarSet extends ParticleSet {
 
     public boolean isForceLabel(String name) {
         name = name.toLowerCase().trim();
-        if (index.containsKey(name)) {
-            int idx = index.get(name);
+        int idx = index.get(name, -1);
+        if (idx >= 0) {
             return forceLabelStars.contains(idx);
         }
         return false;
@@ -209,8 +209,8 @@ public class StarSet extends ParticleSet {
 
     public void setLabelColor(float[] color, String name) {
         name = name.toLowerCase().trim();
-        if (index.containsKey(name)) {
-            int idx = index.get(name);
+        int idx = index.get(name, -1);
+        if (idx >= 0) {
             labelColors.put(idx, color);
         }
     }
@@ -5,6 +5,7 @@ import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.math.MathUtils;
 import gaiasky.data.orbit.IOrbitDataProvider;
 import gaiasky.data.util.OrbitDataLoader.OrbitDataLoaderParameters;
+import gaiasky.data.util.PointCloudData;
 import gaiasky.scene.record.OrbitComponent;
 import gaiasky.util.Constants;
 import gaiasky.util.GlobalResources;
@@ -40,6 +41,8 @@ public class Trajectory implements Component {
     /** Number of samples for the orbit data provider. **/
     public int numSamples = 100;
     public long orbitStartMs, orbitEndMs;
+    /** Lookup cursor into the orbit data for the renderer, as the render time advances monotonically. **/
+    public final PointCloudData.Cursor cursor = new PointCloudData.Cursor();
     /**
      * Whether the orbit must be refreshed when out of bounds
      */
@@ -159,6 +159,7 @@ public class EntityUtils {
         fade.setFadeOut(fadeOut);
 
         var set = Mapper.particleSet.get(entity);
+        set.computeDerivedCoordinates = datasetOptions != null && datasetOptions.derivedCoordinates;
         set.setData(data);
         set.setDatafile(file);
         set.setProfileDecay(profileDecay);
@@ -202,6 +203,7 @@ public class EntityUtils {
         label.setLabelPosition(new double[] { 0.0, -5.0e7, -4e8 });
 
         var set = Mapper.starSet.get(entity);
+        set.computeDerivedCoordinates = datasetOptions != null && datasetOptions.derivedCoordinates;
         set.setData(data);
         set.setDatafile(file);
 
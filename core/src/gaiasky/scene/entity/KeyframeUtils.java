@@ -6,7 +6,7 @@ import gaiasky.render.RenderGroup;
 import gaiasky.scene.Mapper;
 import gaiasky.scene.Scene;
 import gaiasky.scene.component.tag.TagNoProcess;
-import gaiasky.util.math.Vector3b;
+import gaiasky.util.math.Vector3dd;
 
 public class KeyframeUtils {
 
@@ -32,7 +32,7 @@ public class KeyframeUtils {
         verts.primitiveSize = primitiveSize;
 
         var graph = Mapper.graph.get(entity);
-        graph.translation = new Vector3b();
+        graph.translation = new Vector3dd();
 
         // First, initialize it.
         scene.initializeEntity(entity);
@@ -92,7 +92,8 @@ public class ParticleUtils {
     }
 
     /**
-     * Evaluates the filter of this dataset (if any) for the given particle index
+     * Evaluates the filter of this dataset (if any) for the given particle index. The filter is
+     * evaluated once for the whole set into the set's filter mask, which is then looked up.
      *
      * @param index The index to filter
      *
@@ -101,7 +102,7 @@ public class ParticleUtils {
     public boolean filter(int index, ParticleSet particleSet, DatasetDescription datasetDescription) {
         final CatalogInfo catalogInfo = datasetDescription.catalogInfo;
         if (catalogInfo != null && catalogInfo.filter != null) {
-            return catalogInfo.filter.evaluate(particleSet.get(index));
+            return particleSet.filterMask.test(index, catalogInfo.filter, particleSet.pointData);
         }
         return true;
     }
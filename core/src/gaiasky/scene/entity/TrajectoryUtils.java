@@ -116,6 +116,17 @@ public class TrajectoryUtils {
      * @param force Whether to force the refresh.
      */
     public void refreshOrbit(Trajectory trajectory, Verts verts, boolean force) {
+        refreshOrbit(trajectory, verts, force, true);
+    }
+
+    /**
+     * Queues a trajectory refresh task with the refresher for this trajectory.
+     *
+     * @param verts   The verts object containing the data.
+     * @param force   Whether to force the refresh.
+     * @param visible Whether the trajectory is visible, in which case it is refreshed before the rest.
+     */
+    public void refreshOrbit(Trajectory trajectory, Verts verts, boolean force, boolean visible) {
         if ((force && trajectory.params != null) || (trajectory.mustRefresh && !EntityUtils.isCoordinatesTimeOverflow(trajectory.body))) {
             Instant currentTime = GaiaSky.instance.time.getTime();
             long currentMs = currentTime.toEpochMilli();
@@ -134,7 +145,9 @@ public class TrajectoryUtils {
 
                 // Add to queue
                 if (!trajectory.refreshing) {
-                    orbitRefresher.queue(trajectory.params);
+                    orbitRefresher.queue(trajectory.params, visible);
+                } else if (visible && trajectory.params.entity != null) {
+                    orbitRefresher.prioritize(trajectory.params.entity);
                 }
             }
         }
@@ -27,8 +27,8 @@ import gaiasky.util.gdx.shader.Material;
 import gaiasky.util.gdx.shader.attribute.AtmosphereAttribute;
 import gaiasky.util.gdx.shader.attribute.BlendingAttribute;
 import gaiasky.util.gdx.shader.attribute.Vector3Attribute;
-import gaiasky.util.math.Vector3b;
 import gaiasky.util.math.Vector3d;
+import gaiasky.util.math.Vector3dd;
 
 import java.util.Arrays;
 import java.util.Map;
@@ -88,7 +88,7 @@ public class AtmosphereComponent extends NamedComponent implements IUpdatable<At
         }
     }
 
-    public void update(Vector3b transform) {
+    public void update(Vector3dd transform) {
         transform.setToTranslation(localTransform).scl(size);
     }
 
@@ -162,7 +162,7 @@ public class AtmosphereComponent extends NamedComponent implements IUpdatable<At
      * @param vrOffset    The VR offset vector.
      */
     public void updateAtmosphericScatteringParams(Material mat, float alpha, boolean ground, GraphNode graph, Rotation rotation, ModelScaffolding scaffolding, Vector3d vrOffset) {
-        Vector3b parentTranslation = null;
+        Vector3dd parentTranslation = null;
         Entity parent = graph.parent;
         if (parent != null) {
             parentTranslation = Mapper.graph.get(parent).translation;
@@ -181,7 +181,7 @@ public class AtmosphereComponent extends NamedComponent implements IUpdatable<At
      * @param parentTranslation The parent translation vector.
      * @param vrOffset          The VR offset vector.
      */
-    public void updateAtmosphericScatteringParams(Material mat, float alpha, boolean ground, Vector3b translation, RotationComponent rc, String inverseRefPlaneTransform, Vector3b parentTranslation, Vector3d vrOffset) {
+    public void updateAtmosphericScatteringParams(Material mat, float alpha, boolean ground, Vector3dd translation, RotationComponent rc, String inverseRefPlaneTransform, Vector3dd parentTranslation, Vector3d vrOffset) {
 
         translation.put(aux3);
         if (vrOffset != null) {
@@ -30,8 +30,8 @@ import gaiasky.util.gdx.model.IntModelInstance;
 import gaiasky.util.gdx.shader.Material;
 import gaiasky.util.gdx.shader.attribute.*;
 import gaiasky.util.i18n.I18n;
-import gaiasky.util.math.Vector3b;
 import gaiasky.util.math.Vector3d;
+import gaiasky.util.math.Vector3dd;
 import gaiasky.util.svt.SVTManager;
 
 import java.util.Arrays;
@@ -165,7 +165,7 @@ public class CloudComponent extends NamedComponent implements IObserver, IMateri
 
     }
 
-    public void update(Vector3b transform) {
+    public void update(Vector3dd transform) {
         transform.setToTranslation(localTransform).scl(size);
     }
 
@@ -0,0 +1,174 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.scene.record;
+
+import gaiasky.scene.api.IParticleRecord;
+import gaiasky.util.coord.Coordinates;
+import gaiasky.util.math.Matrix4d;
+import gaiasky.util.math.MathUtilsDouble;
+import net.jafama.FastMath;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Per-dataset cache of the spherical coordinates derived from the cartesian positions of the particles:
+ * equatorial (ra, dec), ecliptic (lambda, beta) and galactic (l, b), all in degrees. The columns
+ * are computed once, in parallel, and served by array lookup. If any position changes, the cache is
+ * invalidated and recomputed lazily on the next access.
+ */
+public class DerivedCoordinates {
+
+    /** Minimum number of particles for which the columns are computed in parallel. **/
+    private static final int PARALLEL_THRESHOLD = 20_000;
+    /** Number of particles per parallel work unit. **/
+    private static final int CHUNK_SIZE = 4096;
+
+    private final List<IParticleRecord> data;
+    private double[] ra, dec, lambda, beta, l, b;
+    private volatile boolean valid = false;
+
+    /**
+     * Creates a derived coordinates cache for the given particles, and links every {@link ParticleRecord} in
+     * the list to it. The columns are not computed until {@link #compute()} is called or a coordinate is first
+     * requested.
+     *
+     * @param data The particle list.
+     */
+    public DerivedCoordinates(List<IParticleRecord> data) {
+        this.data = data;
+        int n = data.size();
+        for (int i = 0; i < n; i++) {
+            IParticleRecord record = data.get(i);
+            if (record instanceof ParticleRecord) {
+                ((ParticleRecord) record).setDerivedCoordinates(this, i);
+            }
+        }
+    }
+
+    /**
+     * Computes all the columns, if they are not already up to date.
+     */
+    public void compute() {
+        if (!valid) {
+            computeSync();
+        }
+    }
+
+    private synchronized void computeSync() {
+        if (valid) {
+            return;
+        }
+        final int n = data.size();
+        if (ra == null || ra.length != n) {
+            ra = new double[n];
+            dec = new double[n];
+            lambda = new double[n];
+            beta = new double[n];
+            l = new double[n];
+            b = new double[n];
+        }
+        final double[] ecl = Coordinates.eqToEcl().val;
+        final double[] gal = Coordinates.eqToGal().val;
+        final int nChunks = (n + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream chunks = IntStream.range(0, nChunks);
+        if (n >= PARALLEL_THRESHOLD) {
+            chunks = chunks.parallel();
+        }
+        chunks.forEach(chunk -> {
+            final int from = chunk * CHUNK_SIZE;
+            final int to = Math.min(from + CHUNK_SIZE, n);
+            for (int i = from; i < to; i++) {
+                IParticleRecord record = data.get(i);
+                double x = record.x();
+                double y = record.y();
+                double z = record.z();
+                ra[i] = alpha(x, z);
+                dec[i] = delta(x, y, z);
+
+                double ex = x * ecl[Matrix4d.M00] + y * ecl[Matrix4d.M01] + z * ecl[Matrix4d.M02] + ecl[Matrix4d.M03];
+                double ey = x * ecl[Matrix4d.M10] + y * ecl[Matrix4d.M11] + z * ecl[Matrix4d.M12] + ecl[Matrix4d.M13];
+                double ez = x * ecl[Matrix4d.M20] + y * ecl[Matrix4d.M21] + z * ecl[Matrix4d.M22] + ecl[Matrix4d.M23];
+                lambda[i] = alpha(ex, ez);
+                beta[i] = delta(ex, ey, ez);
+
+                double gx = x * gal[Matrix4d.M00] + y * gal[Matrix4d.M01] + z * gal[Matrix4d.M02] + gal[Matrix4d.M03];
+                double gy = x * gal[Matrix4d.M10] + y * gal[Matrix4d.M11] + z * gal[Matrix4d.M12] + gal[Matrix4d.M13];
+                double gz = x * gal[Matrix4d.M20] + y * gal[Matrix4d.M21] + z * gal[Matrix4d.M22] + gal[Matrix4d.M23];
+                l[i] = alpha(gx, gz);
+                b[i] = delta(gx, gy, gz);
+            }
+        });
+        valid = true;
+    }
+
+    /**
+     * Same as the longitude in {@link Coordinates#cartesianToSpherical(gaiasky.util.math.Vector3d, gaiasky.util.math.Vector3d)}, in degrees.
+     */
+    private static double alpha(double x, double z) {
+        double alpha = Math.atan2(x, z);
+        if (alpha < 0) {
+            alpha += 2 * Math.PI;
+        }
+        return MathUtilsDouble.radDeg * alpha;
+    }
+
+    /**
+     * Same as the latitude in {@link Coordinates#cartesianToSpherical(gaiasky.util.math.Vector3d, gaiasky.util.math.Vector3d)}, in degrees.
+     */
+    private static double delta(double x, double y, double z) {
+        double sq = z * z + x * x;
+        double delta;
+        if (sq == 0) {
+            delta = (y > 0 ? Math.PI / 2 : -Math.PI / 2);
+        } else {
+            delta = FastMath.atan(y / FastMath.sqrt(sq));
+        }
+        return MathUtilsDouble.radDeg * delta;
+    }
+
+    /**
+     * Marks the columns as stale. They are recomputed on the next access. Must be called
+     * whenever the position of any of the particles changes.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    public double ra(int i) {
+        compute();
+        return ra[i];
+    }
+
+    public double dec(int i) {
+        compute();
+        return dec[i];
+    }
+
+    public double lambda(int i) {
+        compute();
+        return lambda[i];
+    }
+
+    public double beta(int i) {
+        compute();
+        return beta[i];
+    }
+
+    public double l(int i) {
+        compute();
+        return l[i];
+    }
+
+    public double b(int i) {
+        compute();
+        return b[i];
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.scene.record;
+
+import gaiasky.util.Constants;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Compact storage for the names of the particles of a dataset. All names are kept as UTF-8 in a
+ * single byte array, delimited by an offsets array, and each particle only stores the int handle of its
+ * entry. {@link String} objects are only materialized on request.
+ * <p>
+ * An entry may contain several names, separated by {@link Constants#nameSeparator}, as in the binary
+ * catalog files.
+ * <p>
+ * Dictionaries are filled by a single thread (usually the loader) and are read-only afterwards.
+ */
+public class NameDictionary {
+    /** Separator of names within an entry, as a UTF-8 byte. **/
+    public static final byte SEPARATOR = (byte) Constants.nameSeparator.charAt(0);
+
+    private byte[] bytes;
+    private int[] offsets;
+    private int size = 0;
+    private int length = 0;
+
+    /** Scratch buffer for the UTF-16 units of the entry being read. **/
+    private char[] chars = new char[64];
+
+    public NameDictionary() {
+        this(1024);
+    }
+
+    /**
+     * Creates a dictionary with capacity for the given number of entries.
+     *
+     * @param capacity The expected number of entries.
+     */
+    public NameDictionary(int capacity) {
+        capacity = Math.max(capacity, 16);
+        this.offsets = new int[capacity + 1];
+        this.bytes = new byte[capacity * 12];
+    }
+
+    /**
+     * Adds an entry.
+     *
+     * @param name The name, or several names separated by {@link Constants#nameSeparator}.
+     *
+     * @return The handle of the new entry.
+     */
+    public int add(String name) {
+        return add(name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Adds an entry from its UTF-8 bytes.
+     *
+     * @param utf8 The UTF-8 encoded name(s).
+     *
+     * @return The handle of the new entry.
+     */
+    public int add(byte[] utf8) {
+        ensureBytes(utf8.length);
+        System.arraycopy(utf8, 0, bytes, length, utf8.length);
+        length += utf8.length;
+        return commit();
+    }
+
+    /**
+     * Returns a scratch buffer with room for at least the given number of UTF-16 units, to be filled by the
+     * caller and passed to {@link #add(char[], int)}. Avoids building intermediate strings when decoding
+     * binary files.
+     *
+     * @param capacity The number of UTF-16 units.
+     *
+     * @return The scratch buffer.
+     */
+    public char[] charBuffer(int capacity) {
+        if (chars.length < capacity) {
+            chars = new char[Math.max(capacity, chars.length * 2)];
+        }
+        return chars;
+    }
+
+    /**
+     * Adds an entry from UTF-16 units, encoding them to UTF-8 directly into the dictionary.
+     *
+     * @param src   The UTF-16 units.
+     * @param count The number of units to read from the buffer.
+     *
+     * @return The handle of the new entry.
+     */
+    public int add(char[] src, int count) {
+        ensureBytes(count * 3);
+        int pos = length;
+        for (int i = 0; i < count; i++) {
+            char c = src[i];
+            if (c < 0x80) {
+                bytes[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[pos++] = (byte) (0xC0 | (c >> 6));
+                bytes[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < count && Character.isLowSurrogate(src[i + 1])) {
+                int cp = Character.toCodePoint(c, src[++i]);
+                bytes[pos++] = (byte) (0xF0 | (cp >> 18));
+                bytes[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                bytes[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                bytes[pos++] = (byte) (0x80 | (cp & 0x3F));
+            } else {
+                bytes[pos++] = (byte) (0xE0 | (c >> 12));
+                bytes[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        length = pos;
+        return commit();
+    }
+
+    private int commit() {
+        if (size + 1 >= offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+        size++;
+        offsets[size] = length;
+        return size - 1;
+    }
+
+    private void ensureBytes(int extra) {
+        if (length + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(length + extra, bytes.length * 2));
+        }
+    }
+
+    /**
+     * Releases the unused capacity. Call when the dictionary is complete.
+     */
+    public void trim() {
+        if (bytes.length > length) {
+            bytes = Arrays.copyOf(bytes, length);
+        }
+        if (offsets.length > size + 1) {
+            offsets = Arrays.copyOf(offsets, size + 1);
+        }
+        chars = new char[0];
+    }
+
+    /** @return The number of entries. **/
+    public int size() {
+        return size;
+    }
+
+    /** @return The raw UTF-8 storage. Entries are delimited by {@link #start(int)} and {@link #end(int)}. **/
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    /** @return The offset of the first byte of the given entry in {@link #bytes()}. **/
+    public int start(int handle) {
+        return offsets[handle];
+    }
+
+    /** @return The offset after the last byte of the given entry in {@link #bytes()}. **/
+    public int end(int handle) {
+        return offsets[handle + 1];
+    }
+
+    /**
+     * Materializes the given entry as a string, names separated by {@link Constants#nameSeparator}.
+     *
+     * @param handle The handle.
+     *
+     * @return The entry.
+     */
+    public String get(int handle) {
+        int start = offsets[handle];
+        return new String(bytes, start, offsets[handle + 1] - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Materializes the names of the given entry.
+     *
+     * @param handle The handle.
+     *
+     * @return The names.
+     */
+    public String[] getNames(int handle) {
+        final int start = offsets[handle];
+        final int end = offsets[handle + 1];
+        int n = 1;
+        for (int i = start; i < end; i++) {
+            if (bytes[i] == SEPARATOR)
+                n++;
+        }
+        String[] names = new String[n];
+        int k = 0, from = start;
+        for (int i = start; i <= end; i++) {
+            if (i == end || bytes[i] == SEPARATOR) {
+                names[k++] = new String(bytes, from, i - from, StandardCharsets.UTF_8);
+                from = i + 1;
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Materializes the first name of the given entry.
+     *
+     * @param handle The handle.
+     *
+     * @return The first name.
+     */
+    public String getFirstName(int handle) {
+        final int start = offsets[handle];
+        final int end = offsets[handle + 1];
+        int i = start;
+        while (i < end && bytes[i] != SEPARATOR)
+            i++;
+        return new String(bytes, start, i - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks whether any of the names of the given entry is equal to the given candidate. Pure ASCII names are
+     * compared in their byte form, and only names with other characters are materialized.
+     *
+     * @param handle    The handle.
+     * @param candidate The candidate name.
+     * @param matchCase Whether the comparison is case-sensitive.
+     *
+     * @return True if the entry contains the candidate name.
+     */
+    public boolean hasName(int handle, String candidate, boolean matchCase) {
+        final int end = offsets[handle + 1];
+        int from = offsets[handle];
+        for (int i = from; i <= end; i++) {
+            if (i == end || bytes[i] == SEPARATOR) {
+                if (nameEquals(from, i, candidate, matchCase))
+                    return true;
+                from = i + 1;
+            }
+        }
+        return false;
+    }
+
+    private boolean nameEquals(int from, int to, String candidate, boolean matchCase) {
+        final int n = candidate.length();
+        boolean ascii = true;
+        for (int i = from; i < to && ascii; i++) {
+            ascii = bytes[i] >= 0;
+        }
+        for (int i = 0; i < n && ascii; i++) {
+            ascii = candidate.charAt(i) < 0x80;
+        }
+        if (!ascii) {
+            String name = new String(bytes, from, to - from, StandardCharsets.UTF_8);
+            return matchCase ? name.equals(candidate) : name.equalsIgnoreCase(candidate);
+        }
+        if (to - from != n) {
+            return false;
+        }
+        for (int i = 0; i < n; i++) {
+            byte b = bytes[from + i];
+            byte c = (byte) candidate.charAt(i);
+            if (matchCase ? b != c : foldAscii(b) != foldAscii(c))
+                return false;
+        }
+        return true;
+    }
+
+    private static byte foldAscii(byte b) {
+        return b >= 'A' && b <= 'Z' ? (byte) (b + 32) : b;
+    }
+}
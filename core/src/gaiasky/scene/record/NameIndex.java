@@ -0,0 +1,310 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.scene.record;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Case-insensitive map from particle names to their index in the dataset. Keys are stored lower-cased as
+ * UTF-8 in a single byte array, and they are hashed and compared in their byte form, so that indexing the
+ * names of a {@link NameDictionary} does not create any {@link String} objects. Uses open addressing with
+ * linear probing.
+ * <p>
+ * Keys are lower-cased with an ASCII fold when they are pure ASCII, and with {@link String#toLowerCase()}
+ * otherwise. If a key is added twice, the last value wins.
+ */
+public class NameIndex {
+    private static final int EMPTY = -1;
+
+    /** Key storage. **/
+    private byte[] keys;
+    private int keysLength = 0;
+    /** Per entry: key start, key end, hash and value. **/
+    private int[] keyStart, keyEnd, hashes, values;
+    private int size = 0;
+    /** Hash table, with entry indices. **/
+    private int[] table;
+    private int mask;
+
+    /** Scratch buffer for numeric keys. **/
+    private final byte[] digits = new byte[20];
+
+    public NameIndex(int expected) {
+        expected = Math.max(expected, 8);
+        int capacity = Integer.highestOneBit(expected * 2 - 1) << 1;
+        table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        mask = capacity - 1;
+        keyStart = new int[expected];
+        keyEnd = new int[expected];
+        hashes = new int[expected];
+        values = new int[expected];
+        keys = new byte[expected * 12];
+    }
+
+    /** @return The number of keys. **/
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds the given name.
+     *
+     * @param name  The name.
+     * @param value The value.
+     */
+    public void put(String name, int value) {
+        byte[] key = toKey(name);
+        put(key, 0, key.length, value, false);
+    }
+
+    /**
+     * Adds every name in the given dictionary entry.
+     *
+     * @param dictionary The dictionary.
+     * @param handle     The handle of the entry.
+     * @param value      The value.
+     */
+    public void put(NameDictionary dictionary, int handle, int value) {
+        final byte[] src = dictionary.bytes();
+        final int end = dictionary.end(handle);
+        int from = dictionary.start(handle);
+        for (int i = from; i <= end; i++) {
+            if (i == end || src[i] == NameDictionary.SEPARATOR) {
+                if (isAscii(src, from, i)) {
+                    put(src, from, i, value, true);
+                } else {
+                    put(new String(src, from, i - from, StandardCharsets.UTF_8), value);
+                }
+                from = i + 1;
+            }
+        }
+    }
+
+    /**
+     * Adds the decimal representation of the given identifier as a name.
+     *
+     * @param id    The identifier.
+     * @param value The value.
+     */
+    public void put(long id, int value) {
+        if (id < 0) {
+            put(Long.toString(id), value);
+            return;
+        }
+        int pos = digits.length;
+        do {
+            digits[--pos] = (byte) ('0' + (id % 10));
+            id /= 10;
+        } while (id != 0);
+        put(digits, pos, digits.length, value, false);
+    }
+
+    /**
+     * Gets the value of the given name.
+     *
+     * @param name         The name, case-insensitive.
+     * @param defaultValue The value to return if the name is not in the index.
+     *
+     * @return The value.
+     */
+    public int get(String name, int defaultValue) {
+        byte[] key = toKey(name);
+        int entry = find(key, 0, key.length, hash(key, 0, key.length, false), false);
+        return entry == EMPTY ? defaultValue : values[entry];
+    }
+
+    public boolean containsKey(String name) {
+        byte[] key = toKey(name);
+        return find(key, 0, key.length, hash(key, 0, key.length, false), false) != EMPTY;
+    }
+
+    /**
+     * Returns the key of the given name, to look it up in several indices with {@link #get(byte[], int)} without
+     * converting it every time.
+     *
+     * @param name The name, case-insensitive.
+     *
+     * @return The key.
+     */
+    public static byte[] key(String name) {
+        return toKey(name);
+    }
+
+    /**
+     * Gets the value of the given key.
+     *
+     * @param key          The key, as returned by {@link #key(String)}.
+     * @param defaultValue The value to return if the key is not in the index.
+     *
+     * @return The value.
+     */
+    public int get(byte[] key, int defaultValue) {
+        int entry = find(key, 0, key.length, hash(key, 0, key.length, false), false);
+        return entry == EMPTY ? defaultValue : values[entry];
+    }
+
+    /**
+     * Adds the keys which start with, or contain, the given key to the given collection. Only the matching keys are
+     * materialized.
+     *
+     * @param key        The key, as returned by {@link #key(String)}.
+     * @param prefix     Whether the keys must start with the key, or only contain it.
+     * @param results    The collection where the matching keys are added.
+     * @param maxResults The maximum number of keys to add.
+     *
+     * @return The number of keys added.
+     */
+    public int matchingKeys(byte[] key, boolean prefix, Collection<String> results, int maxResults) {
+        int n = 0;
+        for (int i = 0; i < size && n < maxResults; i++) {
+            int start = keyStart[i];
+            int last = prefix ? start : keyEnd[i] - key.length;
+            for (int from = start; from <= last; from++) {
+                if (regionEquals(from, key)) {
+                    results.add(new String(keys, start, keyEnd[i] - start, StandardCharsets.UTF_8));
+                    n++;
+                    break;
+                }
+            }
+        }
+        return n;
+    }
+
+    private boolean regionEquals(int from, byte[] key) {
+        for (int i = 0; i < key.length; i++) {
+            if (keys[from + i] != key[i])
+                return false;
+        }
+        return true;
+    }
+
+    private void put(byte[] src, int from, int to, int value, boolean fold) {
+        int hash = hash(src, from, to, fold);
+        int entry = find(src, from, to, hash, fold);
+        if (entry != EMPTY) {
+            values[entry] = value;
+            return;
+        }
+        if (size == values.length) {
+            int capacity = size * 2;
+            keyStart = Arrays.copyOf(keyStart, capacity);
+            keyEnd = Arrays.copyOf(keyEnd, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        int len = to - from;
+        if (keysLength + len > keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(keysLength + len, keys.length * 2));
+        }
+        for (int i = 0; i < len; i++) {
+            byte b = src[from + i];
+            keys[keysLength + i] = fold ? foldAscii(b) : b;
+        }
+        keyStart[size] = keysLength;
+        keyEnd[size] = keysLength + len;
+        keysLength += len;
+        hashes[size] = hash;
+        values[size] = value;
+        insert(size, hash);
+        size++;
+        if (size * 2 > table.length) {
+            rehash(table.length * 2);
+        }
+    }
+
+    private int find(byte[] src, int from, int to, int hash, boolean fold) {
+        // The table and its mask are read together, as the set may be extended while it is looked up
+        final int[] table = this.table;
+        final int mask = table.length - 1;
+        int slot = hash & mask;
+        int entry;
+        while ((entry = table[slot]) != EMPTY) {
+            if (hashes[entry] == hash && keyEquals(entry, src, from, to, fold)) {
+                return entry;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return EMPTY;
+    }
+
+    private void insert(int entry, int hash) {
+        int slot = hash & mask;
+        while (table[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = entry;
+    }
+
+    private void rehash(int capacity) {
+        int[] table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        int mask = capacity - 1;
+        for (int i = 0; i < size; i++) {
+            int slot = hashes[i] & mask;
+            while (table[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i;
+        }
+        this.mask = mask;
+        this.table = table;
+    }
+
+    private boolean keyEquals(int entry, byte[] src, int from, int to, boolean fold) {
+        int start = keyStart[entry];
+        if (keyEnd[entry] - start != to - from) {
+            return false;
+        }
+        for (int i = from, j = start; i < to; i++, j++) {
+            byte b = fold ? foldAscii(src[i]) : src[i];
+            if (keys[j] != b) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** FNV-1a hash of the key bytes, with a final mix for the power-of-two table. **/
+    private static int hash(byte[] src, int from, int to, boolean fold) {
+        int h = 0x811C9DC5;
+        for (int i = from; i < to; i++) {
+            h ^= (fold ? foldAscii(src[i]) : src[i]) & 0xFF;
+            h *= 0x01000193;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static byte foldAscii(byte b) {
+        return b >= 'A' && b <= 'Z' ? (byte) (b + 32) : b;
+    }
+
+    private static boolean isAscii(byte[] src, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (src[i] < 0)
+                return false;
+        }
+        return true;
+    }
+
+    private static byte[] toKey(String name) {
+        final int n = name.length();
+        boolean ascii = true;
+        for (int i = 0; i < n && ascii; i++) {
+            ascii = name.charAt(i) < 0x80;
+        }
+        if (ascii) {
+            byte[] key = new byte[n];
+            for (int i = 0; i < n; i++) {
+                key[i] = foldAscii((byte) name.charAt(i));
+            }
+            return key;
+        }
+        return name.toLowerCase().getBytes(StandardCharsets.UTF_8);
+    }
+}
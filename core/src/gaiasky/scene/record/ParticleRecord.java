@@ -47,15 +47,25 @@ public class ParticleRecord implements IParticleRecord {
     // Float data array
     public float[] dataF;
 
-    // Particle names (optional)
+    // Particle names (optional), if not stored in a name dictionary
     public String[] names;
 
+    // Name dictionary of the dataset and handle of the names of this record in it (optional)
+    protected NameDictionary nameDictionary;
+    protected int nameHandle = -1;
+    // First name, materialized from the name dictionary the first time it is requested
+    protected String firstName;
+
     // Extra attributes (optional)
     public ObjectDoubleMap<UCD> extra;
 
     // Octant, if in octree
     public OctreeNode octant;
 
+    // Derived coordinates cache of the dataset, and index of this record in it (optional)
+    protected DerivedCoordinates derived;
+    protected int derivedIndex;
+
     public ParticleRecord(double[] dataD) {
         this.dataD = dataD;
         this.dataF = null;
@@ -87,6 +97,17 @@ public class ParticleRecord implements IParticleRecord {
         this.extra = extra;
     }
 
+    /**
+     * Creates a record whose names are stored in the given dictionary. If the handle is negative, the
+     * name of the record is its identifier.
+     */
+    public ParticleRecord(double[] dataD, float[] dataF, long id, NameDictionary nameDictionary, int nameHandle) {
+        this(dataD, dataF);
+        this.id = id;
+        this.nameDictionary = nameDictionary;
+        this.nameHandle = nameHandle;
+    }
+
     public ParticleRecord(double[] dataD, float[] dataF, Long id, String name) {
         this(dataD, dataF, id, name == null ? new String[] {} : new String[] { name });
     }
@@ -125,6 +146,21 @@ public class ParticleRecord implements IParticleRecord {
         dataD[I_X] = x;
         dataD[I_Y] = y;
         dataD[I_Z] = z;
+        if (derived != null) {
+            derived.invalidate();
+        }
+    }
+
+    /**
+     * Links this record to the derived coordinates cache of its dataset, so that the
+     * spherical coordinate accessors are served by array lookup.
+     *
+     * @param derived The derived coordinates cache, or null to compute them on the fly.
+     * @param index   The index of this record in the cache.
+     */
+    public void setDerivedCoordinates(DerivedCoordinates derived, int index) {
+        this.derived = derived;
+        this.derivedIndex = index;
     }
 
     @Override
@@ -230,14 +266,65 @@ public class ParticleRecord implements IParticleRecord {
 
     @Override
     public String[] names() {
+        if (names == null && nameDictionary != null) {
+            // Materialize, not cached
+            return nameHandle >= 0 ? nameDictionary.getNames(nameHandle) : new String[] { Long.toString(id) };
+        }
         return names;
     }
 
     @Override
     public String namesConcat() {
+        if (names == null && nameDictionary != null) {
+            return nameHandle >= 0 ? nameDictionary.get(nameHandle) : Long.toString(id);
+        }
         return TextUtils.concatenate(Constants.nameSeparator, names);
     }
 
+    @Override
+    public String firstName() {
+        if (names == null && nameDictionary != null) {
+            if (firstName == null) {
+                firstName = nameHandle >= 0 ? nameDictionary.getFirstName(nameHandle) : Long.toString(id);
+            }
+            return firstName;
+        }
+        return names != null && names.length > 0 ? names[0] : null;
+    }
+
+    /**
+     * Adds the names of this record to the given index, without materializing them if they are
+     * in a name dictionary.
+     *
+     * @param index The index.
+     * @param value The value of the names in the index.
+     */
+    public void indexNames(NameIndex index, int value) {
+        if (names == null && nameDictionary != null) {
+            if (nameHandle >= 0) {
+                index.put(nameDictionary, nameHandle, value);
+            } else {
+                index.put(id, value);
+            }
+        } else if (names != null) {
+            for (String name : names) {
+                index.put(name, value);
+            }
+        }
+    }
+
+    /**
+     * Copies the names out of the name dictionary into the names array, if needed, so that they can be modified.
+     */
+    private void materializeNames() {
+        if (names == null && nameDictionary != null) {
+            names = names();
+        }
+        nameDictionary = null;
+        nameHandle = -1;
+        firstName = null;
+    }
+
     @Override
     public boolean hasName(String candidate) {
         return hasName(candidate, false);
@@ -245,6 +332,10 @@ public class ParticleRecord implements IParticleRecord {
 
     @Override
     public boolean hasName(String candidate, boolean matchCase) {
+        if (names == null && nameDictionary != null) {
+            // Compared against the dictionary bytes, without materializing the names
+            return nameHandle >= 0 ? nameDictionary.hasName(nameHandle, candidate, matchCase) : isId(candidate);
+        }
         if (names == null) {
             return false;
         } else {
@@ -261,13 +352,32 @@ public class ParticleRecord implements IParticleRecord {
         return false;
     }
 
+    /** Checks whether the given name is the decimal representation of the id of this record. **/
+    private boolean isId(String candidate) {
+        long value = id;
+        if (value < 0) {
+            return candidate.equals(Long.toString(value));
+        }
+        int i = candidate.length();
+        do {
+            if (i == 0 || candidate.charAt(--i) != '0' + (value % 10))
+                return false;
+            value /= 10;
+        } while (value != 0);
+        return i == 0;
+    }
+
     @Override
     public void setNames(String... names) {
+        this.nameDictionary = null;
+        this.nameHandle = -1;
+        this.firstName = null;
         this.names = names;
     }
 
     @Override
     public void setName(String name) {
+        materializeNames();
         if (names != null)
             names[0] = name;
         else
@@ -277,7 +387,8 @@ public class ParticleRecord implements IParticleRecord {
     @Override
     public void addName(String name) {
         name = name.strip();
-        if (!hasName(name))
+        if (!hasName(name)) {
+            materializeNames();
             if (names != null) {
                 // Extend array
                 String[] newNames = new String[names.length + 1];
@@ -287,6 +398,7 @@ public class ParticleRecord implements IParticleRecord {
             } else {
                 setName(name);
             }
+        }
     }
 
     @Override
@@ -347,24 +459,32 @@ public class ParticleRecord implements IParticleRecord {
     }
 
     /**
-     * Right ascension in degrees. Beware, does the conversion on the fly.
+     * Right ascension in degrees. Beware, does the conversion on the fly, unless
+     * the dataset has derived coordinates.
      *
      * @return The right ascension, in degrees
      **/
     @Override
     public double ra() {
+        if (derived != null) {
+            return derived.ra(derivedIndex);
+        }
         Vector3d cartPos = pos(aux3d1.get());
         Vector3d sphPos = Coordinates.cartesianToSpherical(cartPos, aux3d2.get());
         return MathUtilsDouble.radDeg * sphPos.x;
     }
 
     /**
-     * Declination in degrees. Beware, does the conversion on the fly.
+     * Declination in degrees. Beware, does the conversion on the fly, unless
+     * the dataset has derived coordinates.
      *
      * @return The declination, in degrees
      **/
     @Override
     public double dec() {
+        if (derived != null) {
+            return derived.dec(derivedIndex);
+        }
         Vector3d cartPos = pos(aux3d1.get());
         Vector3d sphPos = Coordinates.cartesianToSpherical(cartPos, aux3d2.get());
         return MathUtilsDouble.radDeg * sphPos.y;
@@ -377,6 +497,9 @@ public class ParticleRecord implements IParticleRecord {
      */
     @Override
     public double lambda() {
+        if (derived != null) {
+            return derived.lambda(derivedIndex);
+        }
         Vector3d cartEclPos = pos(aux3d1.get()).mul(Coordinates.eqToEcl());
         Vector3d sphPos = Coordinates.cartesianToSpherical(cartEclPos, aux3d2.get());
         return MathUtilsDouble.radDeg * sphPos.x;
@@ -389,6 +512,9 @@ public class ParticleRecord implements IParticleRecord {
      */
     @Override
     public double beta() {
+        if (derived != null) {
+            return derived.beta(derivedIndex);
+        }
         Vector3d cartEclPos = pos(aux3d1.get()).mul(Coordinates.eqToEcl());
         Vector3d sphPos = Coordinates.cartesianToSpherical(cartEclPos, aux3d2.get());
         return MathUtilsDouble.radDeg * sphPos.y;
@@ -401,6 +527,9 @@ public class ParticleRecord implements IParticleRecord {
      */
     @Override
     public double l() {
+        if (derived != null) {
+            return derived.l(derivedIndex);
+        }
         Vector3d cartEclPos = pos(aux3d1.get()).mul(Coordinates.eqToGal());
         Vector3d sphPos = Coordinates.cartesianToSpherical(cartEclPos, aux3d2.get());
         return MathUtilsDouble.radDeg * sphPos.x;
@@ -413,6 +542,9 @@ public class ParticleRecord implements IParticleRecord {
      */
     @Override
     public double b() {
+        if (derived != null) {
+            return derived.b(derivedIndex);
+        }
         Vector3d cartEclPos = pos(aux3d1.get()).mul(Coordinates.eqToGal());
         Vector3d sphPos = Coordinates.cartesianToSpherical(cartEclPos, aux3d2.get());
         return MathUtilsDouble.radDeg * sphPos.y;
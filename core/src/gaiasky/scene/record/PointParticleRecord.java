@@ -59,6 +59,11 @@ public class PointParticleRecord implements IParticleRecord {
         return null;
     }
 
+    @Override
+    public String firstName() {
+        return null;
+    }
+
     @Override
     public boolean hasName(String candidate) {
         return false;
@@ -6,6 +6,7 @@ import com.badlogic.ashley.core.Family;
 import com.badlogic.ashley.systems.IteratingSystem;
 import gaiasky.util.Logger;
 import gaiasky.util.Logger.Log;
+import gaiasky.util.StartupProfiler;
 
 /**
  * An abstract initialization system, providing some common utilities useful for concrete
@@ -52,6 +53,13 @@ public abstract class AbstractInitSystem extends IteratingSystem implements Enti
         }
     }
 
+    @Override
+    public void update(float deltaTime) {
+        try (var ignored = StartupProfiler.instance.start(this + (isModeSetUp() ? " (set-up)" : " (init)"))) {
+            super.update(deltaTime);
+        }
+    }
+
     @Override
     public String toString() {
         return this.getClass().getSimpleName();
@@ -8,7 +8,7 @@ import gaiasky.render.ComponentTypes;
 import gaiasky.render.ComponentTypes.ComponentType;
 import gaiasky.scene.Mapper;
 import gaiasky.scene.Scene;
-import gaiasky.util.math.Vector3b;
+import gaiasky.util.math.Vector3dd;
 
 /**
  * Initializes the base and graph components of entities.
@@ -36,7 +36,7 @@ public class BaseInitializer extends AbstractInitSystem {
         // Initialize base scene graph structures.
         if (graph != null) {
             graph.localTransform = new Matrix4();
-            graph.translation = new Vector3b();
+            graph.translation = new Vector3dd();
         }
 
         // Render reference.
@@ -27,7 +27,6 @@ import gaiasky.util.math.Vector2d;
 import gaiasky.util.math.Vector3b;
 import gaiasky.util.math.Vector3d;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -201,40 +200,11 @@ public class ParticleSetInitializer extends AbstractInitSystem {
     }
 
     public void computeMinMeanMaxDistances(ParticleSet set) {
-        set.meanDistance = 0;
-        set.maxDistance = Double.MIN_VALUE;
-        set.minDistance = Double.MAX_VALUE;
-        List<Double> distances = new ArrayList<>();
-        for (IParticleRecord point : set.data()) {
-            // Add sample to mean distance
-            double dist = len(point.x(), point.y(), point.z());
-            if (Double.isFinite(dist)) {
-                distances.add(dist);
-                set.maxDistance = Math.max(set.maxDistance, dist);
-                set.minDistance = Math.min(set.minDistance, dist);
-            }
-        }
-        // Mean is computed as half of the 90th percentile to avoid outliers
-        distances.sort(Double::compare);
-        int idx = (int) Math.ceil((90d / 100d) * (double) distances.size());
-        set.meanDistance = distances.get(idx - 1) / 2d;
+        set.computeMinMeanMaxDistances();
     }
 
     public void computeMeanPosition(Entity entity, ParticleSet set) {
-        var body = Mapper.body.get(entity);
-        if (set.meanPosition != null) {
-            // Use given mean position.
-            body.pos.set(set.meanPosition);
-        } else if (set.data() == null || set.data().size() == 0) {
-            // Mean position is 0.
-            body.pos.set(0, 0, 0);
-        } else {
-            // Compute mean position from particles.
-            for (IParticleRecord point : set.data()) {
-                body.pos.add(point.x(), point.y(), point.z());
-            }
-            body.pos.scl(1d / set.data().size());
-        }
+        set.computeMeanPosition(Mapper.body.get(entity).pos);
     }
 
     public void setLabelPosition(Entity entity) {
@@ -251,10 +221,6 @@ public class ParticleSetInitializer extends AbstractInitSystem {
         }
     }
 
-    private double len(double x, double y, double z) {
-        return Math.sqrt(x * x + y * y + z * z);
-    }
-
     private void initSortingData(Entity entity, StarSet starSet) {
         var pointData = starSet.pointData;
 
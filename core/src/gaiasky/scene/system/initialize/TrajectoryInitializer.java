@@ -5,6 +5,7 @@ import com.badlogic.ashley.core.Family;
 import com.badlogic.gdx.utils.reflect.ClassReflection;
 import com.badlogic.gdx.utils.reflect.ReflectionException;
 import gaiasky.data.orbit.IOrbitDataProvider;
+import gaiasky.data.orbit.OrbitFileDataProvider;
 import gaiasky.data.util.OrbitDataLoader.OrbitDataLoaderParameters;
 import gaiasky.render.RenderGroup;
 import gaiasky.scene.Mapper;
@@ -13,6 +14,9 @@ import gaiasky.scene.entity.TrajectoryUtils;
 import gaiasky.scene.system.render.draw.line.LineEntityRenderSystem;
 import org.lwjgl.opengl.GL20;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 /**
  * Initializes entities with a {@link Trajectory} component.
  */
@@ -29,6 +33,30 @@ public class TrajectoryInitializer extends AbstractInitSystem {
         TrajectoryUtils.initRefresher();
     }
 
+    @Override
+    public void update(float deltaTime) {
+        if (isModeInit()) {
+            preloadOrbitFiles();
+        }
+        super.update(deltaTime);
+    }
+
+    /**
+     * Starts loading the orbit files of all the entities in parallel, before they are initialized one by one.
+     */
+    private void preloadOrbitFiles() {
+        Set<String> files = new LinkedHashSet<>();
+        for (Entity entity : getEntities()) {
+            var trajectory = Mapper.trajectory.get(entity);
+            if (!trajectory.onlyBody && OrbitFileDataProvider.class.getName().equals(trajectory.provider) && trajectory.oc != null && trajectory.oc.source != null) {
+                files.add(trajectory.oc.source);
+            }
+        }
+        if (files.size() > 1) {
+            OrbitFileDataProvider.preload(files);
+        }
+    }
+
     @Override
     public void initializeEntity(Entity entity) {
         var base = Mapper.base.get(entity);
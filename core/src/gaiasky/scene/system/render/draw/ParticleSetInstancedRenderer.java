@@ -130,8 +130,7 @@ public class ParticleSetInstancedRenderer extends InstancedRenderSystem implemen
                         if (hl.isHighlighted()) {
                             if (hlCmap) {
                                 // Color map
-                                double[] color = cmap.colormap(hl.getHlcmi(), hl.getHlcma().get(particle), hl.getHlcmmin(), hl.getHlcmmax());
-                                tempInstanceAttribs[curr.instanceIdx + curr.colorOffset] = Color.toFloatBits((float) color[0], (float) color[1], (float) color[2], 1.0f);
+                                tempInstanceAttribs[curr.instanceIdx + curr.colorOffset] = cmap.colormapPacked(hl.getHlcmi(), hl.getHlcma().get(particle), hl.getHlcmmin(), hl.getHlcmmax());
                             } else {
                                 // Plain
                                 tempInstanceAttribs[curr.instanceIdx + curr.colorOffset] = Color.toFloatBits(c[0], c[1], c[2], c[3]);
@@ -149,8 +149,8 @@ public class PrimitiveVertexRenderSystem<T extends IGPUVertsRenderable> extends
                 }
                 // Coord maps time.
                 boolean hasTime = od.hasTime();
-                long t0 = hasTime ? od.getDate(0).getEpochSecond() : 0;
-                long t1 = hasTime ? od.getDate(od.getNumPoints() - 1).getEpochSecond() : 0;
+                long t0 = hasTime ? od.getStartMs() : 0;
+                long t1 = hasTime ? od.getEndMs() : 0;
                 long t01 = t1 - t0;
 
                 // Ensure vertices capacity.
@@ -158,7 +158,7 @@ public class PrimitiveVertexRenderSystem<T extends IGPUVertsRenderable> extends
                 curr.vertices = tempVerts;
                 float[] cc = renderable.getColor();
                 for (int point_i = 0; point_i < nPoints; point_i++) {
-                    coord(!hasTime ? 1f : (float) ((double) (od.getDate(point_i).getEpochSecond() - t0) / (double) t01));
+                    coord(!hasTime ? 1f : (float) ((double) (od.getTimeMs(point_i) - t0) / (double) t01));
                     color(cc[0], cc[1], cc[2], 1.0);
                     vertex((float) od.getX(point_i), (float) od.getY(point_i), (float) od.getZ(point_i));
                 }
@@ -5,7 +5,6 @@
 
 package gaiasky.scene.system.render.draw;
 
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.PerspectiveCamera;
 import com.badlogic.gdx.graphics.VertexAttribute;
@@ -138,8 +137,7 @@ public class StarSetInstancedRenderer extends InstancedRenderSystem implements I
                         // COLOR
                         if (hlCmap) {
                             // Color map
-                            double[] color = cmap.colormap(hl.getHlcmi(), hl.getHlcma().get(particle), hl.getHlcmmin(), hl.getHlcmmax());
-                            tempInstanceAttribs[curr.instanceIdx + curr.colorOffset] = Color.toFloatBits((float) color[0], (float) color[1], (float) color[2], 1.0f);
+                            tempInstanceAttribs[curr.instanceIdx + curr.colorOffset] = cmap.colormapPacked(hl.getHlcmi(), hl.getHlcma().get(particle), hl.getHlcmmin(), hl.getHlcmmax());
                         } else {
                             // Plain
                             tempInstanceAttribs[curr.instanceIdx + curr.colorOffset] = utils.getColor(i, set, hl);
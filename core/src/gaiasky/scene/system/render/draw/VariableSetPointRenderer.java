@@ -172,8 +172,7 @@ public class VariableSetPointRenderer extends ImmediateModeRenderSystem implemen
                                     // COLOR
                                     if (hlCmap) {
                                         // Color map
-                                        double[] color = cmap.colormap(hl.getHlcmi(), hl.getHlcma().get(particle), hl.getHlcmmin(), hl.getHlcmmax());
-                                        tempVerts[curr.vertexIdx + curr.colorOffset] = Color.toFloatBits((float) color[0], (float) color[1], (float) color[2], 1.0f);
+                                        tempVerts[curr.vertexIdx + curr.colorOffset] = cmap.colormapPacked(hl.getHlcmi(), hl.getHlcma().get(particle), hl.getHlcmmin(), hl.getHlcmmax());
                                     } else {
                                         // Plain
                                         tempVerts[curr.vertexIdx + curr.colorOffset] = utils.getColor(i, set, hl);
@@ -5,7 +5,6 @@
 
 package gaiasky.scene.system.render.draw;
 
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.PerspectiveCamera;
 import com.badlogic.gdx.graphics.VertexAttribute;
@@ -152,8 +151,7 @@ public class VariableSetRenderer extends PointCloudTriRenderSystem implements IO
                                 // COLOR
                                 if (hlCmap) {
                                     // Color map
-                                    double[] color = cmap.colormap(hl.getHlcmi(), hl.getHlcma().get(particle), hl.getHlcmmin(), hl.getHlcmmax());
-                                    tempVerts[curr.vertexIdx + curr.colorOffset] = Color.toFloatBits((float) color[0], (float) color[1], (float) color[2], 1.0f);
+                                    tempVerts[curr.vertexIdx + curr.colorOffset] = cmap.colormapPacked(hl.getHlcmi(), hl.getHlcma().get(particle), hl.getHlcmmin(), hl.getHlcmmax());
                                 } else {
                                     // Plain
                                     tempVerts[curr.vertexIdx + curr.colorOffset] = utils.getColor(i, set, hl);
@@ -278,7 +278,7 @@ public class LineEntityRenderSystem {
                 dAlpha = (topAlpha - bottomAlpha) / nPoints;
                 Instant currentTime = GaiaSky.instance.time.getTime();
                 long wrapTime = verts.pointCloudData.getWrapTimeMs(currentTime);
-                stIdx = verts.pointCloudData.getIndex(wrapTime);
+                stIdx = verts.pointCloudData.getIndex(wrapTime, trajectory.cursor);
 
                 if (trajectory.body != null) {
                     bodyPos.set(Mapper.graph.get(trajectory.body).translation);
@@ -242,7 +242,7 @@ public class LabelEntityRenderSystem {
             var pointData = view.particleSet.pointData;
             for (int i = 0; i < Math.min(50, pointData.size()); i++) {
                 IParticleRecord pb = pointData.get(active[i]);
-                if (pb.names() != null) {
+                if (pb.firstName() != null) {
                     Vector3d camPos = fetchPosition(pb, view.particleSet.cPosD, D31, 0);
                     float distToCamera = (float) camPos.len();
                     float viewAngle = 1e-4f / camera.getFovFactor();
@@ -255,7 +255,7 @@ public class LabelEntityRenderSystem {
                     float textSize = (float) FastMath.tanh(viewAngle) * distToCamera * 1e5f;
                     float alpha = Math.min((float) FastMath.atan(textSize / distToCamera), 1.e-3f);
                     textSize = (float) FastMath.tan(alpha) * distToCamera * 0.5f;
-                    render3DLabel(view, batch, shader, ((TextRenderer) sys).fontDistanceField, camera, rc, pb.names()[0], camPos.put(D31), distToCamera, view.textScale() * camera.getFovFactor(), textSize * camera.getFovFactor(), view.getRadius(), view.base.forceLabel);
+                    render3DLabel(view, batch, shader, ((TextRenderer) sys).fontDistanceField, camera, rc, pb.firstName(), camPos.put(D31), distToCamera, view.textScale() * camera.getFovFactor(), textSize * camera.getFovFactor(), view.getRadius(), view.base.forceLabel);
                 }
             }
         }
@@ -300,7 +300,7 @@ public class LabelEntityRenderSystem {
                 float viewAngle = (float) (((radius / distToCamera) / camera.getFovFactor()) * Settings.settings.scene.star.brightness * 6f);
 
                 if (camera.isVisible(viewAngle, starPosition, distToCamera)) {
-                    render2DLabel(batch, shader, rc, ((TextRenderer) sys).font2d, camera, star.names()[0], starPosition);
+                    render2DLabel(batch, shader, rc, ((TextRenderer) sys).font2d, camera, star.firstName(), starPosition);
                 }
             }
         } else {
@@ -336,11 +336,11 @@ public class LabelEntityRenderSystem {
             shader.setUniformf("u_viewAnglePow", 1f);
             shader.setUniformf("u_thLabel", thresholdLabel * camera.getFovFactor());
             // Override object color
-            shader.setUniform4fv("u_color", view.textColour(star.names()[0]), 0, 4);
+            shader.setUniform4fv("u_color", view.textColour(star.firstName()), 0, 4);
             double textSize = FastMath.tanh(viewAngle) * distToCamera * 1e5d;
             float alpha = Math.min((float) FastMath.atan(textSize / distToCamera), 1.e-3f);
             textSize = (float) FastMath.tan(alpha) * distToCamera * 0.5f;
-            render3DLabel(view, batch, shader, ((TextRenderer) sys).fontDistanceField, camera, rc, star.names()[0], starPosition, distToCamera, view.textScale() * camera.getFovFactor(), textSize * camera.getFovFactor(), radius, forceLabel);
+            render3DLabel(view, batch, shader, ((TextRenderer) sys).fontDistanceField, camera, rc, star.firstName(), starPosition, distToCamera, view.textScale() * camera.getFovFactor(), textSize * camera.getFovFactor(), radius, forceLabel);
         }
     }
 
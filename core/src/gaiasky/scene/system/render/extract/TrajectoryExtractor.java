@@ -80,7 +80,7 @@ public class TrajectoryExtractor extends AbstractExtractSystem {
 
                 var verts = Mapper.verts.get(entity);
                 if (verts.pointCloudData == null || added) {
-                    utils.refreshOrbit(trajectory, verts, false);
+                    utils.refreshOrbit(trajectory, verts, false, added);
                 }
             }
             // Orbital elements renderer
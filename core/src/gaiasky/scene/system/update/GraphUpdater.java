@@ -16,8 +16,9 @@ import gaiasky.util.Nature;
 import gaiasky.util.Settings;
 import gaiasky.util.coord.AstroUtils;
 import gaiasky.util.math.MathUtilsDouble;
-import gaiasky.util.math.Vector3b;
+import gaiasky.util.math.Vector3bCache;
 import gaiasky.util.math.Vector3d;
+import gaiasky.util.math.Vector3dd;
 import gaiasky.util.time.ITimeFrameProvider;
 import net.jafama.FastMath;
 
@@ -27,6 +28,13 @@ import java.util.concurrent.atomic.AtomicInteger;
  * Processes entities in a scene graph, which have a {@link GraphRoot}
  * component. Generally, this should be a single entity unless
  * we have more than one scene graph.
+ * <p>
+ * The translations are double-double vectors which are updated in place, and the arbitrary
+ * precision positions of the bodies and the camera are only converted when they change, so
+ * that updating the graph does not allocate when the positions do not change. When the time
+ * runs, the coordinates of the moving bodies are obtained in double-double precision as well,
+ * so that they are not converted back. Setting the arbitrary precision positions of the bodies
+ * still allocates in that case.
  */
 public class GraphUpdater extends AbstractUpdateSystem {
     private static final Logger.Log logger = Logger.getLogger(GraphUpdater.class);
@@ -34,7 +42,8 @@ public class GraphUpdater extends AbstractUpdateSystem {
     int processed = 0, lastProcessed;
     private ICamera camera;
     private Vector3d D31;
-    private Vector3b B31;
+    private Vector3dd DD31, DD32;
+    private final Vector3bCache cameraPos, cameraInversePos;
     private SpacecraftView view;
 
     /**
@@ -46,7 +55,10 @@ public class GraphUpdater extends AbstractUpdateSystem {
         super(family, priority);
         this.time = time;
         this.D31 = new Vector3d();
-        this.B31 = new Vector3b();
+        this.DD31 = new Vector3dd();
+        this.DD32 = new Vector3dd();
+        this.cameraPos = new Vector3bCache();
+        this.cameraInversePos = new Vector3bCache();
         this.view = new SpacecraftView();
     }
 
@@ -69,7 +81,7 @@ public class GraphUpdater extends AbstractUpdateSystem {
         // This runs the root node
         var root = entity.getComponent(GraphNode.class);
 
-        root.translation.set(camera.getInversePos());
+        root.translation.set(cameraInversePos.get(camera.getInversePos()));
         update(entity, time, null, 1);
     }
 
@@ -96,7 +108,7 @@ public class GraphUpdater extends AbstractUpdateSystem {
         }
     }
 
-    public void update(Entity entity, ITimeFrameProvider time, final Vector3b parentTransform, float opacity) {
+    public void update(Entity entity, ITimeFrameProvider time, final Vector3dd parentTransform, float opacity) {
         processed++;
         var graph = Mapper.graph.get(entity);
 
@@ -112,10 +124,14 @@ public class GraphUpdater extends AbstractUpdateSystem {
             if (time.getHdiff() != 0 && coordinates != null && coordinates.coordinates != null) {
                 var rotation = Mapper.rotation.get(entity);
                 // Load this object's equatorial cartesian coordinates into pos
-                coordinates.timeOverflow = coordinates.coordinates.getEquatorialCartesianCoordinates(time.getTime(), body.pos) == null;
+                var pos = coordinates.coordinates.getEquatorialCartesianCoordinates(time.getTime(), body.pos, DD32);
+                coordinates.timeOverflow = pos == null;
+                if (pos != null) {
+                    graph.localPosition.set(body.pos, pos);
+                }
 
                 // Update the spherical position
-                gaiasky.util.coord.Coordinates.cartesianToSpherical(body.pos, D31);
+                gaiasky.util.coord.Coordinates.cartesianToSpherical(graph.localPosition.get(body.pos).put(D31), D31);
                 body.posSph.set((float) (Nature.TO_DEG * D31.x), (float) (Nature.TO_DEG * D31.y));
 
                 // Update angle
@@ -128,7 +144,7 @@ public class GraphUpdater extends AbstractUpdateSystem {
             if (graph.positionUpdaterConsumer != null) {
                 graph.positionUpdaterConsumer.apply(this, entity, graph);
             }
-            graph.translation.add(body.pos);
+            graph.translation.add(graph.localPosition.get(body.pos));
 
             // Update opacity
             if (fade != null && (fade.fadeIn != null || fade.fadeOut != null)) {
@@ -140,7 +156,7 @@ public class GraphUpdater extends AbstractUpdateSystem {
                 } else {
                     base.opacity = 1;
                 }
-                updateFadeDistance(body, fade);
+                updateFadeDistance(body, graph, fade);
                 updateFadeOpacity(base, fade);
             } else {
                 base.opacity = opacity;
@@ -192,15 +208,17 @@ public class GraphUpdater extends AbstractUpdateSystem {
         }
     }
 
-    private void updateFadeDistance(Body body, Fade fade) {
+    private void updateFadeDistance(Body body, GraphNode graph, Fade fade) {
+        var camPos = cameraPos.get(camera.getPos());
+        var pos = graph.localPosition.get(body.pos);
         if (fade.fadePositionObject != null) {
             fade.currentDistance = Mapper.body.get(fade.fadePositionObject).distToCamera;
         } else if (fade.fadePosition != null) {
-            fade.currentDistance = D31.set(fade.fadePosition).sub(camera.getPos()).len() * camera.getFovFactor();
+            fade.currentDistance = fade.fadePosition.dst(camPos) * camera.getFovFactor();
         } else {
-            fade.currentDistance = D31.set(body.pos).sub(camera.getPos()).len() * camera.getFovFactor();
+            fade.currentDistance = pos.dst(camPos) * camera.getFovFactor();
         }
-        body.distToCamera = fade.fadePositionObject == null ? body.pos.dst(camera.getPos(), B31).doubleValue() : Mapper.body.get(fade.fadePositionObject).distToCamera;
+        body.distToCamera = fade.fadePositionObject == null ? pos.dst(camPos) : Mapper.body.get(fade.fadePositionObject).distToCamera;
     }
 
     private void updateFadeOpacity(Base base, Fade fade) {
@@ -236,9 +254,11 @@ public class GraphUpdater extends AbstractUpdateSystem {
         var parentSa = Mapper.sa.get(graph.parent);
 
         boolean update = parentBody.solidAngle > parentSa.thresholdQuad * 30f;
-        if (update) {
+        // Only touch the tag when the state changes, adding and removing components every frame is not free.
+        boolean tagged = Mapper.tagNoProcess.has(entity);
+        if (update && tagged) {
             entity.remove(TagNoProcess.class);
-        } else {
+        } else if (!update && !tagged) {
             entity.add(getEngine().createComponent(TagNoProcess.class));
         }
         return update;
@@ -296,7 +316,7 @@ public class GraphUpdater extends AbstractUpdateSystem {
             engine.yaw = Math.toDegrees(engine.yaw);
         }
         // Update float vectors
-        Vector3b camPos = B31.set(view.body.pos).add(camera.getInversePos());
+        Vector3dd camPos = DD31.set(graph.localPosition.get(view.body.pos)).add(cameraInversePos.get(camera.getInversePos()));
         camPos.put(engine.posf);
         engine.direction.put(engine.directionf);
         engine.up.put(engine.upf);
@@ -47,7 +47,7 @@ public class PerimeterUpdater extends AbstractUpdateSystem {
             toCartesian(perimeter.loc2d[0][0][0], perimeter.loc2d[0][0][1], perimeter.cart0, graph.localTransform);
 
             updateLocalValues(parent, parentBody, graph, perimeter);
-            graph.translation.add(body.pos);
+            graph.translation.add(graph.localPosition.get(body.pos));
 
             base.opacity = (float) MathUtilsDouble.lint(parentBody.solidAngleApparent, angleLow, angleHigh, 0, 1);
             base.opacity *= base.getVisibilityOpacityFactor();
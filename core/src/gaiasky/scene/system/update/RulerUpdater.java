@@ -9,12 +9,14 @@ import gaiasky.scene.Mapper;
 import gaiasky.util.GlobalResources;
 import gaiasky.util.Pair;
 import gaiasky.util.Settings;
+import gaiasky.util.math.Vector3d;
 
 import java.text.DecimalFormat;
 
 public class RulerUpdater extends AbstractUpdateSystem {
 
     private final DecimalFormat nf;
+    private final Vector3d D31 = new Vector3d();
 
     public RulerUpdater(Family family, int priority) {
         super(family, priority);
@@ -42,8 +44,8 @@ public class RulerUpdater extends AbstractUpdateSystem {
             ruler.p1.set(ruler.pos1).add(parentGraph.translation);
             // Mid-point
             ruler.m.set(ruler.p1).sub(ruler.p0).scl(0.5).add(ruler.p0);
-            body.pos.set(ruler.m).sub(parentGraph.translation);
-            graph.translation.set(parentGraph.translation).add(body.pos);
+            body.pos.set(D31.set(ruler.m).sub(parentGraph.translation));
+            graph.translation.set(parentGraph.translation).add(graph.localPosition.get(body.pos));
             // Distance in internal units
             double dst = ruler.p0.dst(ruler.p1);
             Pair<Double, String> d = GlobalResources.doubleToDistanceString(dst, Settings.settings.program.ui.distanceUnits);
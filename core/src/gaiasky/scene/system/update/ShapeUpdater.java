@@ -37,7 +37,7 @@ public class ShapeUpdater extends AbstractUpdateSystem {
             LightingUtils.updateLights(model, body, graph, GaiaSky.instance.cameraManager);
         }
 
-        graph.translation.sub(body.pos);
+        graph.translation.sub(graph.localPosition.get(body.pos));
         if (shape.track != null) {
             // Overwrite position if track object is set.
             EntityUtils.getAbsolutePosition(shape.track.getEntity(), shape.trackName.toLowerCase(Locale.ROOT), body.pos);
@@ -46,7 +46,7 @@ public class ShapeUpdater extends AbstractUpdateSystem {
             body.pos.scl(0);
         }
         // Update pos, local transform
-        graph.translation.add(body.pos);
+        graph.translation.add(graph.localPosition.get(body.pos));
 
         graph.localTransform.idt().translate(graph.translation.put(F31)).scl(body.size);
         if (transform.matrixf != null) {
@@ -50,8 +50,8 @@ public class TrajectoryUpdater extends AbstractUpdateSystem {
         // Compute position percentage in the trajectory.
         if (verts.pointCloudData != null && verts.pointCloudData.hasTime()) {
             long now = time.getTime().toEpochMilli();
-            long t0 = verts.pointCloudData.time.get(0).toEpochMilli();
-            long t1 = verts.pointCloudData.time.get(verts.pointCloudData.getNumPoints() - 1).toEpochMilli();
+            long t0 = verts.pointCloudData.getStartMs();
+            long t1 = verts.pointCloudData.getEndMs();
 
             long t1t0 = t1 - t0;
             long nowt0 = now - t0;
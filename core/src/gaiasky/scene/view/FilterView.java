@@ -24,7 +24,7 @@ public class FilterView extends BaseView {
             return false;
         }
         if (dataset != null && dataset.catalogInfo != null && dataset.catalogInfo.filter != null) {
-            return dataset.catalogInfo.filter.evaluate(set.pointData.get(i));
+            return set.filterMask.test(i, dataset.catalogInfo.filter, set.pointData);
         }
         return true;
     }
@@ -243,8 +243,9 @@ public class FocusView extends BaseView implements IFocus, IVisibilitySwitch {
     @Override
     public boolean isVisible(String name) {
         var set = getSet();
-        if (set != null && set.index.containsKey(name)) {
-            return set.isVisible(set.index.get(name));
+        int idx;
+        if (set != null && (idx = set.index.get(name, -1)) >= 0) {
+            return set.isVisible(idx);
         } else {
             return isVisible();
         }
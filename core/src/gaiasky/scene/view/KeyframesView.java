@@ -19,8 +19,8 @@ import gaiasky.util.Settings;
 import gaiasky.util.camera.rec.CameraKeyframeManager;
 import gaiasky.util.camera.rec.Keyframe;
 import gaiasky.util.color.ColorUtils;
-import gaiasky.util.math.Vector3b;
 import gaiasky.util.math.Vector3d;
+import gaiasky.util.math.Vector3dd;
 
 public class KeyframesView extends BaseView {
 
@@ -150,13 +150,8 @@ public class KeyframesView extends BaseView {
         synchronized (verts) {
             verts.setEntity(vo);
             PointCloudData p = verts.getPointCloud();
-            p.x.set(0, pos.x);
-            p.y.set(0, pos.y);
-            p.z.set(0, pos.z);
-
-            p.x.set(1, pos.x + vec.x);
-            p.y.set(1, pos.y + vec.y);
-            p.z.set(1, pos.z + vec.z);
+            p.setPoint(0, pos.x, pos.y, pos.z);
+            p.setPoint(1, pos.x + vec.x, pos.y + vec.y, pos.z + vec.z);
             verts.markForUpdate();
         }
     }
@@ -238,13 +233,8 @@ public class KeyframesView extends BaseView {
                 double[] targ = (i % 2 == 0) ? dirs : ups;
                 Entity vo = kf.orientations.get(i);
                 PointCloudData p = Mapper.verts.get(vo).pointCloudData;
-                p.x.set(0, kts[i / 2 * 3]);
-                p.y.set(0, kts[i / 2 * 3 + 1]);
-                p.z.set(0, kts[i / 2 * 3 + 2]);
-
-                p.x.set(1, kts[i / 2 * 3] + targ[j]);
-                p.y.set(1, kts[i / 2 * 3 + 1] + targ[j + 1]);
-                p.z.set(1, kts[i / 2 * 3 + 2] + targ[j + 2]);
+                p.setPoint(0, kts[i / 2 * 3], kts[i / 2 * 3 + 1], kts[i / 2 * 3 + 2]);
+                p.setPoint(1, kts[i / 2 * 3] + targ[j], kts[i / 2 * 3 + 1] + targ[j + 1], kts[i / 2 * 3 + 2] + targ[j + 2]);
 
                 if (i % 2 == 1)
                     j += 3;
@@ -416,7 +406,7 @@ public class KeyframesView extends BaseView {
             body.size = (float) (0.01 * Constants.KM_TO_U);
 
             var graph = Mapper.graph.get(focus);
-            graph.translation = new Vector3b();
+            graph.translation = new Vector3dd();
 
             scene.initializeEntity(focus);
 
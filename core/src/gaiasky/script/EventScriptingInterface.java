@@ -18,6 +18,7 @@ import com.badlogic.gdx.utils.TimeUtils;
 import gaiasky.GaiaSky;
 import gaiasky.data.SceneJsonLoader;
 import gaiasky.data.StarClusterLoader;
+import gaiasky.data.group.CatalogCache;
 import gaiasky.data.group.DatasetOptions;
 import gaiasky.data.group.DatasetOptions.DatasetLoadType;
 import gaiasky.data.group.STILDataProvider;
@@ -40,6 +41,7 @@ import gaiasky.scene.api.IFocus;
 import gaiasky.scene.api.IParticleRecord;
 import gaiasky.scene.camera.CameraManager.CameraMode;
 import gaiasky.scene.camera.NaturalCamera;
+import gaiasky.scene.component.ParticleSet;
 import gaiasky.scene.entity.EntityUtils;
 import gaiasky.scene.entity.TrajectoryUtils;
 import gaiasky.scene.record.ModelComponent;
@@ -51,6 +53,7 @@ import gaiasky.util.Logger.Log;
 import gaiasky.util.Settings.ReprojectionMode;
 import gaiasky.util.Settings.ScreenshotSettings;
 import gaiasky.util.color.ColorUtils;
+import gaiasky.util.color.Colormap;
 import gaiasky.util.coord.AbstractOrbitCoordinates;
 import gaiasky.util.coord.Coordinates;
 import gaiasky.util.filter.attrib.AttributeUCD;
@@ -77,6 +80,7 @@ import java.time.temporal.ChronoField;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * Implementation of the scripting interface using the event system
@@ -1686,7 +1690,7 @@ public class EventScriptingInterface implements IScriptingInterface, IObserver {
                     base.setName(nameStub);
                     base.setCt("Others");
                     var graph = Mapper.graph.get(invisible);
-                    graph.translation = new Vector3b();
+                    graph.translation = new Vector3dd();
                     graph.setParent(Scene.ROOT_NAME);
                     scene.initializeEntity(invisible);
                     scene.setUpEntity(invisible);
@@ -2953,8 +2957,36 @@ public class EventScriptingInterface implements IScriptingInterface, IObserver {
         return loadStarDataset(dsName, path, magnitudeScale, dArray(labelColor), dArray(fadeIn), dArray(fadeOut), sync);
     }
 
+    @Override
+    public boolean loadStarDataset(String dsName, String path, double magnitudeScale, double[] labelColor, double[] fadeIn, double[] fadeOut, boolean streaming, boolean sync) {
+        return loadStarDataset(dsName, path, CatalogInfoSource.SCRIPT, magnitudeScale, labelColor, fadeIn, fadeOut, streaming, sync);
+    }
+
+    public boolean loadStarDataset(String dsName, String path, double magnitudeScale, final List<?> labelColor, final List<?> fadeIn, final List<?> fadeOut, boolean streaming, boolean sync) {
+        return loadStarDataset(dsName, path, magnitudeScale, dArray(labelColor), dArray(fadeIn), dArray(fadeOut), streaming, sync);
+    }
+
+    @Override
+    public boolean loadStarDataset(String dsName, String path, double magnitudeScale, double[] labelColor, double[] fadeIn, double[] fadeOut, boolean streaming, boolean derivedCoordinates, boolean sync) {
+        return loadStarDataset(dsName, path, CatalogInfoSource.SCRIPT, magnitudeScale, labelColor, fadeIn, fadeOut, streaming, derivedCoordinates, sync);
+    }
+
+    public boolean loadStarDataset(String dsName, String path, double magnitudeScale, final List<?> labelColor, final List<?> fadeIn, final List<?> fadeOut, boolean streaming, boolean derivedCoordinates, boolean sync) {
+        return loadStarDataset(dsName, path, magnitudeScale, dArray(labelColor), dArray(fadeIn), dArray(fadeOut), streaming, derivedCoordinates, sync);
+    }
+
     public boolean loadStarDataset(String dsName, String path, CatalogInfoSource type, double magnitudeScale, double[] labelColor, double[] fadeIn, double[] fadeOut, boolean sync) {
+        return loadStarDataset(dsName, path, type, magnitudeScale, labelColor, fadeIn, fadeOut, false, sync);
+    }
+
+    public boolean loadStarDataset(String dsName, String path, CatalogInfoSource type, double magnitudeScale, double[] labelColor, double[] fadeIn, double[] fadeOut, boolean streaming, boolean sync) {
+        return loadStarDataset(dsName, path, type, magnitudeScale, labelColor, fadeIn, fadeOut, streaming, false, sync);
+    }
+
+    public boolean loadStarDataset(String dsName, String path, CatalogInfoSource type, double magnitudeScale, double[] labelColor, double[] fadeIn, double[] fadeOut, boolean streaming, boolean derivedCoordinates, boolean sync) {
         DatasetOptions dops = DatasetOptions.getStarDatasetOptions(dsName, magnitudeScale, labelColor, fadeIn, fadeOut);
+        dops.streaming = streaming;
+        dops.derivedCoordinates = derivedCoordinates;
         return loadDataset(dsName, path, type, dops, sync);
     }
 
@@ -2986,12 +3018,42 @@ public class EventScriptingInterface implements IScriptingInterface, IObserver {
         return loadParticleDataset(dsName, path, profileDecay, dArray(particleColor), colorNoise, dArray(labelColor), particleSize, dArray(sizeLimits), ct, dArray(fadeIn), dArray(fadeOut), sync);
     }
 
+    @Override
+    public boolean loadParticleDataset(String dsName, String path, double profileDecay, double[] particleColor, double colorNoise, double[] labelColor, double particleSize, double[] sizeLimits, String ct, double[] fadeIn, double[] fadeOut, boolean streaming, boolean sync) {
+        ComponentType compType = ComponentType.valueOf(ct);
+        return loadParticleDataset(dsName, path, CatalogInfoSource.SCRIPT, profileDecay, particleColor, colorNoise, labelColor, particleSize, sizeLimits, compType, fadeIn, fadeOut, streaming, sync);
+    }
+
+    public boolean loadParticleDataset(String dsName, String path, double profileDecay, final List<?> particleColor, double colorNoise, final List<?> labelColor, double particleSize, List<?> sizeLimits, String ct, final List<?> fadeIn, final List<?> fadeOut, boolean streaming, boolean sync) {
+        return loadParticleDataset(dsName, path, profileDecay, dArray(particleColor), colorNoise, dArray(labelColor), particleSize, dArray(sizeLimits), ct, dArray(fadeIn), dArray(fadeOut), streaming, sync);
+    }
+
+    @Override
+    public boolean loadParticleDataset(String dsName, String path, double profileDecay, double[] particleColor, double colorNoise, double[] labelColor, double particleSize, double[] sizeLimits, String ct, double[] fadeIn, double[] fadeOut, boolean streaming, boolean derivedCoordinates, boolean sync) {
+        ComponentType compType = ComponentType.valueOf(ct);
+        return loadParticleDataset(dsName, path, CatalogInfoSource.SCRIPT, profileDecay, particleColor, colorNoise, labelColor, particleSize, sizeLimits, compType, fadeIn, fadeOut, streaming, derivedCoordinates, sync);
+    }
+
+    public boolean loadParticleDataset(String dsName, String path, double profileDecay, final List<?> particleColor, double colorNoise, final List<?> labelColor, double particleSize, List<?> sizeLimits, String ct, final List<?> fadeIn, final List<?> fadeOut, boolean streaming, boolean derivedCoordinates, boolean sync) {
+        return loadParticleDataset(dsName, path, profileDecay, dArray(particleColor), colorNoise, dArray(labelColor), particleSize, dArray(sizeLimits), ct, dArray(fadeIn), dArray(fadeOut), streaming, derivedCoordinates, sync);
+    }
+
     public boolean loadParticleDataset(String dsName, String path, double profileDecay, double[] particleColor, double colorNoise, double[] labelColor, double particleSize, double[] sizeLimits, ComponentType ct, double[] fadeIn, double[] fadeOut, boolean sync) {
         return loadParticleDataset(dsName, path, CatalogInfoSource.SCRIPT, profileDecay, particleColor, colorNoise, labelColor, particleSize, sizeLimits, ct, fadeIn, fadeOut, sync);
     }
 
     public boolean loadParticleDataset(String dsName, String path, CatalogInfoSource type, double profileDecay, double[] particleColor, double colorNoise, double[] labelColor, double particleSize, double[] sizeLimits, ComponentType ct, double[] fadeIn, double[] fadeOut, boolean sync) {
+        return loadParticleDataset(dsName, path, type, profileDecay, particleColor, colorNoise, labelColor, particleSize, sizeLimits, ct, fadeIn, fadeOut, false, sync);
+    }
+
+    public boolean loadParticleDataset(String dsName, String path, CatalogInfoSource type, double profileDecay, double[] particleColor, double colorNoise, double[] labelColor, double particleSize, double[] sizeLimits, ComponentType ct, double[] fadeIn, double[] fadeOut, boolean streaming, boolean sync) {
+        return loadParticleDataset(dsName, path, type, profileDecay, particleColor, colorNoise, labelColor, particleSize, sizeLimits, ct, fadeIn, fadeOut, streaming, false, sync);
+    }
+
+    public boolean loadParticleDataset(String dsName, String path, CatalogInfoSource type, double profileDecay, double[] particleColor, double colorNoise, double[] labelColor, double particleSize, double[] sizeLimits, ComponentType ct, double[] fadeIn, double[] fadeOut, boolean streaming, boolean derivedCoordinates, boolean sync) {
         DatasetOptions dops = DatasetOptions.getParticleDatasetOptions(dsName, profileDecay, particleColor, colorNoise, labelColor, particleSize, sizeLimits, ct, fadeIn, fadeOut);
+        dops.streaming = streaming;
+        dops.derivedCoordinates = derivedCoordinates;
         return loadDataset(dsName, path, type, dops, sync);
     }
 
@@ -3064,8 +3126,13 @@ public class EventScriptingInterface implements IScriptingInterface, IObserver {
     }
 
     private List<IParticleRecord> loadParticleBeans(DataSource ds, DatasetOptions datasetOptions) {
+        return loadParticleBeans(ds, datasetOptions, null);
+    }
+
+    private List<IParticleRecord> loadParticleBeans(DataSource ds, DatasetOptions datasetOptions, Consumer<List<IParticleRecord>> chunkConsumer) {
         STILDataProvider provider = new STILDataProvider();
         provider.setDatasetOptions(datasetOptions);
+        provider.setChunkConsumer(chunkConsumer);
         String catalogName = datasetOptions != null && datasetOptions.catalogName != null ? datasetOptions.catalogName : ds.getName();
         return provider.loadData(ds, 1.0f, () -> {
             // Create
@@ -3125,6 +3192,63 @@ public class EventScriptingInterface implements IScriptingInterface, IObserver {
         return true;
     }
 
+    /**
+     * Loads a star or particle dataset which is displayed progressively, while it is still loading. The set is created and
+     * added to the scene with the first chunk of records published by the provider, and the following chunks are appended
+     * to it. The distances and the mean position of the set are computed again once all the data has been loaded.
+     */
+    private void loadDatasetStreaming(String dsName, DataSource ds, CatalogInfoSource type, DatasetOptions datasetOptions, boolean sync) {
+        final boolean stars = datasetOptions.type != DatasetLoadType.PARTICLES;
+        final AtomicReference<Entity> setEntity = new AtomicReference<>();
+        final AtomicReference<CatalogInfo> catalogInfo = new AtomicReference<>();
+        List<IParticleRecord> data = loadParticleBeans(ds, datasetOptions, chunk -> postRunnable(() -> {
+            Entity entity = setEntity.get();
+            if (entity == null) {
+                // First chunk, create the set and add it to the scene.
+                datasetOptions.initializeCatalogInfo = false;
+                if (stars) {
+                    entity = EntityUtils.getStarSet(scene, dsName, ds.getName(), chunk, datasetOptions, false);
+                    catalogInfo.set(new CatalogInfo(dsName, ds.getName(), null, type, 1.5f, entity));
+                } else {
+                    entity = EntityUtils.getParticleSet(scene, dsName, ds.getName(), chunk, datasetOptions, false);
+                    catalogInfo.set(new CatalogInfo(dsName, ds.getName(), ds.getURL().toString(), type, 1.5f, entity));
+                }
+                // Add to scene.
+                EventManager.publish(Event.SCENE_ADD_OBJECT_CMD, this, entity, true);
+                // Add to catalog manager -> setUp.
+                scene.setUpEntity(entity);
+                setEntity.set(entity);
+            } else {
+                // Append and send to the GPU again. The scene index looks names up in the set index.
+                ParticleSet set = stars ? Mapper.starSet.get(entity) : Mapper.particleSet.get(entity);
+                set.appendData(chunk);
+                set.markForUpdate(Mapper.render.get(entity));
+            }
+        }));
+        if (data != null && !data.isEmpty()) {
+            postRunnable(() -> {
+                Entity entity = setEntity.get();
+                ParticleSet set = stars ? Mapper.starSet.get(entity) : Mapper.particleSet.get(entity);
+                var body = Mapper.body.get(entity);
+                set.computeMeanPosition(body.pos);
+                if (!stars) {
+                    set.computeMinMeanMaxDistances();
+                    Mapper.label.get(entity).labelPosition.set(body.pos);
+                }
+                // Attribute statistics computed while loading are partial.
+                catalogInfo.get().attributeStats.clear();
+
+                String typeStr = !stars ? I18n.msg("gui.dsload.objects.name") : datasetOptions.type == DatasetLoadType.STARS ? I18n.msg("gui.dsload.stars.name") : I18n.msg("gui.dsload.variablestars.name");
+                logger.info(I18n.msg("notif.catalog.loaded", set.data().size(), typeStr));
+                EventManager.publish(Event.POST_POPUP_NOTIFICATION, this, dsName + ": " + I18n.msg("notif.catalog.loaded", set.data().size(), typeStr));
+            });
+            // Sync waiting until the node is in the scene graph
+            while (sync && (setEntity.get() == null || Mapper.graph.get(setEntity.get()).parent != null)) {
+                sleepFrames(1);
+            }
+        }
+    }
+
     private boolean loadDatasetImmediate(String dsName, DataSource ds, CatalogInfoSource type, DatasetOptions datasetOptions, boolean sync) {
         try {
             logger.info(I18n.msg("notif.catalog.loading", dsName));
@@ -3133,6 +3257,9 @@ public class EventScriptingInterface implements IScriptingInterface, IObserver {
             if (checkString(dsName, "datasetName")) {
                 if (ds.toString().endsWith(".json")) {
                     loadJsonCatalog(dsName, ds.toString(), sync);
+                } else if (datasetOptions != null && datasetOptions.streaming && (datasetOptions.type == DatasetLoadType.STARS || datasetOptions.type == DatasetLoadType.VARIABLES || datasetOptions.type == DatasetLoadType.PARTICLES)) {
+                    // STAR OR PARTICLE GROUP, displayed while loading
+                    loadDatasetStreaming(dsName, ds, type, datasetOptions, sync);
                 } else if (datasetOptions == null || datasetOptions.type == DatasetLoadType.STARS || datasetOptions.type == DatasetLoadType.VARIABLES) {
                     List<IParticleRecord> data = loadParticleBeans(ds, datasetOptions);
                     if (data != null && !data.isEmpty()) {
@@ -3265,6 +3392,13 @@ public class EventScriptingInterface implements IScriptingInterface, IObserver {
         return false;
     }
 
+    @Override
+    public long purgeCatalogCache() {
+        long freed = CatalogCache.instance.purge();
+        logger.info("Catalog cache purged, " + freed + " bytes freed");
+        return freed;
+    }
+
     @Override
     public boolean removeDataset(String dsName) {
         if (checkString(dsName, "datasetName")) {
@@ -3376,12 +3510,30 @@ public class EventScriptingInterface implements IScriptingInterface, IObserver {
         return false;
     }
 
+    @Override
+    public boolean loadColormap(String name, String path) {
+        if (checkString(name, "name") && checkString(path, "path")) {
+            Path p = Paths.get(path);
+            if (Files.exists(p) && Files.isReadable(p)) {
+                try {
+                    Colormap.loadColormap(name, p);
+                    return true;
+                } catch (Exception e) {
+                    logger.error("Error loading color map: " + p, e);
+                }
+            } else {
+                logger.error("Can't read file: " + path);
+            }
+        }
+        return false;
+    }
+
     private int getCmapIndexByName(String name) {
         for (Pair<String, Integer> cmap : ColormapPicker.cmapList) {
             if (name.equalsIgnoreCase(cmap.getFirst()))
                 return cmap.getSecond();
         }
-        return -1;
+        return Colormap.getCustomColormapIndex(name);
     }
 
     private IAttribute getAttributeByName(String name, CatalogInfo ci) {
@@ -2509,6 +2509,54 @@ public interface IScriptingInterface {
      */
     boolean loadStarDataset(String dsName, String path, double magnitudeScale, double[] labelColor, double[] fadeIn, double[] fadeOut, boolean sync);
 
+    /**
+     * Loads a star dataset from a VOTable file (<code>.vot</code>).
+     * The call can be made synchronous or asynchronous.<br/>
+     * If <code>sync</code> is true, the call waits until the dataset is loaded and then returns.
+     * If <code>sync</code> is false, the loading happens in a new thread and
+     * the call returns immediately. It includes some parameters to apply to the new star group.<br/>
+     * If <code>streaming</code> is true, the dataset is added to the scene with the first records read,
+     * and it grows as the rest of the file is loaded.
+     *
+     * @param dsName         The name of the dataset.
+     * @param path           Absolute path (or relative to the working path of Gaia Sky) to the <code>.vot</code> file to load.
+     * @param magnitudeScale Scaling additive factor to apply to the star magnitudes, as in <code>appmag = appmag - magnitudeScale</code>.
+     * @param labelColor     The color of the labels, as an array of RGBA (red, green, blue, alpha) values in [0,1].
+     * @param fadeIn         Two values which represent the fade in mapping distances (in parsecs, as distance from camera to the Sun) of this dataset.
+     * @param fadeOut        Two values which represent the fade out mapping distances (in parsecs, as distance from camera to the Sun) of this dataset.
+     * @param streaming      Whether to display the dataset progressively, while it is still loading.
+     * @param sync           Whether the load must happen synchronously or asynchronously.
+     *
+     * @return False if the dataset could not be loaded (sync mode). True if it could not be loaded (sync mode), or <code>sync</code> is false.
+     */
+    boolean loadStarDataset(String dsName, String path, double magnitudeScale, double[] labelColor, double[] fadeIn, double[] fadeOut, boolean streaming, boolean sync);
+
+    /**
+     * Loads a star dataset from a VOTable file (<code>.vot</code>).
+     * The call can be made synchronous or asynchronous.<br/>
+     * If <code>sync</code> is true, the call waits until the dataset is loaded and then returns.
+     * If <code>sync</code> is false, the loading happens in a new thread and
+     * the call returns immediately. It includes some parameters to apply to the new star group.<br/>
+     * If <code>streaming</code> is true, the dataset is added to the scene with the first records read,
+     * and it grows as the rest of the file is loaded.<br/>
+     * If <code>derivedCoordinates</code> is true, the spherical coordinates of the stars (equatorial, galactic and
+     * ecliptic) are computed once when the dataset is loaded, so that filters and attributes which use them do not
+     * compute them again.
+     *
+     * @param dsName             The name of the dataset.
+     * @param path               Absolute path (or relative to the working path of Gaia Sky) to the <code>.vot</code> file to load.
+     * @param magnitudeScale     Scaling additive factor to apply to the star magnitudes, as in <code>appmag = appmag - magnitudeScale</code>.
+     * @param labelColor         The color of the labels, as an array of RGBA (red, green, blue, alpha) values in [0,1].
+     * @param fadeIn             Two values which represent the fade in mapping distances (in parsecs, as distance from camera to the Sun) of this dataset.
+     * @param fadeOut            Two values which represent the fade out mapping distances (in parsecs, as distance from camera to the Sun) of this dataset.
+     * @param streaming          Whether to display the dataset progressively, while it is still loading.
+     * @param derivedCoordinates Whether to precompute the spherical coordinates of the stars.
+     * @param sync               Whether the load must happen synchronously or asynchronously.
+     *
+     * @return False if the dataset could not be loaded (sync mode). True if it could not be loaded (sync mode), or <code>sync</code> is false.
+     */
+    boolean loadStarDataset(String dsName, String path, double magnitudeScale, double[] labelColor, double[] fadeIn, double[] fadeOut, boolean streaming, boolean derivedCoordinates, boolean sync);
+
     /**
      * Loads a particle dataset (only positions and extra attributes) from a VOTable file (<code>.vot</code>).
      * The call can be made synchronous or asynchronous.<br/>
@@ -2577,6 +2625,64 @@ public interface IScriptingInterface {
      */
     boolean loadParticleDataset(String dsName, String path, double profileDecay, double[] particleColor, double colorNoise, double[] labelColor, double particleSize, double[] particleSizeLimits, String ct, double[] fadeIn, double[] fadeOut, boolean sync);
 
+    /**
+     * Loads a particle dataset (only positions and extra attributes) from a VOTable file (<code>.vot</code>).
+     * The call can be made synchronous or asynchronous.<br/>
+     * If <code>sync</code> is true, the call waits until the dataset is loaded and then returns.
+     * If <code>sync</code> is false, the loading happens in a new thread and
+     * the call returns immediately. It includes some parameters to apply to the new star group.<br/>
+     * If <code>streaming</code> is true, the dataset is added to the scene with the first records read,
+     * and it grows as the rest of the file is loaded.
+     *
+     * @param dsName             The name of the dataset.
+     * @param path               Absolute path (or relative to the working path of Gaia Sky) to the <code>.vot</code> file to load.
+     * @param profileDecay       The profile decay of the particles as in 1 - distCentre^decay.
+     * @param particleColor      The base color of the particles, as an array of RGBA (red, green, blue, alpha) values in [0,1].
+     * @param colorNoise         In [0,1], the noise to apply to the color so that each particle gets a slightly different tone. Set to 0 so that all particles get the same color.
+     * @param labelColor         The color of the labels, as an array of RGBA (red, green, blue, alpha) values in [0,1].
+     * @param particleSize       The size of the particles in pixels.
+     * @param particleSizeLimits The minimum and maximum size of the particles in pixels.
+     * @param ct                 The name of the component type to use like "Stars", "Galaxies", etc. (see {@link gaiasky.render.ComponentTypes.ComponentType}).
+     * @param fadeIn             Two values which represent the fade in mapping distances (in parsecs, as distance from camera to the Sun) of this dataset.
+     * @param fadeOut            Two values which represent the fade out mapping distances (in parsecs, as distance from camera to the Sun) of this dataset.
+     * @param streaming          Whether to display the dataset progressively, while it is still loading.
+     * @param sync               Whether the load must happen synchronously or asynchronously.
+     *
+     * @return False if the dataset could not be loaded (sync mode). True if it could not be loaded (sync mode), or <code>sync</code> is false.
+     */
+    boolean loadParticleDataset(String dsName, String path, double profileDecay, double[] particleColor, double colorNoise, double[] labelColor, double particleSize, double[] particleSizeLimits, String ct, double[] fadeIn, double[] fadeOut, boolean streaming, boolean sync);
+
+    /**
+     * Loads a particle dataset (only positions and extra attributes) from a VOTable file (<code>.vot</code>).
+     * The call can be made synchronous or asynchronous.<br/>
+     * If <code>sync</code> is true, the call waits until the dataset is loaded and then returns.
+     * If <code>sync</code> is false, the loading happens in a new thread and
+     * the call returns immediately. It includes some parameters to apply to the new star group.<br/>
+     * If <code>streaming</code> is true, the dataset is added to the scene with the first records read,
+     * and it grows as the rest of the file is loaded.<br/>
+     * If <code>derivedCoordinates</code> is true, the spherical coordinates of the particles (equatorial, galactic and
+     * ecliptic) are computed once when the dataset is loaded, so that filters and attributes which use them do not
+     * compute them again.
+     *
+     * @param dsName             The name of the dataset.
+     * @param path               Absolute path (or relative to the working path of Gaia Sky) to the <code>.vot</code> file to load.
+     * @param profileDecay       The profile decay of the particles as in 1 - distCentre^decay.
+     * @param particleColor      The base color of the particles, as an array of RGBA (red, green, blue, alpha) values in [0,1].
+     * @param colorNoise         In [0,1], the noise to apply to the color so that each particle gets a slightly different tone. Set to 0 so that all particles get the same color.
+     * @param labelColor         The color of the labels, as an array of RGBA (red, green, blue, alpha) values in [0,1].
+     * @param particleSize       The size of the particles in pixels.
+     * @param particleSizeLimits The minimum and maximum size of the particles in pixels.
+     * @param ct                 The name of the component type to use like "Stars", "Galaxies", etc. (see {@link gaiasky.render.ComponentTypes.ComponentType}).
+     * @param fadeIn             Two values which represent the fade in mapping distances (in parsecs, as distance from camera to the Sun) of this dataset.
+     * @param fadeOut            Two values which represent the fade out mapping distances (in parsecs, as distance from camera to the Sun) of this dataset.
+     * @param streaming          Whether to display the dataset progressively, while it is still loading.
+     * @param derivedCoordinates Whether to precompute the spherical coordinates of the particles.
+     * @param sync               Whether the load must happen synchronously or asynchronously.
+     *
+     * @return False if the dataset could not be loaded (sync mode). True if it could not be loaded (sync mode), or <code>sync</code> is false.
+     */
+    boolean loadParticleDataset(String dsName, String path, double profileDecay, double[] particleColor, double colorNoise, double[] labelColor, double particleSize, double[] particleSizeLimits, String ct, double[] fadeIn, double[] fadeOut, boolean streaming, boolean derivedCoordinates, boolean sync);
+
     /**
      * Loads a star cluster dataset from a CSV file. The file needs the columns with the
      * following names: name, ra, dec, dist, pmra, pmdec, radius, radvel. Uses the same color for
@@ -2728,6 +2834,15 @@ public interface IScriptingInterface {
      */
     boolean hasDataset(String dsName);
 
+    /**
+     * Deletes all the entries of the catalog cache, where the records converted from catalog files (VOTable, FITS, CSV, etc.)
+     * are kept so that loading the same file again with the same options is fast. Datasets which are already loaded are
+     * not affected.
+     *
+     * @return The number of bytes freed.
+     */
+    long purgeCatalogCache();
+
     /**
      * Shows (un-hides) the dataset identified by the given name, if it exists and is hidden
      *
@@ -2790,7 +2905,8 @@ public interface IScriptingInterface {
      *                       Or star-only attributes (if your dataset contains stars, mind the case!):
      *                       <ul><li>Mualpha</li><li>Mudelta</li><li>Radvel</li><li>Absmag</li><li>Appmag</li></ul>
      *                       Or even extra attributes (if you loaded the dataset yourself), matching by column name.
-     * @param colorMap      The color map to use, in ["reds"|"greens"|"blues"|"rainbow18"|"rainbow"|"seismic"|"carnation"|"hotmeal"|"cool"].
+     * @param colorMap      The color map to use, in ["reds"|"greens"|"blues"|"rainbow18"|"rainbow"|"seismic"|"carnation"|"hotmeal"|"cool"],
+     *                      or the name of a custom color map loaded with {@link #loadColormap(String, String)}.
      * @param minMap        The minimum mapping value.
      * @param maxMap        The maximum mapping value.
      * @param highlight     State.
@@ -2799,6 +2915,19 @@ public interface IScriptingInterface {
      */
     boolean highlightDataset(String dsName, String attributeName, String colorMap, double minMap, double maxMap, boolean highlight);
 
+    /**
+     * Loads a custom color map from a text file, so that it can be used by name in
+     * {@link #highlightDataset(String, String, String, double, double, boolean)}. The file contains one RGB
+     * control point per line, with components in [0,1] or [0,255], separated by spaces or commas. Lines
+     * starting with '#' are ignored. The control points are linearly resampled to a lookup table.
+     *
+     * @param name The name of the new color map. If a custom color map with this name exists, it is replaced.
+     * @param path Absolute path (or relative to the working path of Gaia Sky) to the color map file.
+     *
+     * @return False if the file could not be loaded, true otherwise.
+     */
+    boolean loadColormap(String name, String path);
+
     /**
      * Sets the size increase factor of this dataset when highlighted.
      *
@@ -0,0 +1,94 @@
+package gaiasky.test;
+
+import java.lang.management.ManagementFactory;
+import java.text.DecimalFormat;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Scaffolding shared by the benchmarks in this package: the logger, the number of rounds and warm-up rounds, the
+ * timing of rounds, and the formatting of the results. Subclasses only contain their own measurement code.
+ */
+public abstract class AbstractBenchmark {
+
+    /** Number of rounds for each test. **/
+    protected static final int ROUNDS = 10;
+
+    /** Number of rounds for warm-up. **/
+    protected static final int ROUNDS_WARMUP = 3;
+
+    /** Width of the names in the header. **/
+    private static final int PAD = 22;
+
+    protected final Logger log;
+    private final DecimalFormat df;
+
+    protected AbstractBenchmark() {
+        this("0.0#");
+    }
+
+    /**
+     * @param pattern The pattern of the decimal numbers in the results.
+     */
+    protected AbstractBenchmark(String pattern) {
+        System.setProperty("java.util.logging.SimpleFormatter.format", "[%4$-2s] %5$s %n");
+        log = Logger.getLogger(getClass().getSimpleName());
+        log.setLevel(Level.INFO);
+        df = new DecimalFormat(pattern);
+    }
+
+    /**
+     * Logs the Java version, the number of rounds and the given parameters.
+     *
+     * @param parameters The parameters, as pairs of name and value.
+     */
+    protected void header(Object... parameters) {
+        log.info(pad("Java version", PAD) + System.getProperty("java.version"));
+        log.info(pad("ROUNDS", PAD) + ROUNDS);
+        log.info(pad("ROUNDS (warm-up)", PAD) + ROUNDS_WARMUP);
+        for (int i = 0; i + 1 < parameters.length; i += 2) {
+            log.info(pad(String.valueOf(parameters[i]), PAD) + parameters[i + 1]);
+        }
+        log.info("");
+    }
+
+    /**
+     * Runs the given round the given number of times, collecting the garbage before each, and returns the mean time
+     * per round.
+     *
+     * @param rounds The number of rounds, usually {@link #ROUNDS} or {@link #ROUNDS_WARMUP}.
+     * @param round  The round.
+     *
+     * @return The mean time per round, in nanoseconds.
+     */
+    protected double time(int rounds, Runnable round) {
+        long elapsed = 0;
+        for (int i = 0; i < rounds; i++) {
+            System.gc();
+            long start = System.nanoTime();
+            round.run();
+            elapsed += System.nanoTime() - start;
+        }
+        return (double) elapsed / rounds;
+    }
+
+    /** Bytes allocated so far by this thread, or 0 if the virtual machine does not say. **/
+    protected static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    protected static String pad(String str, int len) {
+        StringBuilder strPad = new StringBuilder(str);
+        while (strPad.length() < len) {
+            strPad.append(" ");
+        }
+        return strPad.toString();
+    }
+
+    protected String format(double num) {
+        return df.format(num);
+    }
+}
@@ -0,0 +1,142 @@
+package gaiasky.test;
+
+import gaiasky.data.group.BinaryIO;
+import gaiasky.data.group.BinaryVersion0;
+import gaiasky.data.group.BinaryVersion1;
+import gaiasky.data.group.BinaryVersion2;
+import gaiasky.scene.api.IParticleRecord;
+import gaiasky.scene.record.NameDictionary;
+import gaiasky.scene.record.ParticleRecord;
+
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures the number of records per second decoded from memory-mapped binary star files, for every
+ * format version, with the record-by-record reader ({@link BinaryIO#readParticleRecord(MappedByteBuffer, double, NameDictionary)})
+ * and the bulk reader ({@link BinaryIO#readParticleRecords(java.nio.ByteBuffer, int, double, NameDictionary, List)}).
+ * It also checks that both produce the same records.
+ */
+public class BinaryDecodingBenchmark extends AbstractBenchmark {
+
+    /** Number of records in the test files. **/
+    private static final int N_RECORDS = 2_000_000;
+
+    /** One in every this many records has a name. **/
+    private static final int NAME_EVERY = 50;
+
+    public static void main(String[] args) {
+        try {
+            (new BinaryDecodingBenchmark()).test();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void test() throws IOException {
+        header("N_RECORDS", N_RECORDS);
+
+        BinaryIO[] versions = new BinaryIO[] { new BinaryVersion0(), new BinaryVersion1(), new BinaryVersion2() };
+        List<IParticleRecord> records = generate(N_RECORDS);
+
+        log.info(pad("version", 20) + pad("record by record", 28) + pad("bulk", 28));
+        log.info("----------------------------------------------------------------------");
+        for (int version = 0; version < versions.length; version++) {
+            BinaryIO io = versions[version];
+            Path file = Files.createTempFile("gaiasky-binary-v" + version, ".bin");
+            try {
+                write(io, records, file);
+                try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r"); FileChannel fc = raf.getChannel()) {
+                    MappedByteBuffer mem = fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size());
+
+                    if (!check(read(io, mem, false), read(io, mem, true))) {
+                        log.severe("Version " + version + ": bulk and record-by-record decoding differ!");
+                    }
+
+                    // Warm-up
+                    run(io, mem, false, ROUNDS_WARMUP);
+                    run(io, mem, true, ROUNDS_WARMUP);
+
+                    // Test
+                    double single = run(io, mem, false, ROUNDS);
+                    double bulk = run(io, mem, true, ROUNDS);
+                    log.info(pad(Integer.toString(version), 20) + pad(format(single) + " M rec/s", 28) + pad(format(bulk) + " M rec/s (x" + format(bulk / single) + ")", 28));
+                }
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+        log.info("----------------------------------------------------------------------");
+    }
+
+    /** Runs the given number of rounds and returns the mean number of millions of records decoded per second. **/
+    private double run(BinaryIO io, MappedByteBuffer mem, boolean bulk, int rounds) {
+        double nanos = time(rounds, () -> {
+            List<IParticleRecord> result = read(io, mem, bulk);
+            if (result.size() != N_RECORDS) {
+                log.severe("Wrong number of records: " + result.size());
+            }
+        });
+        return N_RECORDS / (nanos / 1e9) / 1e6;
+    }
+
+    private List<IParticleRecord> read(BinaryIO io, MappedByteBuffer mem, boolean bulk) {
+        mem.clear();
+        int size = mem.getInt();
+        List<IParticleRecord> result = new ArrayList<>(size);
+        NameDictionary names = new NameDictionary(size);
+        if (bulk) {
+            io.readParticleRecords(mem, size, 1, names, result);
+        } else {
+            for (int i = 0; i < size; i++) {
+                result.add(io.readParticleRecord(mem, 1, names));
+            }
+        }
+        return result;
+    }
+
+    private boolean check(List<IParticleRecord> a, List<IParticleRecord> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            IParticleRecord r1 = a.get(i), r2 = b.get(i);
+            if (r1.x() != r2.x() || r1.y() != r2.y() || r1.z() != r2.z() || r1.pmx() != r2.pmx() || r1.appmag() != r2.appmag() || r1.size() != r2.size() || r1.col() != r2.col() || r1.hip() != r2.hip() || r1.id() != r2.id() || !r1.namesConcat().equals(r2.namesConcat())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<IParticleRecord> generate(int n) {
+        Random rnd = new Random(1234L);
+        List<IParticleRecord> records = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            double[] dataD = new double[] { rnd.nextGaussian() * 1e12, rnd.nextGaussian() * 1e12, rnd.nextGaussian() * 1e12 };
+            float[] dataF = new float[ParticleRecord.STAR_SIZE_F];
+            for (int j = 0; j < ParticleRecord.I_FHIP; j++) {
+                dataF[j] = rnd.nextFloat();
+            }
+            dataF[ParticleRecord.I_FHIP] = i % 1000 == 0 ? i : -1;
+            String[] names = i % NAME_EVERY == 0 ? new String[] { "Star " + i, "Ñame-" + i } : null;
+            records.add(new ParticleRecord(dataD, dataF, (long) i, names));
+        }
+        return records;
+    }
+
+    private void write(BinaryIO io, List<IParticleRecord> records, Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file.toFile())))) {
+            // Versions 0 and 1 header, the version number is passed to the reader
+            out.writeInt(records.size());
+            for (IParticleRecord record : records) {
+                io.writeParticleRecord(record, out);
+            }
+        }
+    }
+}
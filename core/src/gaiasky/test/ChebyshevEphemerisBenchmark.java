@@ -0,0 +1,117 @@
+package gaiasky.test;
+
+import gaiasky.util.Settings;
+import gaiasky.util.Settings.DataSettings;
+import gaiasky.util.coord.*;
+import gaiasky.util.coord.vsop87.*;
+import gaiasky.util.math.MathManager;
+import gaiasky.util.math.Vector3b;
+import gaiasky.util.math.Vector3d;
+import gaiasky.util.math.Vector3dd;
+
+import java.time.Instant;
+import java.util.Random;
+
+/**
+ * Compares the positions given by {@link ChebyshevEphemeris} with the analytic series they are fitted to, for the
+ * planets, the Moon and Pluto. For each body it reports the time to fit the ephemeris over two centuries and the
+ * largest position error over random dates. It also reports the time per position of the entry points used by the
+ * scene, {@link IBodyCoordinates#getEquatorialCartesianCoordinates(Instant, Vector3b)} and its double-double variant,
+ * with the <code>data.ephemerisCache</code> setting off (analytic series) and on (ephemeris).
+ */
+public class ChebyshevEphemerisBenchmark extends AbstractBenchmark {
+
+    /** Number of positions per round. **/
+    private static final int N = 200_000;
+
+    private static final String[] NAMES = new String[] { "Mercury", "Venus", "Earth", "Mars", "Jupiter", "Saturn", "Uranus", "Neptune", "Moon", "Pluto" };
+
+    private final double[] dates = new double[N];
+    private final Instant[] instants = new Instant[N];
+    private final Vector3d aux = new Vector3d(), aux2 = new Vector3d();
+    private final Vector3b pos = new Vector3b();
+    private final Vector3dd posdd = new Vector3dd();
+    /** Sink for the results, so that the operations are not optimized away. **/
+    private double sink;
+
+    public ChebyshevEphemerisBenchmark() {
+        super("0.0##");
+    }
+
+    public static void main(String[] args) {
+        (new ChebyshevEphemerisBenchmark()).test();
+    }
+
+    private void test() {
+        MathManager.initialize(true);
+        Settings.settings = new Settings();
+        Settings.settings.data = new DataSettings();
+        final double from = AstroUtils.getJulianDate(1900, 1, 1, 0, 0, 0, 0, true);
+        final double to = AstroUtils.getJulianDate(2100, 1, 1, 0, 0, 0, 0, true);
+        Random rnd = new Random(1234L);
+        for (int i = 0; i < N; i++) {
+            dates[i] = from + rnd.nextDouble() * (to - from);
+            instants[i] = AstroUtils.julianDateToInstant(dates[i]);
+        }
+
+        header("Positions", N, "Range", "1900-2100");
+
+        log.info(pad("body", 10) + pad("window", 10) + pad("fit", 12) + pad("max error", 14) + pad("analytic", 14) + pad("ephemeris", 14) + pad("speed-up", 10) + "ephemeris (dd)");
+        log.info("-----------------------------------------------------------------------------------------------------------");
+        // The setting is read the first time each body gets a position
+        Settings.settings.data.ephemerisCache = false;
+        AbstractOrbitCoordinates[] bodies = createBodies();
+        for (AbstractOrbitCoordinates body : bodies) {
+            body.getEquatorialCartesianCoordinates(instants[0], pos);
+        }
+        Settings.settings.data.ephemerisCache = true;
+        AbstractOrbitCoordinates[] cachedBodies = createBodies();
+        for (int i = 0; i < bodies.length; i++) {
+            ChebyshevEphemeris.Source source = (ChebyshevEphemeris.Source) bodies[i];
+            long start = System.nanoTime();
+            ChebyshevEphemeris ephemeris = ChebyshevEphemeris.fit(source, bodies[i].getEphemerisWindow(), ChebyshevEphemeris.DEFAULT_DEGREE, from, to);
+            double fit = (System.nanoTime() - start) / 1e6;
+
+            double maxError = 0;
+            for (double date : dates) {
+                source.getEquatorialCartesianCoordinates(date, aux);
+                ephemeris.getEquatorialCartesianCoordinates(date, aux2);
+                maxError = Math.max(maxError, aux.dst(aux2));
+            }
+
+            run(bodies[i], false, ROUNDS_WARMUP);
+            run(cachedBodies[i], false, ROUNDS_WARMUP);
+            run(cachedBodies[i], true, ROUNDS_WARMUP);
+            double analytic = run(bodies[i], false, ROUNDS);
+            double cached = run(cachedBodies[i], false, ROUNDS);
+            double cachedDd = run(cachedBodies[i], true, ROUNDS);
+            log.info(pad(NAMES[i], 10) + pad(format(ephemeris.getWindow()) + " d", 10) + pad(format(fit) + " ms", 12) + pad(format(maxError) + " km", 14) + pad(format(analytic) + " ns", 14) + pad(format(cached) + " ns", 14) + pad("x" + format(analytic / cached), 10) + format(cachedDd) + " ns");
+        }
+        log.info("-----------------------------------------------------------------------------------------------------------");
+        log.info("Sink: " + sink);
+    }
+
+    private AbstractOrbitCoordinates[] createBodies() {
+        return new AbstractOrbitCoordinates[] { new MercuryVSOP87(), new VenusVSOP87(), new EarthVSOP87(), new MarsVSOP87(), new JupiterVSOP87(), new SaturnVSOP87(), new UranusVSOP87(), new NeptuneVSOP87(), new MoonAACoordinates(), new PlutoCoordinates() };
+    }
+
+    /**
+     * Runs the given number of rounds of the equatorial cartesian coordinates of the body, in arbitrary precision or
+     * in double-double precision, and returns the mean time per position, in nanoseconds.
+     **/
+    private double run(IBodyCoordinates body, boolean doubleDouble, int rounds) {
+        return time(rounds, () -> {
+            if (doubleDouble) {
+                for (Instant instant : instants) {
+                    body.getEquatorialCartesianCoordinates(instant, pos, posdd);
+                    sink += posdd.x();
+                }
+            } else {
+                for (Instant instant : instants) {
+                    body.getEquatorialCartesianCoordinates(instant, pos);
+                    sink += pos.x.doubleValue();
+                }
+            }
+        }) / N;
+    }
+}
@@ -0,0 +1,136 @@
+package gaiasky.test;
+
+import gaiasky.util.coord.AstroUtils;
+import gaiasky.util.coord.Coordinates;
+import gaiasky.util.math.Matrix4d;
+import gaiasky.util.math.Vector3d;
+
+import java.util.Random;
+
+/**
+ * Compares the batched coordinate conversions on columns ({@link Matrix4d#transform(double[], double[], double[], int, int)},
+ * {@link Coordinates#sphericalToCartesian(double[], double[], double[], double[], double[], double[], int, int)} and
+ * {@link AstroUtils#properMotionsToCartesian(double[], double[], double[], double[], double[], double[], double[], double[], double[], int, int)})
+ * with the loops over single vectors that they replace, for several numbers of stars. It also checks that both give
+ * the same results.
+ */
+public class CoordinateBatchBenchmark extends AbstractBenchmark {
+
+    /** Numbers of stars. **/
+    private static final int[] SIZES = new int[] { 1_000, 10_000, 100_000, 1_000_000 };
+
+    private double[] ra, dec, dist, mua, mud, rv;
+    private double[] xs, ys, zs;
+    private final Vector3d aux = new Vector3d();
+    /** Sink for the results, so that the operations are not optimized away. **/
+    private double sink;
+
+    public static void main(String[] args) {
+        (new CoordinateBatchBenchmark()).test();
+    }
+
+    private void test() {
+        header();
+
+        log.info(pad("stars", 12) + pad("operation", 14) + pad("single", 16) + pad("batched", 16) + "speed-up");
+        log.info("----------------------------------------------------------------------");
+        boolean ok = true;
+        for (int n : SIZES) {
+            init(n);
+            for (Op op : Op.values()) {
+                run(op, false, n, ROUNDS_WARMUP);
+                run(op, true, n, ROUNDS_WARMUP);
+                double single = run(op, false, n, ROUNDS);
+                double batched = run(op, true, n, ROUNDS);
+                ok &= check(op, n);
+                log.info(pad(Integer.toString(n), 12) + pad(op.name().toLowerCase(), 14) + pad(format(single) + " ms", 16) + pad(format(batched) + " ms", 16) + "x" + format(single / batched));
+            }
+        }
+        log.info("----------------------------------------------------------------------");
+        log.info(ok ? "Results match" : "Results DO NOT match");
+        log.info("Sink: " + sink);
+    }
+
+    private void init(int n) {
+        Random rnd = new Random(1234L);
+        ra = new double[n];
+        dec = new double[n];
+        dist = new double[n];
+        mua = new double[n];
+        mud = new double[n];
+        rv = new double[n];
+        xs = new double[n];
+        ys = new double[n];
+        zs = new double[n];
+        for (int i = 0; i < n; i++) {
+            ra[i] = rnd.nextDouble() * 2 * Math.PI;
+            dec[i] = Math.asin(rnd.nextDouble() * 2 - 1);
+            dist[i] = 10 + rnd.nextDouble() * 5000;
+            mua[i] = rnd.nextGaussian() * 10;
+            mud[i] = rnd.nextGaussian() * 10;
+            rv[i] = rnd.nextGaussian() * 30;
+        }
+    }
+
+    /** Runs the given number of rounds and returns the mean time per round, in milliseconds. **/
+    private double run(Op op, boolean batched, int n, int rounds) {
+        double nanos = time(rounds, () -> {
+            if (batched) {
+                runBatched(op, n);
+            } else {
+                runSingle(op, n);
+            }
+        });
+        sink += xs[rounds % n];
+        return nanos / 1e6;
+    }
+
+    private void runSingle(Op op, int n) {
+        Matrix4d mat = Coordinates.galToEq();
+        for (int i = 0; i < n; i++) {
+            switch (op) {
+            case SPH_TO_CART -> Coordinates.sphericalToCartesian(ra[i], dec[i], dist[i], aux);
+            case TRANSFORM -> Coordinates.sphericalToCartesian(ra[i], dec[i], dist[i], aux).mul(mat);
+            case PM_TO_CART -> AstroUtils.properMotionsToCartesian(mua[i], mud[i], rv[i], ra[i], dec[i], dist[i], aux);
+            }
+            xs[i] = aux.x;
+            ys[i] = aux.y;
+            zs[i] = aux.z;
+        }
+    }
+
+    private void runBatched(Op op, int n) {
+        switch (op) {
+        case SPH_TO_CART -> Coordinates.sphericalToCartesian(ra, dec, dist, xs, ys, zs, 0, n);
+        case TRANSFORM -> {
+            Coordinates.sphericalToCartesian(ra, dec, dist, xs, ys, zs, 0, n);
+            Coordinates.galToEq().transform(xs, ys, zs, 0, n);
+        }
+        case PM_TO_CART -> AstroUtils.properMotionsToCartesian(mua, mud, rv, ra, dec, dist, xs, ys, zs, 0, n);
+        }
+    }
+
+    /** Checks that the batched and single versions give the same results. **/
+    private boolean check(Op op, int n) {
+        runBatched(op, n);
+        double[] bx = xs.clone(), by = ys.clone(), bz = zs.clone();
+        runSingle(op, n);
+        for (int i = 0; i < n; i++) {
+            if (!close(bx[i], xs[i]) || !close(by[i], ys[i]) || !close(bz[i], zs[i])) {
+                log.severe(op + ": mismatch at " + i + ": (" + bx[i] + ", " + by[i] + ", " + bz[i] + ") != (" + xs[i] + ", " + ys[i] + ", " + zs[i] + ")");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean close(double a, double b) {
+        return Math.abs(a - b) <= 1e-12 * Math.max(1, Math.max(Math.abs(a), Math.abs(b)));
+    }
+
+    private enum Op {
+        SPH_TO_CART,
+        TRANSFORM,
+        PM_TO_CART
+    }
+}
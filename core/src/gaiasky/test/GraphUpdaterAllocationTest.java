@@ -0,0 +1,286 @@
+package gaiasky.test;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import gaiasky.GaiaSky;
+import gaiasky.scene.camera.ICamera;
+import gaiasky.scene.component.*;
+import gaiasky.scene.system.update.GraphUpdater;
+import gaiasky.util.Settings;
+import gaiasky.util.Settings.DataSettings;
+import gaiasky.util.Settings.SceneSettings;
+import gaiasky.util.coord.IBodyCoordinates;
+import gaiasky.util.coord.MoonAACoordinates;
+import gaiasky.util.coord.PlutoCoordinates;
+import gaiasky.util.coord.vsop87.*;
+import gaiasky.util.math.Vector2d;
+import gaiasky.util.math.Vector3b;
+import gaiasky.util.math.Vector3d;
+import gaiasky.util.math.Vector3dd;
+import gaiasky.util.time.ITimeFrameProvider;
+
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks the allocations of the update of the scene graph positions ({@link GraphUpdater}). It builds a scene graph
+ * with some thousands of nodes, some of them with proper motions, fading, or the coordinates of a planet, runs the
+ * update a number of frames to warm up, and then counts the bytes allocated by the thread during the following frames.
+ * <p>
+ * When the time is paused and the camera does not move, the update must not allocate. When the time runs, setting the
+ * arbitrary precision positions of the moving bodies allocates, so the update with the coordinates in double-double
+ * precision may allocate per moving body and frame at most what setting one such position allocates, plus
+ * {@link #SLACK_BYTES}. It also logs what getting the coordinates in arbitrary precision and converting them allocates.
+ */
+public class GraphUpdaterAllocationTest extends AbstractBenchmark {
+
+    /** Number of frames for warm-up. **/
+    private static final int FRAMES_WARMUP = 20_000;
+
+    /** Number of frames for warm-up when the time runs. **/
+    private static final int FRAMES_WARMUP_RUNNING = 2_000;
+
+    /** Number of frames measured. **/
+    private static final int FRAMES = 2_000;
+
+    /** Bytes per moving node and frame allowed on top of setting its arbitrary precision position. **/
+    private static final long SLACK_BYTES = 32;
+
+    /** Number of children of the root, and number of children of each of those. **/
+    private static final int N_SYSTEMS = 50, N_BODIES = 40;
+
+    private final Vector3b cameraPos = new Vector3b(1.2e20, -3.4e19, 5.6e18);
+    private final Vector3b cameraInversePos = new Vector3b(cameraPos).scl(-1);
+    private final Float fovFactor = 1f;
+    private final Double zero = 0d;
+    private final Double hdiff = 1d;
+    private final Instant instant = Instant.parse("2017-01-01T12:00:00Z");
+    /** Instants of the frames when the time runs, one hour apart. **/
+    private final Instant[] instants = new Instant[1000];
+    private final IBodyCoordinates[] providers = new IBodyCoordinates[] { new MercuryVSOP87(), new VenusVSOP87(), new EarthVSOP87(), new MarsVSOP87(), new JupiterVSOP87(), new SaturnVSOP87(), new UranusVSOP87(), new NeptuneVSOP87(), new MoonAACoordinates(), new PlutoCoordinates() };
+    private final List<Coordinates> coordinates = new ArrayList<>();
+    private boolean running = false;
+    private int frame = 0;
+    private int nodes = 0;
+
+    public static void main(String[] args) {
+        boolean ok = (new GraphUpdaterAllocationTest()).test();
+        if (!ok) {
+            System.exit(1);
+        }
+    }
+
+    private boolean test() {
+        // Bodies read the settings when created, so we build the graph first.
+        Entity root = createGraph();
+
+        Settings.settings = new Settings();
+        Settings.settings.scene = new SceneSettings();
+        Settings.settings.scene.fadeMs = 2500;
+        Settings.settings.data = new DataSettings();
+        Settings.settings.data.ephemerisCache = true;
+        new GaiaSky();
+        for (int i = 0; i < instants.length; i++) {
+            instants[i] = instant.plusSeconds(3600L * i);
+        }
+
+        GraphUpdater updater = new GraphUpdater(Family.all(GraphRoot.class).get(), 0, createTime());
+        updater.setCamera(createCamera());
+
+        log.info("Java version: " + System.getProperty("java.version"));
+        log.info("Nodes: " + nodes);
+        log.info("Moving nodes: " + coordinates.size());
+        log.info("Frames: " + FRAMES);
+
+        long paused = run(updater, root, FRAMES_WARMUP);
+        log.info("Bytes allocated, paused time: " + paused + " (" + (paused / FRAMES) + " B/frame)");
+
+        long positionBytes = positionBytes();
+        log.info("Bytes allocated setting one arbitrary precision position: " + positionBytes);
+
+        running = true;
+        // Hide the double-double coordinates of the providers, so that the arbitrary precision ones are converted
+        for (int i = 0; i < coordinates.size(); i++) {
+            coordinates.get(i).coordinates = new ArbitraryPrecisionCoordinates(providers[i % providers.length]);
+        }
+        long arbitrary = run(updater, root, FRAMES_WARMUP_RUNNING);
+        log.info("Bytes allocated, running time, arbitrary precision coordinates: " + arbitrary + " (" + (arbitrary / FRAMES) + " B/frame, " + (arbitrary / FRAMES / coordinates.size()) + " B/frame per moving node)");
+
+        for (int i = 0; i < coordinates.size(); i++) {
+            coordinates.get(i).coordinates = providers[i % providers.length];
+        }
+        long doubleDouble = run(updater, root, FRAMES_WARMUP_RUNNING);
+        log.info("Bytes allocated, running time, double-double coordinates: " + doubleDouble + " (" + (doubleDouble / FRAMES) + " B/frame, " + (doubleDouble / FRAMES / coordinates.size()) + " B/frame per moving node)");
+
+        long bound = (positionBytes + SLACK_BYTES) * FRAMES * coordinates.size();
+        log.info("Bytes allowed, running time: " + bound);
+
+        boolean ok = paused == 0 && doubleDouble <= bound;
+        log.info(ok ? "PASSED" : "FAILED");
+        return ok;
+    }
+
+    /** Runs the given number of frames to warm up, and returns the bytes allocated during the following frames. **/
+    private long run(GraphUpdater updater, Entity root, int framesWarmup) {
+        for (int i = 0; i < framesWarmup; i++) {
+            updater.updateEntity(root, 0.016f);
+            frame++;
+        }
+        long bytes = allocatedBytes();
+        for (int i = 0; i < FRAMES; i++) {
+            updater.updateEntity(root, 0.016f);
+            frame++;
+        }
+        return allocatedBytes() - bytes;
+    }
+
+    /**
+     * Returns the bytes allocated by setting an arbitrary precision position from a double precision one, which every
+     * moving body does once per frame. The positions are those of the providers at the instants of the frames.
+     **/
+    private long positionBytes() {
+        Vector3d[] positions = new Vector3d[instants.length];
+        Vector3b aux = new Vector3b();
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = providers[i % providers.length].getEquatorialCartesianCoordinates(instants[i], aux).put(new Vector3d());
+        }
+        Vector3b pos = new Vector3b();
+        for (int i = 0; i < FRAMES_WARMUP_RUNNING; i++) {
+            pos.set(positions[i % positions.length]);
+        }
+        long bytes = allocatedBytes();
+        for (int i = 0; i < FRAMES; i++) {
+            pos.set(positions[i % positions.length]);
+        }
+        return (allocatedBytes() - bytes) / FRAMES;
+    }
+
+    private Entity createGraph() {
+        Random rnd = new Random(1234L);
+        Entity root = createNode(null, new Vector3b());
+        root.add(new GraphRoot());
+        for (int i = 0; i < N_SYSTEMS; i++) {
+            // Systems at up to some kpc, in internal units
+            Entity system = createNode(root, new Vector3b(rnd.nextGaussian() * 1e20, rnd.nextGaussian() * 1e20, rnd.nextGaussian() * 1e20));
+            if (i % 2 == 0) {
+                Fade fade = new Fade();
+                fade.fadeIn = new Vector2d(1e15, 1e16);
+                fade.fadeInMap = new Vector2d(0, 1);
+                fade.fadeOut = new Vector2d(1e21, 1e22);
+                fade.fadeOutMap = new Vector2d(1, 0);
+                system.add(fade);
+            }
+            for (int j = 0; j < N_BODIES; j++) {
+                Entity body = createNode(system, new Vector3b(rnd.nextGaussian() * 1e12, rnd.nextGaussian() * 1e12, rnd.nextGaussian() * 1e12));
+                if (j % 4 == 0) {
+                    ProperMotion pm = new ProperMotion();
+                    pm.pm = new Vector3((float) rnd.nextGaussian(), (float) rnd.nextGaussian(), (float) rnd.nextGaussian());
+                    pm.hasPm = true;
+                    body.add(pm);
+                } else if (j % 4 == 1) {
+                    Coordinates coord = new Coordinates();
+                    coord.coordinates = providers[coordinates.size() % providers.length];
+                    body.add(coord);
+                    coordinates.add(coord);
+                }
+            }
+        }
+        return root;
+    }
+
+    private Entity createNode(Entity parent, Vector3b pos) {
+        Entity entity = new Entity();
+        Base base = new Base();
+        base.setName("node" + nodes);
+        entity.add(base);
+        Body body = new Body();
+        body.pos.set(pos);
+        body.size = 1e6f;
+        entity.add(body);
+        GraphNode graph = new GraphNode();
+        graph.translation = new Vector3dd();
+        entity.add(graph);
+        if (parent != null) {
+            addChild(parent, entity);
+        }
+        nodes++;
+        return entity;
+    }
+
+    private void addChild(Entity parent, Entity child) {
+        GraphNode graph = parent.getComponent(GraphNode.class);
+        if (graph.children == null) {
+            graph.children = new Array<>(false, 10);
+        }
+        graph.children.add(child);
+        child.getComponent(GraphNode.class).parent = parent;
+    }
+
+    /** A camera which never moves. It returns preallocated objects, so that it does not allocate. **/
+    private ICamera createCamera() {
+        return (ICamera) Proxy.newProxyInstance(ICamera.class.getClassLoader(), new Class<?>[] { ICamera.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+            case "getPos":
+                return cameraPos;
+            case "getInversePos":
+                return cameraInversePos;
+            case "getFovFactor":
+                return fovFactor;
+            default:
+                throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    /**
+     * A time which is paused, or which advances one hour per frame when running is set. It returns preallocated objects,
+     * so that it does not allocate.
+     **/
+    private ITimeFrameProvider createTime() {
+        return (ITimeFrameProvider) Proxy.newProxyInstance(ITimeFrameProvider.class.getClassLoader(), new Class<?>[] { ITimeFrameProvider.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+            case "getHdiff":
+            case "getDt":
+                return running ? hdiff : zero;
+            case "getTime":
+                return running ? instants[frame % instants.length] : instant;
+            default:
+                throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    /** Coordinates which only give arbitrary precision positions, as providers without a double-double path. **/
+    private static class ArbitraryPrecisionCoordinates implements IBodyCoordinates {
+        private final IBodyCoordinates coordinates;
+
+        ArbitraryPrecisionCoordinates(IBodyCoordinates coordinates) {
+            this.coordinates = coordinates;
+        }
+
+        @Override
+        public void doneLoading(Object... params) {
+            coordinates.doneLoading(params);
+        }
+
+        @Override
+        public Vector3b getEclipticSphericalCoordinates(Instant instant, Vector3b out) {
+            return coordinates.getEclipticSphericalCoordinates(instant, out);
+        }
+
+        @Override
+        public Vector3b getEclipticCartesianCoordinates(Instant instant, Vector3b out) {
+            return coordinates.getEclipticCartesianCoordinates(instant, out);
+        }
+
+        @Override
+        public Vector3b getEquatorialCartesianCoordinates(Instant instant, Vector3b out) {
+            return coordinates.getEquatorialCartesianCoordinates(instant, out);
+        }
+    }
+}
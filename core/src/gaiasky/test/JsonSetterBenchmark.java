@@ -0,0 +1,137 @@
+package gaiasky.test;
+
+import com.badlogic.ashley.core.Component;
+import gaiasky.data.SetterCache;
+import gaiasky.scene.AttributeMap;
+import gaiasky.util.TextUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures the time the scene loader spends resolving the setters of the attributes of the objects in the scene
+ * files, with a lookup for every attribute (as the loader did before) and with the lookups cached in {@link SetterCache}.
+ * The attributes are those of the {@link AttributeMap}, with the value classes produced by the JSON parser, applied to
+ * their components.
+ */
+public class JsonSetterBenchmark extends AbstractBenchmark {
+
+    /** Number of objects in the simulated scene. **/
+    private static final int N_OBJECTS = 10_000;
+
+    /** Number of attributes per object. **/
+    private static final int ATTRIBUTES_PER_OBJECT = 12;
+
+    /** Value classes produced by the JSON loader. **/
+    private static final Class<?>[] VALUE_CLASSES = new Class[] { Double.class, String.class, Long.class, Boolean.class, double[].class };
+
+    public static void main(String[] args) {
+        (new JsonSetterBenchmark()).test();
+    }
+
+    private void test() {
+        header("N_OBJECTS", N_OBJECTS, "ATTRIBUTES_PER_OBJECT", ATTRIBUTES_PER_OBJECT);
+
+        List<Attribute> attributes = attributes();
+        // Check that both produce the same results
+        for (Attribute attribute : attributes) {
+            boolean method = SetterCache.method("set", attribute.name, attribute.valueClass, attribute.component) != null;
+            boolean field = SetterCache.field(attribute.component, attribute.name) != null;
+            if (method != (findMethod(attribute) != null) || field != (findField(attribute) != null)) {
+                log.severe("Mismatch for attribute " + attribute.name + " of " + attribute.component.getSimpleName());
+            }
+        }
+
+        double uncached = run(attributes, false);
+        SetterCache.clear();
+        double cached = run(attributes, true);
+
+        log.info(pad("lookup", 20) + pad("scene time", 28));
+        log.info("------------------------------------------------");
+        log.info(pad("per attribute", 20) + pad(format(uncached) + " ms", 28));
+        log.info(pad("cached", 20) + pad(format(cached) + " ms (x" + format(uncached / cached) + ")", 28));
+    }
+
+    /**
+     * Runs the lookups of a whole scene the given number of rounds and returns the average time of a scene, in ms.
+     */
+    private double run(List<Attribute> attributes, boolean cached) {
+        final long[] found = new long[1];
+        time(ROUNDS_WARMUP, () -> found[0] += scene(attributes, cached));
+        double nanos = time(ROUNDS, () -> found[0] += scene(attributes, cached));
+        log.fine("Found " + found[0]);
+        return nanos / 1e6;
+    }
+
+    private long scene(List<Attribute> attributes, boolean cached) {
+        long found = 0;
+        int a = 0;
+        for (int i = 0; i < N_OBJECTS; i++) {
+            for (int j = 0; j < ATTRIBUTES_PER_OBJECT; j++) {
+                Attribute attribute = attributes.get(a);
+                a = (a + 1) % attributes.size();
+                if (cached) {
+                    if (SetterCache.method("set", attribute.name, attribute.valueClass, attribute.component) != null || SetterCache.field(attribute.component, attribute.name) != null) {
+                        found++;
+                    }
+                } else {
+                    if (findMethod(attribute) != null || findField(attribute) != null) {
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private java.lang.reflect.Method findMethod(Attribute attribute) {
+        String methodName = "set" + TextUtils.propertyToMethodName(attribute.name);
+        try {
+            return attribute.component.getMethod(methodName, attribute.valueClass);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private Field findField(Attribute attribute) {
+        Class<?> clazz = attribute.component;
+        while (clazz != null) {
+            try {
+                Field field = clazz.getDeclaredField(attribute.name);
+                field.setAccessible(true);
+                return field;
+            } catch (NoSuchFieldException e) {
+                clazz = clazz.getSuperclass();
+            }
+        }
+        return null;
+    }
+
+    private List<Attribute> attributes() {
+        List<Attribute> attributes = new ArrayList<>();
+        Map<String, Class<? extends Component>> map = new AttributeMap().initialize();
+        int k = 0;
+        for (Map.Entry<String, Class<? extends Component>> entry : map.entrySet()) {
+            String name = entry.getKey();
+            if (name.contains(":")) {
+                name = name.substring(0, name.indexOf(':'));
+            }
+            attributes.add(new Attribute(name, entry.getValue(), VALUE_CLASSES[k++ % VALUE_CLASSES.length]));
+        }
+        return attributes;
+    }
+
+    private static class Attribute {
+        final String name;
+        final Class<?> component;
+        final Class<?> valueClass;
+
+        Attribute(String name, Class<?> component, Class<?> valueClass) {
+            this.name = name;
+            this.component = component;
+            this.valueClass = valueClass;
+        }
+    }
+}
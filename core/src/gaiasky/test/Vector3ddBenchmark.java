@@ -0,0 +1,143 @@
+package gaiasky.test;
+
+import gaiasky.util.math.Matrix4d;
+import gaiasky.util.math.Vector3b;
+import gaiasky.util.math.Vector3d;
+import gaiasky.util.math.Vector3dd;
+
+import java.util.Random;
+
+/**
+ * Measures the number of operations per second and the bytes allocated per operation of the arbitrary precision vector
+ * ({@link Vector3b}) and the double-double vector ({@link Vector3dd}), with plain doubles ({@link Vector3d}) as the
+ * baseline. Each operation is the one done per object and frame in the scene graph: add the parent position and the
+ * local translation, or compute the distance to the camera, or transform a position by a matrix.
+ */
+public class Vector3ddBenchmark extends AbstractBenchmark {
+
+    /** Number of operations per round. **/
+    private static final int N_OPS = 200_000;
+
+    /** Number of vectors. **/
+    private static final int N_VECTORS = 1024;
+
+    private final Vector3d[] vd = new Vector3d[N_VECTORS];
+    private final Vector3b[] vb = new Vector3b[N_VECTORS];
+    private final Vector3dd[] vdd = new Vector3dd[N_VECTORS];
+    private final Matrix4d mat = new Matrix4d();
+    /** Sink for the results, so that the operations are not optimized away. **/
+    private double sink;
+
+    public static void main(String[] args) {
+        (new Vector3ddBenchmark()).test();
+    }
+
+    private void test() {
+        header("N_OPS", N_OPS);
+
+        Random rnd = new Random(1234L);
+        for (int i = 0; i < N_VECTORS; i++) {
+            // Positions of up to some tens of kpc, in metres
+            double x = rnd.nextGaussian() * 1e20, y = rnd.nextGaussian() * 1e20, z = rnd.nextGaussian() * 1e20;
+            vd[i] = new Vector3d(x, y, z);
+            vb[i] = new Vector3b(x, y, z);
+            vdd[i] = new Vector3dd(x, y, z);
+        }
+        mat.setToRotation(new Vector3d(1, 2, 3).nor(), 33).setTranslation(new Vector3d(1e18, -2e17, 3e16));
+
+        log.info(pad("operation", 14) + pad("Vector3d", 24) + pad("Vector3b", 24) + pad("Vector3dd", 34));
+        log.info("----------------------------------------------------------------------------------------");
+        for (Op op : Op.values()) {
+            // Warm-up
+            for (Type type : Type.values()) {
+                run(op, type, ROUNDS_WARMUP);
+            }
+            // Test
+            double[][] results = new double[Type.values().length][];
+            for (Type type : Type.values()) {
+                results[type.ordinal()] = run(op, type, ROUNDS);
+            }
+            double[] d = results[Type.DOUBLE.ordinal()], b = results[Type.APFLOAT.ordinal()], dd = results[Type.DOUBLE_DOUBLE.ordinal()];
+            log.info(pad(op.name().toLowerCase(), 14) + pad(format(d[0]) + " M op/s, " + (long) d[1] + " B", 24) + pad(format(b[0]) + " M op/s, " + (long) b[1] + " B", 24) + pad(format(dd[0]) + " M op/s, " + (long) dd[1] + " B (x" + format(dd[0] / b[0]) + ")", 34));
+        }
+        log.info("----------------------------------------------------------------------------------------");
+        log.info("Sink: " + sink);
+    }
+
+    /**
+     * Runs the given number of rounds and returns the mean number of millions of operations per second, and the mean
+     * number of bytes allocated per operation.
+     **/
+    private double[] run(Op op, Type type, int rounds) {
+        long elapsed = 0;
+        long allocated = 0;
+        for (int round = 0; round < rounds; round++) {
+            System.gc();
+            long bytes = allocatedBytes();
+            long start = System.nanoTime();
+            switch (type) {
+            case DOUBLE -> runDouble(op);
+            case APFLOAT -> runApfloat(op);
+            case DOUBLE_DOUBLE -> runDoubleDouble(op);
+            }
+            elapsed += System.nanoTime() - start;
+            allocated += allocatedBytes() - bytes;
+        }
+        return new double[] { (double) N_OPS * rounds / (elapsed / 1e9) / 1e6, (double) allocated / ((long) N_OPS * rounds) };
+    }
+
+    private void runDouble(Op op) {
+        Vector3d aux = new Vector3d();
+        double sum = 0;
+        for (int i = 0; i < N_OPS; i++) {
+            Vector3d a = vd[i % N_VECTORS], b = vd[(i + 1) % N_VECTORS];
+            switch (op) {
+            case ADD -> sum += aux.set(a).add(b).x;
+            case DST -> sum += a.dst(b);
+            case TRANSFORM -> sum += aux.set(a).mul(mat).x;
+            }
+        }
+        sink += sum;
+    }
+
+    private void runApfloat(Op op) {
+        Vector3b aux = new Vector3b();
+        double sum = 0;
+        for (int i = 0; i < N_OPS; i++) {
+            Vector3b a = vb[i % N_VECTORS], b = vb[(i + 1) % N_VECTORS];
+            switch (op) {
+            case ADD -> sum += aux.set(a).add(b).x();
+            case DST -> sum += a.dstd(b);
+            case TRANSFORM -> sum += aux.set(a).mul(mat).x();
+            }
+        }
+        sink += sum;
+    }
+
+    private void runDoubleDouble(Op op) {
+        Vector3dd aux = new Vector3dd();
+        double sum = 0;
+        for (int i = 0; i < N_OPS; i++) {
+            Vector3dd a = vdd[i % N_VECTORS], b = vdd[(i + 1) % N_VECTORS];
+            switch (op) {
+            case ADD -> sum += aux.set(a).add(b).x();
+            case DST -> sum += a.dstd(b);
+            case TRANSFORM -> sum += aux.set(a).mul(mat).x();
+            }
+        }
+        sink += sum;
+    }
+
+
+    private enum Op {
+        ADD,
+        DST,
+        TRANSFORM
+    }
+
+    private enum Type {
+        DOUBLE,
+        APFLOAT,
+        DOUBLE_DOUBLE
+    }
+}
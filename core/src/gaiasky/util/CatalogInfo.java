@@ -14,10 +14,13 @@ import gaiasky.scene.view.FocusView;
 import gaiasky.util.Logger.Log;
 import gaiasky.util.color.ColorUtils;
 import gaiasky.util.filter.Filter;
+import gaiasky.util.filter.attrib.AttributeStats;
 import gaiasky.util.filter.attrib.IAttribute;
 import gaiasky.util.i18n.I18n;
 
 import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CatalogInfo {
     private static final Log logger = Logger.getLogger(CatalogInfo.class);
@@ -44,6 +47,11 @@ public class CatalogInfo {
     // The filtering object. May be null
     public Filter filter;
 
+    // Cached attribute statistics, see AttributeStatistics
+    public final Map<String, AttributeStats> attributeStats = new ConcurrentHashMap<>();
+    // Attributes of the cached statistics
+    public final Map<String, IAttribute> attributeStatsSources = new ConcurrentHashMap<>();
+
     // Catalog type
     public CatalogInfoSource type;
 
@@ -29,6 +29,7 @@ public class GaiaSkyLoader extends AsynchronousAssetLoader<GaiaSkyAssets, GaiaSk
 
     @Override
     public void loadAsync(AssetManager manager, String fileName, FileHandle file, GaiaSkyLoaderParameters parameter) {
+        final StartupProfiler.Span span = StartupProfiler.instance.start("Gaia Sky assets (async)");
         assets = new GaiaSkyAssets();
 
         // Tooltip to 1s
@@ -68,12 +69,15 @@ public class GaiaSkyLoader extends AsynchronousAssetLoader<GaiaSkyAssets, GaiaSk
         // SVT.
         assets.svtManager = new SVTManager();
 
+        span.close();
     }
 
     @Override
     public GaiaSkyAssets loadSync(AssetManager manager, String fileName, FileHandle file, GaiaSkyLoaderParameters parameter) {
         // Needs initialization of textures.
-        assets.svtManager.initialize(parameter.gaiaSky.assetManager);
+        try (var ignored = StartupProfiler.instance.start("Gaia Sky assets (sync)")) {
+            assets.svtManager.initialize(parameter.gaiaSky.assetManager);
+        }
         return assets;
     }
 
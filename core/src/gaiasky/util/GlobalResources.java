@@ -29,8 +29,8 @@ import gaiasky.util.gdx.g2d.ExtSpriteBatch;
 import gaiasky.util.gdx.shader.ExtShaderProgram;
 import gaiasky.util.i18n.I18n;
 import gaiasky.util.math.MathUtilsDouble;
-import gaiasky.util.math.Vector3b;
 import gaiasky.util.math.Vector3d;
+import gaiasky.util.math.Vector3dd;
 import net.jafama.FastMath;
 import org.apfloat.Apfloat;
 import org.lwjgl.opengl.GL30;
@@ -188,8 +188,8 @@ public class GlobalResources {
      *
      * @return True if the body is visible
      */
-    public static boolean isInView(Vector3b point, double len, float coneAngle, Vector3d dir) {
-        return FastMath.acos(point.tov3d().dot(dir) / len) < coneAngle;
+    public static boolean isInView(Vector3dd point, double len, float coneAngle, Vector3d dir) {
+        return FastMath.acos(dir.dot(point) / len) < coneAngle;
     }
 
     /**
@@ -470,6 +470,10 @@ public class Settings {
         public String reflectionSkyboxLocation;
         public boolean highAccuracy;
         public boolean realGaiaAttitude;
+        /** Keep a binary snapshot of the scene files in the cache to speed up startup. **/
+        public boolean sceneSnapshot = false;
+        /** Serve the positions of the planets, the Moon and Pluto from piecewise Chebyshev fits of their analytic series. **/
+        public boolean ephemerisCache = false;
 
         /**
          * This method keeps compatibility with older versions of the configuration file where
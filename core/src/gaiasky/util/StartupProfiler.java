@@ -0,0 +1,346 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.util;
+
+import gaiasky.util.Logger.Log;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Records nested timing spans of the startup phases, and writes them to a JSON report when startup finishes.
+ * <p>
+ * Spans are opened with {@link #start(String)} and closed with {@link Span#close()}, usually in a try-with-resources
+ * block. A span is nested in the last open span of the same thread, or in the given parent span, if any, so that work
+ * sent to other threads can be attributed to the phase that started it. Once {@link #finish()} is called, no more
+ * spans are recorded, and starting a span does nothing.
+ */
+public class StartupProfiler {
+    private static final Log logger = Logger.getLogger(StartupProfiler.class);
+
+    public static final StartupProfiler instance = new StartupProfiler();
+
+    /** Name of the report file, in the log directory. **/
+    public static final String REPORT_FILE = "startup-profile.json";
+
+    /** Span returned when not recording. **/
+    private static final Span NOOP = new Span(null, null, null, 0);
+
+    private final long origin = System.nanoTime();
+    private final long originEpochMs = System.currentTimeMillis();
+    private final List<Span> roots = new ArrayList<>();
+    private final Map<String, String> properties = new LinkedHashMap<>();
+    private final ThreadLocal<Deque<Span>> stack = ThreadLocal.withInitial(ArrayDeque::new);
+    private volatile boolean active = true;
+    private long end;
+
+    private StartupProfiler() {
+    }
+
+    /**
+     * Opens a span in the last open span of this thread, if any.
+     *
+     * @param name The name of the span.
+     *
+     * @return The span, to be closed at the end of the phase.
+     */
+    public Span start(String name) {
+        return start(name, null);
+    }
+
+    /**
+     * Opens a span.
+     *
+     * @param name   The name of the span.
+     * @param parent The parent span. If null, the span goes in the last open span of this thread, if any.
+     *
+     * @return The span, to be closed at the end of the phase.
+     */
+    public Span start(String name, Span parent) {
+        if (!active) {
+            return NOOP;
+        }
+        final Deque<Span> spans = stack.get();
+        if (parent == null || parent == NOOP) {
+            parent = spans.peek();
+        }
+        final Span span = new Span(this, name, Thread.currentThread().getName(), System.nanoTime());
+        add(parent, span);
+        spans.push(span);
+        return span;
+    }
+
+    /**
+     * Records a span which has already finished, such as an asset manager task.
+     *
+     * @param name           The name of the span.
+     * @param thread         The thread the work was done in.
+     * @param durationNanos  The duration, in nanoseconds, until now.
+     * @param parent         The parent span, or null.
+     */
+    public void record(String name, String thread, long durationNanos, Span parent) {
+        if (!active) {
+            return;
+        }
+        final long now = System.nanoTime();
+        final Span span = new Span(this, name, thread, now - durationNanos);
+        span.end = now;
+        add(parent == NOOP ? null : parent, span);
+    }
+
+    private void add(Span parent, Span span) {
+        synchronized (this) {
+            if (parent != null) {
+                parent.children.add(span);
+            } else {
+                roots.add(span);
+            }
+        }
+    }
+
+    /**
+     * Sets a property of the report, like the version or the graphics device.
+     *
+     * @param key   The key.
+     * @param value The value.
+     */
+    public synchronized void setProperty(String key, Object value) {
+        properties.put(key, String.valueOf(value));
+    }
+
+    /**
+     * @return Whether spans are being recorded.
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Stops recording and writes the report to the log directory. Spans which are still open end now.
+     *
+     * @return The path of the report, or null if it could not be written, or the profiler was already finished.
+     */
+    public Path finish() {
+        synchronized (this) {
+            if (!active) {
+                return null;
+            }
+            active = false;
+            end = System.nanoTime();
+        }
+        final Path report = SysUtils.getLogDir().resolve(REPORT_FILE);
+        try {
+            Files.createDirectories(report.getParent());
+            Files.writeString(report, toJson(), StandardCharsets.UTF_8);
+            logger.info("Startup took " + String.format("%.1f", getTotalMs() / 1000d) + " s, profile written to " + report);
+            return report;
+        } catch (IOException e) {
+            logger.error("Could not write the startup profile: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @return The time since the profiler was created until it finished, or until now, in ms.
+     */
+    public synchronized double getTotalMs() {
+        return ((active ? System.nanoTime() : end) - origin) / 1e6;
+    }
+
+    /**
+     * @return A copy of the top-level spans.
+     */
+    public synchronized List<Span> getSpans() {
+        return new ArrayList<>(roots);
+    }
+
+    /**
+     * Creates a text summary with the top-level spans and their children, one per line, with their durations.
+     *
+     * @param depth The number of levels to include.
+     *
+     * @return The summary.
+     */
+    public synchronized String summary(int depth) {
+        StringBuilder sb = new StringBuilder();
+        for (Span span : roots) {
+            summary(span, sb, 0, depth);
+        }
+        return sb.toString().trim();
+    }
+
+    private void summary(Span span, StringBuilder sb, int level, int depth) {
+        sb.append("  ".repeat(level)).append(span.name).append(": ").append(String.format("%.1f", span.getDurationMs())).append(" ms\n");
+        if (level + 1 < depth) {
+            for (Span child : span.children) {
+                summary(child, sb, level + 1, depth);
+            }
+        }
+    }
+
+    /**
+     * Creates the JSON report, with the properties, the total time and the tree of spans. Times are in ms, and the
+     * start of each span is relative to the creation of the profiler.
+     *
+     * @return The JSON report.
+     */
+    public synchronized String toJson() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n");
+        sb.append("  \"date\": ").append(quote(Instant.ofEpochMilli(originEpochMs).toString())).append(",\n");
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+            sb.append("  ").append(quote(property.getKey())).append(": ").append(quote(property.getValue())).append(",\n");
+        }
+        sb.append("  \"os\": ").append(quote(System.getProperty("os.name") + " " + System.getProperty("os.version") + " " + System.getProperty("os.arch"))).append(",\n");
+        sb.append("  \"java\": ").append(quote(System.getProperty("java.version") + " " + System.getProperty("java.vendor"))).append(",\n");
+        sb.append("  \"cpus\": ").append(Runtime.getRuntime().availableProcessors()).append(",\n");
+        sb.append("  \"maxMemoryMb\": ").append(number(MemInfo.getMaxMemory())).append(",\n");
+        sb.append("  \"totalMs\": ").append(number(getTotalMs())).append(",\n");
+        sb.append("  \"spans\": [");
+        spans(roots, sb, "  ");
+        sb.append("]\n}\n");
+        return sb.toString();
+    }
+
+    private void spans(List<Span> spans, StringBuilder sb, String indent) {
+        String inner = indent + "  ";
+        for (int i = 0; i < spans.size(); i++) {
+            Span span = spans.get(i);
+            sb.append(i == 0 ? "\n" : ",\n").append(inner).append("{ ");
+            sb.append("\"name\": ").append(quote(span.name)).append(", ");
+            sb.append("\"thread\": ").append(quote(span.thread)).append(", ");
+            sb.append("\"startMs\": ").append(number((span.start - origin) / 1e6)).append(", ");
+            sb.append("\"durationMs\": ").append(number(span.getDurationMs()));
+            if (!span.children.isEmpty()) {
+                sb.append(", \"children\": [");
+                spans(span.children, sb, inner);
+                sb.append("]");
+            }
+            sb.append(" }");
+        }
+        if (!spans.isEmpty()) {
+            sb.append("\n").append(indent);
+        }
+    }
+
+    private static String number(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static String quote(String str) {
+        StringBuilder sb = new StringBuilder(str.length() + 2).append('"');
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            switch (c) {
+            case '"' -> sb.append("\\\"");
+            case '\\' -> sb.append("\\\\");
+            case '\n' -> sb.append("\\n");
+            case '\r' -> sb.append("\\r");
+            case '\t' -> sb.append("\\t");
+            default -> {
+                if (c < 0x20) {
+                    sb.append(String.format("\\u%04x", (int) c));
+                } else {
+                    sb.append(c);
+                }
+            }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * A timing span. Closing it ends it, and also ends the spans opened after it in the same thread which are still open.
+     */
+    public static class Span implements AutoCloseable {
+        private final StartupProfiler profiler;
+        private final String name;
+        private final String thread;
+        private final long start;
+        private final List<Span> children = new ArrayList<>(2);
+        private long end = -1;
+
+        private Span(StartupProfiler profiler, String name, String thread, long start) {
+            this.profiler = profiler;
+            this.name = name;
+            this.thread = thread;
+            this.start = start;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return The duration in ms, until now if the span is still open.
+         */
+        public double getDurationMs() {
+            long stop = end >= 0 ? end : (profiler.active ? System.nanoTime() : profiler.end);
+            return (stop - start) / 1e6;
+        }
+
+        @Override
+        public void close() {
+            if (profiler == null || end >= 0) {
+                return;
+            }
+            final Deque<Span> spans = profiler.stack.get();
+            synchronized (profiler) {
+                end = System.nanoTime();
+                if (spans.contains(this)) {
+                    Span top;
+                    do {
+                        top = spans.pop();
+                        if (top.end < 0) {
+                            top.end = end;
+                        }
+                    } while (top != this);
+                }
+            }
+        }
+    }
+
+    /**
+     * Asset manager logger which records the load time of each asset as a span. The asset manager logs the time of each
+     * task when it finishes, at debug level.
+     */
+    public static class AssetManagerLogger extends com.badlogic.gdx.utils.Logger {
+        private static final String LOADED = "Loaded: ";
+        private volatile Span parent;
+
+        public AssetManagerLogger(int level) {
+            super("AssetManager", level);
+        }
+
+        /**
+         * Sets the span the asset tasks go in.
+         *
+         * @param parent The span.
+         */
+        public void setParent(Span parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public void debug(String message) {
+            if (message.startsWith(LOADED) && instance.isActive()) {
+                int ms = message.indexOf("ms ", LOADED.length());
+                if (ms > 0) {
+                    try {
+                        double durationMs = Double.parseDouble(message.substring(LOADED.length(), ms));
+                        instance.record(message.substring(ms + 3), "asset-manager", (long) (durationMs * 1e6), parent);
+                    } catch (NumberFormatException ignored) {
+                    }
+                }
+            }
+            super.debug(message);
+        }
+    }
+}
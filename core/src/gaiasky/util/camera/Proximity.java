@@ -197,7 +197,7 @@ public class Proximity {
         c.size = pr.size();
         c.radius = pr.radius();
         c.distToCamera = c.pos.len() - c.radius;
-        c.name = pr.names()[0];
+        c.name = pr.firstName();
         c.type = TYPE_STAR_GROUP;
 
         Color col = new Color();
@@ -5,10 +5,237 @@
 
 package gaiasky.util.color;
 
+import com.badlogic.gdx.graphics.Color;
+import gaiasky.util.Logger;
+import gaiasky.util.Logger.Log;
 import gaiasky.util.math.MathUtilsDouble;
-
+import gaiasky.util.parse.Parser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Color maps. The analytical definitions below are used to precompute fixed-size RGB lookup tables, which
+ * are then used by {@link #colormapPacked(int, double, double, double)} and
+ * {@link #colormapRgb(int, double, double, double, float[])} to map values without allocating.
+ * Custom lookup tables can be registered with {@link #registerColormap(String, float[])} and
+ * {@link #loadColormap(String, Path)}.
+ */
 public class Colormap {
-    // Value is assumed to be normalized in [0,1] in all cases
+    private static final Log logger = Logger.getLogger(Colormap.class);
+
+    /** Number of entries in each lookup table. **/
+    public static final int LUT_SIZE = 1024;
+    /** Number of built-in color maps. **/
+    public static final int N_DEFAULT = 9;
+
+    /** Lookup tables with LUT_SIZE RGB triplets in [0,1] each, indexed by color map index. **/
+    private static volatile float[][] luts;
+    /** Lookup tables with LUT_SIZE packed colors each, indexed by color map index. **/
+    private static volatile float[][] lutsPacked;
+    /** Maps the names of the custom color maps to their indices. **/
+    private static final Map<String, Integer> customIndices = new HashMap<>();
+
+    static {
+        Colormap cmap = new Colormap();
+        float[][] l = new float[N_DEFAULT][];
+        float[][] lp = new float[N_DEFAULT][];
+        for (int i = 0; i < N_DEFAULT; i++) {
+            float[] lut = new float[LUT_SIZE * 3];
+            for (int j = 0; j < LUT_SIZE; j++) {
+                double[] rgb = cmap.colormap(i, (double) j / (LUT_SIZE - 1.0));
+                lut[j * 3] = (float) rgb[0];
+                lut[j * 3 + 1] = (float) rgb[1];
+                lut[j * 3 + 2] = (float) rgb[2];
+            }
+            l[i] = lut;
+            lp[i] = pack(lut);
+        }
+        luts = l;
+        lutsPacked = lp;
+    }
+
+    private static float[] pack(float[] lut) {
+        float[] packed = new float[LUT_SIZE];
+        for (int j = 0; j < LUT_SIZE; j++) {
+            packed[j] = Color.toFloatBits(MathUtilsDouble.clamp(lut[j * 3], 0f, 1f), MathUtilsDouble.clamp(lut[j * 3 + 1], 0f, 1f), MathUtilsDouble.clamp(lut[j * 3 + 2], 0f, 1f), 1.0f);
+        }
+        return packed;
+    }
+
+    /**
+     * Registers a custom color map given its control points. The control points are linearly
+     * resampled to a lookup table of {@link #LUT_SIZE} entries. If a custom color map with the same name
+     * exists, it is replaced.
+     *
+     * @param name The name of the color map.
+     * @param rgb  The control points, as a sequence of RGB triplets with values in [0,1]. At least two are needed.
+     *
+     * @return The index of the new color map, to be used in the lookup methods.
+     */
+    public static synchronized int registerColormap(String name, float[] rgb) {
+        if (rgb == null || rgb.length < 6 || rgb.length % 3 != 0) {
+            throw new IllegalArgumentException("Color map needs at least two RGB control points: " + name);
+        }
+        final int nPoints = rgb.length / 3;
+        float[] lut = new float[LUT_SIZE * 3];
+        for (int j = 0; j < LUT_SIZE; j++) {
+            double pos = (double) j / (LUT_SIZE - 1.0) * (nPoints - 1.0);
+            int i0 = Math.min((int) pos, nPoints - 2);
+            float t = (float) (pos - i0);
+            for (int c = 0; c < 3; c++) {
+                lut[j * 3 + c] = rgb[i0 * 3 + c] * (1f - t) + rgb[(i0 + 1) * 3 + c] * t;
+            }
+        }
+
+        String key = name.toLowerCase(Locale.ROOT);
+        float[][] l = luts;
+        float[][] lp = lutsPacked;
+        int index;
+        if (customIndices.containsKey(key)) {
+            index = customIndices.get(key);
+            l = l.clone();
+            lp = lp.clone();
+        } else {
+            index = l.length;
+            float[][] nl = new float[index + 1][];
+            float[][] nlp = new float[index + 1][];
+            System.arraycopy(l, 0, nl, 0, index);
+            System.arraycopy(lp, 0, nlp, 0, index);
+            l = nl;
+            lp = nlp;
+            customIndices.put(key, index);
+        }
+        l[index] = lut;
+        lp[index] = pack(lut);
+        luts = l;
+        lutsPacked = lp;
+        return index;
+    }
+
+    /**
+     * Loads a custom color map from a text file and registers it. The file contains one RGB control
+     * point per line, with the three components separated by spaces, commas or tabs. Components are in [0,1], or
+     * in [0,255] if any value in the file is larger than 1. Empty lines and lines starting with '#' are ignored.
+     *
+     * @param name The name of the color map.
+     * @param file The path to the file.
+     *
+     * @return The index of the new color map.
+     *
+     * @throws IOException If the file can't be read or is not well formed.
+     */
+    public static int loadColormap(String name, Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file);
+        List<float[]> points = new ArrayList<>(lines.size());
+        float max = 0f;
+        for (String line : lines) {
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] tokens = line.split("[\\s,;]+");
+            if (tokens.length < 3) {
+                throw new IOException("Malformed color map line in " + file + ": " + line);
+            }
+            float[] point = new float[] { Parser.parseFloat(tokens[0]), Parser.parseFloat(tokens[1]), Parser.parseFloat(tokens[2]) };
+            max = Math.max(max, Math.max(point[0], Math.max(point[1], point[2])));
+            points.add(point);
+        }
+        float scale = max > 1f ? 1f / 255f : 1f;
+        float[] rgb = new float[points.size() * 3];
+        for (int i = 0; i < points.size(); i++) {
+            float[] point = points.get(i);
+            rgb[i * 3] = point[0] * scale;
+            rgb[i * 3 + 1] = point[1] * scale;
+            rgb[i * 3 + 2] = point[2] * scale;
+        }
+        int index = registerColormap(name, rgb);
+        logger.info("Color map '" + name + "' loaded from " + file + " with index " + index);
+        return index;
+    }
+
+    /**
+     * Gets the index of the custom color map with the given name.
+     *
+     * @param name The name.
+     *
+     * @return The index, or -1 if no custom color map with such name exists.
+     */
+    public static synchronized int getCustomColormapIndex(String name) {
+        return customIndices.getOrDefault(name.toLowerCase(Locale.ROOT), -1);
+    }
+
+    /**
+     * Returns the total number of color maps, built-in plus custom.
+     */
+    public static int getNumColormaps() {
+        return luts.length;
+    }
+
+    private static int lutIndex(double value, double min, double max) {
+        double x;
+        if (max < min) {
+            x = 1.0 - (value - max) / (min - max);
+        } else {
+            x = (value - min) / (max - min);
+        }
+        // NaN maps to 0
+        if (!(x > 0.0)) {
+            return 0;
+        }
+        return x >= 1.0 ? LUT_SIZE - 1 : (int) (x * (LUT_SIZE - 1) + 0.5);
+    }
+
+    private static int cmapIndex(int cmap, int nMaps) {
+        return cmap < N_DEFAULT ? Math.max(cmap, 0) : (cmap < nMaps ? cmap : cmap % N_DEFAULT);
+    }
+
+    /**
+     * Maps the given value in [min,max] to a packed color (see {@link Color#toFloatBits(float, float, float, float)})
+     * with the given color map. If max &lt; min the map is inverted. Does not allocate.
+     *
+     * @param cmap  The color map index.
+     * @param value The value.
+     * @param min   The value mapped to the start of the color map.
+     * @param max   The value mapped to the end of the color map.
+     *
+     * @return The color, packed in a float, with an alpha of 1.
+     */
+    public float colormapPacked(int cmap, double value, double min, double max) {
+        final float[][] lp = lutsPacked;
+        return lp[cmapIndex(cmap, lp.length)][lutIndex(value, min, max)];
+    }
+
+    /**
+     * Same as {@link #colormapPacked(int, double, double, double)}, but writes the RGB components
+     * in [0,1] to the given array.
+     *
+     * @param cmap  The color map index.
+     * @param value The value.
+     * @param min   The value mapped to the start of the color map.
+     * @param max   The value mapped to the end of the color map.
+     * @param out   The output array, with at least three elements.
+     *
+     * @return The output array.
+     */
+    public float[] colormapRgb(int cmap, double value, double min, double max, float[] out) {
+        final float[][] l = luts;
+        final float[] lut = l[cmapIndex(cmap, l.length)];
+        final int idx = lutIndex(value, min, max) * 3;
+        out[0] = lut[idx];
+        out[1] = lut[idx + 1];
+        out[2] = lut[idx + 2];
+        return out;
+    }
+
+    // The analytical definitions below assume the value is normalized in [0,1]
 
     // BLUES
     private double colormap_blues_red(double x) {
@@ -13,20 +13,33 @@ import gaiasky.scene.entity.EntityUtils;
 import gaiasky.util.Constants;
 import gaiasky.util.Logger;
 import gaiasky.util.Logger.Log;
+import gaiasky.util.Settings;
+import gaiasky.util.SysUtils;
+import gaiasky.util.math.Vector3b;
 import gaiasky.util.math.Vector3d;
+import gaiasky.util.math.Vector3dd;
 
-import java.util.ArrayList;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public abstract class AbstractOrbitCoordinates implements IBodyCoordinates {
     protected static final Log logger = Logger.getLogger(AbstractOrbitCoordinates.class);
-    // Holds all instances
-    protected static final List<AbstractOrbitCoordinates> instances = new ArrayList<>();
+    // Holds all instances. Coordinates are created by scene loaders in several threads.
+    protected static final List<AbstractOrbitCoordinates> instances = new CopyOnWriteArrayList<>();
 
     protected String orbitname;
     protected Vector3d center;
     protected Entity entity;
     protected double scaling = 1d;
+    /** Length of the segments of the ephemeris cache of the body, in days. **/
+    protected double ephemerisWindow = 32;
+    /** Ephemeris cache of the body, if enabled. Set when {@link #ephemerisInitialized} is set. **/
+    private ChebyshevEphemeris ephemeris;
+    private volatile boolean ephemerisInitialized = false;
+    private static final ThreadLocal<Vector3d> ephemerisAux = ThreadLocal.withInitial(Vector3d::new);
 
     public AbstractOrbitCoordinates() {
         super();
@@ -87,6 +100,100 @@ public abstract class AbstractOrbitCoordinates implements IBodyCoordinates {
         this.scaling = scaling;
     }
 
+    public void setEphemerisWindow(double days) {
+        this.ephemerisWindow = days;
+    }
+
+    public double getEphemerisWindow() {
+        return ephemerisWindow;
+    }
+
+    /**
+     * Gets the equatorial cartesian coordinates of the body from its ephemeris cache, if the cache is enabled with
+     * the <code>data.ephemerisCache</code> setting. The cache is created the first time this is called. It is read
+     * from the file given by {@link #getEphemerisFile(String)} if it exists, and fitted lazily to the given source
+     * otherwise.
+     *
+     * @param date   The instant.
+     * @param name   The name of the ephemeris file of the body.
+     * @param source The analytic positions of the body, in km.
+     * @param out    The out vector, in internal units.
+     *
+     * @return Whether the position comes from the cache. If false, the cache is disabled or does not cover the date,
+     * and the out vector is not modified.
+     */
+    protected boolean getCachedEquatorialCartesianCoordinates(Instant date, String name, ChebyshevEphemeris.Source source, Vector3b out) {
+        Vector3d aux = ephemerisAux.get();
+        if (getCachedEquatorialCartesianCoordinates(date, name, source, aux)) {
+            out.set(aux);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Same as {@link #getCachedEquatorialCartesianCoordinates(Instant, String, ChebyshevEphemeris.Source, Vector3b)},
+     * but it also puts the position in the given double-double vector, without converting the arbitrary precision one.
+     *
+     * @param date   The instant.
+     * @param name   The name of the ephemeris file of the body.
+     * @param source The analytic positions of the body, in km.
+     * @param out    The out vector, in internal units.
+     * @param outdd  The double-double out vector, in internal units.
+     *
+     * @return Whether the position comes from the cache. If false, the out vectors are not modified.
+     */
+    protected boolean getCachedEquatorialCartesianCoordinates(Instant date, String name, ChebyshevEphemeris.Source source, Vector3b out, Vector3dd outdd) {
+        Vector3d aux = ephemerisAux.get();
+        if (getCachedEquatorialCartesianCoordinates(date, name, source, aux)) {
+            out.set(aux);
+            outdd.set(aux);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean getCachedEquatorialCartesianCoordinates(Instant date, String name, ChebyshevEphemeris.Source source, Vector3d out) {
+        if (!ephemerisInitialized) {
+            initializeEphemeris(name, source);
+        }
+        if (ephemeris != null && ephemeris.getEquatorialCartesianCoordinates(AstroUtils.getJulianDateCache(date), out)) {
+            out.scl(Constants.KM_TO_U * scaling);
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized void initializeEphemeris(String name, ChebyshevEphemeris.Source source) {
+        if (!ephemerisInitialized) {
+            if (Settings.settings != null && Settings.settings.data.ephemerisCache) {
+                Path file = getEphemerisFile(name);
+                if (Files.exists(file)) {
+                    ephemeris = ChebyshevEphemeris.read(file);
+                }
+                if (ephemeris == null) {
+                    double from = AstroUtils.getJulianDate(Instant.ofEpochMilli(Constants.MIN_VSOP_TIME_MS));
+                    double to = AstroUtils.getJulianDate(Instant.ofEpochMilli(Constants.MAX_VSOP_TIME_MS));
+                    ephemeris = ChebyshevEphemeris.lazy(source, ephemerisWindow, ChebyshevEphemeris.DEFAULT_DEGREE, from, to, ChebyshevEphemeris.DEFAULT_MAX_SEGMENTS);
+                } else {
+                    logger.debug("Ephemeris of " + name + " read from " + file);
+                }
+            }
+            ephemerisInitialized = true;
+        }
+    }
+
+    /**
+     * Gets the ephemeris file of the given body, written ahead of time with {@link ChebyshevEphemeris#write(Path)}.
+     *
+     * @param name The name of the body.
+     *
+     * @return The path of the file.
+     */
+    public static Path getEphemerisFile(String name) {
+        return SysUtils.getCacheDir().resolve("ephemeris").resolve(name + ".eph");
+    }
+
     @Override
     public String toString() {
         return "{" + "name='" + orbitname + '\'' + ", orbit=" + entity + ", scaling=" + scaling + '}';
@@ -59,6 +59,12 @@ public class AstroUtils {
      * Julian date cache, since most dates are used more than once.
      **/
     private static final LruCache<Long, Double> julianDateCache = new LruCache<>(50);
+    /**
+     * Last date looked up in the Julian date cache, and its Julian date. Most lookups are for
+     * the current time, and checking this first avoids boxing the key.
+     **/
+    private static long lastJulianDateMs = Long.MIN_VALUE;
+    private static double lastJulianDate;
     /**
      * Initialize nsl Sun
      **/
@@ -295,16 +301,20 @@ public class AstroUtils {
         return plutoEclipticCoordinates(getDaysSinceJ2000(date), out);
     }
 
+    private static Vector3b plutoEclipticCoordinates(double d, Vector3b out) {
+        return out.set(plutoEclipticCoordinates(d, new Vector3d()));
+    }
+
     /**
      * Ecliptic coordinates of pluto at the given date. See
      * <a href="http://www.stjarnhimlen.se/comp/ppcomp.html">here</a>.
      *
-     * @param d   Julian date.
-     * @param out The out vector.
+     * @param d   Days since J2000.
+     * @param out The out vector, with the longitude and latitude in radians and the distance in km.
      *
-     * @return Ecliptic coordinates of Pluto at the given julian date.
+     * @return Ecliptic coordinates of Pluto at the given date.
      */
-    private static Vector3b plutoEclipticCoordinates(double d, Vector3b out) {
+    public static Vector3d plutoEclipticCoordinates(double d, Vector3d out) {
         ITrigonometry trigo = MathManager.instance.trigonometryInterface;
 
         double S = Math.toRadians(50.03 + 0.033459652 * d);
@@ -445,13 +455,19 @@ public class AstroUtils {
      */
     public static synchronized double getJulianDateCache(Instant instant) {
         long time = instant.toEpochMilli();
+        if (time == lastJulianDateMs) {
+            return lastJulianDate;
+        }
+        double jd;
         if (julianDateCache.containsKey(time)) {
-            return julianDateCache.get(time);
+            jd = julianDateCache.get(time);
         } else {
-            double jd = getJulianDate(instant);
+            jd = getJulianDate(instant);
             julianDateCache.put(time, jd);
-            return jd;
         }
+        lastJulianDateMs = time;
+        lastJulianDate = jd;
+        return jd;
     }
 
     public static double getJulianDate(Instant instant) {
@@ -752,6 +768,49 @@ public class AstroUtils {
 
     }
 
+    /**
+     * Converts the proper motions and radial velocities in the given columns into cartesian vectors, like
+     * {@link #properMotionsToCartesian(double, double, double, double, double, double, Vector3d)}. The output columns
+     * may be the same arrays as any of the input columns. Large ranges are split across the common fork-join pool, see
+     * {@link ParallelChunks}.
+     *
+     * @param muAlphaStar Mu alpha star, in mas/yr.
+     * @param muDelta     Mu delta, in mas/yr.
+     * @param radvel      Radial velocity in km/s.
+     * @param ra          Right ascension in radians.
+     * @param dec         Declination in radians.
+     * @param distPc      Distance in parsecs to the star.
+     * @param xs          The output x components of the proper motion vectors, in internal_units/year.
+     * @param ys          The output y components.
+     * @param zs          The output z components.
+     * @param from        The index of the first star, inclusive.
+     * @param to          The index of the last star, exclusive.
+     */
+    public static void properMotionsToCartesian(double[] muAlphaStar, double[] muDelta, double[] radvel, double[] ra, double[] dec, double[] distPc, double[] xs, double[] ys, double[] zs, int from, int to) {
+        final double toU = Constants.KM_TO_U / Nature.S_TO_Y;
+        ParallelChunks.forEach(from, to, (start, end) -> {
+            for (int i = start; i < end; i++) {
+                final double vta = muAlphaStar[i] * Nature.MILLIARCSEC_TO_ARCSEC * distPc[i] * 4.74d;
+                final double vtd = muDelta[i] * Nature.MILLIARCSEC_TO_ARCSEC * distPc[i] * 4.74d;
+                final double vr = radvel[i];
+
+                final double cosAlpha = Math.cos(ra[i]);
+                final double sinAlpha = Math.sin(ra[i]);
+                final double cosDelta = Math.cos(dec[i]);
+                final double sinDelta = Math.sin(dec[i]);
+
+                final double vx = (vr * cosDelta * cosAlpha) - (vta * sinAlpha) - (vtd * sinDelta * cosAlpha);
+                final double vy = (vr * cosDelta * sinAlpha) + (vta * cosAlpha) - (vtd * sinDelta * sinAlpha);
+                final double vz = (vr * sinDelta) + (vtd * cosDelta);
+
+                // Same axes as the single version: (vy, vz, vx)
+                xs[i] = vy * toU;
+                ys[i] = vz * toU;
+                zs[i] = vx * toU;
+            }
+        });
+    }
+
     /**
      * Converts an apparent magnitude to an absolute magnitude given the distance in parsecs.
      *
@@ -0,0 +1,332 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.util.coord;
+
+import gaiasky.util.Logger;
+import gaiasky.util.Logger.Log;
+import gaiasky.util.math.Vector3d;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Piecewise Chebyshev approximation of the equatorial cartesian position of a body, fitted to an analytic
+ * {@link Source}. The covered time range is split in segments of a fixed length (the window), and each coordinate is
+ * approximated in each segment by a Chebyshev polynomial, so that a position costs a few multiply-adds per
+ * coordinate instead of the evaluation of the analytic series.
+ * <p>
+ * Segments are either fitted lazily, the first time a position in them is requested, and kept in a bounded
+ * least-recently-used cache, or fitted ahead of time for the whole range with {@link #fit(Source, double, int, double, double)},
+ * in which case they can be written to a binary file with {@link #write(Path)} and read back with {@link #read(Path)}.
+ * Positions outside the covered range are not served, and must be computed with the analytic source.
+ */
+public class ChebyshevEphemeris {
+    private static final Log logger = Logger.getLogger(ChebyshevEphemeris.class);
+
+    private static final int MAGIC = 0x67734368;
+    private static final int VERSION = 1;
+
+    /** Default degree of the polynomials. **/
+    public static final int DEFAULT_DEGREE = 12;
+    /** Default maximum number of segments kept in memory by lazy ephemerides. **/
+    public static final int DEFAULT_MAX_SEGMENTS = 4096;
+
+    /**
+     * Analytic positions the ephemeris is fitted to. Implementations must be thread-safe, as segments may be fitted
+     * from several threads.
+     */
+    public interface Source {
+        /**
+         * Computes the equatorial cartesian position of the body at the given date, in kilometres and without any
+         * scaling.
+         *
+         * @param julianDate The julian date.
+         * @param out        The vector to put the position in.
+         */
+        void getEquatorialCartesianCoordinates(double julianDate, Vector3d out);
+    }
+
+    private final Source source;
+    /** Length of the segments, in days. **/
+    private final double window;
+    private final int degree;
+    /** Covered range, in julian days. The first segment starts at from. **/
+    private final double from, to;
+    /** Segments fitted ahead of time, or null if they are fitted lazily. **/
+    private final Segment[] table;
+    /** Segments fitted lazily, in access order. **/
+    private final Map<Long, Segment> cache;
+    /** Last segment used, checked before anything else, since consecutive positions normally fall in it. **/
+    private volatile Segment last;
+    /** Values of the Chebyshev polynomials at the nodes, scaled for the fit, indexed by <code>j * (degree + 1) + k</code>. **/
+    private final double[] basis;
+    private final double[] nodes;
+
+    private ChebyshevEphemeris(Source source, double window, int degree, double from, double to, Segment[] table, int maxSegments) {
+        this.source = source;
+        this.window = window;
+        this.degree = degree;
+        this.from = from;
+        this.to = to;
+        this.table = table;
+        this.cache = table != null ? null : new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Segment> eldest) {
+                return size() > maxSegments;
+            }
+        };
+
+        final int n = degree + 1;
+        this.nodes = new double[n];
+        this.basis = new double[n * n];
+        for (int k = 0; k < n; k++) {
+            nodes[k] = Math.cos(Math.PI * (k + 0.5) / n);
+            for (int j = 0; j < n; j++) {
+                basis[j * n + k] = (j == 0 ? 1.0 : 2.0) / n * Math.cos(Math.PI * j * (k + 0.5) / n);
+            }
+        }
+    }
+
+    /**
+     * Creates an ephemeris whose segments are fitted the first time they are used.
+     *
+     * @param source      The analytic source.
+     * @param window      The length of the segments, in days.
+     * @param degree      The degree of the polynomials.
+     * @param from        The start of the covered range, as a julian date.
+     * @param to          The end of the covered range, as a julian date.
+     * @param maxSegments The maximum number of segments kept in memory.
+     *
+     * @return The ephemeris.
+     */
+    public static ChebyshevEphemeris lazy(Source source, double window, int degree, double from, double to, int maxSegments) {
+        return new ChebyshevEphemeris(source, window, degree, from, to, null, maxSegments);
+    }
+
+    /**
+     * Creates an ephemeris and fits all its segments, in parallel.
+     *
+     * @param source The analytic source.
+     * @param window The length of the segments, in days.
+     * @param degree The degree of the polynomials.
+     * @param from   The start of the covered range, as a julian date.
+     * @param to     The end of the covered range, as a julian date.
+     *
+     * @return The ephemeris.
+     */
+    public static ChebyshevEphemeris fit(Source source, double window, int degree, double from, double to) {
+        final int count = Math.max(1, (int) Math.ceil((to - from) / window));
+        final Segment[] table = new Segment[count];
+        final ChebyshevEphemeris ephemeris = new ChebyshevEphemeris(source, window, degree, from, to, table, 0);
+        IntStream.range(0, count).parallel().forEach(i -> table[i] = new Segment(i, ephemeris.fitSegment(i)));
+        return ephemeris;
+    }
+
+    /**
+     * Reads an ephemeris written with {@link #write(Path)}.
+     *
+     * @param file The file.
+     *
+     * @return The ephemeris, or null if the file could not be read.
+     */
+    public static ChebyshevEphemeris read(Path file) {
+        try {
+            ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (in.getInt() != MAGIC || in.getInt() != VERSION) {
+                logger.debug("Wrong ephemeris file format: " + file);
+                return null;
+            }
+            final int degree = in.getInt();
+            final double window = in.getDouble();
+            final double from = in.getDouble();
+            final double to = in.getDouble();
+            final int count = in.getInt();
+            final int size = 3 * (degree + 1);
+            final DoubleBuffer coefficients = in.asDoubleBuffer();
+            final Segment[] table = new Segment[count];
+            for (int i = 0; i < count; i++) {
+                double[] c = new double[size];
+                coefficients.get(c);
+                table[i] = new Segment(i, c);
+            }
+            return new ChebyshevEphemeris(null, window, degree, from, to, table, 0);
+        } catch (Exception e) {
+            logger.debug("Could not read ephemeris " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes the segments of an ephemeris fitted with {@link #fit(Source, double, int, double, double)} to the
+     * given file.
+     *
+     * @param file The file.
+     *
+     * @throws IOException If the file could not be written.
+     */
+    public void write(Path file) throws IOException {
+        if (table == null) {
+            throw new IllegalStateException("Only ephemerides fitted ahead of time can be written");
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(degree);
+            out.writeDouble(window);
+            out.writeDouble(from);
+            out.writeDouble(to);
+            out.writeInt(table.length);
+            for (Segment segment : table) {
+                for (double c : segment.coefficients) {
+                    out.writeDouble(c);
+                }
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Computes the equatorial cartesian position at the given date, in kilometres, if it is within the covered range.
+     *
+     * @param julianDate The julian date.
+     * @param out        The vector to put the position in.
+     *
+     * @return Whether the date is covered. If it is not, the out vector is not modified.
+     */
+    public boolean getEquatorialCartesianCoordinates(double julianDate, Vector3d out) {
+        if (!(julianDate >= from && julianDate <= to)) {
+            return false;
+        }
+        long index = (long) Math.floor((julianDate - from) / window);
+        Segment segment = last;
+        if (segment == null || segment.index != index) {
+            segment = segment(index);
+            last = segment;
+        }
+        final int n = degree + 1;
+        final double s = 2.0 * (julianDate - from - segment.index * window) / window - 1.0;
+        final double[] c = segment.coefficients;
+        out.x = clenshaw(c, 0, n, s);
+        out.y = clenshaw(c, n, n, s);
+        out.z = clenshaw(c, 2 * n, n, s);
+        return true;
+    }
+
+    /**
+     * Evaluates a Chebyshev series with the Clenshaw recurrence.
+     */
+    private static double clenshaw(double[] c, int offset, int n, double s) {
+        final double s2 = 2.0 * s;
+        double b1 = 0, b2 = 0;
+        for (int j = offset + n - 1; j > offset; j--) {
+            double b0 = s2 * b1 - b2 + c[j];
+            b2 = b1;
+            b1 = b0;
+        }
+        return s * b1 - b2 + c[offset];
+    }
+
+    private Segment segment(long index) {
+        if (table != null) {
+            // The end of the range may fall right at the end of the last segment
+            return table[(int) Math.min(index, table.length - 1)];
+        }
+        synchronized (cache) {
+            Segment segment = cache.get(index);
+            if (segment == null) {
+                segment = new Segment(index, fitSegment(index));
+                cache.put(index, segment);
+            }
+            return segment;
+        }
+    }
+
+    /**
+     * Fits the given segment by interpolating the source at the Chebyshev nodes.
+     *
+     * @return The coefficients of x, y and z.
+     */
+    private double[] fitSegment(long index) {
+        final int n = degree + 1;
+        final double start = from + index * window;
+        final double[] values = new double[3 * n];
+        final Vector3d p = new Vector3d();
+        for (int k = 0; k < n; k++) {
+            source.getEquatorialCartesianCoordinates(start + (nodes[k] + 1.0) * 0.5 * window, p);
+            values[k] = p.x;
+            values[n + k] = p.y;
+            values[2 * n + k] = p.z;
+        }
+        final double[] c = new double[3 * n];
+        for (int axis = 0; axis < 3; axis++) {
+            for (int j = 0; j < n; j++) {
+                double sum = 0;
+                for (int k = 0; k < n; k++) {
+                    sum += basis[j * n + k] * values[axis * n + k];
+                }
+                c[axis * n + j] = sum;
+            }
+        }
+        return c;
+    }
+
+    /**
+     * @return The start of the covered range, as a julian date.
+     */
+    public double getFrom() {
+        return from;
+    }
+
+    /**
+     * @return The end of the covered range, as a julian date.
+     */
+    public double getTo() {
+        return to;
+    }
+
+    /**
+     * @return The length of the segments, in days.
+     */
+    public double getWindow() {
+        return window;
+    }
+
+    /**
+     * @return The number of segments in memory.
+     */
+    public int size() {
+        if (table != null) {
+            return table.length;
+        }
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private static class Segment {
+        final long index;
+        /** Coefficients of x, y and z, one after the other. **/
+        final double[] coefficients;
+
+        Segment(long index, double[] coefficients) {
+            this.index = index;
+            this.coefficients = coefficients;
+        }
+    }
+}
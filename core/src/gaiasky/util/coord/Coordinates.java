@@ -8,6 +8,7 @@ package gaiasky.util.coord;
 import com.badlogic.gdx.math.Matrix4;
 import gaiasky.util.Constants;
 import gaiasky.util.math.Matrix4d;
+import gaiasky.util.math.ParallelChunks;
 import gaiasky.util.math.Vector2d;
 import gaiasky.util.math.Vector3b;
 import gaiasky.util.math.Vector3d;
@@ -577,6 +578,77 @@ public class Coordinates {
         return out.set(alpha, delta, distance);
     }
 
+    /**
+     * Converts the points in the given columns from spherical to Cartesian coordinates, like
+     * {@link #sphericalToCartesian(double, double, double, Vector3d)}. The output columns may be the same arrays as the
+     * input columns, to convert in place. Large ranges are split across the common fork-join pool, see
+     * {@link ParallelChunks}.
+     *
+     * @param lon  The longitudes or right ascensions, in radians.
+     * @param lat  The latitudes or declinations, in radians.
+     * @param r    The radii.
+     * @param xs   The output x components.
+     * @param ys   The output y components.
+     * @param zs   The output z components.
+     * @param from The index of the first point, inclusive.
+     * @param to   The index of the last point, exclusive.
+     */
+    public static void sphericalToCartesian(double[] lon, double[] lat, double[] r, double[] xs, double[] ys, double[] zs, int from, int to) {
+        ParallelChunks.forEach(from, to, (start, end) -> {
+            for (int i = start; i < end; i++) {
+                final double longitude = lon[i];
+                final double latitude = lat[i];
+                final double radius = r[i];
+                final double rCosLat = radius * Math.cos(latitude);
+                xs[i] = rCosLat * Math.sin(longitude);
+                ys[i] = radius * Math.sin(latitude);
+                zs[i] = rCosLat * Math.cos(longitude);
+            }
+        });
+    }
+
+    /**
+     * Converts the points in the given columns from Cartesian to spherical coordinates, like
+     * {@link #cartesianToSpherical(Vector3d, Vector3d)}. The output columns may be the same arrays as the input
+     * columns, to convert in place. Large ranges are split across the common fork-join pool, see
+     * {@link ParallelChunks}.
+     *
+     * @param xs   The x components.
+     * @param ys   The y components.
+     * @param zs   The z components.
+     * @param lon  The output longitudes or right ascensions, in radians.
+     * @param lat  The output latitudes or declinations, in radians.
+     * @param r    The output radii.
+     * @param from The index of the first point, inclusive.
+     * @param to   The index of the last point, exclusive.
+     */
+    public static void cartesianToSpherical(double[] xs, double[] ys, double[] zs, double[] lon, double[] lat, double[] r, int from, int to) {
+        ParallelChunks.forEach(from, to, (start, end) -> {
+            for (int i = start; i < end; i++) {
+                final double x = xs[i];
+                final double y = ys[i];
+                final double z = zs[i];
+                final double zxsq = z * z + x * x;
+
+                double alpha = Math.atan2(x, z);
+                if (alpha < 0) {
+                    alpha += 2 * Math.PI;
+                }
+
+                double delta;
+                if (zxsq == 0) {
+                    delta = (y > 0 ? Math.PI / 2 : -Math.PI / 2);
+                } else {
+                    delta = FastMath.atan(y / FastMath.sqrt(zxsq));
+                }
+
+                lon[i] = alpha;
+                lat[i] = delta;
+                r[i] = FastMath.sqrt(zxsq + y * y);
+            }
+        });
+    }
+
     public static Matrix4d getTransformD(String name) {
         if (name == null || name.isEmpty() || !mapf.containsKey(name))
             return mat4didt;
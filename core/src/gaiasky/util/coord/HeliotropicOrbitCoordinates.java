@@ -5,11 +5,13 @@
 
 package gaiasky.util.coord;
 
+import gaiasky.data.util.PointCloudData;
 import gaiasky.util.math.Vector3b;
 
 import java.time.Instant;
 
 public class HeliotropicOrbitCoordinates extends AbstractOrbitCoordinates {
+    private final PointCloudData.Cursor cursor = new PointCloudData.Cursor();
 
     public HeliotropicOrbitCoordinates() {
         super();
@@ -27,7 +29,7 @@ public class HeliotropicOrbitCoordinates extends AbstractOrbitCoordinates {
 
     @Override
     public Vector3b getEquatorialCartesianCoordinates(Instant date, Vector3b out) {
-        boolean inRange = getData().loadPoint(out, date);
+        boolean inRange = getData().loadPoint(out, date, cursor);
         if (!inRange) {
             return null;
         }
@@ -6,6 +6,7 @@
 package gaiasky.util.coord;
 
 import gaiasky.util.math.Vector3b;
+import gaiasky.util.math.Vector3dd;
 
 import java.time.Instant;
 
@@ -57,4 +58,22 @@ public interface IBodyCoordinates {
      */
     Vector3b getEquatorialCartesianCoordinates(Instant instant, Vector3b out);
 
+    /**
+     * Gets equatorial cartesian coordinates for the given date, both in arbitrary precision and in double-double
+     * precision. By default, this converts the arbitrary precision coordinates, which allocates. Implementations which
+     * compute the coordinates in double precision override it to set both vectors from the doubles directly.
+     *
+     * @param instant The instant.
+     * @param out     The out vector where the equatorial cartesian coordinates will
+     *                be.
+     * @param outdd   The out vector where the equatorial cartesian coordinates will
+     *                be, in double-double precision.
+     *
+     * @return The double-double out vector for chaining, or null if the date is out of range,
+     * in case of non-elliptical orbits such as Gaia.
+     */
+    default Vector3dd getEquatorialCartesianCoordinates(Instant instant, Vector3b out, Vector3dd outdd) {
+        return getEquatorialCartesianCoordinates(instant, out) != null ? outdd.set(out) : null;
+    }
+
 }
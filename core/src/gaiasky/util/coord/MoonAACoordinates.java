@@ -8,6 +8,7 @@ package gaiasky.util.coord;
 import gaiasky.util.Constants;
 import gaiasky.util.math.Vector3b;
 import gaiasky.util.math.Vector3d;
+import gaiasky.util.math.Vector3dd;
 import org.apfloat.Apfloat;
 
 import java.time.Instant;
@@ -16,20 +17,22 @@ import java.time.Instant;
  * Coordinates of the Moon given by the algorithm in Jean Meeus' Astronomical
  * Algorithms book.
  */
-public class MoonAACoordinates extends AbstractOrbitCoordinates {
+public class MoonAACoordinates extends AbstractOrbitCoordinates implements ChebyshevEphemeris.Source {
 
-    private Vector3d aux;
+    // Orbits are sampled from several threads
+    private final ThreadLocal<Vector3d> aux;
 
     public MoonAACoordinates() {
         super();
-        aux = new Vector3d();
+        aux = ThreadLocal.withInitial(Vector3d::new);
+        ephemerisWindow = 8;
     }
 
     @Override
     public Vector3b getEclipticSphericalCoordinates(Instant date, Vector3b out) {
         if (!Constants.withinVSOPTime(date.toEpochMilli()))
             return null;
-        out = AstroUtils.moonEclipticCoordinates(date, aux, out);
+        out = AstroUtils.moonEclipticCoordinates(date, aux.get(), out);
         // To internal units
         out.z = out.z.multiply(new Apfloat(Constants.KM_TO_U * scaling, Constants.PREC));
         return out;
@@ -43,10 +46,26 @@ public class MoonAACoordinates extends AbstractOrbitCoordinates {
 
     @Override
     public Vector3b getEquatorialCartesianCoordinates(Instant date, Vector3b out) {
+        if (getCachedEquatorialCartesianCoordinates(date, "moon", this, out))
+            return out;
         getEclipticSphericalCoordinates(date, out);
         Coordinates.sphericalToCartesian(out, out);
         out.mul(Coordinates.eclToEq());
         return out;
     }
 
+    @Override
+    public Vector3dd getEquatorialCartesianCoordinates(Instant date, Vector3b out, Vector3dd outdd) {
+        if (getCachedEquatorialCartesianCoordinates(date, "moon", this, out, outdd))
+            return outdd;
+        return getEquatorialCartesianCoordinates(date, out) != null ? outdd.set(out) : null;
+    }
+
+    @Override
+    public void getEquatorialCartesianCoordinates(double julianDate, Vector3d out) {
+        AstroUtils.moonEclipticCoordinates(julianDate, out);
+        Coordinates.sphericalToCartesian(out, out);
+        out.mul(Coordinates.eclToEq());
+    }
+
 }
@@ -19,6 +19,7 @@ import java.time.Instant;
 public class OrbitLintCoordinates extends AbstractOrbitCoordinates {
     OrbitComponent orbitalParams;
     PointCloudData data;
+    final PointCloudData.Cursor cursor = new PointCloudData.Cursor();
     Matrix4d transf;
     Vector3d aux = new Vector3d();
 
@@ -73,10 +74,10 @@ public class OrbitLintCoordinates extends AbstractOrbitCoordinates {
             return out;
         }
         long dateWrap = data.getWrapTimeMs(date);
-        int basei = data.getIndex(dateWrap);
+        int basei = data.getIndex(dateWrap, cursor);
 
         int nexti = (basei + 1) % data.getNumPoints();
-        double percent = (double) Math.abs(dateWrap - data.getDate(basei).toEpochMilli()) / (double) Math.abs(data.getDate(nexti).toEpochMilli() - data.getDate(basei).toEpochMilli());
+        double percent = (double) Math.abs(dateWrap - data.getTimeMs(basei)) / (double) Math.abs(data.getTimeMs(nexti) - data.getTimeMs(basei));
 
         data.loadPoint(out, basei);
         data.loadPoint(aux, nexti);
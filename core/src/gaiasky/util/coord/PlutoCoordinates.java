@@ -7,13 +7,16 @@ package gaiasky.util.coord;
 
 import gaiasky.util.Constants;
 import gaiasky.util.math.Vector3b;
+import gaiasky.util.math.Vector3d;
+import gaiasky.util.math.Vector3dd;
 import org.apfloat.Apfloat;
 
 import java.time.Instant;
 
-public class PlutoCoordinates extends AbstractOrbitCoordinates {
+public class PlutoCoordinates extends AbstractOrbitCoordinates implements ChebyshevEphemeris.Source {
     public PlutoCoordinates() {
         super();
+        ephemerisWindow = 128;
     }
 
     @Override
@@ -38,6 +41,8 @@ public class PlutoCoordinates extends AbstractOrbitCoordinates {
 
     @Override
     public Vector3b getEquatorialCartesianCoordinates(Instant date, Vector3b out) {
+        if (getCachedEquatorialCartesianCoordinates(date, "pluto", this, out))
+            return out;
         getEclipticSphericalCoordinates(date, out);
         Coordinates.sphericalToCartesian(out, out);
         out.mul(Coordinates.eclToEq());
@@ -45,4 +50,18 @@ public class PlutoCoordinates extends AbstractOrbitCoordinates {
         return out;
     }
 
-}
\ No newline at end of file
+    @Override
+    public Vector3dd getEquatorialCartesianCoordinates(Instant date, Vector3b out, Vector3dd outdd) {
+        if (getCachedEquatorialCartesianCoordinates(date, "pluto", this, out, outdd))
+            return outdd;
+        return getEquatorialCartesianCoordinates(date, out) != null ? outdd.set(out) : null;
+    }
+
+    @Override
+    public void getEquatorialCartesianCoordinates(double julianDate, Vector3d out) {
+        AstroUtils.plutoEclipticCoordinates(julianDate - AstroUtils.JD_J2000, out);
+        Coordinates.sphericalToCartesian(out, out);
+        out.mul(Coordinates.eclToEq());
+    }
+
+}
@@ -6,19 +6,47 @@
 package gaiasky.util.coord.vsop87;
 
 import gaiasky.util.Constants;
+import gaiasky.util.Nature;
 import gaiasky.util.coord.AbstractOrbitCoordinates;
 import gaiasky.util.coord.AstroUtils;
+import gaiasky.util.coord.ChebyshevEphemeris;
 import gaiasky.util.coord.Coordinates;
 import gaiasky.util.math.Vector3b;
+import gaiasky.util.math.Vector3d;
+import gaiasky.util.math.Vector3dd;
 
 import java.time.Instant;
 
-public abstract class AbstractVSOP87 extends AbstractOrbitCoordinates implements iVSOP87 {
-
-    protected boolean highAccuracy;
-
-    public AbstractVSOP87() {
+/**
+ * Base class of the VSOP87 coordinates of the planets. The series are evaluated from the coefficient table of the
+ * planet (see {@link VSOP87Table}), truncated to the terms whose relative amplitude is at least the current threshold.
+ * The positions used to fit the ephemeris cache ({@link ChebyshevEphemeris.Source}) are always evaluated with the
+ * full series, so that the cached positions do not depend on the threshold at the time the segments are fitted.
+ */
+public abstract class AbstractVSOP87 extends AbstractOrbitCoordinates implements iVSOP87, ChebyshevEphemeris.Source {
+
+    /**
+     * Relative amplitude threshold of the low accuracy mode. It keeps about a fifth of the terms, with position
+     * errors below 3000 km for all planets between the years 1000 and 3000.
+     **/
+    public static final double LOW_ACCURACY_THRESHOLD = 3e-8;
+
+    /** Name of the planet, in lower case, or null. **/
+    private final String planet;
+    /** Coefficients of the planet, or null if there are none. **/
+    private final VSOP87Table table;
+    /** Number of terms to evaluate in each series. **/
+    private int[] counts;
+    /** Number of terms of each series, with no truncation. **/
+    private final int[] sizes;
+    private double threshold;
+
+    protected AbstractVSOP87(String planet) {
         super();
+        this.planet = planet;
+        this.table = planet != null ? VSOP87Table.get(planet) : null;
+        this.sizes = table != null ? table.sizes() : new int[VSOP87Table.N_SERIES];
+        setAmplitudeThreshold(LOW_ACCURACY_THRESHOLD);
     }
 
     @Override
@@ -33,9 +61,9 @@ public abstract class AbstractVSOP87 extends AbstractOrbitCoordinates implements
 
         double tau = AstroUtils.tau(AstroUtils.getJulianDateCache(date));
 
-        double L = (L0(tau) + L1(tau) + L2(tau) + L3(tau) + L4(tau) + L5(tau));
-        double B = (B0(tau) + B1(tau) + B2(tau) + B3(tau) + B4(tau) + B5(tau));
-        double R = (R0(tau) + R1(tau) + R2(tau) + R3(tau) + R4(tau) + R5(tau));
+        double L = evaluate(VSOP87Table.L, tau);
+        double B = evaluate(VSOP87Table.B, tau);
+        double R = evaluate(VSOP87Table.R, tau);
         R = R * Constants.AU_TO_U * scaling;
 
         out.set(L, B, R);
@@ -54,6 +82,8 @@ public abstract class AbstractVSOP87 extends AbstractOrbitCoordinates implements
 
     @Override
     public Vector3b getEquatorialCartesianCoordinates(Instant date, Vector3b out) {
+        if (table != null && getCachedEquatorialCartesianCoordinates(date, planet, this, out))
+            return out;
         Vector3b v = getEclipticSphericalCoordinates(date, out);
         if (v == null)
             return null;
@@ -62,9 +92,162 @@ public abstract class AbstractVSOP87 extends AbstractOrbitCoordinates implements
         return out;
     }
 
+    @Override
+    public Vector3dd getEquatorialCartesianCoordinates(Instant date, Vector3b out, Vector3dd outdd) {
+        if (table != null && getCachedEquatorialCartesianCoordinates(date, planet, this, out, outdd))
+            return outdd;
+        return getEquatorialCartesianCoordinates(date, out) != null ? outdd.set(out) : null;
+    }
+
+    @Override
+    public void getEquatorialCartesianCoordinates(double julianDate, Vector3d out) {
+        double tau = AstroUtils.tau(julianDate);
+        Coordinates.sphericalToCartesian(evaluate(VSOP87Table.L, tau, sizes), evaluate(VSOP87Table.B, tau, sizes), evaluate(VSOP87Table.R, tau, sizes) * Nature.AU_TO_KM, out);
+        out.mul(Coordinates.eclToEq());
+    }
+
+    private double evaluate(int variable, double t) {
+        return evaluate(variable, t, counts);
+    }
+
+    private double evaluate(int variable, double t, int[] counts) {
+        return table != null ? table.evaluate(variable, t, counts) : 0;
+    }
+
+    private double series(int variable, int order, double t) {
+        if (table == null)
+            return 0;
+        double value = table.series(variable, order, t, counts[variable * VSOP87Table.N_ORDERS + order]);
+        for (int i = 0; i < order; i++) {
+            value *= t;
+        }
+        return value;
+    }
+
+    @Override
+    public double L0(double t) {
+        return series(VSOP87Table.L, 0, t);
+    }
+
+    @Override
+    public double L1(double t) {
+        return series(VSOP87Table.L, 1, t);
+    }
+
+    @Override
+    public double L2(double t) {
+        return series(VSOP87Table.L, 2, t);
+    }
+
+    @Override
+    public double L3(double t) {
+        return series(VSOP87Table.L, 3, t);
+    }
+
+    @Override
+    public double L4(double t) {
+        return series(VSOP87Table.L, 4, t);
+    }
+
+    @Override
+    public double L5(double t) {
+        return series(VSOP87Table.L, 5, t);
+    }
+
+    @Override
+    public double B0(double t) {
+        return series(VSOP87Table.B, 0, t);
+    }
+
+    @Override
+    public double B1(double t) {
+        return series(VSOP87Table.B, 1, t);
+    }
+
+    @Override
+    public double B2(double t) {
+        return series(VSOP87Table.B, 2, t);
+    }
+
+    @Override
+    public double B3(double t) {
+        return series(VSOP87Table.B, 3, t);
+    }
+
+    @Override
+    public double B4(double t) {
+        return series(VSOP87Table.B, 4, t);
+    }
+
+    @Override
+    public double B5(double t) {
+        return series(VSOP87Table.B, 5, t);
+    }
+
+    @Override
+    public double R0(double t) {
+        return series(VSOP87Table.R, 0, t);
+    }
+
+    @Override
+    public double R1(double t) {
+        return series(VSOP87Table.R, 1, t);
+    }
+
+    @Override
+    public double R2(double t) {
+        return series(VSOP87Table.R, 2, t);
+    }
+
+    @Override
+    public double R3(double t) {
+        return series(VSOP87Table.R, 3, t);
+    }
+
+    @Override
+    public double R4(double t) {
+        return series(VSOP87Table.R, 4, t);
+    }
+
+    @Override
+    public double R5(double t) {
+        return series(VSOP87Table.R, 5, t);
+    }
+
     @Override
     public void setHighAccuracy(boolean highAccuracy) {
-        this.highAccuracy = highAccuracy;
+        setAmplitudeThreshold(highAccuracy ? 0 : LOW_ACCURACY_THRESHOLD);
+    }
+
+    @Override
+    public void setAmplitudeThreshold(double threshold) {
+        if (counts == null || threshold != this.threshold) {
+            this.threshold = threshold;
+            // Replace the whole array, so that concurrent evaluations see either the old or the new counts
+            this.counts = table != null ? table.counts(threshold) : new int[VSOP87Table.N_SERIES];
+        }
+    }
+
+    /**
+     * Computes upper bounds of the difference between the full series and the series truncated with the current
+     * threshold, in L, B (radians) and R (AU), at the given time.
+     *
+     * @param t   The time, in Julian millennia since J2000.
+     * @param out The vector to put the bounds in.
+     *
+     * @return The out vector with the bounds of L, B and R.
+     */
+    public Vector3d getErrorBounds(double t, Vector3d out) {
+        if (table == null)
+            return out.set(0, 0, 0);
+        return out.set(table.errorBound(VSOP87Table.L, t, counts), table.errorBound(VSOP87Table.B, t, counts), table.errorBound(VSOP87Table.R, t, counts));
+    }
+
+    /**
+     * @return The number of terms evaluated with the current threshold.
+     */
+    public int getTermCount() {
+        return VSOP87Table.total(counts);
     }
 
 }
@@ -7,97 +7,6 @@ package gaiasky.util.coord.vsop87;
 
 public class DummyVSOP87 extends AbstractVSOP87 {
     public DummyVSOP87() {
-        super();
+        super(null);
     }
-
-    @Override
-    public double L0(double t) {
-        return 0;
-    }
-
-    @Override
-    public double L1(double t) {
-        return 0;
-    }
-
-    @Override
-    public double L2(double t) {
-        return 0;
-    }
-
-    @Override
-    public double L3(double t) {
-        return 0;
-    }
-
-    @Override
-    public double L4(double t) {
-        return 0;
-    }
-
-    @Override
-    public double L5(double t) {
-        return 0;
-    }
-
-    @Override
-    public double B0(double t) {
-        return 0;
-    }
-
-    @Override
-    public double B1(double t) {
-        return 0;
-    }
-
-    @Override
-    public double B2(double t) {
-        return 0;
-    }
-
-    @Override
-    public double B3(double t) {
-        return 0;
-    }
-
-    @Override
-    public double B4(double t) {
-        return 0;
-    }
-
-    @Override
-    public double B5(double t) {
-        return 0;
-    }
-
-    @Override
-    public double R0(double t) {
-        return 0;
-    }
-
-    @Override
-    public double R1(double t) {
-        return 0;
-    }
-
-    @Override
-    public double R2(double t) {
-        return 0;
-    }
-
-    @Override
-    public double R3(double t) {
-        return 0;
-    }
-
-    @Override
-    public double R4(double t) {
-        return 0;
-    }
-
-    @Override
-    public double R5(double t) {
-        return 0;
-    }
-
 }
@@ -5,5940 +5,12 @@
 
 package gaiasky.util.coord.vsop87;
 
+/**
+ * VSOP87 (version D) coordinates of Saturn. The coefficients are in <code>data/vsop87/saturn.txt</code>.
+ */
 public class SaturnVSOP87 extends AbstractVSOP87 {
     public SaturnVSOP87() {
-        super();
-    }
-
-    /*
-     *
-     * SATURN - VSOP87 Series Version D HELIOCENTRIC DYNAMICAL ECLIPTIC AND
-     * EQUINOX OF THE DATE Spherical (L,B,R) Coordinates
-     *
-     * Series Validity Span: 1 BC < Date < 4000 AD Theoretical accuracy over
-     * span: ±1 arc sec
-     *
-     * L = Longitude in radians B = Latitude in radians R = Radius vector in AU
-     * (Astronomical Units)
-     *
-     * t = (JD - 2451545) / 365250
-     *
-     *
-     * Java Programming Language
-     *
-     * VSOP87 Functions Source Code Generated By The VSOP87 Source Code
-     * Generator Tool (c) Jay Tanner 2014
-     *
-     * Ref: Planetary Theories in Rectangular and Spherical Variables VSOP87
-     * Solutions Pierre Bretagnon, Gerard Francou Journal of Astronomy &
-     * Astrophysics vol. 202, p309-p315 1988
-     *
-     * Source code provided under the provisions of the GNU Affero General
-     * Public License, version 3. https://www.gnu.org/licenses/agpl.html
-     *
-     */
-
-    public double L0(double t) // 1152 terms of order 0
-    {
-        double L0 = 0;
-        L0 += 0.87401354029;
-        L0 += 0.11107659780 * Math.cos(3.96205090194 + 213.299095438 * t);
-        L0 += 0.01414150958 * Math.cos(4.58581515873 + 7.1135470008 * t);
-        L0 += 0.00398379386 * Math.cos(0.52112025957 + 206.1855484372 * t);
-        L0 += 0.00350769223 * Math.cos(3.30329903015 + 426.598190876 * t);
-        L0 += 0.00206816296 * Math.cos(0.24658366938 + 103.0927742186 * t);
-        L0 += 0.00079271288 * Math.cos(3.84007078530 + 220.4126424388 * t);
-        L0 += 0.00023990338 * Math.cos(4.66976934860 + 110.2063212194 * t);
-        L0 += 0.00016573583 * Math.cos(0.43719123541 + 419.4846438752 * t);
-        L0 += 0.00014906995 * Math.cos(5.76903283845 + 316.3918696566 * t);
-        L0 += 0.00015820300 * Math.cos(0.93808953760 + 632.7837393132 * t);
-        L0 += 0.00014609562 * Math.cos(1.56518573691 + 3.9321532631 * t);
-        L0 += 0.00013160308 * Math.cos(4.44891180176 + 14.2270940016 * t);
-        L0 += 0.00015053509 * Math.cos(2.71670027883 + 639.897286314 * t);
-        L0 += 0.00013005305 * Math.cos(5.98119067061 + 11.0457002639 * t);
-        L0 += 0.00010725066 * Math.cos(3.12939596466 + 202.2533951741 * t);
-        L0 += 0.00005863207 * Math.cos(0.23657028777 + 529.6909650946 * t);
-        L0 += 0.00005227771 * Math.cos(4.20783162380 + 3.1813937377 * t);
-        L0 += 0.00006126308 * Math.cos(1.76328499656 + 277.0349937414 * t);
-        L0 += 0.00005019658 * Math.cos(3.17787919533 + 433.7117378768 * t);
-        L0 += 0.00004592541 * Math.cos(0.61976424374 + 199.0720014364 * t);
-        L0 += 0.00004005862 * Math.cos(2.24479893937 + 63.7358983034 * t);
-        L0 += 0.00002953815 * Math.cos(0.98280385206 + 95.9792272178 * t);
-        L0 += 0.00003873696 * Math.cos(3.22282692566 + 138.5174968707 * t);
-        L0 += 0.00002461172 * Math.cos(2.03163631205 + 735.8765135318 * t);
-        L0 += 0.00003269490 * Math.cos(0.77491895787 + 949.1756089698 * t);
-        L0 += 0.00001758143 * Math.cos(3.26580514774 + 522.5774180938 * t);
-        L0 += 0.00001640183 * Math.cos(5.50504966218 + 846.0828347512 * t);
-        L0 += 0.00001391336 * Math.cos(4.02331978116 + 323.5054166574 * t);
-        L0 += 0.00001580641 * Math.cos(4.37266314120 + 309.2783226558 * t);
-        L0 += 0.00001123515 * Math.cos(2.83726793572 + 415.5524906121 * t);
-        L0 += 0.00001017258 * Math.cos(3.71698151814 + 227.5261894396 * t);
-        L0 += 0.00000848643 * Math.cos(3.19149825839 + 209.3669421749 * t);
-        L0 += 0.00001087237 * Math.cos(4.18343232481 + 2.4476805548 * t);
-        L0 += 0.00000956752 * Math.cos(0.50740889886 + 1265.5674786264 * t);
-        L0 += 0.00000789205 * Math.cos(5.00745123149 + 0.9632078465 * t);
-        L0 += 0.00000686965 * Math.cos(1.74714407827 + 1052.2683831884 * t);
-        L0 += 0.00000654470 * Math.cos(1.59889331515 + 0.0481841098 * t);
-        L0 += 0.00000748811 * Math.cos(2.14398149298 + 853.196381752 * t);
-        L0 += 0.00000633980 * Math.cos(2.29889903023 + 412.3710968744 * t);
-        L0 += 0.00000743584 * Math.cos(5.25276954625 + 224.3447957019 * t);
-        L0 += 0.00000852677 * Math.cos(3.42141350697 + 175.1660598002 * t);
-        L0 += 0.00000579857 * Math.cos(3.09259007048 + 74.7815985673 * t);
-        L0 += 0.00000624904 * Math.cos(0.97046831256 + 210.1177017003 * t);
-        L0 += 0.00000529861 * Math.cos(4.44938897119 + 117.3198682202 * t);
-        L0 += 0.00000542643 * Math.cos(1.51824320514 + 9.5612275556 * t);
-        L0 += 0.00000474279 * Math.cos(5.47527185987 + 742.9900605326 * t);
-        L0 += 0.00000448542 * Math.cos(1.28990416161 + 127.4717966068 * t);
-        L0 += 0.00000546358 * Math.cos(2.12678554211 + 350.3321196004 * t);
-        L0 += 0.00000478054 * Math.cos(2.96488054338 + 137.0330241624 * t);
-        L0 += 0.00000354944 * Math.cos(3.01286483030 + 838.9692877504 * t);
-        L0 += 0.00000451827 * Math.cos(1.04436664241 + 490.3340891794 * t);
-        L0 += 0.00000347413 * Math.cos(1.53928227764 + 340.7708920448 * t);
-        L0 += 0.00000343475 * Math.cos(0.24604039134 + 0.5212648618 * t);
-        L0 += 0.00000309001 * Math.cos(3.49486734909 + 216.4804891757 * t);
-        L0 += 0.00000322185 * Math.cos(0.96137456104 + 203.7378678824 * t);
-        L0 += 0.00000372308 * Math.cos(2.27819108625 + 217.2312487011 * t);
-        L0 += 0.00000321543 * Math.cos(2.57182354537 + 647.0108333148 * t);
-        L0 += 0.00000330196 * Math.cos(0.24715617844 + 1581.959348283 * t);
-        L0 += 0.00000249116 * Math.cos(1.47010534421 + 1368.660252845 * t);
-        L0 += 0.00000286688 * Math.cos(2.37043745859 + 351.8165923087 * t);
-        L0 += 0.00000220225 * Math.cos(4.20422424873 + 200.7689224658 * t);
-        L0 += 0.00000277775 * Math.cos(0.40020408926 + 211.8146227297 * t);
-        L0 += 0.00000204500 * Math.cos(6.01082206600 + 265.9892934775 * t);
-        L0 += 0.00000207663 * Math.cos(0.48349820488 + 1162.4747044078 * t);
-        L0 += 0.00000208655 * Math.cos(1.34516255304 + 625.6701923124 * t);
-        L0 += 0.00000182454 * Math.cos(5.49122292426 + 2.9207613068 * t);
-        L0 += 0.00000226609 * Math.cos(4.91003163138 + 12.5301729722 * t);
-        L0 += 0.00000207659 * Math.cos(1.28302218900 + 39.3568759152 * t);
-        L0 += 0.00000173914 * Math.cos(1.86305806814 + 0.7507595254 * t);
-        L0 += 0.00000184690 * Math.cos(3.50344404958 + 149.5631971346 * t);
-        L0 += 0.00000183511 * Math.cos(0.97254952728 + 4.192785694 * t);
-        L0 += 0.00000146068 * Math.cos(6.23102544071 + 195.1398481733 * t);
-        L0 += 0.00000164541 * Math.cos(0.44005517520 + 5.4166259714 * t);
-        L0 += 0.00000147526 * Math.cos(1.53529320509 + 5.6290742925 * t);
-        L0 += 0.00000139666 * Math.cos(4.29450260069 + 21.3406410024 * t);
-        L0 += 0.00000131283 * Math.cos(4.06828961903 + 10.2949407385 * t);
-        L0 += 0.00000117283 * Math.cos(2.67920400584 + 1155.361157407 * t);
-        L0 += 0.00000149299 * Math.cos(5.73594349789 + 52.6901980395 * t);
-        L0 += 0.00000122373 * Math.cos(1.97588777199 + 4.665866446 * t);
-        L0 += 0.00000113747 * Math.cos(5.59427544714 + 1059.3819301892 * t);
-        L0 += 0.00000102702 * Math.cos(1.19748124058 + 1685.0521225016 * t);
-        L0 += 0.00000118156 * Math.cos(5.34072933900 + 554.0699874828 * t);
-        L0 += 0.00000109275 * Math.cos(3.43812715686 + 536.8045120954 * t);
-        L0 += 0.00000110399 * Math.cos(0.16604024090 + 1.4844727083 * t);
-        L0 += 0.00000124969 * Math.cos(6.27737805832 + 1898.3512179396 * t);
-        L0 += 0.00000089949 * Math.cos(5.80392934702 + 114.1384744825 * t);
-        L0 += 0.00000103956 * Math.cos(2.19210363069 + 88.865680217 * t);
-        L0 += 0.00000112437 * Math.cos(1.10502663534 + 191.2076949102 * t);
-        L0 += 0.00000106570 * Math.cos(4.01156608514 + 956.2891559706 * t);
-        L0 += 0.00000091430 * Math.cos(1.87521577510 + 38.1330356378 * t);
-        L0 += 0.00000083791 * Math.cos(5.48810655641 + 0.1118745846 * t);
-        L0 += 0.00000083461 * Math.cos(2.28972767279 + 628.8515860501 * t);
-        L0 += 0.00000096987 * Math.cos(4.53666595763 + 302.164775655 * t);
-        L0 += 0.00000100631 * Math.cos(4.96513666539 + 269.9214467406 * t);
-        L0 += 0.00000075491 * Math.cos(2.18045274099 + 728.762966531 * t);
-        L0 += 0.00000096330 * Math.cos(2.83319189210 + 275.5505210331 * t);
-        L0 += 0.00000082363 * Math.cos(3.05469876064 + 440.8252848776 * t);
-        L0 += 0.00000073888 * Math.cos(5.08914205084 + 1375.7737998458 * t);
-        L0 += 0.00000071633 * Math.cos(5.10940743430 + 65.2203710117 * t);
-        L0 += 0.00000070409 * Math.cos(4.86846451411 + 0.2124483211 * t);
-        L0 += 0.00000069760 * Math.cos(3.71029022489 + 14.977853527 * t);
-        L0 += 0.00000088772 * Math.cos(3.86334563977 + 278.5194664497 * t);
-        L0 += 0.00000068090 * Math.cos(0.73415460990 + 1478.8665740644 * t);
-        L0 += 0.00000066501 * Math.cos(0.02677580336 + 70.8494453042 * t);
-        L0 += 0.00000065682 * Math.cos(2.02165559602 + 142.4496501338 * t);
-        L0 += 0.00000075765 * Math.cos(1.61410487792 + 284.1485407422 * t);
-        L0 += 0.00000063153 * Math.cos(3.49493353034 + 479.2883889155 * t);
-        L0 += 0.00000062539 * Math.cos(2.58713611532 + 422.6660376129 * t);
-        if (highAccuracy) {
-            L0 += 0.00000069313 * Math.cos(3.43979731402 + 515.463871093 * t);
-            L0 += 0.00000079021 * Math.cos(4.45154941586 + 35.4247226521 * t);
-            L0 += 0.00000063664 * Math.cos(3.31749528708 + 62.2514255951 * t);
-            L0 += 0.00000052939 * Math.cos(5.51392725227 + 0.2606324309 * t);
-            L0 += 0.00000053011 * Math.cos(3.18480701697 + 8.0767548473 * t);
-            L0 += 0.00000054492 * Math.cos(2.45674090515 + 22.0914005278 * t);
-            L0 += 0.00000050514 * Math.cos(4.26749346978 + 99.1606209555 * t);
-            L0 += 0.00000055170 * Math.cos(0.96797446150 + 942.062061969 * t);
-            L0 += 0.00000049288 * Math.cos(2.38641424063 + 1471.7530270636 * t);
-            L0 += 0.00000047199 * Math.cos(2.02515248245 + 312.1990839626 * t);
-            L0 += 0.00000061080 * Math.cos(1.50295092063 + 210.8514148832 * t);
-            L0 += 0.00000045126 * Math.cos(0.93109376473 + 2001.4439921582 * t);
-            L0 += 0.00000060556 * Math.cos(2.68715551585 + 388.4651552382 * t);
-            L0 += 0.00000043452 * Math.cos(2.52602011714 + 288.0806940053 * t);
-            L0 += 0.00000042544 * Math.cos(3.81793980322 + 330.6189636582 * t);
-            L0 += 0.00000039915 * Math.cos(5.71378652900 + 408.4389436113 * t);
-            L0 += 0.00000050145 * Math.cos(6.03164759907 + 2214.7430875962 * t);
-            L0 += 0.00000045860 * Math.cos(0.54229721801 + 212.3358875915 * t);
-            L0 += 0.00000054165 * Math.cos(0.78154835399 + 191.9584544356 * t);
-            L0 += 0.00000047016 * Math.cos(4.59934671151 + 437.6438911399 * t);
-            L0 += 0.00000042362 * Math.cos(1.90070070955 + 430.5303441391 * t);
-            L0 += 0.00000039722 * Math.cos(1.63259419913 + 1066.49547719 * t);
-            L0 += 0.00000036345 * Math.cos(0.84756992711 + 213.3472795478 * t);
-            L0 += 0.00000035468 * Math.cos(4.18603772925 + 215.7467759928 * t);
-            L0 += 0.00000036344 * Math.cos(3.93295730315 + 213.2509113282 * t);
-            L0 += 0.00000038005 * Math.cos(0.31313803095 + 423.4167971383 * t);
-            L0 += 0.00000044746 * Math.cos(1.12488341174 + 6.1503391543 * t);
-            L0 += 0.00000037902 * Math.cos(1.19795851115 + 2.7083129857 * t);
-            L0 += 0.00000043402 * Math.cos(1.37363944007 + 563.6312150384 * t);
-            L0 += 0.00000043764 * Math.cos(3.93043802956 + 525.4981794006 * t);
-            L0 += 0.00000034825 * Math.cos(1.01566605408 + 203.0041546995 * t);
-            L0 += 0.00000031755 * Math.cos(1.69273634405 + 0.1600586944 * t);
-            L0 += 0.00000030880 * Math.cos(6.13525703832 + 417.0369633204 * t);
-            L0 += 0.00000036388 * Math.cos(6.00586032647 + 18.1592472647 * t);
-            L0 += 0.00000029032 * Math.cos(1.19660544505 + 404.5067903482 * t);
-            L0 += 0.00000032812 * Math.cos(0.53649479713 + 107.0249274817 * t);
-            L0 += 0.00000030433 * Math.cos(0.72335287989 + 222.8603229936 * t);
-            L0 += 0.00000032644 * Math.cos(0.81204701486 + 1795.258443721 * t);
-            L0 += 0.00000037769 * Math.cos(3.69666903716 + 1272.6810256272 * t);
-            L0 += 0.00000027679 * Math.cos(1.45663979401 + 7.1617311106 * t);
-            L0 += 0.00000027187 * Math.cos(1.89731951902 + 1045.1548361876 * t);
-            L0 += 0.00000037699 * Math.cos(4.51997049537 + 24.3790223882 * t);
-            L0 += 0.00000034885 * Math.cos(4.46095761791 + 214.2623032845 * t);
-            L0 += 0.00000032650 * Math.cos(0.66372395761 + 692.5874843535 * t);
-            L0 += 0.00000030324 * Math.cos(5.30369950147 + 33.9402499438 * t);
-            L0 += 0.00000027480 * Math.cos(6.22702216249 + 1.2720243872 * t);
-            L0 += 0.00000026657 * Math.cos(4.56713198392 + 7.065362891 * t);
-            L0 += 0.00000031745 * Math.cos(5.49798599565 + 56.6223513026 * t);
-            L0 += 0.00000028050 * Math.cos(5.64447420566 + 128.9562693151 * t);
-            L0 += 0.00000024277 * Math.cos(3.93966553574 + 414.0680179038 * t);
-            L0 += 0.00000032017 * Math.cos(5.22260660455 + 92.0470739547 * t);
-            L0 += 0.00000026976 * Math.cos(0.06705123981 + 205.2223405907 * t);
-            L0 += 0.00000022974 * Math.cos(3.65817751770 + 207.6700211455 * t);
-            L0 += 0.00000031775 * Math.cos(5.59198119173 + 6069.7767545534 * t);
-            L0 += 0.00000023153 * Math.cos(2.10054506119 + 1788.1448967202 * t);
-            L0 += 0.00000031025 * Math.cos(0.37190053329 + 703.6331846174 * t);
-            L0 += 0.00000029376 * Math.cos(0.14742155778 + 131.4039498699 * t);
-            L0 += 0.00000022562 * Math.cos(5.24009182383 + 212.7778305762 * t);
-            L0 += 0.00000026185 * Math.cos(5.41311252822 + 140.001969579 * t);
-            L0 += 0.00000025673 * Math.cos(4.36038885283 + 32.2433289144 * t);
-            L0 += 0.00000020392 * Math.cos(2.82413909260 + 429.7795846137 * t);
-            L0 += 0.00000020659 * Math.cos(0.67091805084 + 2317.8358618148 * t);
-            L0 += 0.00000024397 * Math.cos(3.08740396398 + 145.6310438715 * t);
-            L0 += 0.00000023735 * Math.cos(2.54365387567 + 76.2660712756 * t);
-            L0 += 0.00000020157 * Math.cos(5.06708675157 + 617.8058857862 * t);
-            L0 += 0.00000023307 * Math.cos(3.97357729211 + 483.2205421786 * t);
-            L0 += 0.00000022878 * Math.cos(6.10452832642 + 177.8743727859 * t);
-            L0 += 0.00000022978 * Math.cos(3.20140795404 + 208.633228992 * t);
-            L0 += 0.00000020638 * Math.cos(5.22128727027 + 6.592282139 * t);
-            L0 += 0.00000021446 * Math.cos(0.72034565528 + 1258.4539316256 * t);
-            L0 += 0.00000018034 * Math.cos(6.11382719947 + 210.3783341312 * t);
-            L0 += 0.00000022380 * Math.cos(5.92299908546 + 173.9422195228 * t);
-            L0 += 0.00000019128 * Math.cos(5.77772013766 + 213.8203602998 * t);
-            L0 += 0.00000020871 * Math.cos(5.79126331864 + 2531.1349572528 * t);
-            L0 += 0.00000019327 * Math.cos(1.64147367403 + 565.1156877467 * t);
-            L0 += 0.00000016806 * Math.cos(3.27953583323 + 98.8999885246 * t);
-            L0 += 0.00000020833 * Math.cos(2.01655935909 + 860.3099287528 * t);
-            L0 += 0.00000017939 * Math.cos(3.14329498012 + 831.8557407496 * t);
-            L0 += 0.00000015653 * Math.cos(3.10137669623 + 106.2741679563 * t);
-            L0 += 0.00000018235 * Math.cos(5.22595172482 + 73.297125859 * t);
-            L0 += 0.00000019302 * Math.cos(5.93947114050 + 425.1137181677 * t);
-            L0 += 0.00000014514 * Math.cos(2.75049388379 + 1.2238402774 * t);
-            L0 += 0.00000014562 * Math.cos(5.18795088579 + 305.3461693927 * t);
-            L0 += 0.00000014254 * Math.cos(3.88079504939 + 54.1746707478 * t);
-            L0 += 0.00000014594 * Math.cos(3.25016810034 + 78.7137518304 * t);
-            L0 += 0.00000013637 * Math.cos(2.55486219141 + 405.2575498736 * t);
-            L0 += 0.00000013914 * Math.cos(1.72356993808 + 69.1525242748 * t);
-            L0 += 0.00000013689 * Math.cos(2.37430586272 + 125.9873238985 * t);
-            L0 += 0.00000013496 * Math.cos(0.82683590985 + 99.9113804809 * t);
-            L0 += 0.00000018483 * Math.cos(0.73171264866 + 9999.986450773 * t);
-            L0 += 0.00000013542 * Math.cos(3.58584380924 + 234.6397364404 * t);
-            L0 += 0.00000013741 * Math.cos(6.18458356845 + 245.5424243524 * t);
-            L0 += 0.00000016944 * Math.cos(0.72200792996 + 2111.6503133776 * t);
-            L0 += 0.00000017441 * Math.cos(0.23803796878 + 134.5853436076 * t);
-            L0 += 0.00000014181 * Math.cos(4.51963935804 + 59.8037450403 * t);
-            L0 += 0.00000013598 * Math.cos(2.53776983965 + 1.6969210294 * t);
-            L0 += 0.00000012240 * Math.cos(2.11973445754 + 28.3111756513 * t);
-            L0 += 0.00000011988 * Math.cos(1.62114832786 + 1361.5467058442 * t);
-            L0 += 0.00000011974 * Math.cos(4.07378735120 + 280.9671470045 * t);
-            L0 += 0.00000012758 * Math.cos(5.31146919749 + 344.7030453079 * t);
-            L0 += 0.00000016051 * Math.cos(3.97093160336 + 355.7487455718 * t);
-            L0 += 0.00000011427 * Math.cos(5.51123470805 + 192.6921676185 * t);
-            L0 += 0.00000013133 * Math.cos(4.69168003518 + 767.3690829208 * t);
-            L0 += 0.00000014746 * Math.cos(3.28998910617 + 1589.0728952838 * t);
-            L0 += 0.00000011417 * Math.cos(1.81615681635 + 2104.5367663768 * t);
-            L0 += 0.00000011626 * Math.cos(2.79410384978 + 362.8622925726 * t);
-            L0 += 0.00000013234 * Math.cos(4.16642914717 + 225.8292684102 * t);
-            L0 += 0.00000010599 * Math.cos(5.50554288376 + 199.2844497575 * t);
-            L0 += 0.00000010558 * Math.cos(3.57501718639 + 1.4362885985 * t);
-            L0 += 0.00000010485 * Math.cos(2.84462532686 + 85.8272988312 * t);
-            L0 += 0.00000010296 * Math.cos(0.22225264071 + 198.321241911 * t);
-            L0 += 0.00000010552 * Math.cos(0.18716643576 + 217.491881132 * t);
-            L0 += 0.00000011853 * Math.cos(0.11584857323 + 7.6348118626 * t);
-            L0 += 0.00000010248 * Math.cos(0.21904154170 + 144.1465711632 * t);
-            L0 += 0.00000010403 * Math.cos(1.68776321208 + 31.019488637 * t);
-            L0 += 0.00000010313 * Math.cos(4.72132701805 + 216.2198567448 * t);
-            L0 += 0.00000010719 * Math.cos(2.60869377832 + 339.2864193365 * t);
-            L0 += 0.00000009636 * Math.cos(3.66746262954 + 212.5483359126 * t);
-            L0 += 0.00000009631 * Math.cos(3.34275630477 + 223.5940361765 * t);
-            L0 += 0.00000009684 * Math.cos(0.41556436593 + 2634.2277314714 * t);
-            L0 += 0.00000009885 * Math.cos(4.01798130416 + 207.1487562837 * t);
-            L0 += 0.00000013212 * Math.cos(6.00683506785 + 214.7835681463 * t);
-            L0 += 0.00000011346 * Math.cos(2.61898383052 + 7.8643065262 * t);
-            L0 += 0.00000009158 * Math.cos(5.39855118256 + 342.2553647531 * t);
-            L0 += 0.00000011882 * Math.cos(4.00188476744 + 267.4737661858 * t);
-            L0 += 0.00000012054 * Math.cos(3.59904816676 + 124.433415221 * t);
-            L0 += 0.00000008921 * Math.cos(4.22716773496 + 6.3627874754 * t);
-            L0 += 0.00000010142 * Math.cos(3.60807025662 + 14.0146456805 * t);
-            L0 += 0.00000009350 * Math.cos(0.72255756005 + 347.8844390456 * t);
-            L0 += 0.00000010529 * Math.cos(2.36779614951 + 831.1049812242 * t);
-            L0 += 0.00000008587 * Math.cos(4.48439552745 + 1692.1656695024 * t);
-            L0 += 0.00000010142 * Math.cos(3.93620624488 + 207.8824694666 * t);
-            L0 += 0.00000009147 * Math.cos(4.28032835242 + 312.4597163935 * t);
-            L0 += 0.00000008088 * Math.cos(0.81225752596 + 264.5048207692 * t);
-            L0 += 0.00000009241 * Math.cos(4.26402650779 + 20.6069278195 * t);
-            L0 += 0.00000009614 * Math.cos(0.64291347187 + 218.9281697305 * t);
-            L0 += 0.00000008537 * Math.cos(0.48756672382 + 1574.8458012822 * t);
-            L0 += 0.00000007986 * Math.cos(4.71088791079 + 333.657345044 * t);
-            L0 += 0.00000008951 * Math.cos(0.90641577433 + 497.4476361802 * t);
-            L0 += 0.00000007959 * Math.cos(2.73277594136 + 4.1446015842 * t);
-            L0 += 0.00000009133 * Math.cos(5.08250578843 + 241.6102710893 * t);
-            L0 += 0.00000009669 * Math.cos(1.60623316904 + 0.8937718773 * t);
-            L0 += 0.00000008883 * Math.cos(5.55491009279 + 2847.5268269094 * t);
-            L0 += 0.00000008926 * Math.cos(5.80857835271 + 329.7251917809 * t);
-            L0 += 0.00000007226 * Math.cos(0.60164771281 + 206.233732547 * t);
-            L0 += 0.00000007655 * Math.cos(5.53676341721 + 116.4260963429 * t);
-            L0 += 0.00000007118 * Math.cos(0.18747501525 + 209.106309744 * t);
-            L0 += 0.00000007507 * Math.cos(5.43555636173 + 621.7380390493 * t);
-            L0 += 0.00000008885 * Math.cos(5.36210591059 + 343.2185725996 * t);
-            L0 += 0.00000007056 * Math.cos(0.41911130648 + 756.3233826569 * t);
-            L0 += 0.00000008124 * Math.cos(4.05571025939 + 237.6781178262 * t);
-            L0 += 0.00000008964 * Math.cos(1.65023927130 + 210.3301500214 * t);
-            L0 += 0.00000006961 * Math.cos(3.17855200943 + 543.0242872189 * t);
-            L0 += 0.00000008916 * Math.cos(0.56503620503 + 2428.0421830342 * t);
-            L0 += 0.00000006926 * Math.cos(3.66869171435 + 247.2393453818 * t);
-            L0 += 0.00000008982 * Math.cos(4.25046722481 + 46.470422916 * t);
-            L0 += 0.00000007089 * Math.cos(5.14399672225 + 231.4583427027 * t);
-            L0 += 0.00000007381 * Math.cos(1.25092810119 + 217.964961884 * t);
-            L0 += 0.00000007134 * Math.cos(2.83090354854 + 1148.2476104062 * t);
-            L0 += 0.00000006353 * Math.cos(0.82582711056 + 31.492569389 * t);
-            L0 += 0.00000007558 * Math.cos(5.62617378543 + 518.6452648307 * t);
-            L0 += 0.00000006383 * Math.cos(3.54809945181 + 244.318584075 * t);
-            L0 += 0.00000006914 * Math.cos(3.70012837706 + 206.1373643274 * t);
-            L0 += 0.00000006286 * Math.cos(5.79144749096 + 179.3588454942 * t);
-            L0 += 0.00000006639 * Math.cos(4.55197585824 + 120.358249606 * t);
-            L0 += 0.00000005823 * Math.cos(1.40737990571 + 214.0498549634 * t);
-            L0 += 0.00000005850 * Math.cos(4.86725483749 + 320.3240229197 * t);
-            L0 += 0.00000006213 * Math.cos(1.07959478499 + 251.4321310758 * t);
-            L0 += 0.00000007730 * Math.cos(3.82244175824 + 380.12776796 * t);
-            L0 += 0.00000005716 * Math.cos(1.34909972549 + 1677.9385755008 * t);
-            L0 += 0.00000006469 * Math.cos(1.34776801494 + 188.9200730498 * t);
-            L0 += 0.00000005668 * Math.cos(2.28643368177 + 20.4468691251 * t);
-            L0 += 0.00000006092 * Math.cos(3.62275289839 + 1169.5882514086 * t);
-            L0 += 0.00000005711 * Math.cos(0.51687421521 + 148.0787244263 * t);
-            L0 += 0.00000005804 * Math.cos(1.54831552984 + 2420.9286360334 * t);
-            L0 += 0.00000005703 * Math.cos(5.05993483230 + 2.9689454166 * t);
-            L0 += 0.00000005913 * Math.cos(1.66225477547 + 842.1506814881 * t);
-            L0 += 0.00000007449 * Math.cos(1.36195943673 + 166.828672522 * t);
-            L0 += 0.00000006482 * Math.cos(1.94032041024 + 357.4456666012 * t);
-            L0 += 0.00000006368 * Math.cos(2.44556930837 + 654.1243803156 * t);
-            L0 += 0.00000006327 * Math.cos(0.40654591365 + 168.0525127994 * t);
-            L0 += 0.00000005573 * Math.cos(2.69383455663 + 750.1036075334 * t);
-            L0 += 0.00000007216 * Math.cos(2.22547711392 + 488.8496164711 * t);
-            L0 += 0.00000006701 * Math.cos(6.03737590382 + 160.6088973985 * t);
-            L0 += 0.00000006938 * Math.cos(5.78362034410 + 700.6642392008 * t);
-            L0 += 0.00000006701 * Math.cos(3.14738404371 + 491.8185618877 * t);
-            L0 += 0.00000005684 * Math.cos(2.59531540359 + 1.6445314027 * t);
-            L0 += 0.00000004900 * Math.cos(2.03902856851 + 0.8031491521 * t);
-            L0 += 0.00000005147 * Math.cos(4.10182033298 + 196.6243208816 * t);
-            L0 += 0.00000004985 * Math.cos(2.96765983996 + 258.8757464767 * t);
-            L0 += 0.00000005911 * Math.cos(1.81507526918 + 252.6559713532 * t);
-            L0 += 0.00000006056 * Math.cos(3.33431010543 + 182.279606801 * t);
-            L0 += 0.00000006195 * Math.cos(5.01900871714 + 273.1028404783 * t);
-            L0 += 0.00000006316 * Math.cos(5.49053160191 + 206.706813299 * t);
-            L0 += 0.00000005529 * Math.cos(3.31498938717 + 1905.4647649404 * t);
-            L0 += 0.00000005102 * Math.cos(3.98171453610 + 254.9435932136 * t);
-            L0 += 0.00000004762 * Math.cos(2.24463685255 + 635.9651330509 * t);
-            L0 += 0.00000005213 * Math.cos(0.53609344278 + 135.5485514541 * t);
-            L0 += 0.00000004639 * Math.cos(0.04466373027 + 213.1872208534 * t);
-            L0 += 0.00000005951 * Math.cos(0.54565487490 + 51.2057253312 * t);
-            L0 += 0.00000004535 * Math.cos(0.16088614438 + 2950.619601128 * t);
-            L0 += 0.00000004639 * Math.cos(4.73769153591 + 213.4109700226 * t);
-            L0 += 0.00000004716 * Math.cos(3.13636467789 + 28.5718080822 * t);
-            L0 += 0.00000004748 * Math.cos(1.12156952989 + 6.2197751235 * t);
-            L0 += 0.00000005735 * Math.cos(0.04425142145 + 348.8476468921 * t);
-            L0 += 0.00000004334 * Math.cos(2.68814219154 + 81.7521332162 * t);
-            L0 += 0.00000004538 * Math.cos(3.83676888638 + 487.3651437628 * t);
-            L0 += 0.00000005582 * Math.cos(3.63486861028 + 248.7238180901 * t);
-            L0 += 0.00000004106 * Math.cos(3.39164360376 + 50.4025761791 * t);
-            L0 += 0.00000005657 * Math.cos(3.59967787362 + 282.4516197128 * t);
-            L0 += 0.00000005145 * Math.cos(1.33329458239 + 173.6815870919 * t);
-            L0 += 0.00000003898 * Math.cos(4.11804949361 + 213.5115437591 * t);
-            L0 += 0.00000003898 * Math.cos(0.66430577257 + 213.0866471169 * t);
-            L0 += 0.00000004418 * Math.cos(0.10784811796 + 905.8865797915 * t);
-            L0 += 0.00000004935 * Math.cos(2.19060382431 + 189.7232222019 * t);
-            L0 += 0.00000003799 * Math.cos(2.60752583205 + 546.956440482 * t);
-            L0 += 0.00000003960 * Math.cos(1.60339889010 + 218.7157214094 * t);
-            L0 += 0.00000003740 * Math.cos(3.30724497407 + 274.0660483248 * t);
-            L0 += 0.00000003778 * Math.cos(0.26606330942 + 636.7158925763 * t);
-            L0 += 0.00000004657 * Math.cos(0.37532078548 + 2744.4340526908 * t);
-            L0 += 0.00000003682 * Math.cos(5.11587898667 + 458.8415197904 * t);
-            L0 += 0.00000004230 * Math.cos(5.18313062329 + 27.0873353739 * t);
-            L0 += 0.00000005181 * Math.cos(3.75590784411 + 3127.3133312618 * t);
-            L0 += 0.00000003904 * Math.cos(2.21738744557 + 358.9301393095 * t);
-            L0 += 0.00000004784 * Math.cos(4.60666675927 + 72.0732855816 * t);
-            L0 += 0.00000003552 * Math.cos(3.23789349146 + 543.9180590962 * t);
-            L0 += 0.00000003502 * Math.cos(3.68869576093 + 41.6444977756 * t);
-            L0 += 0.00000004803 * Math.cos(4.73553427126 + 240.3864308119 * t);
-            L0 += 0.00000003768 * Math.cos(3.86077796242 + 2008.557539159 * t);
-            L0 += 0.00000003680 * Math.cos(5.36657425183 + 10.0343083076 * t);
-            L0 += 0.00000004298 * Math.cos(3.15595944154 + 738.7972748386 * t);
-            L0 += 0.00000003388 * Math.cos(0.73176365772 + 11.3063326948 * t);
-            L0 += 0.00000003507 * Math.cos(2.62508475661 + 13.3333221243 * t);
-            L0 += 0.00000003552 * Math.cos(0.28967392251 + 1891.2376709388 * t);
-            L0 += 0.00000003604 * Math.cos(4.69324090480 + 295.0512286542 * t);
-            L0 += 0.00000003621 * Math.cos(6.25264336426 + 129.9194771616 * t);
-            L0 += 0.00000003334 * Math.cos(5.04221806054 + 153.4953503977 * t);
-            L0 += 0.00000003837 * Math.cos(5.31732096284 + 3163.918696566 * t);
-            L0 += 0.00000003281 * Math.cos(5.59031570352 + 2.0057375701 * t);
-            L0 += 0.00000004042 * Math.cos(2.37081308090 + 176.6505325085 * t);
-            L0 += 0.00000003500 * Math.cos(2.54744268360 + 1464.6394800628 * t);
-            L0 += 0.00000004144 * Math.cos(5.46982520458 + 6.9010986797 * t);
-            L0 += 0.00000003691 * Math.cos(4.07518441665 + 969.6224780949 * t);
-            L0 += 0.00000003947 * Math.cos(4.27108449197 + 181.806526049 * t);
-            L0 += 0.00000003867 * Math.cos(5.48643386310 + 37.8724032069 * t);
-            L0 += 0.00000003339 * Math.cos(6.05372370584 + 9.4011688612 * t);
-            L0 += 0.00000003484 * Math.cos(5.81097824751 + 13.4933808187 * t);
-            L0 += 0.00000003033 * Math.cos(2.38897886651 + 221.3758502853 * t);
-            L0 += 0.00000002990 * Math.cos(4.13995939326 + 66.70484372 * t);
-            L0 += 0.00000003746 * Math.cos(5.29902286106 + 561.1835344836 * t);
-            L0 += 0.00000003233 * Math.cos(4.27743802321 + 593.426863398 * t);
-            L0 += 0.00000003170 * Math.cos(1.75400477770 + 235.3904959658 * t);
-            L0 += 0.00000004114 * Math.cos(2.01006788412 + 601.7642506762 * t);
-            L0 += 0.00000002937 * Math.cos(4.76351448561 + 213.5597278689 * t);
-            L0 += 0.00000002932 * Math.cos(1.83671373509 + 501.3797894433 * t);
-            L0 += 0.00000002937 * Math.cos(0.01884528825 + 213.0384630071 * t);
-            L0 += 0.00000003268 * Math.cos(4.44653949711 + 60.7669528868 * t);
-            L0 += 0.00000003608 * Math.cos(0.14307251176 + 552.5855147745 * t);
-            L0 += 0.00000002947 * Math.cos(0.74753671556 + 17.5261078183 * t);
-            L0 += 0.00000003979 * Math.cos(0.76931722276 + 424.1505103212 * t);
-            L0 += 0.00000002803 * Math.cos(1.07518176128 + 1994.3304451574 * t);
-            L0 += 0.00000002905 * Math.cos(1.27201007426 + 2737.32050569 * t);
-            L0 += 0.00000003610 * Math.cos(0.22394084000 + 121.2520214833 * t);
-            L0 += 0.00000002846 * Math.cos(5.11748545179 + 205.6642835754 * t);
-            L0 += 0.00000003156 * Math.cos(2.74955723696 + 494.2662424425 * t);
-            L0 += 0.00000003576 * Math.cos(4.49826302447 + 167.0893049529 * t);
-            L0 += 0.00000002746 * Math.cos(0.66908290712 + 7.0016724162 * t);
-            L0 += 0.00000002780 * Math.cos(2.10066625279 + 894.8408795276 * t);
-            L0 += 0.00000002875 * Math.cos(2.39009721774 + 151.0476698429 * t);
-            L0 += 0.00000003020 * Math.cos(0.25475826890 + 40.8413486235 * t);
-            L0 += 0.00000002731 * Math.cos(3.74814908509 + 429.0458714308 * t);
-            L0 += 0.00000002793 * Math.cos(4.17938837230 + 292.0128472684 * t);
-            L0 += 0.00000002706 * Math.cos(5.34438894925 + 327.4375699205 * t);
-            L0 += 0.00000002965 * Math.cos(0.61653881148 + 643.8294395771 * t);
-            L0 += 0.00000002616 * Math.cos(4.81901387560 + 681.5417840896 * t);
-            L0 += 0.00000002548 * Math.cos(3.78162580820 + 1485.9801210652 * t);
-            L0 += 0.00000003483 * Math.cos(5.76091147029 + 141.2258098564 * t);
-            L0 += 0.00000003257 * Math.cos(0.75722680616 + 555.5544601911 * t);
-            L0 += 0.00000002887 * Math.cos(6.15899159727 + 425.6349830295 * t);
-            L0 += 0.00000002450 * Math.cos(1.29619859767 + 193.655375465 * t);
-            L0 += 0.00000003401 * Math.cos(2.48137843009 + 43.2890291783 * t);
-            L0 += 0.00000003208 * Math.cos(0.66002842340 + 776.9303104764 * t);
-            L0 += 0.00000002435 * Math.cos(4.58097103726 + 477.8039162072 * t);
-            L0 += 0.00000002577 * Math.cos(1.41538858001 + 100.6450936638 * t);
-            L0 += 0.00000002600 * Math.cos(3.73139519973 + 17.4084877393 * t);
-            L0 += 0.00000002428 * Math.cos(1.04400815278 + 1279.794572628 * t);
-            L0 += 0.00000002569 * Math.cos(5.36004101928 + 7.2254215854 * t);
-            L0 += 0.00000002844 * Math.cos(2.47228767650 + 280.003939158 * t);
-            L0 += 0.00000002847 * Math.cos(1.52706408796 + 17.2654753874 * t);
-            L0 += 0.00000002461 * Math.cos(2.73899140465 + 172.2452984934 * t);
-            L0 += 0.00000003228 * Math.cos(4.10258705369 + 618.5566453116 * t);
-            L0 += 0.00000002288 * Math.cos(0.18365494079 + 426.6463749858 * t);
-            L0 += 0.00000002952 * Math.cos(3.97748947007 + 650.9429865779 * t);
-            L0 += 0.00000002653 * Math.cos(0.14255829255 + 162.8965192589 * t);
-            L0 += 0.00000002291 * Math.cos(3.26940117011 + 426.5500067662 * t);
-            L0 += 0.00000003118 * Math.cos(2.80941831445 + 2221.856634597 * t);
-            L0 += 0.00000002343 * Math.cos(4.24349768377 + 113.3877149571 * t);
-            L0 += 0.00000002780 * Math.cos(4.36271946528 + 130.4407420234 * t);
-            L0 += 0.00000002539 * Math.cos(5.58396427573 + 381.3516082374 * t);
-            L0 += 0.00000002673 * Math.cos(2.74210116623 + 45.5766510387 * t);
-            L0 += 0.00000003017 * Math.cos(3.72208070740 + 228.276948965 * t);
-            L0 += 0.00000002781 * Math.cos(0.36312756349 + 8.5980197091 * t);
-            L0 += 0.00000002377 * Math.cos(4.49193242045 + 25.1297819136 * t);
-            L0 += 0.00000002140 * Math.cos(5.43424670725 + 630.3360587584 * t);
-            L0 += 0.00000002456 * Math.cos(1.71617205116 + 313.6835566709 * t);
-            L0 += 0.00000002071 * Math.cos(2.40453395841 + 16.4623262353 * t);
-            L0 += 0.00000002050 * Math.cos(6.19704773331 + 3267.0114707846 * t);
-            L0 += 0.00000002764 * Math.cos(0.40107063007 + 219.4494345923 * t);
-            L0 += 0.00000002307 * Math.cos(2.61462153778 + 26.826702943 * t);
-            L0 += 0.00000002650 * Math.cos(0.05892373791 + 5856.4776591154 * t);
-            L0 += 0.00000001974 * Math.cos(2.15890150781 + 746.9222137957 * t);
-            L0 += 0.00000001949 * Math.cos(3.13157993205 + 226.6324175623 * t);
-            L0 += 0.00000002063 * Math.cos(0.75916097286 + 472.1748419147 * t);
-            L0 += 0.00000002172 * Math.cos(1.41622302638 + 23.5758732361 * t);
-            L0 += 0.00000002378 * Math.cos(3.45446288811 + 241.8709035202 * t);
-            L0 += 0.00000002314 * Math.cos(2.92766120608 + 170.7608257851 * t);
-            L0 += 0.00000002409 * Math.cos(1.55291842382 + 112.6540017742 * t);
-            L0 += 0.00000002092 * Math.cos(4.33481587531 + 210.5907824523 * t);
-            L0 += 0.00000001883 * Math.cos(4.75777119721 + 115.6229471908 * t);
-            L0 += 0.00000001963 * Math.cos(5.63940648232 + 454.9093665273 * t);
-            L0 += 0.00000001871 * Math.cos(2.14579836453 + 135.336103133 * t);
-            L0 += 0.00000002304 * Math.cos(0.11816226543 + 3060.8259223474 * t);
-            L0 += 0.00000002221 * Math.cos(4.34506511014 + 556.5176680376 * t);
-            L0 += 0.00000001867 * Math.cos(5.70943358261 + 19.1224551112 * t);
-            L0 += 0.00000002269 * Math.cos(3.36100653157 + 696.5196376166 * t);
-            L0 += 0.00000002127 * Math.cos(0.44754929310 + 216.0074084237 * t);
-            L0 += 0.00000001807 * Math.cos(6.15427316170 + 5.8415226136 * t);
-            L0 += 0.00000002213 * Math.cos(3.42223891884 + 533.6231183577 * t);
-            L0 += 0.00000001866 * Math.cos(3.90535444843 + 220.364458329 * t);
-            L0 += 0.00000001767 * Math.cos(0.94232357739 + 213.4591541324 * t);
-            L0 += 0.00000001767 * Math.cos(3.84003619647 + 213.1390367436 * t);
-            L0 += 0.00000001910 * Math.cos(3.72504487558 + 104.0559820651 * t);
-            L0 += 0.00000001750 * Math.cos(0.82378244287 + 220.4608265486 * t);
-            L0 += 0.00000001838 * Math.cos(0.06310147657 + 436.1594184316 * t);
-            L0 += 0.00000002146 * Math.cos(4.41415180481 + 184.0941479094 * t);
-            L0 += 0.00000001730 * Math.cos(2.21039276178 + 416.3032501375 * t);
-            L0 += 0.00000001715 * Math.cos(0.26601715797 + 103.1409583284 * t);
-            L0 += 0.00000001710 * Math.cos(0.63515407580 + 181.0557665236 * t);
-            L0 += 0.00000002307 * Math.cos(3.29544714308 + 569.0478410098 * t);
-            L0 += 0.00000001906 * Math.cos(5.30639447218 + 405.9912630565 * t);
-            L0 += 0.00000001863 * Math.cos(4.68613642432 + 286.596221297 * t);
-            L0 += 0.00000001873 * Math.cos(2.26516020863 + 1781.0313497194 * t);
-            L0 += 0.00000002035 * Math.cos(3.85188859267 + 672.1406152284 * t);
-            L0 += 0.00000002236 * Math.cos(3.01959133214 + 105.5404547734 * t);
-            L0 += 0.00000001767 * Math.cos(1.45800271562 + 16.6747745564 * t);
-            L0 += 0.00000001633 * Math.cos(0.16030477876 + 18.9100067901 * t);
-            L0 += 0.00000002116 * Math.cos(2.90186702031 + 486.4019359163 * t);
-            L0 += 0.00000002202 * Math.cos(3.88125957017 + 427.5613987225 * t);
-            L0 += 0.00000001706 * Math.cos(3.35213628354 + 103.0445901088 * t);
-            L0 += 0.00000001604 * Math.cos(2.48973273967 + 55.6591434561 * t);
-            L0 += 0.00000001744 * Math.cos(1.83791106739 + 1044.4040766622 * t);
-            L0 += 0.00000001569 * Math.cos(6.10089581118 + 106.0135355254 * t);
-            L0 += 0.00000002081 * Math.cos(6.03810192844 + 916.9322800554 * t);
-            L0 += 0.00000001799 * Math.cos(5.01592570405 + 731.9443602687 * t);
-            L0 += 0.00000001737 * Math.cos(1.49651330833 + 25.8634950965 * t);
-            L0 += 0.00000001695 * Math.cos(3.53314158403 + 627.3671133418 * t);
-            L0 += 0.00000001543 * Math.cos(0.81384993001 + 2310.722314814 * t);
-            L0 += 0.00000001896 * Math.cos(3.38169845451 + 2324.9494088156 * t);
-            L0 += 0.00000001926 * Math.cos(4.66519027283 + 353.301065017 * t);
-            L0 += 0.00000001765 * Math.cos(5.14740716994 + 107.2855599126 * t);
-            L0 += 0.00000001556 * Math.cos(1.12431826916 + 230.8252032563 * t);
-            L0 += 0.00000001843 * Math.cos(0.02435960281 + 102.1295663721 * t);
-            L0 += 0.00000001501 * Math.cos(4.18415120927 + 194.1766403268 * t);
-            L0 += 0.00000001528 * Math.cos(1.00328674046 + 3053.7123753466 * t);
-            L0 += 0.00000001529 * Math.cos(5.58893570479 + 212.0270710508 * t);
-            L0 += 0.00000001684 * Math.cos(5.08547245125 + 3480.3105662226 * t);
-            L0 += 0.00000001461 * Math.cos(2.31020597821 + 721.6494195302 * t);
-            L0 += 0.00000001480 * Math.cos(5.34331643017 + 418.5214360287 * t);
-            L0 += 0.00000001601 * Math.cos(5.53623000915 + 391.1734682239 * t);
-            L0 += 0.00000001893 * Math.cos(3.62340803433 + 204.7010757289 * t);
-            L0 += 0.00000001529 * Math.cos(6.06535432009 + 77.962992305 * t);
-            L0 += 0.00000001529 * Math.cos(5.47660937625 + 214.5711198252 * t);
-            L0 += 0.00000001552 * Math.cos(2.06693539836 + 36.6485629295 * t);
-            L0 += 0.00000001453 * Math.cos(6.04709831442 + 165.6048322446 * t);
-            L0 += 0.00000001393 * Math.cos(2.28253369060 + 403.0223176399 * t);
-            L0 += 0.00000001444 * Math.cos(2.90650214018 + 447.9388318784 * t);
-            L0 += 0.00000001924 * Math.cos(1.37028714759 + 468.2426886516 * t);
-            L0 += 0.00000001426 * Math.cos(0.13255011458 + 2207.6295405954 * t);
-            L0 += 0.00000001389 * Math.cos(2.21739183113 + 643.0786800517 * t);
-            L0 += 0.00000001365 * Math.cos(1.63853880518 + 629.6023455755 * t);
-            L0 += 0.00000001362 * Math.cos(3.35131049142 + 93.531546663 * t);
-            L0 += 0.00000001376 * Math.cos(5.36989538450 + 180.1619946463 * t);
-            L0 += 0.00000001584 * Math.cos(0.85642767335 + 271.4059194489 * t);
-            L0 += 0.00000001405 * Math.cos(5.69231057947 + 25.2727942655 * t);
-            L0 += 0.00000001681 * Math.cos(5.30308110734 + 835.0371344873 * t);
-            L0 += 0.00000001598 * Math.cos(3.04233449432 + 42.5382696529 * t);
-            L0 += 0.00000001759 * Math.cos(3.59043066940 + 508.3503240922 * t);
-            L0 += 0.00000001394 * Math.cos(4.55070863290 + 426.0769260142 * t);
-            L0 += 0.00000001314 * Math.cos(1.81147178081 + 1382.8873468466 * t);
-            L0 += 0.00000001281 * Math.cos(4.26508388040 + 123.5396433437 * t);
-            L0 += 0.00000001742 * Math.cos(5.71133189432 + 22.8945496799 * t);
-            L0 += 0.00000001483 * Math.cos(1.84687831602 + 289.5651667136 * t);
-            L0 += 0.00000001257 * Math.cos(3.01131200921 + 409.9234163196 * t);
-            L0 += 0.00000001285 * Math.cos(4.41168551011 + 558.0021407459 * t);
-            L0 += 0.00000001355 * Math.cos(3.87115897452 + 1802.3719907218 * t);
-            L0 += 0.00000001333 * Math.cos(0.08474224795 + 411.620337349 * t);
-            L0 += 0.00000001235 * Math.cos(4.08060394635 + 28.4541880032 * t);
-            L0 += 0.00000001373 * Math.cos(5.06955106471 + 427.1194557378 * t);
-            L0 += 0.00000001565 * Math.cos(2.32953532704 + 41.0537969446 * t);
-            L0 += 0.00000001656 * Math.cos(6.06169130804 + 268.4369740323 * t);
-            L0 += 0.00000001212 * Math.cos(3.05966957556 + 420.9691165835 * t);
-            L0 += 0.00000001238 * Math.cos(5.25936700679 + 412.5835451955 * t);
-            L0 += 0.00000001220 * Math.cos(3.92987038126 + 2.6601288759 * t);
-            L0 += 0.00000001552 * Math.cos(1.48184004773 + 9786.687355335 * t);
-            L0 += 0.00000001240 * Math.cos(1.46716327302 + 291.262087743 * t);
-            L0 += 0.00000001133 * Math.cos(5.39046583617 + 423.6774295692 * t);
-            L0 += 0.00000001319 * Math.cos(5.79905891015 + 1108.1399749656 * t);
-            L0 += 0.00000001329 * Math.cos(0.92291650117 + 778.4147831847 * t);
-            L0 += 0.00000001399 * Math.cos(2.55906860098 + 421.93232443 * t);
-            L0 += 0.00000001120 * Math.cos(3.86777259232 + 1033.3583763983 * t);
-            L0 += 0.00000001164 * Math.cos(4.10048660918 + 685.4739373527 * t);
-            L0 += 0.00000001321 * Math.cos(1.45843550806 + 1073.6090241908 * t);
-            L0 += 0.00000001313 * Math.cos(0.11761534168 + 71.8126531507 * t);
-            L0 += 0.00000001438 * Math.cos(2.57741975416 + 100.3844612329 * t);
-            L0 += 0.00000001190 * Math.cos(5.63379509659 + 5.1078094307 * t);
-            L0 += 0.00000001289 * Math.cos(5.20604565993 + 278.2588340188 * t);
-            L0 += 0.00000001157 * Math.cos(5.00101860101 + 230.5645708254 * t);
-            L0 += 0.00000001233 * Math.cos(2.70207317014 + 282.6640680339 * t);
-            L0 += 0.00000001209 * Math.cos(4.02230498135 + 980.6681783588 * t);
-            L0 += 0.00000001070 * Math.cos(5.17569455055 + 313.2104759189 * t);
-            L0 += 0.00000001292 * Math.cos(4.30946655209 + 219.891377577 * t);
-            L0 += 0.00000001399 * Math.cos(2.58476795858 + 2538.2485042536 * t);
-            L0 += 0.00000001038 * Math.cos(0.14212199680 + 820.0592809603 * t);
-            L0 += 0.00000001245 * Math.cos(4.08278897130 + 525.7588118315 * t);
-            L0 += 0.00000001254 * Math.cos(2.46275017735 + 457.617679513 * t);
-            L0 += 0.00000001021 * Math.cos(1.11239421009 + 69.3649725959 * t);
-            L0 += 0.00000001009 * Math.cos(1.01709171385 + 143.9341228421 * t);
-            L0 += 0.00000001075 * Math.cos(2.39196853318 + 48.7580447764 * t);
-            L0 += 0.00000001180 * Math.cos(6.18938910429 + 3377.217792004 * t);
-            L0 += 0.00000000989 * Math.cos(5.94928603657 + 3583.4033404412 * t);
-            L0 += 0.00000000972 * Math.cos(4.25434114756 + 397.3932433474 * t);
-            L0 += 0.00000000983 * Math.cos(0.04442608551 + 140.9651774255 * t);
-            L0 += 0.00000000972 * Math.cos(5.67683107883 + 422.405405182 * t);
-            L0 += 0.00000001298 * Math.cos(1.34524469231 + 875.830299001 * t);
-            L0 += 0.00000001190 * Math.cos(0.67933974618 + 699.7010313543 * t);
-            L0 += 0.00000000950 * Math.cos(2.66964340700 + 92.3077063856 * t);
-            L0 += 0.00000000933 * Math.cos(0.63000656580 + 406.954470903 * t);
-            L0 += 0.00000000959 * Math.cos(1.77556884452 + 67.6680515665 * t);
-            L0 += 0.00000001185 * Math.cos(3.70140604185 + 285.6330134505 * t);
-            L0 += 0.00000000956 * Math.cos(5.18928530992 + 319.3126309634 * t);
-            L0 += 0.00000001014 * Math.cos(1.97449310063 + 2097.423219376 * t);
-            L0 += 0.00000001048 * Math.cos(3.69659410655 + 117.9105690512 * t);
-            L0 += 0.00000001153 * Math.cos(2.53320305623 + 104.5772469269 * t);
-            L0 += 0.00000001258 * Math.cos(2.51536062507 + 694.0719570618 * t);
-            L0 += 0.00000000971 * Math.cos(5.19147635849 + 240.125798381 * t);
-            L0 += 0.00000000940 * Math.cos(3.94701776697 + 35.212274331 * t);
-            L0 += 0.00000001047 * Math.cos(6.12360979460 + 238.9019581036 * t);
-            L0 += 0.00000001185 * Math.cos(5.28289734361 + 638.4128136057 * t);
-            L0 += 0.00000000893 * Math.cos(0.95364488395 + 14.8177948326 * t);
-            L0 += 0.00000001094 * Math.cos(3.93009679240 + 945.2434557067 * t);
-            L0 += 0.00000000949 * Math.cos(3.46451925897 + 443.8636662634 * t);
-            L0 += 0.00000001002 * Math.cos(3.18639902867 + 337.732510659 * t);
-            L0 += 0.00000001017 * Math.cos(2.87111101661 + 211.6021744086 * t);
-            L0 += 0.00000000875 * Math.cos(0.58638080067 + 2.2876218604 * t);
-            L0 += 0.00000000925 * Math.cos(1.54981519784 + 19.643719973 * t);
-            L0 += 0.00000001152 * Math.cos(1.68528608590 + 691.1030116452 * t);
-            L0 += 0.00000000832 * Math.cos(2.64637256467 + 436.8931316145 * t);
-            L0 += 0.00000000834 * Math.cos(3.88913521570 + 331.2096644892 * t);
-            L0 += 0.00000000825 * Math.cos(2.15437872210 + 739.8086667949 * t);
-            L0 += 0.00000000848 * Math.cos(3.18263239100 + 196.0336200506 * t);
-            L0 += 0.00000001044 * Math.cos(3.87842686803 + 532.6117264014 * t);
-            L0 += 0.00000000846 * Math.cos(5.38853773752 + 97.6761482472 * t);
-            L0 += 0.00000001021 * Math.cos(2.93075488512 + 184.9879197867 * t);
-            L0 += 0.00000000843 * Math.cos(6.12012061227 + 616.3214130779 * t);
-            L0 += 0.00000000820 * Math.cos(1.01380400969 + 480.7728616238 * t);
-            L0 += 0.00000000842 * Math.cos(3.56523575381 + 421.1815649046 * t);
-            L0 += 0.00000001076 * Math.cos(3.28234305253 + 5.6772584023 * t);
-            L0 += 0.00000000808 * Math.cos(2.78227865672 + 212.0752551606 * t);
-            L0 += 0.00000000812 * Math.cos(0.94281737163 + 108.7218485111 * t);
-            L0 += 0.00000000808 * Math.cos(2.21202653278 + 610.6923387854 * t);
-            L0 += 0.00000000808 * Math.cos(2.00008111713 + 214.5229357154 * t);
-            L0 += 0.00000000875 * Math.cos(2.14897461363 + 114.3991069134 * t);
-            L0 += 0.00000000791 * Math.cos(2.35474255596 + 1.3725981237 * t);
-            L0 += 0.00000000960 * Math.cos(0.25496742364 + 710.7467316182 * t);
-            L0 += 0.00000001001 * Math.cos(2.34471240227 + 16.04163511 * t);
-            L0 += 0.00000000994 * Math.cos(0.63700664871 + 84.9335269539 * t);
-            L0 += 0.00000000985 * Math.cos(2.63664920104 + 395.578702239 * t);
-            L0 += 0.00000000874 * Math.cos(2.59112594967 + 418.0001711669 * t);
-            L0 += 0.00000000758 * Math.cos(0.58117487362 + 2627.1141844706 * t);
-            L0 += 0.00000000894 * Math.cos(1.48976897396 + 760.25553592 * t);
-            L0 += 0.00000000768 * Math.cos(5.25095392845 + 305.0855369618 * t);
-            L0 += 0.00000001020 * Math.cos(2.73153988233 + 268.9582388941 * t);
-            L0 += 0.00000000903 * Math.cos(0.13224671457 + 238.4288773516 * t);
-            L0 += 0.00000000750 * Math.cos(0.76128043194 + 724.8308132679 * t);
-            L0 += 0.00000000903 * Math.cos(3.37105323370 + 526.5095713569 * t);
-            L0 += 0.00000000930 * Math.cos(2.83622594110 + 2641.3412784722 * t);
-            L0 += 0.00000000808 * Math.cos(5.23759255053 + 216.2680408546 * t);
-            L0 += 0.00000000864 * Math.cos(1.22059443823 + 570.7447620392 * t);
-            L0 += 0.00000000798 * Math.cos(3.72388187653 + 124.5028511902 * t);
-            L0 += 0.00000000753 * Math.cos(0.72747041757 + 3370.1042450032 * t);
-            L0 += 0.00000000844 * Math.cos(2.03251767810 + 511.5317178299 * t);
-            L0 += 0.00000000827 * Math.cos(4.49936223096 + 444.7574381407 * t);
-            L0 += 0.00000000848 * Math.cos(3.74330244183 + 2118.7638603784 * t);
-            L0 += 0.00000000795 * Math.cos(0.27939057139 + 101.8689339412 * t);
-            L0 += 0.00000000754 * Math.cos(5.68583497533 + 662.531203563 * t);
-            L0 += 0.00000000750 * Math.cos(4.78778128003 + 102.5715093568 * t);
-            L0 += 0.00000000709 * Math.cos(1.64518562815 + 159.1244246902 * t);
-            L0 += 0.00000000770 * Math.cos(4.02404991950 + 909.8187330546 * t);
-            L0 += 0.00000000765 * Math.cos(1.62693133597 + 465.9550667912 * t);
-            L0 += 0.00000000911 * Math.cos(5.04635658282 + 913.9633346388 * t);
-            L0 += 0.00000000861 * Math.cos(2.78971410809 + 495.7507151508 * t);
-            L0 += 0.00000000688 * Math.cos(1.10207467005 + 1.536862335 * t);
-            L0 += 0.00000000803 * Math.cos(4.33043919090 + 453.424893819 * t);
-            L0 += 0.00000000673 * Math.cos(0.03439333853 + 2524.021410252 * t);
-            L0 += 0.00000000856 * Math.cos(3.50639182375 + 439.1283638482 * t);
-            L0 += 0.00000000684 * Math.cos(3.93906807606 + 337.8019466282 * t);
-            L0 += 0.00000000716 * Math.cos(6.18909854987 + 310.7146112543 * t);
-            L0 += 0.00000000922 * Math.cos(1.70634200320 + 125.1841747464 * t);
-            L0 += 0.00000000885 * Math.cos(1.69955870744 + 6283.0758499914 * t);
-            L0 += 0.00000000656 * Math.cos(1.28102954508 + 432.0148168474 * t);
-            L0 += 0.00000000808 * Math.cos(1.64410808383 + 299.1263942692 * t);
-            L0 += 0.00000000656 * Math.cos(1.49449164620 + 849.2642284889 * t);
-            L0 += 0.00000000679 * Math.cos(4.02962984490 + 429.5189521828 * t);
-            L0 += 0.00000000854 * Math.cos(3.04068731741 + 298.2326223919 * t);
-            L0 += 0.00000000676 * Math.cos(2.17631477883 + 576.1613880106 * t);
-            L0 += 0.00000000881 * Math.cos(5.47733557925 + 220.9339073006 * t);
-            L0 += 0.00000000739 * Math.cos(5.85330901725 + 938.1299087059 * t);
-            L0 += 0.00000000637 * Math.cos(2.96294462433 + 425.8474313506 * t);
-            L0 += 0.00000000665 * Math.cos(1.62998758015 + 221.1634019642 * t);
-            L0 += 0.00000000693 * Math.cos(3.53871697600 + 1182.9215735329 * t);
-            L0 += 0.00000000659 * Math.cos(1.85319023888 + 72.3339180125 * t);
-            L0 += 0.00000000631 * Math.cos(2.01234919422 + 58.1068240109 * t);
-            L0 += 0.00000000806 * Math.cos(5.21763933753 + 428.0826635843 * t);
-            L0 += 0.00000000804 * Math.cos(5.94281804567 + 26.0235537909 * t);
-            L0 += 0.00000000679 * Math.cos(2.11784460940 + 256.4280659219 * t);
-            L0 += 0.00000000692 * Math.cos(1.88791537515 + 214.9960164674 * t);
-            L0 += 0.00000000731 * Math.cos(1.95762888351 + 19.0105805266 * t);
-            L0 += 0.00000000786 * Math.cos(0.91252523635 + 518.3846323998 * t);
-            L0 += 0.00000000684 * Math.cos(4.89288171806 + 3796.7024358792 * t);
-            L0 += 0.00000000612 * Math.cos(2.08511492036 + 1038.0412891868 * t);
-            L0 += 0.00000000598 * Math.cos(3.48814927085 + 219.6618829134 * t);
-            L0 += 0.00000000828 * Math.cos(0.31689472200 + 25.6028626656 * t);
-            L0 += 0.00000000773 * Math.cos(4.57524006328 + 624.919432787 * t);
-            L0 += 0.00000000775 * Math.cos(6.12920077021 + 432.2272651685 * t);
-            L0 += 0.00000000820 * Math.cos(4.11320326130 + 141.4864422873 * t);
-            L0 += 0.00000000588 * Math.cos(1.95775535412 + 211.8628068395 * t);
-            L0 += 0.00000000661 * Math.cos(5.30100397707 + 103.6140390804 * t);
-            L0 += 0.00000000588 * Math.cos(2.82460441973 + 214.7353840365 * t);
-            L0 += 0.00000000651 * Math.cos(5.56732715834 + 393.4610900843 * t);
-            L0 += 0.00000000564 * Math.cos(4.01666572198 + 850.0149880143 * t);
-            L0 += 0.00000000657 * Math.cos(2.58166087726 + 526.9826521089 * t);
-            L0 += 0.00000000722 * Math.cos(0.68494219480 + 953.1077622329 * t);
-            L0 += 0.00000000592 * Math.cos(2.37190662490 + 205.4347889118 * t);
-            L0 += 0.00000000738 * Math.cos(1.07981019512 + 239.1625905345 * t);
-            L0 += 0.00000000590 * Math.cos(6.03587790219 + 188.0263011725 * t);
-            L0 += 0.00000000559 * Math.cos(5.76010635813 + 430.79097657 * t);
-            L0 += 0.00000000535 * Math.cos(5.80499883199 + 100.1720129118 * t);
-            L0 += 0.00000000611 * Math.cos(5.95439360100 + 3693.6096616606 * t);
-            L0 += 0.00000000591 * Math.cos(4.22379888536 + 505.3119427064 * t);
-            L0 += 0.00000000691 * Math.cos(2.96568305933 + 606.7601855223 * t);
-            L0 += 0.00000000648 * Math.cos(2.33387623043 + 30.7588562061 * t);
-            L0 += 0.00000000544 * Math.cos(2.21686115865 + 92.7978334801 * t);
-            L0 += 0.00000000517 * Math.cos(2.68282421083 + 262.0571402144 * t);
-            L0 += 0.00000000563 * Math.cos(1.69735688719 + 2413.8150890326 * t);
-            L0 += 0.00000000569 * Math.cos(2.85075508949 + 227.3137411185 * t);
-            L0 += 0.00000000531 * Math.cos(2.17713708433 + 263.0203480609 * t);
-            L0 += 0.00000000504 * Math.cos(4.44947885193 + 343.7398374614 * t);
-            L0 += 0.00000000578 * Math.cos(3.31462999801 + 33.7278016227 * t);
-            L0 += 0.00000000619 * Math.cos(1.83409636127 + 867.4234757536 * t);
-            L0 += 0.00000000546 * Math.cos(4.82201187196 + 1048.3362299253 * t);
-            L0 += 0.00000000517 * Math.cos(1.42016110098 + 1246.6574718363 * t);
-            L0 += 0.00000000681 * Math.cos(1.94124532036 + 25874.6040461362 * t);
-            L0 += 0.00000000551 * Math.cos(5.70617358907 + 1119.1856752295 * t);
-            L0 += 0.00000000523 * Math.cos(5.78878978812 + 366.7944458357 * t);
-            L0 += 0.00000000486 * Math.cos(1.90063955671 + 1063.3140834523 * t);
-            L0 += 0.00000000552 * Math.cos(3.64325031166 + 256.5881246163 * t);
-            L0 += 0.00000000612 * Math.cos(2.39349965241 + 2854.6403739102 * t);
-            L0 += 0.00000000495 * Math.cos(3.46833581240 + 597.3590166611 * t);
-            L0 += 0.00000000622 * Math.cos(1.86539391351 + 524.0137066923 * t);
-            L0 += 0.00000000480 * Math.cos(5.33557742428 + 29.2049475286 * t);
-            L0 += 0.00000000492 * Math.cos(4.64109549618 + 384.0599212231 * t);
-            L0 += 0.00000000520 * Math.cos(2.32171681836 + 2957.7331481288 * t);
-            L0 += 0.00000000545 * Math.cos(0.53274778710 + 431.264057322 * t);
-            L0 += 0.00000000479 * Math.cos(2.13325177240 + 319.5732633943 * t);
-            L0 += 0.00000000526 * Math.cos(4.17771910249 + 136.0698163159 * t);
-            L0 += 0.00000000612 * Math.cos(4.56148986681 + 774.4826299216 * t);
-            L0 += 0.00000000642 * Math.cos(3.25195912708 + 67.8804998876 * t);
-            L0 += 0.00000000527 * Math.cos(4.00299045889 + 2435.155730035 * t);
-            L0 += 0.00000000524 * Math.cos(4.69817741494 + 336.8387387817 * t);
-            L0 += 0.00000000495 * Math.cos(5.95703962647 + 765.8846102125 * t);
-            L0 += 0.00000000463 * Math.cos(6.09780322600 + 54.3347294422 * t);
-            L0 += 0.00000000538 * Math.cos(0.22116216124 + 450.9772132642 * t);
-            L0 += 0.00000000465 * Math.cos(1.87487942848 + 958.576777831 * t);
-            L0 += 0.00000000500 * Math.cos(1.54084756342 + 572.2292347475 * t);
-            L0 += 0.00000000528 * Math.cos(3.54764543325 + 233.9060232575 * t);
-            L0 += 0.00000000451 * Math.cos(5.72664397006 + 3899.7952100978 * t);
-            L0 += 0.00000000514 * Math.cos(5.00509609437 + 273.8536000037 * t);
-            L0 += 0.00000000471 * Math.cos(2.96871670899 + 306.830642101 * t);
-            L0 += 0.00000000447 * Math.cos(1.87279400375 + 62.038977274 * t);
-            L0 += 0.00000000456 * Math.cos(5.45521998520 + 1171.875873269 * t);
-            L0 += 0.00000000499 * Math.cos(1.92821778530 + 217.4436970222 * t);
-            L0 += 0.00000000548 * Math.cos(3.21873307934 + 824.7421937488 * t);
-            L0 += 0.00000000579 * Math.cos(2.29424247924 + 810.6581120991 * t);
-            L0 += 0.00000000550 * Math.cos(0.67875196590 + 315.1680293792 * t);
-            L0 += 0.00000000556 * Math.cos(1.30277646899 + 133.1008708993 * t);
-            L0 += 0.00000000449 * Math.cos(6.05954557724 + 141.6988906084 * t);
-            L0 += 0.00000000447 * Math.cos(5.83737433218 + 823.9914342234 * t);
-            L0 += 0.00000000517 * Math.cos(3.62832879827 + 934.9485149682 * t);
-            L0 += 0.00000000482 * Math.cos(1.04855231956 + 1055.4497769261 * t);
-            L0 += 0.00000000482 * Math.cos(4.07207792722 + 195.8906076987 * t);
-            L0 += 0.00000000428 * Math.cos(0.65142455407 + 427.3489504014 * t);
-            L0 += 0.00000000585 * Math.cos(5.48406138684 + 376.1956146969 * t);
-            L0 += 0.00000000469 * Math.cos(3.87344294455 + 320.5846553506 * t);
-            L0 += 0.00000000488 * Math.cos(2.83523964260 + 460.5384408198 * t);
-            L0 += 0.00000000450 * Math.cos(4.30419652064 + 88.1149206916 * t);
-            L0 += 0.00000000537 * Math.cos(0.85582040238 + 214.1928673153 * t);
-            L0 += 0.00000000438 * Math.cos(1.32216133929 + 963.4027029714 * t);
-            L0 += 0.00000000560 * Math.cos(2.50374228728 + 952.0963702766 * t);
-            L0 += 0.00000000442 * Math.cos(2.80002649649 + 209.1544938538 * t);
-            L0 += 0.00000000443 * Math.cos(4.31062007978 + 9992.8729037722 * t);
-            L0 += 0.00000000469 * Math.cos(0.45235276525 + 464.7312265138 * t);
-            L0 += 0.00000000488 * Math.cos(0.35817443686 + 36.9091953604 * t);
-            L0 += 0.00000000418 * Math.cos(4.81080887468 + 775.233389447 * t);
-            L0 += 0.00000000417 * Math.cos(4.93943593579 + 306.0969289181 * t);
-            L0 += 0.00000000483 * Math.cos(3.92847922420 + 39.6175083461 * t);
-            L0 += 0.00000000467 * Math.cos(1.89153069484 + 30.0562807905 * t);
-            L0 += 0.00000000410 * Math.cos(5.52148731635 + 118.0706277456 * t);
-            L0 += 0.00000000406 * Math.cos(1.35991757653 + 945.9942152321 * t);
-            L0 += 0.00000000446 * Math.cos(4.06656112480 + 380.3884003909 * t);
-            L0 += 0.00000000466 * Math.cos(3.65954736664 + 988.532484885 * t);
-            L0 += 0.00000000418 * Math.cos(1.40185532806 + 313.9441891018 * t);
-            L0 += 0.00000000481 * Math.cos(1.80873987903 + 43.1289704839 * t);
-            L0 += 0.00000000437 * Math.cos(0.86746182155 + 170.9732741062 * t);
-            L0 += 0.00000000483 * Math.cos(4.49894122772 + 46.2097904851 * t);
-            L0 += 0.00000000398 * Math.cos(2.90977731924 + 131.5469622218 * t);
-            L0 += 0.00000000529 * Math.cos(3.74604329884 + 699.1797664925 * t);
-            L0 += 0.00000000396 * Math.cos(0.34033987778 + 2943.5060541272 * t);
-            L0 += 0.00000000545 * Math.cos(2.97400965609 + 305.6068018236 * t);
-            L0 += 0.00000000412 * Math.cos(3.81935995126 + 84.3428261229 * t);
-            L0 += 0.00000000425 * Math.cos(2.60672101181 + 121.8427223143 * t);
-            L0 += 0.00000000474 * Math.cos(2.41769418569 + 838.218528225 * t);
-            L0 += 0.00000000457 * Math.cos(1.27246488727 + 107.7586406646 * t);
-            L0 += 0.00000000519 * Math.cos(3.12247974037 + 10213.285546211 * t);
-            L0 += 0.00000000495 * Math.cos(4.63705386984 + 301.4140161296 * t);
-            L0 += 0.00000000537 * Math.cos(3.92653937147 + 212.4053235607 * t);
-            L0 += 0.00000000385 * Math.cos(3.33476325050 + 806.725958836 * t);
-            L0 += 0.00000000477 * Math.cos(1.66001855277 + 175.4266922311 * t);
-            L0 += 0.00000000378 * Math.cos(0.47722247042 + 200.5564741447 * t);
-            L0 += 0.00000000459 * Math.cos(5.14821844812 + 960.2213092337 * t);
-            L0 += 0.00000000401 * Math.cos(4.36420932544 + 739.0579072695 * t);
-            L0 += 0.00000000467 * Math.cos(2.96423984091 + 170.0100662597 * t);
-            L0 += 0.00000000457 * Math.cos(4.45829983338 + 33.1371007917 * t);
-            L0 += 0.00000000476 * Math.cos(3.63257697985 + 20.4950532349 * t);
-            L0 += 0.00000000462 * Math.cos(3.57494442856 + 71.6002048296 * t);
-            L0 += 0.00000000376 * Math.cos(2.94770389653 + 6062.6632075526 * t);
-            L0 += 0.00000000473 * Math.cos(5.32759318114 + 373.9079928365 * t);
-            L0 += 0.00000000383 * Math.cos(1.84111991862 + 346.3999663373 * t);
-            L0 += 0.00000000366 * Math.cos(2.05039240297 + 87.3117715395 * t);
-            L0 += 0.00000000383 * Math.cos(2.00608370504 + 3274.1250177854 * t);
-            L0 += 0.00000000374 * Math.cos(5.65444305031 + 540.7366653585 * t);
-            L0 += 0.00000000410 * Math.cos(5.62629715297 + 58.319272332 * t);
-            L0 += 0.00000000441 * Math.cos(6.26992749567 + 378.9039276826 * t);
-            L0 += 0.00000000451 * Math.cos(3.05920369737 + 898.7730327907 * t);
-            L0 += 0.00000000371 * Math.cos(5.65787287655 + 89.7594520943 * t);
-            L0 += 0.00000000367 * Math.cos(5.71998148487 + 96.8729990951 * t);
-            L0 += 0.00000000410 * Math.cos(1.06290837961 + 1257.7031721002 * t);
-            L0 += 0.00000000418 * Math.cos(2.03053179312 + 146.594251718 * t);
-            L0 += 0.00000000492 * Math.cos(0.89529424356 + 423.6292454594 * t);
-            L0 += 0.00000000474 * Math.cos(2.43080822444 + 705.1176573257 * t);
-            L0 += 0.00000000457 * Math.cos(3.42347802916 + 829.6205085159 * t);
-            L0 += 0.00000000419 * Math.cos(0.32183412086 + 90.5626012464 * t);
-            L0 += 0.00000000347 * Math.cos(3.60116807440 + 449.232108125 * t);
-            L0 += 0.00000000397 * Math.cos(2.29159647723 + 782.3469364478 * t);
-            L0 += 0.00000000433 * Math.cos(3.40938468811 + 32.4557772355 * t);
-            L0 += 0.00000000343 * Math.cos(4.30952656038 + 401.3253966105 * t);
-            L0 += 0.00000000351 * Math.cos(0.42160026295 + 3686.4961146598 * t);
-            L0 += 0.00000000360 * Math.cos(5.83204569879 + 491.5579294568 * t);
-            L0 += 0.00000000389 * Math.cos(2.73429108352 + 36.1754821775 * t);
-            L0 += 0.00000000434 * Math.cos(0.33664392528 + 55.1378785943 * t);
-            L0 += 0.00000000346 * Math.cos(5.09191837323 + 392.6579409322 * t);
-            L0 += 0.00000000336 * Math.cos(2.38696934868 + 295.1942410061 * t);
-            L0 += 0.00000000336 * Math.cos(1.56832822829 + 233.7459645631 * t);
-            L0 += 0.00000000400 * Math.cos(3.08774286568 + 745.9108218394 * t);
-            L0 += 0.00000000468 * Math.cos(4.21298903633 + 832.5894539325 * t);
-            L0 += 0.00000000400 * Math.cos(1.32415028336 + 551.1010420662 * t);
-            L0 += 0.00000000344 * Math.cos(1.52193307438 + 754.8389099486 * t);
-            L0 += 0.00000000433 * Math.cos(3.06696455642 + 885.4397106664 * t);
-            L0 += 0.00000000346 * Math.cos(4.76971433870 + 4113.0943055358 * t);
-            L0 += 0.00000000329 * Math.cos(3.31034285904 + 952.3570027075 * t);
-            L0 += 0.00000000425 * Math.cos(2.90590905341 + 462.0229135281 * t);
-            L0 += 0.00000000342 * Math.cos(5.87738962422 + 561.934294009 * t);
-            L0 += 0.00000000439 * Math.cos(0.20791179302 + 768.8535556291 * t);
-            L0 += 0.00000000330 * Math.cos(2.08599193524 + 614.6244920485 * t);
-            L0 += 0.00000000394 * Math.cos(3.59805431851 + 1261.6353253633 * t);
-            L0 += 0.00000000369 * Math.cos(6.03075127328 + 199.8057146193 * t);
-            L0 += 0.00000000375 * Math.cos(2.56075851331 + 732.6951197941 * t);
-            L0 += 0.00000000408 * Math.cos(0.69233617038 + 328.2407190726 * t);
-            L0 += 0.00000000331 * Math.cos(4.28333309370 + 541.5398145106 * t);
-            L0 += 0.00000000323 * Math.cos(0.06694179304 + 433.7599219866 * t);
-            L0 += 0.00000000431 * Math.cos(4.50603340920 + 2914.0142358238 * t);
-            L0 += 0.00000000343 * Math.cos(2.18898146246 + 80.1982245387 * t);
-            L0 += 0.00000000437 * Math.cos(5.34124436008 + 387.2413149608 * t);
-            L0 += 0.00000000371 * Math.cos(4.82569229712 + 103.3534066495 * t);
-            L0 += 0.00000000318 * Math.cos(3.75720880396 + 749.2098356561 * t);
-            L0 += 0.00000000344 * Math.cos(0.70749566894 + 229.9738699944 * t);
-            L0 += 0.00000000312 * Math.cos(6.02741985422 + 361.3778198643 * t);
-            L0 += 0.00000000340 * Math.cos(0.64358874512 + 303.8616966844 * t);
-            L0 += 0.00000000394 * Math.cos(0.49801994278 + 248.4631856592 * t);
-            L0 += 0.00000000309 * Math.cos(5.83535487659 + 236.1936451179 * t);
-            L0 += 0.00000000325 * Math.cos(2.65292455786 + 757.2171545342 * t);
-            L0 += 0.00000000365 * Math.cos(0.56788400592 + 402.2191684878 * t);
-            L0 += 0.00000000342 * Math.cos(3.83450185886 + 519.3960243561 * t);
-            L0 += 0.00000000306 * Math.cos(0.35126074897 + 354.9979860464 * t);
-            L0 += 0.00000000314 * Math.cos(5.42086935152 + 1151.4290041439 * t);
-            L0 += 0.00000000384 * Math.cos(0.09367760642 + 201.5196819912 * t);
-            L0 += 0.00000000307 * Math.cos(5.62165090342 + 426.4863162914 * t);
-            L0 += 0.00000000301 * Math.cos(1.78550205039 + 1354.4331588434 * t);
-            L0 += 0.00000000300 * Math.cos(5.23426324539 + 190.4045457581 * t);
-            L0 += 0.00000000296 * Math.cos(3.15801280224 + 192.8522263129 * t);
-            L0 += 0.00000000381 * Math.cos(1.98600461808 + 109.9456887885 * t);
-            L0 += 0.00000000370 * Math.cos(5.57659190517 + 562.1467423301 * t);
-            L0 += 0.00000000305 * Math.cos(2.73187068494 + 840.6662087798 * t);
-            L0 += 0.00000000374 * Math.cos(3.73375594662 + 420.4478517217 * t);
-            L0 += 0.00000000307 * Math.cos(4.03149340189 + 426.7100654606 * t);
-            L0 += 0.00000000320 * Math.cos(1.42665180100 + 2730.2069586892 * t);
-            L0 += 0.00000000392 * Math.cos(0.14343294900 + 206.3979967583 * t);
-            L0 += 0.00000000288 * Math.cos(2.44787565138 + 623.2225117576 * t);
-            L0 += 0.00000000344 * Math.cos(1.57825843162 + 6290.1893969922 * t);
-            L0 += 0.00000000317 * Math.cos(1.84490263693 + 214.9436268407 * t);
-            L0 += 0.00000000346 * Math.cos(2.16849893508 + 3171.0322435668 * t);
-            L0 += 0.00000000286 * Math.cos(1.01623455966 + 315.6411101312 * t);
-            L0 += 0.00000000361 * Math.cos(3.44807605339 + 259.769518354 * t);
-            L0 += 0.00000000280 * Math.cos(4.64272946177 + 254.1404440615 * t);
-            L0 += 0.00000000285 * Math.cos(2.09430258387 + 335.1418177523 * t);
-            L0 += 0.00000000281 * Math.cos(4.72136141979 + 317.142629182 * t);
-            L0 += 0.00000000289 * Math.cos(4.70265740009 + 29.7474642498 * t);
-            L0 += 0.00000000290 * Math.cos(2.74360609522 + 551.031606097 * t);
-            L0 += 0.00000000300 * Math.cos(5.23308974173 + 1321.4390704036 * t);
-            L0 += 0.00000000283 * Math.cos(1.21193797828 + 1699.2792165032 * t);
-            L0 += 0.00000000280 * Math.cos(0.45877292284 + 38.6061163898 * t);
-            L0 += 0.00000000273 * Math.cos(1.81952809851 + 1056.2005364515 * t);
-            L0 += 0.00000000336 * Math.cos(5.63115066542 + 95.2284676924 * t);
-            L0 += 0.00000000309 * Math.cos(3.33676739908 + 1193.9672737968 * t);
-            L0 += 0.00000000288 * Math.cos(2.57603349418 + 1166.4068576709 * t);
-            L0 += 0.00000000277 * Math.cos(3.35359995343 + 532.8723588323 * t);
-            L0 += 0.00000000287 * Math.cos(0.37229115993 + 114.9416236346 * t);
-            L0 += 0.00000000274 * Math.cos(4.21164027953 + 90.8232336773 * t);
-            L0 += 0.00000000267 * Math.cos(5.61367132586 + 870.4618571394 * t);
-            L0 += 0.00000000376 * Math.cos(6.14391456675 + 913.0001267923 * t);
-            L0 += 0.00000000296 * Math.cos(5.75705165982 + 4010.0015313172 * t);
-            L0 += 0.00000000304 * Math.cos(1.97982468634 + 495.9631634719 * t);
-            L0 += 0.00000000308 * Math.cos(5.08911712262 + 481.7360694703 * t);
-            L0 += 0.00000000265 * Math.cos(0.02893016561 + 172.4577468145 * t);
-            L0 += 0.00000000291 * Math.cos(2.10106037916 + 619.2903584945 * t);
-            L0 += 0.00000000273 * Math.cos(4.78343050572 + 771.3012361839 * t);
-            L0 += 0.00000000358 * Math.cos(0.04093867464 + 637.4496057592 * t);
-            L0 += 0.00000000272 * Math.cos(5.86505586319 + 332.1728723357 * t);
-            L0 += 0.00000000266 * Math.cos(3.28626000731 + 560.7104537316 * t);
-            L0 += 0.00000000312 * Math.cos(3.91213951915 + 1226.2106027112 * t);
-            L0 += 0.00000000258 * Math.cos(3.41185135958 + 426.8106391971 * t);
-            L0 += 0.00000000257 * Math.cos(1.06772454181 + 714.6788848813 * t);
-            L0 += 0.00000000258 * Math.cos(6.24129294573 + 426.3857425549 * t);
-            L0 += 0.00000000256 * Math.cos(0.75289096697 + 103.843533744 * t);
-            L0 += 0.00000000254 * Math.cos(3.21116652124 + 102.3420146932 * t);
-            L0 += 0.00000000254 * Math.cos(6.14632777985 + 620.253566341 * t);
-            L0 += 0.00000000266 * Math.cos(2.54280196709 + 132.8884225782 * t);
-            L0 += 0.00000000314 * Math.cos(0.31303204249 + 991.7138786227 * t);
-            L0 += 0.00000000317 * Math.cos(2.93589163442 + 357.2332182801 * t);
-            L0 += 0.00000000266 * Math.cos(6.12280636670 + 57.5161231799 * t);
-            L0 += 0.00000000254 * Math.cos(2.99730079627 + 642.3449668688 * t);
-            L0 += 0.00000000267 * Math.cos(5.54663413439 + 628.5909536192 * t);
-            L0 += 0.00000000348 * Math.cos(1.33319249154 + 815.0633461142 * t);
-            L0 += 0.00000000278 * Math.cos(5.59573741920 + 334.5511169213 * t);
-            L0 += 0.00000000303 * Math.cos(3.22789148979 + 409.1897031367 * t);
-            L0 += 0.00000000246 * Math.cos(3.90430259983 + 441.576044403 * t);
-            L0 += 0.00000000260 * Math.cos(3.86355293530 + 639.3760214522 * t);
-            L0 += 0.00000000250 * Math.cos(0.07635434166 + 2840.4132799086 * t);
-            L0 += 0.00000000246 * Math.cos(5.71009371698 + 476.3194434989 * t);
-            L0 += 0.00000000301 * Math.cos(6.15272106984 + 559.6990617753 * t);
-            L0 += 0.00000000268 * Math.cos(3.73809606804 + 658.0565335787 * t);
-            L0 += 0.00000000316 * Math.cos(4.63035287047 + 745.277682393 * t);
-            L0 += 0.00000000311 * Math.cos(3.51827727424 + 2751.5475996916 * t);
-            L0 += 0.00000000239 * Math.cos(0.51133317457 + 1041.2226829245 * t);
-            L0 += 0.00000000238 * Math.cos(5.46347279420 + 4216.1870797544 * t);
-            L0 += 0.00000000262 * Math.cos(3.20254407166 + 1251.3403846248 * t);
-            L0 += 0.00000000238 * Math.cos(1.02679111743 + 1262.3860848887 * t);
-            L0 += 0.00000000277 * Math.cos(3.32996713394 + 545.4719677737 * t);
-            L0 += 0.00000000271 * Math.cos(0.49229846069 + 419.532827985 * t);
-            L0 += 0.00000000303 * Math.cos(3.77087511317 + 285.3723810196 * t);
-            L0 += 0.00000000234 * Math.cos(3.64328189368 + 407.4757357648 * t);
-            L0 += 0.00000000270 * Math.cos(3.93080966194 + 313.4711083498 * t);
-            L0 += 0.00000000302 * Math.cos(3.15201610429 + 915.235359026 * t);
-            L0 += 0.00000000264 * Math.cos(0.46127639727 + 720.8986600048 * t);
-            L0 += 0.00000000235 * Math.cos(1.74238582338 + 369.0820676961 * t);
-            L0 += 0.00000000284 * Math.cos(5.20345848078 + 395.105621487 * t);
-            L0 += 0.00000000295 * Math.cos(5.03016292492 + 594.6507036754 * t);
-            L0 += 0.00000000290 * Math.cos(1.94941528794 + 907.3710524998 * t);
-            L0 += 0.00000000229 * Math.cos(0.11049722694 + 3259.8979237838 * t);
-            L0 += 0.00000000304 * Math.cos(1.81516929363 + 49.7212526229 * t);
-            L0 += 0.00000000268 * Math.cos(5.54944666204 + 12352.8526045448 * t);
-            L0 += 0.00000000248 * Math.cos(4.39993603541 + 385.5443939314 * t);
-            L0 += 0.00000000234 * Math.cos(1.63365119249 + 3590.516887442 * t);
-            L0 += 0.00000000317 * Math.cos(4.74907646809 + 420.005908737 * t);
-            L0 += 0.00000000228 * Math.cos(4.89094697746 + 1181.4371008246 * t);
-            L0 += 0.00000000258 * Math.cos(2.41510535278 + 550.1378342197 * t);
-            L0 += 0.00000000236 * Math.cos(4.10002766188 + 6467.9257579616 * t);
-            L0 += 0.00000000249 * Math.cos(1.97767956861 + 589.4947101349 * t);
-            L0 += 0.00000000226 * Math.cos(1.60308230318 + 316.279995072 * t);
-            L0 += 0.00000000286 * Math.cos(6.10513234736 + 484.7050148869 * t);
-            L0 += 0.00000000299 * Math.cos(3.71741328977 + 1123.1178284926 * t);
-            L0 += 0.00000000263 * Math.cos(1.85502475341 + 608.877797677 * t);
-            L0 += 0.00000000220 * Math.cos(0.94624116595 + 316.5037442412 * t);
-            L0 += 0.00000000292 * Math.cos(3.12099513976 + 47.6942631934 * t);
-            L0 += 0.00000000217 * Math.cos(4.93010394323 + 281.1795953256 * t);
-            L0 += 0.00000000295 * Math.cos(3.18346450625 + 1050.9963588012 * t);
-            L0 += 0.00000000248 * Math.cos(5.48523310249 + 638.9340784675 * t);
-            L0 += 0.00000000276 * Math.cos(1.09325899753 + 544.5087599272 * t);
-            L0 += 0.00000000279 * Math.cos(2.65446123759 + 134.1122628556 * t);
-            L0 += 0.00000000247 * Math.cos(4.17284927352 + 950.1388168163 * t);
-            L0 += 0.00000000212 * Math.cos(2.45582771491 + 1164.7623262682 * t);
-            L0 += 0.00000000266 * Math.cos(2.30028827109 + 314.9073969483 * t);
-            L0 += 0.00000000215 * Math.cos(3.55148746518 + 1097.0942747017 * t);
-            L0 += 0.00000000223 * Math.cos(0.36862624591 + 81.8951455681 * t);
-            L0 += 0.00000000283 * Math.cos(0.35013012349 + 1269.4996318895 * t);
-            L0 += 0.00000000263 * Math.cos(0.58255768951 + 386.9806825299 * t);
-            L0 += 0.00000000208 * Math.cos(4.61303945066 + 668.2084619653 * t);
-            L0 += 0.00000000222 * Math.cos(4.51639912193 + 304.1223291153 * t);
-            L0 += 0.00000000274 * Math.cos(0.63572336701 + 679.2541622292 * t);
-            L0 += 0.00000000215 * Math.cos(0.74685271552 + 1008.9793540101 * t);
-            L0 += 0.00000000268 * Math.cos(3.43326489941 + 598.8434893694 * t);
-            L0 += 0.00000000271 * Math.cos(3.98364990268 + 453.6855262499 * t);
-            L0 += 0.00000000215 * Math.cos(2.24139383226 + 661.2379273164 * t);
-            L0 += 0.00000000264 * Math.cos(2.58516335032 + 2527.2028039897 * t);
-            L0 += 0.00000000205 * Math.cos(1.94472028389 + 650.1922270525 * t);
-            L0 += 0.00000000258 * Math.cos(1.50724315598 + 1759.8337210689 * t);
-            L0 += 0.00000000272 * Math.cos(6.27135287672 + 990.2294059144 * t);
-            L0 += 0.00000000201 * Math.cos(1.11891338895 + 97.4155158163 * t);
-            L0 += 0.00000000236 * Math.cos(4.13547185065 + 348.635198571 * t);
-            L0 += 0.00000000201 * Math.cos(2.67485193508 + 1546.5346256309 * t);
-            L0 += 0.00000000250 * Math.cos(5.44391862722 + 1254.5217783625 * t);
-            L0 += 0.00000000203 * Math.cos(5.48660442144 + 557.0389328994 * t);
-            L0 += 0.00000000250 * Math.cos(0.32142312427 + 25448.00585526019 * t);
-            L0 += 0.00000000198 * Math.cos(0.91019549387 + 1310.3933701397 * t);
-            L0 += 0.00000000200 * Math.cos(0.90438804926 + 47.061123747 * t);
-            L0 += 0.00000000194 * Math.cos(4.05730813129 + 426.8588233069 * t);
-            L0 += 0.00000000197 * Math.cos(0.58292199999 + 156.6767441354 * t);
-            L0 += 0.00000000197 * Math.cos(2.59384188520 + 639.8491022042 * t);
-            L0 += 0.00000000201 * Math.cos(1.49980256114 + 827.9235874865 * t);
-            L0 += 0.00000000197 * Math.cos(5.79126360809 + 639.9454704238 * t);
-            L0 += 0.00000000266 * Math.cos(1.45514683392 + 109.2431133729 * t);
-            L0 += 0.00000000239 * Math.cos(4.63640382863 + 868.7167520002 * t);
-            L0 += 0.00000000194 * Math.cos(5.59582424111 + 426.3375584451 * t);
-            L0 += 0.00000000247 * Math.cos(2.91348766248 + 689.6185389369 * t);
-            L0 += 0.00000000205 * Math.cos(1.04616771894 + 448.6895914038 * t);
-            L0 += 0.00000000232 * Math.cos(1.76503818816 + 354.2642728635 * t);
-            L0 += 0.00000000224 * Math.cos(3.45391027762 + 1190.0351205337 * t);
-            L0 += 0.00000000221 * Math.cos(6.27951545913 + 1596.1864422846 * t);
-            L0 += 0.00000000237 * Math.cos(1.24961141369 + 882.9438460018 * t);
-            L0 += 0.00000000206 * Math.cos(5.17010664247 + 253.4591205053 * t);
-            L0 += 0.00000000203 * Math.cos(0.25518217825 + 4002.8879843164 * t);
-            L0 += 0.00000000245 * Math.cos(3.94368773869 + 769.8167634756 * t);
-            L0 += 0.00000000255 * Math.cos(6.11790751550 + 763.4369296577 * t);
-            L0 += 0.00000000194 * Math.cos(2.83197251801 + 263.7016716171 * t);
-            L0 += 0.00000000237 * Math.cos(2.14007373880 + 2700.7151403858 * t);
-            L0 += 0.00000000203 * Math.cos(3.00078001542 + 1385.174968707 * t);
-            L0 += 0.00000000203 * Math.cos(3.88000057282 + 419.4364597654 * t);
-            L0 += 0.00000000186 * Math.cos(4.79530535895 + 843.6351541964 * t);
-            L0 += 0.00000000203 * Math.cos(0.16707173895 + 535.9107402181 * t);
-            L0 += 0.00000000245 * Math.cos(0.76762638475 + 5643.1785636774 * t);
-            L0 += 0.00000000183 * Math.cos(2.20151176434 + 35.1640902212 * t);
-            L0 += 0.00000000242 * Math.cos(3.41613986919 + 864.2420820159 * t);
-            L0 += 0.00000000249 * Math.cos(3.47840802421 + 1045.8885493705 * t);
-            L0 += 0.00000000199 * Math.cos(4.70077509959 + 1276.6131788903 * t);
-            L0 += 0.00000000189 * Math.cos(1.84247610390 + 434.6749457233 * t);
-            L0 += 0.00000000192 * Math.cos(3.83148077309 + 666.723989257 * t);
-            L0 += 0.00000000201 * Math.cos(1.34290804373 + 1012.9115072732 * t);
-            L0 += 0.00000000210 * Math.cos(5.12097279511 + 3494.5376602242 * t);
-            L0 += 0.00000000192 * Math.cos(1.36630036429 + 904.4021070832 * t);
-            L0 += 0.00000000195 * Math.cos(1.62629576534 + 364.3467652809 * t);
-            L0 += 0.00000000179 * Math.cos(1.66502999050 + 244.791664827 * t);
-            L0 += 0.00000000186 * Math.cos(4.55663748319 + 347.4113582936 * t);
-            L0 += 0.00000000201 * Math.cos(0.50219680740 + 36.3879304986 * t);
-            L0 += 0.00000000179 * Math.cos(4.55153097409 + 97.4636999261 * t);
-            L0 += 0.00000000200 * Math.cos(0.68398141887 + 2015.6710861598 * t);
-            L0 += 0.00000000195 * Math.cos(2.20599546209 + 66.1835788582 * t);
-            L0 += 0.00000000186 * Math.cos(4.48925201018 + 611.4430983108 * t);
-            L0 += 0.00000000186 * Math.cos(3.13663606153 + 433.663553767 * t);
-            L0 += 0.00000000177 * Math.cos(3.62811326217 + 326.6868103951 * t);
-            L0 += 0.00000000206 * Math.cos(0.38552475035 + 857.1285350151 * t);
-            L0 += 0.00000000229 * Math.cos(1.22330638216 + 2906.900688823 * t);
-            L0 += 0.00000000213 * Math.cos(6.08436923028 + 271.61836777 * t);
-            L0 += 0.00000000174 * Math.cos(6.18833529233 + 3576.2897934404 * t);
-            L0 += 0.00000000220 * Math.cos(2.89866380776 + 322.6116447801 * t);
-            L0 += 0.00000000202 * Math.cos(2.43755817264 + 812.1425848074 * t);
-            L0 += 0.00000000211 * Math.cos(4.27999470527 + 1127.2624300768 * t);
-            L0 += 0.00000000188 * Math.cos(0.97173474238 + 1080.7225711916 * t);
-            L0 += 0.00000000168 * Math.cos(0.65008064023 + 1493.093668066 * t);
-            L0 += 0.00000000208 * Math.cos(4.68942071563 + 5429.8794682394 * t);
-            L0 += 0.00000000182 * Math.cos(0.76058628096 + 504.561183181 * t);
-            L0 += 0.00000000167 * Math.cos(6.22608046965 + 108.50940019 * t);
-            L0 += 0.00000000176 * Math.cos(2.08816807487 + 670.916774951 * t);
-            L0 += 0.00000000170 * Math.cos(1.55680702386 + 1670.82502850 * t);
-            L0 += 0.00000000187 * Math.cos(4.12687876136 + 9985.7593567714 * t);
-            L0 += 0.00000000166 * Math.cos(1.58596354370 + 1379.7059531089 * t);
-            L0 += 0.00000000170 * Math.cos(1.30946662341 + 837.6972633632 * t);
-            L0 += 0.00000000166 * Math.cos(0.02413278965 + 224.6054281328 * t);
-            L0 += 0.00000000204 * Math.cos(6.12072939658 + 9360.089164459 * t);
-            L0 += 0.00000000189 * Math.cos(0.28191962964 + 1175.8080265321 * t);
-            L0 += 0.00000000184 * Math.cos(2.87461093640 + 398.1440028728 * t);
-            L0 += 0.00000000172 * Math.cos(5.41410693088 + 2306.7901615509 * t);
-            L0 += 0.00000000174 * Math.cos(0.94052578814 + 632.0329797878 * t);
-            L0 += 0.00000000181 * Math.cos(2.20017945285 + 1049.0869894507 * t);
-            L0 += 0.00000000176 * Math.cos(1.09857632660 + 531.978586955 * t);
-            L0 += 0.00000000201 * Math.cos(2.68411933635 + 795.6802585721 * t);
-            L0 += 0.00000000197 * Math.cos(1.43444932583 + 347.3631741838 * t);
-            L0 += 0.00000000200 * Math.cos(4.33954193534 + 1364.7280995819 * t);
-            L0 += 0.00000000166 * Math.cos(2.83936872840 + 3553.9115221378 * t);
-            L0 += 0.00000000160 * Math.cos(1.28778451384 + 962.5089310941 * t);
-            L0 += 0.00000000206 * Math.cos(3.02518737424 + 1141.1340634054 * t);
-            L0 += 0.00000000200 * Math.cos(5.54644533685 + 308.3151148093 * t);
-            L0 += 0.00000000158 * Math.cos(4.75462437610 + 1534.7381658416 * t);
-            L0 += 0.00000000156 * Math.cos(3.42359004405 + 241.7532834412 * t);
-            L0 += 0.00000000182 * Math.cos(5.26192506263 + 968.1380053866 * t);
-            L0 += 0.00000000168 * Math.cos(0.37055108740 + 10007.0999977738 * t);
-            L0 += 0.00000000174 * Math.cos(4.61279044571 + 223.3334037456 * t);
-            L0 += 0.00000000158 * Math.cos(4.23116519562 + 821.703812363 * t);
-            L0 += 0.00000000212 * Math.cos(5.98406058023 + 432.7485300303 * t);
-            L0 += 0.00000000160 * Math.cos(4.08093018212 + 632.7355552034 * t);
-            L0 += 0.00000000179 * Math.cos(5.74376301842 + 924.0458270562 * t);
-            L0 += 0.00000000185 * Math.cos(3.01715709315 + 55.8715917772 * t);
-            L0 += 0.00000000185 * Math.cos(0.75718598244 + 1286.9081196288 * t);
-            L0 += 0.00000000170 * Math.cos(3.46903106526 + 1304.9243545416 * t);
-            L0 += 0.00000000167 * Math.cos(3.19767851189 + 635.231419868 * t);
-            L0 += 0.00000000153 * Math.cos(3.83006208210 + 318.679491517 * t);
-            L0 += 0.00000000156 * Math.cos(1.61558494091 + 110.2545053292 * t);
-            L0 += 0.00000000206 * Math.cos(1.62702696825 + 389.9496279465 * t);
-            L0 += 0.00000000184 * Math.cos(3.31730160238 + 1578.0271950199 * t);
-            L0 += 0.00000000184 * Math.cos(6.19913208096 + 731.6837278378 * t);
-            L0 += 0.00000000158 * Math.cos(5.58628906712 + 42.3258213318 * t);
-            L0 += 0.00000000159 * Math.cos(2.00727485442 + 702.1487119091 * t);
-            L0 += 0.00000000155 * Math.cos(0.02889842368 + 1357.6145525811 * t);
-            L0 += 0.00000000151 * Math.cos(5.80616069064 + 680.0573113813 * t);
-            L0 += 0.00000000157 * Math.cos(5.67235483479 + 77837.11123384659 * t);
-            L0 += 0.00000000156 * Math.cos(2.78001360754 + 1567.7322542814 * t);
-            L0 += 0.00000000203 * Math.cos(5.91820261629 + 971.1069508032 * t);
-            L0 += 0.00000000156 * Math.cos(5.68482948401 + 649.4585138696 * t);
-            L0 += 0.00000000186 * Math.cos(5.72093247348 + 664.2763087022 * t);
-            L0 += 0.00000000184 * Math.cos(4.05878767739 + 976.7360250957 * t);
-            L0 += 0.00000000159 * Math.cos(3.10978439502 + 230.7075831773 * t);
-            L0 += 0.00000000154 * Math.cos(4.54479813612 + 1239.5439248355 * t);
-            L0 += 0.00000000177 * Math.cos(4.68148789757 + 2921.1277828246 * t);
-            L0 += 0.00000000158 * Math.cos(4.30854435851 + 633.7469471597 * t);
-            L0 += 0.00000000195 * Math.cos(5.33376523453 + 1130.2313754934 * t);
-            L0 += 0.00000000188 * Math.cos(2.04023570497 + 1127.0499817557 * t);
-            L0 += 0.00000000174 * Math.cos(2.88817750136 + 25668.418497699 * t);
-            L0 += 0.00000000161 * Math.cos(2.96300008890 + 152.7445908723 * t);
-            L0 += 0.00000000170 * Math.cos(1.70779560770 + 493.303034596 * t);
-            L0 += 0.00000000156 * Math.cos(3.05331862578 + 913.7508863177 * t);
-            L0 += 0.00000000169 * Math.cos(3.18325334507 + 757.8078553652 * t);
-            L0 += 0.00000000145 * Math.cos(0.89672198690 + 632.831923423 * t);
-            L0 += 0.00000000149 * Math.cos(2.69519361988 + 203.2647871304 * t);
-            L0 += 0.00000000167 * Math.cos(2.96547549589 + 1201.831580323 * t);
-            L0 += 0.00000000187 * Math.cos(3.17592113403 + 842.9014410135 * t);
-            L0 += 0.00000000173 * Math.cos(1.91528836350 + 3487.4241132234 * t);
-            L0 += 0.00000000154 * Math.cos(0.37169915171 + 285.1117485887 * t);
-            L0 += 0.00000000198 * Math.cos(3.14620903981 + 640.8604941605 * t);
-            L0 += 0.00000000143 * Math.cos(3.42760427364 + 520.129737539 * t);
-            L0 += 0.00000000157 * Math.cos(2.34913118792 + 5959.570433334 * t);
-            L0 += 0.00000000178 * Math.cos(5.34566184657 + 272.5815756165 * t);
-            L0 += 0.00000000171 * Math.cos(3.34185265551 + 3067.9394693482 * t);
-            L0 += 0.00000000171 * Math.cos(4.87848878292 + 354.5249052944 * t);
-            L0 += 0.00000000189 * Math.cos(0.07069084691 + 1585.8915015461 * t);
-            L0 += 0.00000000137 * Math.cos(1.28925665885 + 214.1022445901 * t);
-            L0 += 0.00000000137 * Math.cos(3.49438482900 + 212.4959462859 * t);
-            L0 += 0.00000000174 * Math.cos(3.07450555579 + 64.9597385808 * t);
-            L0 += 0.00000000181 * Math.cos(0.78652249647 + 657.1627617014 * t);
-            L0 += 0.00000000158 * Math.cos(2.93809799392 + 211.6545640353 * t);
-            L0 += 0.00000000133 * Math.cos(5.70724173596 + 469.7271613599 * t);
-            L0 += 0.00000000140 * Math.cos(0.35530248121 + 219.5188705615 * t);
-            L0 += 0.00000000132 * Math.cos(1.60614108449 + 1372.5924061081 * t);
-            L0 += 0.00000000164 * Math.cos(1.68236348359 + 707.5653378805 * t);
-            L0 += 0.00000000128 * Math.cos(1.49742950959 + 45.2465826386 * t);
-            L0 += 0.00000000132 * Math.cos(4.98075995751 + 238.5718897035 * t);
-            L0 += 0.00000000140 * Math.cos(3.62845435388 + 423.8898778903 * t);
-            L0 += 0.00000000134 * Math.cos(1.41837795083 + 3906.9087570986 * t);
-            L0 += 0.00000000127 * Math.cos(1.48966646069 + 856.3777754897 * t);
-            L0 += 0.00000000158 * Math.cos(2.57990141197 + 369.9758395734 * t);
-            L0 += 0.00000000132 * Math.cos(2.39662455993 + 184.7272873558 * t);
-            L0 += 0.00000000140 * Math.cos(4.36785639279 + 207.0793203145 * t);
-            L0 += 0.00000000157 * Math.cos(4.56655940808 + 251.1714986449 * t);
-            L0 += 0.00000000125 * Math.cos(4.60433583965 + 6076.8903015542 * t);
-            L0 += 0.00000000121 * Math.cos(1.59513269211 + 184.8449074348 * t);
-            L0 += 0.00000000145 * Math.cos(5.85121885906 + 221.8971151471 * t);
-            L0 += 0.00000000137 * Math.cos(0.76499603885 + 476.1069951778 * t);
-            L0 += 0.00000000139 * Math.cos(6.02467582226 + 429.3065038617 * t);
-            L0 += 0.00000000117 * Math.cos(0.23611722307 + 426.7582495704 * t);
-            L0 += 0.00000000117 * Math.cos(3.13382984215 + 426.4381321816 * t);
-            L0 += 0.00000000116 * Math.cos(4.34801448720 + 418.9633790134 * t);
-            L0 += 0.00000000135 * Math.cos(2.69789181467 + 455.1699989582 * t);
-            L0 += 0.00000000134 * Math.cos(1.19058772772 + 502.8642621516 * t);
-            L0 += 0.00000000123 * Math.cos(3.97560160218 + 499.895316735 * t);
-            L0 += 0.00000000110 * Math.cos(2.37032413718 + 439.9315130003 * t);
-            L0 += 0.00000000109 * Math.cos(6.20303291896 + 220.3007678542 * t);
-            L0 += 0.00000000109 * Math.cos(1.38979633175 + 325.9530972122 * t);
-            L0 += 0.00000000115 * Math.cos(0.05845336809 + 631.8205314667 * t);
-            L0 += 0.00000000139 * Math.cos(2.21086387259 + 9573.388259897 * t);
-            L0 += 0.00000000142 * Math.cos(6.14666228712 + 3340.6124266998 * t);
-            L0 += 0.00000000122 * Math.cos(4.77182119272 + 604.4725636619 * t);
-            L0 += 0.00000000119 * Math.cos(3.03461367061 + 528.2064923863 * t);
-            L0 += 0.00000000127 * Math.cos(2.97263950543 + 498.9321088885 * t);
-            L0 += 0.00000000111 * Math.cos(5.01192320232 + 220.2001941177 * t);
-            L0 += 0.00000000126 * Math.cos(3.95743516129 + 566.600160455 * t);
-            L0 += 0.00000000098 * Math.cos(2.36210526249 + 634.2682120215 * t);
-            L0 += 0.00000000108 * Math.cos(2.46872857126 + 83.3796182764 * t);
-            L0 += 0.00000000101 * Math.cos(4.88259474274 + 425.3261664888 * t);
-            L0 += 0.00000000127 * Math.cos(4.89006771254 + 162.0933701068 * t);
-            L0 += 0.00000000099 * Math.cos(0.90073463816 + 586.3133163972 * t);
-            L0 += 0.00000000099 * Math.cos(0.16310526294 + 394.3548619616 * t);
-            L0 += 0.00000000115 * Math.cos(0.49160291262 + 517.1607921224 * t);
-            L0 += 0.00000000101 * Math.cos(3.86043866859 + 198.1087935899 * t);
-            L0 += 0.00000000105 * Math.cos(3.48222097813 + 5863.5912061162 * t);
-            L0 += 0.00000000104 * Math.cos(4.61148354671 + 220.5245170234 * t);
-            L0 += 0.00000000101 * Math.cos(4.77041950285 + 427.8702152632 * t);
-            L0 += 0.00000000098 * Math.cos(2.90784721214 + 199.9657733137 * t);
-            L0 += 0.00000000127 * Math.cos(0.14136936897 + 2332.0629558164 * t);
-            L0 += 0.00000000091 * Math.cos(6.22628300117 + 211.2933578679 * t);
-            L0 += 0.00000000100 * Math.cos(5.14847283436 + 226.7924762567 * t);
-            L0 += 0.00000000091 * Math.cos(4.84054379386 + 215.3048330081 * t);
-            L0 += 0.00000000099 * Math.cos(4.37583492400 + 640.4185511758 * t);
-            L0 += 0.00000000093 * Math.cos(5.30395179617 + 222.7002642992 * t);
-            L0 += 0.00000000086 * Math.cos(4.57481701854 + 636.9765250072 * t);
-            L0 += 0.00000000111 * Math.cos(0.61102669309 + 1089.129394439 * t);
-            L0 += 0.00000000086 * Math.cos(4.50969293872 + 625.8826406335 * t);
-            L0 += 0.00000000088 * Math.cos(0.36828594935 + 444.1242986943 * t);
-            L0 += 0.00000000093 * Math.cos(5.76287499885 + 203.8979265768 * t);
-            L0 += 0.00000000082 * Math.cos(2.85558603378 + 318.8395502114 * t);
-            L0 += 0.00000000082 * Math.cos(5.19618475111 + 1467.8208738005 * t);
-            L0 += 0.00000000086 * Math.cos(0.97633784601 + 200.0352092829 * t);
-            L0 += 0.00000000082 * Math.cos(4.78557953017 + 195.7729876197 * t);
-            L0 += 0.00000000106 * Math.cos(2.29520624233 + 799.6124118352 * t);
-            L0 += 0.00000000081 * Math.cos(3.57727166766 + 205.9731001161 * t);
-            L0 += 0.00000000078 * Math.cos(5.50343512580 + 262.8078997398 * t);
-            L0 += 0.00000000087 * Math.cos(0.76830756075 + 201.9927627432 * t);
-            L0 += 0.00000000102 * Math.cos(2.11516755277 + 206.9363079626 * t);
-            L0 += 0.00000000081 * Math.cos(5.29639775054 + 111.1695290659 * t);
-            L0 += 0.00000000075 * Math.cos(2.77117107886 + 255.8373650909 * t);
-            L0 += 0.00000000074 * Math.cos(5.81587984729 + 316.4400537664 * t);
-            L0 += 0.00000000076 * Math.cos(1.78743197928 + 171.6545976624 * t);
-            L0 += 0.00000000094 * Math.cos(4.99996904753 + 378.6432952517 * t);
-            L0 += 0.00000000089 * Math.cos(5.85818860151 + 807.9497991134 * t);
-            L0 += 0.00000000072 * Math.cos(0.99858616883 + 280.2163874791 * t);
-            L0 += 0.00000000099 * Math.cos(0.15018241445 + 186.2117600641 * t);
-            L0 += 0.00000000072 * Math.cos(5.15715918322 + 110.1581371096 * t);
-        }
-        return L0;
-    }
-
-    public double L1(double t) // 642 terms of order 1
-    {
-        double L1 = 0;
-        L1 += 213.54295595986;
-        L1 += 0.01296855005 * Math.cos(1.82820544701 + 213.299095438 * t);
-        L1 += 0.00564347566 * Math.cos(2.88500136429 + 7.1135470008 * t);
-        L1 += 0.00098323030 * Math.cos(1.08070061328 + 426.598190876 * t);
-        L1 += 0.00107678770 * Math.cos(2.27769911872 + 206.1855484372 * t);
-        L1 += 0.00040254586 * Math.cos(2.04128257090 + 220.4126424388 * t);
-        L1 += 0.00019941734 * Math.cos(1.27954662736 + 103.0927742186 * t);
-        L1 += 0.00010511706 * Math.cos(2.74880392800 + 14.2270940016 * t);
-        L1 += 0.00006939233 * Math.cos(0.40493079985 + 639.897286314 * t);
-        L1 += 0.00004803325 * Math.cos(2.44194097666 + 419.4846438752 * t);
-        L1 += 0.00004056325 * Math.cos(2.92166618776 + 110.2063212194 * t);
-        L1 += 0.00003768630 * Math.cos(3.64965631460 + 3.9321532631 * t);
-        L1 += 0.00003384684 * Math.cos(2.41694251653 + 3.1813937377 * t);
-        L1 += 0.00003302200 * Math.cos(1.26256486715 + 433.7117378768 * t);
-        L1 += 0.00003071382 * Math.cos(2.32739317750 + 199.0720014364 * t);
-        L1 += 0.00001953036 * Math.cos(3.56394683300 + 11.0457002639 * t);
-        L1 += 0.00001249348 * Math.cos(2.62803737519 + 95.9792272178 * t);
-        L1 += 0.00000921683 * Math.cos(1.96089834250 + 227.5261894396 * t);
-        L1 += 0.00000705587 * Math.cos(4.41689249330 + 529.6909650946 * t);
-        L1 += 0.00000649654 * Math.cos(6.17418093659 + 202.2533951741 * t);
-        L1 += 0.00000627603 * Math.cos(6.11088227167 + 309.2783226558 * t);
-        L1 += 0.00000486843 * Math.cos(6.03998200305 + 853.196381752 * t);
-        L1 += 0.00000468377 * Math.cos(4.61707843907 + 63.7358983034 * t);
-        L1 += 0.00000478501 * Math.cos(4.98776987984 + 522.5774180938 * t);
-        L1 += 0.00000417010 * Math.cos(2.11708169277 + 323.5054166574 * t);
-        L1 += 0.00000407630 * Math.cos(1.29949556676 + 209.3669421749 * t);
-        L1 += 0.00000343826 * Math.cos(3.95854178574 + 412.3710968744 * t);
-        L1 += 0.00000339724 * Math.cos(3.63396398752 + 316.3918696566 * t);
-        L1 += 0.00000335936 * Math.cos(3.77173072712 + 735.8765135318 * t);
-        L1 += 0.00000331933 * Math.cos(2.86077699882 + 210.1177017003 * t);
-        L1 += 0.00000352489 * Math.cos(2.31707079463 + 632.7837393132 * t);
-        L1 += 0.00000289429 * Math.cos(2.73263080235 + 117.3198682202 * t);
-        L1 += 0.00000265801 * Math.cos(0.54344631312 + 647.0108333148 * t);
-        L1 += 0.00000230493 * Math.cos(1.64428879621 + 216.4804891757 * t);
-        L1 += 0.00000280911 * Math.cos(5.74398845416 + 2.4476805548 * t);
-        L1 += 0.00000191667 * Math.cos(2.96512946582 + 224.3447957019 * t);
-        L1 += 0.00000172891 * Math.cos(4.07695221044 + 846.0828347512 * t);
-        L1 += 0.00000167131 * Math.cos(2.59745202658 + 21.3406410024 * t);
-        L1 += 0.00000136328 * Math.cos(2.28580246629 + 10.2949407385 * t);
-        L1 += 0.00000131364 * Math.cos(3.44108355646 + 742.9900605326 * t);
-        L1 += 0.00000127838 * Math.cos(4.09533471247 + 217.2312487011 * t);
-        L1 += 0.00000108862 * Math.cos(6.16141072262 + 415.5524906121 * t);
-        L1 += 0.00000093909 * Math.cos(3.48397279899 + 1052.2683831884 * t);
-        L1 += 0.00000092482 * Math.cos(3.94755499926 + 88.865680217 * t);
-        L1 += 0.00000097584 * Math.cos(4.72845436677 + 838.9692877504 * t);
-        L1 += 0.00000086600 * Math.cos(1.21951325061 + 440.8252848776 * t);
-        L1 += 0.00000083463 * Math.cos(3.11269504725 + 625.6701923124 * t);
-        L1 += 0.00000077588 * Math.cos(6.24408938835 + 302.164775655 * t);
-        L1 += 0.00000061557 * Math.cos(1.82789612597 + 195.1398481733 * t);
-        L1 += 0.00000061900 * Math.cos(4.29344363385 + 127.4717966068 * t);
-        L1 += 0.00000067106 * Math.cos(0.28961738595 + 4.665866446 * t);
-        L1 += 0.00000056919 * Math.cos(5.01889578112 + 137.0330241624 * t);
-        L1 += 0.00000054160 * Math.cos(5.12628572382 + 490.3340891794 * t);
-        L1 += 0.00000054585 * Math.cos(0.28356341456 + 74.7815985673 * t);
-        L1 += 0.00000051425 * Math.cos(1.45766406064 + 536.8045120954 * t);
-        L1 += 0.00000065843 * Math.cos(5.64757042732 + 9.5612275556 * t);
-        L1 += 0.00000057780 * Math.cos(2.47630552035 + 191.9584544356 * t);
-        L1 += 0.00000044444 * Math.cos(2.70873627665 + 5.4166259714 * t);
-        L1 += 0.00000046799 * Math.cos(1.17721211050 + 149.5631971346 * t);
-        L1 += 0.00000040380 * Math.cos(3.88870105683 + 728.762966531 * t);
-        L1 += 0.00000037768 * Math.cos(2.53379013859 + 12.5301729722 * t);
-        L1 += 0.00000046649 * Math.cos(5.14818326902 + 515.463871093 * t);
-        L1 += 0.00000045891 * Math.cos(2.23198878761 + 956.2891559706 * t);
-        L1 += 0.00000040400 * Math.cos(0.41281520440 + 269.9214467406 * t);
-        L1 += 0.00000037191 * Math.cos(3.78239026411 + 2.9207613068 * t);
-        L1 += 0.00000033778 * Math.cos(3.21070688046 + 1368.660252845 * t);
-        L1 += 0.00000037969 * Math.cos(0.64665967180 + 422.6660376129 * t);
-        L1 += 0.00000032857 * Math.cos(0.30063884563 + 351.8165923087 * t);
-        L1 += 0.00000033050 * Math.cos(5.43038091186 + 1066.49547719 * t);
-        L1 += 0.00000030276 * Math.cos(2.84067004928 + 203.0041546995 * t);
-        L1 += 0.00000035116 * Math.cos(6.08421794089 + 5.6290742925 * t);
-        L1 += 0.00000029667 * Math.cos(3.39052569135 + 1059.3819301892 * t);
-        L1 += 0.00000033217 * Math.cos(4.64063092111 + 277.0349937414 * t);
-        L1 += 0.00000031876 * Math.cos(4.38622923770 + 1155.361157407 * t);
-        L1 += 0.00000028913 * Math.cos(2.02614760507 + 330.6189636582 * t);
-        L1 += 0.00000028264 * Math.cos(2.74178953996 + 265.9892934775 * t);
-        L1 += 0.00000030089 * Math.cos(6.18684614308 + 284.1485407422 * t);
-        L1 += 0.00000031329 * Math.cos(2.43455855525 + 52.6901980395 * t);
-        L1 += 0.00000026493 * Math.cos(4.51214170121 + 340.7708920448 * t);
-        L1 += 0.00000021983 * Math.cos(5.14437352579 + 4.192785694 * t);
-        L1 += 0.00000022230 * Math.cos(1.96481952451 + 203.7378678824 * t);
-        L1 += 0.00000020824 * Math.cos(6.16048095923 + 860.3099287528 * t);
-        L1 += 0.00000021690 * Math.cos(2.67578768862 + 942.062061969 * t);
-        L1 += 0.00000022552 * Math.cos(5.88579123000 + 210.8514148832 * t);
-        L1 += 0.00000019807 * Math.cos(2.31345263487 + 437.6438911399 * t);
-        L1 += 0.00000019447 * Math.cos(4.76573277668 + 70.8494453042 * t);
-        L1 += 0.00000019310 * Math.cos(4.10209060369 + 18.1592472647 * t);
-        L1 += 0.00000022662 * Math.cos(4.13732273379 + 191.2076949102 * t);
-        L1 += 0.00000018209 * Math.cos(0.90310796389 + 429.7795846137 * t);
-        L1 += 0.00000017667 * Math.cos(1.84954766042 + 234.6397364404 * t);
-        L1 += 0.00000017547 * Math.cos(2.44735118493 + 423.4167971383 * t);
-        L1 += 0.00000015428 * Math.cos(4.23790088205 + 1162.4747044078 * t);
-        L1 += 0.00000014608 * Math.cos(3.59713247857 + 1045.1548361876 * t);
-        L1 += 0.00000014111 * Math.cos(2.94262468353 + 1685.0521225016 * t);
-        L1 += 0.00000016328 * Math.cos(4.05665272725 + 949.1756089698 * t);
-        L1 += 0.00000013348 * Math.cos(6.24509592240 + 38.1330356378 * t);
-        L1 += 0.00000015918 * Math.cos(1.06434204938 + 56.6223513026 * t);
-        L1 += 0.00000014059 * Math.cos(1.43503954068 + 408.4389436113 * t);
-        L1 += 0.00000013093 * Math.cos(5.75815864257 + 138.5174968707 * t);
-        L1 += 0.00000015772 * Math.cos(5.59350835225 + 6.1503391543 * t);
-        L1 += 0.00000014962 * Math.cos(5.77192239389 + 22.0914005278 * t);
-        if (highAccuracy) {
-            L1 += 0.00000016024 * Math.cos(1.93900586533 + 1272.6810256272 * t);
-            L1 += 0.00000016751 * Math.cos(5.96673627422 + 628.8515860501 * t);
-            L1 += 0.00000012843 * Math.cos(4.24658666814 + 405.2575498736 * t);
-            L1 += 0.00000013628 * Math.cos(4.09892958087 + 1471.7530270636 * t);
-            L1 += 0.00000015067 * Math.cos(0.74142807591 + 200.7689224658 * t);
-            L1 += 0.00000010961 * Math.cos(1.55022573283 + 223.5940361765 * t);
-            L1 += 0.00000011695 * Math.cos(1.81237511034 + 124.433415221 * t);
-            L1 += 0.00000010346 * Math.cos(3.46814088412 + 1375.7737998458 * t);
-            L1 += 0.00000012056 * Math.cos(1.85655834555 + 131.4039498699 * t);
-            L1 += 0.00000010123 * Math.cos(2.38221133049 + 107.0249274817 * t);
-            L1 += 0.00000009855 * Math.cos(3.95166998848 + 430.5303441391 * t);
-            L1 += 0.00000009803 * Math.cos(2.55389483994 + 99.9113804809 * t);
-            L1 += 0.00000010614 * Math.cos(5.36692189034 + 215.7467759928 * t);
-            L1 += 0.00000012080 * Math.cos(4.84549317054 + 831.8557407496 * t);
-            L1 += 0.00000010210 * Math.cos(6.07692961370 + 32.2433289144 * t);
-            L1 += 0.00000009245 * Math.cos(3.65417467270 + 142.4496501338 * t);
-            L1 += 0.00000008984 * Math.cos(1.23808405498 + 106.2741679563 * t);
-            L1 += 0.00000009336 * Math.cos(5.81062768434 + 7.1617311106 * t);
-            L1 += 0.00000009717 * Math.cos(1.38703872827 + 145.6310438715 * t);
-            L1 += 0.00000008394 * Math.cos(4.42341211111 + 703.6331846174 * t);
-            L1 += 0.00000008370 * Math.cos(5.64015188458 + 62.2514255951 * t);
-            L1 += 0.00000008244 * Math.cos(2.42225929772 + 1258.4539316256 * t);
-            L1 += 0.00000007784 * Math.cos(0.52562994711 + 654.1243803156 * t);
-            L1 += 0.00000007626 * Math.cos(3.75258725596 + 312.1990839626 * t);
-            L1 += 0.00000007222 * Math.cos(0.28429555677 + 0.7507595254 * t);
-            L1 += 0.00000008236 * Math.cos(6.22250515902 + 14.977853527 * t);
-            L1 += 0.00000007054 * Math.cos(0.53177810740 + 388.4651552382 * t);
-            L1 += 0.00000006567 * Math.cos(3.48657341701 + 35.4247226521 * t);
-            L1 += 0.00000009011 * Math.cos(4.94919626910 + 208.633228992 * t);
-            L1 += 0.00000008980 * Math.cos(0.08138173719 + 288.0806940053 * t);
-            L1 += 0.00000006421 * Math.cos(3.32905264657 + 1361.5467058442 * t);
-            L1 += 0.00000006489 * Math.cos(2.89389587598 + 114.1384744825 * t);
-            L1 += 0.00000006244 * Math.cos(0.54973852782 + 65.2203710117 * t);
-            L1 += 0.00000006154 * Math.cos(2.67885860584 + 2001.4439921582 * t);
-            L1 += 0.00000006742 * Math.cos(0.23586769279 + 8.0767548473 * t);
-            L1 += 0.00000007297 * Math.cos(4.85321224483 + 222.8603229936 * t);
-            L1 += 0.00000006302 * Math.cos(3.80651124694 + 1788.1448967202 * t);
-            L1 += 0.00000005824 * Math.cos(4.39327457448 + 81.7521332162 * t);
-            L1 += 0.00000006102 * Math.cos(0.88585782895 + 92.0470739547 * t);
-            L1 += 0.00000006914 * Math.cos(2.04631426723 + 99.1606209555 * t);
-            L1 += 0.00000005363 * Math.cos(5.47995103139 + 563.6312150384 * t);
-            L1 += 0.00000005172 * Math.cos(2.11968421583 + 214.2623032845 * t);
-            L1 += 0.00000005117 * Math.cos(5.76987684107 + 565.1156877467 * t);
-            L1 += 0.00000006197 * Math.cos(1.62553688800 + 1589.0728952838 * t);
-            L1 += 0.00000004970 * Math.cos(0.41949366126 + 76.2660712756 * t);
-            L1 += 0.00000006640 * Math.cos(5.82582210639 + 483.2205421786 * t);
-            L1 += 0.00000005277 * Math.cos(4.57975789757 + 134.5853436076 * t);
-            L1 += 0.00000004974 * Math.cos(4.20243895902 + 404.5067903482 * t);
-            L1 += 0.00000005150 * Math.cos(4.67582673243 + 212.3358875915 * t);
-            L1 += 0.00000004764 * Math.cos(4.59303997414 + 554.0699874828 * t);
-            L1 += 0.00000004573 * Math.cos(3.24875415786 + 231.4583427027 * t);
-            L1 += 0.00000004811 * Math.cos(0.46206327592 + 362.8622925726 * t);
-            L1 += 0.00000005148 * Math.cos(3.33570646174 + 1.4844727083 * t);
-            L1 += 0.00000004654 * Math.cos(5.80233066659 + 217.964961884 * t);
-            L1 += 0.00000004509 * Math.cos(5.37581684215 + 497.4476361802 * t);
-            L1 += 0.00000004443 * Math.cos(0.11349392292 + 295.0512286542 * t);
-            L1 += 0.00000004943 * Math.cos(3.78020789259 + 1265.5674786264 * t);
-            L1 += 0.00000004211 * Math.cos(4.88306021960 + 98.8999885246 * t);
-            L1 += 0.00000004252 * Math.cos(5.00120115113 + 213.3472795478 * t);
-            L1 += 0.00000004774 * Math.cos(4.53259894142 + 1148.2476104062 * t);
-            L1 += 0.00000003911 * Math.cos(0.58582192963 + 750.1036075334 * t);
-            L1 += 0.00000005069 * Math.cos(2.20305668335 + 207.8824694666 * t);
-            L1 += 0.00000003553 * Math.cos(0.35374030841 + 333.657345044 * t);
-            L1 += 0.00000003771 * Math.cos(0.98542435766 + 24.3790223882 * t);
-            L1 += 0.00000003458 * Math.cos(1.84990273999 + 225.8292684102 * t);
-            L1 += 0.00000003401 * Math.cos(5.31342401626 + 347.8844390456 * t);
-            L1 += 0.00000003347 * Math.cos(0.21414641376 + 635.9651330509 * t);
-            L1 += 0.00000003637 * Math.cos(1.61315058382 + 245.5424243524 * t);
-            L1 += 0.00000003416 * Math.cos(2.19551489078 + 1574.8458012822 * t);
-            L1 += 0.00000003655 * Math.cos(0.80544245690 + 343.2185725996 * t);
-            L1 += 0.00000004260 * Math.cos(1.80258750109 + 213.2509113282 * t);
-            L1 += 0.00000003110 * Math.cos(3.03815175282 + 1677.9385755008 * t);
-            L1 += 0.00000003052 * Math.cos(1.33858964447 + 543.9180590962 * t);
-            L1 += 0.00000003694 * Math.cos(0.81606028298 + 344.7030453079 * t);
-            L1 += 0.00000003016 * Math.cos(3.36219319026 + 7.8643065262 * t);
-            L1 += 0.00000002937 * Math.cos(4.86927342776 + 144.1465711632 * t);
-            L1 += 0.00000002768 * Math.cos(2.42707131609 + 2317.8358618148 * t);
-            L1 += 0.00000003059 * Math.cos(4.30820099442 + 6062.6632075526 * t);
-            L1 += 0.00000003650 * Math.cos(5.12802531219 + 218.9281697305 * t);
-            L1 += 0.00000002963 * Math.cos(3.53480751374 + 2104.5367663768 * t);
-            L1 += 0.00000003230 * Math.cos(2.88057019783 + 216.2198567448 * t);
-            L1 += 0.00000002984 * Math.cos(2.52971310583 + 1692.1656695024 * t);
-            L1 += 0.00000002897 * Math.cos(5.73256482240 + 9992.8729037722 * t);
-            L1 += 0.00000002591 * Math.cos(3.79880285744 + 17.2654753874 * t);
-            L1 += 0.00000003495 * Math.cos(5.29902525443 + 350.3321196004 * t);
-            L1 += 0.00000002859 * Math.cos(3.72804950659 + 6076.8903015542 * t);
-            L1 += 0.00000002775 * Math.cos(0.23549396237 + 357.4456666012 * t);
-            L1 += 0.00000002976 * Math.cos(2.48769315964 + 46.470422916 * t);
-            L1 += 0.00000002487 * Math.cos(4.37868078530 + 217.491881132 * t);
-            L1 += 0.00000002711 * Math.cos(5.15376840150 + 10007.0999977738 * t);
-            L1 += 0.00000003127 * Math.cos(1.92343235583 + 17.4084877393 * t);
-            L1 += 0.00000003181 * Math.cos(1.72419900322 + 1169.5882514086 * t);
-            L1 += 0.00000002348 * Math.cos(0.77373103004 + 414.0680179038 * t);
-            L1 += 0.00000002606 * Math.cos(3.42836913440 + 31.019488637 * t);
-            L1 += 0.00000002556 * Math.cos(0.91735028377 + 479.2883889155 * t);
-            L1 += 0.00000002399 * Math.cos(4.82440545738 + 1279.794572628 * t);
-            L1 += 0.00000002245 * Math.cos(3.76323995584 + 425.1137181677 * t);
-            L1 += 0.00000003020 * Math.cos(0.25310250109 + 120.358249606 * t);
-            L1 += 0.00000002503 * Math.cos(2.10679832121 + 168.0525127994 * t);
-            L1 += 0.00000002564 * Math.cos(1.63158205055 + 182.279606801 * t);
-            L1 += 0.00000002221 * Math.cos(3.15472373256 + 212.7778305762 * t);
-            L1 += 0.00000002357 * Math.cos(2.33145013714 + 218.7157214094 * t);
-            L1 += 0.00000002510 * Math.cos(4.51903989011 + 198.321241911 * t);
-            L1 += 0.00000002715 * Math.cos(5.76330259543 + 618.5566453116 * t);
-            L1 += 0.00000002204 * Math.cos(3.35952557362 + 160.6088973985 * t);
-            L1 += 0.00000002648 * Math.cos(0.71962005233 + 85.8272988312 * t);
-            L1 += 0.00000002029 * Math.cos(5.28642331696 + 125.9873238985 * t);
-            L1 += 0.00000002497 * Math.cos(1.36671447252 + 1905.4647649404 * t);
-            L1 += 0.00000002017 * Math.cos(1.11498225426 + 447.9388318784 * t);
-            L1 += 0.00000002052 * Math.cos(1.27587874735 + 14.0146456805 * t);
-            L1 += 0.00000002254 * Math.cos(3.22447674190 + 273.1028404783 * t);
-            L1 += 0.00000002014 * Math.cos(0.39787014152 + 358.9301393095 * t);
-            L1 += 0.00000001981 * Math.cos(2.33696859021 + 28.4541880032 * t);
-            L1 += 0.00000002197 * Math.cos(5.93386789705 + 13.3333221243 * t);
-            L1 += 0.00000002237 * Math.cos(3.64433751164 + 213.8203602998 * t);
-            L1 += 0.00000001930 * Math.cos(1.85671740340 + 1.2720243872 * t);
-            L1 += 0.00000002037 * Math.cos(5.05300562628 + 424.1505103212 * t);
-            L1 += 0.00000001994 * Math.cos(1.35690802366 + 20.6069278195 * t);
-            L1 += 0.00000001911 * Math.cos(3.44106886717 + 69.1525242748 * t);
-            L1 += 0.00000001925 * Math.cos(3.75243031545 + 28.3111756513 * t);
-            L1 += 0.00000002297 * Math.cos(4.24557050896 + 1464.6394800628 * t);
-            L1 += 0.00000002117 * Math.cos(2.25897766314 + 116.4260963429 * t);
-            L1 += 0.00000001847 * Math.cos(5.40631472802 + 31.492569389 * t);
-            L1 += 0.00000001841 * Math.cos(1.56916484272 + 650.9429865779 * t);
-            L1 += 0.00000001884 * Math.cos(6.27233535258 + 25.1297819136 * t);
-            L1 += 0.00000001960 * Math.cos(4.89484014840 + 275.5505210331 * t);
-            L1 += 0.00000002016 * Math.cos(5.45791785675 + 842.1506814881 * t);
-            L1 += 0.00000002282 * Math.cos(4.96276947440 + 258.8757464767 * t);
-            L1 += 0.00000001709 * Math.cos(3.99098237135 + 416.3032501375 * t);
-            L1 += 0.00000002176 * Math.cos(0.00746756006 + 0.8937718773 * t);
-            L1 += 0.00000001634 * Math.cos(5.30978165487 + 251.4321310758 * t);
-            L1 += 0.00000001687 * Math.cos(0.41586020065 + 54.1746707478 * t);
-            L1 += 0.00000001910 * Math.cos(2.59825755790 + 329.7251917809 * t);
-            L1 += 0.00000002113 * Math.cos(2.56582292726 + 59.8037450403 * t);
-            L1 += 0.00000001921 * Math.cos(2.42279051938 + 113.3877149571 * t);
-            L1 += 0.00000001658 * Math.cos(5.47323651540 + 1073.6090241908 * t);
-            L1 += 0.00000001590 * Math.cos(2.77545297350 + 1994.3304451574 * t);
-            L1 += 0.00000001936 * Math.cos(3.47558926847 + 1581.959348283 * t);
-            L1 += 0.00000001649 * Math.cos(1.82779010589 + 128.9562693151 * t);
-            L1 += 0.00000001598 * Math.cos(1.71806465300 + 129.9194771616 * t);
-            L1 += 0.00000001967 * Math.cos(1.25160413795 + 621.7380390493 * t);
-            L1 += 0.00000001702 * Math.cos(1.91076102800 + 278.5194664497 * t);
-            L1 += 0.00000001569 * Math.cos(0.16491194947 + 643.0786800517 * t);
-            L1 += 0.00000001989 * Math.cos(5.28799230992 + 508.3503240922 * t);
-            L1 += 0.00000001520 * Math.cos(0.56950979689 + 320.3240229197 * t);
-            L1 += 0.00000001501 * Math.cos(1.99815894193 + 1891.2376709388 * t);
-            L1 += 0.00000001532 * Math.cos(3.27362317849 + 2420.9286360334 * t);
-            L1 += 0.00000001701 * Math.cos(2.72041261115 + 767.3690829208 * t);
-            L1 += 0.00000001561 * Math.cos(6.09424459628 + 280.9671470045 * t);
-            L1 += 0.00000001331 * Math.cos(4.20944443790 + 546.956440482 * t);
-            L1 += 0.00000001381 * Math.cos(2.06768100830 + 192.6921676185 * t);
-            L1 += 0.00000001368 * Math.cos(6.28049502257 + 1795.258443721 * t);
-            L1 += 0.00000001519 * Math.cos(2.20299556153 + 2008.557539159 * t);
-            L1 += 0.00000001356 * Math.cos(4.01521042413 + 721.6494195302 * t);
-            L1 += 0.00000001296 * Math.cos(4.84815978742 + 45.5766510387 * t);
-            L1 += 0.00000001267 * Math.cos(5.28146654999 + 173.9422195228 * t);
-            L1 += 0.00000001402 * Math.cos(6.12951551550 + 39.3568759152 * t);
-            L1 += 0.00000001252 * Math.cos(2.19169926554 + 2634.2277314714 * t);
-            L1 += 0.00000001466 * Math.cos(4.16354845643 + 26.826702943 * t);
-            L1 += 0.00000001285 * Math.cos(3.76170874847 + 2.2876218604 * t);
-            L1 += 0.00000001500 * Math.cos(5.41022492529 + 214.0498549634 * t);
-            L1 += 0.00000001396 * Math.cos(4.78595583428 + 219.4494345923 * t);
-            L1 += 0.00000001430 * Math.cos(0.70934745161 + 254.9435932136 * t);
-            L1 += 0.00000001195 * Math.cos(3.71281085322 + 264.5048207692 * t);
-            L1 += 0.00000001181 * Math.cos(0.42635230882 + 41.6444977756 * t);
-            L1 += 0.00000001190 * Math.cos(2.02079286787 + 1485.9801210652 * t);
-            L1 += 0.00000001160 * Math.cos(5.23649231796 + 181.0557665236 * t);
-            L1 += 0.00000001535 * Math.cos(3.62746990294 + 561.1835344836 * t);
-            L1 += 0.00000001120 * Math.cos(1.09127922130 + 6.592282139 * t);
-            L1 += 0.00000001100 * Math.cos(0.27844612141 + 184.0941479094 * t);
-            L1 += 0.00000001227 * Math.cos(1.39969681270 + 209.106309744 * t);
-            L1 += 0.00000001353 * Math.cos(6.12903657666 + 207.6700211455 * t);
-            L1 += 0.00000001124 * Math.cos(6.05105541765 + 291.262087743 * t);
-            L1 += 0.00000001194 * Math.cos(4.79565407023 + 1478.8665740644 * t);
-            L1 += 0.00000001082 * Math.cos(4.73602931755 + 78.7137518304 * t);
-            L1 += 0.00000001202 * Math.cos(3.47301104146 + 51.2057253312 * t);
-            L1 += 0.00000001298 * Math.cos(2.34761557822 + 210.3783341312 * t);
-            L1 += 0.00000001166 * Math.cos(4.20037524355 + 417.0369633204 * t);
-            L1 += 0.00000001228 * Math.cos(3.94985981275 + 1781.0313497194 * t);
-            L1 += 0.00000001401 * Math.cos(2.41318931513 + 636.7158925763 * t);
-            L1 += 0.00000001009 * Math.cos(6.17414889934 + 2111.6503133776 * t);
-            L1 += 0.00000001084 * Math.cos(3.68958647346 + 274.0660483248 * t);
-            L1 += 0.00000001068 * Math.cos(0.80258823981 + 436.8931316145 * t);
-            L1 += 0.00000001007 * Math.cos(3.42792508860 + 629.6023455755 * t);
-            L1 += 0.00000000998 * Math.cos(5.57130056835 + 205.2223405907 * t);
-            L1 += 0.00000001058 * Math.cos(1.05742945779 + 237.6781178262 * t);
-            L1 += 0.00000001020 * Math.cos(3.33667290300 + 166.828672522 * t);
-            L1 += 0.00000000965 * Math.cos(6.08359503243 + 601.7642506762 * t);
-            L1 += 0.00000001005 * Math.cos(3.56310748091 + 643.8294395771 * t);
-            L1 += 0.00000000987 * Math.cos(0.97129012811 + 305.3461693927 * t);
-            L1 += 0.00000000927 * Math.cos(3.87717400791 + 135.336103133 * t);
-            L1 += 0.00000001129 * Math.cos(5.94840103961 + 196.6243208816 * t);
-            L1 += 0.00000001118 * Math.cos(5.25415059584 + 189.7232222019 * t);
-            L1 += 0.00000001200 * Math.cos(1.16671933467 + 2221.856634597 * t);
-            L1 += 0.00000000909 * Math.cos(2.14001565047 + 617.8058857862 * t);
-            L1 += 0.00000000899 * Math.cos(2.31811625712 + 312.4597163935 * t);
-            L1 += 0.00000001081 * Math.cos(0.91006048421 + 313.2104759189 * t);
-            L1 += 0.00000000891 * Math.cos(3.74923531791 + 916.9322800554 * t);
-            L1 += 0.00000000886 * Math.cos(4.76066858907 + 776.9303104764 * t);
-            L1 += 0.00000000912 * Math.cos(0.99592540858 + 491.8185618877 * t);
-            L1 += 0.00000000880 * Math.cos(3.67349449376 + 25.2727942655 * t);
-            L1 += 0.00000001203 * Math.cos(1.39749267410 + 337.732510659 * t);
-            L1 += 0.00000000867 * Math.cos(0.11684071625 + 267.4737661858 * t);
-            L1 += 0.00000000879 * Math.cos(6.12222682852 + 867.4234757536 * t);
-            L1 += 0.00000001080 * Math.cos(0.15038819285 + 175.1660598002 * t);
-            L1 += 0.00000000988 * Math.cos(3.12456192471 + 214.7835681463 * t);
-            L1 += 0.00000000889 * Math.cos(4.70508769146 + 148.0787244263 * t);
-            L1 += 0.00000000827 * Math.cos(6.08977582217 + 488.8496164711 * t);
-            L1 += 0.00000000889 * Math.cos(5.05124166027 + 220.4608265486 * t);
-            L1 += 0.00000000828 * Math.cos(6.27262544155 + 1382.8873468466 * t);
-            L1 += 0.00000001040 * Math.cos(5.76735098196 + 501.3797894433 * t);
-            L1 += 0.00000001103 * Math.cos(0.48706477230 + 692.5874843535 * t);
-            L1 += 0.00000000810 * Math.cos(2.50362385080 + 2310.722314814 * t);
-            L1 += 0.00000000850 * Math.cos(4.55410385197 + 77.962992305 * t);
-            L1 += 0.00000001108 * Math.cos(5.31792012163 + 235.3904959658 * t);
-            L1 += 0.00000000790 * Math.cos(0.89213206336 + 342.2553647531 * t);
-            L1 += 0.00000000775 * Math.cos(2.85873930879 + 211.8146227297 * t);
-            L1 += 0.00000000842 * Math.cos(2.99884993009 + 2737.32050569 * t);
-            L1 += 0.00000000784 * Math.cos(0.05748459240 + 543.0242872189 * t);
-            L1 += 0.00000000754 * Math.cos(5.18317747668 + 244.318584075 * t);
-            L1 += 0.00000000969 * Math.cos(1.31760425414 + 486.4019359163 * t);
-            L1 += 0.00000000943 * Math.cos(5.48641674428 + 339.2864193365 * t);
-            L1 += 0.00000000759 * Math.cos(6.25347177163 + 151.0476698429 * t);
-            L1 += 0.00000000710 * Math.cos(2.41619968810 + 247.2393453818 * t);
-            L1 += 0.00000000794 * Math.cos(2.59522645936 + 1.6445314027 * t);
-            L1 += 0.00000000857 * Math.cos(1.99318788624 + 248.7238180901 * t);
-            L1 += 0.00000000717 * Math.cos(4.56798357445 + 121.2520214833 * t);
-            L1 += 0.00000000671 * Math.cos(2.50955477476 + 444.7574381407 * t);
-            L1 += 0.00000000683 * Math.cos(5.51033310275 + 487.3651437628 * t);
-            L1 += 0.00000000684 * Math.cos(0.01892628603 + 228.276948965 * t);
-            L1 += 0.00000000665 * Math.cos(1.47172657769 + 427.5613987225 * t);
-            L1 += 0.00000000761 * Math.cos(4.61079808671 + 23.5758732361 * t);
-            L1 += 0.00000000807 * Math.cos(3.21513718120 + 1898.3512179396 * t);
-            L1 += 0.00000000645 * Math.cos(1.92436523628 + 2950.619601128 * t);
-            L1 += 0.00000000624 * Math.cos(6.05830190539 + 241.6102710893 * t);
-            L1 += 0.00000000699 * Math.cos(4.02804515616 + 425.6349830295 * t);
-            L1 += 0.00000000624 * Math.cos(5.85966148394 + 696.5196376166 * t);
-            L1 += 0.00000000620 * Math.cos(1.86426453489 + 2207.6295405954 * t);
-            L1 += 0.00000000641 * Math.cos(5.69868017561 + 319.5732633943 * t);
-            L1 += 0.00000000646 * Math.cos(3.78920578728 + 1038.0412891868 * t);
-            L1 += 0.00000000672 * Math.cos(2.54160055954 + 271.4059194489 * t);
-            L1 += 0.00000000768 * Math.cos(1.80484245332 + 2324.9494088156 * t);
-            L1 += 0.00000000737 * Math.cos(1.50539891226 + 268.4369740323 * t);
-            L1 += 0.00000000836 * Math.cos(1.26583811010 + 212.5483359126 * t);
-            L1 += 0.00000000753 * Math.cos(5.27536166240 + 204.7010757289 * t);
-            L1 += 0.00000000633 * Math.cos(2.19920009577 + 1802.3719907218 * t);
-            L1 += 0.00000000720 * Math.cos(2.58587107868 + 472.1748419147 * t);
-            L1 += 0.00000000683 * Math.cos(3.83223866420 + 43.2890291783 * t);
-            L1 += 0.00000000740 * Math.cos(6.21601938401 + 556.5176680376 * t);
-            L1 += 0.00000000795 * Math.cos(1.14460330178 + 381.3516082374 * t);
-            L1 += 0.00000000678 * Math.cos(3.65930963429 + 2097.423219376 * t);
-            L1 += 0.00000000568 * Math.cos(5.92158661090 + 2428.0421830342 * t);
-            L1 += 0.00000000570 * Math.cos(1.18024241664 + 131.5469622218 * t);
-            L1 += 0.00000000566 * Math.cos(4.74157739398 + 380.12776796 * t);
-            L1 += 0.00000000586 * Math.cos(5.71168743146 + 570.7447620392 * t);
-            L1 += 0.00000000550 * Math.cos(4.92413290959 + 188.9200730498 * t);
-            L1 += 0.00000000712 * Math.cos(2.69456114358 + 16.6747745564 * t);
-            L1 += 0.00000000545 * Math.cos(5.38725529600 + 206.233732547 * t);
-            L1 += 0.00000000572 * Math.cos(5.79167804981 + 195.8906076987 * t);
-            L1 += 0.00000000602 * Math.cos(5.81756794592 + 963.4027029714 * t);
-            L1 += 0.00000000588 * Math.cos(4.25026865253 + 426.6463749858 * t);
-            L1 += 0.00000000563 * Math.cos(3.28295055824 + 193.655375465 * t);
-            L1 += 0.00000000583 * Math.cos(5.44099997963 + 526.5095713569 * t);
-            L1 += 0.00000000679 * Math.cos(4.45748326743 + 105.5404547734 * t);
-            L1 += 0.00000000516 * Math.cos(5.99843937287 + 289.5651667136 * t);
-            L1 += 0.00000000520 * Math.cos(2.19322568805 + 180.1619946463 * t);
-            L1 += 0.00000000543 * Math.cos(4.19333695628 + 213.1872208534 * t);
-            L1 += 0.00000000586 * Math.cos(3.03470168346 + 6275.9623029906 * t);
-            L1 += 0.00000000572 * Math.cos(3.96788877624 + 140.001969579 * t);
-            L1 += 0.00000000611 * Math.cos(4.15392239870 + 436.1594184316 * t);
-            L1 += 0.00000000505 * Math.cos(2.95739392583 + 135.5485514541 * t);
-            L1 += 0.00000000587 * Math.cos(4.55320395537 + 5863.5912061162 * t);
-            L1 += 0.00000000492 * Math.cos(2.71595874382 + 84.9335269539 * t);
-            L1 += 0.00000000576 * Math.cos(5.98300938454 + 9793.8009023358 * t);
-            L1 += 0.00000000489 * Math.cos(5.68450383182 + 533.6231183577 * t);
-            L1 += 0.00000000519 * Math.cos(3.09688510923 + 327.4375699205 * t);
-            L1 += 0.00000000486 * Math.cos(5.24220804875 + 5849.3641121146 * t);
-            L1 += 0.00000000475 * Math.cos(4.51295931678 + 411.620337349 * t);
-            L1 += 0.00000000540 * Math.cos(4.44843952768 + 10206.1719992102 * t);
-            L1 += 0.00000000479 * Math.cos(0.87707794164 + 207.1487562837 * t);
-            L1 += 0.00000000468 * Math.cos(0.46572028197 + 306.0969289181 * t);
-            L1 += 0.00000000586 * Math.cos(0.86387928244 + 2538.2485042536 * t);
-            L1 += 0.00000000475 * Math.cos(6.19152982788 + 397.3932433474 * t);
-            L1 += 0.00000000541 * Math.cos(1.47958133221 + 42.5382696529 * t);
-            L1 += 0.00000000496 * Math.cos(6.07879620658 + 576.1613880106 * t);
-            L1 += 0.00000000447 * Math.cos(2.59259132013 + 7.2254215854 * t);
-            L1 += 0.00000000445 * Math.cos(5.06827300470 + 778.4147831847 * t);
-            L1 += 0.00000000560 * Math.cos(0.00461017471 + 221.3758502853 * t);
-            L1 += 0.00000000456 * Math.cos(4.60143715337 + 710.7467316182 * t);
-            L1 += 0.00000000449 * Math.cos(5.79223649465 + 685.4739373527 * t);
-            L1 += 0.00000000501 * Math.cos(1.91370965325 + 831.1049812242 * t);
-            L1 += 0.00000000595 * Math.cos(4.90329839607 + 824.7421937488 * t);
-            L1 += 0.00000000447 * Math.cos(4.88662794571 + 429.0458714308 * t);
-            L1 += 0.00000000445 * Math.cos(1.74764943142 + 525.7588118315 * t);
-            L1 += 0.00000000457 * Math.cos(0.80892712530 + 458.8415197904 * t);
-            L1 += 0.00000000543 * Math.cos(2.60317945475 + 213.4109700226 * t);
-            L1 += 0.00000000493 * Math.cos(0.61947189193 + 41.0537969446 * t);
-            L1 += 0.00000000455 * Math.cos(2.69847252264 + 3053.7123753466 * t);
-            L1 += 0.00000000429 * Math.cos(3.89071982978 + 92.7978334801 * t);
-            L1 += 0.00000000411 * Math.cos(1.34981168865 + 27.0873353739 * t);
-            L1 += 0.00000000448 * Math.cos(1.84775051361 + 980.6681783588 * t);
-            L1 += 0.00000000445 * Math.cos(4.21745990439 + 905.8865797915 * t);
-            L1 += 0.00000000403 * Math.cos(2.33067250642 + 2627.1141844706 * t);
-            L1 += 0.00000000404 * Math.cos(5.00179215709 + 431.264057322 * t);
-            L1 += 0.00000000384 * Math.cos(1.65634584042 + 241.7532834412 * t);
-            L1 += 0.00000000410 * Math.cos(0.76907037678 + 395.578702239 * t);
-            L1 += 0.00000000456 * Math.cos(1.98353741244 + 213.5115437591 * t);
-            L1 += 0.00000000459 * Math.cos(2.04878772547 + 285.6330134505 * t);
-            L1 += 0.00000000396 * Math.cos(5.04141834913 + 298.2326223919 * t);
-            L1 += 0.00000000377 * Math.cos(5.68073822097 + 2744.4340526908 * t);
-            L1 += 0.00000000415 * Math.cos(4.41600504868 + 179.3588454942 * t);
-            L1 += 0.00000000396 * Math.cos(4.29872851950 + 206.706813299 * t);
-            L1 += 0.00000000389 * Math.cos(5.69091953122 + 849.2642284889 * t);
-            L1 += 0.00000000369 * Math.cos(1.36192003466 + 835.0371344873 * t);
-            L1 += 0.00000000374 * Math.cos(0.41402282126 + 9779.5738083342 * t);
-            L1 += 0.00000000379 * Math.cos(1.72255764532 + 184.9879197867 * t);
-            L1 += 0.00000000365 * Math.cos(5.88205574821 + 19.643719973 * t);
-            L1 += 0.00000000456 * Math.cos(4.81297899859 + 213.0866471169 * t);
-            L1 += 0.00000000359 * Math.cos(1.06819138836 + 206.1373643274 * t);
-            L1 += 0.00000000367 * Math.cos(1.14184327929 + 569.0478410098 * t);
-            L1 += 0.00000000352 * Math.cos(3.04388401587 + 638.4128136057 * t);
-            L1 += 0.00000000463 * Math.cos(1.55834877017 + 421.1815649046 * t);
-            L1 += 0.00000000459 * Math.cos(5.34648461645 + 699.7010313543 * t);
-            L1 += 0.00000000383 * Math.cos(4.05921035379 + 739.8086667949 * t);
-            L1 += 0.00000000354 * Math.cos(1.09760553168 + 738.7972748386 * t);
-            L1 += 0.00000000382 * Math.cos(0.05348541587 + 252.6559713532 * t);
-            L1 += 0.00000000344 * Math.cos(1.18536656224 + 439.1283638482 * t);
-            L1 += 0.00000000382 * Math.cos(2.10483762147 + 532.6117264014 * t);
-            L1 += 0.00000000361 * Math.cos(0.50215018154 + 50.4025761791 * t);
-            L1 += 0.00000000351 * Math.cos(3.49546336297 + 1354.4331588434 * t);
-            L1 += 0.00000000395 * Math.cos(4.26278871560 + 432.2272651685 * t);
-            L1 += 0.00000000345 * Math.cos(2.38455893509 + 426.0769260142 * t);
-            L1 += 0.00000000350 * Math.cos(1.51541607946 + 259.769518354 * t);
-            L1 += 0.00000000426 * Math.cos(5.29998227949 + 934.9485149682 * t);
-            L1 += 0.00000000339 * Math.cos(5.59774645356 + 519.3960243561 * t);
-            L1 += 0.00000000388 * Math.cos(3.40083809779 + 2413.8150890326 * t);
-            L1 += 0.00000000324 * Math.cos(3.68352014131 + 72.0732855816 * t);
-            L1 += 0.00000000323 * Math.cos(1.79597508586 + 405.9912630565 * t);
-            L1 += 0.00000000366 * Math.cos(3.56764349139 + 1119.1856752295 * t);
-            L1 += 0.00000000358 * Math.cos(4.11241839677 + 37.8724032069 * t);
-            L1 += 0.00000000423 * Math.cos(1.45116702108 + 2641.3412784722 * t);
-            L1 += 0.00000000314 * Math.cos(0.68465789313 + 757.2171545342 * t);
-            L1 += 0.00000000320 * Math.cos(3.12697568936 + 945.9942152321 * t);
-            L1 += 0.00000000338 * Math.cos(4.89782013581 + 898.7730327907 * t);
-            L1 += 0.00000000319 * Math.cos(5.76881401291 + 69.3649725959 * t);
-            L1 += 0.00000000310 * Math.cos(5.35598720822 + 815.0633461142 * t);
-            L1 += 0.00000000369 * Math.cos(4.46143610142 + 421.93232443 * t);
-            L1 += 0.00000000311 * Math.cos(2.19275640712 + 5856.4776591154 * t);
-            L1 += 0.00000000306 * Math.cos(2.99917010799 + 1130.2313754934 * t);
-            L1 += 0.00000000330 * Math.cos(0.64102961163 + 558.0021407459 * t);
-            L1 += 0.00000000305 * Math.cos(0.40963115602 + 661.2379273164 * t);
-            L1 += 0.00000000320 * Math.cos(3.29267319940 + 760.25553592 * t);
-            L1 += 0.00000000298 * Math.cos(5.48693246086 + 702.1487119091 * t);
-            L1 += 0.00000000352 * Math.cos(2.18179692198 + 2118.7638603784 * t);
-            L1 += 0.00000000299 * Math.cos(5.94980651345 + 572.2292347475 * t);
-            L1 += 0.00000000343 * Math.cos(2.62900083650 + 213.5597278689 * t);
-            L1 += 0.00000000296 * Math.cos(4.12563821701 + 73.297125859 * t);
-            L1 += 0.00000000360 * Math.cos(2.94387423457 + 2214.7430875962 * t);
-            L1 += 0.00000000293 * Math.cos(5.71837797264 + 60.7669528868 * t);
-            L1 += 0.00000000326 * Math.cos(1.93806509331 + 480.7728616238 * t);
-            L1 += 0.00000000335 * Math.cos(2.60120542851 + 518.3846323998 * t);
-            L1 += 0.00000000322 * Math.cos(2.89685459163 + 427.1194557378 * t);
-            L1 += 0.00000000367 * Math.cos(2.20489848330 + 518.6452648307 * t);
-            L1 += 0.00000000361 * Math.cos(3.31464351282 + 630.3360587584 * t);
-            L1 += 0.00000000288 * Math.cos(0.87760478150 + 887.7273325268 * t);
-            L1 += 0.00000000290 * Math.cos(0.24071300709 + 705.1176573257 * t);
-            L1 += 0.00000000332 * Math.cos(5.96464701829 + 100.6450936638 * t);
-            L1 += 0.00000000284 * Math.cos(1.58760551116 + 681.5417840896 * t);
-            L1 += 0.00000000281 * Math.cos(1.68339116394 + 3267.0114707846 * t);
-            L1 += 0.00000000287 * Math.cos(3.54730637851 + 756.3233826569 * t);
-            L1 += 0.00000000331 * Math.cos(2.74250642576 + 22.8945496799 * t);
-            L1 += 0.00000000281 * Math.cos(4.79802388453 + 409.9234163196 * t);
-            L1 += 0.00000000372 * Math.cos(1.08754087151 + 426.5500067662 * t);
-            L1 += 0.00000000340 * Math.cos(0.59629116557 + 627.3671133418 * t);
-            L1 += 0.00000000325 * Math.cos(4.07319450014 + 511.5317178299 * t);
-            L1 += 0.00000000273 * Math.cos(0.71334827688 + 305.0855369618 * t);
-            L1 += 0.00000000272 * Math.cos(1.76124839309 + 945.2434557067 * t);
-            L1 += 0.00000000295 * Math.cos(4.00327005783 + 432.7485300303 * t);
-            L1 += 0.00000000271 * Math.cos(5.28903262032 + 1080.7225711916 * t);
-            L1 += 0.00000000276 * Math.cos(3.89192411657 + 610.6923387854 * t);
-            L1 += 0.00000000294 * Math.cos(2.80121651058 + 724.8308132679 * t);
-            L1 += 0.00000000319 * Math.cos(5.24824059915 + 229.9738699944 * t);
-            L1 += 0.00000000264 * Math.cos(2.36406383589 + 731.9443602687 * t);
-            L1 += 0.00000000288 * Math.cos(4.67818844930 + 170.7608257851 * t);
-            L1 += 0.00000000326 * Math.cos(3.81328980623 + 525.4981794006 * t);
-            L1 += 0.00000000283 * Math.cos(3.52027709716 + 319.3126309634 * t);
-            L1 += 0.00000000264 * Math.cos(0.25871603855 + 494.2662424425 * t);
-            L1 += 0.00000000261 * Math.cos(4.08135671345 + 25.8634950965 * t);
-            L1 += 0.00000000296 * Math.cos(4.49129913731 + 693.55069220 * t);
-            L1 += 0.00000000292 * Math.cos(0.65370180027 + 25867.49049913539 * t);
-            L1 += 0.00000000292 * Math.cos(0.12510953311 + 25881.717593137 * t);
-            L1 += 0.00000000254 * Math.cos(4.03912322565 + 990.2294059144 * t);
-            L1 += 0.00000000288 * Math.cos(3.98604904657 + 707.7777862016 * t);
-            L1 += 0.00000000285 * Math.cos(1.92328297431 + 3134.4268782626 * t);
-            L1 += 0.00000000284 * Math.cos(2.45411523294 + 3120.199784261 * t);
-            L1 += 0.00000000256 * Math.cos(3.63282757780 + 430.79097657 * t);
-            L1 += 0.00000000283 * Math.cos(2.51091647682 + 286.596221297 * t);
-            L1 += 0.00000000325 * Math.cos(4.33261281211 + 732.6951197941 * t);
-            L1 += 0.00000000264 * Math.cos(0.05450228136 + 650.1922270525 * t);
-            L1 += 0.00000000273 * Math.cos(4.90735780421 + 409.1897031367 * t);
-            L1 += 0.00000000304 * Math.cos(4.61759348542 + 468.2426886516 * t);
-            L1 += 0.00000000285 * Math.cos(5.72467903890 + 33.9402499438 * t);
-            L1 += 0.00000000242 * Math.cos(5.28336514054 + 403.0223176399 * t);
-            L1 += 0.00000000270 * Math.cos(0.51583145648 + 263.7016716171 * t);
-            L1 += 0.00000000263 * Math.cos(4.81670787366 + 1055.4497769261 * t);
-            L1 += 0.00000000237 * Math.cos(2.92617048443 + 913.9633346388 * t);
-            L1 += 0.00000000246 * Math.cos(2.19675150666 + 2943.5060541272 * t);
-            L1 += 0.00000000278 * Math.cos(4.58404840578 + 398.1440028728 * t);
-            L1 += 0.00000000234 * Math.cos(2.64374114605 + 739.0579072695 * t);
-            L1 += 0.00000000229 * Math.cos(3.80445074468 + 58.1068240109 * t);
-            L1 += 0.00000000300 * Math.cos(2.06111081979 + 429.5189521828 * t);
-            L1 += 0.00000000223 * Math.cos(3.39888651505 + 188.0263011725 * t);
-            L1 += 0.00000000301 * Math.cos(2.96411385108 + 624.919432787 * t);
-            L1 += 0.00000000221 * Math.cos(1.79137414078 + 2524.021410252 * t);
-            L1 += 0.00000000220 * Math.cos(0.95686592581 + 1894.4190646765 * t);
-            L1 += 0.00000000225 * Math.cos(4.30669421945 + 637.4496057592 * t);
-            L1 += 0.00000000214 * Math.cos(1.70442143644 + 658.0565335787 * t);
-            L1 += 0.00000000227 * Math.cos(3.22613053351 + 638.9340784675 * t);
-            L1 += 0.00000000220 * Math.cos(2.66798936385 + 953.1077622329 * t);
-            L1 += 0.00000000253 * Math.cos(3.09377787768 + 29.2049475286 * t);
-            L1 += 0.00000000244 * Math.cos(3.15828383212 + 7.0016724162 * t);
-            L1 += 0.00000000295 * Math.cos(4.95843934543 + 714.6788848813 * t);
-            L1 += 0.00000000209 * Math.cos(0.94525938634 + 864.2420820159 * t);
-            L1 += 0.00000000216 * Math.cos(0.12221236180 + 28.5718080822 * t);
-            L1 += 0.00000000214 * Math.cos(2.80190604605 + 373.9079928365 * t);
-            L1 += 0.00000000212 * Math.cos(2.07343849515 + 1357.6145525811 * t);
-            L1 += 0.00000000216 * Math.cos(1.25531205533 + 477.8039162072 * t);
-            L1 += 0.00000000206 * Math.cos(5.35971491902 + 3060.8259223474 * t);
-            L1 += 0.00000000204 * Math.cos(3.08579410460 + 67.6680515665 * t);
-            L1 += 0.00000000210 * Math.cos(1.91489853604 + 938.1299087059 * t);
-            L1 += 0.00000000209 * Math.cos(1.46554109301 + 952.3570027075 * t);
-            L1 += 0.00000000202 * Math.cos(3.57670882297 + 334.5511169213 * t);
-            L1 += 0.00000000228 * Math.cos(5.66209641464 + 1699.2792165032 * t);
-            L1 += 0.00000000197 * Math.cos(4.61055255182 + 464.7312265138 * t);
-            L1 += 0.00000000193 * Math.cos(4.24606721746 + 141.6988906084 * t);
-            L1 += 0.00000000266 * Math.cos(0.69665031373 + 2854.6403739102 * t);
-            L1 += 0.00000000227 * Math.cos(1.31845358943 + 230.7075831773 * t);
-            L1 += 0.00000000192 * Math.cos(5.26739976413 + 504.561183181 * t);
-            L1 += 0.00000000187 * Math.cos(0.85537192230 + 273.8536000037 * t);
-            L1 += 0.00000000199 * Math.cos(3.91291687807 + 418.5214360287 * t);
-            L1 += 0.00000000192 * Math.cos(6.15674105214 + 611.4430983108 * t);
-            L1 += 0.00000000210 * Math.cos(1.47873602747 + 205.4347889118 * t);
-            L1 += 0.00000000194 * Math.cos(2.37167703302 + 3370.1042450032 * t);
-            L1 += 0.00000000228 * Math.cos(2.15266015145 + 55.1378785943 * t);
-            L1 += 0.00000000201 * Math.cos(2.71380671608 + 586.3133163972 * t);
-            L1 += 0.00000000194 * Math.cos(3.29560033731 + 1670.82502850 * t);
-            L1 += 0.00000000201 * Math.cos(4.23447633663 + 1493.093668066 * t);
-            L1 += 0.00000000181 * Math.cos(3.61567262848 + 9786.687355335 * t);
-            L1 += 0.00000000181 * Math.cos(2.83211558346 + 1262.3860848887 * t);
-            L1 += 0.00000000242 * Math.cos(4.69869158516 + 1141.1340634054 * t);
-            L1 += 0.00000000184 * Math.cos(4.66807336402 + 1251.3403846248 * t);
-            L1 += 0.00000000221 * Math.cos(2.25887876254 + 355.7487455718 * t);
-            L1 += 0.00000000200 * Math.cos(1.17340443616 + 4952.0635932862 * t);
-            L1 += 0.00000000222 * Math.cos(2.23360866067 + 2435.155730035 * t);
-            L1 += 0.00000000175 * Math.cos(0.04701598422 + 107.7586406646 * t);
-            L1 += 0.00000000171 * Math.cos(5.02500742690 + 93.531546663 * t);
-            L1 += 0.00000000184 * Math.cos(5.19723697138 + 835.7878940127 * t);
-            L1 += 0.00000000221 * Math.cos(4.49141283681 + 913.0001267923 * t);
-            L1 += 0.00000000195 * Math.cos(0.92088046109 + 551.031606097 * t);
-            L1 += 0.00000000166 * Math.cos(5.01778115937 + 354.9979860464 * t);
-            L1 += 0.00000000165 * Math.cos(2.26267552932 + 406.954470903 * t);
-            L1 += 0.00000000189 * Math.cos(0.31221126958 + 420.9691165835 * t);
-            L1 += 0.00000000196 * Math.cos(2.70333585839 + 774.4826299216 * t);
-            L1 += 0.00000000176 * Math.cos(6.12029409039 + 181.806526049 * t);
-            L1 += 0.00000000172 * Math.cos(1.94132177757 + 3259.8979237838 * t);
-            L1 += 0.00000000160 * Math.cos(0.55319954265 + 5429.8794682394 * t);
-            L1 += 0.00000000161 * Math.cos(2.88623631474 + 184.8449074348 * t);
-            L1 += 0.00000000192 * Math.cos(0.26639534884 + 295.1942410061 * t);
-            L1 += 0.00000000167 * Math.cos(3.71345214172 + 1056.2005364515 * t);
-            L1 += 0.00000000195 * Math.cos(4.83926717598 + 1596.1864422846 * t);
-            L1 += 0.00000000156 * Math.cos(2.81916058733 + 428.0826635843 * t);
-            L1 += 0.00000000215 * Math.cos(1.88276472005 + 220.364458329 * t);
-            L1 += 0.00000000167 * Math.cos(2.68872854428 + 423.6774295692 * t);
-            L1 += 0.00000000154 * Math.cos(1.66553954375 + 115.6229471908 * t);
-            L1 += 0.00000000175 * Math.cos(0.20216461467 + 384.0599212231 * t);
-            L1 += 0.00000000201 * Math.cos(4.38095931887 + 418.0001711669 * t);
-            L1 += 0.00000000167 * Math.cos(1.86485857353 + 393.4610900843 * t);
-            L1 += 0.00000000155 * Math.cos(0.92480392431 + 282.6640680339 * t);
-            L1 += 0.00000000146 * Math.cos(1.97663966745 + 9360.089164459 * t);
-            L1 += 0.00000000160 * Math.cos(2.62483919699 + 353.301065017 * t);
-            L1 += 0.00000000186 * Math.cos(1.37307151419 + 292.0128472684 * t);
-            L1 += 0.00000000198 * Math.cos(1.15631374887 + 2957.7331481288 * t);
-            L1 += 0.00000000144 * Math.cos(4.82956915076 + 453.424893819 * t);
-            L1 += 0.00000000149 * Math.cos(3.60682821788 + 205.6642835754 * t);
-            L1 += 0.00000000147 * Math.cos(4.48377791879 + 81.8951455681 * t);
-            L1 += 0.00000000147 * Math.cos(5.74795037748 + 856.3777754897 * t);
-            L1 += 0.00000000142 * Math.cos(3.53823120158 + 212.0270710508 * t);
-            L1 += 0.00000000140 * Math.cos(0.70476909062 + 640.8604941605 * t);
-            L1 += 0.00000000139 * Math.cos(1.39047667205 + 1261.6353253633 * t);
-            L1 += 0.00000000153 * Math.cos(3.29559426243 + 391.1734682239 * t);
-            L1 += 0.00000000158 * Math.cos(1.79872341304 + 326.6868103951 * t);
-            L1 += 0.00000000174 * Math.cos(3.98677435872 + 1049.0869894507 * t);
-            L1 += 0.00000000171 * Math.cos(4.16825100469 + 213.0384630071 * t);
-            L1 += 0.00000000133 * Math.cos(4.74095454922 + 0.0481841098 * t);
-            L1 += 0.00000000155 * Math.cos(5.32313618730 + 2015.6710861598 * t);
-            L1 += 0.00000000158 * Math.cos(2.67557086253 + 2531.1349572528 * t);
-            L1 += 0.00000000158 * Math.cos(4.64622526567 + 427.3489504014 * t);
-            L1 += 0.00000000123 * Math.cos(2.20103444636 + 210.5907824523 * t);
-            L1 += 0.00000000160 * Math.cos(1.85888551524 + 201.5196819912 * t);
-            L1 += 0.00000000119 * Math.cos(3.12572799769 + 238.5718897035 * t);
-            L1 += 0.00000000120 * Math.cos(4.62897224203 + 203.2647871304 * t);
-            L1 += 0.00000000129 * Math.cos(4.92592016162 + 1286.9081196288 * t);
-            L1 += 0.00000000132 * Math.cos(3.44682160054 + 156.6767441354 * t);
-            L1 += 0.00000000143 * Math.cos(0.67951827513 + 425.8474313506 * t);
-            L1 += 0.00000000114 * Math.cos(5.46519773276 + 552.5855147745 * t);
-            L1 += 0.00000000132 * Math.cos(1.76335093671 + 432.0148168474 * t);
-            L1 += 0.00000000113 * Math.cos(0.68933513038 + 450.9772132642 * t);
-            L1 += 0.00000000128 * Math.cos(2.13986068877 + 2751.5475996916 * t);
-            L1 += 0.00000000123 * Math.cos(4.59695145319 + 216.0074084237 * t);
-            L1 += 0.00000000119 * Math.cos(1.04688666457 + 462.0229135281 * t);
-            L1 += 0.00000000108 * Math.cos(5.36873170289 + 3377.217792004 * t);
-            L1 += 0.00000000142 * Math.cos(6.24626256472 + 299.1263942692 * t);
-            L1 += 0.00000000118 * Math.cos(0.63448253510 + 369.9758395734 * t);
-            L1 += 0.00000000105 * Math.cos(2.31570619675 + 200.5564741447 * t);
-            L1 += 0.00000000124 * Math.cos(1.87110815140 + 850.0149880143 * t);
-            L1 += 0.00000000106 * Math.cos(0.55623662570 + 114.3991069134 * t);
-            L1 += 0.00000000102 * Math.cos(3.95315219638 + 361.3778198643 * t);
-            L1 += 0.00000000095 * Math.cos(4.10658529323 + 10213.285546211 * t);
-            L1 += 0.00000000097 * Math.cos(1.13534710734 + 387.2413149608 * t);
-            L1 += 0.00000000096 * Math.cos(4.46689094543 + 401.3253966105 * t);
-            L1 += 0.00000000119 * Math.cos(2.33636675091 + 318.8395502114 * t);
-            L1 += 0.00000000115 * Math.cos(3.37508073115 + 313.9441891018 * t);
-            L1 += 0.00000000106 * Math.cos(3.73586211650 + 220.9339073006 * t);
-            L1 += 0.00000000090 * Math.cos(0.59788492023 + 227.3137411185 * t);
-            L1 += 0.00000000103 * Math.cos(5.09172929383 + 213.4591541324 * t);
-            L1 += 0.00000000097 * Math.cos(5.95268532215 + 1044.4040766622 * t);
-            L1 += 0.00000000103 * Math.cos(1.70625660572 + 213.1390367436 * t);
-            L1 += 0.00000000080 * Math.cos(0.86872596168 + 233.9060232575 * t);
-            L1 += 0.00000000089 * Math.cos(5.35990932230 + 214.1928673153 * t);
-            L1 += 0.00000000080 * Math.cos(2.69565238975 + 540.7366653585 * t);
-            L1 += 0.00000000095 * Math.cos(1.19504849611 + 460.5384408198 * t);
-            L1 += 0.00000000105 * Math.cos(0.58624363205 + 481.7360694703 * t);
-            L1 += 0.00000000099 * Math.cos(2.68841109007 + 219.891377577 * t);
-            L1 += 0.00000000098 * Math.cos(1.59923557478 + 484.7050148869 * t);
-            L1 += 0.00000000081 * Math.cos(1.12279793521 + 420.4478517217 * t);
-            L1 += 0.00000000075 * Math.cos(4.58892231446 + 394.3548619616 * t);
-            L1 += 0.00000000099 * Math.cos(4.68895851750 + 448.6895914038 * t);
-            L1 += 0.00000000076 * Math.cos(1.66929798365 + 196.0336200506 * t);
-            L1 += 0.00000000087 * Math.cos(3.12477195090 + 857.1285350151 * t);
-            L1 += 0.00000000078 * Math.cos(5.59819387460 + 364.3467652809 * t);
-            L1 += 0.00000000079 * Math.cos(3.53267171729 + 969.6224780949 * t);
-        }
-        return L1 * t;
-    }
-
-    public double L2(double t) // 321 terms of order 2
-    {
-        double L2 = 0;
-        L2 += 0.00116441181 * Math.cos(1.17987850633 + 7.1135470008 * t);
-        L2 += 0.00091920844 * Math.cos(0.07425261094 + 213.299095438 * t);
-        L2 += 0.00090592251;
-        L2 += 0.00015276909 * Math.cos(4.06492007503 + 206.1855484372 * t);
-        L2 += 0.00010631396 * Math.cos(0.25778277414 + 220.4126424388 * t);
-        L2 += 0.00010604979 * Math.cos(5.40963595885 + 426.598190876 * t);
-        L2 += 0.00004265368 * Math.cos(1.04595556630 + 14.2270940016 * t);
-        L2 += 0.00001215527 * Math.cos(2.91860042123 + 103.0927742186 * t);
-        L2 += 0.00001164684 * Math.cos(4.60942128971 + 639.897286314 * t);
-        L2 += 0.00001081967 * Math.cos(5.69130351670 + 433.7117378768 * t);
-        L2 += 0.00001020079 * Math.cos(0.63369182642 + 3.1813937377 * t);
-        L2 += 0.00001044754 * Math.cos(4.04206453611 + 199.0720014364 * t);
-        L2 += 0.00000633582 * Math.cos(4.38825410036 + 419.4846438752 * t);
-        L2 += 0.00000549329 * Math.cos(5.57303134242 + 3.9321532631 * t);
-        L2 += 0.00000456914 * Math.cos(1.26840971349 + 110.2063212194 * t);
-        L2 += 0.00000425100 * Math.cos(0.20935499279 + 227.5261894396 * t);
-        L2 += 0.00000273739 * Math.cos(4.28841011784 + 95.9792272178 * t);
-        L2 += 0.00000161571 * Math.cos(1.38139149420 + 11.0457002639 * t);
-        L2 += 0.00000129494 * Math.cos(1.56586884170 + 309.2783226558 * t);
-        L2 += 0.00000117008 * Math.cos(3.88120915956 + 853.196381752 * t);
-        L2 += 0.00000105415 * Math.cos(4.90003203599 + 647.0108333148 * t);
-        L2 += 0.00000100967 * Math.cos(0.89270493100 + 21.3406410024 * t);
-        L2 += 0.00000095227 * Math.cos(5.62561150598 + 412.3710968744 * t);
-        L2 += 0.00000081948 * Math.cos(1.02477558315 + 117.3198682202 * t);
-        L2 += 0.00000074857 * Math.cos(4.76178468163 + 210.1177017003 * t);
-        L2 += 0.00000082727 * Math.cos(6.05030934786 + 216.4804891757 * t);
-        L2 += 0.00000095659 * Math.cos(2.91093561539 + 316.3918696566 * t);
-        L2 += 0.00000063696 * Math.cos(0.35179804917 + 323.5054166574 * t);
-        L2 += 0.00000084860 * Math.cos(5.73472777961 + 209.3669421749 * t);
-        L2 += 0.00000060647 * Math.cos(4.87517850190 + 632.7837393132 * t);
-        L2 += 0.00000066459 * Math.cos(0.48297940601 + 10.2949407385 * t);
-        L2 += 0.00000067184 * Math.cos(0.45648612616 + 522.5774180938 * t);
-        L2 += 0.00000053281 * Math.cos(2.74730541387 + 529.6909650946 * t);
-        L2 += 0.00000045827 * Math.cos(5.69296621745 + 440.8252848776 * t);
-        L2 += 0.00000045293 * Math.cos(1.66856699796 + 202.2533951741 * t);
-        L2 += 0.00000042330 * Math.cos(5.70768187703 + 88.865680217 * t);
-        L2 += 0.00000032140 * Math.cos(0.07050050346 + 63.7358983034 * t);
-        L2 += 0.00000031573 * Math.cos(1.67190022213 + 302.164775655 * t);
-        L2 += 0.00000031150 * Math.cos(4.16379537691 + 191.9584544356 * t);
-        L2 += 0.00000024631 * Math.cos(5.65564728570 + 735.8765135318 * t);
-        L2 += 0.00000026558 * Math.cos(0.83256214407 + 224.3447957019 * t);
-        L2 += 0.00000020108 * Math.cos(5.94364609981 + 217.2312487011 * t);
-        L2 += 0.00000017511 * Math.cos(4.90014736798 + 625.6701923124 * t);
-        L2 += 0.00000017130 * Math.cos(1.62593421274 + 742.9900605326 * t);
-        L2 += 0.00000013744 * Math.cos(3.76497167300 + 195.1398481733 * t);
-        L2 += 0.00000012236 * Math.cos(4.71789723976 + 203.0041546995 * t);
-        L2 += 0.00000011940 * Math.cos(0.12620714199 + 234.6397364404 * t);
-        L2 += 0.00000016040 * Math.cos(0.57886320845 + 515.463871093 * t);
-        L2 += 0.00000011154 * Math.cos(5.92216844780 + 536.8045120954 * t);
-        L2 += 0.00000014068 * Math.cos(0.20675293700 + 838.9692877504 * t);
-        L2 += 0.00000011013 * Math.cos(5.60207982774 + 728.762966531 * t);
-        L2 += 0.00000011718 * Math.cos(3.12098483554 + 846.0828347512 * t);
-        L2 += 0.00000009962 * Math.cos(4.15472049127 + 860.3099287528 * t);
-        L2 += 0.00000010601 * Math.cos(3.20327613035 + 1066.49547719 * t);
-        L2 += 0.00000010072 * Math.cos(0.25709351996 + 330.6189636582 * t);
-        L2 += 0.00000009490 * Math.cos(0.46379969328 + 956.2891559706 * t);
-        L2 += 0.00000010240 * Math.cos(4.98736656070 + 422.6660376129 * t);
-        L2 += 0.00000008287 * Math.cos(2.13990364272 + 269.9214467406 * t);
-        L2 += 0.00000007238 * Math.cos(5.39724715258 + 1052.2683831884 * t);
-        L2 += 0.00000007730 * Math.cos(5.24602742309 + 429.7795846137 * t);
-        L2 += 0.00000006353 * Math.cos(4.46211130731 + 284.1485407422 * t);
-        L2 += 0.00000005935 * Math.cos(5.40967847103 + 149.5631971346 * t);
-        L2 += 0.00000007550 * Math.cos(4.03401153929 + 9.5612275556 * t);
-        L2 += 0.00000005779 * Math.cos(4.29380891110 + 415.5524906121 * t);
-        L2 += 0.00000006082 * Math.cos(5.93416924841 + 405.2575498736 * t);
-        L2 += 0.00000005711 * Math.cos(0.01824076994 + 124.433415221 * t);
-        L2 += 0.00000005676 * Math.cos(6.02235682150 + 223.5940361765 * t);
-        L2 += 0.00000004757 * Math.cos(4.92804854717 + 654.1243803156 * t);
-        L2 += 0.00000004727 * Math.cos(2.27461984667 + 18.1592472647 * t);
-        L2 += 0.00000004509 * Math.cos(4.40688707557 + 942.062061969 * t);
-        L2 += 0.00000005621 * Math.cos(0.29694719379 + 127.4717966068 * t);
-        L2 += 0.00000005453 * Math.cos(5.53868222772 + 949.1756089698 * t);
-        L2 += 0.00000004130 * Math.cos(4.68673560379 + 74.7815985673 * t);
-        L2 += 0.00000004098 * Math.cos(5.30851262200 + 1045.1548361876 * t);
-        L2 += 0.00000004223 * Math.cos(2.89014939299 + 56.6223513026 * t);
-        L2 += 0.00000004887 * Math.cos(3.20022991216 + 277.0349937414 * t);
-        L2 += 0.00000003905 * Math.cos(3.30270187305 + 490.3340891794 * t);
-        L2 += 0.00000003923 * Math.cos(6.09732996823 + 81.7521332162 * t);
-        L2 += 0.00000003755 * Math.cos(4.93065184796 + 52.6901980395 * t);
-        L2 += 0.00000004602 * Math.cos(6.13908576681 + 1155.361157407 * t);
-        L2 += 0.00000003714 * Math.cos(0.40648076787 + 137.0330241624 * t);
-        L2 += 0.00000003407 * Math.cos(4.28514461015 + 99.9113804809 * t);
-        L2 += 0.00000003579 * Math.cos(0.20402442077 + 1272.6810256272 * t);
-        L2 += 0.00000003946 * Math.cos(0.36500928968 + 12.5301729722 * t);
-        L2 += 0.00000003246 * Math.cos(1.56761884227 + 1059.3819301892 * t);
-        L2 += 0.00000004063 * Math.cos(0.29084229143 + 831.8557407496 * t);
-        L2 += 0.00000003688 * Math.cos(0.15467406177 + 437.6438911399 * t);
-        L2 += 0.00000002895 * Math.cos(3.13473183482 + 70.8494453042 * t);
-        L2 += 0.00000002800 * Math.cos(0.32727938074 + 191.2076949102 * t);
-        L2 += 0.00000002672 * Math.cos(1.87612402267 + 295.0512286542 * t);
-        L2 += 0.00000003454 * Math.cos(4.77197610696 + 423.4167971383 * t);
-        L2 += 0.00000002623 * Math.cos(5.15237415384 + 1368.660252845 * t);
-        L2 += 0.00000002457 * Math.cos(3.89612890177 + 210.8514148832 * t);
-        L2 += 0.00000002461 * Math.cos(1.58522876760 + 32.2433289144 * t);
-        if (highAccuracy) {
-            L2 += 0.00000002595 * Math.cos(3.59007068361 + 131.4039498699 * t);
-            L2 += 0.00000002289 * Math.cos(4.76825865118 + 351.8165923087 * t);
-            L2 += 0.00000002357 * Math.cos(5.83099000562 + 106.2741679563 * t);
-            L2 += 0.00000002221 * Math.cos(5.98277491515 + 6062.6632075526 * t);
-            L2 += 0.00000002221 * Math.cos(2.05930402282 + 6076.8903015542 * t);
-            L2 += 0.00000002183 * Math.cos(5.94985336393 + 145.6310438715 * t);
-            L2 += 0.00000002718 * Math.cos(3.37801252354 + 408.4389436113 * t);
-            L2 += 0.00000002288 * Math.cos(3.14000619320 + 22.0914005278 * t);
-            L2 += 0.00000002090 * Math.cos(1.12304173562 + 9992.8729037722 * t);
-            L2 += 0.00000002089 * Math.cos(3.48276230686 + 10007.0999977738 * t);
-            L2 += 0.00000002570 * Math.cos(5.12167203704 + 265.9892934775 * t);
-            L2 += 0.00000001835 * Math.cos(4.15379879659 + 1258.4539316256 * t);
-            L2 += 0.00000001820 * Math.cos(5.05340615445 + 1361.5467058442 * t);
-            L2 += 0.00000001760 * Math.cos(4.13532689228 + 107.0249274817 * t);
-            L2 += 0.00000001921 * Math.cos(4.51790997496 + 138.5174968707 * t);
-            L2 += 0.00000001707 * Math.cos(1.35864593280 + 231.4583427027 * t);
-            L2 += 0.00000001956 * Math.cos(5.87006093798 + 1471.7530270636 * t);
-            L2 += 0.00000002133 * Math.cos(5.23409848720 + 1265.5674786264 * t);
-            L2 += 0.00000001595 * Math.cos(5.61962698786 + 447.9388318784 * t);
-            L2 += 0.00000001609 * Math.cos(3.74893709671 + 628.8515860501 * t);
-            L2 += 0.00000001490 * Math.cos(0.48352404940 + 340.7708920448 * t);
-            L2 += 0.00000001560 * Math.cos(5.97095003614 + 430.5303441391 * t);
-            L2 += 0.00000001352 * Math.cos(0.71405348653 + 28.4541880032 * t);
-            L2 += 0.00000001355 * Math.cos(2.91219493604 + 215.7467759928 * t);
-            L2 += 0.00000001298 * Math.cos(5.84254169775 + 543.9180590962 * t);
-            L2 += 0.00000001664 * Math.cos(6.23834873469 + 1148.2476104062 * t);
-            L2 += 0.00000001205 * Math.cos(2.83373725021 + 200.7689224658 * t);
-            L2 += 0.00000001192 * Math.cos(3.52219428945 + 497.4476361802 * t);
-            L2 += 0.00000001122 * Math.cos(2.60571030270 + 1279.794572628 * t);
-            L2 += 0.00000001217 * Math.cos(6.23528359211 + 1589.0728952838 * t);
-            L2 += 0.00000001420 * Math.cos(0.85079202155 + 6069.7767545534 * t);
-            L2 += 0.00000001120 * Math.cos(4.95656566453 + 1685.0521225016 * t);
-            L2 += 0.00000001010 * Math.cos(3.39689646619 + 1073.6090241908 * t);
-            L2 += 0.00000001352 * Math.cos(2.27575429523 + 9999.986450773 * t);
-            L2 += 0.00000000979 * Math.cos(1.58571463442 + 1375.7737998458 * t);
-            L2 += 0.00000001159 * Math.cos(0.71823181781 + 508.3503240922 * t);
-            L2 += 0.00000001014 * Math.cos(2.40759054741 + 703.6331846174 * t);
-            L2 += 0.00000000956 * Math.cos(2.66256831556 + 134.5853436076 * t);
-            L2 += 0.00000001110 * Math.cos(1.19713920197 + 618.5566453116 * t);
-            L2 += 0.00000000945 * Math.cos(4.68155456977 + 362.8622925726 * t);
-            L2 += 0.00000000953 * Math.cos(4.20749172571 + 288.0806940053 * t);
-            L2 += 0.00000001033 * Math.cos(1.08781255146 + 184.8449074348 * t);
-            L2 += 0.00000000942 * Math.cos(2.43465223460 + 222.8603229936 * t);
-            L2 += 0.00000000909 * Math.cos(4.51769385360 + 38.1330356378 * t);
-            L2 += 0.00000001002 * Math.cos(1.38543153271 + 483.2205421786 * t);
-            L2 += 0.00000001082 * Math.cos(4.52832816548 + 635.9651330509 * t);
-            L2 += 0.00000001008 * Math.cos(4.91325851448 + 750.1036075334 * t);
-            L2 += 0.00000000862 * Math.cos(4.79998518474 + 1677.9385755008 * t);
-            L2 += 0.00000000828 * Math.cos(2.21940849017 + 333.657345044 * t);
-            L2 += 0.00000000745 * Math.cos(3.97279299984 + 1574.8458012822 * t);
-            L2 += 0.00000000903 * Math.cos(5.58963782799 + 1788.1448967202 * t);
-            L2 += 0.00000000735 * Math.cos(2.28191723259 + 1162.4747044078 * t);
-            L2 += 0.00000000773 * Math.cos(5.82270096882 + 416.3032501375 * t);
-            L2 += 0.00000000734 * Math.cos(2.35356586018 + 120.358249606 * t);
-            L2 += 0.00000000745 * Math.cos(4.84266000843 + 76.2660712756 * t);
-            L2 += 0.00000000765 * Math.cos(2.50840146722 + 343.2185725996 * t);
-            L2 += 0.00000000908 * Math.cos(5.01046293458 + 1581.959348283 * t);
-            L2 += 0.00000000707 * Math.cos(3.66631544506 + 347.8844390456 * t);
-            L2 += 0.00000000870 * Math.cos(0.77106152694 + 113.3877149571 * t);
-            L2 += 0.00000000686 * Math.cos(2.88543836068 + 92.0470739547 * t);
-            L2 += 0.00000000673 * Math.cos(3.75650667651 + 203.7378678824 * t);
-            L2 += 0.00000000656 * Math.cos(3.77718582702 + 217.964961884 * t);
-            L2 += 0.00000000675 * Math.cos(5.62875135263 + 17.2654753874 * t);
-            L2 += 0.00000000691 * Math.cos(0.21330089609 + 99.1606209555 * t);
-            L2 += 0.00000000786 * Math.cos(4.49318079175 + 643.0786800517 * t);
-            L2 += 0.00000000641 * Math.cos(0.67588390141 + 46.470422916 * t);
-            L2 += 0.00000000663 * Math.cos(5.74837848383 + 721.6494195302 * t);
-            L2 += 0.00000000809 * Math.cos(5.94893988352 + 1464.6394800628 * t);
-            L2 += 0.00000000638 * Math.cos(4.86195439622 + 357.4456666012 * t);
-            L2 += 0.00000000740 * Math.cos(6.00053422445 + 337.732510659 * t);
-            L2 += 0.00000000555 * Math.cos(4.95858934298 + 358.9301393095 * t);
-            L2 += 0.00000000581 * Math.cos(3.87669679805 + 565.1156877467 * t);
-            L2 += 0.00000000541 * Math.cos(1.22296838713 + 62.2514255951 * t);
-            L2 += 0.00000000697 * Math.cos(0.00715950269 + 1169.5882514086 * t);
-            L2 += 0.00000000524 * Math.cos(1.53830423608 + 195.8906076987 * t);
-            L2 += 0.00000000518 * Math.cos(5.41992758537 + 312.1990839626 * t);
-            L2 += 0.00000000626 * Math.cos(5.26580317026 + 436.8931316145 * t);
-            L2 += 0.00000000537 * Math.cos(6.17031657600 + 182.279606801 * t);
-            L2 += 0.00000000574 * Math.cos(5.98607898826 + 1905.4647649404 * t);
-            L2 += 0.00000000541 * Math.cos(0.30589337713 + 98.8999885246 * t);
-            L2 += 0.00000000603 * Math.cos(3.26888470585 + 208.633228992 * t);
-            L2 += 0.00000000504 * Math.cos(3.80930996688 + 168.0525127994 * t);
-            L2 += 0.00000000477 * Math.cos(3.56642391994 + 563.6312150384 * t);
-            L2 += 0.00000000511 * Math.cos(4.70719837179 + 2001.4439921582 * t);
-            L2 += 0.00000000475 * Math.cos(1.06025557585 + 5856.4776591154 * t);
-            L2 += 0.00000000540 * Math.cos(0.87230551412 + 1692.1656695024 * t);
-            L2 += 0.00000000454 * Math.cos(2.48128029368 + 9786.687355335 * t);
-            L2 += 0.00000000456 * Math.cos(3.18303484133 + 218.9281697305 * t);
-            L2 += 0.00000000462 * Math.cos(0.71358186864 + 258.8757464767 * t);
-            L2 += 0.00000000424 * Math.cos(4.89778948357 + 636.7158925763 * t);
-            L2 += 0.00000000537 * Math.cos(2.59376221736 + 313.2104759189 * t);
-            L2 += 0.00000000410 * Math.cos(4.22147787617 + 867.4234757536 * t);
-            L2 += 0.00000000408 * Math.cos(3.06057772788 + 424.1505103212 * t);
-            L2 += 0.00000000407 * Math.cos(3.79376013938 + 24.3790223882 * t);
-            L2 += 0.00000000569 * Math.cos(3.68547825941 + 350.3321196004 * t);
-            L2 += 0.00000000404 * Math.cos(0.91401255827 + 114.1384744825 * t);
-            L2 += 0.00000000395 * Math.cos(3.50478374207 + 129.9194771616 * t);
-            L2 += 0.00000000395 * Math.cos(2.86309689622 + 212.3358875915 * t);
-            L2 += 0.00000000386 * Math.cos(5.00762729432 + 388.4651552382 * t);
-            L2 += 0.00000000393 * Math.cos(6.26835522096 + 241.7532834412 * t);
-            L2 += 0.00000000401 * Math.cos(4.60258908692 + 1994.3304451574 * t);
-            L2 += 0.00000000385 * Math.cos(0.91582119643 + 160.6088973985 * t);
-            L2 += 0.00000000467 * Math.cos(0.54876489832 + 404.5067903482 * t);
-            L2 += 0.00000000368 * Math.cos(0.35674031808 + 214.2623032845 * t);
-            L2 += 0.00000000471 * Math.cos(0.67360047481 + 207.8824694666 * t);
-            L2 += 0.00000000379 * Math.cos(0.92901327825 + 767.3690829208 * t);
-            L2 += 0.00000000420 * Math.cos(5.69797398044 + 225.8292684102 * t);
-            L2 += 0.00000000356 * Math.cos(3.10092792842 + 842.1506814881 * t);
-            L2 += 0.00000000428 * Math.cos(5.35375368944 + 2104.5367663768 * t);
-            L2 += 0.00000000422 * Math.cos(2.67975581832 + 77.962992305 * t);
-            L2 += 0.00000000370 * Math.cos(5.46144813372 + 1038.0412891868 * t);
-            L2 += 0.00000000379 * Math.cos(5.56429091578 + 131.5469622218 * t);
-            L2 += 0.00000000441 * Math.cos(5.68196668399 + 1781.0313497194 * t);
-            L2 += 0.00000000361 * Math.cos(5.20616019966 + 629.6023455755 * t);
-            L2 += 0.00000000341 * Math.cos(5.92928351979 + 26.826702943 * t);
-            L2 += 0.00000000419 * Math.cos(5.26851686707 + 85.8272988312 * t);
-            L2 += 0.00000000322 * Math.cos(0.80223983857 + 6283.0758499914 * t);
-            L2 += 0.00000000323 * Math.cos(3.86700993914 + 576.1613880106 * t);
-            L2 += 0.00000000321 * Math.cos(2.17186032970 + 10213.285546211 * t);
-            L2 += 0.00000000355 * Math.cos(2.80560859177 + 344.7030453079 * t);
-            L2 += 0.00000000311 * Math.cos(3.77477255556 + 1891.2376709388 * t);
-            L2 += 0.00000000318 * Math.cos(5.22020784209 + 142.4496501338 * t);
-            L2 += 0.00000000315 * Math.cos(0.52272202855 + 5849.3641121146 * t);
-            L2 += 0.00000000428 * Math.cos(4.63722058283 + 1898.3512179396 * t);
-            L2 += 0.00000000337 * Math.cos(0.68198429948 + 45.5766510387 * t);
-            L2 += 0.00000000316 * Math.cos(0.54074780109 + 444.7574381407 * t);
-            L2 += 0.00000000310 * Math.cos(1.41032075652 + 273.1028404783 * t);
-            L2 += 0.00000000311 * Math.cos(3.53744556230 + 251.4321310758 * t);
-            L2 += 0.00000000295 * Math.cos(1.93253015677 + 436.1594184316 * t);
-            L2 += 0.00000000296 * Math.cos(1.97705648834 + 9779.5738083342 * t);
-            L2 += 0.00000000326 * Math.cos(3.67854047003 + 963.4027029714 * t);
-            L2 += 0.00000000389 * Math.cos(5.76841276132 + 39.3568759152 * t);
-            L2 += 0.00000000277 * Math.cos(5.73995694175 + 92.7978334801 * t);
-            L2 += 0.00000000315 * Math.cos(4.96371610197 + 757.2171545342 * t);
-            L2 += 0.00000000295 * Math.cos(1.81638833900 + 1493.093668066 * t);
-            L2 += 0.00000000287 * Math.cos(0.97698377929 + 685.4739373527 * t);
-            L2 += 0.00000000281 * Math.cos(2.66463042095 + 1286.9081196288 * t);
-            L2 += 0.00000000330 * Math.cos(5.79776922760 + 650.9429865779 * t);
-            L2 += 0.00000000292 * Math.cos(3.97858181479 + 472.1748419147 * t);
-            L2 += 0.00000000266 * Math.cos(4.13716111320 + 601.7642506762 * t);
-            L2 += 0.00000000262 * Math.cos(0.91887592474 + 245.5424243524 * t);
-            L2 += 0.00000000278 * Math.cos(3.08964256591 + 778.4147831847 * t);
-            L2 += 0.00000000277 * Math.cos(3.08750916880 + 621.7380390493 * t);
-            L2 += 0.00000000255 * Math.cos(3.93981592051 + 181.0557665236 * t);
-            L2 += 0.00000000333 * Math.cos(2.04835822938 + 561.1835344836 * t);
-            L2 += 0.00000000247 * Math.cos(2.92754257675 + 219.4494345923 * t);
-            L2 += 0.00000000306 * Math.cos(0.36127922606 + 824.7421937488 * t);
-            L2 += 0.00000000253 * Math.cos(1.80130756458 + 5643.1785636774 * t);
-            L2 += 0.00000000337 * Math.cos(4.97764462199 + 175.1660598002 * t);
-            L2 += 0.00000000273 * Math.cos(0.66599369335 + 2008.557539159 * t);
-            L2 += 0.00000000227 * Math.cos(4.87285356383 + 661.2379273164 * t);
-            L2 += 0.00000000249 * Math.cos(3.14202895058 + 144.1465711632 * t);
-            L2 += 0.00000000220 * Math.cos(3.93526603081 + 319.5732633943 * t);
-            L2 += 0.00000000212 * Math.cos(5.85248164087 + 546.956440482 * t);
-            L2 += 0.00000000234 * Math.cos(1.65314711167 + 554.0699874828 * t);
-            L2 += 0.00000000204 * Math.cos(0.88373842674 + 31.492569389 * t);
-            L2 += 0.00000000205 * Math.cos(2.93169866171 + 1596.1864422846 * t);
-            L2 += 0.00000000201 * Math.cos(3.36504567824 + 1080.7225711916 * t);
-            L2 += 0.00000000224 * Math.cos(4.34612745705 + 1382.8873468466 * t);
-            L2 += 0.00000000192 * Math.cos(5.13697232918 + 329.7251917809 * t);
-            L2 += 0.00000000208 * Math.cos(3.08549771485 + 41.6444977756 * t);
-            L2 += 0.00000000236 * Math.cos(0.07998742860 + 1141.1340634054 * t);
-            L2 += 0.00000000203 * Math.cos(4.13011580915 + 2627.1141844706 * t);
-            L2 += 0.00000000203 * Math.cos(0.13969067385 + 1485.9801210652 * t);
-            L2 += 0.00000000204 * Math.cos(3.38137545713 + 699.7010313543 * t);
-            L2 += 0.00000000212 * Math.cos(4.52370676085 + 2310.722314814 * t);
-            L2 += 0.00000000218 * Math.cos(5.79277335862 + 2221.856634597 * t);
-            L2 += 0.00000000213 * Math.cos(0.50441377637 + 934.9485149682 * t);
-            L2 += 0.00000000210 * Math.cos(5.04017633795 + 2420.9286360334 * t);
-            L2 += 0.00000000214 * Math.cos(4.64286758581 + 2317.8358618148 * t);
-            L2 += 0.00000000178 * Math.cos(0.84588580004 + 128.3655684841 * t);
-            L2 += 0.00000000170 * Math.cos(2.75006619605 + 710.7467316182 * t);
-            L2 += 0.00000000171 * Math.cos(4.32615182967 + 291.262087743 * t);
-            L2 += 0.00000000172 * Math.cos(3.46971306920 + 501.3797894433 * t);
-            L2 += 0.00000000170 * Math.cos(1.05408992106 + 526.5095713569 * t);
-            L2 += 0.00000000162 * Math.cos(1.15683042950 + 519.3960243561 * t);
-            L2 += 0.00000000180 * Math.cos(4.96266204107 + 1670.82502850 * t);
-            L2 += 0.00000000172 * Math.cos(1.65385549578 + 916.9322800554 * t);
-            L2 += 0.00000000170 * Math.cos(2.30821101766 + 429.0458714308 * t);
-            L2 += 0.00000000170 * Math.cos(5.98716489326 + 643.8294395771 * t);
-            L2 += 0.00000000173 * Math.cos(5.19933564968 + 1354.4331588434 * t);
-            L2 += 0.00000000195 * Math.cos(4.50165508529 + 2214.7430875962 * t);
-            L2 += 0.00000000156 * Math.cos(4.16290662749 + 572.2292347475 * t);
-            L2 += 0.00000000153 * Math.cos(1.23776248578 + 2413.8150890326 * t);
-            L2 += 0.00000000150 * Math.cos(0.63076983213 + 1478.8665740644 * t);
-            L2 += 0.00000000169 * Math.cos(4.28090123029 + 305.3461693927 * t);
-            L2 += 0.00000000174 * Math.cos(6.23077892653 + 3384.3313390048 * t);
-            L2 += 0.00000000149 * Math.cos(3.13274908516 + 9573.388259897 * t);
-            L2 += 0.00000000162 * Math.cos(6.25601818345 + 213.2509113282 * t);
-            L2 += 0.00000000149 * Math.cos(4.81749019484 + 945.9942152321 * t);
-            L2 += 0.00000000162 * Math.cos(0.88610129190 + 216.2198567448 * t);
-            L2 += 0.00000000133 * Math.cos(2.31915371262 + 156.6767441354 * t);
-            L2 += 0.00000000165 * Math.cos(6.06456216591 + 732.6951197941 * t);
-            L2 += 0.00000000141 * Math.cos(6.14293754333 + 1795.258443721 * t);
-            L2 += 0.00000000133 * Math.cos(0.06530337135 + 218.7157214094 * t);
-            L2 += 0.00000000162 * Math.cos(3.17058130506 + 213.3472795478 * t);
-            L2 += 0.00000000125 * Math.cos(2.07143636845 + 425.1137181677 * t);
-            L2 += 0.00000000146 * Math.cos(1.88627500632 + 211.8146227297 * t);
-            L2 += 0.00000000113 * Math.cos(2.79541965778 + 235.3904959658 * t);
-            L2 += 0.00000000117 * Math.cos(0.76464798684 + 479.2883889155 * t);
-            L2 += 0.00000000108 * Math.cos(3.95650672786 + 570.7447620392 * t);
-            L2 += 0.00000000106 * Math.cos(0.12820734703 + 188.0263011725 * t);
-            L2 += 0.00000000134 * Math.cos(3.58244908862 + 849.2642284889 * t);
-            L2 += 0.00000000114 * Math.cos(0.25990388555 + 398.1440028728 * t);
-            L2 += 0.00000000112 * Math.cos(2.39181495831 + 217.491881132 * t);
-            L2 += 0.00000000091 * Math.cos(2.50716605179 + 121.2520214833 * t);
-            L2 += 0.00000000091 * Math.cos(1.75367948574 + 213.8203602998 * t);
-            L2 += 0.00000000088 * Math.cos(5.26121947108 + 395.578702239 * t);
-            L2 += 0.00000000096 * Math.cos(3.98832609364 + 289.5651667136 * t);
-            L2 += 0.00000000091 * Math.cos(0.35318362186 + 312.4597163935 * t);
-            L2 += 0.00000000112 * Math.cos(1.14387590923 + 1802.3719907218 * t);
-            L2 += 0.00000000082 * Math.cos(3.73605217214 + 207.6700211455 * t);
-            L2 += 0.00000000082 * Math.cos(6.06283262812 + 210.3783341312 * t);
-            L2 += 0.00000000084 * Math.cos(3.34470673492 + 67.6680515665 * t);
-            L2 += 0.00000000086 * Math.cos(2.73917300180 + 5863.5912061162 * t);
-            L2 += 0.00000000083 * Math.cos(2.81499116485 + 776.9303104764 * t);
-            L2 += 0.00000000091 * Math.cos(1.26160093170 + 212.7778305762 * t);
-            L2 += 0.00000000090 * Math.cos(2.08722491981 + 2111.6503133776 * t);
-            L2 += 0.00000000080 * Math.cos(2.13136842916 + 421.93232443 * t);
-            L2 += 0.00000000082 * Math.cos(4.16358350281 + 9793.8009023358 * t);
-            L2 += 0.00000000077 * Math.cos(2.96973341607 + 431.264057322 * t);
-            L2 += 0.00000000079 * Math.cos(3.42790361067 + 417.0369633204 * t);
-            L2 += 0.00000000079 * Math.cos(3.18693585419 + 320.3240229197 * t);
-            L2 += 0.00000000080 * Math.cos(0.78975763683 + 204.7010757289 * t);
-            L2 += 0.00000000077 * Math.cos(1.89354243952 + 556.5176680376 * t);
-            L2 += 0.00000000073 * Math.cos(4.85923277221 + 2118.7638603784 * t);
-            L2 += 0.00000000071 * Math.cos(3.64551577433 + 198.321241911 * t);
-        }
-        return L2 * t * t;
-    }
-
-    public double L3(double t) // 148 terms of order 3
-    {
-        double L3 = 0;
-        L3 += 0.00016038734 * Math.cos(5.73945377424 + 7.1135470008 * t);
-        L3 += 0.00004249793 * Math.cos(4.58539675603 + 213.299095438 * t);
-        L3 += 0.00001906524 * Math.cos(4.76082050205 + 220.4126424388 * t);
-        L3 += 0.00001465687 * Math.cos(5.91326678323 + 206.1855484372 * t);
-        L3 += 0.00001162041 * Math.cos(5.61973132428 + 14.2270940016 * t);
-        L3 += 0.00001066581 * Math.cos(3.60816533142 + 426.598190876 * t);
-        L3 += 0.00000239377 * Math.cos(3.86088273439 + 433.7117378768 * t);
-        L3 += 0.00000236975 * Math.cos(5.76826451465 + 199.0720014364 * t);
-        L3 += 0.00000165641 * Math.cos(5.11641150216 + 3.1813937377 * t);
-        L3 += 0.00000131409 * Math.cos(4.74327544615 + 227.5261894396 * t);
-        L3 += 0.00000151352 * Math.cos(2.73594641861 + 639.897286314 * t);
-        L3 += 0.00000061630 * Math.cos(4.74287052463 + 103.0927742186 * t);
-        L3 += 0.00000063365 * Math.cos(0.22850089497 + 419.4846438752 * t);
-        L3 += 0.00000040437 * Math.cos(5.47298059144 + 21.3406410024 * t);
-        L3 += 0.00000040205 * Math.cos(5.96420266720 + 95.9792272178 * t);
-        L3 += 0.00000038746 * Math.cos(5.83386199529 + 110.2063212194 * t);
-        L3 += 0.00000028025 * Math.cos(3.01235311514 + 647.0108333148 * t);
-        L3 += 0.00000025029 * Math.cos(0.98808170740 + 3.9321532631 * t);
-        L3 += 0.00000018101 * Math.cos(1.02506397063 + 412.3710968744 * t);
-        L3 += 0.00000017879 * Math.cos(3.31913418974 + 309.2783226558 * t);
-        L3 += 0.00000016208 * Math.cos(3.89825272754 + 440.8252848776 * t);
-        L3 += 0.00000015763 * Math.cos(5.61667809625 + 117.3198682202 * t);
-        L3 += 0.00000019014 * Math.cos(1.91614237463 + 853.196381752 * t);
-        L3 += 0.00000018262 * Math.cos(4.96738415934 + 10.2949407385 * t);
-        L3 += 0.00000012947 * Math.cos(1.18068953942 + 88.865680217 * t);
-        L3 += 0.00000017919 * Math.cos(4.20376505349 + 216.4804891757 * t);
-        L3 += 0.00000011453 * Math.cos(5.57520615096 + 11.0457002639 * t);
-        L3 += 0.00000010548 * Math.cos(5.92906266269 + 191.9584544356 * t);
-        L3 += 0.00000010389 * Math.cos(3.94838736947 + 209.3669421749 * t);
-        L3 += 0.00000008650 * Math.cos(3.39335369698 + 302.164775655 * t);
-        L3 += 0.00000007580 * Math.cos(4.87736913157 + 323.5054166574 * t);
-        L3 += 0.00000006697 * Math.cos(0.38198725552 + 632.7837393132 * t);
-        L3 += 0.00000005864 * Math.cos(1.05621157685 + 210.1177017003 * t);
-        L3 += 0.00000005449 * Math.cos(4.64268475485 + 234.6397364404 * t);
-        L3 += 0.00000006327 * Math.cos(2.25492722762 + 522.5774180938 * t);
-        L3 += 0.00000003602 * Math.cos(2.30677010956 + 515.463871093 * t);
-        L3 += 0.00000003229 * Math.cos(2.20309400066 + 860.3099287528 * t);
-        L3 -= 0.00000003701;
-        L3 += 0.00000002583 * Math.cos(4.93447677059 + 224.3447957019 * t);
-        L3 += 0.00000002543 * Math.cos(0.42393884183 + 625.6701923124 * t);
-        L3 += 0.00000002213 * Math.cos(3.19814958289 + 202.2533951741 * t);
-        L3 += 0.00000002421 * Math.cos(4.76621391814 + 330.6189636582 * t);
-        L3 += 0.00000002850 * Math.cos(0.58604395010 + 529.6909650946 * t);
-        L3 += 0.00000001965 * Math.cos(4.39525359412 + 124.433415221 * t);
-        L3 += 0.00000002154 * Math.cos(1.35488209144 + 405.2575498736 * t);
-        L3 += 0.00000002296 * Math.cos(3.34809165905 + 429.7795846137 * t);
-        L3 += 0.00000002018 * Math.cos(3.06693569701 + 654.1243803156 * t);
-        L3 += 0.00000001979 * Math.cos(1.02981005658 + 728.762966531 * t);
-        L3 += 0.00000001868 * Math.cos(3.09383546177 + 422.6660376129 * t);
-        L3 += 0.00000001846 * Math.cos(4.15225985450 + 536.8045120954 * t);
-        L3 += 0.00000002194 * Math.cos(1.18918501013 + 1066.49547719 * t);
-        L3 += 0.00000002090 * Math.cos(4.15631351317 + 223.5940361765 * t);
-        L3 += 0.00000001481 * Math.cos(0.37916705169 + 316.3918696566 * t);
-        L3 += 0.00000001720 * Math.cos(5.82865773356 + 195.1398481733 * t);
-        L3 += 0.00000001460 * Math.cos(1.57663426355 + 81.7521332162 * t);
-        L3 += 0.00000001623 * Math.cos(6.03706764648 + 742.9900605326 * t);
-        L3 += 0.00000001286 * Math.cos(1.66154726117 + 63.7358983034 * t);
-        L3 += 0.00000001304 * Math.cos(5.02409881054 + 956.2891559706 * t);
-        L3 += 0.00000001446 * Math.cos(2.10575519127 + 838.9692877504 * t);
-        L3 += 0.00000001245 * Math.cos(3.88109752770 + 269.9214467406 * t);
-        L3 += 0.00000001018 * Math.cos(3.72599601656 + 295.0512286542 * t);
-        L3 += 0.00000001323 * Math.cos(1.38492882986 + 735.8765135318 * t);
-        L3 += 0.00000001318 * Math.cos(2.33460998999 + 217.2312487011 * t);
-        L3 += 0.00000000943 * Math.cos(2.75813531246 + 284.1485407422 * t);
-        L3 += 0.00000000906 * Math.cos(0.71155526266 + 846.0828347512 * t);
-        L3 += 0.00000000886 * Math.cos(3.83754799777 + 447.9388318784 * t);
-        L3 += 0.00000000943 * Math.cos(3.31480217015 + 18.1592472647 * t);
-        L3 += 0.00000000800 * Math.cos(4.71386673963 + 56.6223513026 * t);
-        L3 += 0.00000000908 * Math.cos(2.02119147951 + 831.8557407496 * t);
-        L3 += 0.00000000787 * Math.cos(0.80410269937 + 1045.1548361876 * t);
-        L3 += 0.00000000709 * Math.cos(4.27064410504 + 437.6438911399 * t);
-        L3 += 0.00000000651 * Math.cos(6.17565900032 + 942.062061969 * t);
-        L3 += 0.00000000785 * Math.cos(2.40767785311 + 203.0041546995 * t);
-        L3 += 0.00000000702 * Math.cos(1.64585301418 + 423.4167971383 * t);
-        L3 += 0.00000000543 * Math.cos(2.86326941725 + 184.8449074348 * t);
-        L3 += 0.00000000532 * Math.cos(6.25762144463 + 1059.3819301892 * t);
-        L3 += 0.00000000521 * Math.cos(3.43013038466 + 149.5631971346 * t);
-        L3 += 0.00000000484 * Math.cos(4.88366060720 + 1272.6810256272 * t);
-        L3 += 0.00000000437 * Math.cos(5.40220619672 + 408.4389436113 * t);
-        if (highAccuracy) {
-            L3 += 0.00000000388 * Math.cos(2.57589594168 + 508.3503240922 * t);
-            L3 += 0.00000000421 * Math.cos(4.05836524024 + 543.9180590962 * t);
-            L3 += 0.00000000375 * Math.cos(1.22747948298 + 2324.9494088156 * t);
-            L3 += 0.00000000347 * Math.cos(0.59237194522 + 22.0914005278 * t);
-            L3 += 0.00000000433 * Math.cos(1.69090148012 + 1155.361157407 * t);
-            L3 += 0.00000000389 * Math.cos(1.46170367972 + 1073.6090241908 * t);
-            L3 += 0.00000000307 * Math.cos(1.82185086955 + 628.8515860501 * t);
-            L3 += 0.00000000409 * Math.cos(1.21858750514 + 1052.2683831884 * t);
-            L3 += 0.00000000309 * Math.cos(0.33610530663 + 6076.8903015542 * t);
-            L3 += 0.00000000309 * Math.cos(1.42279282226 + 6062.6632075526 * t);
-            L3 += 0.00000000340 * Math.cos(1.83325770310 + 1141.1340634054 * t);
-            L3 += 0.00000000303 * Math.cos(2.41584747330 + 127.4717966068 * t);
-            L3 += 0.00000000305 * Math.cos(5.34154702988 + 131.4039498699 * t);
-            L3 += 0.00000000298 * Math.cos(2.28594631393 + 635.9651330509 * t);
-            L3 += 0.00000000372 * Math.cos(1.03723911390 + 313.2104759189 * t);
-            L3 += 0.00000000338 * Math.cos(0.69100012338 + 1361.5467058442 * t);
-            L3 += 0.00000000325 * Math.cos(1.78816356937 + 1148.2476104062 * t);
-            L3 += 0.00000000322 * Math.cos(1.18628805010 + 721.6494195302 * t);
-            L3 += 0.00000000271 * Math.cos(2.45663156460 + 415.5524906121 * t);
-            L3 += 0.00000000251 * Math.cos(3.12046701975 + 1382.8873468466 * t);
-            L3 += 0.00000000254 * Math.cos(3.00353256829 + 618.5566453116 * t);
-            L3 += 0.00000000295 * Math.cos(0.35280179538 + 2730.2069586892 * t);
-            L3 += 0.00000000242 * Math.cos(1.52154324392 + 70.8494453042 * t);
-            L3 += 0.00000000296 * Math.cos(0.89576757167 + 2104.5367663768 * t);
-            L3 += 0.00000000264 * Math.cos(3.00987438634 + 661.2379273164 * t);
-            L3 += 0.00000000267 * Math.cos(0.31623829657 + 1677.9385755008 * t);
-            L3 += 0.00000000270 * Math.cos(2.56774718753 + 643.0786800517 * t);
-            L3 += 0.00000000261 * Math.cos(1.55058302472 + 1457.525933062 * t);
-            L3 += 0.00000000246 * Math.cos(2.29214585472 + 867.4234757536 * t);
-            L3 += 0.00000000269 * Math.cos(3.18157515051 + 750.1036075334 * t);
-            L3 += 0.00000000272 * Math.cos(1.12208982319 + 1788.1448967202 * t);
-            L3 += 0.00000000256 * Math.cos(0.37673546414 + 1279.794572628 * t);
-            L3 += 0.00000000206 * Math.cos(1.81129778306 + 497.4476361802 * t);
-            L3 += 0.00000000251 * Math.cos(0.61933213502 + 2413.8150890326 * t);
-            L3 += 0.00000000237 * Math.cos(3.35941544147 + 436.8931316145 * t);
-            L3 += 0.00000000247 * Math.cos(0.10102936687 + 99.9113804809 * t);
-            L3 += 0.00000000247 * Math.cos(0.93125798111 + 52.6901980395 * t);
-            L3 += 0.00000000221 * Math.cos(2.07880035795 + 824.7421937488 * t);
-            L3 += 0.00000000197 * Math.cos(6.16682223437 + 1258.4539316256 * t);
-            L3 += 0.00000000229 * Math.cos(5.57917534840 + 2943.5060541272 * t);
-            L3 += 0.00000000227 * Math.cos(0.43324651601 + 2737.32050569 * t);
-            L3 += 0.00000000203 * Math.cos(4.12623986247 + 337.732510659 * t);
-            L3 += 0.00000000214 * Math.cos(3.57607524509 + 934.9485149682 * t);
-            L3 += 0.00000000212 * Math.cos(1.25688162158 + 1773.9178027186 * t);
-            L3 += 0.00000000215 * Math.cos(0.88867647880 + 1038.0412891868 * t);
-            L3 += 0.00000000244 * Math.cos(5.51572084570 + 231.4583427027 * t);
-            L3 += 0.00000000181 * Math.cos(2.13821830481 + 416.3032501375 * t);
-            L3 += 0.00000000210 * Math.cos(4.19139167658 + 2221.856634597 * t);
-            L3 += 0.00000000178 * Math.cos(2.91685344537 + 74.7815985673 * t);
-            L3 += 0.00000000201 * Math.cos(0.46214583002 + 2854.6403739102 * t);
-            L3 += 0.00000000236 * Math.cos(4.64388694899 + 1905.4647649404 * t);
-            L3 += 0.00000000199 * Math.cos(1.54991619669 + 1471.7530270636 * t);
-            L3 += 0.00000000199 * Math.cos(0.70725247497 + 2420.9286360334 * t);
-            L3 += 0.00000000162 * Math.cos(2.51488345020 + 430.5303441391 * t);
-            L3 += 0.00000000160 * Math.cos(1.23508694599 + 1596.1864422846 * t);
-            L3 += 0.00000000175 * Math.cos(4.14605894816 + 2090.3096723752 * t);
-            L3 += 0.00000000152 * Math.cos(0.05796022559 + 32.2433289144 * t);
-            L3 += 0.00000000176 * Math.cos(1.29002070623 + 490.3340891794 * t);
-            L3 += 0.00000000154 * Math.cos(3.60622857548 + 650.9429865779 * t);
-            L3 += 0.00000000185 * Math.cos(4.74969742128 + 319.5732633943 * t);
-            L3 += 0.00000000154 * Math.cos(1.54587199996 + 1464.6394800628 * t);
-            L3 += 0.00000000108 * Math.cos(4.25125786500 + 145.6310438715 * t);
-            L3 += 0.00000000106 * Math.cos(1.04047809351 + 1162.4747044078 * t);
-            L3 += 0.00000000114 * Math.cos(2.64055737100 + 362.8622925726 * t);
-            L3 += 0.00000000093 * Math.cos(3.36746275886 + 483.2205421786 * t);
-            L3 += 0.00000000091 * Math.cos(2.05796248692 + 210.8514148832 * t);
-            L3 += 0.00000000091 * Math.cos(4.53336314765 + 241.7532834412 * t);
-            L3 += 0.00000000072 * Math.cos(3.74361312157 + 1485.9801210652 * t);
-            L3 += 0.00000000076 * Math.cos(3.33892447677 + 195.8906076987 * t);
-        }
-        return L3 * t * t * t;
-    }
-
-    public double L4(double t) // 68 terms of order 4
-    {
-        double L4 = 0;
-        L4 += 0.00001661894 * Math.cos(3.99826248978 + 7.1135470008 * t);
-        L4 += 0.00000257107 * Math.cos(2.98436499013 + 220.4126424388 * t);
-        L4 += 0.00000236344 * Math.cos(3.90241428075 + 14.2270940016 * t);
-        L4 += 0.00000149418 * Math.cos(2.74110824208 + 213.299095438 * t);
-        L4 += 0.00000109598 * Math.cos(1.51515739251 + 206.1855484372 * t);
-        L4 -= 0.00000113953;
-        L4 += 0.00000068390 * Math.cos(1.72120953337 + 426.598190876 * t);
-        L4 += 0.00000037699 * Math.cos(1.23795458356 + 199.0720014364 * t);
-        L4 += 0.00000040060 * Math.cos(2.04644897412 + 433.7117378768 * t);
-        L4 += 0.00000031219 * Math.cos(3.01094184090 + 227.5261894396 * t);
-        L4 += 0.00000015111 * Math.cos(0.82897064529 + 639.897286314 * t);
-        L4 += 0.00000009444 * Math.cos(3.71485300868 + 21.3406410024 * t);
-        L4 += 0.00000005690 * Math.cos(2.41995290633 + 419.4846438752 * t);
-        L4 += 0.00000004470 * Math.cos(1.45120818748 + 95.9792272178 * t);
-        L4 += 0.00000005608 * Math.cos(1.15607095740 + 647.0108333148 * t);
-        L4 += 0.00000004463 * Math.cos(2.11783225176 + 440.8252848776 * t);
-        L4 += 0.00000003229 * Math.cos(4.09278077834 + 110.2063212194 * t);
-        L4 += 0.00000002871 * Math.cos(2.77203153866 + 412.3710968744 * t);
-        L4 += 0.00000002796 * Math.cos(3.00730249564 + 88.865680217 * t);
-        L4 += 0.00000002638 * Math.cos(0.00255721254 + 853.196381752 * t);
-        L4 += 0.00000002574 * Math.cos(0.39246854091 + 103.0927742186 * t);
-        L4 += 0.00000001862 * Math.cos(5.07955457727 + 309.2783226558 * t);
-        L4 += 0.00000002225 * Math.cos(3.77689198137 + 117.3198682202 * t);
-        L4 += 0.00000001769 * Math.cos(5.19176876406 + 302.164775655 * t);
-        L4 += 0.00000001921 * Math.cos(2.82884328662 + 234.6397364404 * t);
-        L4 += 0.00000001805 * Math.cos(2.23816036743 + 216.4804891757 * t);
-        L4 += 0.00000001211 * Math.cos(1.54685246534 + 191.9584544356 * t);
-        L4 += 0.00000000765 * Math.cos(3.44501766503 + 323.5054166574 * t);
-        L4 += 0.00000000763 * Math.cos(4.83197222448 + 210.1177017003 * t);
-        L4 += 0.00000000613 * Math.cos(4.19052656353 + 515.463871093 * t);
-        L4 += 0.00000000648 * Math.cos(2.28591710303 + 209.3669421749 * t);
-        if (highAccuracy) {
-            L4 += 0.00000000616 * Math.cos(4.03194472161 + 522.5774180938 * t);
-            L4 += 0.00000000630 * Math.cos(2.37952532019 + 632.7837393132 * t);
-            L4 += 0.00000000639 * Math.cos(0.29772678242 + 860.3099287528 * t);
-            L4 += 0.00000000559 * Math.cos(2.17110060530 + 124.433415221 * t);
-            L4 += 0.00000000442 * Math.cos(2.23500083592 + 447.9388318784 * t);
-            L4 += 0.00000000407 * Math.cos(5.44515970990 + 1066.49547719 * t);
-            L4 += 0.00000000469 * Math.cos(1.26889429317 + 654.1243803156 * t);
-            L4 += 0.00000000488 * Math.cos(3.20329778617 + 405.2575498736 * t);
-            L4 += 0.00000000415 * Math.cos(3.12435410343 + 330.6189636582 * t);
-            L4 += 0.00000000442 * Math.cos(3.38933498625 + 81.7521332162 * t);
-            L4 += 0.00000000332 * Math.cos(4.12464206608 + 838.9692877504 * t);
-            L4 += 0.00000000320 * Math.cos(3.18332026736 + 529.6909650946 * t);
-            L4 += 0.00000000312 * Math.cos(1.40962796637 + 429.7795846137 * t);
-            L4 += 0.00000000291 * Math.cos(3.18885372262 + 1464.6394800628 * t);
-            L4 += 0.00000000333 * Math.cos(2.94355912397 + 728.762966531 * t);
-            L4 += 0.00000000235 * Math.cos(3.67049647573 + 1148.2476104062 * t);
-            L4 += 0.00000000286 * Math.cos(2.57895004576 + 1045.1548361876 * t);
-            L4 += 0.00000000223 * Math.cos(3.57980034401 + 1155.361157407 * t);
-            L4 += 0.00000000261 * Math.cos(2.04564143519 + 1677.9385755008 * t);
-            L4 += 0.00000000218 * Math.cos(2.61967125327 + 536.8045120954 * t);
-            L4 += 0.00000000262 * Math.cos(2.48322150677 + 625.6701923124 * t);
-            L4 += 0.00000000191 * Math.cos(4.39064160974 + 1574.8458012822 * t);
-            L4 += 0.00000000176 * Math.cos(1.26161895188 + 422.6660376129 * t);
-            L4 += 0.00000000190 * Math.cos(2.32693171200 + 223.5940361765 * t);
-            L4 += 0.00000000185 * Math.cos(1.08713469614 + 742.9900605326 * t);
-            L4 += 0.00000000168 * Math.cos(0.69946458053 + 824.7421937488 * t);
-            L4 += 0.00000000177 * Math.cos(5.02663339078 + 203.0041546995 * t);
-            L4 += 0.00000000218 * Math.cos(0.40426546037 + 867.4234757536 * t);
-            L4 += 0.00000000178 * Math.cos(3.67593243311 + 831.8557407496 * t);
-            L4 += 0.00000000175 * Math.cos(5.75326979098 + 1073.6090241908 * t);
-            L4 += 0.00000000156 * Math.cos(3.02120117572 + 1781.0313497194 * t);
-            L4 += 0.00000000148 * Math.cos(2.28313808274 + 295.0512286542 * t);
-            L4 += 0.00000000150 * Math.cos(3.48436135302 + 956.2891559706 * t);
-            L4 += 0.00000000152 * Math.cos(1.91404443241 + 942.062061969 * t);
-            L4 += 0.00000000146 * Math.cos(6.16519696640 + 316.3918696566 * t);
-            L4 += 0.00000000096 * Math.cos(2.93247663741 + 224.3447957019 * t);
-            L4 += 0.00000000088 * Math.cos(4.48383632427 + 423.4167971383 * t);
-        }
-        return L4 * t * t * t * t;
-    }
-
-    public double L5(double t) // 27 terms of order 5
-    {
-        double L5 = 0;
-        L5 += 0.00000123615 * Math.cos(2.25923345732 + 7.1135470008 * t);
-        L5 += 0.00000034190 * Math.cos(2.16250652689 + 14.2270940016 * t);
-        L5 += 0.00000027546 * Math.cos(1.19868150215 + 220.4126424388 * t);
-        L5 += 0.00000005818 * Math.cos(1.21584270184 + 227.5261894396 * t);
-        L5 += 0.00000005318 * Math.cos(0.23550400093 + 433.7117378768 * t);
-        L5 += 0.00000003677 * Math.cos(6.22669694355 + 426.598190876 * t);
-        L5 += 0.00000003057 * Math.cos(2.97372046322 + 199.0720014364 * t);
-        L5 += 0.00000002861 * Math.cos(4.28710932685 + 206.1855484372 * t);
-        L5 += 0.00000001617 * Math.cos(6.25265362286 + 213.299095438 * t);
-        L5 += 0.00000001279 * Math.cos(5.27612561266 + 639.897286314 * t);
-        if (highAccuracy) {
-            L5 += 0.00000000932 * Math.cos(5.56741549127 + 647.0108333148 * t);
-            L5 += 0.00000000756 * Math.cos(6.17716234487 + 191.9584544356 * t);
-            L5 += 0.00000000760 * Math.cos(0.69475544472 + 302.164775655 * t);
-            L5 += 0.00000001038 * Math.cos(0.23516951637 + 440.8252848776 * t);
-            L5 -= 0.00000001007;
-            L5 += 0.00000000549 * Math.cos(4.87733288264 + 88.865680217 * t);
-            L5 += 0.00000000504 * Math.cos(4.77955496203 + 419.4846438752 * t);
-            L5 += 0.00000000346 * Math.cos(4.31847547394 + 853.196381752 * t);
-            L5 += 0.00000000392 * Math.cos(5.69922389094 + 654.1243803156 * t);
-            L5 += 0.00000000242 * Math.cos(2.05052677361 + 323.5054166574 * t);
-            L5 += 0.00000000266 * Math.cos(1.11384528244 + 234.6397364404 * t);
-            L5 += 0.00000000199 * Math.cos(0.88505901097 + 309.2783226558 * t);
-            L5 += 0.00000000258 * Math.cos(5.10074489186 + 95.9792272178 * t);
-            L5 += 0.00000000166 * Math.cos(2.40063312194 + 515.463871093 * t);
-            L5 += 0.00000000155 * Math.cos(4.70433216164 + 860.3099287528 * t);
-            L5 += 0.00000000089 * Math.cos(1.36371070380 + 412.3710968744 * t);
-            L5 += 0.00000000102 * Math.cos(0.49450039082 + 117.3198682202 * t);
-        }
-        return L5 * t * t * t * t * t;
-    }
-
-    public double B0(double t) // 500 terms of order 0
-    {
-        double B0 = 0;
-        B0 += 0.04330678040 * Math.cos(3.60284428399 + 213.299095438 * t);
-        B0 += 0.00240348303 * Math.cos(2.85238489390 + 426.598190876 * t);
-        B0 += 0.00084745939;
-        B0 += 0.00030863357 * Math.cos(3.48441504465 + 220.4126424388 * t);
-        B0 += 0.00034116063 * Math.cos(0.57297307844 + 206.1855484372 * t);
-        B0 += 0.00014734070 * Math.cos(2.11846597870 + 639.897286314 * t);
-        B0 += 0.00009916668 * Math.cos(5.79003189405 + 419.4846438752 * t);
-        B0 += 0.00006993564 * Math.cos(4.73604689179 + 7.1135470008 * t);
-        B0 += 0.00004807587 * Math.cos(5.43305315602 + 316.3918696566 * t);
-        B0 += 0.00004788392 * Math.cos(4.96512927420 + 110.2063212194 * t);
-        B0 += 0.00003432125 * Math.cos(2.73255752123 + 433.7117378768 * t);
-        B0 += 0.00001506129 * Math.cos(6.01304536144 + 103.0927742186 * t);
-        B0 += 0.00001060298 * Math.cos(5.63099292414 + 529.6909650946 * t);
-        B0 += 0.00000969071 * Math.cos(5.20434966103 + 632.7837393132 * t);
-        B0 += 0.00000942050 * Math.cos(1.39646678088 + 853.196381752 * t);
-        B0 += 0.00000707645 * Math.cos(3.80302329547 + 323.5054166574 * t);
-        B0 += 0.00000552313 * Math.cos(5.13149109045 + 202.2533951741 * t);
-        B0 += 0.00000399675 * Math.cos(3.35891413961 + 227.5261894396 * t);
-        B0 += 0.00000316063 * Math.cos(1.99716764199 + 647.0108333148 * t);
-        B0 += 0.00000319380 * Math.cos(3.62571550980 + 209.3669421749 * t);
-        B0 += 0.00000284494 * Math.cos(4.88648481625 + 224.3447957019 * t);
-        B0 += 0.00000314225 * Math.cos(0.46510272410 + 217.2312487011 * t);
-        B0 += 0.00000236442 * Math.cos(2.13887472281 + 11.0457002639 * t);
-        B0 += 0.00000215354 * Math.cos(5.94982610103 + 846.0828347512 * t);
-        B0 += 0.00000208522 * Math.cos(2.12003893769 + 415.5524906121 * t);
-        B0 += 0.00000178958 * Math.cos(2.95361514672 + 63.7358983034 * t);
-        B0 += 0.00000207213 * Math.cos(0.73021462851 + 199.0720014364 * t);
-        B0 += 0.00000139140 * Math.cos(1.99821990940 + 735.8765135318 * t);
-        B0 += 0.00000134884 * Math.cos(5.24500819605 + 742.9900605326 * t);
-        B0 += 0.00000140585 * Math.cos(0.64417620299 + 490.3340891794 * t);
-        B0 += 0.00000121669 * Math.cos(3.11537140876 + 522.5774180938 * t);
-        B0 += 0.00000139240 * Math.cos(4.59535168021 + 14.2270940016 * t);
-        B0 += 0.00000115524 * Math.cos(3.10891547171 + 216.4804891757 * t);
-        B0 += 0.00000114218 * Math.cos(0.96261442133 + 210.1177017003 * t);
-        B0 += 0.00000096376 * Math.cos(4.48164339766 + 117.3198682202 * t);
-        B0 += 0.00000080593 * Math.cos(1.31692750150 + 277.0349937414 * t);
-        B0 += 0.00000072952 * Math.cos(3.05988482370 + 536.8045120954 * t);
-        B0 += 0.00000069261 * Math.cos(4.92378633635 + 309.2783226558 * t);
-        B0 += 0.00000074302 * Math.cos(2.89376539620 + 149.5631971346 * t);
-        B0 += 0.00000068040 * Math.cos(2.18002263974 + 351.8165923087 * t);
-        B0 += 0.00000061734 * Math.cos(0.67728106562 + 1066.49547719 * t);
-        B0 += 0.00000056598 * Math.cos(2.60963391288 + 440.8252848776 * t);
-        B0 += 0.00000048864 * Math.cos(5.78725874107 + 95.9792272178 * t);
-        B0 += 0.00000048243 * Math.cos(2.18211837430 + 74.7815985673 * t);
-        B0 += 0.00000038304 * Math.cos(5.29151303843 + 1059.3819301892 * t);
-        B0 += 0.00000036323 * Math.cos(1.63348365121 + 628.8515860501 * t);
-        B0 += 0.00000035055 * Math.cos(1.71279210041 + 1052.2683831884 * t);
-        B0 += 0.00000034270 * Math.cos(2.45740470599 + 422.6660376129 * t);
-        B0 += 0.00000034313 * Math.cos(5.97994514798 + 412.3710968744 * t);
-        B0 += 0.00000033787 * Math.cos(1.14073392951 + 949.1756089698 * t);
-        B0 += 0.00000031633 * Math.cos(4.14722153007 + 437.6438911399 * t);
-        B0 += 0.00000036833 * Math.cos(6.27769966148 + 1162.4747044078 * t);
-        B0 += 0.00000026980 * Math.cos(1.27154816810 + 860.3099287528 * t);
-        B0 += 0.00000023516 * Math.cos(2.74936525342 + 838.9692877504 * t);
-        B0 += 0.00000023460 * Math.cos(0.98962849901 + 210.8514148832 * t);
-        B0 += 0.00000023600 * Math.cos(4.11386961467 + 3.9321532631 * t);
-        B0 += 0.00000023631 * Math.cos(3.07427204313 + 215.7467759928 * t);
-        B0 += 0.00000020813 * Math.cos(3.51084686918 + 330.6189636582 * t);
-        B0 += 0.00000019509 * Math.cos(2.81857577372 + 127.4717966068 * t);
-        B0 += 0.00000017103 * Math.cos(3.89784279922 + 214.2623032845 * t);
-        B0 += 0.00000017635 * Math.cos(6.19715516746 + 703.6331846174 * t);
-        B0 += 0.00000017824 * Math.cos(2.28524493886 + 388.4651552382 * t);
-        B0 += 0.00000020935 * Math.cos(0.14356167048 + 430.5303441391 * t);
-        B0 += 0.00000016551 * Math.cos(1.66649120724 + 38.1330356378 * t);
-        B0 += 0.00000019100 * Math.cos(2.97699096081 + 137.0330241624 * t);
-        B0 += 0.00000015517 * Math.cos(4.54798410406 + 956.2891559706 * t);
-        B0 += 0.00000017065 * Math.cos(0.16611115812 + 212.3358875915 * t);
-        B0 += 0.00000014169 * Math.cos(0.48937283445 + 213.3472795478 * t);
-        B0 += 0.00000019027 * Math.cos(6.27326062836 + 423.4167971383 * t);
-        B0 += 0.00000013344 * Math.cos(2.37136126257 + 429.7795846137 * t);
-        B0 += 0.00000012565 * Math.cos(1.03178071173 + 563.6312150384 * t);
-        B0 += 0.00000014173 * Math.cos(3.57477564831 + 213.2509113282 * t);
-        B0 += 0.00000011374 * Math.cos(1.45300927024 + 1368.660252845 * t);
-        B0 += 0.00000010585 * Math.cos(6.17633425930 + 200.7689224658 * t);
-        B0 += 0.00000010600 * Math.cos(3.84358958373 + 138.5174968707 * t);
-        B0 += 0.00000010263 * Math.cos(2.17423692422 + 76.2660712756 * t);
-        B0 += 0.00000010072 * Math.cos(1.33197220789 + 565.1156877467 * t);
-        B0 += 0.00000012058 * Math.cos(0.44149242700 + 222.8603229936 * t);
-        B0 += 0.00000010367 * Math.cos(1.85278552549 + 350.3321196004 * t);
-        if (highAccuracy) {
-            B0 += 0.00000008706 * Math.cos(2.58144528603 + 1155.361157407 * t);
-            B0 += 0.00000008470 * Math.cos(1.97890349826 + 625.6701923124 * t);
-            B0 += 0.00000008518 * Math.cos(4.51649648578 + 3.1813937377 * t);
-            B0 += 0.00000007439 * Math.cos(4.92597321442 + 212.7778305762 * t);
-            B0 += 0.00000007409 * Math.cos(2.03506679104 + 288.0806940053 * t);
-            B0 += 0.00000008137 * Math.cos(3.98500592467 + 85.8272988312 * t);
-            B0 += 0.00000007985 * Math.cos(2.20794292064 + 362.8622925726 * t);
-            B0 += 0.00000006610 * Math.cos(6.14944028835 + 417.0369633204 * t);
-            B0 += 0.00000007753 * Math.cos(6.23664549070 + 1478.8665740644 * t);
-            B0 += 0.00000006318 * Math.cos(1.87388481013 + 654.1243803156 * t);
-            B0 += 0.00000006319 * Math.cos(1.17328438271 + 1265.5674786264 * t);
-            B0 += 0.00000005841 * Math.cos(2.35829915285 + 750.1036075334 * t);
-            B0 += 0.00000005808 * Math.cos(5.01602242794 + 479.2883889155 * t);
-            B0 += 0.00000008079 * Math.cos(0.42574715104 + 554.0699874828 * t);
-            B0 += 0.00000006014 * Math.cos(5.58952234348 + 425.1137181677 * t);
-            B0 += 0.00000007444 * Math.cos(5.41859596459 + 213.8203602998 * t);
-            B0 += 0.00000007567 * Math.cos(2.68446523795 + 191.2076949102 * t);
-            B0 += 0.00000007421 * Math.cos(4.19354269508 + 9.5612275556 * t);
-            B0 += 0.00000005466 * Math.cos(3.21737829505 + 234.6397364404 * t);
-            B0 += 0.00000005661 * Math.cos(1.46982713550 + 265.9892934775 * t);
-            B0 += 0.00000005851 * Math.cos(4.81776629912 + 1.4844727083 * t);
-            B0 += 0.00000005341 * Math.cos(3.45755372717 + 203.7378678824 * t);
-            B0 += 0.00000004960 * Math.cos(1.04628615559 + 12.5301729722 * t);
-            B0 += 0.00000004920 * Math.cos(3.85622235967 + 173.9422195228 * t);
-            B0 += 0.00000004883 * Math.cos(1.94823282939 + 195.1398481733 * t);
-            B0 += 0.00000005621 * Math.cos(0.81869581274 + 52.6901980395 * t);
-            B0 += 0.00000005200 * Math.cos(3.32827437636 + 515.463871093 * t);
-            B0 += 0.00000004927 * Math.cos(3.81806549732 + 225.8292684102 * t);
-            B0 += 0.00000005033 * Math.cos(0.10756875163 + 252.6559713532 * t);
-            B0 += 0.00000004416 * Math.cos(5.45506938037 + 408.4389436113 * t);
-            B0 += 0.00000004169 * Math.cos(1.21145214135 + 1685.0521225016 * t);
-            B0 += 0.00000004066 * Math.cos(6.24213578122 + 1279.794572628 * t);
-            B0 += 0.00000003972 * Math.cos(6.13850317719 + 217.491881132 * t);
-            B0 += 0.00000005398 * Math.cos(5.67212179194 + 1375.7737998458 * t);
-            B0 += 0.00000003916 * Math.cos(5.96105725915 + 210.3783341312 * t);
-            B0 += 0.00000004017 * Math.cos(0.99840226682 + 842.1506814881 * t);
-            B0 += 0.00000003899 * Math.cos(4.58983662507 + 1272.6810256272 * t);
-            B0 += 0.00000003764 * Math.cos(3.30663337976 + 212.5483359126 * t);
-            B0 += 0.00000004345 * Math.cos(3.18562241830 + 414.0680179038 * t);
-            B0 += 0.00000003565 * Math.cos(4.75262007127 + 207.8824694666 * t);
-            B0 += 0.00000003542 * Math.cos(2.30814954338 + 1471.7530270636 * t);
-            B0 += 0.00000003732 * Math.cos(1.61040235688 + 635.9651330509 * t);
-            B0 += 0.00000003709 * Math.cos(2.97082943086 + 223.5940361765 * t);
-            B0 += 0.00000003576 * Math.cos(3.83436862558 + 483.2205421786 * t);
-            B0 += 0.00000004053 * Math.cos(3.72105017218 + 942.062061969 * t);
-            B0 += 0.00000003756 * Math.cos(0.74987556308 + 214.0498549634 * t);
-            B0 += 0.00000003162 * Math.cos(3.64550741000 + 207.6700211455 * t);
-            B0 += 0.00000003149 * Math.cos(2.27647454229 + 728.762966531 * t);
-            B0 += 0.00000003971 * Math.cos(4.37874143597 + 216.2198567448 * t);
-            B0 += 0.00000003541 * Math.cos(5.62281936827 + 218.7157214094 * t);
-            B0 += 0.00000002965 * Math.cos(3.40117024932 + 650.9429865779 * t);
-            B0 += 0.00000003949 * Math.cos(4.19728912450 + 209.106309744 * t);
-            B0 += 0.00000002853 * Math.cos(4.81077453523 + 231.4583427027 * t);
-            B0 += 0.00000002826 * Math.cos(0.86682282341 + 217.964961884 * t);
-            B0 += 0.00000002970 * Math.cos(5.75162134301 + 160.6088973985 * t);
-            B0 += 0.00000002724 * Math.cos(0.47941267764 + 497.4476361802 * t);
-            B0 += 0.00000002787 * Math.cos(4.03144791896 + 62.2514255951 * t);
-            B0 += 0.00000002605 * Math.cos(5.04152791794 + 65.2203710117 * t);
-            B0 += 0.00000002652 * Math.cos(0.30602610654 + 424.1505103212 * t);
-            B0 += 0.00000002543 * Math.cos(2.76499056123 + 543.9180590962 * t);
-            B0 += 0.00000002485 * Math.cos(5.78396049817 + 99.1606209555 * t);
-            B0 += 0.00000003209 * Math.cos(0.42853440759 + 218.9281697305 * t);
-            B0 += 0.00000002509 * Math.cos(2.94704589100 + 70.8494453042 * t);
-            B0 += 0.00000002308 * Math.cos(0.63861650866 + 251.4321310758 * t);
-            B0 += 0.00000002869 * Math.cos(4.31959346745 + 767.3690829208 * t);
-            B0 += 0.00000002232 * Math.cos(0.56929937568 + 1073.6090241908 * t);
-            B0 += 0.00000002245 * Math.cos(1.69945964547 + 488.8496164711 * t);
-            B0 += 0.00000002283 * Math.cos(1.55589787463 + 601.7642506762 * t);
-            B0 += 0.00000002384 * Math.cos(4.44583493310 + 21.3406410024 * t);
-            B0 += 0.00000002096 * Math.cos(5.77425542767 + 88.865680217 * t);
-            B0 += 0.00000002363 * Math.cos(3.35786310868 + 124.433415221 * t);
-            B0 += 0.00000002162 * Math.cos(6.24029269257 + 1795.258443721 * t);
-            B0 += 0.00000002452 * Math.cos(3.19804814047 + 208.633228992 * t);
-            B0 += 0.00000002033 * Math.cos(4.87029603776 + 327.4375699205 * t);
-            B0 += 0.00000001950 * Math.cos(5.56004000293 + 18.1592472647 * t);
-            B0 += 0.00000002283 * Math.cos(4.22375355881 + 22.0914005278 * t);
-            B0 += 0.00000002217 * Math.cos(4.61433094630 + 302.164775655 * t);
-            B0 += 0.00000001888 * Math.cos(5.45600788064 + 142.4496501338 * t);
-            B0 += 0.00000002075 * Math.cos(3.55622165076 + 1169.5882514086 * t);
-            B0 += 0.00000002069 * Math.cos(2.75786819366 + 491.8185618877 * t);
-            B0 += 0.00000001810 * Math.cos(5.96568495526 + 213.1872208534 * t);
-            B0 += 0.00000001813 * Math.cos(1.39785500313 + 211.8146227297 * t);
-            B0 += 0.00000001843 * Math.cos(1.15001484281 + 203.0041546995 * t);
-            B0 += 0.00000001854 * Math.cos(1.41350087782 + 1581.959348283 * t);
-            B0 += 0.00000001697 * Math.cos(3.23613719814 + 427.5613987225 * t);
-            B0 += 0.00000001736 * Math.cos(5.45933992115 + 916.9322800554 * t);
-            B0 += 0.00000001714 * Math.cos(6.14729146384 + 643.8294395771 * t);
-            B0 += 0.00000001948 * Math.cos(5.70817363392 + 425.6349830295 * t);
-            B0 += 0.00000001770 * Math.cos(3.36194411768 + 248.7238180901 * t);
-            B0 += 0.00000001611 * Math.cos(0.97888081762 + 2001.4439921582 * t);
-            B0 += 0.00000001971 * Math.cos(2.59654430358 + 429.0458714308 * t);
-            B0 += 0.00000001628 * Math.cos(0.74011617198 + 177.8743727859 * t);
-            B0 += 0.00000001564 * Math.cos(2.04342011485 + 1788.1448967202 * t);
-            B0 += 0.00000001574 * Math.cos(6.01995224314 + 426.6463749858 * t);
-            B0 += 0.00000001939 * Math.cos(5.48134669380 + 636.7158925763 * t);
-            B0 += 0.00000001651 * Math.cos(4.61629429952 + 621.7380390493 * t);
-            B0 += 0.00000001552 * Math.cos(2.55542734908 + 692.5874843535 * t);
-            B0 += 0.00000001484 * Math.cos(6.17173980637 + 56.6223513026 * t);
-            B0 += 0.00000001782 * Math.cos(3.26122906302 + 175.1660598002 * t);
-            B0 += 0.00000001503 * Math.cos(2.59953333916 + 228.276948965 * t);
-            B0 += 0.00000001559 * Math.cos(0.36281050773 + 776.9303104764 * t);
-            B0 += 0.00000001799 * Math.cos(3.46395976970 + 1258.4539316256 * t);
-            B0 += 0.00000001521 * Math.cos(3.75588462293 + 213.5115437591 * t);
-            B0 += 0.00000001810 * Math.cos(4.37552745264 + 213.4109700226 * t);
-            B0 += 0.00000001521 * Math.cos(0.30214462385 + 213.0866471169 * t);
-            B0 += 0.00000001608 * Math.cos(4.66724132818 + 269.9214467406 * t);
-            B0 += 0.00000001525 * Math.cos(1.47939329423 + 198.321241911 * t);
-            B0 += 0.00000001408 * Math.cos(1.38491846750 + 501.3797894433 * t);
-            B0 += 0.00000001327 * Math.cos(0.23760037979 + 148.0787244263 * t);
-            B0 += 0.00000001305 * Math.cos(2.41201772023 + 275.5505210331 * t);
-            B0 += 0.00000001578 * Math.cos(2.82443242444 + 426.5500067662 * t);
-            B0 += 0.00000001203 * Math.cos(1.36928065935 + 235.3904959658 * t);
-            B0 += 0.00000001296 * Math.cos(5.75203277385 + 1692.1656695024 * t);
-            B0 += 0.00000001295 * Math.cos(3.04090959062 + 831.8557407496 * t);
-            B0 += 0.00000001283 * Math.cos(1.62400181159 + 643.0786800517 * t);
-            B0 += 0.00000001617 * Math.cos(1.31181209458 + 214.7835681463 * t);
-            B0 += 0.00000001346 * Math.cos(4.01262069353 + 278.5194664497 * t);
-            B0 += 0.00000001166 * Math.cos(0.09590019561 + 340.7708920448 * t);
-            B0 += 0.00000001115 * Math.cos(2.20460481017 + 221.3758502853 * t);
-            B0 += 0.00000001176 * Math.cos(1.07528227869 + 312.1990839626 * t);
-            B0 += 0.00000001107 * Math.cos(1.50329021421 + 289.5651667136 * t);
-            B0 += 0.00000001143 * Math.cos(4.40125874383 + 213.5597278689 * t);
-            B0 += 0.00000001253 * Math.cos(0.21632769953 + 404.5067903482 * t);
-            B0 += 0.00000001074 * Math.cos(3.17412275025 + 98.8999885246 * t);
-            B0 += 0.00000001103 * Math.cos(0.23626839162 + 617.8058857862 * t);
-            B0 += 0.00000001077 * Math.cos(3.51670933532 + 312.4597163935 * t);
-            B0 += 0.00000001039 * Math.cos(0.53953974796 + 778.4147831847 * t);
-            B0 += 0.00000001195 * Math.cos(2.11232088496 + 205.2223405907 * t);
-            B0 += 0.00000001093 * Math.cos(5.16243153571 + 630.3360587584 * t);
-            B0 += 0.00000001143 * Math.cos(5.93977485365 + 213.0384630071 * t);
-            B0 += 0.00000001040 * Math.cos(4.79631324365 + 106.2741679563 * t);
-            B0 += 0.00000001100 * Math.cos(0.02509241739 + 219.4494345923 * t);
-            B0 += 0.00000001311 * Math.cos(5.93900415785 + 436.1594184316 * t);
-            B0 += 0.00000001260 * Math.cos(0.72481995446 + 355.7487455718 * t);
-            B0 += 0.00000000950 * Math.cos(2.00801292252 + 1045.1548361876 * t);
-            B0 += 0.00000001186 * Math.cos(1.84906064486 + 151.0476698429 * t);
-            B0 += 0.00000000974 * Math.cos(3.01092368346 + 696.5196376166 * t);
-            B0 += 0.00000000924 * Math.cos(4.88158186437 + 39.3568759152 * t);
-            B0 += 0.00000000961 * Math.cos(2.80113869315 + 738.7972748386 * t);
-            B0 += 0.00000001011 * Math.cos(6.27004359435 + 121.2520214833 * t);
-            B0 += 0.00000000904 * Math.cos(4.15218356485 + 426.0769260142 * t);
-            B0 += 0.00000000904 * Math.cos(4.24232505252 + 10.2949407385 * t);
-            B0 += 0.00000000895 * Math.cos(2.47587956888 + 447.9388318784 * t);
-            B0 += 0.00000001186 * Math.cos(0.85270715988 + 525.4981794006 * t);
-            B0 += 0.00000000824 * Math.cos(3.97540449663 + 210.5907824523 * t);
-            B0 += 0.00000000831 * Math.cos(4.05299295705 + 207.1487562837 * t);
-            B0 += 0.00000000937 * Math.cos(5.44353432307 + 344.7030453079 * t);
-            B0 += 0.00000000823 * Math.cos(2.08766677969 + 358.9301393095 * t);
-            B0 += 0.00000000971 * Math.cos(5.09512804595 + 1589.0728952838 * t);
-            B0 += 0.00000001037 * Math.cos(1.04152859909 + 2.4476805548 * t);
-            B0 += 0.00000000816 * Math.cos(0.62175655307 + 188.9200730498 * t);
-            B0 += 0.00000000798 * Math.cos(3.36396062989 + 237.6781178262 * t);
-            B0 += 0.00000000755 * Math.cos(5.90983584858 + 284.1485407422 * t);
-            B0 += 0.00000000870 * Math.cos(1.62765846893 + 114.1384744825 * t);
-            B0 += 0.00000000734 * Math.cos(6.23523714922 + 2111.6503133776 * t);
-            B0 += 0.00000000767 * Math.cos(2.73651219269 + 627.3671133418 * t);
-            B0 += 0.00000000701 * Math.cos(0.72526525525 + 10213.285546211 * t);
-            B0 += 0.00000000801 * Math.cos(5.84130533519 + 905.8865797915 * t);
-            B0 += 0.00000000710 * Math.cos(1.78740818763 + 2104.5367663768 * t);
-            B0 += 0.00000000670 * Math.cos(0.75839374890 + 2317.8358618148 * t);
-            B0 += 0.00000000720 * Math.cos(4.95645178898 + 638.4128136057 * t);
-            B0 += 0.00000000796 * Math.cos(4.87623914638 + 342.2553647531 * t);
-            B0 += 0.00000000703 * Math.cos(0.35096991676 + 220.4608265486 * t);
-            B0 += 0.00000000835 * Math.cos(3.19492825640 + 1574.8458012822 * t);
-            B0 += 0.00000000824 * Math.cos(0.08813665925 + 216.0074084237 * t);
-            B0 += 0.00000000653 * Math.cos(4.19599635390 + 247.2393453818 * t);
-            B0 += 0.00000000826 * Math.cos(4.66845240923 + 427.1194557378 * t);
-            B0 += 0.00000000690 * Math.cos(0.41873449575 + 5856.4776591154 * t);
-            B0 += 0.00000000690 * Math.cos(1.34023204821 + 6283.0758499914 * t);
-            B0 += 0.00000000690 * Math.cos(0.58291546593 + 213.4591541324 * t);
-            B0 += 0.00000000639 * Math.cos(1.20304559619 + 867.4234757536 * t);
-            B0 += 0.00000000830 * Math.cos(1.57233214789 + 1898.3512179396 * t);
-            B0 += 0.00000000753 * Math.cos(1.51187970880 + 576.1613880106 * t);
-            B0 += 0.00000000629 * Math.cos(2.83598833891 + 420.9691165835 * t);
-            B0 += 0.00000000690 * Math.cos(3.48062808501 + 213.1390367436 * t);
-            B0 += 0.00000000600 * Math.cos(5.22938546212 + 212.0270710508 * t);
-            B0 += 0.00000000565 * Math.cos(5.28099337758 + 423.6774295692 * t);
-            B0 += 0.00000000552 * Math.cos(5.83265103738 + 84.3428261229 * t);
-            B0 += 0.00000000546 * Math.cos(3.56588711151 + 1485.9801210652 * t);
-            B0 += 0.00000000642 * Math.cos(6.15007145598 + 179.3588454942 * t);
-            B0 += 0.00000000697 * Math.cos(1.91977327925 + 134.5853436076 * t);
-            B0 += 0.00000000648 * Math.cos(5.15917450752 + 8.0767548473 * t);
-            B0 += 0.00000000551 * Math.cos(3.33109164145 + 980.6681783588 * t);
-            B0 += 0.00000000511 * Math.cos(3.87073988213 + 125.9873238985 * t);
-            B0 += 0.00000000506 * Math.cos(0.80261216855 + 181.0557665236 * t);
-            B0 += 0.00000000564 * Math.cos(4.05871107615 + 831.1049812242 * t);
-            B0 += 0.00000000681 * Math.cos(3.45804290093 + 220.364458329 * t);
-            B0 += 0.00000000541 * Math.cos(2.39252901431 + 421.93232443 * t);
-            B0 += 0.00000000498 * Math.cos(3.11515053568 + 439.1283638482 * t);
-            B0 += 0.00000000517 * Math.cos(2.75430004800 + 1148.2476104062 * t);
-            B0 += 0.00000000491 * Math.cos(4.47199498503 + 558.0021407459 * t);
-            B0 += 0.00000000467 * Math.cos(4.18144797677 + 444.7574381407 * t);
-            B0 += 0.00000000458 * Math.cos(0.60848440253 + 206.233732547 * t);
-            B0 += 0.00000000542 * Math.cos(3.28613020157 + 245.5424243524 * t);
-            B0 += 0.00000000477 * Math.cos(5.48556902348 + 35.4247226521 * t);
-            B0 += 0.00000000474 * Math.cos(2.42545073874 + 436.8931316145 * t);
-            B0 += 0.00000000481 * Math.cos(3.72498040536 + 206.1373643274 * t);
-            B0 += 0.00000000435 * Math.cos(1.61732308614 + 191.9584544356 * t);
-            B0 += 0.00000000488 * Math.cos(0.26059969650 + 416.3032501375 * t);
-            B0 += 0.00000000493 * Math.cos(4.13699180247 + 518.6452648307 * t);
-            B0 += 0.00000000595 * Math.cos(5.11706007934 + 214.5711198252 * t);
-            B0 += 0.00000000486 * Math.cos(5.17710069856 + 67.6680515665 * t);
-            B0 += 0.00000000463 * Math.cos(5.53192185211 + 418.5214360287 * t);
-            B0 += 0.00000000421 * Math.cos(5.57377685121 + 430.79097657 * t);
-            B0 += 0.00000000446 * Math.cos(6.20735049659 + 73.297125859 * t);
-            B0 += 0.00000000421 * Math.cos(4.65837340438 + 543.0242872189 * t);
-            B0 += 0.00000000435 * Math.cos(2.95256554350 + 5.4166259714 * t);
-            B0 += 0.00000000416 * Math.cos(4.36391909218 + 113.3877149571 * t);
-            B0 += 0.00000000495 * Math.cos(5.38121485133 + 391.1734682239 * t);
-            B0 += 0.00000000520 * Math.cos(3.99939347071 + 618.5566453116 * t);
-            B0 += 0.00000000429 * Math.cos(3.26903461513 + 144.1465711632 * t);
-            B0 += 0.00000000435 * Math.cos(1.60816661416 + 2214.7430875962 * t);
-            B0 += 0.00000000398 * Math.cos(2.38329818919 + 299.1263942692 * t);
-            B0 += 0.00000000399 * Math.cos(0.06301179341 + 206.706813299 * t);
-            B0 += 0.00000000394 * Math.cos(2.75496219113 + 425.8474313506 * t);
-            B0 += 0.00000000508 * Math.cos(2.86873328929 + 337.732510659 * t);
-            B0 += 0.00000000475 * Math.cos(5.68530292289 + 320.3240229197 * t);
-            B0 += 0.00000000432 * Math.cos(0.68132398291 + 116.4260963429 * t);
-            B0 += 0.00000000404 * Math.cos(1.84249441289 + 9786.687355335 * t);
-            B0 += 0.00000000371 * Math.cos(5.83382962844 + 2008.557539159 * t);
-            B0 += 0.00000000382 * Math.cos(4.24995364794 + 387.2413149608 * t);
-            B0 += 0.00000000416 * Math.cos(3.81986946256 + 429.5189521828 * t);
-            B0 += 0.00000000491 * Math.cos(4.18623117082 + 219.891377577 * t);
-            B0 += 0.00000000352 * Math.cos(1.65610545221 + 963.4027029714 * t);
-            B0 += 0.00000000353 * Math.cos(5.50209003460 + 305.3461693927 * t);
-            B0 += 0.00000000431 * Math.cos(4.39380503963 + 353.301065017 * t);
-            B0 += 0.00000000375 * Math.cos(2.67828133567 + 319.5732633943 * t);
-            B0 += 0.00000000359 * Math.cos(3.54801032661 + 421.1815649046 * t);
-            B0 += 0.00000000339 * Math.cos(5.19074405462 + 69.1525242748 * t);
-            B0 += 0.00000000358 * Math.cos(1.11857595997 + 1044.4040766622 * t);
-            B0 += 0.00000000334 * Math.cos(1.84260994740 + 1361.5467058442 * t);
-            B0 += 0.00000000328 * Math.cos(6.07106596408 + 710.7467316182 * t);
-            B0 += 0.00000000328 * Math.cos(1.48618893585 + 2420.9286360334 * t);
-            B0 += 0.00000000359 * Math.cos(5.62797136991 + 78.7137518304 * t);
-            B0 += 0.00000000405 * Math.cos(2.91366762549 + 1891.2376709388 * t);
-            B0 += 0.00000000398 * Math.cos(2.08900381937 + 4.665866446 * t);
-            B0 += 0.00000000326 * Math.cos(1.62373774313 + 5.6290742925 * t);
-            B0 += 0.00000000405 * Math.cos(1.87470341223 + 114.3991069134 * t);
-            B0 += 0.00000000393 * Math.cos(0.56487847337 + 128.9562693151 * t);
-            B0 += 0.00000000312 * Math.cos(5.29291124448 + 347.8844390456 * t);
-            B0 += 0.00000000310 * Math.cos(0.31232452686 + 427.3489504014 * t);
-            B0 += 0.00000000308 * Math.cos(2.84912656825 + 487.3651437628 * t);
-            B0 += 0.00000000291 * Math.cos(3.25977762780 + 494.2662424425 * t);
-            B0 += 0.00000000303 * Math.cos(4.93962873690 + 373.9079928365 * t);
-            B0 += 0.00000000289 * Math.cos(2.83591185309 + 212.0752551606 * t);
-            B0 += 0.00000000289 * Math.cos(2.05371431350 + 214.5229357154 * t);
-            B0 += 0.00000000398 * Math.cos(6.03822674845 + 432.2272651685 * t);
-            B0 += 0.00000000288 * Math.cos(6.16001418475 + 969.6224780949 * t);
-            B0 += 0.00000000296 * Math.cos(0.30332524090 + 1055.4497769261 * t);
-            B0 += 0.00000000280 * Math.cos(1.29728455136 + 241.6102710893 * t);
-            B0 += 0.00000000280 * Math.cos(5.41630221077 + 1493.093668066 * t);
-            B0 += 0.00000000315 * Math.cos(6.24003908326 + 465.9550667912 * t);
-            B0 += 0.00000000274 * Math.cos(5.03981944861 + 458.8415197904 * t);
-            B0 += 0.00000000296 * Math.cos(3.04457317761 + 211.6021744086 * t);
-            B0 += 0.00000000274 * Math.cos(2.72607352851 + 145.6310438715 * t);
-            B0 += 0.00000000293 * Math.cos(1.32452002382 + 159.1244246902 * t);
-            B0 += 0.00000000263 * Math.cos(6.11559198968 + 2428.0421830342 * t);
-            B0 += 0.00000000323 * Math.cos(1.17502395659 + 815.0633461142 * t);
-            B0 += 0.00000000345 * Math.cos(5.37083374878 + 428.0826635843 * t);
-            B0 += 0.00000000258 * Math.cos(0.43205106363 + 2634.2277314714 * t);
-            B0 += 0.00000000275 * Math.cos(0.91628212149 + 849.2642284889 * t);
-            B0 += 0.00000000340 * Math.cos(1.29378813067 + 329.7251917809 * t);
-            B0 += 0.00000000294 * Math.cos(4.29399534634 + 4.192785694 * t);
-            B0 += 0.00000000339 * Math.cos(1.03883773894 + 32.2433289144 * t);
-            B0 += 0.00000000244 * Math.cos(3.52504227332 + 184.9879197867 * t);
-            B0 += 0.00000000243 * Math.cos(3.13047989401 + 525.7588118315 * t);
-            B0 += 0.00000000260 * Math.cos(5.99216785208 + 20.6069278195 * t);
-            B0 += 0.00000000303 * Math.cos(3.96772261614 + 934.9485149682 * t);
-            B0 += 0.00000000285 * Math.cos(5.69474711283 + 220.9339073006 * t);
-            B0 += 0.00000000239 * Math.cos(2.09516779457 + 292.0128472684 * t);
-            B0 += 0.00000000242 * Math.cos(0.98744748894 + 282.4516197128 * t);
-            B0 += 0.00000000278 * Math.cos(2.81667003542 + 87.3117715395 * t);
-            B0 += 0.00000000285 * Math.cos(4.76303256917 + 54.1746707478 * t);
-            B0 += 0.00000000236 * Math.cos(5.79560286324 + 280.9671470045 * t);
-            B0 += 0.00000000246 * Math.cos(1.83689902078 + 214.9960164674 * t);
-            B0 += 0.00000000221 * Math.cos(0.48302467341 + 153.4953503977 * t);
-            B0 += 0.00000000238 * Math.cos(3.52738705554 + 267.4737661858 * t);
-            B0 += 0.00000000293 * Math.cos(5.91401607974 + 14.977853527 * t);
-            B0 += 0.00000000235 * Math.cos(0.29884419224 + 14.0146456805 * t);
-            B0 += 0.00000000229 * Math.cos(3.91975580405 + 182.279606801 * t);
-            B0 += 0.00000000217 * Math.cos(3.96328561940 + 894.8408795276 * t);
-            B0 += 0.00000000218 * Math.cos(1.46057992688 + 2531.1349572528 * t);
-            B0 += 0.00000000210 * Math.cos(2.01138855049 + 211.8628068395 * t);
-            B0 += 0.00000000210 * Math.cos(2.87823761610 + 214.7353840365 * t);
-            B0 += 0.00000000223 * Math.cos(2.49651288358 + 1464.6394800628 * t);
-            B0 += 0.00000000217 * Math.cos(4.03234048538 + 835.0371344873 * t);
-            B0 += 0.00000000209 * Math.cos(2.97542058241 + 273.1028404783 * t);
-            B0 += 0.00000000210 * Math.cos(2.56849303008 + 593.426863398 * t);
-            B0 += 0.00000000218 * Math.cos(1.71859101510 + 0.9632078465 * t);
-            B0 += 0.00000000232 * Math.cos(1.86083014117 + 221.1634019642 * t);
-            B0 += 0.00000000199 * Math.cos(3.53454927143 + 219.6618829134 * t);
-            B0 += 0.00000000197 * Math.cos(2.65338829617 + 864.2420820159 * t);
-            B0 += 0.00000000219 * Math.cos(3.46267185338 + 1182.9215735329 * t);
-            B0 += 0.00000000199 * Math.cos(2.56046317223 + 264.5048207692 * t);
-            B0 += 0.00000000199 * Math.cos(2.03508708900 + 757.2171545342 * t);
-            B0 += 0.00000000237 * Math.cos(5.05443109284 + 254.9435932136 * t);
-            B0 += 0.00000000191 * Math.cos(2.07106909876 + 756.3233826569 * t);
-            B0 += 0.00000000192 * Math.cos(1.67985944172 + 1677.9385755008 * t);
-            B0 += 0.00000000191 * Math.cos(1.05067348453 + 702.1487119091 * t);
-            B0 += 0.00000000181 * Math.cos(1.89151852263 + 6.1503391543 * t);
-            B0 += 0.00000000205 * Math.cos(1.98151360584 + 199.2844497575 * t);
-            B0 += 0.00000000181 * Math.cos(1.25381796494 + 2737.32050569 * t);
-            B0 += 0.00000000186 * Math.cos(2.81416016738 + 569.0478410098 * t);
-            B0 += 0.00000000215 * Math.cos(4.52373060846 + 3060.8259223474 * t);
-            B0 += 0.00000000222 * Math.cos(2.90133577623 + 205.4347889118 * t);
-            B0 += 0.00000000246 * Math.cos(3.55891849574 + 1251.3403846248 * t);
-            B0 += 0.00000000191 * Math.cos(4.20221553993 + 556.5176680376 * t);
-            B0 += 0.00000000217 * Math.cos(2.64509967170 + 2207.6295405954 * t);
-            B0 += 0.00000000225 * Math.cos(0.14271906959 + 131.4039498699 * t);
-            B0 += 0.00000000189 * Math.cos(1.27260556263 + 192.6921676185 * t);
-            B0 += 0.00000000179 * Math.cos(6.15189171649 + 2.9207613068 * t);
-            B0 += 0.00000000178 * Math.cos(2.01622328964 + 705.1176573257 * t);
-            B0 += 0.00000000181 * Math.cos(3.62483757675 + 233.9060232575 * t);
-            B0 += 0.00000000188 * Math.cos(2.92836809840 + 227.3137411185 * t);
-            B0 += 0.00000000164 * Math.cos(3.50682537694 + 1382.8873468466 * t);
-            B0 += 0.00000000166 * Math.cos(5.85452227121 + 637.4496057592 * t);
-            B0 += 0.00000000160 * Math.cos(0.13309484488 + 431.264057322 * t);
-            B0 += 0.00000000158 * Math.cos(5.92242110049 + 96.8729990951 * t);
-            B0 += 0.00000000178 * Math.cos(4.55557913565 + 46.470422916 * t);
-            B0 += 0.00000000157 * Math.cos(1.35908014451 + 51.2057253312 * t);
-            B0 += 0.00000000155 * Math.cos(6.24092514222 + 464.7312265138 * t);
-            B0 += 0.00000000155 * Math.cos(6.02684189458 + 1286.9081196288 * t);
-            B0 += 0.00000000155 * Math.cos(1.36669731999 + 206.9363079626 * t);
-            B0 += 0.00000000175 * Math.cos(4.95121713507 + 1905.4647649404 * t);
-            B0 += 0.00000000153 * Math.cos(6.06094547271 + 561.1835344836 * t);
-            B0 += 0.00000000208 * Math.cos(4.50537355579 + 24.3790223882 * t);
-            B0 += 0.00000000185 * Math.cos(5.49802440713 + 205.6642835754 * t);
-            B0 += 0.00000000160 * Math.cos(4.18196878816 + 3340.6124266998 * t);
-            B0 += 0.00000000160 * Math.cos(2.85370771355 + 209.1544938538 * t);
-            B0 += 0.00000000161 * Math.cos(4.98020340619 + 2648.454825473 * t);
-            B0 += 0.00000000152 * Math.cos(0.85558875667 + 570.7447620392 * t);
-            B0 += 0.00000000156 * Math.cos(2.03601440129 + 217.4436970222 * t);
-            B0 += 0.00000000192 * Math.cos(3.98017256784 + 212.4053235607 * t);
-            B0 += 0.00000000192 * Math.cos(0.90945359875 + 214.1928673153 * t);
-            B0 += 0.00000000198 * Math.cos(3.54289000289 + 533.6231183577 * t);
-            B0 += 0.00000000160 * Math.cos(2.51522796187 + 3127.3133312618 * t);
-            B0 += 0.00000000145 * Math.cos(0.93414637377 + 1994.3304451574 * t);
-            B0 += 0.00000000141 * Math.cos(5.66801998888 + 120.358249606 * t);
-            B0 += 0.00000000141 * Math.cos(3.88995778619 + 454.9093665273 * t);
-            B0 += 0.00000000152 * Math.cos(1.01453902153 + 2840.4132799086 * t);
-            B0 += 0.00000000172 * Math.cos(4.15145223592 + 2.9689454166 * t);
-            B0 += 0.00000000146 * Math.cos(5.26789260159 + 7.065362891 * t);
-            B0 += 0.00000000177 * Math.cos(0.43196690516 + 140.001969579 * t);
-            B0 += 0.00000000144 * Math.cos(3.95680110579 + 300.6108669775 * t);
-            B0 += 0.00000000152 * Math.cos(4.29475572258 + 555.5544601911 * t);
-            B0 += 0.00000000143 * Math.cos(4.15264164139 + 31.019488637 * t);
-            B0 += 0.00000000138 * Math.cos(4.20096561019 + 731.9443602687 * t);
-            B0 += 0.00000000139 * Math.cos(0.79924371385 + 166.828672522 * t);
-            B0 += 0.00000000135 * Math.cos(1.27192121638 + 92.940845832 * t);
-            B0 += 0.00000000165 * Math.cos(1.94881873062 + 107.0249274817 * t);
-            B0 += 0.00000000153 * Math.cos(3.07590434707 + 3480.3105662226 * t);
-            B0 += 0.00000000125 * Math.cos(3.41796878361 + 1802.3719907218 * t);
-            B0 += 0.00000000128 * Math.cos(5.83700968658 + 2324.9494088156 * t);
-            B0 += 0.00000000129 * Math.cos(2.75851443754 + 480.7728616238 * t);
-            B0 += 0.00000000122 * Math.cos(4.75728514255 + 2854.6403739102 * t);
-            B0 += 0.00000000129 * Math.cos(4.67730374872 + 913.9633346388 * t);
-            B0 += 0.00000000121 * Math.cos(1.19957548726 + 572.2292347475 * t);
-            B0 += 0.00000000146 * Math.cos(3.71232877850 + 546.956440482 * t);
-            B0 += 0.00000000120 * Math.cos(4.59083886034 + 339.2864193365 * t);
-            B0 += 0.00000000127 * Math.cos(6.19372294369 + 59.8037450403 * t);
-            B0 += 0.00000000123 * Math.cos(5.98484393970 + 477.8039162072 * t);
-            B0 += 0.00000000122 * Math.cos(5.82973501131 + 990.2294059144 * t);
-            B0 += 0.00000000151 * Math.cos(2.39413061881 + 2524.021410252 * t);
-            B0 += 0.00000000147 * Math.cos(4.98199291770 + 850.0149880143 * t);
-            B0 += 0.00000000127 * Math.cos(0.47350572907 + 6.592282139 * t);
-            B0 += 0.00000000116 * Math.cos(4.71488890981 + 1130.2313754934 * t);
-            B0 += 0.00000000129 * Math.cos(5.42665311725 + 2538.2485042536 * t);
-            B0 += 0.00000000111 * Math.cos(4.51520219898 + 1699.2792165032 * t);
-            B0 += 0.00000000114 * Math.cos(2.06120434865 + 952.0963702766 * t);
-            B0 += 0.00000000112 * Math.cos(4.14736642579 + 422.405405182 * t);
-            B0 += 0.00000000111 * Math.cos(5.53230411085 + 857.1285350151 * t);
-            B0 += 0.00000000109 * Math.cos(3.00005651288 + 420.4478517217 * t);
-            B0 += 0.00000000112 * Math.cos(2.20667724213 + 395.578702239 * t);
-            B0 += 0.00000000147 * Math.cos(1.52324472511 + 552.5855147745 * t);
-            B0 += 0.00000000118 * Math.cos(5.47495367121 + 2957.7331481288 * t);
-            B0 += 0.00000000113 * Math.cos(2.57036693965 + 462.0229135281 * t);
-            B0 += 0.00000000122 * Math.cos(4.96246567897 + 638.9340784675 * t);
-            B0 += 0.00000000104 * Math.cos(1.91139383428 + 472.1748419147 * t);
-            B0 += 0.00000000116 * Math.cos(2.82742160564 + 450.9772132642 * t);
-            B0 += 0.00000000115 * Math.cos(2.26043201622 + 1781.0313497194 * t);
-            B0 += 0.00000000110 * Math.cos(4.86686492403 + 2914.0142358238 * t);
-            B0 += 0.00000000109 * Math.cos(4.43848727280 + 405.9912630565 * t);
-            B0 += 0.00000000102 * Math.cos(5.90112611078 + 99.9113804809 * t);
-            B0 += 0.00000000101 * Math.cos(2.53392410330 + 640.8604941605 * t);
-            B0 += 0.00000000112 * Math.cos(5.53802838779 + 381.3516082374 * t);
-            B0 += 0.00000000099 * Math.cos(5.92199927896 + 411.620337349 * t);
-            B0 += 0.00000000100 * Math.cos(5.21941099517 + 426.4863162914 * t);
-            B0 += 0.00000000137 * Math.cos(2.20269111622 + 7.1617311106 * t);
-            B0 += 0.00000000097 * Math.cos(1.27914551364 + 2847.5268269094 * t);
-            B0 += 0.00000000115 * Math.cos(5.22953781515 + 1119.1856752295 * t);
-            B0 += 0.00000000095 * Math.cos(4.26135357007 + 540.7366653585 * t);
-            B0 += 0.00000000098 * Math.cos(5.27107833435 + 639.9454704238 * t);
-            B0 += 0.00000000107 * Math.cos(4.38879925113 + 412.5835451955 * t);
-            B0 += 0.00000000093 * Math.cos(5.35954173624 + 334.5511169213 * t);
-            B0 += 0.00000000094 * Math.cos(1.16749092536 + 5643.1785636774 * t);
-            B0 += 0.00000000106 * Math.cos(4.19443004843 + 486.4019359163 * t);
-            B0 += 0.00000000096 * Math.cos(0.59816870672 + 714.6788848813 * t);
-            B0 += 0.00000000094 * Math.cos(0.54205024076 + 423.6292454594 * t);
-            B0 += 0.00000000109 * Math.cos(2.82817225044 + 468.2426886516 * t);
-            B0 += 0.00000000083 * Math.cos(6.12100285205 + 380.12776796 * t);
-            B0 += 0.00000000084 * Math.cos(2.20217125255 + 909.8187330546 * t);
-            B0 += 0.00000000085 * Math.cos(5.20920130934 + 562.1467423301 * t);
-            B0 += 0.00000000105 * Math.cos(2.66415710279 + 460.5384408198 * t);
-            B0 += 0.00000000084 * Math.cos(0.14646013561 + 681.5417840896 * t);
-            B0 += 0.00000000080 * Math.cos(3.03551986945 + 409.9234163196 * t);
-            B0 += 0.00000000097 * Math.cos(5.09373549436 + 92.0470739547 * t);
-            B0 += 0.00000000110 * Math.cos(2.03622569317 + 642.3449668688 * t);
-            B0 += 0.00000000080 * Math.cos(5.71035549752 + 361.3778198643 * t);
-            B0 += 0.00000000084 * Math.cos(3.00961145133 + 426.8106391971 * t);
-            B0 += 0.00000000085 * Math.cos(4.28770375688 + 135.5485514541 * t);
-            B0 += 0.00000000093 * Math.cos(5.32943472274 + 432.0148168474 * t);
-            B0 += 0.00000000086 * Math.cos(1.51247258028 + 760.25553592 * t);
-            B0 += 0.00000000084 * Math.cos(5.83905303748 + 426.3857425549 * t);
-            B0 += 0.00000000100 * Math.cos(3.62925349363 + 426.7100654606 * t);
-            B0 += 0.00000000094 * Math.cos(4.30151510535 + 3377.217792004 * t);
-            B0 += 0.00000000098 * Math.cos(2.07334671974 + 639.8491022042 * t);
-            B0 += 0.00000000080 * Math.cos(4.11576173565 + 774.4826299216 * t);
-            B0 += 0.00000000075 * Math.cos(2.89122656610 + 806.725958836 * t);
-            B0 += 0.00000000080 * Math.cos(0.88468467902 + 856.3777754897 * t);
-            B0 += 0.00000000072 * Math.cos(4.85259171933 + 392.6579409322 * t);
-            B0 += 0.00000000083 * Math.cos(0.11133738383 + 402.2191684878 * t);
-        }
-        return B0;
-    }
-
-    public double B1(double t) // 260 terms of order 1
-    {
-        double B1 = 0;
-        B1 += 0.00397554998 * Math.cos(5.33289992556 + 213.299095438 * t);
-        B1 -= 0.00049478641;
-        B1 += 0.00018571607 * Math.cos(6.09919206378 + 426.598190876 * t);
-        B1 += 0.00014800587 * Math.cos(2.30586060520 + 206.1855484372 * t);
-        B1 += 0.00009643981 * Math.cos(1.69674660120 + 220.4126424388 * t);
-        B1 += 0.00003757161 * Math.cos(1.25429514018 + 419.4846438752 * t);
-        B1 += 0.00002716647 * Math.cos(5.91166664787 + 639.897286314 * t);
-        B1 += 0.00001455309 * Math.cos(0.85161616532 + 433.7117378768 * t);
-        B1 += 0.00001290595 * Math.cos(2.91770857090 + 7.1135470008 * t);
-        B1 += 0.00000852630 * Math.cos(0.43572078997 + 316.3918696566 * t);
-        B1 += 0.00000284386 * Math.cos(1.61881754773 + 227.5261894396 * t);
-        B1 += 0.00000292185 * Math.cos(5.31574251270 + 853.196381752 * t);
-        B1 += 0.00000275090 * Math.cos(3.88864137336 + 103.0927742186 * t);
-        B1 += 0.00000297726 * Math.cos(0.91909206723 + 632.7837393132 * t);
-        B1 += 0.00000172359 * Math.cos(0.05215146556 + 647.0108333148 * t);
-        B1 += 0.00000127731 * Math.cos(1.20711452525 + 529.6909650946 * t);
-        B1 += 0.00000166237 * Math.cos(2.44351613165 + 199.0720014364 * t);
-        B1 += 0.00000158220 * Math.cos(5.20850125766 + 110.2063212194 * t);
-        B1 += 0.00000109839 * Math.cos(2.45695551627 + 217.2312487011 * t);
-        B1 += 0.00000081759 * Math.cos(2.75839171353 + 210.1177017003 * t);
-        B1 += 0.00000081010 * Math.cos(2.86038377187 + 14.2270940016 * t);
-        B1 += 0.00000068658 * Math.cos(1.65537623146 + 202.2533951741 * t);
-        B1 += 0.00000059281 * Math.cos(1.82410768234 + 323.5054166574 * t);
-        B1 += 0.00000065161 * Math.cos(1.25527521313 + 216.4804891757 * t);
-        B1 += 0.00000061024 * Math.cos(1.25273412095 + 209.3669421749 * t);
-        B1 += 0.00000046386 * Math.cos(0.81534705304 + 440.8252848776 * t);
-        B1 += 0.00000036163 * Math.cos(1.81851057689 + 224.3447957019 * t);
-        B1 += 0.00000034041 * Math.cos(2.83971297997 + 117.3198682202 * t);
-        B1 += 0.00000032164 * Math.cos(1.18676132343 + 846.0828347512 * t);
-        B1 += 0.00000033114 * Math.cos(1.30557080010 + 412.3710968744 * t);
-        B1 += 0.00000027282 * Math.cos(4.64744847591 + 1066.49547719 * t);
-        B1 += 0.00000022805 * Math.cos(4.12923703368 + 415.5524906121 * t);
-        B1 += 0.00000027128 * Math.cos(4.44228739187 + 11.0457002639 * t);
-        B1 += 0.00000018100 * Math.cos(5.56392353608 + 860.3099287528 * t);
-        B1 += 0.00000020851 * Math.cos(1.40999273740 + 309.2783226558 * t);
-        B1 += 0.00000014947 * Math.cos(1.34302610607 + 95.9792272178 * t);
-        B1 += 0.00000015316 * Math.cos(1.22393617996 + 63.7358983034 * t);
-        B1 += 0.00000014601 * Math.cos(1.00753704970 + 536.8045120954 * t);
-        B1 += 0.00000012842 * Math.cos(2.27059911053 + 742.9900605326 * t);
-        B1 += 0.00000012832 * Math.cos(4.88898877901 + 522.5774180938 * t);
-        B1 += 0.00000013137 * Math.cos(2.45991904379 + 490.3340891794 * t);
-        B1 += 0.00000011883 * Math.cos(1.87308666696 + 423.4167971383 * t);
-        B1 += 0.00000013027 * Math.cos(3.21731634178 + 277.0349937414 * t);
-        B1 += 0.00000009946 * Math.cos(3.11650057543 + 625.6701923124 * t);
-        B1 += 0.00000012710 * Math.cos(0.29501589197 + 422.6660376129 * t);
-        B1 += 0.00000009644 * Math.cos(1.74586356703 + 330.6189636582 * t);
-        B1 += 0.00000008079 * Math.cos(2.41931187953 + 430.5303441391 * t);
-        B1 += 0.00000008245 * Math.cos(4.68121931659 + 215.7467759928 * t);
-        B1 += 0.00000008958 * Math.cos(0.46482448501 + 429.7795846137 * t);
-        B1 += 0.00000006547 * Math.cos(3.01351967549 + 949.1756089698 * t);
-        B1 += 0.00000007251 * Math.cos(5.97098186912 + 149.5631971346 * t);
-        B1 += 0.00000006056 * Math.cos(1.49115011100 + 234.6397364404 * t);
-        if (highAccuracy) {
-            B1 += 0.00000005791 * Math.cos(5.36720639912 + 735.8765135318 * t);
-            B1 += 0.00000005994 * Math.cos(0.02442871989 + 654.1243803156 * t);
-            B1 += 0.00000006647 * Math.cos(3.90879134581 + 351.8165923087 * t);
-            B1 += 0.00000006824 * Math.cos(1.52456408861 + 437.6438911399 * t);
-            B1 += 0.00000005134 * Math.cos(3.81149834833 + 74.7815985673 * t);
-            B1 += 0.00000003959 * Math.cos(5.63505813057 + 210.8514148832 * t);
-            B1 += 0.00000003811 * Math.cos(2.63992803111 + 3.1813937377 * t);
-            B1 += 0.00000003643 * Math.cos(1.73267151007 + 1059.3819301892 * t);
-            B1 += 0.00000003554 * Math.cos(4.98621474362 + 3.9321532631 * t);
-            B1 += 0.00000004568 * Math.cos(4.33599514584 + 628.8515860501 * t);
-            B1 += 0.00000003145 * Math.cos(2.51404811765 + 1162.4747044078 * t);
-            B1 += 0.00000003522 * Math.cos(1.16093567319 + 223.5940361765 * t);
-            B1 += 0.00000002933 * Math.cos(2.06057834252 + 956.2891559706 * t);
-            B1 += 0.00000002644 * Math.cos(5.62559379305 + 203.7378678824 * t);
-            B1 += 0.00000002992 * Math.cos(5.06312015437 + 515.463871093 * t);
-            B1 += 0.00000002304 * Math.cos(2.73123930535 + 21.3406410024 * t);
-            B1 += 0.00000002168 * Math.cos(2.91805928238 + 203.0041546995 * t);
-            B1 += 0.00000002398 * Math.cos(3.99421633537 + 1279.794572628 * t);
-            B1 += 0.00000002146 * Math.cos(0.87500689888 + 408.4389436113 * t);
-            B1 += 0.00000002074 * Math.cos(1.65731069687 + 137.0330241624 * t);
-            B1 += 0.00000001797 * Math.cos(1.56879308343 + 124.433415221 * t);
-            B1 += 0.00000002088 * Math.cos(1.85721384366 + 138.5174968707 * t);
-            B1 += 0.00000001769 * Math.cos(4.82294294946 + 1073.6090241908 * t);
-            B1 += 0.00000001635 * Math.cos(1.20387813348 + 88.865680217 * t);
-            B1 += 0.00000002202 * Math.cos(5.93027042684 + 1052.2683831884 * t);
-            B1 += 0.00000001843 * Math.cos(0.22126910774 + 750.1036075334 * t);
-            B1 += 0.00000001851 * Math.cos(2.45470409290 + 340.7708920448 * t);
-            B1 += 0.00000001890 * Math.cos(0.41025631859 + 127.4717966068 * t);
-            B1 += 0.00000001582 * Math.cos(5.63360832372 + 214.2623032845 * t);
-            B1 += 0.00000001920 * Math.cos(3.77935901504 + 350.3321196004 * t);
-            B1 += 0.00000001786 * Math.cos(5.78644477326 + 635.9651330509 * t);
-            B1 += 0.00000001497 * Math.cos(3.13026893210 + 703.6331846174 * t);
-            B1 += 0.00000001583 * Math.cos(3.46882532865 + 38.1330356378 * t);
-            B1 += 0.00000001577 * Math.cos(4.02973226017 + 388.4651552382 * t);
-            B1 += 0.00000001645 * Math.cos(5.59115773632 + 483.2205421786 * t);
-            B1 += 0.00000001405 * Math.cos(4.07880624509 + 728.762966531 * t);
-            B1 += 0.00000001498 * Math.cos(5.87094430469 + 362.8622925726 * t);
-            B1 += 0.00000001317 * Math.cos(2.22386203585 + 213.3472795478 * t);
-            B1 += 0.00000001321 * Math.cos(2.91534782718 + 1265.5674786264 * t);
-            B1 += 0.00000001307 * Math.cos(5.41748323885 + 217.964961884 * t);
-            B1 += 0.00000001483 * Math.cos(0.91111666841 + 543.9180590962 * t);
-            B1 += 0.00000001291 * Math.cos(2.62333801070 + 554.0699874828 * t);
-            B1 += 0.00000001406 * Math.cos(0.34582712649 + 85.8272988312 * t);
-            B1 += 0.00000001287 * Math.cos(2.82247279651 + 231.4583427027 * t);
-            B1 += 0.00000001563 * Math.cos(4.88438049382 + 208.633228992 * t);
-            B1 += 0.00000001316 * Math.cos(5.30963570131 + 213.2509113282 * t);
-            B1 += 0.00000001164 * Math.cos(1.39531381032 + 210.3783341312 * t);
-            B1 += 0.00000001295 * Math.cos(2.46089213219 + 200.7689224658 * t);
-            B1 += 0.00000001236 * Math.cos(3.03659580871 + 838.9692877504 * t);
-            B1 += 0.00000001449 * Math.cos(4.00934078371 + 195.1398481733 * t);
-            B1 += 0.00000001251 * Math.cos(1.46674521697 + 218.7157214094 * t);
-            B1 += 0.00000001568 * Math.cos(1.89939852487 + 212.3358875915 * t);
-            B1 += 0.00000001067 * Math.cos(5.34734443894 + 207.6700211455 * t);
-            B1 += 0.00000001111 * Math.cos(0.70962013461 + 447.9388318784 * t);
-            B1 += 0.00000001012 * Math.cos(1.37217220640 + 636.7158925763 * t);
-            B1 += 0.00000001163 * Math.cos(6.00108996618 + 191.2076949102 * t);
-            B1 += 0.00000000887 * Math.cos(2.84483069917 + 191.9584544356 * t);
-            B1 += 0.00000001005 * Math.cos(2.72373040634 + 1478.8665740644 * t);
-            B1 += 0.00000000879 * Math.cos(1.19585734916 + 417.0369633204 * t);
-            B1 += 0.00000000829 * Math.cos(4.94182950387 + 497.4476361802 * t);
-            B1 += 0.00000000878 * Math.cos(6.24981924813 + 265.9892934775 * t);
-            B1 += 0.00000000781 * Math.cos(4.61973017912 + 424.1505103212 * t);
-            B1 += 0.00000000924 * Math.cos(3.64210508536 + 222.8603229936 * t);
-            B1 += 0.00000000971 * Math.cos(2.89404568581 + 563.6312150384 * t);
-            B1 += 0.00000000946 * Math.cos(5.72987725592 + 1368.660252845 * t);
-            B1 += 0.00000000834 * Math.cos(6.12384852532 + 209.106309744 * t);
-            B1 += 0.00000000911 * Math.cos(1.06795057723 + 650.9429865779 * t);
-            B1 += 0.00000000731 * Math.cos(0.81660632103 + 142.4496501338 * t);
-            B1 += 0.00000000795 * Math.cos(5.54574074566 + 76.2660712756 * t);
-            B1 += 0.00000001012 * Math.cos(5.97140626297 + 643.0786800517 * t);
-            B1 += 0.00000000703 * Math.cos(2.41479303782 + 10.2949407385 * t);
-            B1 += 0.00000000726 * Math.cos(4.52598413209 + 565.1156877467 * t);
-            B1 += 0.00000000691 * Math.cos(2.31682364985 + 160.6088973985 * t);
-            B1 += 0.00000000695 * Math.cos(0.37889317398 + 212.7778305762 * t);
-            B1 += 0.00000000676 * Math.cos(4.43606270900 + 842.1506814881 * t);
-            B1 += 0.00000000769 * Math.cos(4.47368582271 + 52.6901980395 * t);
-            B1 += 0.00000000658 * Math.cos(0.32331118921 + 621.7380390493 * t);
-            B1 += 0.00000000838 * Math.cos(4.68035046143 + 288.0806940053 * t);
-            B1 += 0.00000000674 * Math.cos(5.63961963995 + 867.4234757536 * t);
-            B1 += 0.00000000695 * Math.cos(1.32062509205 + 1169.5882514086 * t);
-            B1 += 0.00000000841 * Math.cos(2.46995220838 + 1375.7737998458 * t);
-            B1 += 0.00000000633 * Math.cos(3.46145143241 + 18.1592472647 * t);
-            B1 += 0.00000000722 * Math.cos(0.04119071457 + 269.9214467406 * t);
-            B1 += 0.00000000757 * Math.cos(2.15030650611 + 207.8824694666 * t);
-            B1 += 0.00000000692 * Math.cos(0.87072324976 + 213.8203602998 * t);
-            B1 += 0.00000000602 * Math.cos(0.85288769518 + 225.8292684102 * t);
-            B1 += 0.00000000635 * Math.cos(4.76109030475 + 831.8557407496 * t);
-            B1 += 0.00000000701 * Math.cos(1.20410854661 + 479.2883889155 * t);
-            B1 += 0.00000000624 * Math.cos(2.30585779534 + 643.8294395771 * t);
-            B1 += 0.00000000582 * Math.cos(0.18811617696 + 1.4844727083 * t);
-            B1 += 0.00000000513 * Math.cos(2.56525967840 + 404.5067903482 * t);
-            B1 += 0.00000000502 * Math.cos(4.97423814367 + 212.5483359126 * t);
-            B1 += 0.00000000644 * Math.cos(2.10955154583 + 1272.6810256272 * t);
-            B1 += 0.00000000467 * Math.cos(4.47217820662 + 235.3904959658 * t);
-            B1 += 0.00000000566 * Math.cos(4.44740324446 + 429.0458714308 * t);
-            B1 += 0.00000000448 * Math.cos(0.57491120802 + 22.0914005278 * t);
-            B1 += 0.00000000520 * Math.cos(1.15131866397 + 337.732510659 * t);
-            B1 += 0.00000000476 * Math.cos(4.78513362967 + 218.9281697305 * t);
-            B1 += 0.00000000519 * Math.cos(0.61616177345 + 436.8931316145 * t);
-            B1 += 0.00000000442 * Math.cos(2.10204008144 + 416.3032501375 * t);
-            B1 += 0.00000000536 * Math.cos(1.08779067908 + 344.7030453079 * t);
-            B1 += 0.00000000477 * Math.cos(2.42483193385 + 216.2198567448 * t);
-            B1 += 0.00000000469 * Math.cos(5.22622034028 + 942.062061969 * t);
-            B1 += 0.00000000392 * Math.cos(0.41137926465 + 302.164775655 * t);
-            B1 += 0.00000000400 * Math.cos(5.17216478470 + 414.0680179038 * t);
-            B1 += 0.00000000383 * Math.cos(3.58419227076 + 1045.1548361876 * t);
-            B1 += 0.00000000443 * Math.cos(1.11051326413 + 425.1137181677 * t);
-            B1 += 0.00000000517 * Math.cos(3.44547026103 + 12.5301729722 * t);
-            B1 += 0.00000000369 * Math.cos(1.60095273908 + 56.6223513026 * t);
-            B1 += 0.00000000354 * Math.cos(2.79123486392 + 1581.959348283 * t);
-            B1 += 0.00000000405 * Math.cos(5.93402105921 + 173.9422195228 * t);
-            B1 += 0.00000000319 * Math.cos(4.31850876624 + 219.4494345923 * t);
-            B1 += 0.00000000330 * Math.cos(0.62529198264 + 358.9301393095 * t);
-            B1 += 0.00000000305 * Math.cos(0.82404423420 + 1485.9801210652 * t);
-            B1 += 0.00000000391 * Math.cos(2.59385552893 + 1795.258443721 * t);
-            B1 += 0.00000000291 * Math.cos(3.12019266878 + 217.491881132 * t);
-            B1 += 0.00000000294 * Math.cos(2.18552193901 + 444.7574381407 * t);
-            B1 += 0.00000000281 * Math.cos(0.77791302266 + 757.2171545342 * t);
-            B1 += 0.00000000355 * Math.cos(5.44570491928 + 1685.0521225016 * t);
-            B1 += 0.00000000305 * Math.cos(2.65927043884 + 355.7487455718 * t);
-            B1 += 0.00000000269 * Math.cos(6.00323720265 + 934.9485149682 * t);
-            B1 += 0.00000000287 * Math.cos(2.60486363576 + 113.3877149571 * t);
-            B1 += 0.00000000348 * Math.cos(0.98872551635 + 70.8494453042 * t);
-            B1 += 0.00000000331 * Math.cos(5.62133883922 + 9.5612275556 * t);
-            B1 += 0.00000000255 * Math.cos(4.14086605030 + 284.1485407422 * t);
-            B1 += 0.00000000311 * Math.cos(6.27145060602 + 207.1487562837 * t);
-            B1 += 0.00000000267 * Math.cos(4.72606312146 + 696.5196376166 * t);
-            B1 += 0.00000000319 * Math.cos(4.68828119248 + 1155.361157407 * t);
-            B1 += 0.00000000227 * Math.cos(3.10352674343 + 1361.5467058442 * t);
-            B1 += 0.00000000228 * Math.cos(1.19253095837 + 1589.0728952838 * t);
-            B1 += 0.00000000244 * Math.cos(5.36327976010 + 245.5424243524 * t);
-            B1 += 0.00000000218 * Math.cos(2.16069250901 + 177.8743727859 * t);
-            B1 += 0.00000000254 * Math.cos(4.51652534648 + 1148.2476104062 * t);
-            B1 += 0.00000000211 * Math.cos(2.82699627326 + 106.2741679563 * t);
-            B1 += 0.00000000230 * Math.cos(4.63171743406 + 107.0249274817 * t);
-            B1 += 0.00000000201 * Math.cos(4.52152562223 + 508.3503240922 * t);
-            B1 += 0.00000000230 * Math.cos(5.93560798508 + 618.5566453116 * t);
-            B1 += 0.00000000253 * Math.cos(2.08074949572 + 252.6559713532 * t);
-            B1 += 0.00000000234 * Math.cos(2.43423283339 + 1692.1656695024 * t);
-            B1 += 0.00000000196 * Math.cos(1.01284131123 + 114.3991069134 * t);
-            B1 += 0.00000000196 * Math.cos(2.73629728926 + 214.0498549634 * t);
-            B1 += 0.00000000191 * Math.cos(1.51642829677 + 6069.7767545534 * t);
-            B1 += 0.00000000252 * Math.cos(5.10097595426 + 1258.4539316256 * t);
-            B1 += 0.00000000240 * Math.cos(2.93712394928 + 916.9322800554 * t);
-            B1 += 0.00000000224 * Math.cos(4.42406538277 + 251.4321310758 * t);
-            B1 += 0.00000000223 * Math.cos(2.34400676548 + 1677.9385755008 * t);
-            B1 += 0.00000000228 * Math.cos(5.00073557208 + 1574.8458012822 * t);
-            B1 += 0.00000000183 * Math.cos(5.09056895026 + 220.4608265486 * t);
-            B1 += 0.00000000178 * Math.cos(6.05669760153 + 206.1373643274 * t);
-            B1 += 0.00000000185 * Math.cos(3.73859309582 + 114.1384744825 * t);
-            B1 += 0.00000000200 * Math.cos(1.89409546254 + 2420.9286360334 * t);
-            B1 += 0.00000000158 * Math.cos(2.78517362162 + 2008.557539159 * t);
-            B1 += 0.00000000191 * Math.cos(2.28724146195 + 2435.155730035 * t);
-            B1 += 0.00000000188 * Math.cos(4.29343910228 + 1471.7530270636 * t);
-            B1 += 0.00000000155 * Math.cos(5.35194123420 + 576.1613880106 * t);
-            B1 += 0.00000000174 * Math.cos(2.80423114755 + 1781.0313497194 * t);
-            B1 += 0.00000000166 * Math.cos(5.32531835813 + 2001.4439921582 * t);
-            B1 += 0.00000000165 * Math.cos(2.62993712087 + 525.4981794006 * t);
-            B1 += 0.00000000141 * Math.cos(4.73916921092 + 501.3797894433 * t);
-            B1 += 0.00000000161 * Math.cos(5.83368523750 + 181.0557665236 * t);
-            B1 += 0.00000000137 * Math.cos(1.45135867137 + 131.5469622218 * t);
-            B1 += 0.00000000157 * Math.cos(3.22870773657 + 1493.093668066 * t);
-            B1 += 0.00000000136 * Math.cos(4.20279658293 + 710.7467316182 * t);
-            B1 += 0.00000000144 * Math.cos(4.61003572124 + 121.2520214833 * t);
-            B1 += 0.00000000131 * Math.cos(5.85409245557 + 175.1660598002 * t);
-            B1 += 0.00000000144 * Math.cos(0.96056164245 + 214.7835681463 * t);
-            B1 += 0.00000000146 * Math.cos(3.95687956474 + 421.93232443 * t);
-            B1 += 0.00000000138 * Math.cos(1.03080573610 + 4.665866446 * t);
-            B1 += 0.00000000167 * Math.cos(1.97508934614 + 62.2514255951 * t);
-            B1 += 0.00000000123 * Math.cos(2.28640485589 + 1898.3512179396 * t);
-            B1 += 0.00000000168 * Math.cos(4.63122081226 + 1891.2376709388 * t);
-            B1 += 0.00000000129 * Math.cos(0.05327999225 + 211.8146227297 * t);
-            B1 += 0.00000000134 * Math.cos(3.49720535944 + 488.8496164711 * t);
-            B1 += 0.00000000117 * Math.cos(3.43819501459 + 436.1594184316 * t);
-            B1 += 0.00000000125 * Math.cos(5.87007326241 + 963.4027029714 * t);
-            B1 += 0.00000000120 * Math.cos(0.70795300239 + 81.7521332162 * t);
-            B1 += 0.00000000125 * Math.cos(4.50999471095 + 2317.8358618148 * t);
-            B1 += 0.00000000116 * Math.cos(6.11600926571 + 558.0021407459 * t);
-            B1 += 0.00000000117 * Math.cos(4.78666549046 + 601.7642506762 * t);
-            B1 += 0.00000000108 * Math.cos(0.45464469172 + 1802.3719907218 * t);
-            B1 += 0.00000000111 * Math.cos(1.44669239244 + 2531.1349572528 * t);
-            B1 += 0.00000000109 * Math.cos(6.14289264597 + 151.0476698429 * t);
-            B1 += 0.00000000113 * Math.cos(4.05600865495 + 1286.9081196288 * t);
-            B1 += 0.00000000129 * Math.cos(5.13936946160 + 849.2642284889 * t);
-            B1 += 0.00000000127 * Math.cos(3.88189432056 + 98.8999885246 * t);
-            B1 += 0.00000000133 * Math.cos(2.38290634070 + 2111.6503133776 * t);
-            B1 += 0.00000000122 * Math.cos(4.40757611742 + 778.4147831847 * t);
-            B1 += 0.00000000095 * Math.cos(0.07909774752 + 213.4109700226 * t);
-            B1 += 0.00000000095 * Math.cos(1.66925524906 + 213.1872208534 * t);
-            B1 += 0.00000000103 * Math.cos(1.88058957173 + 99.1606209555 * t);
-            B1 += 0.00000000119 * Math.cos(3.62785705509 + 248.7238180901 * t);
-            B1 += 0.00000000090 * Math.cos(4.63029999228 + 228.276948965 * t);
-            B1 += 0.00000000092 * Math.cos(5.48700119144 + 767.3690829208 * t);
-            B1 += 0.00000000089 * Math.cos(4.61331934339 + 431.264057322 * t);
-            B1 += 0.00000000099 * Math.cos(3.60670326134 + 776.9303104764 * t);
-            B1 += 0.00000000085 * Math.cos(4.93878023673 + 2.4476805548 * t);
-            B1 += 0.00000000089 * Math.cos(6.24541644164 + 661.2379273164 * t);
-            B1 += 0.00000000085 * Math.cos(0.45896349060 + 1382.8873468466 * t);
-            B1 += 0.00000000088 * Math.cos(3.81144552178 + 1788.1448967202 * t);
-            B1 += 0.00000000103 * Math.cos(3.20558404998 + 312.1990839626 * t);
-            B1 += 0.00000000080 * Math.cos(2.28889729136 + 213.0866471169 * t);
-            B1 += 0.00000000080 * Math.cos(5.74264101239 + 213.5115437591 * t);
-            B1 += 0.00000000082 * Math.cos(3.23546757052 + 198.321241911 * t);
-            B1 += 0.00000000078 * Math.cos(6.03841191050 + 835.0371344873 * t);
-            B1 += 0.00000000080 * Math.cos(0.22601918692 + 427.5613987225 * t);
-            B1 += 0.00000000072 * Math.cos(2.05164614795 + 2634.2277314714 * t);
-            B1 += 0.00000000091 * Math.cos(5.97938003596 + 556.5176680376 * t);
-            B1 += 0.00000000087 * Math.cos(2.71469794199 + 617.8058857862 * t);
-        }
-        return B1 * t;
-    }
-
-    public double B2(double t) // 111 terms of order 2
-    {
-        double B2 = 0;
-        B2 += 0.00020629977 * Math.cos(0.50482422817 + 213.299095438 * t);
-        B2 += 0.00003719555 * Math.cos(3.99833475829 + 206.1855484372 * t);
-        B2 += 0.00001627158 * Math.cos(6.18189939500 + 220.4126424388 * t);
-        B2 += 0.00001346067;
-        B2 += 0.00000705842 * Math.cos(3.03914308836 + 419.4846438752 * t);
-        B2 += 0.00000365042 * Math.cos(5.09928680706 + 426.598190876 * t);
-        B2 += 0.00000329632 * Math.cos(5.27899210039 + 433.7117378768 * t);
-        B2 += 0.00000219335 * Math.cos(3.82841533795 + 639.897286314 * t);
-        B2 += 0.00000139393 * Math.cos(1.04272623499 + 7.1135470008 * t);
-        B2 += 0.00000103980 * Math.cos(6.15730992966 + 227.5261894396 * t);
-        B2 += 0.00000092961 * Math.cos(1.97994412845 + 316.3918696566 * t);
-        B2 += 0.00000071242 * Math.cos(4.14754353431 + 199.0720014364 * t);
-        B2 += 0.00000051927 * Math.cos(2.88364833898 + 632.7837393132 * t);
-        B2 += 0.00000048961 * Math.cos(4.43390206741 + 647.0108333148 * t);
-        B2 += 0.00000041373 * Math.cos(3.15927770079 + 853.196381752 * t);
-        B2 += 0.00000028602 * Math.cos(4.52978327558 + 210.1177017003 * t);
-        B2 += 0.00000023969 * Math.cos(1.11595912146 + 14.2270940016 * t);
-        B2 += 0.00000020511 * Math.cos(4.35095844197 + 217.2312487011 * t);
-        B2 += 0.00000019532 * Math.cos(5.30779711223 + 440.8252848776 * t);
-        B2 += 0.00000018263 * Math.cos(0.85391476786 + 110.2063212194 * t);
-        B2 += 0.00000015742 * Math.cos(4.25767226302 + 103.0927742186 * t);
-        B2 += 0.00000016840 * Math.cos(5.68112084135 + 216.4804891757 * t);
-        B2 += 0.00000013613 * Math.cos(2.99904334066 + 412.3710968744 * t);
-        B2 += 0.00000011567 * Math.cos(2.52679928410 + 529.6909650946 * t);
-        B2 += 0.00000007963 * Math.cos(3.31512423920 + 202.2533951741 * t);
-        B2 += 0.00000006599 * Math.cos(0.28766025146 + 323.5054166574 * t);
-        B2 += 0.00000006312 * Math.cos(1.16121321336 + 117.3198682202 * t);
-        B2 += 0.00000005891 * Math.cos(3.58260177246 + 309.2783226558 * t);
-        B2 += 0.00000006648 * Math.cos(5.55714129949 + 209.3669421749 * t);
-        B2 += 0.00000005590 * Math.cos(2.47783944511 + 1066.49547719 * t);
-        B2 += 0.00000006192 * Math.cos(3.61231886519 + 860.3099287528 * t);
-        B2 += 0.00000004231 * Math.cos(3.02212363572 + 846.0828347512 * t);
-        B2 += 0.00000003612 * Math.cos(4.79935735435 + 625.6701923124 * t);
-        B2 += 0.00000003398 * Math.cos(3.76732731354 + 423.4167971383 * t);
-        B2 += 0.00000003387 * Math.cos(6.04222745633 + 234.6397364404 * t);
-        B2 += 0.00000002578 * Math.cos(5.63610668746 + 735.8765135318 * t);
-        B2 += 0.00000002831 * Math.cos(4.81642822334 + 429.7795846137 * t);
-        B2 += 0.00000002817 * Math.cos(4.47516563908 + 654.1243803156 * t);
-        B2 += 0.00000002573 * Math.cos(0.22467245054 + 522.5774180938 * t);
-        B2 += 0.00000002610 * Math.cos(3.29126967191 + 95.9792272178 * t);
-        if (highAccuracy) {
-            B2 += 0.00000002419 * Math.cos(0.02986335489 + 415.5524906121 * t);
-            B2 += 0.00000002112 * Math.cos(4.55964179603 + 422.6660376129 * t);
-            B2 += 0.00000002304 * Math.cos(6.25081073546 + 330.6189636582 * t);
-            B2 += 0.00000001758 * Math.cos(5.53430456858 + 536.8045120954 * t);
-            B2 += 0.00000001814 * Math.cos(5.05675881426 + 277.0349937414 * t);
-            B2 += 0.00000001550 * Math.cos(5.60375604692 + 223.5940361765 * t);
-            B2 += 0.00000001457 * Math.cos(4.47767649852 + 430.5303441391 * t);
-            B2 += 0.00000001607 * Math.cos(5.53599550100 + 224.3447957019 * t);
-            B2 += 0.00000001172 * Math.cos(4.71017775994 + 203.0041546995 * t);
-            B2 += 0.00000001231 * Math.cos(0.25115931880 + 3.9321532631 * t);
-            B2 += 0.00000001105 * Math.cos(1.01595427676 + 21.3406410024 * t);
-            B2 += 0.00000000868 * Math.cos(4.84623483952 + 949.1756089698 * t);
-            B2 += 0.00000000939 * Math.cos(1.35429452093 + 742.9900605326 * t);
-            B2 += 0.00000000693 * Math.cos(6.03599130692 + 124.433415221 * t);
-            B2 += 0.00000000712 * Math.cos(4.45550701473 + 191.9584544356 * t);
-            B2 += 0.00000000690 * Math.cos(5.44243765037 + 437.6438911399 * t);
-            B2 += 0.00000000810 * Math.cos(0.46198177342 + 515.463871093 * t);
-            B2 += 0.00000000694 * Math.cos(5.23748122403 + 447.9388318784 * t);
-            B2 += 0.00000000604 * Math.cos(2.95749705544 + 88.865680217 * t);
-            B2 += 0.00000000669 * Math.cos(0.08457977809 + 215.7467759928 * t);
-            B2 += 0.00000000579 * Math.cos(0.65329445948 + 3.1813937377 * t);
-            B2 += 0.00000000712 * Math.cos(6.05964117622 + 11.0457002639 * t);
-            B2 += 0.00000000698 * Math.cos(2.91371419321 + 1073.6090241908 * t);
-            B2 += 0.00000000526 * Math.cos(2.24947851818 + 1059.3819301892 * t);
-            B2 += 0.00000000511 * Math.cos(2.86838724347 + 408.4389436113 * t);
-            B2 += 0.00000000589 * Math.cos(5.79268515755 + 63.7358983034 * t);
-            B2 += 0.00000000519 * Math.cos(1.76641574095 + 1279.794572628 * t);
-            B2 += 0.00000000503 * Math.cos(5.73762297081 + 728.762966531 * t);
-            B2 += 0.00000000482 * Math.cos(4.68234512154 + 838.9692877504 * t);
-            B2 += 0.00000000494 * Math.cos(4.04363805503 + 490.3340891794 * t);
-            B2 += 0.00000000458 * Math.cos(1.17998315936 + 210.8514148832 * t);
-            B2 += 0.00000000380 * Math.cos(5.28045750432 + 1052.2683831884 * t);
-            B2 += 0.00000000404 * Math.cos(4.58953258519 + 302.164775655 * t);
-            B2 += 0.00000000377 * Math.cos(5.20131800999 + 74.7815985673 * t);
-            B2 += 0.00000000328 * Math.cos(0.11893501088 + 956.2891559706 * t);
-            B2 += 0.00000000290 * Math.cos(3.99300398632 + 1162.4747044078 * t);
-            B2 += 0.00000000262 * Math.cos(2.04320741578 + 1471.7530270636 * t);
-            B2 += 0.00000000259 * Math.cos(3.76206113036 + 635.9651330509 * t);
-            B2 += 0.00000000254 * Math.cos(0.16694559092 + 195.1398481733 * t);
-            B2 += 0.00000000309 * Math.cos(5.44921175960 + 543.9180590962 * t);
-            B2 += 0.00000000237 * Math.cos(1.27761853769 + 231.4583427027 * t);
-            B2 += 0.00000000288 * Math.cos(1.32449995239 + 203.7378678824 * t);
-            B2 += 0.00000000229 * Math.cos(4.19748765966 + 1265.5674786264 * t);
-            B2 += 0.00000000238 * Math.cos(4.02925601887 + 643.0786800517 * t);
-            B2 += 0.00000000238 * Math.cos(0.49997895983 + 10.2949407385 * t);
-            B2 += 0.00000000257 * Math.cos(3.69107889837 + 867.4234757536 * t);
-            B2 += 0.00000000191 * Math.cos(0.17807919948 + 628.8515860501 * t);
-            B2 += 0.00000000246 * Math.cos(5.62469599682 + 351.8165923087 * t);
-            B2 += 0.00000000183 * Math.cos(3.38184740572 + 636.7158925763 * t);
-            B2 += 0.00000000172 * Math.cos(3.83173494030 + 1581.959348283 * t);
-            B2 += 0.00000000220 * Math.cos(1.03443668151 + 483.2205421786 * t);
-            B2 += 0.00000000217 * Math.cos(4.65210162713 + 750.1036075334 * t);
-            B2 += 0.00000000143 * Math.cos(2.31969979791 + 18.1592472647 * t);
-            B2 += 0.00000000137 * Math.cos(5.50046852846 + 1169.5882514086 * t);
-            B2 += 0.00000000120 * Math.cos(3.70151294359 + 416.3032501375 * t);
-            B2 += 0.00000000136 * Math.cos(3.38453909352 + 1155.361157407 * t);
-            B2 += 0.00000000149 * Math.cos(0.85459831932 + 1375.7737998458 * t);
-            B2 += 0.00000000150 * Math.cos(5.71949902293 + 618.5566453116 * t);
-            B2 += 0.00000000125 * Math.cos(4.82446274394 + 436.8931316145 * t);
-            B2 += 0.00000000120 * Math.cos(3.26968058035 + 1478.8665740644 * t);
-            B2 += 0.00000000131 * Math.cos(0.11496484259 + 1898.3512179396 * t);
-            B2 += 0.00000000099 * Math.cos(4.57241894541 + 643.8294395771 * t);
-            B2 += 0.00000000095 * Math.cos(4.92115458463 + 650.9429865779 * t);
-            B2 += 0.00000000090 * Math.cos(2.09300085806 + 621.7380390493 * t);
-            B2 += 0.00000000111 * Math.cos(0.11975665259 + 831.8557407496 * t);
-            B2 += 0.00000000089 * Math.cos(2.54351587616 + 85.8272988312 * t);
-            B2 += 0.00000000080 * Math.cos(5.09103451442 + 340.7708920448 * t);
-            B2 += 0.00000000078 * Math.cos(3.17395501851 + 497.4476361802 * t);
-            B2 += 0.00000000085 * Math.cos(0.18997660997 + 1258.4539316256 * t);
-            B2 += 0.00000000081 * Math.cos(1.16732337173 + 217.964961884 * t);
-            B2 += 0.00000000072 * Math.cos(5.47328223678 + 337.732510659 * t);
-        }
-        return B2 * t * t;
+        super("saturn");
+        ephemerisWindow = 64;
     }
-
-    public double B3(double t) // 58 terms of order 3
-    {
-        double B3 = 0;
-        B3 += 0.00000666252 * Math.cos(1.99006340181 + 213.299095438 * t);
-        B3 += 0.00000632350 * Math.cos(5.69778316807 + 206.1855484372 * t);
-        B3 += 0.00000398051;
-        B3 += 0.00000187838 * Math.cos(4.33779804809 + 220.4126424388 * t);
-        B3 += 0.00000091884 * Math.cos(4.84104208217 + 419.4846438752 * t);
-        B3 += 0.00000042369 * Math.cos(2.38073239056 + 426.598190876 * t);
-        B3 += 0.00000051548 * Math.cos(3.42149490328 + 433.7117378768 * t);
-        B3 += 0.00000025661 * Math.cos(4.40167213109 + 227.5261894396 * t);
-        B3 += 0.00000020551 * Math.cos(5.85313509872 + 199.0720014364 * t);
-        B3 += 0.00000018081 * Math.cos(1.99321433229 + 639.897286314 * t);
-        B3 += 0.00000010874 * Math.cos(5.37344546547 + 7.1135470008 * t);
-        B3 += 0.00000009590 * Math.cos(2.54901825866 + 647.0108333148 * t);
-        B3 += 0.00000007085 * Math.cos(3.45518372721 + 316.3918696566 * t);
-        B3 += 0.00000006002 * Math.cos(4.80055225135 + 632.7837393132 * t);
-        B3 += 0.00000005778 * Math.cos(0.01680378777 + 210.1177017003 * t);
-        B3 += 0.00000004881 * Math.cos(5.63719730884 + 14.2270940016 * t);
-        B3 += 0.00000004501 * Math.cos(1.22424419010 + 853.196381752 * t);
-        B3 += 0.00000005542 * Math.cos(3.51756747774 + 440.8252848776 * t);
-        B3 += 0.00000003548 * Math.cos(4.71299370890 + 412.3710968744 * t);
-        B3 += 0.00000002851 * Math.cos(0.62679207578 + 103.0927742186 * t);
-        B3 += 0.00000002173 * Math.cos(3.71982274459 + 216.4804891757 * t);
-        B3 += 0.00000001991 * Math.cos(6.10867071657 + 217.2312487011 * t);
-        B3 += 0.00000001435 * Math.cos(1.69177141453 + 860.3099287528 * t);
-        B3 += 0.00000001217 * Math.cos(4.30778838827 + 234.6397364404 * t);
-        B3 += 0.00000001157 * Math.cos(5.75027789902 + 309.2783226558 * t);
-        if (highAccuracy) {
-            B3 += 0.00000000795 * Math.cos(5.69026441157 + 117.3198682202 * t);
-            B3 += 0.00000000733 * Math.cos(0.59842720676 + 1066.49547719 * t);
-            B3 += 0.00000000713 * Math.cos(0.21700311697 + 625.6701923124 * t);
-            B3 += 0.00000000773 * Math.cos(5.48361981990 + 202.2533951741 * t);
-            B3 += 0.00000000897 * Math.cos(2.65577866867 + 654.1243803156 * t);
-            B3 += 0.00000000509 * Math.cos(2.86079833766 + 429.7795846137 * t);
-            B3 += 0.00000000462 * Math.cos(4.17742567173 + 529.6909650946 * t);
-            B3 += 0.00000000390 * Math.cos(6.11288036049 + 191.9584544356 * t);
-            B3 += 0.00000000505 * Math.cos(4.51905764563 + 323.5054166574 * t);
-            B3 += 0.00000000379 * Math.cos(3.74436004151 + 223.5940361765 * t);
-            B3 += 0.00000000332 * Math.cos(5.49370890570 + 21.3406410024 * t);
-            B3 += 0.00000000377 * Math.cos(5.25624813434 + 95.9792272178 * t);
-            B3 += 0.00000000384 * Math.cos(4.48187414769 + 330.6189636582 * t);
-            B3 += 0.00000000367 * Math.cos(5.03190929680 + 846.0828347512 * t);
-            B3 += 0.00000000281 * Math.cos(1.14133888637 + 735.8765135318 * t);
-            B3 += 0.00000000245 * Math.cos(5.81618253250 + 423.4167971383 * t);
-            B3 += 0.00000000241 * Math.cos(1.70335120180 + 522.5774180938 * t);
-            B3 += 0.00000000258 * Math.cos(3.69110118716 + 447.9388318784 * t);
-            B3 += 0.00000000231 * Math.cos(4.15697626494 + 110.2063212194 * t);
-            B3 += 0.00000000305 * Math.cos(5.97746884029 + 302.164775655 * t);
-            B3 += 0.00000000284 * Math.cos(0.66224572127 + 203.0041546995 * t);
-            B3 += 0.00000000204 * Math.cos(1.54683820621 + 209.3669421749 * t);
-            B3 += 0.00000000194 * Math.cos(4.21193801453 + 124.433415221 * t);
-            B3 += 0.00000000145 * Math.cos(4.79689259614 + 88.865680217 * t);
-            B3 += 0.00000000151 * Math.cos(3.82010884134 + 536.8045120954 * t);
-            B3 += 0.00000000100 * Math.cos(0.03596545368 + 949.1756089698 * t);
-            B3 += 0.00000000097 * Math.cos(0.91303450276 + 1073.6090241908 * t);
-            B3 += 0.00000000110 * Math.cos(2.21197473966 + 515.463871093 * t);
-            B3 += 0.00000000084 * Math.cos(2.53842533109 + 422.6660376129 * t);
-            B3 += 0.00000000085 * Math.cos(5.11102520704 + 3.9321532631 * t);
-            B3 += 0.00000000077 * Math.cos(6.04074586787 + 838.9692877504 * t);
-            B3 += 0.00000000085 * Math.cos(1.18898817378 + 728.762966531 * t);
-            B3 += 0.00000000084 * Math.cos(4.10158366806 + 224.3447957019 * t);
-        }
-        return B3 * t * t * t;
-    }
-
-    public double B4(double t) // 26 terms of order 4
-    {
-        double B4 = 0;
-        B4 += 0.00000080384 * Math.cos(1.11918414679 + 206.1855484372 * t);
-        B4 += 0.00000031660 * Math.cos(3.12218745098 + 213.299095438 * t);
-        B4 += 0.00000017143 * Math.cos(2.48073200414 + 220.4126424388 * t);
-        B4 -= 0.00000011844;
-        B4 += 0.00000009005 * Math.cos(0.38441424927 + 419.4846438752 * t);
-        B4 += 0.00000006164 * Math.cos(1.56186379537 + 433.7117378768 * t);
-        B4 += 0.00000004660 * Math.cos(1.28235639570 + 199.0720014364 * t);
-        B4 += 0.00000004775 * Math.cos(2.63498295487 + 227.5261894396 * t);
-        if (highAccuracy) {
-            B4 += 0.00000001487 * Math.cos(1.43096671616 + 426.598190876 * t);
-            B4 += 0.00000001424 * Math.cos(0.66988083613 + 647.0108333148 * t);
-            B4 += 0.00000001075 * Math.cos(6.18092274059 + 639.897286314 * t);
-            B4 += 0.00000001145 * Math.cos(1.72041928134 + 440.8252848776 * t);
-            B4 += 0.00000000682 * Math.cos(3.84841098180 + 14.2270940016 * t);
-            B4 += 0.00000000655 * Math.cos(3.49486258327 + 7.1135470008 * t);
-            B4 += 0.00000000456 * Math.cos(0.47338193402 + 632.7837393132 * t);
-            B4 += 0.00000000509 * Math.cos(0.31432285584 + 412.3710968744 * t);
-            B4 += 0.00000000343 * Math.cos(5.86413875355 + 853.196381752 * t);
-            B4 += 0.00000000270 * Math.cos(2.50125594913 + 234.6397364404 * t);
-            B4 += 0.00000000197 * Math.cos(5.39156324804 + 316.3918696566 * t);
-            B4 += 0.00000000236 * Math.cos(2.11084590211 + 210.1177017003 * t);
-            B4 += 0.00000000172 * Math.cos(6.09682874401 + 860.3099287528 * t);
-            B4 += 0.00000000159 * Math.cos(5.95049154821 + 216.4804891757 * t);
-            B4 += 0.00000000100 * Math.cos(1.98534903594 + 625.6701923124 * t);
-            B4 += 0.00000000112 * Math.cos(0.85526419268 + 654.1243803156 * t);
-            B4 += 0.00000000115 * Math.cos(5.03884718594 + 117.3198682202 * t);
-            B4 += 0.00000000115 * Math.cos(0.44589613974 + 110.2063212194 * t);
-        }
-        return B4 * t * t * t * t;
-    }
-
-    public double B5(double t) // 11 terms of order 5
-    {
-        double B5 = 0;
-        B5 += 0.00000007895 * Math.cos(2.81927558645 + 206.1855484372 * t);
-        B5 += 0.00000001014 * Math.cos(0.51187210270 + 220.4126424388 * t);
-        B5 += 0.00000000772 * Math.cos(2.99484124049 + 199.0720014364 * t);
-        if (highAccuracy) {
-            B5 -= 0.00000000967;
-            B5 += 0.00000000583 * Math.cos(5.96456944075 + 433.7117378768 * t);
-            B5 += 0.00000000588 * Math.cos(0.78008666397 + 227.5261894396 * t);
-            B5 += 0.00000000445 * Math.cos(2.38630799074 + 419.4846438752 * t);
-            B5 += 0.00000000098 * Math.cos(5.10622131539 + 647.0108333148 * t);
-            B5 += 0.00000000091 * Math.cos(5.81659714144 + 7.1135470008 * t);
-            B5 += 0.00000000088 * Math.cos(6.17828532308 + 440.8252848776 * t);
-            B5 += 0.00000000089 * Math.cos(0.58396864530 + 213.299095438 * t);
-        }
-        return B5 * t * t * t * t * t;
-    }
-
-    public double R0(double t) // 1205 terms of order 0
-    {
-        double R0 = 0;
-        R0 += 9.55758135801;
-        R0 += 0.52921382465 * Math.cos(2.39226219733 + 213.299095438 * t);
-        R0 += 0.01873679934 * Math.cos(5.23549605091 + 206.1855484372 * t);
-        R0 += 0.01464663959 * Math.cos(1.64763045468 + 426.598190876 * t);
-        R0 += 0.00821891059 * Math.cos(5.93520025371 + 316.3918696566 * t);
-        R0 += 0.00547506899 * Math.cos(5.01532628454 + 103.0927742186 * t);
-        R0 += 0.00371684449 * Math.cos(2.27114833428 + 220.4126424388 * t);
-        R0 += 0.00361778433 * Math.cos(3.13904303264 + 7.1135470008 * t);
-        R0 += 0.00140617548 * Math.cos(5.70406652991 + 632.7837393132 * t);
-        R0 += 0.00108974737 * Math.cos(3.29313595577 + 110.2063212194 * t);
-        R0 += 0.00069007015 * Math.cos(5.94099622447 + 419.4846438752 * t);
-        R0 += 0.00061053350 * Math.cos(0.94037761156 + 639.897286314 * t);
-        R0 += 0.00048913044 * Math.cos(1.55733388472 + 202.2533951741 * t);
-        R0 += 0.00034143794 * Math.cos(0.19518550682 + 277.0349937414 * t);
-        R0 += 0.00032401718 * Math.cos(5.47084606947 + 949.1756089698 * t);
-        R0 += 0.00020936573 * Math.cos(0.46349163993 + 735.8765135318 * t);
-        R0 += 0.00020839118 * Math.cos(1.52102590640 + 433.7117378768 * t);
-        R0 += 0.00020746678 * Math.cos(5.33255667599 + 199.0720014364 * t);
-        R0 += 0.00015298457 * Math.cos(3.05943652881 + 529.6909650946 * t);
-        R0 += 0.00014296479 * Math.cos(2.60433537909 + 323.5054166574 * t);
-        R0 += 0.00011993314 * Math.cos(5.98051421881 + 846.0828347512 * t);
-        R0 += 0.00011380261 * Math.cos(1.73105746566 + 522.5774180938 * t);
-        R0 += 0.00012884128 * Math.cos(1.64892310393 + 138.5174968707 * t);
-        R0 += 0.00007752769 * Math.cos(5.85191318903 + 95.9792272178 * t);
-        R0 += 0.00009796061 * Math.cos(5.20475863996 + 1265.5674786264 * t);
-        R0 += 0.00006465967 * Math.cos(0.17733160145 + 1052.2683831884 * t);
-        R0 += 0.00006770621 * Math.cos(3.00433479284 + 14.2270940016 * t);
-        R0 += 0.00005850443 * Math.cos(1.45519636076 + 415.5524906121 * t);
-        R0 += 0.00005307481 * Math.cos(0.59737534050 + 63.7358983034 * t);
-        R0 += 0.00004695746 * Math.cos(2.14919036956 + 227.5261894396 * t);
-        R0 += 0.00004043988 * Math.cos(1.64010323863 + 209.3669421749 * t);
-        R0 += 0.00003688132 * Math.cos(0.78016133170 + 412.3710968744 * t);
-        R0 += 0.00003376457 * Math.cos(3.69528478828 + 224.3447957019 * t);
-        R0 += 0.00002885348 * Math.cos(1.38764077631 + 838.9692877504 * t);
-        R0 += 0.00002976033 * Math.cos(5.68467931117 + 210.1177017003 * t);
-        R0 += 0.00003419551 * Math.cos(4.94549148887 + 1581.959348283 * t);
-        R0 += 0.00003460943 * Math.cos(1.85088802878 + 175.1660598002 * t);
-        R0 += 0.00003400616 * Math.cos(0.55386747515 + 350.3321196004 * t);
-        R0 += 0.00002507630 * Math.cos(3.53851863255 + 742.9900605326 * t);
-        R0 += 0.00002448325 * Math.cos(6.18412386316 + 1368.660252845 * t);
-        R0 += 0.00002406138 * Math.cos(2.96559220267 + 117.3198682202 * t);
-        R0 += 0.00002881181 * Math.cos(0.17960757891 + 853.196381752 * t);
-        R0 += 0.00002173959 * Math.cos(0.01508587396 + 340.7708920448 * t);
-        R0 += 0.00002024483 * Math.cos(5.05411271271 + 11.0457002639 * t);
-        R0 += 0.00001740254 * Math.cos(2.34657043464 + 309.2783226558 * t);
-        R0 += 0.00001861397 * Math.cos(5.93361638244 + 625.6701923124 * t);
-        R0 += 0.00001888436 * Math.cos(0.02968443389 + 3.9321532631 * t);
-        R0 += 0.00001610859 * Math.cos(1.17302463549 + 74.7815985673 * t);
-        R0 += 0.00001462631 * Math.cos(1.92588134017 + 216.4804891757 * t);
-        R0 += 0.00001474547 * Math.cos(5.67670461130 + 203.7378678824 * t);
-        R0 += 0.00001395109 * Math.cos(5.93669404929 + 127.4717966068 * t);
-        R0 += 0.00001781165 * Math.cos(0.76314388077 + 217.2312487011 * t);
-        R0 += 0.00001817186 * Math.cos(5.77713225779 + 490.3340891794 * t);
-        R0 += 0.00001472392 * Math.cos(1.40064915651 + 137.0330241624 * t);
-        R0 += 0.00001304089 * Math.cos(0.77235613966 + 647.0108333148 * t);
-        R0 += 0.00001149773 * Math.cos(5.74021249703 + 1162.4747044078 * t);
-        R0 += 0.00001126667 * Math.cos(4.46707803791 + 265.9892934775 * t);
-        R0 += 0.00001277489 * Math.cos(2.98412586423 + 1059.3819301892 * t);
-        R0 += 0.00001207053 * Math.cos(0.75285933160 + 351.8165923087 * t);
-        R0 += 0.00001071399 * Math.cos(1.13567265104 + 1155.361157407 * t);
-        R0 += 0.00001020922 * Math.cos(5.91233512844 + 1685.0521225016 * t);
-        if (highAccuracy) {
-            R0 += 0.00001315042 * Math.cos(5.11202572637 + 211.8146227297 * t);
-            R0 += 0.00001295553 * Math.cos(4.69184139933 + 1898.3512179396 * t);
-            R0 += 0.00001099037 * Math.cos(1.81765118601 + 149.5631971346 * t);
-            R0 += 0.00000998462 * Math.cos(2.63131596867 + 200.7689224658 * t);
-            R0 += 0.00000985869 * Math.cos(2.25992849742 + 956.2891559706 * t);
-            R0 += 0.00000932434 * Math.cos(3.66980793184 + 554.0699874828 * t);
-            R0 += 0.00000664481 * Math.cos(0.60297724821 + 728.762966531 * t);
-            R0 += 0.00000659850 * Math.cos(4.66635439533 + 195.1398481733 * t);
-            R0 += 0.00000617740 * Math.cos(5.62092000007 + 942.062061969 * t);
-            R0 += 0.00000626382 * Math.cos(5.94208232590 + 1478.8665740644 * t);
-            R0 += 0.00000482230 * Math.cos(1.84070179496 + 479.2883889155 * t);
-            R0 += 0.00000487689 * Math.cos(2.79373616806 + 3.1813937377 * t);
-            R0 += 0.00000470086 * Math.cos(0.83847755040 + 1471.7530270636 * t);
-            R0 += 0.00000451817 * Math.cos(5.64468459871 + 2001.4439921582 * t);
-            R0 += 0.00000553128 * Math.cos(3.41088600844 + 269.9214467406 * t);
-            R0 += 0.00000534397 * Math.cos(1.26443331367 + 275.5505210331 * t);
-            R0 += 0.00000472572 * Math.cos(1.88198584660 + 515.463871093 * t);
-            R0 += 0.00000405434 * Math.cos(1.64001413521 + 536.8045120954 * t);
-            R0 += 0.00000517196 * Math.cos(4.44310450526 + 2214.7430875962 * t);
-            R0 += 0.00000452848 * Math.cos(3.00349117198 + 302.164775655 * t);
-            R0 += 0.00000494340 * Math.cos(2.28626675074 + 278.5194664497 * t);
-            R0 += 0.00000489825 * Math.cos(5.80631420383 + 191.2076949102 * t);
-            R0 += 0.00000427459 * Math.cos(0.05741344372 + 284.1485407422 * t);
-            R0 += 0.00000339763 * Math.cos(1.40198657693 + 440.8252848776 * t);
-            R0 += 0.00000340627 * Math.cos(0.89091104306 + 628.8515860501 * t);
-            R0 += 0.00000385974 * Math.cos(1.99700402508 + 1272.6810256272 * t);
-            R0 += 0.00000288298 * Math.cos(1.12160250272 + 422.6660376129 * t);
-            R0 += 0.00000294444 * Math.cos(0.42577061903 + 312.1990839626 * t);
-            R0 += 0.00000262490 * Math.cos(0.31753439818 + 1045.1548361876 * t);
-            R0 += 0.00000295331 * Math.cos(0.67144493789 + 88.865680217 * t);
-            R0 += 0.00000342968 * Math.cos(5.85600322299 + 1795.258443721 * t);
-            R0 += 0.00000341117 * Math.cos(2.37585247250 + 525.4981794006 * t);
-            R0 += 0.00000234018 * Math.cos(4.22756813216 + 114.1384744825 * t);
-            R0 += 0.00000223729 * Math.cos(2.28129446763 + 330.6189636582 * t);
-            R0 += 0.00000275814 * Math.cos(0.47832439352 + 38.1330356378 * t);
-            R0 += 0.00000224592 * Math.cos(0.54754005675 + 1788.1448967202 * t);
-            R0 += 0.00000303300 * Math.cos(0.87946670205 + 6069.7767545534 * t);
-            R0 += 0.00000292103 * Math.cos(6.21420611920 + 210.8514148832 * t);
-            R0 += 0.00000226121 * Math.cos(0.37495223398 + 142.4496501338 * t);
-            R0 += 0.00000277257 * Math.cos(5.31917702012 + 692.5874843535 * t);
-            R0 += 0.00000242911 * Math.cos(5.37187983246 + 1258.4539316256 * t);
-            R0 += 0.00000205571 * Math.cos(0.95755250527 + 288.0806940053 * t);
-            R0 += 0.00000207567 * Math.cos(5.38126259725 + 2317.8358618148 * t);
-            R0 += 0.00000186835 * Math.cos(6.03591766061 + 404.5067903482 * t);
-            R0 += 0.00000218536 * Math.cos(5.25607043545 + 212.3358875915 * t);
-            R0 += 0.00000222155 * Math.cos(5.94588016768 + 39.3568759152 * t);
-            R0 += 0.00000179673 * Math.cos(4.41045924362 + 408.4389436113 * t);
-            R0 += 0.00000241440 * Math.cos(1.12525868110 + 388.4651552382 * t);
-            R0 += 0.00000197093 * Math.cos(3.90141942850 + 52.6901980395 * t);
-            R0 += 0.00000236639 * Math.cos(0.90802744873 + 1375.7737998458 * t);
-            R0 += 0.00000171915 * Math.cos(5.56318632797 + 213.3472795478 * t);
-            R0 += 0.00000169865 * Math.cos(2.85667554010 + 99.1606209555 * t);
-            R0 += 0.00000214398 * Math.cos(4.20253525974 + 2531.1349572528 * t);
-            R0 += 0.00000172010 * Math.cos(2.36537801012 + 213.2509113282 * t);
-            R0 += 0.00000165707 * Math.cos(2.63679789706 + 215.7467759928 * t);
-            R0 += 0.00000230892 * Math.cos(5.49463421262 + 191.9584544356 * t);
-            R0 += 0.00000177585 * Math.cos(0.38155817719 + 430.5303441391 * t);
-            R0 += 0.00000191514 * Math.cos(2.95906900704 + 437.6438911399 * t);
-            R0 += 0.00000163250 * Math.cos(3.45832517280 + 617.8058857862 * t);
-            R0 += 0.00000162305 * Math.cos(5.73050678664 + 203.0041546995 * t);
-            R0 += 0.00000175108 * Math.cos(5.71404465044 + 1066.49547719 * t);
-            R0 += 0.00000183041 * Math.cos(5.66851947172 + 2111.6503133776 * t);
-            R0 += 0.00000150077 * Math.cos(4.40663921925 + 417.0369633204 * t);
-            R0 += 0.00000187935 * Math.cos(6.07916265661 + 563.6312150384 * t);
-            R0 += 0.00000145127 * Math.cos(5.08176368814 + 423.4167971383 * t);
-            R0 += 0.00000137491 * Math.cos(5.43912787991 + 222.8603229936 * t);
-            R0 += 0.00000172824 * Math.cos(1.84920994090 + 1589.0728952838 * t);
-            R0 += 0.00000165478 * Math.cos(2.89132196119 + 214.2623032845 * t);
-            R0 += 0.00000145727 * Math.cos(1.56565192483 + 831.8557407496 * t);
-            R0 += 0.00000176864 * Math.cos(2.30323752987 + 9999.986450773 * t);
-            R0 += 0.00000128877 * Math.cos(2.55338644107 + 414.0680179038 * t);
-            R0 += 0.00000120093 * Math.cos(0.04329750542 + 1361.5467058442 * t);
-            R0 += 0.00000143441 * Math.cos(0.99817357720 + 76.2660712756 * t);
-            R0 += 0.00000108747 * Math.cos(2.09282278191 + 207.6700211455 * t);
-            R0 += 0.00000132106 * Math.cos(2.85902597898 + 312.4597163935 * t);
-            R0 += 0.00000112238 * Math.cos(0.26221759151 + 2104.5367663768 * t);
-            R0 += 0.00000125186 * Math.cos(4.78354048063 + 205.2223405907 * t);
-            R0 += 0.00000104427 * Math.cos(3.63671899047 + 65.2203710117 * t);
-            R0 += 0.00000107447 * Math.cos(3.67064138701 + 212.7778305762 * t);
-            R0 += 0.00000108642 * Math.cos(2.85492389024 + 21.3406410024 * t);
-            R0 += 0.00000097743 * Math.cos(5.12231845599 + 2634.2277314714 * t);
-            R0 += 0.00000109097 * Math.cos(1.63231061493 + 208.633228992 * t);
-            R0 += 0.00000096852 * Math.cos(4.19928280035 + 305.3461693927 * t);
-            R0 += 0.00000096507 * Math.cos(2.56002066845 + 1692.1656695024 * t);
-            R0 += 0.00000085829 * Math.cos(4.54545085982 + 210.3783341312 * t);
-            R0 += 0.00000099249 * Math.cos(5.13816222131 + 1574.8458012822 * t);
-            R0 += 0.00000112532 * Math.cos(5.03109281265 + 703.6331846174 * t);
-            R0 += 0.00000084023 * Math.cos(1.18337717265 + 429.7795846137 * t);
-            R0 += 0.00000089021 * Math.cos(5.38791571457 + 107.0249274817 * t);
-            R0 += 0.00000110191 * Math.cos(2.43656081234 + 355.7487455718 * t);
-            R0 += 0.00000090659 * Math.cos(4.20908809746 + 213.8203602998 * t);
-            R0 += 0.00000095885 * Math.cos(5.44594259071 + 2428.0421830342 * t);
-            R0 += 0.00000094109 * Math.cos(2.39786381418 + 483.2205421786 * t);
-            R0 += 0.00000085609 * Math.cos(0.03354346966 + 860.3099287528 * t);
-            R0 += 0.00000088796 * Math.cos(4.05766306750 + 128.9562693151 * t);
-            R0 += 0.00000081951 * Math.cos(1.66499731549 + 62.2514255951 * t);
-            R0 += 0.00000091240 * Math.cos(3.96942332591 + 2847.5268269094 * t);
-            R0 += 0.00000083961 * Math.cos(4.60845858022 + 177.8743727859 * t);
-            R0 += 0.00000088376 * Math.cos(3.86800515885 + 140.001969579 * t);
-            R0 += 0.00000093308 * Math.cos(0.73846639887 + 831.1049812242 * t);
-            R0 += 0.00000091872 * Math.cos(2.94977605320 + 35.4247226521 * t);
-            R0 += 0.00000087077 * Math.cos(1.33390590052 + 1905.4647649404 * t);
-            R0 += 0.00000096584 * Math.cos(4.84438390997 + 131.4039498699 * t);
-            R0 += 0.00000071010 * Math.cos(0.99334817658 + 405.2575498736 * t);
-            R0 += 0.00000095266 * Math.cos(2.51506908152 + 2.4476805548 * t);
-            R0 += 0.00000072514 * Math.cos(4.63213873657 + 245.5424243524 * t);
-            R0 += 0.00000082580 * Math.cos(1.52823217919 + 145.6310438715 * t);
-            R0 += 0.00000076693 * Math.cos(3.15240783008 + 767.3690829208 * t);
-            R0 += 0.00000070317 * Math.cos(4.04253707270 + 173.9422195228 * t);
-            R0 += 0.00000086015 * Math.cos(2.30103727270 + 85.8272988312 * t);
-            R0 += 0.00000066529 * Math.cos(4.75053522835 + 70.8494453042 * t);
-            R0 += 0.00000065835 * Math.cos(2.46869725001 + 280.9671470045 * t);
-            R0 += 0.00000064824 * Math.cos(0.09343869325 + 9.5612275556 * t);
-            R0 += 0.00000071557 * Math.cos(0.01212415296 + 565.1156877467 * t);
-            R0 += 0.00000066533 * Math.cos(1.08034871114 + 339.2864193365 * t);
-            R0 += 0.00000063488 * Math.cos(2.01740971153 + 234.6397364404 * t);
-            R0 += 0.00000060786 * Math.cos(5.12026947473 + 756.3233826569 * t);
-            R0 += 0.00000058123 * Math.cos(6.05732868566 + 1677.9385755008 * t);
-            R0 += 0.00000064236 * Math.cos(1.28586474622 + 1148.2476104062 * t);
-            R0 += 0.00000073124 * Math.cos(4.37810889148 + 425.1137181677 * t);
-            R0 += 0.00000055012 * Math.cos(3.85865703217 + 342.2553647531 * t);
-            R0 += 0.00000057101 * Math.cos(6.26689214029 + 2420.9286360334 * t);
-            R0 += 0.00000064090 * Math.cos(4.09854757476 + 327.4375699205 * t);
-            R0 += 0.00000055306 * Math.cos(1.60456896521 + 543.0242872189 * t);
-            R0 += 0.00000057987 * Math.cos(5.47269124340 + 347.8844390456 * t);
-            R0 += 0.00000073581 * Math.cos(3.72292337326 + 92.0470739547 * t);
-            R0 += 0.00000073760 * Math.cos(3.57045342615 + 1.4844727083 * t);
-            R0 += 0.00000064940 * Math.cos(2.44739629174 + 267.4737661858 * t);
-            R0 += 0.00000054414 * Math.cos(3.71479080197 + 344.7030453079 * t);
-            R0 += 0.00000049783 * Math.cos(3.93453970179 + 192.6921676185 * t);
-            R0 += 0.00000049537 * Math.cos(3.22831070579 + 333.657345044 * t);
-            R0 += 0.00000047539 * Math.cos(3.92925402178 + 199.2844497575 * t);
-            R0 += 0.00000049368 * Math.cos(4.90341763553 + 217.491881132 * t);
-            R0 += 0.00000062711 * Math.cos(4.40120079629 + 214.7835681463 * t);
-            R0 += 0.00000046359 * Math.cos(2.09430260266 + 212.5483359126 * t);
-            R0 += 0.00000046289 * Math.cos(2.64038453480 + 10.2949407385 * t);
-            R0 += 0.00000054335 * Math.cos(1.07179534996 + 362.8622925726 * t);
-            R0 += 0.00000058742 * Math.cos(2.62270940799 + 225.8292684102 * t);
-            R0 += 0.00000048457 * Math.cos(3.15166418511 + 216.2198567448 * t);
-            R0 += 0.00000046316 * Math.cos(4.86226642770 + 2950.619601128 * t);
-            R0 += 0.00000045970 * Math.cos(4.97297391881 + 198.321241911 * t);
-            R0 += 0.00000046678 * Math.cos(2.44960215701 + 207.1487562837 * t);
-            R0 += 0.00000044905 * Math.cos(1.77616995803 + 223.5940361765 * t);
-            R0 += 0.00000044521 * Math.cos(5.55987055442 + 264.5048207692 * t);
-            R0 += 0.00000055914 * Math.cos(4.29520232351 + 329.7251917809 * t);
-            R0 += 0.00000049643 * Math.cos(5.20789299388 + 2744.4340526908 * t);
-            R0 += 0.00000058829 * Math.cos(4.23073947869 + 700.6642392008 * t);
-            R0 += 0.00000052629 * Math.cos(3.79230629070 + 343.2185725996 * t);
-            R0 += 0.00000041532 * Math.cos(0.74488808688 + 125.9873238985 * t);
-            R0 += 0.00000047767 * Math.cos(2.39260015876 + 207.8824694666 * t);
-            R0 += 0.00000056157 * Math.cos(2.07214273531 + 124.433415221 * t);
-            R0 += 0.00000043345 * Math.cos(1.83707598036 + 106.2741679563 * t);
-            R0 += 0.00000039793 * Math.cos(4.00870764324 + 12.5301729722 * t);
-            R0 += 0.00000053882 * Math.cos(4.97905460628 + 134.5853436076 * t);
-            R0 += 0.00000050135 * Math.cos(5.75914508514 + 320.3240229197 * t);
-            R0 += 0.00000044960 * Math.cos(5.35721924134 + 218.9281697305 * t);
-            R0 += 0.00000041089 * Math.cos(4.92252591399 + 1891.2376709388 * t);
-            R0 += 0.00000046509 * Math.cos(2.06623129884 + 2008.557539159 * t);
-            R0 += 0.00000042949 * Math.cos(0.39856812529 + 357.4456666012 * t);
-            R0 += 0.00000037992 * Math.cos(2.06495914285 + 247.2393453818 * t);
-            R0 += 0.00000048733 * Math.cos(5.32762223699 + 3127.3133312618 * t);
-            R0 += 0.00000034583 * Math.cos(5.62555932761 + 99.9113804809 * t);
-            R0 += 0.00000041092 * Math.cos(2.47264897370 + 237.6781178262 * t);
-            R0 += 0.00000040763 * Math.cos(4.08408559215 + 621.7380390493 * t);
-            R0 += 0.00000034213 * Math.cos(0.73077393007 + 750.1036075334 * t);
-            R0 += 0.00000033967 * Math.cos(5.31264617621 + 206.233732547 * t);
-            R0 += 0.00000036509 * Math.cos(1.68826775750 + 22.0914005278 * t);
-            R0 += 0.00000039361 * Math.cos(3.45730719990 + 241.6102710893 * t);
-            R0 += 0.00000034796 * Math.cos(2.24780137629 + 487.3651437628 * t);
-            R0 += 0.00000033049 * Math.cos(4.86593901955 + 209.106309744 * t);
-            R0 += 0.00000032584 * Math.cos(2.22713131846 + 319.5732633943 * t);
-            R0 += 0.00000039035 * Math.cos(3.73870591196 + 3163.918696566 * t);
-            R0 += 0.00000032722 * Math.cos(1.06640549236 + 252.6559713532 * t);
-            R0 += 0.00000038671 * Math.cos(4.39617126814 + 18.1592472647 * t);
-            R0 += 0.00000034514 * Math.cos(1.82607500690 + 380.12776796 * t);
-            R0 += 0.00000041539 * Math.cos(0.08136234251 + 210.3301500214 * t);
-            R0 += 0.00000033527 * Math.cos(5.80475568528 + 251.4321310758 * t);
-            R0 += 0.00000031221 * Math.cos(1.96489151107 + 244.318584075 * t);
-            R0 += 0.00000030521 * Math.cos(2.26854188579 + 1169.5882514086 * t);
-            R0 += 0.00000034828 * Math.cos(5.96324553131 + 217.964961884 * t);
-            R0 += 0.00000038481 * Math.cos(4.43707551964 + 160.6088973985 * t);
-            R0 += 0.00000035998 * Math.cos(3.83262381556 + 56.6223513026 * t);
-            R0 += 0.00000031041 * Math.cos(4.89914223233 + 144.1465711632 * t);
-            R0 += 0.00000032342 * Math.cos(3.58191018804 + 231.4583427027 * t);
-            R0 += 0.00000028838 * Math.cos(5.80081031514 + 1994.3304451574 * t);
-            R0 += 0.00000032175 * Math.cos(2.13166877923 + 206.1373643274 * t);
-            R0 += 0.00000032643 * Math.cos(1.93131580544 + 98.8999885246 * t);
-            R0 += 0.00000034917 * Math.cos(5.65276617691 + 497.4476361802 * t);
-            R0 += 0.00000028928 * Math.cos(2.21653288920 + 14.977853527 * t);
-            R0 += 0.00000031569 * Math.cos(3.81846560564 + 73.297125859 * t);
-            R0 += 0.00000032199 * Math.cos(0.99811846290 + 1464.6394800628 * t);
-            R0 += 0.00000029153 * Math.cos(5.98414099408 + 2737.32050569 * t);
-            R0 += 0.00000036706 * Math.cos(4.75493516597 + 348.8476468921 * t);
-            R0 += 0.00000028665 * Math.cos(1.68732054583 + 78.7137518304 * t);
-            R0 += 0.00000027501 * Math.cos(6.12086395418 + 214.0498549634 * t);
-            R0 += 0.00000028795 * Math.cos(0.04448605904 + 5.6290742925 * t);
-            R0 += 0.00000027205 * Math.cos(0.24587543816 + 313.2104759189 * t);
-            R0 += 0.00000032441 * Math.cos(3.77921585847 + 33.9402499438 * t);
-            R0 += 0.00000027088 * Math.cos(5.20310098020 + 148.0787244263 * t);
-            R0 += 0.00000034956 * Math.cos(3.43886187587 + 273.1028404783 * t);
-            R0 += 0.00000033076 * Math.cos(2.44662095168 + 969.6224780949 * t);
-            R0 += 0.00000027745 * Math.cos(1.44598606685 + 258.8757464767 * t);
-            R0 += 0.00000027178 * Math.cos(4.25918596220 + 179.3588454942 * t);
-            R0 += 0.00000027872 * Math.cos(0.78772093522 + 546.956440482 * t);
-            R0 += 0.00000029106 * Math.cos(4.83947711462 + 905.8865797915 * t);
-            R0 += 0.00000027417 * Math.cos(2.44930366818 + 254.9435932136 * t);
-            R0 += 0.00000034296 * Math.cos(6.00920969644 + 166.828672522 * t);
-            R0 += 0.00000028859 * Math.cos(6.02917249910 + 188.9200730498 * t);
-            R0 += 0.00000026001 * Math.cos(0.65046992484 + 654.1243803156 * t);
-            R0 += 0.00000033560 * Math.cos(1.23732329127 + 2221.856634597 * t);
-            R0 += 0.00000024356 * Math.cos(0.52248751330 + 894.8408795276 * t);
-            R0 += 0.00000027767 * Math.cos(5.17820678484 + 5.4166259714 * t);
-            R0 += 0.00000025568 * Math.cos(3.35897159622 + 0.9632078465 * t);
-            R0 += 0.00000022879 * Math.cos(3.51293480690 + 458.8415197904 * t);
-            R0 += 0.00000024496 * Math.cos(0.00976884124 + 69.1525242748 * t);
-            R0 += 0.00000028794 * Math.cos(0.75545700854 + 488.8496164711 * t);
-            R0 += 0.00000031228 * Math.cos(2.05299907796 + 282.4516197128 * t);
-            R0 += 0.00000025438 * Math.cos(5.29037729250 + 636.7158925763 * t);
-            R0 += 0.00000025332 * Math.cos(4.97007969450 + 3060.8259223474 * t);
-            R0 += 0.00000023596 * Math.cos(2.54766434769 + 196.6243208816 * t);
-            R0 += 0.00000029602 * Math.cos(3.92688207792 + 206.706813299 * t);
-            R0 += 0.00000028255 * Math.cos(2.72125009693 + 32.2433289144 * t);
-            R0 += 0.00000022115 * Math.cos(4.75775237642 + 213.1872208534 * t);
-            R0 += 0.00000022130 * Math.cos(3.25436709191 + 681.5417840896 * t);
-            R0 += 0.00000021675 * Math.cos(4.61403328597 + 3267.0114707846 * t);
-            R0 += 0.00000022115 * Math.cos(3.16759500067 + 213.4109700226 * t);
-            R0 += 0.00000026912 * Math.cos(2.86269769133 + 24.3790223882 * t);
-            R0 += 0.00000020737 * Math.cos(1.66895754198 + 274.0660483248 * t);
-            R0 += 0.00000028309 * Math.cos(4.73122154345 + 552.5855147745 * t);
-            R0 += 0.00000025252 * Math.cos(5.11986371899 + 168.0525127994 * t);
-            R0 += 0.00000026364 * Math.cos(1.59272536419 + 491.8185618877 * t);
-            R0 += 0.00000021995 * Math.cos(0.88079009280 + 635.9651330509 * t);
-            R0 += 0.00000027076 * Math.cos(5.53694832022 + 555.5544601911 * t);
-            R0 += 0.00000019683 * Math.cos(2.14388519695 + 54.1746707478 * t);
-            R0 += 0.00000027266 * Math.cos(3.57891326986 + 561.1835344836 * t);
-            R0 += 0.00000025162 * Math.cos(1.78070903718 + 182.279606801 * t);
-            R0 += 0.00000021386 * Math.cos(3.86030772476 + 116.4260963429 * t);
-            R0 += 0.00000025572 * Math.cos(1.62093861709 + 2324.9494088156 * t);
-            R0 += 0.00000020025 * Math.cos(2.90618582553 + 120.358249606 * t);
-            R0 += 0.00000019882 * Math.cos(5.59203696008 + 4.192785694 * t);
-            R0 += 0.00000019454 * Math.cos(0.10623632006 + 218.7157214094 * t);
-            R0 += 0.00000025617 * Math.cos(2.09931460158 + 248.7238180901 * t);
-            R0 += 0.00000019804 * Math.cos(2.52180124343 + 1485.9801210652 * t);
-            R0 += 0.00000018516 * Math.cos(2.54810951896 + 213.5115437591 * t);
-            R0 += 0.00000019831 * Math.cos(0.07955320843 + 842.1506814881 * t);
-            R0 += 0.00000018516 * Math.cos(5.37755110510 + 213.0866471169 * t);
-            R0 += 0.00000023655 * Math.cos(1.59974907716 + 738.7972748386 * t);
-            R0 += 0.00000020375 * Math.cos(2.94653107321 + 59.8037450403 * t);
-            R0 += 0.00000024247 * Math.cos(3.15387696867 + 240.3864308119 * t);
-            R0 += 0.00000018294 * Math.cos(3.18715992969 + 295.0512286542 * t);
-            R0 += 0.00000017464 * Math.cos(2.90471803626 + 477.8039162072 * t);
-            R0 += 0.00000020698 * Math.cos(1.07232100334 + 494.2662424425 * t);
-            R0 += 0.00000020400 * Math.cos(1.83665590916 + 533.6231183577 * t);
-            R0 += 0.00000021285 * Math.cos(0.63341794388 + 189.7232222019 * t);
-            R0 += 0.00000016116 * Math.cos(0.60069688498 + 746.9222137957 * t);
-            R0 += 0.00000016297 * Math.cos(3.98317294128 + 2.9207613068 * t);
-            R0 += 0.00000016922 * Math.cos(4.74266972033 + 2207.6295405954 * t);
-            R0 += 0.00000020479 * Math.cos(6.05098286202 + 173.6815870919 * t);
-            R0 += 0.00000015447 * Math.cos(1.49120311247 + 543.9180590962 * t);
-            R0 += 0.00000019944 * Math.cos(4.94086632750 + 121.2520214833 * t);
-            R0 += 0.00000017127 * Math.cos(0.71458025372 + 1781.0313497194 * t);
-            R0 += 0.00000017240 * Math.cos(0.67749766724 + 151.0476698429 * t);
-            R0 += 0.00000015574 * Math.cos(5.70296527381 + 3053.7123753466 * t);
-            R0 += 0.00000015036 * Math.cos(5.52770334605 + 2310.722314814 * t);
-            R0 += 0.00000015928 * Math.cos(4.45642717299 + 643.8294395771 * t);
-            R0 += 0.00000016165 * Math.cos(0.63286131026 + 358.9301393095 * t);
-            R0 += 0.00000014589 * Math.cos(5.26158292613 + 472.1748419147 * t);
-            R0 += 0.00000016545 * Math.cos(3.52813228069 + 3480.3105662226 * t);
-            R0 += 0.00000018912 * Math.cos(0.55218675639 + 4.665866446 * t);
-            R0 += 0.00000017595 * Math.cos(2.26495491189 + 672.1406152284 * t);
-            R0 += 0.00000018104 * Math.cos(2.71285673689 + 181.806526049 * t);
-            R0 += 0.00000015918 * Math.cos(5.23446779429 + 135.5485514541 * t);
-            R0 += 0.00000013931 * Math.cos(3.19357128657 + 213.5597278689 * t);
-            R0 += 0.00000014058 * Math.cos(0.82375896652 + 221.3758502853 * t);
-            R0 += 0.00000013931 * Math.cos(4.73208739639 + 213.0384630071 * t);
-            R0 += 0.00000014690 * Math.cos(2.65882838685 + 292.0128472684 * t);
-            R0 += 0.00000014454 * Math.cos(0.21819892811 + 235.3904959658 * t);
-            R0 += 0.00000016168 * Math.cos(0.91025406068 + 280.003939158 * t);
-            R0 += 0.00000013327 * Math.cos(3.54947442109 + 205.6642835754 * t);
-            R0 += 0.00000016104 * Math.cos(0.82547975762 + 176.6505325085 * t);
-            R0 += 0.00000016441 * Math.cos(5.39398801335 + 424.1505103212 * t);
-            R0 += 0.00000012747 * Math.cos(0.75780958758 + 721.6494195302 * t);
-            R0 += 0.00000012754 * Math.cos(3.55466871752 + 153.4953503977 * t);
-            R0 += 0.00000014448 * Math.cos(0.12049617049 + 313.6835566709 * t);
-            R0 += 0.00000016499 * Math.cos(3.26383140489 + 6283.0758499914 * t);
-            R0 += 0.00000016564 * Math.cos(1.62649604519 + 5856.4776591154 * t);
-            R0 += 0.00000014950 * Math.cos(1.23923264394 + 2641.3412784722 * t);
-            R0 += 0.00000015724 * Math.cos(1.18874754834 + 486.4019359163 * t);
-            R0 += 0.00000011893 * Math.cos(0.91693668558 + 416.3032501375 * t);
-            R0 += 0.00000011684 * Math.cos(1.11385455828 + 81.7521332162 * t);
-            R0 += 0.00000012985 * Math.cos(4.74373293725 + 3377.217792004 * t);
-            R0 += 0.00000011864 * Math.cos(0.64411806416 + 28.3111756513 * t);
-            R0 += 0.00000013216 * Math.cos(4.95904024430 + 1279.794572628 * t);
-            R0 += 0.00000016121 * Math.cos(0.98185208328 + 2538.2485042536 * t);
-            R0 += 0.00000014900 * Math.cos(1.76649832526 + 569.0478410098 * t);
-            R0 += 0.00000011337 * Math.cos(4.36555105334 + 3583.4033404412 * t);
-            R0 += 0.00000011253 * Math.cos(5.98638731448 + 193.655375465 * t);
-            R0 += 0.00000014753 * Math.cos(2.92291248767 + 167.0893049529 * t);
-            R0 += 0.00000013774 * Math.cos(2.50808183571 + 1802.3719907218 * t);
-            R0 += 0.00000011068 * Math.cos(0.00471764868 + 629.6023455755 * t);
-            R0 += 0.00000012781 * Math.cos(3.62178749219 + 67.6680515665 * t);
-            R0 += 0.00000012238 * Math.cos(0.27163151602 + 1044.4040766622 * t);
-            R0 += 0.00000011021 * Math.cos(0.15223056578 + 501.3797894433 * t);
-            R0 += 0.00000014206 * Math.cos(2.63254885854 + 618.5566453116 * t);
-            R0 += 0.00000014365 * Math.cos(0.37819794671 + 601.7642506762 * t);
-            R0 += 0.00000015034 * Math.cos(2.67095006272 + 46.470422916 * t);
-            R0 += 0.00000012248 * Math.cos(2.19751851112 + 650.9429865779 * t);
-            R0 += 0.00000010783 * Math.cos(2.86375137884 + 113.3877149571 * t);
-            R0 += 0.00000011418 * Math.cos(1.20874560246 + 172.2452984934 * t);
-            R0 += 0.00000014613 * Math.cos(6.05645353059 + 468.2426886516 * t);
-            R0 += 0.00000010580 * Math.cos(2.05903854864 + 429.0458714308 * t);
-            R0 += 0.00000013721 * Math.cos(2.20936291526 + 228.276948965 * t);
-            R0 += 0.00000012180 * Math.cos(1.82585577726 + 241.8709035202 * t);
-            R0 += 0.00000010787 * Math.cos(5.06924118186 + 162.8965192589 * t);
-            R0 += 0.00000012056 * Math.cos(3.20018724042 + 72.0732855816 * t);
-            R0 += 0.00000012233 * Math.cos(4.50741930970 + 425.6349830295 * t);
-            R0 += 0.00000012101 * Math.cos(4.14977794161 + 1108.1399749656 * t);
-            R0 += 0.00000009843 * Math.cos(1.49451039604 + 226.6324175623 * t);
-            R0 += 0.00000010287 * Math.cos(2.10680007784 + 1033.3583763983 * t);
-            R0 += 0.00000009975 * Math.cos(2.81640446254 + 518.6452648307 * t);
-            R0 += 0.00000009597 * Math.cos(4.80028087522 + 426.6463749858 * t);
-            R0 += 0.00000010746 * Math.cos(4.66838299108 + 129.9194771616 * t);
-            R0 += 0.00000012961 * Math.cos(5.11568581806 + 219.4494345923 * t);
-            R0 += 0.00000012302 * Math.cos(5.33568547700 + 776.9303104764 * t);
-            R0 += 0.00000009484 * Math.cos(4.85702954575 + 820.0592809603 * t);
-            R0 += 0.00000011441 * Math.cos(3.85769732764 + 405.9912630565 * t);
-            R0 += 0.00000009625 * Math.cos(1.60280478656 + 426.5500067662 * t);
-            R0 += 0.00000009164 * Math.cos(0.70204567980 + 403.0223176399 * t);
-            R0 += 0.00000010112 * Math.cos(2.76486875630 + 210.5907824523 * t);
-            R0 += 0.00000010816 * Math.cos(1.36864298163 + 170.7608257851 * t);
-            R0 += 0.00000010187 * Math.cos(2.36063948382 + 685.4739373527 * t);
-            R0 += 0.00000012397 * Math.cos(6.06349943525 + 875.830299001 * t);
-            R0 += 0.00000012146 * Math.cos(2.04060386262 + 508.3503240922 * t);
-            R0 += 0.00000009574 * Math.cos(3.19555214859 + 286.596221297 * t);
-            R0 += 0.00000010193 * Math.cos(4.01123146905 + 381.3516082374 * t);
-            R0 += 0.00000008900 * Math.cos(3.63260235880 + 319.3126309634 * t);
-            R0 += 0.00000010052 * Math.cos(5.16107251040 + 216.0074084237 * t);
-            R0 += 0.00000008528 * Math.cos(3.88076551354 + 630.3360587584 * t);
-            R0 += 0.00000008875 * Math.cos(5.46623776078 + 3370.1042450032 * t);
-            R0 += 0.00000008401 * Math.cos(5.65557131026 + 213.4591541324 * t);
-            R0 += 0.00000010033 * Math.cos(5.97497644283 + 6.1503391543 * t);
-            R0 += 0.00000008401 * Math.cos(2.27009862215 + 213.1390367436 * t);
-            R0 += 0.00000011661 * Math.cos(0.95163302252 + 694.0719570618 * t);
-            R0 += 0.00000008696 * Math.cos(2.33868966556 + 220.364458329 * t);
-            R0 += 0.00000008141 * Math.cos(5.54059747150 + 220.4608265486 * t);
-            R0 += 0.00000009615 * Math.cos(2.75755414306 + 556.5176680376 * t);
-            R0 += 0.00000009120 * Math.cos(0.44322374149 + 2097.423219376 * t);
-            R0 += 0.00000008109 * Math.cos(5.53989498262 + 181.0557665236 * t);
-            R0 += 0.00000010763 * Math.cos(0.05616402982 + 691.1030116452 * t);
-            R0 += 0.00000009579 * Math.cos(2.84979792871 + 184.0941479094 * t);
-            R0 += 0.00000009958 * Math.cos(2.38581008546 + 945.2434557067 * t);
-            R0 += 0.00000008526 * Math.cos(0.17821781104 + 289.5651667136 * t);
-            R0 += 0.00000007700 * Math.cos(0.00481375410 + 7.1617311106 * t);
-            R0 += 0.00000008613 * Math.cos(0.82900327241 + 2957.7331481288 * t);
-            R0 += 0.00000009517 * Math.cos(2.27516458273 + 8.0767548473 * t);
-            R0 += 0.00000009049 * Math.cos(3.37335025790 + 731.9443602687 * t);
-            R0 += 0.00000007888 * Math.cos(5.78452089815 + 230.8252032563 * t);
-            R0 += 0.00000007684 * Math.cos(3.10462250617 + 7.065362891 * t);
-            R0 += 0.00000007391 * Math.cos(5.29648701813 + 2627.1141844706 * t);
-            R0 += 0.00000009875 * Math.cos(4.69411059509 + 10213.285546211 * t);
-            R0 += 0.00000007328 * Math.cos(0.09051133382 + 100.6450936638 * t);
-            R0 += 0.00000007999 * Math.cos(1.60928374337 + 696.5196376166 * t);
-            R0 += 0.00000007600 * Math.cos(4.90078510977 + 51.2057253312 * t);
-            R0 += 0.00000009928 * Math.cos(5.25713005643 + 699.7010313543 * t);
-            R0 += 0.00000007333 * Math.cos(5.61982406824 + 31.492569389 * t);
-            R0 += 0.00000007376 * Math.cos(4.52737009022 + 616.3214130779 * t);
-            R0 += 0.00000009422 * Math.cos(2.44475274779 + 2118.7638603784 * t);
-            R0 += 0.00000007300 * Math.cos(4.01885475010 + 212.0270710508 * t);
-            R0 += 0.00000007502 * Math.cos(4.71301501745 + 436.1594184316 * t);
-            R0 += 0.00000009071 * Math.cos(2.75662160229 + 130.4407420234 * t);
-            R0 += 0.00000008913 * Math.cos(2.19608557019 + 427.5613987225 * t);
-            R0 += 0.00000008801 * Math.cos(4.26655882704 + 141.2258098564 * t);
-            R0 += 0.00000006853 * Math.cos(5.69082635009 + 480.7728616238 * t);
-            R0 += 0.00000007765 * Math.cos(3.27218537808 + 3796.7024358792 * t);
-            R0 += 0.00000009159 * Math.cos(3.04713671650 + 9786.687355335 * t);
-            R0 += 0.00000009034 * Math.cos(2.04165937353 + 204.7010757289 * t);
-            R0 += 0.00000006902 * Math.cos(4.61962635489 + 2524.021410252 * t);
-            R0 += 0.00000006728 * Math.cos(0.58794595002 + 739.8086667949 * t);
-            R0 += 0.00000006741 * Math.cos(0.52362906624 + 135.336103133 * t);
-            R0 += 0.00000008201 * Math.cos(5.03994203224 + 411.620337349 * t);
-            R0 += 0.00000007240 * Math.cos(3.90653111215 + 214.5711198252 * t);
-            R0 += 0.00000006887 * Math.cos(4.11954799957 + 662.531203563 * t);
-            R0 += 0.00000006566 * Math.cos(2.67659365854 + 194.1766403268 * t);
-            R0 += 0.00000006539 * Math.cos(6.25585361704 + 31.019488637 * t);
-            R0 += 0.00000007484 * Math.cos(5.56871021201 + 271.4059194489 * t);
-            R0 += 0.00000008078 * Math.cos(3.09955817560 + 353.301065017 * t);
-            R0 += 0.00000007072 * Math.cos(1.10066698352 + 282.6640680339 * t);
-            R0 += 0.00000006089 * Math.cos(0.79684364835 + 593.426863398 * t);
-            R0 += 0.00000006140 * Math.cos(3.79672343724 + 180.1619946463 * t);
-            R0 += 0.00000006703 * Math.cos(3.82854248620 + 412.5835451955 * t);
-            R0 += 0.00000006024 * Math.cos(5.46288776207 + 724.8308132679 * t);
-            R0 += 0.00000008102 * Math.cos(4.51051495778 + 268.4369740323 * t);
-            R0 += 0.00000006033 * Math.cos(1.24326252021 + 447.9388318784 * t);
-            R0 += 0.00000007425 * Math.cos(2.29394888999 + 532.6117264014 * t);
-            R0 += 0.00000006007 * Math.cos(2.87215425398 + 426.0769260142 * t);
-            R0 += 0.00000007568 * Math.cos(0.79147591036 + 2854.6403739102 * t);
-            R0 += 0.00000005816 * Math.cos(1.70824982811 + 50.4025761791 * t);
-            R0 += 0.00000007534 * Math.cos(5.38598292680 + 953.1077622329 * t);
-            R0 += 0.00000005863 * Math.cos(2.04201456623 + 454.9093665273 * t);
-            R0 += 0.00000007291 * Math.cos(0.88044346877 + 457.617679513 * t);
-            R0 += 0.00000006235 * Math.cos(4.51960341418 + 3693.6096616606 * t);
-            R0 += 0.00000006359 * Math.cos(6.27053660532 + 313.9441891018 * t);
-            R0 += 0.00000005722 * Math.cos(0.47241118592 + 610.6923387854 * t);
-            R0 += 0.00000005704 * Math.cos(0.45599464136 + 643.0786800517 * t);
-            R0 += 0.00000006176 * Math.cos(3.98739420856 + 835.0371344873 * t);
-            R0 += 0.00000005730 * Math.cos(0.50814242490 + 1038.0412891868 * t);
-            R0 += 0.00000006812 * Math.cos(4.20463385690 + 938.1299087059 * t);
-            R0 += 0.00000005620 * Math.cos(4.08049141112 + 3899.7952100978 * t);
-            R0 += 0.00000006770 * Math.cos(4.22172125738 + 916.9322800554 * t);
-            R0 += 0.00000006069 * Math.cos(3.46762401122 + 278.2588340188 * t);
-            R0 += 0.00000005875 * Math.cos(5.51773010551 + 1073.6090241908 * t);
-            R0 += 0.00000005558 * Math.cos(3.29478679376 + 20.6069278195 * t);
-            R0 += 0.00000006274 * Math.cos(4.88767368263 + 0.5212648618 * t);
-            R0 += 0.00000005794 * Math.cos(4.09991767938 + 391.1734682239 * t);
-            R0 += 0.00000005442 * Math.cos(2.79802608247 + 397.3932433474 * t);
-            R0 += 0.00000005754 * Math.cos(4.42718264879 + 165.6048322446 * t);
-            R0 += 0.00000005879 * Math.cos(6.17871525366 + 291.262087743 * t);
-            R0 += 0.00000006716 * Math.cos(2.18663847730 + 627.3671133418 * t);
-            R0 += 0.00000005761 * Math.cos(0.62536160332 + 114.3991069134 * t);
-            R0 += 0.00000005359 * Math.cos(2.29390692216 + 331.2096644892 * t);
-            R0 += 0.00000006210 * Math.cos(4.92273259045 + 450.9772132642 * t);
-            R0 += 0.00000006686 * Math.cos(2.13438181268 + 285.6330134505 * t);
-            R0 += 0.00000005173 * Math.cos(4.10128119721 + 6.592282139 * t);
-            R0 += 0.00000005707 * Math.cos(3.48716972669 + 230.5645708254 * t);
-            R0 += 0.00000006363 * Math.cos(5.64626069194 + 518.3846323998 * t);
-            R0 += 0.00000005241 * Math.cos(3.78081098206 + 418.5214360287 * t);
-            R0 += 0.00000005191 * Math.cos(4.39595146262 + 84.3428261229 * t);
-            R0 += 0.00000006710 * Math.cos(2.96748528229 + 624.919432787 * t);
-            R0 += 0.00000004931 * Math.cos(2.71959451867 + 558.0021407459 * t);
-            R0 += 0.00000005225 * Math.cos(4.65463431385 + 310.7146112543 * t);
-            R0 += 0.00000004857 * Math.cos(2.61373582429 + 66.70484372 * t);
-            R0 += 0.00000004847 * Math.cos(3.76991373317 + 423.6774295692 * t);
-            R0 += 0.00000005284 * Math.cos(1.96024672163 + 1182.9215735329 * t);
-            R0 += 0.00000005933 * Math.cos(2.74003948393 + 219.891377577 * t);
-            R0 += 0.00000006373 * Math.cos(1.41296346460 + 606.7601855223 * t);
-            R0 += 0.00000004728 * Math.cos(0.23421038001 + 1063.3140834523 * t);
-            R0 += 0.00000006408 * Math.cos(1.16687419680 + 268.9582388941 * t);
-            R0 += 0.00000004782 * Math.cos(1.56813683227 + 420.9691165835 * t);
-            R0 += 0.00000005399 * Math.cos(4.57611449409 + 238.9019581036 * t);
-            R0 += 0.00000005161 * Math.cos(0.14436456585 + 2413.8150890326 * t);
-            R0 += 0.00000004858 * Math.cos(5.21378840436 + 3686.4961146598 * t);
-            R0 += 0.00000005086 * Math.cos(1.73392381835 + 337.732510659 * t);
-            R0 += 0.00000004650 * Math.cos(3.71029121290 + 305.0855369618 * t);
-            R0 += 0.00000004896 * Math.cos(3.67786531840 + 240.125798381 * t);
-            R0 += 0.00000005949 * Math.cos(0.29956165181 + 524.0137066923 * t);
-            R0 += 0.00000004968 * Math.cos(2.53258931342 + 980.6681783588 * t);
-            R0 += 0.00000004944 * Math.cos(2.16189522746 + 104.0559820651 * t);
-            R0 += 0.00000005366 * Math.cos(3.54867806985 + 107.2855599126 * t);
-            R0 += 0.00000004917 * Math.cos(0.48641512683 + 3274.1250177854 * t);
-            R0 += 0.00000005617 * Math.cos(6.27593478237 + 112.6540017742 * t);
-            R0 += 0.00000004524 * Math.cos(5.09539085552 + 103.1409583284 * t);
-            R0 += 0.00000005643 * Math.cos(1.52724336480 + 105.5404547734 * t);
-            R0 += 0.00000004504 * Math.cos(1.68251875362 + 196.0336200506 * t);
-            R0 += 0.00000004897 * Math.cos(4.90011892854 + 102.1295663721 * t);
-            R0 += 0.00000004525 * Math.cos(1.88735156553 + 103.0445901088 * t);
-            R0 += 0.00000004327 * Math.cos(1.45407229380 + 409.9234163196 * t);
-            R0 += 0.00000005095 * Math.cos(3.40640608336 + 427.1194557378 * t);
-            R0 += 0.00000005782 * Math.cos(3.55197606731 + 25874.6040461362 * t);
-            R0 += 0.00000004192 * Math.cos(0.16603430914 + 958.576777831 * t);
-            R0 += 0.00000004976 * Math.cos(0.50639895683 + 511.5317178299 * t);
-            R0 += 0.00000004167 * Math.cos(5.94725762070 + 316.4400537664 * t);
-            R0 += 0.00000004353 * Math.cos(3.78587101731 + 1171.875873269 * t);
-            R0 += 0.00000005387 * Math.cos(2.03693287651 + 2435.155730035 * t);
-            R0 += 0.00000004067 * Math.cos(4.66592603130 + 106.0135355254 * t);
-            R0 += 0.00000004817 * Math.cos(3.53529781673 + 960.2213092337 * t);
-            R0 += 0.00000004048 * Math.cos(3.20024146722 + 775.233389447 * t);
-            R0 += 0.00000004016 * Math.cos(6.00569143107 + 945.9942152321 * t);
-            R0 += 0.00000003989 * Math.cos(3.15130319196 + 115.6229471908 * t);
-            R0 += 0.00000004559 * Math.cos(5.59555355771 + 778.4147831847 * t);
-            R0 += 0.00000004153 * Math.cos(2.75042736587 + 316.3436855468 * t);
-            R0 += 0.00000003983 * Math.cos(2.00842137744 + 597.3590166611 * t);
-            R0 += 0.00000004212 * Math.cos(4.16852690218 + 823.9914342234 * t);
-            R0 += 0.00000005193 * Math.cos(0.71717111984 + 810.6581120991 * t);
-            R0 += 0.00000003927 * Math.cos(5.04361736754 + 2943.5060541272 * t);
-            R0 += 0.00000004225 * Math.cos(0.02571003853 + 0.7507595254 * t);
-            R0 += 0.00000004926 * Math.cos(1.12994881124 + 526.9826521089 * t);
-            R0 += 0.00000004170 * Math.cos(3.94116290117 + 422.405405182 * t);
-            R0 += 0.00000004432 * Math.cos(3.99599046800 + 393.4610900843 * t);
-            R0 += 0.00000003840 * Math.cos(1.21234108241 + 212.0752551606 * t);
-            R0 += 0.00000003866 * Math.cos(4.20930793423 + 97.6761482472 * t);
-            R0 += 0.00000004440 * Math.cos(1.35536679738 + 211.6021744086 * t);
-            R0 += 0.00000003840 * Math.cos(0.43014354282 + 214.5229357154 * t);
-            R0 += 0.00000004724 * Math.cos(3.62039208608 + 638.4128136057 * t);
-            R0 += 0.00000004870 * Math.cos(5.75874599620 + 1246.6574718363 * t);
-            R0 += 0.00000004449 * Math.cos(1.43384065964 + 184.9879197867 * t);
-            R0 += 0.00000003931 * Math.cos(2.36660272585 + 909.8187330546 * t);
-            R0 += 0.00000003787 * Math.cos(5.98932416906 + 325.9530972122 * t);
-            R0 += 0.00000003665 * Math.cos(0.72917314141 + 20.4468691251 * t);
-            R0 += 0.00000004243 * Math.cos(2.29103096797 + 453.424893819 * t);
-            R0 += 0.00000003730 * Math.cos(6.24831601183 + 159.1244246902 * t);
-            R0 += 0.00000003900 * Math.cos(1.31013240315 + 850.0149880143 * t);
-            R0 += 0.00000005134 * Math.cos(1.97348901289 + 526.5095713569 * t);
-            R0 += 0.00000003621 * Math.cos(2.77435773661 + 123.5396433437 * t);
-            R0 += 0.00000003607 * Math.cos(5.32058842710 + 406.954470903 * t);
-            R0 += 0.00000003802 * Math.cos(1.94444523548 + 421.1815649046 * t);
-            R0 += 0.00000003906 * Math.cos(3.02475451573 + 317.3550775031 * t);
-            R0 += 0.00000004473 * Math.cos(0.80804073855 + 838.218528225 * t);
-            R0 += 0.00000004081 * Math.cos(2.08732468180 + 988.532484885 * t);
-            R0 += 0.00000003843 * Math.cos(4.99347148246 + 7.6348118626 * t);
-            R0 += 0.00000004467 * Math.cos(6.09037793116 + 760.25553592 * t);
-            R0 += 0.00000003514 * Math.cos(3.97285766412 + 426.4863162914 * t);
-            R0 += 0.00000003504 * Math.cos(0.85064201666 + 299.1263942692 * t);
-            R0 += 0.00000004397 * Math.cos(1.68577228317 + 824.7421937488 * t);
-            R0 += 0.00000003581 * Math.cos(2.35235960566 + 337.8019466282 * t);
-            R0 += 0.00000004606 * Math.cos(3.48411642192 + 913.9633346388 * t);
-            R0 += 0.00000003790 * Math.cos(3.64538213705 + 216.2680408546 * t);
-            R0 += 0.00000003496 * Math.cos(0.95035381131 + 436.8931316145 * t);
-            R0 += 0.00000004422 * Math.cos(0.82822191292 + 43.2890291783 * t);
-            R0 += 0.00000003688 * Math.cos(2.83785443800 + 739.0579072695 * t);
-            R0 += 0.00000004439 * Math.cos(1.19409419107 + 421.93232443 * t);
-            R0 += 0.00000003572 * Math.cos(2.77298538478 + 444.7574381407 * t);
-            R0 += 0.00000004420 * Math.cos(5.44308967028 + 963.4027029714 * t);
-            R0 += 0.00000004443 * Math.cos(3.73070830296 + 37.8724032069 * t);
-            R0 += 0.00000004322 * Math.cos(4.75680702521 + 40.8413486235 * t);
-            R0 += 0.00000003724 * Math.cos(0.59005210557 + 256.4280659219 * t);
-            R0 += 0.00000004471 * Math.cos(2.22367643527 + 318.8395502114 * t);
-            R0 += 0.00000004184 * Math.cos(1.52719196640 + 298.2326223919 * t);
-            R0 += 0.00000003534 * Math.cos(5.01937599570 + 386.9806825299 * t);
-            R0 += 0.00000003400 * Math.cos(3.22663067085 + 4113.0943055358 * t);
-            R0 += 0.00000004556 * Math.cos(1.35715974815 + 495.7507151508 * t);
-            R0 += 0.00000004453 * Math.cos(1.80417064247 + 829.6205085159 * t);
-            R0 += 0.00000003617 * Math.cos(1.51036385224 + 41.6444977756 * t);
-            R0 += 0.00000003789 * Math.cos(4.80357656146 + 238.4288773516 * t);
-            R0 += 0.00000003514 * Math.cos(2.38272766645 + 426.7100654606 * t);
-            R0 += 0.00000003208 * Math.cos(1.74465274123 + 952.3570027075 * t);
-            R0 += 0.00000004398 * Math.cos(2.65839000906 + 832.5894539325 * t);
-            R0 += 0.00000004092 * Math.cos(3.07954777295 + 60.7669528868 * t);
-            R0 += 0.00000003813 * Math.cos(5.63047104819 + 315.4286618101 * t);
-            R0 += 0.00000003219 * Math.cos(6.22278803635 + 754.8389099486 * t);
-            R0 += 0.00000003102 * Math.cos(2.69222024257 + 343.7398374614 * t);
-            R0 += 0.00000004045 * Math.cos(4.02463772100 + 376.1956146969 * t);
-            R0 += 0.00000003576 * Math.cos(0.38532787280 + 214.9960164674 * t);
-            R0 += 0.00000003291 * Math.cos(5.49542015261 + 143.9341228421 * t);
-            R0 += 0.00000003981 * Math.cos(5.75449411958 + 239.1625905345 * t);
-            R0 += 0.00000003249 * Math.cos(0.58789568678 + 619.2903584945 * t);
-            R0 += 0.00000003114 * Math.cos(0.02831060137 + 221.1634019642 * t);
-            R0 += 0.00000003555 * Math.cos(3.12207684735 + 1048.3362299253 * t);
-            R0 += 0.00000003010 * Math.cos(1.91180343491 + 93.531546663 * t);
-            R0 += 0.00000003384 * Math.cos(1.81702854004 + 443.8636662634 * t);
-            R0 += 0.00000003222 * Math.cos(2.37342117781 + 429.5189521828 * t);
-            R0 += 0.00000003431 * Math.cos(5.92099840679 + 570.7447620392 * t);
-            R0 += 0.00000003271 * Math.cos(2.04947945059 + 806.725958836 * t);
-            R0 += 0.00000003207 * Math.cos(5.44018976766 + 402.2191684878 * t);
-            R0 += 0.00000003091 * Math.cos(0.10717557454 + 3590.516887442 * t);
-            R0 += 0.00000002951 * Math.cos(1.76365810296 + 426.8106391971 * t);
-            R0 += 0.00000002958 * Math.cos(0.23653889192 + 1354.4331588434 * t);
-            R0 += 0.00000002948 * Math.cos(4.59289832104 + 426.3857425549 * t);
-            R0 += 0.00000003506 * Math.cos(5.43222584214 + 84.9335269539 * t);
-            R0 += 0.00000002894 * Math.cos(5.69678330542 + 1262.3860848887 * t);
-            R0 += 0.00000003682 * Math.cos(1.07122313007 + 395.578702239 * t);
-            R0 += 0.00000002983 * Math.cos(5.25093816048 + 313.4711083498 * t);
-            R0 += 0.00000003117 * Math.cos(4.18767239237 + 366.7944458357 * t);
-            R0 += 0.00000002873 * Math.cos(4.45472312727 + 361.3778198643 * t);
-            R0 += 0.00000003521 * Math.cos(2.05528981993 + 1261.6353253633 * t);
-            R0 += 0.00000003496 * Math.cos(1.87950759078 + 439.1283638482 * t);
-            R0 += 0.00000003012 * Math.cos(0.64439385874 + 263.0203480609 * t);
-            R0 += 0.00000002849 * Math.cos(1.12491777974 + 262.0571402144 * t);
-            R0 += 0.00000002910 * Math.cos(2.76192171681 + 541.5398145106 * t);
-            R0 += 0.00000003322 * Math.cos(6.08893948791 + 108.7218485111 * t);
-            R0 += 0.00000003181 * Math.cos(1.01419299056 + 418.0001711669 * t);
-            R0 += 0.00000002793 * Math.cos(0.38781777981 + 211.8628068395 * t);
-            R0 += 0.00000003091 * Math.cos(2.18216748751 + 306.830642101 * t);
-            R0 += 0.00000003748 * Math.cos(3.89145855821 + 220.9339073006 * t);
-            R0 += 0.00000002982 * Math.cos(1.99831689446 + 117.9105690512 * t);
-            R0 += 0.00000002793 * Math.cos(1.25466684542 + 214.7353840365 * t);
-            R0 += 0.00000003512 * Math.cos(1.50965040301 + 885.4397106664 * t);
-            R0 += 0.00000002716 * Math.cos(0.80710391613 + 757.2171545342 * t);
-            R0 += 0.00000003137 * Math.cos(2.09889265033 + 2751.5475996916 * t);
-            R0 += 0.00000002738 * Math.cos(4.89270330923 + 464.7312265138 * t);
-            R0 += 0.00000002875 * Math.cos(4.28436709414 + 4010.0015313172 * t);
-            R0 += 0.00000003313 * Math.cos(3.01452486457 + 336.8387387817 * t);
-            R0 += 0.00000002746 * Math.cos(2.69963506928 + 380.3884003909 * t);
-            R0 += 0.00000003132 * Math.cos(2.19562786872 + 2.9689454166 * t);
-            R0 += 0.00000003233 * Math.cos(0.60809684558 + 3171.0322435668 * t);
-            R0 += 0.00000003034 * Math.cos(0.93246285284 + 205.4347889118 * t);
-            R0 += 0.00000003006 * Math.cos(5.91067479448 + 2.7083129857 * t);
-            R0 += 0.00000003643 * Math.cos(5.58302397259 + 423.6292454594 * t);
-            R0 += 0.00000002625 * Math.cos(1.07042050691 + 23.5758732361 * t);
-            R0 += 0.00000003495 * Math.cos(0.19887562030 + 576.1613880106 * t);
-            R0 += 0.00000002590 * Math.cos(0.21252773750 + 110.2545053292 * t);
-            R0 += 0.00000002704 * Math.cos(6.12908233599 + 572.2292347475 * t);
-            R0 += 0.00000002568 * Math.cos(0.17571588314 + 1056.2005364515 * t);
-            R0 += 0.00000002583 * Math.cos(2.96927378731 + 384.0599212231 * t);
-            R0 += 0.00000002555 * Math.cos(3.96441052072 + 430.79097657 * t);
-            R0 += 0.00000002786 * Math.cos(2.54945911818 + 195.8906076987 * t);
-            R0 += 0.00000002869 * Math.cos(4.82964665921 + 710.7467316182 * t);
-            R0 += 0.00000002534 * Math.cos(5.31005598763 + 427.3489504014 * t);
-            R0 += 0.00000002618 * Math.cos(1.22081401503 + 36.6485629295 * t);
-            R0 += 0.00000003464 * Math.cos(2.32811328200 + 285.3723810196 * t);
-            R0 += 0.00000003374 * Math.cos(3.34109586766 + 162.0933701068 * t);
-            R0 += 0.00000002694 * Math.cos(4.64149271687 + 140.9651774255 * t);
-            R0 += 0.00000002603 * Math.cos(0.99527295832 + 92.3077063856 * t);
-            R0 += 0.00000003140 * Math.cos(5.40790277580 + 328.2407190726 * t);
-            R0 += 0.00000002603 * Math.cos(4.31532790880 + 561.934294009 * t);
-            R0 += 0.00000002987 * Math.cos(0.82758128867 + 45.5766510387 * t);
-            R0 += 0.00000002959 * Math.cos(3.35623851523 + 273.8536000037 * t);
-            R0 += 0.00000002561 * Math.cos(0.54160683162 + 107.7586406646 * t);
-            R0 += 0.00000002900 * Math.cos(1.20691455948 + 462.0229135281 * t);
-            R0 += 0.00000002648 * Math.cos(1.90547819027 + 88.1149206916 * t);
-            R0 += 0.00000002461 * Math.cos(4.68211868869 + 2840.4132799086 * t);
-            R0 += 0.00000002534 * Math.cos(5.00311256556 + 431.264057322 * t);
-            R0 += 0.00000002521 * Math.cos(3.32160472310 + 136.0698163159 * t);
-            R0 += 0.00000002945 * Math.cos(1.06452531856 + 732.6951197941 * t);
-            R0 += 0.00000002654 * Math.cos(1.36744710395 + 460.5384408198 * t);
-            R0 += 0.00000003297 * Math.cos(1.33975572602 + 305.6068018236 * t);
-            R0 += 0.00000002634 * Math.cos(2.29995533800 + 519.3960243561 * t);
-            R0 += 0.00000002805 * Math.cos(5.62255444533 + 1699.2792165032 * t);
-            R0 += 0.00000002439 * Math.cos(5.14733660159 + 303.8616966844 * t);
-            R0 += 0.00000002434 * Math.cos(3.71460437051 + 4216.1870797544 * t);
-            R0 += 0.00000002416 * Math.cos(3.76296045457 + 77.7505439839 * t);
-            R0 += 0.00000002803 * Math.cos(2.55280894914 + 505.3119427064 * t);
-            R0 += 0.00000002592 * Math.cos(3.32836551071 + 110.1581371096 * t);
-            R0 += 0.00000003074 * Math.cos(1.71462387764 + 256.5881246163 * t);
-            R0 += 0.00000003295 * Math.cos(0.81766682522 + 705.1176573257 * t);
-            R0 += 0.00000003183 * Math.cos(6.15742006608 + 109.2431133729 * t);
-            R0 += 0.00000002908 * Math.cos(5.38534195293 + 315.1680293792 * t);
-            R0 += 0.00000002326 * Math.cos(1.42604031905 + 131.5469622218 * t);
-            R0 += 0.00000002427 * Math.cos(2.04627850740 + 124.5028511902 * t);
-            R0 += 0.00000002632 * Math.cos(1.41253794767 + 211.6545640353 * t);
-            R0 += 0.00000002297 * Math.cos(1.38016674676 + 425.8474313506 * t);
-            R0 += 0.00000002318 * Math.cos(6.27716072818 + 317.142629182 * t);
-            R0 += 0.00000002310 * Math.cos(4.86442292404 + 3259.8979237838 * t);
-            R0 += 0.00000002873 * Math.cos(1.10206537875 + 7.8643065262 * t);
-            R0 += 0.00000002616 * Math.cos(0.11849676899 + 133.1008708993 * t);
-            R0 += 0.00000003213 * Math.cos(4.49320461690 + 432.2272651685 * t);
-            R0 += 0.00000002276 * Math.cos(6.04688191978 + 214.1022445901 * t);
-            R0 += 0.00000002276 * Math.cos(1.96882478275 + 212.4959462859 * t);
-            R0 += 0.00000002917 * Math.cos(0.96774661857 + 100.3844612329 * t);
-            R0 += 0.00000002890 * Math.cos(5.72610904534 + 322.0209439491 * t);
-            R0 += 0.00000002829 * Math.cos(2.66887892162 + 141.4864422873 * t);
-            R0 += 0.00000002695 * Math.cos(1.47488571070 + 42.5382696529 * t);
-            R0 += 0.00000002697 * Math.cos(5.34002228297 + 432.0148168474 * t);
-            R0 += 0.00000002229 * Math.cos(4.40717937246 + 540.7366653585 * t);
-            R0 += 0.00000002214 * Math.cos(2.43714413196 + 426.8588233069 * t);
-            R0 += 0.00000002512 * Math.cos(4.68291916658 + 1596.1864422846 * t);
-            R0 += 0.00000002202 * Math.cos(5.91122030007 + 867.4234757536 * t);
-            R0 += 0.00000002856 * Math.cos(0.94736445171 + 41.0537969446 * t);
-            R0 += 0.00000002396 * Math.cos(0.10516628717 + 206.9363079626 * t);
-            R0 += 0.00000002345 * Math.cos(1.16685267780 + 640.8604941605 * t);
-            R0 += 0.00000002263 * Math.cos(4.62327588198 + 188.0263011725 * t);
-            R0 += 0.00000002214 * Math.cos(3.97566024178 + 426.3375584451 * t);
-            R0 += 0.00000002274 * Math.cos(4.94055830720 + 4002.8879843164 * t);
-            R0 += 0.00000002541 * Math.cos(0.83705615200 + 12352.8526045448 * t);
-            R0 += 0.00000002145 * Math.cos(3.40120044084 + 111.1695290659 * t);
-            R0 += 0.00000002895 * Math.cos(6.07389082608 + 2914.0142358238 * t);
-            R0 += 0.00000002520 * Math.cos(1.05396310009 + 184.7272873558 * t);
-            R0 += 0.00000002448 * Math.cos(3.49820841117 + 481.7360694703 * t);
-            R0 += 0.00000002343 * Math.cos(2.86472924644 + 207.0793203145 * t);
-            R0 += 0.00000002964 * Math.cos(5.96264929181 + 465.9550667912 * t);
-            R0 += 0.00000002122 * Math.cos(4.04560058177 + 118.0706277456 * t);
-            R0 += 0.00000002452 * Math.cos(4.35251210402 + 1382.8873468466 * t);
-            R0 += 0.00000002131 * Math.cos(0.61211416273 + 335.1418177523 * t);
-            R0 += 0.00000002116 * Math.cos(4.76181734842 + 765.8846102125 * t);
-            R0 += 0.00000002245 * Math.cos(5.67078632283 + 6467.9257579616 * t);
-            R0 += 0.00000002425 * Math.cos(0.84789834075 + 550.1378342197 * t);
-            R0 += 0.00000002227 * Math.cos(1.15684015463 + 227.3137411185 * t);
-            R0 += 0.00000002314 * Math.cos(6.13104971819 + 2730.2069586892 * t);
-            R0 += 0.00000002344 * Math.cos(0.35844885568 + 217.4436970222 * t);
-            R0 += 0.00000002529 * Math.cos(3.07975959821 + 774.4826299216 * t);
-            R0 += 0.00000002523 * Math.cos(1.75026771081 + 1578.0271950199 * t);
-            R0 += 0.00000002111 * Math.cos(4.24637589094 + 96.8729990951 * t);
-            R0 += 0.00000002826 * Math.cos(1.01974994073 + 87.3117715395 * t);
-            R0 += 0.00000002906 * Math.cos(3.75374302356 + 428.0826635843 * t);
-            R0 += 0.00000002113 * Math.cos(2.19787343926 + 449.232108125 * t);
-            R0 += 0.00000002142 * Math.cos(1.19671359858 + 209.1544938538 * t);
-            R0 += 0.00000002882 * Math.cos(2.59371585952 + 39.6175083461 * t);
-            R0 += 0.00000002078 * Math.cos(2.87503604503 + 14.0146456805 * t);
-            R0 += 0.00000002090 * Math.cos(1.99032225653 + 441.576044403 * t);
-            R0 += 0.00000002519 * Math.cos(2.99001165551 + 745.277682393 * t);
-            R0 += 0.00000002035 * Math.cos(5.37147785849 + 1041.2226829245 * t);
-            R0 += 0.00000002054 * Math.cos(1.11817372961 + 842.9014410135 * t);
-            R0 += 0.00000002023 * Math.cos(2.94559148702 + 668.2084619653 * t);
-            R0 += 0.00000002529 * Math.cos(4.34280159004 + 221.8971151471 * t);
-            R0 += 0.00000002554 * Math.cos(5.56906955622 + 214.1928673153 * t);
-            R0 += 0.00000002712 * Math.cos(1.60469055827 + 1050.9963588012 * t);
-            R0 += 0.00000002350 * Math.cos(3.36541706919 + 220.2001941177 * t);
-            R0 += 0.00000002015 * Math.cos(2.60446576036 + 315.6411101312 * t);
-            R0 += 0.00000002158 * Math.cos(1.64945261993 + 219.6618829134 * t);
-            R0 += 0.00000002120 * Math.cos(2.93968038721 + 304.1223291153 * t);
-            R0 += 0.00000002357 * Math.cos(1.94433441808 + 233.9060232575 * t);
-            R0 += 0.00000002579 * Math.cos(4.54124062411 + 484.7050148869 * t);
-            R0 += 0.00000002046 * Math.cos(5.45531068264 + 200.5564741447 * t);
-            R0 += 0.00000002040 * Math.cos(2.04492641594 + 1097.0942747017 * t);
-            R0 += 0.00000002675 * Math.cos(1.20234167733 + 28.5718080822 * t);
-            R0 += 0.00000002528 * Math.cos(4.69268465973 + 637.4496057592 * t);
-            R0 += 0.00000002314 * Math.cos(2.81193072994 + 25.1297819136 * t);
-            R0 += 0.00000002689 * Math.cos(5.03868493349 + 1269.4996318895 * t);
-            R0 += 0.00000002115 * Math.cos(3.10772296248 + 1276.6131788903 * t);
-            R0 += 0.00000002712 * Math.cos(1.49710379127 + 3340.6124266998 * t);
-            R0 += 0.00000002138 * Math.cos(4.52114042624 + 378.9039276826 * t);
-            R0 += 0.00000002708 * Math.cos(0.01014338204 + 389.9496279465 * t);
-            R0 += 0.00000002560 * Math.cos(5.75783882561 + 544.5087599272 * t);
-            R0 += 0.00000002028 * Math.cos(0.24331359951 + 146.594251718 * t);
-            R0 += 0.00000002096 * Math.cos(1.44475430956 + 864.2420820159 * t);
-            R0 += 0.00000001897 * Math.cos(4.63194412388 + 220.3007678542 * t);
-            R0 += 0.00000001901 * Math.cos(1.78319572727 + 192.8522263129 * t);
-            R0 += 0.00000002011 * Math.cos(4.11578325523 + 315.8706047948 * t);
-            R0 += 0.00000002014 * Math.cos(2.26726355818 + 198.1087935899 * t);
-            R0 += 0.00000001905 * Math.cos(2.15527255015 + 326.6868103951 * t);
-            R0 += 0.00000001949 * Math.cos(3.95440811214 + 103.6140390804 * t);
-            R0 += 0.00000002098 * Math.cos(5.24613314798 + 175.4266922311 * t);
-            R0 += 0.00000001884 * Math.cos(5.66018186202 + 1310.3933701397 * t);
-            R0 += 0.00000001911 * Math.cos(2.60665446600 + 301.4140161296 * t);
-            R0 += 0.00000002160 * Math.cos(3.42888079793 + 420.005908737 * t);
-            R0 += 0.00000002325 * Math.cos(5.89632178100 + 815.0633461142 * t);
-            R0 += 0.00000001914 * Math.cos(0.22451332248 + 171.6545976624 * t);
-            R0 += 0.00000001854 * Math.cos(0.04278915026 + 233.7459645631 * t);
-            R0 += 0.00000001973 * Math.cos(2.68640259480 + 769.8167634756 * t);
-            R0 += 0.00000001941 * Math.cos(0.61369890353 + 3487.4241132234 * t);
-            R0 += 0.00000001836 * Math.cos(3.41496980986 + 195.7729876197 * t);
-            R0 += 0.00000002554 * Math.cos(2.35660179716 + 212.4053235607 * t);
-            R0 += 0.00000001822 * Math.cos(4.05510232882 + 639.9454704238 * t);
-            R0 += 0.00000001883 * Math.cos(6.27079329518 + 16.6747745564 * t);
-            R0 += 0.00000001865 * Math.cos(0.17460226411 + 244.791664827 * t);
-            R0 += 0.00000002097 * Math.cos(4.58369520569 + 316.9131345184 * t);
-            R0 += 0.00000001879 * Math.cos(2.76480572708 + 28.4541880032 * t);
-            R0 += 0.00000002111 * Math.cos(2.92457831824 + 328.9220426288 * t);
-            R0 += 0.00000002077 * Math.cos(0.35943033580 + 589.4947101349 * t);
-            R0 += 0.00000001825 * Math.cos(4.04945265223 + 190.4045457581 * t);
-            R0 += 0.00000001895 * Math.cos(3.89414880651 + 334.5511169213 * t);
-            R0 += 0.00000002425 * Math.cos(3.76754213762 + 25558.2121764796 * t);
-            R0 += 0.00000002218 * Math.cos(1.85341154236 + 635.231419868 * t);
-            R0 += 0.00000001782 * Math.cos(0.86927461254 + 92.7978334801 * t);
-            R0 += 0.00000002432 * Math.cos(3.78026263567 + 1254.5217783625 * t);
-            R0 += 0.00000002106 * Math.cos(0.17285594964 + 354.2642728635 * t);
-            R0 += 0.00000001791 * Math.cos(6.23892012939 + 1670.82502850 * t);
-            R0 += 0.00000001996 * Math.cos(1.40940081042 + 230.7075831773 * t);
-            R0 += 0.00000001753 * Math.cos(1.86660297451 + 241.7532834412 * t);
-            R0 += 0.00000002093 * Math.cos(2.39366777880 + 187.4356003415 * t);
-            R0 += 0.00000002007 * Math.cos(3.54083120293 + 226.7924762567 * t);
-            R0 += 0.00000001949 * Math.cos(1.36533052698 + 1385.174968707 * t);
-            R0 += 0.00000001737 * Math.cos(2.67583588366 + 6.3627874754 * t);
-            R0 += 0.00000001868 * Math.cos(4.24454204649 + 1119.1856752295 * t);
-            R0 += 0.00000001896 * Math.cos(3.81474515719 + 310.9752436852 * t);
-            R0 += 0.00000001860 * Math.cos(3.67887919389 + 1321.4390704036 * t);
-            R0 += 0.00000002305 * Math.cos(3.53252557028 + 1570.9136480191 * t);
-            R0 += 0.00000002008 * Math.cos(3.88504783546 + 638.9340784675 * t);
-            R0 += 0.00000001928 * Math.cos(2.64393870433 + 525.7588118315 * t);
-            R0 += 0.00000001807 * Math.cos(0.76057354967 + 66.1835788582 * t);
-            R0 += 0.00000001824 * Math.cos(0.85822155861 + 639.8491022042 * t);
-            R0 += 0.00000002221 * Math.cos(4.82210413830 + 1585.8915015461 * t);
-            R0 += 0.00000002227 * Math.cos(4.58488941022 + 271.61836777 * t);
-            R0 += 0.00000001897 * Math.cos(0.64334758250 + 55.6591434561 * t);
-            R0 += 0.00000001792 * Math.cos(0.00514800434 + 827.9235874865 * t);
-            R0 += 0.00000001831 * Math.cos(3.69768852728 + 172.4577468145 * t);
-            R0 += 0.00000001790 * Math.cos(4.80062977720 + 3576.2897934404 * t);
-            R0 += 0.00000001698 * Math.cos(0.72475212282 + 295.1942410061 * t);
-            R0 += 0.00000001744 * Math.cos(3.45256183290 + 238.5718897035 * t);
-            R0 += 0.00000002334 * Math.cos(1.51845210531 + 170.0100662597 * t);
-            R0 += 0.00000001669 * Math.cos(4.44620549295 + 4319.279853973 * t);
-            R0 += 0.00000001939 * Math.cos(3.43927826945 + 102.5715093568 * t);
-            R0 += 0.00000001733 * Math.cos(5.96815907422 + 837.6972633632 * t);
-            R0 += 0.00000001686 * Math.cos(2.12870436615 + 491.5579294568 * t);
-            R0 += 0.00000001651 * Math.cos(3.20586624475 + 281.1795953256 * t);
-            R0 += 0.00000001884 * Math.cos(4.24447812450 + 13.4933808187 * t);
-            R0 += 0.00000001880 * Math.cos(0.33845094634 + 214.9436268407 * t);
-            R0 += 0.00000001817 * Math.cos(3.07678560214 + 220.5245170234 * t);
-            R0 += 0.00000001872 * Math.cos(3.79328892492 + 392.6579409322 * t);
-            R0 += 0.00000002195 * Math.cos(1.93786776664 + 259.769518354 * t);
-            R0 += 0.00000001881 * Math.cos(4.49314034712 + 199.8057146193 * t);
-            R0 += 0.00000001662 * Math.cos(0.29659841675 + 314.9073969483 * t);
-            R0 += 0.00000001626 * Math.cos(2.29697402942 + 3067.9394693482 * t);
-            R0 += 0.00000001927 * Math.cos(1.00706624515 + 26.826702943 * t);
-            R0 += 0.00000001621 * Math.cos(0.01495920679 + 1379.7059531089 * t);
-            R0 += 0.00000001655 * Math.cos(4.15494230496 + 4326.3934009738 * t);
-            R0 += 0.00000001719 * Math.cos(5.97443860990 + 152.5321425512 * t);
-            R0 += 0.00000001653 * Math.cos(5.65633302949 + 448.6895914038 * t);
-            R0 += 0.00000001790 * Math.cos(3.73709604091 + 10.0343083076 * t);
-            R0 += 0.00000001600 * Math.cos(2.28430251221 + 749.2098356561 * t);
-            R0 += 0.00000001770 * Math.cos(0.03256515992 + 364.3467652809 * t);
-            R0 += 0.00000001939 * Math.cos(5.93191442558 + 249.9476583675 * t);
-            R0 += 0.00000001988 * Math.cos(4.78810872536 + 101.8689339412 * t);
-            R0 += 0.00000001667 * Math.cos(5.52149899431 + 229.9738699944 * t);
-            R0 += 0.00000002215 * Math.cos(3.55121116323 + 594.6507036754 * t);
-            R0 += 0.00000001950 * Math.cos(0.80878923373 + 1049.0869894507 * t);
-            R0 += 0.00000001773 * Math.cos(2.55608046714 + 9985.7593567714 * t);
-            R0 += 0.00000002088 * Math.cos(2.33165208016 + 420.4478517217 * t);
-            R0 += 0.00000002107 * Math.cos(2.43624356568 + 453.6855262499 * t);
-            R0 += 0.00000001907 * Math.cos(4.72569972805 + 857.1285350151 * t);
-            R0 += 0.00000001609 * Math.cos(4.96540433043 + 285.1117485887 * t);
-            R0 += 0.00000002152 * Math.cos(4.87024306306 + 186.2117600641 * t);
-            R0 += 0.00000001685 * Math.cos(5.68609178354 + 200.0352092829 * t);
-            R0 += 0.00000001752 * Math.cos(5.21532265401 + 25448.00585526019 * t);
-            R0 += 0.00000001870 * Math.cos(6.14683645342 + 347.3631741838 * t);
-            R0 += 0.00000001731 * Math.cos(1.95944272122 + 934.9485149682 * t);
-            R0 += 0.00000001680 * Math.cos(5.56246697700 + 170.9732741062 * t);
-            R0 += 0.00000001652 * Math.cos(1.24521351050 + 398.1440028728 * t);
-            R0 += 0.00000001548 * Math.cos(0.38524522125 + 17.2654753874 * t);
-            R0 += 0.00000001577 * Math.cos(0.23430114545 + 434.6749457233 * t);
-            R0 += 0.00000001652 * Math.cos(2.84480428863 + 385.5443939314 * t);
-            R0 += 0.00000001770 * Math.cos(1.15057996280 + 199.9657733137 * t);
-            R0 += 0.00000001528 * Math.cos(4.02240583348 + 236.1936451179 * t);
-            R0 += 0.00000002118 * Math.cos(5.47803429266 + 369.0820676961 * t);
-            R0 += 0.00000001543 * Math.cos(2.54353574089 + 632.7355552034 * t);
-            R0 += 0.00000001504 * Math.cos(5.94300855424 + 280.2163874791 * t);
-            R0 += 0.00000001495 * Math.cos(2.19380669867 + 407.4757357648 * t);
-            R0 += 0.00000001894 * Math.cos(1.88797605501 + 598.8434893694 * t);
-            R0 += 0.00000001515 * Math.cos(4.70072295492 + 211.2933578679 * t);
-            R0 += 0.00000001767 * Math.cos(3.11910667879 + 2921.1277828246 * t);
-            R0 += 0.00000001515 * Math.cos(3.31498374761 + 215.3048330081 * t);
-            R0 += 0.00000001728 * Math.cos(5.28095966912 + 219.5188705615 * t);
-            R0 += 0.00000001906 * Math.cos(5.24236020775 + 248.4631856592 * t);
-            R0 += 0.00000001607 * Math.cos(0.80041605735 + 642.3449668688 * t);
-            R0 += 0.00000001640 * Math.cos(2.93387205029 + 1364.7280995819 * t);
-            R0 += 0.00000001585 * Math.cos(0.77219822539 + 661.2379273164 * t);
-            R0 += 0.00000001458 * Math.cos(5.67666822477 + 632.831923423 * t);
-            R0 += 0.00000001866 * Math.cos(4.40562835971 + 971.1069508032 * t);
-            R0 += 0.00000001838 * Math.cos(0.48492190760 + 1127.0499817557 * t);
-            R0 += 0.00000001903 * Math.cos(5.18692835916 + 2015.6710861598 * t);
-            R0 += 0.00000001590 * Math.cos(2.80043208070 + 633.7469471597 * t);
-            R0 += 0.00000001489 * Math.cos(4.10155671855 + 77837.11123384659 * t);
-            R0 += 0.00000001573 * Math.cos(4.23741356107 + 203.8979265768 * t);
-            R0 += 0.00000001690 * Math.cos(0.65475720351 + 2700.7151403858 * t);
-            R0 += 0.00000001872 * Math.cos(3.54376036064 + 354.5249052944 * t);
-            R0 += 0.00000001419 * Math.cos(4.53129346734 + 224.6054281328 * t);
-            R0 += 0.00000001575 * Math.cos(3.52476647615 + 373.9079928365 * t);
-            R0 += 0.00000001817 * Math.cos(3.95203885550 + 6076.8903015542 * t);
-            R0 += 0.00000001446 * Math.cos(5.41423319377 + 317.8763423649 * t);
-            R0 += 0.00000001552 * Math.cos(1.89030720529 + 1304.9243545416 * t);
-            R0 += 0.00000001394 * Math.cos(1.86243646383 + 913.7508863177 * t);
-            R0 += 0.00000001940 * Math.cos(4.36562864826 + 432.7485300303 * t);
-            R0 += 0.00000001655 * Math.cos(1.31748248488 + 25668.418497699 * t);
-            R0 += 0.00000001438 * Math.cos(5.12958189872 + 71.8126531507 * t);
-            R0 += 0.00000001929 * Math.cos(4.90721606846 + 206.3979967583 * t);
-            R0 += 0.00000001533 * Math.cos(2.10965059985 + 378.6432952517 * t);
-            R0 += 0.00000001421 * Math.cos(6.22897936063 + 904.4021070832 * t);
-            R0 += 0.00000001450 * Math.cos(1.98065714692 + 205.9731001161 * t);
-            R0 += 0.00000001584 * Math.cos(5.94110940455 + 1226.2106027112 * t);
-            R0 += 0.00000001510 * Math.cos(3.77771207288 + 222.7002642992 * t);
-            R0 += 0.00000001670 * Math.cos(2.51954641624 + 976.7360250957 * t);
-            R0 += 0.00000001823 * Math.cos(1.60093991502 + 1141.1340634054 * t);
-            R0 += 0.00000001564 * Math.cos(3.94804398924 + 9566.2747128962 * t);
-            R0 += 0.00000001406 * Math.cos(3.65940442223 + 316.5037442412 * t);
-            R0 += 0.00000001653 * Math.cos(3.62394476466 + 968.1380053866 * t);
-            R0 += 0.00000001495 * Math.cos(0.77832279170 + 5959.570433334 * t);
-            R0 += 0.00000001408 * Math.cos(5.24970924980 + 316.279995072 * t);
-            R0 += 0.00000001724 * Math.cos(0.25483952164 + 125.1841747464 * t);
-            R0 += 0.00000001426 * Math.cos(2.26871672572 + 17.4084877393 * t);
-            R0 += 0.00000001881 * Math.cos(4.12588105003 + 562.1467423301 * t);
-            R0 += 0.00000001370 * Math.cos(4.74474866880 + 1357.6145525811 * t);
-            R0 += 0.00000001485 * Math.cos(2.18712736768 + 9889.7801295536 * t);
-            R0 += 0.00000001369 * Math.cos(1.31846306523 + 1160.8301730051 * t);
-            R0 += 0.00000001394 * Math.cos(5.66924517860 + 1736.9915610157 * t);
-            R0 += 0.00000001375 * Math.cos(0.16983286236 + 346.3999663373 * t);
-            R0 += 0.00000001525 * Math.cos(2.40244831911 + 419.4364597654 * t);
-            R0 += 0.00000001359 * Math.cos(2.68668516027 + 310.7627953641 * t);
-            R0 += 0.00000001396 * Math.cos(3.67055397940 + 253.4591205053 * t);
-            R0 += 0.00000001454 * Math.cos(5.49356262440 + 504.561183181 * t);
-            R0 += 0.00000001813 * Math.cos(0.21882066860 + 263.7016716171 * t);
-            R0 += 0.00000001330 * Math.cos(3.01736059716 + 254.1404440615 * t);
-            R0 += 0.00000001498 * Math.cos(0.17578085903 + 155.7829722581 * t);
-            R0 += 0.00000001509 * Math.cos(5.13129901759 + 768.8535556291 * t);
-            R0 += 0.00000001550 * Math.cos(1.44225397189 + 1894.4190646765 * t);
-            R0 += 0.00000001447 * Math.cos(1.44933809994 + 893.3564068193 * t);
-            R0 += 0.00000001306 * Math.cos(5.76425101758 + 714.6788848813 * t);
-            R0 += 0.00000001660 * Math.cos(1.34160526151 + 322.6116447801 * t);
-            R0 += 0.00000001347 * Math.cos(3.00388920953 + 843.6351541964 * t);
-            R0 += 0.00000001432 * Math.cos(3.43786149731 + 251.1714986449 * t);
-            R0 += 0.00000001510 * Math.cos(4.39762427873 + 25.2727942655 * t);
-            R0 += 0.00000001587 * Math.cos(5.17106904014 + 141.6988906084 * t);
-            R0 += 0.00000001477 * Math.cos(5.47518377610 + 226.0417167313 * t);
-            R0 += 0.00000001356 * Math.cos(4.24406292182 + 332.1728723357 * t);
-            R0 += 0.00000001644 * Math.cos(1.74367211793 + 67.8804998876 * t);
-            R0 += 0.00000001407 * Math.cos(5.79229630947 + 188.1693135244 * t);
-            R0 += 0.00000001575 * Math.cos(0.09808372057 + 702.1487119091 * t);
-            R0 += 0.00000001765 * Math.cos(4.93410889383 + 201.5196819912 * t);
-            R0 += 0.00000001318 * Math.cos(4.91605557404 + 17.5261078183 * t);
-            R0 += 0.00000001701 * Math.cos(4.47360878108 + 384.2723695442 * t);
-            R0 += 0.00000001304 * Math.cos(6.04155032791 + 25.8634950965 * t);
-            R0 += 0.00000001269 * Math.cos(4.91035989349 + 354.9979860464 * t);
-            R0 += 0.00000001620 * Math.cos(5.54960841244 + 260.360219185 * t);
-            R0 += 0.00000001263 * Math.cos(1.16521999431 + 255.8373650909 * t);
-            R0 += 0.00000001744 * Math.cos(3.70453251764 + 147.1155165798 * t);
-            R0 += 0.00000001579 * Math.cos(4.31561365365 + 2228.9701815978 * t);
-            R0 += 0.00000001557 * Math.cos(0.57740217353 + 3178.1457905676 * t);
-            R0 += 0.00000001302 * Math.cos(0.32055726013 + 119.767548775 * t);
-            R0 += 0.00000001405 * Math.cos(3.20407486040 + 395.105621487 * t);
-            R0 += 0.00000001234 * Math.cos(2.34766954239 + 318.679491517 * t);
-            R0 += 0.00000001519 * Math.cos(4.74629629688 + 100.1720129118 * t);
-            R0 += 0.00000001573 * Math.cos(4.00132484524 + 1264.2954542392 * t);
-            R0 += 0.00000001222 * Math.cos(0.10709243166 + 1372.5924061081 * t);
-            R0 += 0.00000001205 * Math.cos(0.24105241435 + 466.7582159433 * t);
-            R0 += 0.00000001188 * Math.cos(1.27112537278 + 1184.4060462412 * t);
-            R0 += 0.00000001280 * Math.cos(4.85454052139 + 535.9107402181 * t);
-            R0 += 0.00000001482 * Math.cos(4.47166692910 + 763.4369296577 * t);
-            R0 += 0.00000001233 * Math.cos(1.64803509193 + 433.663553767 * t);
-            R0 += 0.00000001476 * Math.cos(3.76634399110 + 272.5815756165 * t);
-            R0 += 0.00000001199 * Math.cos(1.78020373551 + 102.3420146932 * t);
-            R0 += 0.00000001186 * Math.cos(4.72162748523 + 795.6802585721 * t);
-            R0 += 0.00000001291 * Math.cos(4.42697938285 + 10220.3990932118 * t);
-            R0 += 0.00000001576 * Math.cos(2.40263038916 + 348.635198571 * t);
-            R0 += 0.00000001497 * Math.cos(3.44614317326 + 3024.2205570432 * t);
-            R0 += 0.00000001175 * Math.cos(4.85145058205 + 433.7599219866 * t);
-            R0 += 0.00000001262 * Math.cos(5.79416346069 + 531.978586955 * t);
-            R0 += 0.00000001486 * Math.cos(4.39599352105 + 1055.4497769261 * t);
-            R0 += 0.00000001351 * Math.cos(0.46461977407 + 707.5653378805 * t);
-            R0 += 0.00000001230 * Math.cos(5.18147817992 + 752.3912293938 * t);
-            R0 += 0.00000001175 * Math.cos(4.35535063059 + 3892.681663097 * t);
-            R0 += 0.00000001581 * Math.cos(5.49361132323 + 419.532827985 * t);
-            R0 += 0.00000001247 * Math.cos(4.22328749428 + 113.1270825262 * t);
-            R0 += 0.00000001145 * Math.cos(2.26067253357 + 199.1201855462 * t);
-            R0 += 0.00000001385 * Math.cos(0.89711064123 + 6073.7089078165 * t);
-            R0 += 0.00000001228 * Math.cos(4.55057016747 + 680.0573113813 * t);
-            R0 += 0.00000001470 * Math.cos(1.58708185256 + 409.1897031367 * t);
-            R0 += 0.00000001366 * Math.cos(3.99684537321 + 6065.8446012903 * t);
-            R0 += 0.00000001131 * Math.cos(1.56474593118 + 196.8367692027 * t);
-            R0 += 0.00000001163 * Math.cos(5.75528918663 + 2303.6087678132 * t);
-            R0 += 0.00000001142 * Math.cos(4.35845106342 + 1834.6153196362 * t);
-            R0 += 0.00000001244 * Math.cos(1.93187654929 + 623.2225117576 * t);
-            R0 += 0.00000001136 * Math.cos(3.13253323524 + 611.4430983108 * t);
-            R0 += 0.00000001425 * Math.cos(2.65840274172 + 1253.7710188371 * t);
-            R0 += 0.00000001114 * Math.cos(3.43048279234 + 771.3012361839 * t);
-            R0 += 0.00000001314 * Math.cos(0.15326588489 + 493.303034596 * t);
-            R0 += 0.00000001109 * Math.cos(2.95808402860 + 1091.6252591036 * t);
-            R0 += 0.00000001177 * Math.cos(3.88159541809 + 128.3655684841 * t);
-            R0 += 0.00000001150 * Math.cos(4.69140569690 + 1.2720243872 * t);
-            R0 += 0.00000001527 * Math.cos(1.09983755253 + 683.0262567979 * t);
-            R0 += 0.00000001304 * Math.cos(5.24544813643 + 5650.2921106782 * t);
-            R0 += 0.00000001347 * Math.cos(4.11616699496 + 97.4636999261 * t);
-            R0 += 0.00000001085 * Math.cos(0.70231952018 + 1166.4068576709 * t);
-            R0 += 0.00000001224 * Math.cos(4.22994822530 + 827.1728279611 * t);
-            R0 += 0.00000001142 * Math.cos(5.36157631813 + 199.0238173266 * t);
-            R0 += 0.00000001373 * Math.cos(0.89371361814 + 799.6124118352 * t);
-            R0 += 0.00000001085 * Math.cos(1.15969472512 + 398.2870152247 * t);
-            R0 += 0.00000001098 * Math.cos(3.75659421786 + 318.3976072267 * t);
-            R0 += 0.00000001136 * Math.cos(1.35127769399 + 205.9249160063 * t);
-            R0 += 0.00000001108 * Math.cos(6.03201954623 + 206.4461808681 * t);
-            R0 += 0.00000001146 * Math.cos(0.18236094571 + 6386.16862421 * t);
-            R0 += 0.00000001216 * Math.cos(0.49809632153 + 1178.9894202698 * t);
-            R0 += 0.00000001295 * Math.cos(2.32056477953 + 10003.9186040361 * t);
-            R0 += 0.00000001082 * Math.cos(1.96611069200 + 3700.7232086614 * t);
-            R0 += 0.00000001094 * Math.cos(5.12244388591 + 314.3861320865 * t);
-            R0 += 0.00000001464 * Math.cos(4.54056066665 + 1248.1419445446 * t);
-            R0 += 0.00000001277 * Math.cos(5.42029902662 + 9996.0542975099 * t);
-            R0 += 0.00000001248 * Math.cos(0.21625135029 + 101.6083015103 * t);
-            R0 += 0.00000001055 * Math.cos(5.53725373260 + 1578.7779545453 * t);
-            R0 += 0.00000001265 * Math.cos(5.85587479852 + 82.8583534146 * t);
-            R0 += 0.00000001058 * Math.cos(0.73824266822 + 670.916774951 * t);
-            R0 += 0.00000001127 * Math.cos(3.63458498010 + 582.3811631341 * t);
-            R0 += 0.00000001188 * Math.cos(2.10062104535 + 423.8898778903 * t);
-            R0 += 0.00000001217 * Math.cos(2.49656109071 + 311.7260032106 * t);
-            R0 += 0.00000001080 * Math.cos(3.96349373526 + 118.8737768977 * t);
-            R0 += 0.00000001175 * Math.cos(0.91096377814 + 740.0692992258 * t);
-            R0 += 0.00000001087 * Math.cos(5.46774426742 + 494.4786907636 * t);
-            R0 += 0.00000001080 * Math.cos(3.49168860514 + 847.0460425977 * t);
-            R0 += 0.00000001095 * Math.cos(0.97418295319 + 1159.2933106701 * t);
-            R0 += 0.00000001078 * Math.cos(1.75579678521 + 1457.525933062 * t);
-            R0 += 0.00000001087 * Math.cos(4.81206824168 + 109.6850563576 * t);
-            R0 += 0.00000001293 * Math.cos(0.02397468965 + 2723.0934116884 * t);
-            R0 += 0.00000001190 * Math.cos(4.49552956868 + 429.3065038617 * t);
-            R0 += 0.00000001127 * Math.cos(0.84707518843 + 48.7580447764 * t);
-            R0 += 0.00000001047 * Math.cos(4.58416926615 + 89.7594520943 * t);
-            R0 += 0.00000001251 * Math.cos(1.16783030789 + 455.1699989582 * t);
-            R0 += 0.00000001122 * Math.cos(5.72161306640 + 78263.70942472259 * t);
-            R0 += 0.00000001027 * Math.cos(0.16330222064 + 229.7614216733 * t);
-            R0 += 0.00000001069 * Math.cos(2.37188773221 + 848.530515306 * t);
-            R0 += 0.00000001252 * Math.cos(5.28238896229 + 6080.8224548173 * t);
-            R0 += 0.00000001181 * Math.cos(5.22299379363 + 1459.9565672743 * t);
-            R0 += 0.00000001382 * Math.cos(0.51603096285 + 774.0095491696 * t);
-            R0 += 0.00000001064 * Math.cos(5.95222326171 + 1144.3154571431 * t);
-            R0 += 0.00000001083 * Math.cos(5.04862249728 + 629.8629780064 * t);
-            R0 += 0.00000001061 * Math.cos(3.38604454777 + 27.0873353739 * t);
-            R0 += 0.00000001415 * Math.cos(4.85796248007 + 2332.0629558164 * t);
-            R0 += 0.00000001082 * Math.cos(4.07686503205 + 1245.172999128 * t);
-            R0 += 0.00000001112 * Math.cos(6.07617329506 + 870.4618571394 * t);
-            R0 += 0.00000001072 * Math.cos(0.73647405514 + 1482.7987273275 * t);
-            R0 += 0.00000001322 * Math.cos(2.81015928946 + 223.3334037456 * t);
-            R0 += 0.00000001398 * Math.cos(1.55232715558 + 25771.5112719176 * t);
-            R0 += 0.00000001065 * Math.cos(3.98884050015 + 683.1863154923 * t);
-            R0 += 0.00000001008 * Math.cos(5.19594380826 + 316.1312372257 * t);
-            R0 += 0.00000001197 * Math.cos(0.79148395839 + 9580.5018068978 * t);
-            R0 += 0.00000001402 * Math.cos(4.82957073563 + 883.7951792637 * t);
-            R0 += 0.00000001064 * Math.cos(4.65334775068 + 201.9927627432 * t);
-            R0 += 0.00000001108 * Math.cos(5.88857586823 + 657.1627617014 * t);
-            R0 += 0.00000000996 * Math.cos(4.99081076034 + 426.7582495704 * t);
-            R0 += 0.00000000996 * Math.cos(1.60533807224 + 426.4381321816 * t);
-            R0 += 0.00000001028 * Math.cos(5.92128319450 + 108.50940019 * t);
-            R0 += 0.00000001004 * Math.cos(3.54259597860 + 754.0357607965 * t);
-            R0 += 0.00000001214 * Math.cos(0.81213286478 + 1773.9178027186 * t);
-            R0 += 0.00000001318 * Math.cos(0.60269176130 + 1123.1178284926 * t);
-            R0 += 0.00000001327 * Math.cos(4.75885008900 + 321.808495628 * t);
-            R0 += 0.00000001014 * Math.cos(5.79119811472 + 6460.8122109608 * t);
-            R0 += 0.00000001178 * Math.cos(0.47169015111 + 495.9631634719 * t);
-            R0 += 0.00000000999 * Math.cos(5.95030119388 + 3906.9087570986 * t);
-            R0 += 0.00000001033 * Math.cos(3.75433174131 + 414.8187774292 * t);
-            R0 += 0.00000001002 * Math.cos(1.39171012432 + 1251.3403846248 * t);
-            R0 += 0.00000000990 * Math.cos(1.32621236288 + 1268.7488723641 * t);
-            R0 += 0.00000001275 * Math.cos(1.95417923977 + 757.8078553652 * t);
-            R0 += 0.00000001174 * Math.cos(6.04352585298 + 225.0785088848 * t);
-            R0 += 0.00000001174 * Math.cos(5.43253033568 + 849.2642284889 * t);
-            R0 += 0.00000001004 * Math.cos(5.33434806968 + 46.2097904851 * t);
-            R0 += 0.00000001108 * Math.cos(1.28177889943 + 294.3004691288 * t);
-            R0 += 0.00000000976 * Math.cos(1.83523959034 + 5.8897067234 * t);
-            R0 += 0.00000000971 * Math.cos(3.38563950019 + 306.0969289181 * t);
-            R0 += 0.00000001050 * Math.cos(3.88449467091 + 632.2624744514 * t);
-            R0 += 0.00000001050 * Math.cos(3.26096036982 + 159.7151255212 * t);
-            R0 += 0.00000001041 * Math.cos(2.36429894351 + 821.5437536686 * t);
-            R0 += 0.00000001218 * Math.cos(4.61739999906 + 990.2294059144 * t);
-            R0 += 0.00000001342 * Math.cos(1.55614528399 + 498.9321088885 * t);
-            R0 += 0.00000000967 * Math.cos(3.84645372731 + 604.4725636619 * t);
-            R0 += 0.00000001171 * Math.cos(0.42265751679 + 10011.0321510369 * t);
-            R0 += 0.00000000965 * Math.cos(0.05396772193 + 962.5089310941 * t);
-            R0 += 0.00000001096 * Math.cos(3.04685199735 + 608.404716925 * t);
-            R0 += 0.00000001166 * Math.cos(6.14999706886 + 737.3128021303 * t);
-            R0 += 0.00000000986 * Math.cos(3.71830385737 + 1235.6117715724 * t);
-            R0 += 0.00000000953 * Math.cos(0.79704964354 + 16.4623262353 * t);
-            R0 += 0.00000000976 * Math.cos(1.05304205075 + 8.3373872782 * t);
-            R0 += 0.00000001142 * Math.cos(1.06057209808 + 369.9758395734 * t);
-            R0 += 0.00000001060 * Math.cos(4.36236322604 + 633.305004175 * t);
-            R0 += 0.00000001138 * Math.cos(4.31859245106 + 98.4269077726 * t);
-            R0 += 0.00000001006 * Math.cos(5.89037944896 + 10007.0999977738 * t);
-            R0 += 0.00000000967 * Math.cos(1.56852913547 + 157.6399519819 * t);
-            R0 += 0.00000001082 * Math.cos(0.99548769517 + 4.1446015842 * t);
-            R0 += 0.00000001009 * Math.cos(6.15037679495 + 401.3253966105 * t);
-            R0 += 0.00000000981 * Math.cos(2.37620383333 + 35.212274331 * t);
-            R0 += 0.00000001011 * Math.cos(5.42685471402 + 110.7275860812 * t);
-            R0 += 0.00000000989 * Math.cos(4.11575312649 + 413.8555695827 * t);
-            R0 += 0.00000001024 * Math.cos(1.90798238649 + 1175.8080265321 * t);
-            R0 += 0.00000001079 * Math.cos(4.95981991427 + 631.8205314667 * t);
-            R0 += 0.00000000982 * Math.cos(3.02842195594 + 347.4113582936 * t);
-            R0 += 0.00000000979 * Math.cos(3.74615289445 + 700.4517908797 * t);
-            R0 += 0.00000000928 * Math.cos(5.22236951137 + 1173.5204046717 * t);
-            R0 += 0.00000000912 * Math.cos(4.14451390992 + 469.7271613599 * t);
-            R0 += 0.00000000938 * Math.cos(1.18273838991 + 254.3528923826 * t);
-            R0 += 0.00000000977 * Math.cos(1.26684849112 + 104.5772469269 * t);
-            R0 += 0.00000001134 * Math.cos(5.87478488618 + 6058.7310542895 * t);
-            R0 += 0.00000001092 * Math.cos(4.51789158271 + 532.1386456494 * t);
-            R0 += 0.00000001132 * Math.cos(4.55420027150 + 1912.5783119412 * t);
-            R0 += 0.00000000915 * Math.cos(4.87266214195 + 18.9100067901 * t);
-            R0 += 0.00000000915 * Math.cos(5.96624579967 + 1987.2168981566 * t);
-            R0 += 0.00000001039 * Math.cos(2.40020830681 + 6475.0393049624 * t);
-            R0 += 0.00000000965 * Math.cos(4.98927479154 + 394.3548619616 * t);
-            R0 += 0.00000000964 * Math.cos(3.60903715900 + 3281.2385647862 * t);
-            R0 += 0.00000000897 * Math.cos(2.81660605059 + 316.2318109622 * t);
-            R0 += 0.00000001008 * Math.cos(5.78024010734 + 502.8642621516 * t);
-            R0 += 0.00000001005 * Math.cos(6.12431717236 + 6275.9623029906 * t);
-            R0 += 0.00000000895 * Math.cos(6.09245508513 + 316.551928351 * t);
-            R0 += 0.00000001224 * Math.cos(1.73535287415 + 5120.6011455836 * t);
-            R0 += 0.00000001138 * Math.cos(2.92901543353 + 1037.2905296614 * t);
-            R0 += 0.00000000924 * Math.cos(5.70601816488 + 614.8369403696 * t);
-            R0 += 0.00000000893 * Math.cos(5.25155704274 + 475.3562356524 * t);
-            R0 += 0.00000001042 * Math.cos(1.10027795842 + 1518.2234499796 * t);
-            R0 += 0.00000000890 * Math.cos(4.03192782386 + 1314.3255234028 * t);
-            R0 += 0.00000000926 * Math.cos(3.35110915055 + 635.70450062 * t);
-            R0 += 0.00000001130 * Math.cos(5.49282680494 + 92.940845832 * t);
-            R0 += 0.00000000890 * Math.cos(2.12933822393 + 3384.3313390048 * t);
-            R0 += 0.00000000967 * Math.cos(5.86215202069 + 13.3333221243 * t);
-            R0 += 0.00000001004 * Math.cos(1.73116475997 + 10316.3783204296 * t);
-            R0 += 0.00000001226 * Math.cos(3.52834223937 + 80.4106728598 * t);
-            R0 += 0.00000001029 * Math.cos(4.90620832171 + 19.1224551112 * t);
-            R0 += 0.00000000996 * Math.cos(0.76740358631 + 733.428832977 * t);
-            R0 += 0.00000000910 * Math.cos(4.08904906301 + 3333.498879699 * t);
-            R0 += 0.00000001235 * Math.cos(1.23871819142 + 357.2332182801 * t);
-            R0 += 0.00000001218 * Math.cos(0.18349810348 + 1090.4014188262 * t);
-            R0 += 0.00000000864 * Math.cos(4.71917415767 + 620.253566341 * t);
-            R0 += 0.00000000935 * Math.cos(1.45887009044 + 1042.9196039539 * t);
-            R0 += 0.00000000866 * Math.cos(4.04792682992 + 522.529233984 * t);
-            R0 += 0.00000001158 * Math.cos(5.43322209110 + 1089.129394439 * t);
-            R0 += 0.00000000860 * Math.cos(0.49220052417 + 64.9597385808 * t);
-            R0 += 0.00000001190 * Math.cos(5.58965369650 + 2810.9214616052 * t);
-            R0 += 0.00000000957 * Math.cos(3.12914047010 + 628.5909536192 * t);
-            R0 += 0.00000000861 * Math.cos(5.69790389801 + 103.843533744 * t);
-            R0 += 0.00000001037 * Math.cos(5.91424823262 + 11.3063326948 * t);
-            R0 += 0.00000000918 * Math.cos(0.21424702155 + 373.0142209592 * t);
-            R0 += 0.00000000836 * Math.cos(3.02501867546 + 387.2413149608 * t);
-            R0 += 0.00000001158 * Math.cos(3.33343863758 + 6290.1893969922 * t);
-            R0 += 0.00000000856 * Math.cos(0.81593288669 + 907.3710524998 * t);
-            R0 += 0.00000001036 * Math.cos(3.11936047271 + 5429.8794682394 * t);
-            R0 += 0.00000000853 * Math.cos(6.23618175592 + 938.8806682313 * t);
-            R0 += 0.00000000982 * Math.cos(3.39082880963 + 521.6142102473 * t);
-            R0 += 0.00000000851 * Math.cos(5.14029961564 + 802.7938055729 * t);
-            R0 += 0.00000000828 * Math.cos(0.28399876908 + 338.4832701844 * t);
-            R0 += 0.00000000868 * Math.cos(1.89151676387 + 627.1546650207 * t);
-            R0 += 0.00000000878 * Math.cos(2.67671626912 + 688.6553310904 * t);
-            R0 += 0.00000000921 * Math.cos(0.18441593712 + 3803.81598288 * t);
-            R0 += 0.00000000821 * Math.cos(0.74694467095 + 1152.1797636693 * t);
-            R0 += 0.00000000841 * Math.cos(2.42616504698 + 625.8826406335 * t);
-            R0 += 0.00000000862 * Math.cos(3.35273419872 + 425.3261664888 * t);
-            R0 += 0.00000000887 * Math.cos(3.46938383985 + 1748.788020805 * t);
-            R0 += 0.00000000815 * Math.cos(5.95428642326 + 321.0577361026 * t);
-            R0 += 0.00000000958 * Math.cos(1.35525670354 + 1201.831580323 * t);
-            R0 += 0.00000000905 * Math.cos(5.43093361027 + 236.8749686741 * t);
-            R0 += 0.00000000862 * Math.cos(3.24167644516 + 427.8702152632 * t);
-            R0 += 0.00000000793 * Math.cos(5.01131700831 + 109.9938728983 * t);
-            R0 += 0.00000000791 * Math.cos(2.21809404489 + 110.4187695405 * t);
-            R0 += 0.00000000842 * Math.cos(5.04957483651 + 444.1242986943 * t);
-            R0 += 0.00000000887 * Math.cos(4.23752031714 + 3553.9115221378 * t);
-            R0 += 0.00000000851 * Math.cos(4.64229745145 + 4105.980758535 * t);
-            R0 += 0.00000001067 * Math.cos(4.69271921916 + 559.6990617753 * t);
-            R0 += 0.00000000966 * Math.cos(4.55013458162 + 9360.089164459 * t);
-            R0 += 0.00000000977 * Math.cos(1.50925667031 + 186.472392495 * t);
-            R0 += 0.00000001092 * Math.cos(0.58153747940 + 203.2647871304 * t);
-            R0 += 0.00000000997 * Math.cos(0.24589891452 + 439.9315130003 * t);
-            R0 += 0.00000000786 * Math.cos(3.84829878956 + 194.3890886479 * t);
-            R0 += 0.00000000774 * Math.cos(3.76050639310 + 219.1406180516 * t);
-            R0 += 0.00000000845 * Math.cos(4.21602090805 + 2648.454825473 * t);
-            R0 += 0.00000000962 * Math.cos(0.30590569897 + 229.340730548 * t);
-            R0 += 0.00000000763 * Math.cos(0.05577842075 + 846.131018861 * t);
-            R0 += 0.00000000839 * Math.cos(5.68124142701 + 2620.0006374698 * t);
-            R0 += 0.00000000818 * Math.cos(2.52609626540 + 26301.2022370122 * t);
-            R0 += 0.00000000929 * Math.cos(0.71906225883 + 740.2817475469 * t);
-            R0 += 0.00000000895 * Math.cos(5.83218231202 + 4539.6924964118 * t);
-            R0 += 0.00000000939 * Math.cos(3.68460642343 + 817.7716590999 * t);
-            R0 += 0.00000000755 * Math.cos(4.90024080821 + 532.8723588323 * t);
-            R0 += 0.00000000784 * Math.cos(1.14096100609 + 551.031606097 * t);
-            R0 += 0.00000000899 * Math.cos(1.85252071775 + 835.7878940127 * t);
-            R0 += 0.00000000753 * Math.cos(0.04254534997 + 1534.7381658416 * t);
-            R0 += 0.00000001033 * Math.cos(1.00137993270 + 134.1122628556 * t);
-            R0 += 0.00000000851 * Math.cos(6.12272864540 + 1475.6851803267 * t);
-            R0 += 0.00000000797 * Math.cos(5.14322789256 + 473.659314623 * t);
-            R0 += 0.00000000729 * Math.cos(4.94931618796 + 476.1069951778 * t);
-            R0 += 0.00000000852 * Math.cos(3.11058720799 + 232.4215505492 * t);
-            R0 += 0.00000000783 * Math.cos(4.50805467439 + 1151.4290041439 * t);
-            R0 += 0.00000000751 * Math.cos(0.92289775523 + 1884.124123938 * t);
-            R0 += 0.00000000832 * Math.cos(4.19686348297 + 29.2049475286 * t);
-            R0 += 0.00000000720 * Math.cos(0.40961041030 + 522.6256022036 * t);
-            R0 += 0.00000000722 * Math.cos(3.96121088528 + 1474.9344208013 * t);
-            R0 += 0.00000000788 * Math.cos(0.99170388242 + 121.8427223143 * t);
-            R0 += 0.00000000722 * Math.cos(4.16734185316 + 232.2091022281 * t);
-            R0 += 0.00000000970 * Math.cos(2.32204039048 + 566.600160455 * t);
-            R0 += 0.00000000814 * Math.cos(5.19337022083 + 948.2124011233 * t);
-            R0 += 0.00000000724 * Math.cos(2.30837674225 + 949.12742486 * t);
-            R0 += 0.00000000770 * Math.cos(5.89605163084 + 156.6767441354 * t);
-            R0 += 0.00000000705 * Math.cos(5.40102118863 + 1193.9672737968 * t);
-            R0 += 0.00000000809 * Math.cos(3.56474059969 + 845.3320752258 * t);
-            R0 += 0.00000000755 * Math.cos(3.94580797273 + 451.7279727896 * t);
-            R0 += 0.00000000731 * Math.cos(6.11847213487 + 1239.5439248355 * t);
-            R0 += 0.00000000747 * Math.cos(1.40599730465 + 782.3469364478 * t);
-            R0 += 0.00000000861 * Math.cos(1.84312374221 + 984.6003316219 * t);
-            R0 += 0.00000000695 * Math.cos(4.78088165969 + 10419.4710946482 * t);
-            R0 += 0.00000000804 * Math.cos(1.07998437400 + 89.0086925689 * t);
-            R0 += 0.00000000828 * Math.cos(5.86080569334 + 845.1196269047 * t);
-            R0 += 0.00000000692 * Math.cos(3.38736418117 + 6489.2613984286 * t);
-            R0 += 0.00000000694 * Math.cos(3.07863807714 + 316.6043179777 * t);
-            R0 += 0.00000000690 * Math.cos(5.86681311380 + 316.1794213355 * t);
-            R0 += 0.00000000714 * Math.cos(5.38707933404 + 567.8240007324 * t);
-            R0 += 0.00000000767 * Math.cos(0.12081849650 + 485.8806710545 * t);
-            R0 += 0.00000000820 * Math.cos(1.87877245664 + 499.895316735 * t);
-            R0 += 0.00000000705 * Math.cos(0.57839934869 + 1053.7528558967 * t);
-            R0 += 0.00000000684 * Math.cos(4.88442270630 + 2545.3620512544 * t);
-            R0 += 0.00000000689 * Math.cos(6.14296395253 + 622.4887985747 * t);
-            R0 += 0.00000000823 * Math.cos(3.50224755884 + 877.5754041402 * t);
-            R0 += 0.00000000827 * Math.cos(2.59300433753 + 232.942815411 * t);
-            R0 += 0.00000000735 * Math.cos(3.05650026582 + 66.9172920411 * t);
-        }
-        return R0;
-    }
-
-    public double R1(double t) // 639 terms of order 1
-    {
-        double R1 = 0;
-        R1 += 0.06182981282 * Math.cos(0.25843515034 + 213.299095438 * t);
-        R1 += 0.00506577574 * Math.cos(0.71114650941 + 206.1855484372 * t);
-        R1 += 0.00341394136 * Math.cos(5.79635773960 + 426.598190876 * t);
-        R1 += 0.00188491375 * Math.cos(0.47215719444 + 220.4126424388 * t);
-        R1 -= 0.00186261540;
-        R1 += 0.00143891176 * Math.cos(1.40744864239 + 7.1135470008 * t);
-        R1 += 0.00049621111 * Math.cos(6.01744469580 + 103.0927742186 * t);
-        R1 += 0.00020928189 * Math.cos(5.09245654470 + 639.897286314 * t);
-        R1 += 0.00019952612 * Math.cos(1.17560125007 + 419.4846438752 * t);
-        R1 += 0.00018839639 * Math.cos(1.60819563173 + 110.2063212194 * t);
-        R1 += 0.00012892827 * Math.cos(5.94330258435 + 433.7117378768 * t);
-        R1 += 0.00013876565 * Math.cos(0.75886204364 + 199.0720014364 * t);
-        R1 += 0.00005396699 * Math.cos(1.28852405908 + 14.2270940016 * t);
-        R1 += 0.00004869308 * Math.cos(0.86793894213 + 323.5054166574 * t);
-        R1 += 0.00004247455 * Math.cos(0.39299384543 + 227.5261894396 * t);
-        R1 += 0.00003252084 * Math.cos(1.25853470491 + 95.9792272178 * t);
-        R1 += 0.00002856006 * Math.cos(2.16731405366 + 735.8765135318 * t);
-        R1 += 0.00002909411 * Math.cos(4.60679154788 + 202.2533951741 * t);
-        R1 += 0.00003081408 * Math.cos(3.43662557418 + 522.5774180938 * t);
-        R1 += 0.00001987689 * Math.cos(2.45054204795 + 412.3710968744 * t);
-        R1 += 0.00001941309 * Math.cos(6.02393385142 + 209.3669421749 * t);
-        R1 += 0.00001581446 * Math.cos(1.29191789712 + 210.1177017003 * t);
-        R1 += 0.00001339511 * Math.cos(4.30801821806 + 853.196381752 * t);
-        R1 += 0.00001315590 * Math.cos(1.25296446023 + 117.3198682202 * t);
-        R1 += 0.00001203085 * Math.cos(1.86654673794 + 316.3918696566 * t);
-        R1 += 0.00001091088 * Math.cos(0.07527246854 + 216.4804891757 * t);
-        R1 += 0.00000954403 * Math.cos(5.15173410519 + 647.0108333148 * t);
-        R1 += 0.00000966012 * Math.cos(0.47991379141 + 632.7837393132 * t);
-        R1 += 0.00000881827 * Math.cos(1.88471724478 + 1052.2683831884 * t);
-        R1 += 0.00000874215 * Math.cos(1.40224683864 + 224.3447957019 * t);
-        R1 += 0.00000897512 * Math.cos(0.98343776092 + 529.6909650946 * t);
-        R1 += 0.00000784866 * Math.cos(3.06377517461 + 838.9692877504 * t);
-        R1 += 0.00000739892 * Math.cos(1.38225356694 + 625.6701923124 * t);
-        R1 += 0.00000612961 * Math.cos(3.03307306767 + 63.7358983034 * t);
-        R1 += 0.00000658210 * Math.cos(4.14362930980 + 309.2783226558 * t);
-        R1 += 0.00000649600 * Math.cos(1.72489486160 + 742.9900605326 * t);
-        R1 += 0.00000599236 * Math.cos(2.54924174765 + 217.2312487011 * t);
-        R1 += 0.00000502886 * Math.cos(2.12958819475 + 3.9321532631 * t);
-        R1 += 0.00000413017 * Math.cos(4.59334402271 + 415.5524906121 * t);
-        R1 += 0.00000356117 * Math.cos(2.30312127651 + 728.762966531 * t);
-        R1 += 0.00000344777 * Math.cos(5.88787577835 + 440.8252848776 * t);
-        R1 += 0.00000395004 * Math.cos(0.53349091102 + 956.2891559706 * t);
-        R1 += 0.00000335526 * Math.cos(1.61614647174 + 1368.660252845 * t);
-        R1 += 0.00000362772 * Math.cos(4.70691652867 + 302.164775655 * t);
-        R1 += 0.00000321611 * Math.cos(0.97931764923 + 3.1813937377 * t);
-        R1 += 0.00000277783 * Math.cos(0.26007031431 + 195.1398481733 * t);
-        R1 += 0.00000291173 * Math.cos(2.83129427918 + 1155.361157407 * t);
-        R1 += 0.00000264971 * Math.cos(2.42670902733 + 88.865680217 * t);
-        R1 += 0.00000264864 * Math.cos(5.82860588985 + 149.5631971346 * t);
-        R1 += 0.00000316777 * Math.cos(3.58395655749 + 515.463871093 * t);
-        R1 += 0.00000294324 * Math.cos(2.81632778983 + 11.0457002639 * t);
-        R1 += 0.00000244864 * Math.cos(1.04493438899 + 942.062061969 * t);
-        R1 += 0.00000215368 * Math.cos(3.56535574833 + 490.3340891794 * t);
-        if (highAccuracy) {
-            R1 += 0.00000264047 * Math.cos(1.28547685567 + 1059.3819301892 * t);
-            R1 += 0.00000246245 * Math.cos(0.90730313861 + 191.9584544356 * t);
-            R1 += 0.00000222077 * Math.cos(5.13193212050 + 269.9214467406 * t);
-            R1 += 0.00000194973 * Math.cos(4.56665009915 + 846.0828347512 * t);
-            R1 += 0.00000182802 * Math.cos(2.67913220473 + 127.4717966068 * t);
-            R1 += 0.00000181645 * Math.cos(4.93431600689 + 74.7815985673 * t);
-            R1 += 0.00000174651 * Math.cos(3.44560172182 + 137.0330241624 * t);
-            R1 += 0.00000165515 * Math.cos(5.99775895715 + 536.8045120954 * t);
-            R1 += 0.00000154809 * Math.cos(1.19720845085 + 265.9892934775 * t);
-            R1 += 0.00000169743 * Math.cos(4.63464467495 + 284.1485407422 * t);
-            R1 += 0.00000151526 * Math.cos(0.52928231044 + 330.6189636582 * t);
-            R1 += 0.00000152461 * Math.cos(5.43886711695 + 422.6660376129 * t);
-            R1 += 0.00000157687 * Math.cos(2.99559914619 + 340.7708920448 * t);
-            R1 += 0.00000140630 * Math.cos(2.02069760726 + 1045.1548361876 * t);
-            R1 += 0.00000139834 * Math.cos(1.35282959390 + 1685.0521225016 * t);
-            R1 += 0.00000140977 * Math.cos(1.27099900689 + 203.0041546995 * t);
-            R1 += 0.00000136013 * Math.cos(5.01678984678 + 351.8165923087 * t);
-            R1 += 0.00000153391 * Math.cos(0.26968607873 + 1272.6810256272 * t);
-            R1 += 0.00000129476 * Math.cos(1.14344730612 + 21.3406410024 * t);
-            R1 += 0.00000127831 * Math.cos(2.53876158952 + 1471.7530270636 * t);
-            R1 += 0.00000126538 * Math.cos(3.00310970076 + 277.0349937414 * t);
-            R1 += 0.00000100277 * Math.cos(3.61360169153 + 1066.49547719 * t);
-            R1 += 0.00000103169 * Math.cos(0.38175114761 + 203.7378678824 * t);
-            R1 += 0.00000107527 * Math.cos(4.31870663477 + 210.8514148832 * t);
-            R1 += 0.00000095934 * Math.cos(0.79463744168 + 1258.4539316256 * t);
-            R1 += 0.00000082663 * Math.cos(0.28181414606 + 234.6397364404 * t);
-            R1 += 0.00000097986 * Math.cos(2.56085956186 + 191.2076949102 * t);
-            R1 += 0.00000097389 * Math.cos(3.26245865063 + 831.8557407496 * t);
-            R1 += 0.00000072227 * Math.cos(4.37984630380 + 860.3099287528 * t);
-            R1 += 0.00000070639 * Math.cos(0.73191513920 + 437.6438911399 * t);
-            R1 += 0.00000070447 * Math.cos(0.87698401733 + 423.4167971383 * t);
-            R1 += 0.00000072057 * Math.cos(5.58013290518 + 429.7795846137 * t);
-            R1 += 0.00000073332 * Math.cos(0.62505906432 + 1375.7737998458 * t);
-            R1 += 0.00000066433 * Math.cos(2.68414462465 + 405.2575498736 * t);
-            R1 += 0.00000063812 * Math.cos(1.75051498180 + 1361.5467058442 * t);
-            R1 += 0.00000061601 * Math.cos(1.09332288242 + 2001.4439921582 * t);
-            R1 += 0.00000067006 * Math.cos(0.06872766216 + 408.4389436113 * t);
-            R1 += 0.00000068945 * Math.cos(2.47127505057 + 949.1756089698 * t);
-            R1 += 0.00000060456 * Math.cos(2.25094790113 + 1788.1448967202 * t);
-            R1 += 0.00000067074 * Math.cos(5.45365870159 + 200.7689224658 * t);
-            R1 += 0.00000065579 * Math.cos(0.05539079332 + 1589.0728952838 * t);
-            R1 += 0.00000049320 * Math.cos(4.17243429807 + 138.5174968707 * t);
-            R1 += 0.00000050648 * Math.cos(6.26867505289 + 223.5940361765 * t);
-            R1 += 0.00000055166 * Math.cos(4.59491533823 + 628.8515860501 * t);
-            R1 += 0.00000047916 * Math.cos(0.83929741626 + 10.2949407385 * t);
-            R1 += 0.00000046691 * Math.cos(2.17322569098 + 312.1990839626 * t);
-            R1 += 0.00000054179 * Math.cos(0.28360076018 + 124.433415221 * t);
-            R1 += 0.00000049511 * Math.cos(3.79960349195 + 215.7467759928 * t);
-            R1 += 0.00000040136 * Math.cos(5.18161452756 + 1478.8665740644 * t);
-            R1 += 0.00000039302 * Math.cos(0.56257369109 + 1574.8458012822 * t);
-            R1 += 0.00000034962 * Math.cos(4.68487505703 + 38.1330356378 * t);
-            R1 += 0.00000042770 * Math.cos(2.98582069454 + 1148.2476104062 * t);
-            R1 += 0.00000036521 * Math.cos(0.63453270366 + 52.6901980395 * t);
-            R1 += 0.00000039752 * Math.cos(0.28412706854 + 131.4039498699 * t);
-            R1 += 0.00000031777 * Math.cos(5.19036499973 + 76.2660712756 * t);
-            R1 += 0.00000033041 * Math.cos(1.97964846430 + 142.4496501338 * t);
-            R1 += 0.00000042053 * Math.cos(4.83017951800 + 288.0806940053 * t);
-            R1 += 0.00000030757 * Math.cos(1.47903923433 + 1677.9385755008 * t);
-            R1 += 0.00000042829 * Math.cos(3.38225543528 + 208.633228992 * t);
-            R1 += 0.00000029245 * Math.cos(5.09869866956 + 654.1243803156 * t);
-            R1 += 0.00000029165 * Math.cos(4.95664881649 + 1795.258443721 * t);
-            R1 += 0.00000029136 * Math.cos(2.74747553685 + 404.5067903482 * t);
-            R1 += 0.00000032689 * Math.cos(6.12099521344 + 145.6310438715 * t);
-            R1 += 0.00000028008 * Math.cos(0.83185907283 + 2317.8358618148 * t);
-            R1 += 0.00000027725 * Math.cos(2.24364073545 + 430.5303441391 * t);
-            R1 += 0.00000029939 * Math.cos(1.96415498448 + 2104.5367663768 * t);
-            R1 += 0.00000032982 * Math.cos(3.28236160491 + 222.8603229936 * t);
-            R1 += 0.00000031772 * Math.cos(6.02453027348 + 1905.4647649404 * t);
-            R1 += 0.00000026959 * Math.cos(5.24308283338 + 388.4651552382 * t);
-            R1 += 0.00000026514 * Math.cos(0.99638302878 + 107.0249274817 * t);
-            R1 += 0.00000025421 * Math.cos(2.87336642463 + 703.6331846174 * t);
-            R1 += 0.00000024908 * Math.cos(1.07713811775 + 99.9113804809 * t);
-            R1 += 0.00000024955 * Math.cos(6.23974037842 + 106.2741679563 * t);
-            R1 += 0.00000024894 * Math.cos(0.81040976807 + 312.4597163935 * t);
-            R1 += 0.00000024340 * Math.cos(0.54867402916 + 214.2623032845 * t);
-            R1 += 0.00000028441 * Math.cos(0.82630052794 + 1692.1656695024 * t);
-            R1 += 0.00000023219 * Math.cos(5.07995629354 + 479.2883889155 * t);
-            R1 += 0.00000024362 * Math.cos(3.10643455533 + 212.3358875915 * t);
-            R1 += 0.00000021951 * Math.cos(6.06688237952 + 85.8272988312 * t);
-            R1 += 0.00000022046 * Math.cos(3.89863665506 + 563.6312150384 * t);
-            R1 += 0.00000022596 * Math.cos(4.86725457223 + 295.0512286542 * t);
-            R1 += 0.00000021256 * Math.cos(5.10797617452 + 333.657345044 * t);
-            R1 += 0.00000025985 * Math.cos(2.20813879137 + 1265.5674786264 * t);
-            R1 += 0.00000020904 * Math.cos(3.28855303434 + 70.8494453042 * t);
-            R1 += 0.00000021505 * Math.cos(3.79541155976 + 347.8844390456 * t);
-            R1 += 0.00000022067 * Math.cos(4.22716352578 + 217.964961884 * t);
-            R1 += 0.00000020629 * Math.cos(1.68732248608 + 231.4583427027 * t);
-            R1 += 0.00000021429 * Math.cos(3.08914428467 + 554.0699874828 * t);
-            R1 += 0.00000021310 * Math.cos(0.38868340861 + 319.5732633943 * t);
-            R1 += 0.00000020521 * Math.cos(2.45651851283 + 18.1592472647 * t);
-            R1 += 0.00000026055 * Math.cos(4.27554951169 + 483.2205421786 * t);
-            R1 += 0.00000020703 * Math.cos(5.12057936320 + 362.8622925726 * t);
-            R1 += 0.00000022047 * Math.cos(5.51249354809 + 343.2185725996 * t);
-            R1 += 0.00000019443 * Math.cos(2.02441679295 + 313.2104759189 * t);
-            R1 += 0.00000020163 * Math.cos(5.08481373110 + 750.1036075334 * t);
-            R1 += 0.00000020125 * Math.cos(3.42997916125 + 213.3472795478 * t);
-            R1 += 0.00000024196 * Math.cos(0.64787472796 + 207.8824694666 * t);
-            R1 += 0.00000021977 * Math.cos(0.72894956852 + 99.1606209555 * t);
-            R1 += 0.00000021120 * Math.cos(2.69286728009 + 1464.6394800628 * t);
-            R1 += 0.00000017192 * Math.cos(4.71525117969 + 2111.6503133776 * t);
-            R1 += 0.00000018540 * Math.cos(0.04817255506 + 245.5424243524 * t);
-            R1 += 0.00000017521 * Math.cos(3.83662880684 + 497.4476361802 * t);
-            R1 += 0.00000016107 * Math.cos(4.22374822303 + 565.1156877467 * t);
-            R1 += 0.00000021607 * Math.cos(4.16647257628 + 2.4476805548 * t);
-            R1 += 0.00000015979 * Math.cos(0.27376396113 + 225.8292684102 * t);
-            R1 += 0.00000016831 * Math.cos(1.41134653939 + 114.1384744825 * t);
-            R1 += 0.00000015626 * Math.cos(2.82768623405 + 81.7521332162 * t);
-            R1 += 0.00000015499 * Math.cos(1.20606390539 + 1994.3304451574 * t);
-            R1 += 0.00000015168 * Math.cos(3.84591816174 + 1162.4747044078 * t);
-            R1 += 0.00000016436 * Math.cos(3.04752365976 + 134.5853436076 * t);
-            R1 += 0.00000015870 * Math.cos(0.33026420429 + 1891.2376709388 * t);
-            R1 += 0.00000020370 * Math.cos(0.23170286692 + 213.2509113282 * t);
-            R1 += 0.00000016291 * Math.cos(1.70643197929 + 2420.9286360334 * t);
-            R1 += 0.00000016280 * Math.cos(4.94159427320 + 357.4456666012 * t);
-            R1 += 0.00000018076 * Math.cos(5.69515344123 + 56.6223513026 * t);
-            R1 += 0.00000013724 * Math.cos(0.57240190030 + 2634.2277314714 * t);
-            R1 += 0.00000017355 * Math.cos(3.55311137444 + 218.9281697305 * t);
-            R1 += 0.00000013740 * Math.cos(5.70545527289 + 92.0470739547 * t);
-            R1 += 0.00000015328 * Math.cos(1.31338692850 + 216.2198567448 * t);
-            R1 += 0.00000012538 * Math.cos(5.19222019427 + 635.9651330509 * t);
-            R1 += 0.00000012815 * Math.cos(1.60151130870 + 320.3240229197 * t);
-            R1 += 0.00000013043 * Math.cos(0.45068441373 + 1169.5882514086 * t);
-            R1 += 0.00000011984 * Math.cos(5.94916123570 + 543.9180590962 * t);
-            R1 += 0.00000011753 * Math.cos(2.80279347133 + 217.491881132 * t);
-            R1 += 0.00000014746 * Math.cos(5.56520105813 + 344.7030453079 * t);
-            R1 += 0.00000012762 * Math.cos(1.63557330778 + 273.1028404783 * t);
-            R1 += 0.00000011855 * Math.cos(2.46234840263 + 721.6494195302 * t);
-            R1 += 0.00000013309 * Math.cos(5.75641013916 + 2221.856634597 * t);
-            R1 += 0.00000014471 * Math.cos(0.45316163629 + 2008.557539159 * t);
-            R1 += 0.00000011840 * Math.cos(1.75720772380 + 160.6088973985 * t);
-            R1 += 0.00000012374 * Math.cos(1.01456317602 + 329.7251917809 * t);
-            R1 += 0.00000010747 * Math.cos(1.58065203003 + 212.7778305762 * t);
-            R1 += 0.00000012758 * Math.cos(1.91952373240 + 1581.959348283 * t);
-            R1 += 0.00000011944 * Math.cos(4.44720922423 + 32.2433289144 * t);
-            R1 += 0.00000011865 * Math.cos(5.10696147162 + 4.665866446 * t);
-            R1 += 0.00000011861 * Math.cos(4.30847607078 + 618.5566453116 * t);
-            R1 += 0.00000010036 * Math.cos(0.48709852137 + 305.3461693927 * t);
-            R1 += 0.00000012777 * Math.cos(3.74412991331 + 508.3503240922 * t);
-            R1 += 0.00000010677 * Math.cos(0.76645916273 + 218.7157214094 * t);
-            R1 += 0.00000011351 * Math.cos(3.00009819697 + 198.321241911 * t);
-            R1 += 0.00000010249 * Math.cos(2.40923650192 + 546.956440482 * t);
-            R1 += 0.00000009984 * Math.cos(2.63882014753 + 416.3032501375 * t);
-            R1 += 0.00000009345 * Math.cos(5.45917317860 + 414.0680179038 * t);
-            R1 += 0.00000009317 * Math.cos(4.46380159546 + 2428.0421830342 * t);
-            R1 += 0.00000009928 * Math.cos(4.04821559448 + 62.2514255951 * t);
-            R1 += 0.00000012767 * Math.cos(3.43273835457 + 258.8757464767 * t);
-            R1 += 0.00000009733 * Math.cos(1.61066324680 + 327.4375699205 * t);
-            R1 += 0.00000011163 * Math.cos(2.40665325234 + 1781.0313497194 * t);
-            R1 += 0.00000010608 * Math.cos(2.07480020830 + 213.8203602998 * t);
-            R1 += 0.00000009125 * Math.cos(2.92369523159 + 1279.794572628 * t);
-            R1 += 0.00000009525 * Math.cos(1.10338403136 + 113.3877149571 * t);
-            R1 += 0.00000009805 * Math.cos(3.28427768485 + 275.5505210331 * t);
-            R1 += 0.00000011263 * Math.cos(1.89402915826 + 561.1835344836 * t);
-            R1 += 0.00000008572 * Math.cos(2.17858055966 + 425.1137181677 * t);
-            R1 += 0.00000008577 * Math.cos(1.95484887975 + 35.4247226521 * t);
-            R1 += 0.00000010157 * Math.cos(0.09037368733 + 182.279606801 * t);
-            R1 += 0.00000011807 * Math.cos(3.71278037583 + 350.3321196004 * t);
-            R1 += 0.00000008595 * Math.cos(1.83382454431 + 629.6023455755 * t);
-            R1 += 0.00000008396 * Math.cos(3.76782674303 + 251.4321310758 * t);
-            R1 += 0.00000008460 * Math.cos(0.35676476459 + 617.8058857862 * t);
-            R1 += 0.00000008250 * Math.cos(5.31140994372 + 65.2203710117 * t);
-            R1 += 0.00000008342 * Math.cos(1.38307663880 + 1.4844727083 * t);
-            R1 += 0.00000007987 * Math.cos(5.13622898170 + 22.0914005278 * t);
-            R1 += 0.00000008377 * Math.cos(0.91817077859 + 1485.9801210652 * t);
-            R1 += 0.00000007980 * Math.cos(0.94199750915 + 2310.722314814 * t);
-            R1 += 0.00000008898 * Math.cos(0.54037636841 + 168.0525127994 * t);
-            R1 += 0.00000008233 * Math.cos(3.45785310349 + 424.1505103212 * t);
-            R1 += 0.00000008034 * Math.cos(3.38451795597 + 144.1465711632 * t);
-            R1 += 0.00000007871 * Math.cos(5.14041888473 + 358.9301393095 * t);
-            R1 += 0.00000008868 * Math.cos(6.13541788772 + 621.7380390493 * t);
-            R1 += 0.00000007523 * Math.cos(5.75475671698 + 447.9388318784 * t);
-            R1 += 0.00000007515 * Math.cos(2.18967849979 + 264.5048207692 * t);
-            R1 += 0.00000008083 * Math.cos(1.42661116937 + 2737.32050569 * t);
-            R1 += 0.00000008199 * Math.cos(0.96419579079 + 767.3690829208 * t);
-            R1 += 0.00000008232 * Math.cos(0.35471613534 + 278.5194664497 * t);
-            R1 += 0.00000008226 * Math.cos(5.44467204721 + 254.9435932136 * t);
-            R1 += 0.00000006779 * Math.cos(1.19567671732 + 5.4166259714 * t);
-            R1 += 0.00000008928 * Math.cos(4.88240256153 + 120.358249606 * t);
-            R1 += 0.00000007845 * Math.cos(4.56376829397 + 280.9671470045 * t);
-            R1 += 0.00000006566 * Math.cos(3.50152072308 + 9.5612275556 * t);
-            R1 += 0.00000006398 * Math.cos(0.33471834269 + 2950.619601128 * t);
-            R1 += 0.00000006881 * Math.cos(3.39438820076 + 98.8999885246 * t);
-            R1 += 0.00000007418 * Math.cos(4.52451404934 + 5.6290742925 * t);
-            R1 += 0.00000008021 * Math.cos(0.94470052446 + 636.7158925763 * t);
-            R1 += 0.00000006134 * Math.cos(0.18013315689 + 2207.6295405954 * t);
-            R1 += 0.00000007153 * Math.cos(3.85218295688 + 214.0498549634 * t);
-            R1 += 0.00000006046 * Math.cos(4.66733263196 + 543.0242872189 * t);
-            R1 += 0.00000006365 * Math.cos(2.12000811873 + 274.0660483248 * t);
-            R1 += 0.00000006481 * Math.cos(5.31032923608 + 6076.8903015542 * t);
-            R1 += 0.00000005935 * Math.cos(6.16808119163 + 650.9429865779 * t);
-            R1 += 0.00000005752 * Math.cos(3.55773840903 + 1073.6090241908 * t);
-            R1 += 0.00000006438 * Math.cos(0.44934410249 + 10007.0999977738 * t);
-            R1 += 0.00000006283 * Math.cos(3.20942251433 + 219.4494345923 * t);
-            R1 += 0.00000005542 * Math.cos(3.61193204407 + 125.9873238985 * t);
-            R1 += 0.00000005522 * Math.cos(3.84217355164 + 181.0557665236 * t);
-            R1 += 0.00000005777 * Math.cos(3.00590926498 + 121.2520214833 * t);
-            R1 += 0.00000006670 * Math.cos(1.65236689367 + 1898.3512179396 * t);
-            R1 += 0.00000007591 * Math.cos(0.10483002359 + 2324.9494088156 * t);
-            R1 += 0.00000005881 * Math.cos(1.04006410206 + 9992.8729037722 * t);
-            R1 += 0.00000005609 * Math.cos(4.83142709229 + 643.0786800517 * t);
-            R1 += 0.00000005569 * Math.cos(2.23863483508 + 1038.0412891868 * t);
-            R1 += 0.00000005755 * Math.cos(5.91598458372 + 6062.6632075526 * t);
-            R1 += 0.00000005845 * Math.cos(6.10234689502 + 209.106309744 * t);
-            R1 += 0.00000005577 * Math.cos(0.81426649853 + 472.1748419147 * t);
-            R1 += 0.00000005247 * Math.cos(0.56496127013 + 192.6921676185 * t);
-            R1 += 0.00000005493 * Math.cos(5.81071309534 + 237.6781178262 * t);
-            R1 += 0.00000005148 * Math.cos(4.85160826999 + 267.4737661858 * t);
-            R1 += 0.00000006122 * Math.cos(2.11480301005 + 2097.423219376 * t);
-            R1 += 0.00000006188 * Math.cos(4.59441762166 + 207.6700211455 * t);
-            R1 += 0.00000006303 * Math.cos(0.75806431119 + 210.3783341312 * t);
-            R1 += 0.00000005102 * Math.cos(4.01017179605 + 205.2223405907 * t);
-            R1 += 0.00000006583 * Math.cos(1.79054357427 + 12.5301729722 * t);
-            R1 += 0.00000004902 * Math.cos(0.85099521860 + 247.2393453818 * t);
-            R1 += 0.00000004918 * Math.cos(4.03512681632 + 487.3651437628 * t);
-            R1 += 0.00000005818 * Math.cos(5.48495503489 + 2538.2485042536 * t);
-            R1 += 0.00000004855 * Math.cos(4.18197778083 + 2744.4340526908 * t);
-            R1 += 0.00000004885 * Math.cos(0.25103933716 + 129.9194771616 * t);
-            R1 += 0.00000005748 * Math.cos(0.55968589618 + 116.4260963429 * t);
-            R1 += 0.00000004901 * Math.cos(4.48628916012 + 291.262087743 * t);
-            R1 += 0.00000004720 * Math.cos(5.57686152365 + 342.2553647531 * t);
-            R1 += 0.00000005962 * Math.cos(5.12885837444 + 692.5874843535 * t);
-            R1 += 0.00000005629 * Math.cos(4.39847572369 + 196.6243208816 * t);
-            R1 += 0.00000005596 * Math.cos(0.94874135403 + 1802.3719907218 * t);
-            R1 += 0.00000006197 * Math.cos(3.80364010966 + 339.2864193365 * t);
-            R1 += 0.00000004668 * Math.cos(3.16816375033 + 148.0787244263 * t);
-            R1 += 0.00000004891 * Math.cos(2.67234862638 + 417.0369633204 * t);
-            R1 += 0.00000004959 * Math.cos(1.63453587065 + 166.828672522 * t);
-            R1 += 0.00000004408 * Math.cos(4.95179678525 + 184.0941479094 * t);
-            R1 += 0.00000004449 * Math.cos(5.69134789394 + 252.6559713532 * t);
-            R1 += 0.00000004943 * Math.cos(0.85358212806 + 46.470422916 * t);
-            R1 += 0.00000005153 * Math.cos(3.82176885491 + 842.1506814881 * t);
-            R1 += 0.00000005930 * Math.cos(5.95484153666 + 486.4019359163 * t);
-            R1 += 0.00000004206 * Math.cos(2.97664198894 + 380.12776796 * t);
-            R1 += 0.00000004467 * Math.cos(0.24914978400 + 128.9562693151 * t);
-            R1 += 0.00000005419 * Math.cos(6.19106890918 + 337.732510659 * t);
-            R1 += 0.00000004499 * Math.cos(4.71434958315 + 151.0476698429 * t);
-            R1 += 0.00000004233 * Math.cos(4.18702525973 + 685.4739373527 * t);
-            R1 += 0.00000004695 * Math.cos(1.54881559549 + 214.7835681463 * t);
-            R1 += 0.00000004084 * Math.cos(4.87173226400 + 14.977853527 * t);
-            R1 += 0.00000004321 * Math.cos(5.42615168860 + 436.8931316145 * t);
-            R1 += 0.00000005145 * Math.cos(0.49931857511 + 248.7238180901 * t);
-            R1 += 0.00000003897 * Math.cos(0.74661138504 + 2627.1141844706 * t);
-            R1 += 0.00000003995 * Math.cos(3.07750371135 + 710.7467316182 * t);
-            R1 += 0.00000004089 * Math.cos(5.81996977038 + 491.8185618877 * t);
-            R1 += 0.00000004532 * Math.cos(3.67494714028 + 189.7232222019 * t);
-            R1 += 0.00000003690 * Math.cos(1.26565281569 + 211.8146227297 * t);
-            R1 += 0.00000004036 * Math.cos(1.15473702593 + 3053.7123753466 * t);
-            R1 += 0.00000003672 * Math.cos(4.52661018437 + 488.8496164711 * t);
-            R1 += 0.00000003662 * Math.cos(2.87243745783 + 411.620337349 * t);
-            R1 += 0.00000003653 * Math.cos(3.06205147988 + 409.9234163196 * t);
-            R1 += 0.00000003908 * Math.cos(3.45947158106 + 220.4608265486 * t);
-            R1 += 0.00000004989 * Math.cos(3.36376245705 + 824.7421937488 * t);
-            R1 += 0.00000003677 * Math.cos(3.55713278092 + 244.318584075 * t);
-            R1 += 0.00000003580 * Math.cos(1.57825591891 + 643.8294395771 * t);
-            R1 += 0.00000003546 * Math.cos(2.19846245030 + 135.336103133 * t);
-            R1 += 0.00000003560 * Math.cos(4.51362022045 + 601.7642506762 * t);
-            R1 += 0.00000003843 * Math.cos(0.98567531677 + 271.4059194489 * t);
-            R1 += 0.00000003559 * Math.cos(1.11005765159 + 6283.0758499914 * t);
-            R1 += 0.00000004266 * Math.cos(6.19696005871 + 268.4369740323 * t);
-            R1 += 0.00000003442 * Math.cos(4.27628882392 + 867.4234757536 * t);
-            R1 += 0.00000004844 * Math.cos(3.73706907228 + 235.3904959658 * t);
-            R1 += 0.00000003659 * Math.cos(2.21859531609 + 2.9207613068 * t);
-            R1 += 0.00000003958 * Math.cos(5.17084570945 + 114.3991069134 * t);
-            R1 += 0.00000003609 * Math.cos(5.54387488088 + 458.8415197904 * t);
-            R1 += 0.00000004470 * Math.cos(3.74256930900 + 699.7010313543 * t);
-            R1 += 0.00000003293 * Math.cos(4.48068043469 + 289.5651667136 * t);
-            R1 += 0.00000003240 * Math.cos(5.94728881707 + 131.5469622218 * t);
-            R1 += 0.00000003477 * Math.cos(3.54553285172 + 963.4027029714 * t);
-            R1 += 0.00000003838 * Math.cos(4.77967877681 + 175.1660598002 * t);
-            R1 += 0.00000003223 * Math.cos(1.95410765469 + 212.0270710508 * t);
-            R1 += 0.00000004053 * Math.cos(4.19011281964 + 501.3797894433 * t);
-            R1 += 0.00000003100 * Math.cos(2.11956558345 + 916.9322800554 * t);
-            R1 += 0.00000003183 * Math.cos(1.93201605379 + 1354.4331588434 * t);
-            R1 += 0.00000003301 * Math.cos(1.80825506815 + 756.3233826569 * t);
-            R1 += 0.00000004187 * Math.cos(5.96622666047 + 212.5483359126 * t);
-            R1 += 0.00000003716 * Math.cos(3.70660462807 + 204.7010757289 * t);
-            R1 += 0.00000003000 * Math.cos(6.15443664698 + 3267.0114707846 * t);
-            R1 += 0.00000002993 * Math.cos(4.20888489881 + 533.6231183577 * t);
-            R1 += 0.00000004125 * Math.cos(6.09715151219 + 2641.3412784722 * t);
-            R1 += 0.00000003145 * Math.cos(2.55483540896 + 905.8865797915 * t);
-            R1 += 0.00000002982 * Math.cos(1.52760656472 + 945.9942152321 * t);
-            R1 += 0.00000003015 * Math.cos(1.76012152992 + 28.3111756513 * t);
-            R1 += 0.00000003453 * Math.cos(1.42473508236 + 2214.7430875962 * t);
-            R1 += 0.00000002926 * Math.cos(5.50138147476 + 24.3790223882 * t);
-            R1 += 0.00000002978 * Math.cos(4.27440059910 + 195.8906076987 * t);
-            R1 += 0.00000003526 * Math.cos(3.63935401565 + 229.9738699944 * t);
-            R1 += 0.00000002860 * Math.cos(4.52551886503 + 241.6102710893 * t);
-            R1 += 0.00000003059 * Math.cos(5.68165832697 + 282.6640680339 * t);
-            R1 += 0.00000003415 * Math.cos(5.26311934884 + 67.6680515665 * t);
-            R1 += 0.00000002819 * Math.cos(5.42053027567 + 305.0855369618 * t);
-            R1 += 0.00000003503 * Math.cos(1.31670335802 + 69.1525242748 * t);
-            R1 += 0.00000002746 * Math.cos(0.82597971627 + 444.7574381407 * t);
-            R1 += 0.00000002796 * Math.cos(0.07021047160 + 681.5417840896 * t);
-            R1 += 0.00000003366 * Math.cos(4.03843228994 + 6.1503391543 * t);
-            R1 += 0.00000003242 * Math.cos(2.63461047831 + 739.8086667949 * t);
-            R1 += 0.00000002718 * Math.cos(3.40899287465 + 188.9200730498 * t);
-            R1 += 0.00000002741 * Math.cos(3.22092213412 + 776.9303104764 * t);
-            R1 += 0.00000002793 * Math.cos(3.39766347322 + 431.264057322 * t);
-            R1 += 0.00000002966 * Math.cos(3.91429372950 + 526.5095713569 * t);
-            R1 += 0.00000002693 * Math.cos(3.38996413068 + 778.4147831847 * t);
-            R1 += 0.00000002680 * Math.cos(3.82192393959 + 3060.8259223474 * t);
-            R1 += 0.00000002954 * Math.cos(2.69669880207 + 426.6463749858 * t);
-            R1 += 0.00000002681 * Math.cos(1.04615621583 + 28.4541880032 * t);
-            R1 += 0.00000003182 * Math.cos(2.72333374876 + 432.2272651685 * t);
-            R1 += 0.00000002633 * Math.cos(2.55029306465 + 10213.285546211 * t);
-            R1 += 0.00000002923 * Math.cos(0.85695094024 + 2435.155730035 * t);
-            R1 += 0.00000002596 * Math.cos(5.42890752137 + 207.1487562837 * t);
-            R1 += 0.00000003225 * Math.cos(0.96538615730 + 2118.7638603784 * t);
-            R1 += 0.00000002774 * Math.cos(0.33260844270 + 326.6868103951 * t);
-            R1 += 0.00000002550 * Math.cos(5.88893697427 + 439.1283638482 * t);
-            R1 += 0.00000002716 * Math.cos(3.15505406487 + 170.7608257851 * t);
-            R1 += 0.00000002942 * Math.cos(4.88555233562 + 397.3932433474 * t);
-            R1 += 0.00000003121 * Math.cos(1.87815629157 + 2413.8150890326 * t);
-            R1 += 0.00000003263 * Math.cos(2.59868619716 + 213.0384630071 * t);
-            R1 += 0.00000002518 * Math.cos(0.15471130491 + 945.2434557067 * t);
-            R1 += 0.00000003169 * Math.cos(5.70993651497 + 381.3516082374 * t);
-            R1 += 0.00000002515 * Math.cos(0.06248441393 + 427.5613987225 * t);
-            R1 += 0.00000003279 * Math.cos(4.95751323467 + 313.9441891018 * t);
-            R1 += 0.00000002595 * Math.cos(5.13169797457 + 299.1263942692 * t);
-            R1 += 0.00000002572 * Math.cos(3.42558391509 + 4.192785694 * t);
-            R1 += 0.00000002580 * Math.cos(2.03280916494 + 319.3126309634 * t);
-            R1 += 0.00000003294 * Math.cos(6.24566168486 + 421.1815649046 * t);
-            R1 += 0.00000002580 * Math.cos(2.62721090534 + 213.1872208534 * t);
-            R1 += 0.00000002879 * Math.cos(0.45679876898 + 285.6330134505 * t);
-            R1 += 0.00000002406 * Math.cos(4.57473098758 + 228.276948965 * t);
-            R1 += 0.00000002518 * Math.cos(2.55500085830 + 140.001969579 * t);
-            R1 += 0.00000002422 * Math.cos(2.36310658303 + 84.3428261229 * t);
-            R1 += 0.00000002374 * Math.cos(2.25544718932 + 17.2654753874 * t);
-            R1 += 0.00000002627 * Math.cos(1.26370339212 + 724.8308132679 * t);
-            R1 += 0.00000002346 * Math.cos(3.77641630157 + 206.233732547 * t);
-            R1 += 0.00000002463 * Math.cos(5.42094278240 + 395.578702239 * t);
-            R1 += 0.00000002352 * Math.cos(0.63041319237 + 210.5907824523 * t);
-            R1 += 0.00000003166 * Math.cos(0.26273580642 + 201.5196819912 * t);
-            R1 += 0.00000002405 * Math.cos(0.78919759458 + 426.0769260142 * t);
-            R1 += 0.00000002390 * Math.cos(5.89523812458 + 738.7972748386 * t);
-            R1 += 0.00000002515 * Math.cos(0.70044371265 + 2943.5060541272 * t);
-            R1 += 0.00000002332 * Math.cos(4.06963624306 + 519.3960243561 * t);
-            R1 += 0.00000003132 * Math.cos(2.79331632190 + 732.6951197941 * t);
-            R1 += 0.00000002658 * Math.cos(3.34020209714 + 1141.1340634054 * t);
-            R1 += 0.00000002258 * Math.cos(0.12403309730 + 2524.021410252 * t);
-            R1 += 0.00000002697 * Math.cos(2.58404587754 + 425.6349830295 * t);
-            R1 += 0.00000002416 * Math.cos(3.85003724506 + 696.5196376166 * t);
-            R1 += 0.00000002597 * Math.cos(2.54164936697 + 436.1594184316 * t);
-            R1 += 0.00000002192 * Math.cos(3.07202313269 + 203.2647871304 * t);
-            R1 += 0.00000002424 * Math.cos(2.60715310452 + 511.5317178299 * t);
-            R1 += 0.00000002126 * Math.cos(0.14811901148 + 405.9912630565 * t);
-            R1 += 0.00000002306 * Math.cos(1.25068142377 + 427.1194557378 * t);
-            R1 += 0.00000002121 * Math.cos(0.43505808954 + 184.9879197867 * t);
-            R1 += 0.00000002755 * Math.cos(3.02380019321 + 468.2426886516 * t);
-            R1 += 0.00000002333 * Math.cos(3.02634928771 + 216.0074084237 * t);
-            R1 += 0.00000002182 * Math.cos(4.27912012069 + 7.1617311106 * t);
-            R1 += 0.00000002101 * Math.cos(4.31781498012 + 572.2292347475 * t);
-            R1 += 0.00000002362 * Math.cos(4.82914341110 + 556.5176680376 * t);
-            R1 += 0.00000002218 * Math.cos(0.82936075453 + 3370.1042450032 * t);
-            R1 += 0.00000002103 * Math.cos(5.25950154713 + 661.2379273164 * t);
-            R1 += 0.00000002580 * Math.cos(1.03705340380 + 213.4109700226 * t);
-            R1 += 0.00000002366 * Math.cos(6.14368355608 + 205.4347889118 * t);
-            R1 += 0.00000002042 * Math.cos(0.21462094901 + 3259.8979237838 * t);
-            R1 += 0.00000002547 * Math.cos(4.69969204009 + 221.3758502853 * t);
-            R1 += 0.00000001987 * Math.cos(3.22670561632 + 1382.8873468466 * t);
-            R1 += 0.00000002213 * Math.cos(0.89932827487 + 286.596221297 * t);
-            R1 += 0.00000002191 * Math.cos(0.08759174058 + 259.769518354 * t);
-            R1 += 0.00000001968 * Math.cos(0.57824086026 + 180.1619946463 * t);
-            R1 += 0.00000002037 * Math.cos(2.35713099759 + 610.6923387854 * t);
-            R1 += 0.00000001959 * Math.cos(2.18553775379 + 72.0732855816 * t);
-            R1 += 0.00000002061 * Math.cos(1.68041202479 + 1670.82502850 * t);
-            R1 += 0.00000001940 * Math.cos(0.62951066481 + 406.954470903 * t);
-            R1 += 0.00000002043 * Math.cos(4.39130144045 + 576.1613880106 * t);
-            R1 += 0.00000001936 * Math.cos(1.05286934530 + 1262.3860848887 * t);
-            R1 += 0.00000001975 * Math.cos(0.31945835160 + 938.1299087059 * t);
-            R1 += 0.00000002015 * Math.cos(1.66410213484 + 193.655375465 * t);
-            R1 += 0.00000001971 * Math.cos(0.72639439054 + 200.5564741447 * t);
-            R1 += 0.00000001952 * Math.cos(6.25320630177 + 241.7532834412 * t);
-            R1 += 0.00000001976 * Math.cos(1.31263772699 + 135.5485514541 * t);
-            R1 += 0.00000002448 * Math.cos(0.52850194172 + 429.5189521828 * t);
-            R1 += 0.00000001977 * Math.cos(3.13944703383 + 421.93232443 * t);
-            R1 += 0.00000001853 * Math.cos(0.17184530353 + 196.0336200506 * t);
-            R1 += 0.00000002552 * Math.cos(5.39764879348 + 2854.6403739102 * t);
-            R1 += 0.00000001830 * Math.cos(1.47821899466 + 638.4128136057 * t);
-            R1 += 0.00000002245 * Math.cos(6.00427164270 + 230.7075831773 * t);
-            R1 += 0.00000001822 * Math.cos(6.08626100417 + 1261.6353253633 * t);
-            R1 += 0.00000002168 * Math.cos(0.41741136149 + 213.5115437591 * t);
-            R1 += 0.00000001869 * Math.cos(3.67791368036 + 403.0223176399 * t);
-            R1 += 0.00000001866 * Math.cos(1.59662677545 + 391.1734682239 * t);
-            R1 += 0.00000002034 * Math.cos(1.21814866092 + 3046.5988283458 * t);
-            R1 += 0.00000001929 * Math.cos(4.93193335031 + 420.9691165835 * t);
-            R1 += 0.00000001746 * Math.cos(5.09757251683 + 107.7586406646 * t);
-            R1 += 0.00000002168 * Math.cos(3.24685294764 + 213.0866471169 * t);
-            R1 += 0.00000002178 * Math.cos(5.09777299346 + 558.0021407459 * t);
-            R1 += 0.00000001992 * Math.cos(2.29524873043 + 1773.9178027186 * t);
-            R1 += 0.00000001761 * Math.cos(2.88655624670 + 141.6988906084 * t);
-            R1 += 0.00000001769 * Math.cos(5.47051542758 + 206.1373643274 * t);
-            R1 += 0.00000001734 * Math.cos(2.11941015901 + 430.79097657 * t);
-            R1 += 0.00000002377 * Math.cos(1.07633521570 + 59.8037450403 * t);
-            R1 += 0.00000001797 * Math.cos(2.90984583978 + 92.7978334801 * t);
-            R1 += 0.00000001725 * Math.cos(5.22827286197 + 757.2171545342 * t);
-            R1 += 0.00000002305 * Math.cos(5.88235807192 + 426.5500067662 * t);
-            R1 += 0.00000001751 * Math.cos(5.28990803470 + 87.3117715395 * t);
-            R1 += 0.00000002202 * Math.cos(1.28096946505 + 624.919432787 * t);
-            R1 += 0.00000002043 * Math.cos(0.46193065602 + 831.1049812242 * t);
-            R1 += 0.00000001931 * Math.cos(1.26974971942 + 219.891377577 * t);
-            R1 += 0.00000001953 * Math.cos(2.96900002385 + 398.1440028728 * t);
-            R1 += 0.00000001676 * Math.cos(4.81683149512 + 181.806526049 * t);
-            R1 += 0.00000001902 * Math.cos(2.74426125465 + 4952.0635932862 * t);
-            R1 += 0.00000002133 * Math.cos(5.37177705284 + 627.3671133418 * t);
-            R1 += 0.00000001962 * Math.cos(3.52111949662 + 213.4591541324 * t);
-            R1 += 0.00000001709 * Math.cos(6.14073761844 + 952.3570027075 * t);
-            R1 += 0.00000001784 * Math.cos(1.05243716682 + 353.301065017 * t);
-            R1 += 0.00000001700 * Math.cos(1.17418864170 + 739.0579072695 * t);
-            R1 += 0.00000001609 * Math.cos(1.35009554392 + 84.9335269539 * t);
-            R1 += 0.00000002038 * Math.cos(2.47570829812 + 26.826702943 * t);
-            R1 += 0.00000001870 * Math.cos(5.61729116529 + 2957.7331481288 * t);
-            R1 += 0.00000001962 * Math.cos(0.13564680851 + 213.1390367436 * t);
-            R1 += 0.00000002041 * Math.cos(3.31354526279 + 1596.1864422846 * t);
-            R1 += 0.00000001612 * Math.cos(6.19495100885 + 432.0148168474 * t);
-            R1 += 0.00000001742 * Math.cos(2.87947098602 + 179.3588454942 * t);
-            R1 += 0.00000001964 * Math.cos(2.84253666387 + 429.0458714308 * t);
-            R1 += 0.00000001805 * Math.cos(0.60932632638 + 532.6117264014 * t);
-            R1 += 0.00000001647 * Math.cos(0.82347900016 + 214.5711198252 * t);
-            R1 += 0.00000001893 * Math.cos(4.33962647901 + 173.9422195228 * t);
-            R1 += 0.00000001689 * Math.cos(1.13037158144 + 586.3133163972 * t);
-            R1 += 0.00000001523 * Math.cos(2.71561930244 + 73.297125859 * t);
-            R1 += 0.00000001524 * Math.cos(5.26558677448 + 5429.8794682394 * t);
-            R1 += 0.00000001582 * Math.cos(2.79533721474 + 842.9014410135 * t);
-            R1 += 0.00000001608 * Math.cos(2.33230359324 + 418.5214360287 * t);
-            R1 += 0.00000001579 * Math.cos(1.15182102801 + 731.9443602687 * t);
-            R1 += 0.00000001689 * Math.cos(1.91915438546 + 630.3360587584 * t);
-            R1 += 0.00000001990 * Math.cos(5.23790221176 + 550.1378342197 * t);
-            R1 += 0.00000001772 * Math.cos(2.95372411478 + 172.2452984934 * t);
-            R1 += 0.00000001596 * Math.cos(0.99004701777 + 953.1077622329 * t);
-            R1 += 0.00000001784 * Math.cos(3.91391032360 + 159.1244246902 * t);
-            R1 += 0.00000001592 * Math.cos(2.99690086808 + 45.5766510387 * t);
-            R1 += 0.00000001968 * Math.cos(0.23073879009 + 220.364458329 * t);
-            R1 += 0.00000001549 * Math.cos(5.88699595922 + 60.5545045657 * t);
-            R1 += 0.00000001459 * Math.cos(5.51999778036 + 273.8536000037 * t);
-            R1 += 0.00000001909 * Math.cos(2.78415262815 + 418.0001711669 * t);
-            R1 += 0.00000001445 * Math.cos(3.25530914937 + 453.424893819 * t);
-            R1 += 0.00000001454 * Math.cos(0.16250693313 + 115.6229471908 * t);
-            R1 += 0.00000001566 * Math.cos(2.24077018103 + 1056.2005364515 * t);
-            R1 += 0.00000001412 * Math.cos(3.45442909885 + 354.9979860464 * t);
-            R1 += 0.00000001564 * Math.cos(3.38591337689 + 409.1897031367 * t);
-            R1 += 0.00000001631 * Math.cos(1.06286709889 + 213.5597278689 * t);
-            R1 += 0.00000001415 * Math.cos(1.32091877590 + 373.9079928365 * t);
-            R1 += 0.00000001389 * Math.cos(0.40584159469 + 9360.089164459 * t);
-            R1 += 0.00000001663 * Math.cos(2.33357114562 + 188.0263011725 * t);
-            R1 += 0.00000001426 * Math.cos(5.44677783737 + 864.2420820159 * t);
-            R1 += 0.00000001716 * Math.cos(3.96056093028 + 1699.2792165032 * t);
-            R1 += 0.00000001682 * Math.cos(0.39747670320 + 17.4084877393 * t);
-            R1 += 0.00000001368 * Math.cos(5.83289186692 + 569.0478410098 * t);
-            R1 += 0.00000001416 * Math.cos(3.65464640816 + 6.8529145699 * t);
-            R1 += 0.00000001469 * Math.cos(3.49069193830 + 934.9485149682 * t);
-            R1 += 0.00000001330 * Math.cos(4.41794310534 + 3914.0223040994 * t);
-            R1 += 0.00000001309 * Math.cos(1.29979865382 + 428.0826635843 * t);
-            R1 += 0.00000001300 * Math.cos(1.57748627871 + 238.5718897035 * t);
-            R1 += 0.00000001389 * Math.cos(1.31202796503 + 6275.9623029906 * t);
-            R1 += 0.00000001384 * Math.cos(0.67585082323 + 2751.5475996916 * t);
-            R1 += 0.00000001471 * Math.cos(1.21149871903 + 2531.1349572528 * t);
-            R1 += 0.00000001334 * Math.cos(4.11154515525 + 206.9363079626 * t);
-            R1 += 0.00000001601 * Math.cos(0.93356520728 + 355.7487455718 * t);
-            R1 += 0.00000001259 * Math.cos(2.56678207309 + 850.0149880143 * t);
-            R1 += 0.00000001277 * Math.cos(0.41764451386 + 100.6450936638 * t);
-            R1 += 0.00000001436 * Math.cos(4.06045514506 + 177.8743727859 * t);
-            R1 += 0.00000001308 * Math.cos(1.01324076289 + 423.6774295692 * t);
-            R1 += 0.00000001541 * Math.cos(6.03020449918 + 292.0128472684 * t);
-            R1 += 0.00000001307 * Math.cos(5.83815678434 + 5863.5912061162 * t);
-            R1 += 0.00000001613 * Math.cos(2.45074803642 + 1049.0869894507 * t);
-            R1 += 0.00000001249 * Math.cos(3.01518429832 + 464.7312265138 * t);
-            R1 += 0.00000001250 * Math.cos(6.23516728885 + 823.9914342234 * t);
-            R1 += 0.00000001275 * Math.cos(2.68217384213 + 637.4496057592 * t);
-            R1 += 0.00000001249 * Math.cos(2.97028182853 + 51749.20809227239 * t);
-            R1 += 0.00000001240 * Math.cos(2.66940683813 + 2700.7151403858 * t);
-            R1 += 0.00000001456 * Math.cos(1.85558224828 + 96.8729990951 * t);
-            R1 += 0.00000001491 * Math.cos(4.98649587341 + 295.1942410061 * t);
-            R1 += 0.00000001230 * Math.cos(4.27283851216 + 12139.5535091068 * t);
-            R1 += 0.00000001292 * Math.cos(2.73196017809 + 10206.1719992102 * t);
-            R1 += 0.00000001247 * Math.cos(3.77399749791 + 504.561183181 * t);
-            R1 += 0.00000001408 * Math.cos(1.02955773079 + 518.3846323998 * t);
-            R1 += 0.00000001223 * Math.cos(1.12202093840 + 221.1634019642 * t);
-            R1 += 0.00000001420 * Math.cos(4.39795293289 + 606.7601855223 * t);
-            R1 += 0.00000001190 * Math.cos(1.57292553631 + 820.0592809603 * t);
-            R1 += 0.00000001247 * Math.cos(0.99102599652 + 9793.8009023358 * t);
-            R1 += 0.00000001234 * Math.cos(1.10826361423 + 2303.6087678132 * t);
-            R1 += 0.00000001186 * Math.cos(4.55984967028 + 9808.5381846614 * t);
-            R1 += 0.00000001346 * Math.cos(4.94456950019 + 384.0599212231 * t);
-            R1 += 0.00000001514 * Math.cos(3.60392291730 + 2015.6710861598 * t);
-            R1 += 0.00000001432 * Math.cos(2.28704432909 + 525.4981794006 * t);
-            R1 += 0.00000001129 * Math.cos(0.87100340620 + 162.0933701068 * t);
-            R1 += 0.00000001196 * Math.cos(5.13485214850 + 227.3137411185 * t);
-            R1 += 0.00000001339 * Math.cos(2.48923887712 + 206.706813299 * t);
-            R1 += 0.00000001421 * Math.cos(1.65379789078 + 857.1285350151 * t);
-            R1 += 0.00000001162 * Math.cos(1.92099315083 + 220.9339073006 * t);
-            R1 += 0.00000001277 * Math.cos(4.85435999187 + 54.1746707478 * t);
-            R1 += 0.00000001153 * Math.cos(5.33028034679 + 233.9060232575 * t);
-            R1 += 0.00000001214 * Math.cos(4.11324721963 + 3377.217792004 * t);
-            R1 += 0.00000001109 * Math.cos(5.68915582674 + 162.8965192589 * t);
-            R1 += 0.00000001068 * Math.cos(4.85383480876 + 611.4430983108 * t);
-            R1 += 0.00000001119 * Math.cos(1.40805686363 + 1987.2168981566 * t);
-            R1 += 0.00000001085 * Math.cos(0.64208148190 + 731.6837278378 * t);
-            R1 += 0.00000001435 * Math.cos(3.20880139888 + 835.7878940127 * t);
-            R1 += 0.00000001184 * Math.cos(2.99776919968 + 199.2844497575 * t);
-            R1 += 0.00000001281 * Math.cos(3.12245339510 + 427.3489504014 * t);
-            R1 += 0.00000001058 * Math.cos(5.17851282929 + 306.0969289181 * t);
-            R1 += 0.00000001152 * Math.cos(4.39244449554 + 199.9657733137 * t);
-            R1 += 0.00000001036 * Math.cos(3.68027119804 + 597.3590166611 * t);
-            R1 += 0.00000001055 * Math.cos(3.25561743426 + 394.3548619616 * t);
-            R1 += 0.00000001127 * Math.cos(4.33255371960 + 552.5855147745 * t);
-            R1 += 0.00000001213 * Math.cos(6.21447612110 + 42.5382696529 * t);
-            R1 += 0.00000001117 * Math.cos(3.74367882111 + 214.1928673153 * t);
-            R1 += 0.00000001023 * Math.cos(3.84199833949 + 894.8408795276 * t);
-            R1 += 0.00000001042 * Math.cos(5.30120078590 + 450.9772132642 * t);
-            R1 += 0.00000001290 * Math.cos(3.96221234564 + 318.8395502114 * t);
-            R1 += 0.00000001073 * Math.cos(4.10012122884 + 188.1693135244 * t);
-            R1 += 0.00000001204 * Math.cos(0.37702365750 + 393.4610900843 * t);
-            R1 += 0.00000001214 * Math.cos(2.01826978554 + 401.3253966105 * t);
-            R1 += 0.00000001018 * Math.cos(0.02946649279 + 2840.4132799086 * t);
-            R1 += 0.00000001237 * Math.cos(5.41088851225 + 425.8474313506 * t);
-            R1 += 0.00000001187 * Math.cos(5.16511890602 + 838.218528225 * t);
-            R1 += 0.00000001276 * Math.cos(2.93572146232 + 1457.525933062 * t);
-            R1 += 0.00000000994 * Math.cos(3.40079885702 + 211.6021744086 * t);
-            R1 += 0.00000001042 * Math.cos(2.42209320898 + 361.3778198643 * t);
-            R1 += 0.00000001093 * Math.cos(3.66289018246 + 226.6324175623 * t);
-            R1 += 0.00000000978 * Math.cos(3.76334208607 + 5856.4776591154 * t);
-            R1 += 0.00000001263 * Math.cos(2.09195268609 + 78.7137518304 * t);
-            R1 += 0.00000001009 * Math.cos(5.85963705048 + 1268.7488723641 * t);
-            R1 += 0.00000001148 * Math.cos(4.39543895068 + 570.7447620392 * t);
-            R1 += 0.00000001051 * Math.cos(3.27272240682 + 153.4953503977 * t);
-            R1 += 0.00000000975 * Math.cos(3.42924642244 + 105.5404547734 * t);
-            R1 += 0.00000000997 * Math.cos(4.30943991893 + 212.4053235607 * t);
-            R1 += 0.00000000954 * Math.cos(3.88548755058 + 171.6545976624 * t);
-            R1 += 0.00000000960 * Math.cos(1.90180005280 + 1159.2933106701 * t);
-            R1 += 0.00000000953 * Math.cos(3.40787141587 + 244.791664827 * t);
-            R1 += 0.00000000969 * Math.cos(1.93369993197 + 525.7588118315 * t);
-            R1 += 0.00000000918 * Math.cos(1.73738789723 + 223.3334037456 * t);
-            R1 += 0.00000001164 * Math.cos(5.05392864346 + 263.7016716171 * t);
-            R1 += 0.00000000951 * Math.cos(4.23581224839 + 92.940845832 * t);
-            R1 += 0.00000001160 * Math.cos(5.80630916592 + 460.5384408198 * t);
-            R1 += 0.00000001186 * Math.cos(4.46262000755 + 465.9550667912 * t);
-            R1 += 0.00000000931 * Math.cos(2.09868057209 + 205.6642835754 * t);
-            R1 += 0.00000000942 * Math.cos(3.86810837922 + 238.4288773516 * t);
-            R1 += 0.00000001020 * Math.cos(5.53181822898 + 0.0481841098 * t);
-            R1 += 0.00000000995 * Math.cos(2.03457885490 + 6290.1893969922 * t);
-            R1 += 0.00000000888 * Math.cos(2.60957592990 + 1912.5783119412 * t);
-            R1 += 0.00000000873 * Math.cos(5.78433393020 + 480.7728616238 * t);
-            R1 += 0.00000000854 * Math.cos(1.63255087291 + 328.2407190726 * t);
-            R1 += 0.00000001123 * Math.cos(4.07401922216 + 3693.6096616606 * t);
-            R1 += 0.00000000934 * Math.cos(3.52355235083 + 10220.3990932118 * t);
-            R1 += 0.00000000833 * Math.cos(3.03302227840 + 532.8723588323 * t);
-            R1 += 0.00000001007 * Math.cos(2.73615455688 + 4841.8572720668 * t);
-            R1 += 0.00000000870 * Math.cos(1.06968760644 + 51.2057253312 * t);
-            R1 += 0.00000000891 * Math.cos(1.36817544763 + 700.4517908797 * t);
-            R1 += 0.00000000833 * Math.cos(5.39754715806 + 159.7151255212 * t);
-            R1 += 0.00000000854 * Math.cos(1.91765015557 + 622.4887985747 * t);
-            R1 += 0.00000000976 * Math.cos(3.09106001923 + 2332.0629558164 * t);
-            R1 += 0.00000000819 * Math.cos(5.55683690482 + 462.0229135281 * t);
-            R1 += 0.00000000800 * Math.cos(1.47042677460 + 969.6224780949 * t);
-            R1 += 0.00000000933 * Math.cos(1.40166917666 + 287.9376816534 * t);
-            R1 += 0.00000000784 * Math.cos(1.69235162770 + 477.8039162072 * t);
-            R1 += 0.00000000782 * Math.cos(3.98153416585 + 702.1487119091 * t);
-            R1 += 0.00000000810 * Math.cos(5.87689161549 + 561.934294009 * t);
-            R1 += 0.00000000858 * Math.cos(4.02964773169 + 41.6444977756 * t);
-            R1 += 0.00000000819 * Math.cos(0.98885784755 + 960.2213092337 * t);
-            R1 += 0.00000000882 * Math.cos(1.49559638306 + 760.25553592 * t);
-            R1 += 0.00000000767 * Math.cos(2.46787654531 + 402.2191684878 * t);
-            R1 += 0.00000000851 * Math.cos(3.64678001195 + 348.635198571 * t);
-            R1 += 0.00000000852 * Math.cos(1.03470840672 + 2620.0006374698 * t);
-            R1 += 0.00000000770 * Math.cos(4.67090683753 + 16.6747745564 * t);
-            R1 += 0.00000000849 * Math.cos(5.27994730935 + 74.6385862154 * t);
-            R1 += 0.00000000854 * Math.cos(2.56811257488 + 432.7485300303 * t);
-            R1 += 0.00000000767 * Math.cos(1.11806243753 + 2847.5268269094 * t);
-            R1 += 0.00000000729 * Math.cos(0.44171990710 + 898.7730327907 * t);
-            R1 += 0.00000000776 * Math.cos(5.54603607568 + 3171.0322435668 * t);
-            R1 += 0.00000000721 * Math.cos(6.05392551158 + 91.7864415238 * t);
-            R1 += 0.00000000739 * Math.cos(3.57172839746 + 775.233389447 * t);
-            R1 += 0.00000000730 * Math.cos(4.98865345688 + 705.1176573257 * t);
-            R1 += 0.00000000705 * Math.cos(0.44942445750 + 219.6618829134 * t);
-            R1 += 0.00000000708 * Math.cos(0.69014726046 + 1048.3362299253 * t);
-            R1 += 0.00000000706 * Math.cos(2.22974712805 + 29.2049475286 * t);
-            R1 += 0.00000000711 * Math.cos(0.00981284716 + 2115.5824666407 * t);
-            R1 += 0.00000000722 * Math.cos(4.14075205197 + 225.0785088848 * t);
-            R1 += 0.00000000735 * Math.cos(1.54083195463 + 201.9927627432 * t);
-            R1 += 0.00000000746 * Math.cos(4.08997409526 + 849.2642284889 * t);
-            R1 += 0.00000000729 * Math.cos(2.81779134868 + 419.532827985 * t);
-            R1 += 0.00000000837 * Math.cos(1.00844734156 + 4127.3213995374 * t);
-            R1 += 0.00000000939 * Math.cos(0.46037763932 + 5488.8681053816 * t);
-            R1 += 0.00000000939 * Math.cos(1.85473712038 + 5062.2699145056 * t);
-            R1 += 0.00000000721 * Math.cos(1.62872794201 + 2200.5159935946 * t);
-        }
-        return R1 * t;
-    }
-
-    public double R2(double t) // 342 terms of order 2
-    {
-        double R2 = 0;
-        R2 += 0.00436902464 * Math.cos(4.78671673044 + 213.299095438 * t);
-        R2 += 0.00071922760 * Math.cos(2.50069994874 + 206.1855484372 * t);
-        R2 += 0.00049766792 * Math.cos(4.97168150870 + 220.4126424388 * t);
-        R2 += 0.00043220894 * Math.cos(3.86940443794 + 426.598190876 * t);
-        R2 += 0.00029645554 * Math.cos(5.96310264282 + 7.1135470008 * t);
-        R2 += 0.00004141650 * Math.cos(4.10670940823 + 433.7117378768 * t);
-        R2 += 0.00004720909 * Math.cos(2.47527992423 + 199.0720014364 * t);
-        R2 += 0.00003789370 * Math.cos(3.09771025067 + 639.897286314 * t);
-        R2 += 0.00002963990 * Math.cos(1.37206248846 + 103.0927742186 * t);
-        R2 += 0.00002556363 * Math.cos(2.85065721526 + 419.4846438752 * t);
-        R2 += 0.00002208457 * Math.cos(6.27588858707 + 110.2063212194 * t);
-        R2 += 0.00002187621 * Math.cos(5.85545832218 + 14.2270940016 * t);
-        R2 += 0.00001956896 * Math.cos(4.92448618045 + 227.5261894396 * t);
-        R2 += 0.00002326801;
-        R2 += 0.00000923840 * Math.cos(5.46392422737 + 323.5054166574 * t);
-        R2 += 0.00000705936 * Math.cos(2.97081280098 + 95.9792272178 * t);
-        R2 += 0.00000546115 * Math.cos(4.12854181522 + 412.3710968744 * t);
-        R2 += 0.00000373838 * Math.cos(5.83435991809 + 117.3198682202 * t);
-        R2 += 0.00000360882 * Math.cos(3.27703082368 + 647.0108333148 * t);
-        R2 += 0.00000356350 * Math.cos(3.19152043942 + 210.1177017003 * t);
-        R2 += 0.00000390627 * Math.cos(4.48106176893 + 216.4804891757 * t);
-        R2 += 0.00000431485 * Math.cos(5.17825414612 + 522.5774180938 * t);
-        R2 += 0.00000325598 * Math.cos(2.26867601656 + 853.196381752 * t);
-        R2 += 0.00000405018 * Math.cos(4.17294157872 + 209.3669421749 * t);
-        R2 += 0.00000204494 * Math.cos(0.08774848590 + 202.2533951741 * t);
-        R2 += 0.00000206854 * Math.cos(4.02188336738 + 735.8765135318 * t);
-        R2 += 0.00000178474 * Math.cos(4.09716541453 + 440.8252848776 * t);
-        R2 += 0.00000180143 * Math.cos(3.59704903955 + 632.7837393132 * t);
-        R2 += 0.00000153656 * Math.cos(3.13470530382 + 625.6701923124 * t);
-        R2 += 0.00000147779 * Math.cos(0.13614300541 + 302.164775655 * t);
-        R2 += 0.00000123189 * Math.cos(4.18895309647 + 88.865680217 * t);
-        R2 += 0.00000133076 * Math.cos(2.59350469420 + 191.9584544356 * t);
-        R2 += 0.00000100367 * Math.cos(5.46056190585 + 3.1813937377 * t);
-        R2 += 0.00000131975 * Math.cos(5.93293968941 + 309.2783226558 * t);
-        R2 += 0.00000097235 * Math.cos(4.01832604356 + 728.762966531 * t);
-        R2 += 0.00000110709 * Math.cos(4.77853798276 + 838.9692877504 * t);
-        R2 += 0.00000119053 * Math.cos(5.55385105975 + 224.3447957019 * t);
-        if (highAccuracy) {
-            R2 += 0.00000093852 * Math.cos(4.38395529912 + 217.2312487011 * t);
-            R2 += 0.00000108701 * Math.cos(5.29310899841 + 515.463871093 * t);
-            R2 += 0.00000078609 * Math.cos(5.72525447528 + 21.3406410024 * t);
-            R2 += 0.00000081468 * Math.cos(5.10897365253 + 956.2891559706 * t);
-            R2 += 0.00000096412 * Math.cos(6.25859229567 + 742.9900605326 * t);
-            R2 += 0.00000069228 * Math.cos(4.04901237761 + 3.9321532631 * t);
-            R2 += 0.00000065168 * Math.cos(3.77713343518 + 1052.2683831884 * t);
-            R2 += 0.00000064088 * Math.cos(5.81235002453 + 529.6909650946 * t);
-            R2 += 0.00000062541 * Math.cos(2.18445116349 + 195.1398481733 * t);
-            R2 += 0.00000056987 * Math.cos(3.14666549033 + 203.0041546995 * t);
-            R2 += 0.00000055979 * Math.cos(4.84108422860 + 234.6397364404 * t);
-            R2 += 0.00000052940 * Math.cos(5.07780548444 + 330.6189636582 * t);
-            R2 += 0.00000050635 * Math.cos(2.77318570728 + 942.062061969 * t);
-            R2 += 0.00000041649 * Math.cos(4.79014211005 + 63.7358983034 * t);
-            R2 += 0.00000044858 * Math.cos(0.56460613593 + 269.9214467406 * t);
-            R2 += 0.00000041357 * Math.cos(3.73496404402 + 316.3918696566 * t);
-            R2 += 0.00000052847 * Math.cos(3.92623831484 + 949.1756089698 * t);
-            R2 += 0.00000038398 * Math.cos(3.73966157784 + 1045.1548361876 * t);
-            R2 += 0.00000037583 * Math.cos(4.18924633757 + 536.8045120954 * t);
-            R2 += 0.00000035285 * Math.cos(2.90795856092 + 284.1485407422 * t);
-            R2 += 0.00000033576 * Math.cos(3.80465978802 + 149.5631971346 * t);
-            R2 += 0.00000041073 * Math.cos(4.57870454147 + 1155.361157407 * t);
-            R2 += 0.00000030412 * Math.cos(2.48140171991 + 860.3099287528 * t);
-            R2 += 0.00000031373 * Math.cos(4.84075951849 + 1272.6810256272 * t);
-            R2 += 0.00000030218 * Math.cos(4.35186294470 + 405.2575498736 * t);
-            R2 += 0.00000039430 * Math.cos(3.50858482049 + 422.6660376129 * t);
-            R2 += 0.00000029658 * Math.cos(1.58886982096 + 1066.49547719 * t);
-            R2 += 0.00000035202 * Math.cos(5.94478241578 + 1059.3819301892 * t);
-            R2 += 0.00000025829 * Math.cos(3.54946335477 + 1368.660252845 * t);
-            R2 += 0.00000026283 * Math.cos(4.81567477177 + 124.433415221 * t);
-            R2 += 0.00000029963 * Math.cos(3.66312205813 + 429.7795846137 * t);
-            R2 += 0.00000033011 * Math.cos(4.96879544579 + 831.8557407496 * t);
-            R2 += 0.00000024305 * Math.cos(5.31133255082 + 10.2949407385 * t);
-            R2 += 0.00000026332 * Math.cos(4.45253273390 + 223.5940361765 * t);
-            R2 += 0.00000022108 * Math.cos(2.76092021113 + 415.5524906121 * t);
-            R2 += 0.00000027187 * Math.cos(1.66347897738 + 277.0349937414 * t);
-            R2 += 0.00000021639 * Math.cos(1.03836302307 + 11.0457002639 * t);
-            R2 += 0.00000019713 * Math.cos(2.52194629263 + 1258.4539316256 * t);
-            R2 += 0.00000017062 * Math.cos(3.27669927228 + 654.1243803156 * t);
-            R2 += 0.00000017261 * Math.cos(3.49414816663 + 1361.5467058442 * t);
-            R2 += 0.00000016097 * Math.cos(1.73396878598 + 490.3340891794 * t);
-            R2 += 0.00000021099 * Math.cos(3.62102032955 + 1265.5674786264 * t);
-            R2 += 0.00000017692 * Math.cos(4.31141612385 + 1471.7530270636 * t);
-            R2 += 0.00000013458 * Math.cos(0.32327889681 + 295.0512286542 * t);
-            R2 += 0.00000012586 * Math.cos(3.13794576887 + 74.7815985673 * t);
-            R2 += 0.00000012023 * Math.cos(2.32917797741 + 210.8514148832 * t);
-            R2 += 0.00000015120 * Math.cos(3.59558424278 + 265.9892934775 * t);
-            R2 += 0.00000012959 * Math.cos(4.62359706368 + 1589.0728952838 * t);
-            R2 += 0.00000015424 * Math.cos(5.01335704925 + 127.4717966068 * t);
-            R2 += 0.00000011193 * Math.cos(4.54981248285 + 81.7521332162 * t);
-            R2 += 0.00000013449 * Math.cos(4.88710089777 + 437.6438911399 * t);
-            R2 += 0.00000010673 * Math.cos(5.05234757424 + 191.2076949102 * t);
-            R2 += 0.00000013963 * Math.cos(3.04990968366 + 423.4167971383 * t);
-            R2 += 0.00000010614 * Math.cos(5.02845923229 + 137.0330241624 * t);
-            R2 += 0.00000014382 * Math.cos(4.68720080027 + 1148.2476104062 * t);
-            R2 += 0.00000013470 * Math.cos(1.90280407135 + 408.4389436113 * t);
-            R2 += 0.00000010077 * Math.cos(5.20426583827 + 340.7708920448 * t);
-            R2 += 0.00000010323 * Math.cos(3.34460279759 + 1685.0521225016 * t);
-            R2 += 0.00000009563 * Math.cos(3.17317920222 + 351.8165923087 * t);
-            R2 += 0.00000011295 * Math.cos(5.47808960704 + 1375.7737998458 * t);
-            R2 += 0.00000008617 * Math.cos(2.81294528041 + 99.9113804809 * t);
-            R2 += 0.00000008460 * Math.cos(3.22691940753 + 1677.9385755008 * t);
-            R2 += 0.00000007914 * Math.cos(2.35624291874 + 1574.8458012822 * t);
-            R2 += 0.00000007587 * Math.cos(6.08171425316 + 231.4583427027 * t);
-            R2 += 0.00000009175 * Math.cos(3.40072244924 + 1581.959348283 * t);
-            R2 += 0.00000007337 * Math.cos(2.00393601815 + 131.4039498699 * t);
-            R2 += 0.00000008240 * Math.cos(4.04095881407 + 1788.1448967202 * t);
-            R2 += 0.00000007579 * Math.cos(3.68311134272 + 846.0828347512 * t);
-            R2 += 0.00000006691 * Math.cos(4.37253800717 + 145.6310438715 * t);
-            R2 += 0.00000007539 * Math.cos(3.29482043104 + 750.1036075334 * t);
-            R2 += 0.00000006367 * Math.cos(4.00239137708 + 447.9388318784 * t);
-            R2 += 0.00000006249 * Math.cos(4.55603671940 + 106.2741679563 * t);
-            R2 += 0.00000006489 * Math.cos(1.33782087599 + 215.7467759928 * t);
-            R2 += 0.00000006501 * Math.cos(3.78204726337 + 313.2104759189 * t);
-            R2 += 0.00000005978 * Math.cos(0.55276980086 + 18.1592472647 * t);
-            R2 += 0.00000006171 * Math.cos(2.84712795642 + 138.5174968707 * t);
-            R2 += 0.00000006837 * Math.cos(4.83481646949 + 319.5732633943 * t);
-            R2 += 0.00000006678 * Math.cos(5.43046031699 + 508.3503240922 * t);
-            R2 += 0.00000007175 * Math.cos(4.37855723752 + 1464.6394800628 * t);
-            R2 += 0.00000005753 * Math.cos(4.14268749228 + 543.9180590962 * t);
-            R2 += 0.00000005727 * Math.cos(4.35383078313 + 1905.4647649404 * t);
-            R2 += 0.00000005101 * Math.cos(2.63866058897 + 288.0806940053 * t);
-            R2 += 0.00000005311 * Math.cos(3.62520849510 + 6076.8903015542 * t);
-            R2 += 0.00000005498 * Math.cos(4.19972735173 + 721.6494195302 * t);
-            R2 += 0.00000005089 * Math.cos(5.04845206653 + 10007.0999977738 * t);
-            R2 += 0.00000005505 * Math.cos(1.13479635941 + 56.6223513026 * t);
-            R2 += 0.00000004820 * Math.cos(3.30043078578 + 76.2660712756 * t);
-            R2 += 0.00000004915 * Math.cos(6.17790518458 + 483.2205421786 * t);
-            R2 += 0.00000005048 * Math.cos(2.44627820757 + 628.8515860501 * t);
-            R2 += 0.00000004534 * Math.cos(1.19648682598 + 200.7689224658 * t);
-            R2 += 0.00000004817 * Math.cos(3.11549733365 + 2001.4439921582 * t);
-            R2 += 0.00000004712 * Math.cos(1.26507812515 + 6062.6632075526 * t);
-            R2 += 0.00000004811 * Math.cos(5.78388270496 + 184.8449074348 * t);
-            R2 += 0.00000004775 * Math.cos(0.76197795755 + 333.657345044 * t);
-            R2 += 0.00000004514 * Math.cos(0.95293919611 + 343.2185725996 * t);
-            R2 += 0.00000004525 * Math.cos(2.68827745072 + 9992.8729037722 * t);
-            R2 += 0.00000004378 * Math.cos(0.80241129896 + 222.8603229936 * t);
-            R2 += 0.00000004873 * Math.cos(5.92092913946 + 618.5566453116 * t);
-            R2 += 0.00000004142 * Math.cos(1.91878383159 + 497.4476361802 * t);
-            R2 += 0.00000005112 * Math.cos(4.50449287745 + 416.3032501375 * t);
-            R2 += 0.00000004125 * Math.cos(1.98204847532 + 347.8844390456 * t);
-            R2 += 0.00000004045 * Math.cos(2.87666810085 + 38.1330356378 * t);
-            R2 += 0.00000004133 * Math.cos(2.90478811425 + 107.0249274817 * t);
-            R2 += 0.00000004035 * Math.cos(2.92972681787 + 1994.3304451574 * t);
-            R2 += 0.00000004916 * Math.cos(3.12316267561 + 1898.3512179396 * t);
-            R2 += 0.00000003657 * Math.cos(3.24680246734 + 362.8622925726 * t);
-            R2 += 0.00000003753 * Math.cos(0.87719890943 + 703.6331846174 * t);
-            R2 += 0.00000003576 * Math.cos(3.48080143501 + 388.4651552382 * t);
-            R2 += 0.00000003555 * Math.cos(4.08436297683 + 430.5303441391 * t);
-            R2 += 0.00000003598 * Math.cos(0.05255328597 + 32.2433289144 * t);
-            R2 += 0.00000003561 * Math.cos(5.46414552453 + 6283.0758499914 * t);
-            R2 += 0.00000003480 * Math.cos(1.81622589595 + 70.8494453042 * t);
-            R2 += 0.00000003827 * Math.cos(3.12041228490 + 635.9651330509 * t);
-            R2 += 0.00000003399 * Math.cos(0.54882815021 + 10213.285546211 * t);
-            R2 += 0.00000003399 * Math.cos(3.51833356080 + 629.6023455755 * t);
-            R2 += 0.00000003364 * Math.cos(3.27821747958 + 357.4456666012 * t);
-            R2 += 0.00000003260 * Math.cos(1.97623748027 + 203.7378678824 * t);
-            R2 += 0.00000003118 * Math.cos(2.18465627368 + 1891.2376709388 * t);
-            R2 += 0.00000003163 * Math.cos(1.26040995242 + 134.5853436076 * t);
-            R2 += 0.00000004004 * Math.cos(5.45434102599 + 1692.1656695024 * t);
-            R2 += 0.00000003180 * Math.cos(2.46319174788 + 867.4234757536 * t);
-            R2 += 0.00000003389 * Math.cos(4.20503159673 + 337.732510659 * t);
-            R2 += 0.00000003026 * Math.cos(2.19331614526 + 217.964961884 * t);
-            R2 += 0.00000003573 * Math.cos(5.55097240810 + 113.3877149571 * t);
-            R2 += 0.00000003682 * Math.cos(3.78966280284 + 2104.5367663768 * t);
-            R2 += 0.00000003125 * Math.cos(4.09203641264 + 1478.8665740644 * t);
-            R2 += 0.00000002881 * Math.cos(3.90810650240 + 312.1990839626 * t);
-            R2 += 0.00000003199 * Math.cos(3.92123638342 + 1038.0412891868 * t);
-            R2 += 0.00000004014 * Math.cos(5.17826893553 + 404.5067903482 * t);
-            R2 += 0.00000003907 * Math.cos(4.11767191780 + 1781.0313497194 * t);
-            R2 += 0.00000003144 * Math.cos(1.61185684069 + 1073.6090241908 * t);
-            R2 += 0.00000003072 * Math.cos(5.00675625396 + 312.4597163935 * t);
-            R2 += 0.00000003034 * Math.cos(5.46288652854 + 258.8757464767 * t);
-            R2 += 0.00000002884 * Math.cos(2.38477237305 + 181.0557665236 * t);
-            R2 += 0.00000002986 * Math.cos(0.88783591586 + 1279.794572628 * t);
-            R2 += 0.00000002683 * Math.cos(0.00956197492 + 195.8906076987 * t);
-            R2 += 0.00000003081 * Math.cos(5.60034737330 + 216.2198567448 * t);
-            R2 += 0.00000002626 * Math.cos(6.12701960244 + 273.1028404783 * t);
-            R2 += 0.00000002665 * Math.cos(2.31576422128 + 565.1156877467 * t);
-            R2 += 0.00000003245 * Math.cos(3.87540558646 + 85.8272988312 * t);
-            R2 += 0.00000002740 * Math.cos(5.73784096806 + 160.6088973985 * t);
-            R2 += 0.00000002876 * Math.cos(4.74720607366 + 213.2509113282 * t);
-            R2 += 0.00000002523 * Math.cos(5.30458920892 + 444.7574381407 * t);
-            R2 += 0.00000002752 * Math.cos(5.08984539930 + 1169.5882514086 * t);
-            R2 += 0.00000002889 * Math.cos(1.66674437398 + 213.3472795478 * t);
-            R2 += 0.00000002923 * Math.cos(4.21481009033 + 650.9429865779 * t);
-            R2 += 0.00000003036 * Math.cos(2.55426675350 + 6069.7767545534 * t);
-            R2 += 0.00000003116 * Math.cos(2.67220972004 + 52.6901980395 * t);
-            R2 += 0.00000002371 * Math.cos(0.89591351822 + 121.2520214833 * t);
-            R2 += 0.00000002993 * Math.cos(3.96957827454 + 9999.986450773 * t);
-            R2 += 0.00000003088 * Math.cos(0.40656113014 + 561.1835344836 * t);
-            R2 += 0.00000002385 * Math.cos(4.74063881551 + 218.7157214094 * t);
-            R2 += 0.00000002632 * Math.cos(1.12706218927 + 344.7030453079 * t);
-            R2 += 0.00000002316 * Math.cos(4.08445262041 + 131.5469622218 * t);
-            R2 += 0.00000002214 * Math.cos(3.37726228553 + 22.0914005278 * t);
-            R2 += 0.00000002129 * Math.cos(3.32497715011 + 358.9301393095 * t);
-            R2 += 0.00000002679 * Math.cos(1.68971401870 + 208.633228992 * t);
-            R2 += 0.00000002607 * Math.cos(5.10250482155 + 824.7421937488 * t);
-            R2 += 0.00000002250 * Math.cos(2.60474848767 + 305.3461693927 * t);
-            R2 += 0.00000002087 * Math.cos(3.37293958793 + 320.3240229197 * t);
-            R2 += 0.00000002693 * Math.cos(3.62159456470 + 436.8931316145 * t);
-            R2 += 0.00000002492 * Math.cos(2.96129217279 + 2214.7430875962 * t);
-            R2 += 0.00000002704 * Math.cos(2.88483697319 + 643.0786800517 * t);
-            R2 += 0.00000002124 * Math.cos(1.61210282593 + 218.9281697305 * t);
-            R2 += 0.00000002037 * Math.cos(4.63481160778 + 188.0263011725 * t);
-            R2 += 0.00000002394 * Math.cos(3.46386258552 + 6275.9623029906 * t);
-            R2 += 0.00000001973 * Math.cos(2.28886138203 + 2627.1141844706 * t);
-            R2 += 0.00000001937 * Math.cos(5.67082364247 + 28.4541880032 * t);
-            R2 += 0.00000001920 * Math.cos(4.25647211328 + 546.956440482 * t);
-            R2 += 0.00000002498 * Math.cos(3.57572154405 + 2420.9286360334 * t);
-            R2 += 0.00000001898 * Math.cos(1.30987536388 + 212.3358875915 * t);
-            R2 += 0.00000001852 * Math.cos(1.58508015515 + 424.1505103212 * t);
-            R2 += 0.00000001850 * Math.cos(3.57830449726 + 329.7251917809 * t);
-            R2 += 0.00000002128 * Math.cos(3.95329215734 + 1795.258443721 * t);
-            R2 += 0.00000002236 * Math.cos(4.22073549375 + 2221.856634597 * t);
-            R2 += 0.00000001933 * Math.cos(1.68771499202 + 350.3321196004 * t);
-            R2 += 0.00000001799 * Math.cos(2.06541260431 + 144.1465711632 * t);
-            R2 += 0.00000001904 * Math.cos(4.60953896857 + 182.279606801 * t);
-            R2 += 0.00000002236 * Math.cos(5.17945392885 + 99.1606209555 * t);
-            R2 += 0.00000001755 * Math.cos(2.73425330428 + 291.262087743 * t);
-            R2 += 0.00000002231 * Math.cos(5.42548168745 + 207.8824694666 * t);
-            R2 += 0.00000001848 * Math.cos(2.24194286719 + 168.0525127994 * t);
-            R2 += 0.00000001726 * Math.cos(1.31878655393 + 219.4494345923 * t);
-            R2 += 0.00000001709 * Math.cos(5.55913931846 + 92.7978334801 * t);
-            R2 += 0.00000001693 * Math.cos(1.95360003617 + 129.9194771616 * t);
-            R2 += 0.00000002064 * Math.cos(4.84900344498 + 1141.1340634054 * t);
-            R2 += 0.00000001758 * Math.cos(5.05088656436 + 214.2623032845 * t);
-            R2 += 0.00000001781 * Math.cos(2.85880153340 + 636.7158925763 * t);
-            R2 += 0.00000001900 * Math.cos(2.90295578617 + 2310.722314814 * t);
-            R2 += 0.00000001759 * Math.cos(5.34657858395 + 45.5766510387 * t);
-            R2 += 0.00000001654 * Math.cos(6.14450664508 + 554.0699874828 * t);
-            R2 += 0.00000001578 * Math.cos(4.50941374663 + 210.3783341312 * t);
-            R2 += 0.00000001681 * Math.cos(3.55136706992 + 1354.4331588434 * t);
-            R2 += 0.00000001862 * Math.cos(3.01276783582 + 2317.8358618148 * t);
-            R2 += 0.00000001589 * Math.cos(1.15773448350 + 235.3904959658 * t);
-            R2 += 0.00000001551 * Math.cos(2.15558953807 + 207.6700211455 * t);
-            R2 += 0.00000001874 * Math.cos(4.12861627986 + 225.8292684102 * t);
-            R2 += 0.00000001621 * Math.cos(3.29992957653 + 1670.82502850 * t);
-            R2 += 0.00000001911 * Math.cos(0.17724319140 + 12.5301729722 * t);
-            R2 += 0.00000001477 * Math.cos(5.90270260570 + 1.4844727083 * t);
-            R2 += 0.00000001618 * Math.cos(5.72513459206 + 1485.9801210652 * t);
-            R2 += 0.00000001446 * Math.cos(1.78104589920 + 1382.8873468466 * t);
-            R2 += 0.00000001683 * Math.cos(3.43534671475 + 2428.0421830342 * t);
-            R2 += 0.00000001542 * Math.cos(5.51223038941 + 204.7010757289 * t);
-            R2 += 0.00000001420 * Math.cos(2.07339356364 + 198.321241911 * t);
-            R2 += 0.00000001444 * Math.cos(5.56032454849 + 128.3655684841 * t);
-            R2 += 0.00000001476 * Math.cos(6.12782257368 + 212.7778305762 * t);
-            R2 += 0.00000001474 * Math.cos(0.33626790634 + 213.8203602998 * t);
-            R2 += 0.00000001428 * Math.cos(3.25039966249 + 945.9942152321 * t);
-            R2 += 0.00000001410 * Math.cos(0.68747644676 + 429.0458714308 * t);
-            R2 += 0.00000001752 * Math.cos(2.70090942746 + 12.7426212933 * t);
-            R2 += 0.00000001681 * Math.cos(4.97526853273 + 2008.557539159 * t);
-            R2 += 0.00000001408 * Math.cos(0.80461100746 + 1585.1407420207 * t);
-            R2 += 0.00000001485 * Math.cos(0.49674043855 + 120.358249606 * t);
-            R2 += 0.00000001490 * Math.cos(2.68459799437 + 207.1487562837 * t);
-            R2 += 0.00000001411 * Math.cos(4.36399216092 + 5863.5912061162 * t);
-            R2 += 0.00000001315 * Math.cos(4.73430848989 + 241.7532834412 * t);
-            R2 += 0.00000001516 * Math.cos(4.99488503706 + 1162.4747044078 * t);
-            R2 += 0.00000001310 * Math.cos(1.98714265058 + 563.6312150384 * t);
-            R2 += 0.00000001286 * Math.cos(2.12891372062 + 251.4321310758 * t);
-            R2 += 0.00000001271 * Math.cos(5.70165238307 + 2.9207613068 * t);
-            R2 += 0.00000001312 * Math.cos(1.68811514551 + 2207.6295405954 * t);
-            R2 += 0.00000001259 * Math.cos(0.35924965717 + 334.5511169213 * t);
-            R2 += 0.00000001252 * Math.cos(2.14513440216 + 1055.4497769261 * t);
-            R2 += 0.00000001401 * Math.cos(6.13250261735 + 1802.3719907218 * t);
-            R2 += 0.00000001343 * Math.cos(5.79995727295 + 9793.8009023358 * t);
-            R2 += 0.00000001228 * Math.cos(3.29059284057 + 661.2379273164 * t);
-            R2 += 0.00000001202 * Math.cos(2.88792018909 + 2413.8150890326 * t);
-            R2 += 0.00000001286 * Math.cos(5.72360160371 + 298.2326223919 * t);
-            R2 += 0.00000001357 * Math.cos(0.93175963411 + 217.491881132 * t);
-            R2 += 0.00000001356 * Math.cos(2.28121627817 + 601.7642506762 * t);
-            R2 += 0.00000001190 * Math.cos(1.94993809928 + 501.3797894433 * t);
-            R2 += 0.00000001304 * Math.cos(0.37337923280 + 3473.1970192218 * t);
-            R2 += 0.00000001350 * Math.cos(2.87235622320 + 142.4496501338 * t);
-            R2 += 0.00000001349 * Math.cos(3.21102203937 + 175.1660598002 * t);
-            R2 += 0.00000001312 * Math.cos(3.70149813509 + 2111.6503133776 * t);
-            R2 += 0.00000001129 * Math.cos(1.08860603834 + 842.1506814881 * t);
-            R2 += 0.00000001237 * Math.cos(0.08698781252 + 526.5095713569 * t);
-            R2 += 0.00000001217 * Math.cos(3.89835349840 + 209.106309744 * t);
-            R2 += 0.00000001467 * Math.cos(1.16228775027 + 621.7380390493 * t);
-            R2 += 0.00000001044 * Math.cos(0.30512759901 + 436.1594184316 * t);
-            R2 += 0.00000001140 * Math.cos(5.33720637097 + 114.1384744825 * t);
-            R2 += 0.00000001295 * Math.cos(4.70261675421 + 9786.687355335 * t);
-            R2 += 0.00000001037 * Math.cos(4.07846687083 + 156.6767441354 * t);
-            R2 += 0.00000001391 * Math.cos(4.73554028436 + 398.1440028728 * t);
-            R2 += 0.00000001167 * Math.cos(5.68899703631 + 479.2883889155 * t);
-            R2 += 0.00000001035 * Math.cos(5.34279429465 + 327.4375699205 * t);
-            R2 += 0.00000000997 * Math.cos(1.19323192891 + 710.7467316182 * t);
-            R2 += 0.00000001193 * Math.cos(5.17722376816 + 98.8999885246 * t);
-            R2 += 0.00000001165 * Math.cos(4.58588490135 + 732.6951197941 * t);
-            R2 += 0.00000001161 * Math.cos(4.90854984994 + 10206.1719992102 * t);
-            R2 += 0.00000001144 * Math.cos(0.50394784140 + 3906.9087570986 * t);
-            R2 += 0.00000001182 * Math.cos(3.69482624364 + 2854.6403739102 * t);
-            R2 += 0.00000000970 * Math.cos(2.89031410383 + 1987.2168981566 * t);
-            R2 += 0.00000001039 * Math.cos(0.48694895443 + 525.4981794006 * t);
-            R2 += 0.00000001079 * Math.cos(3.61750956217 + 2097.423219376 * t);
-            R2 += 0.00000001148 * Math.cos(3.31015591733 + 5856.4776591154 * t);
-            R2 += 0.00000001241 * Math.cos(4.31971543677 + 230.7075831773 * t);
-            R2 += 0.00000000910 * Math.cos(4.59825926062 + 380.12776796 * t);
-            R2 += 0.00000000907 * Math.cos(1.34912454077 + 685.4739373527 * t);
-            R2 += 0.00000001166 * Math.cos(1.61085609717 + 5849.3641121146 * t);
-            R2 += 0.00000000882 * Math.cos(6.12045540405 + 519.3960243561 * t);
-            R2 += 0.00000000963 * Math.cos(4.96065454054 + 699.7010313543 * t);
-            R2 += 0.00000001062 * Math.cos(5.13323858077 + 2751.5475996916 * t);
-            R2 += 0.00000000865 * Math.cos(6.12821112133 + 245.5424243524 * t);
-            R2 += 0.00000001100 * Math.cos(2.18435744407 + 1699.2792165032 * t);
-            R2 += 0.00000000822 * Math.cos(5.55083534581 + 739.0579072695 * t);
-            R2 += 0.00000000926 * Math.cos(2.01158276144 + 417.0369633204 * t);
-            R2 += 0.00000000813 * Math.cos(5.18401872205 + 214.7835681463 * t);
-            R2 += 0.00000001033 * Math.cos(5.48677848094 + 3995.7744373156 * t);
-            R2 += 0.00000000872 * Math.cos(3.02363724703 + 306.0969289181 * t);
-            R2 += 0.00000000796 * Math.cos(0.44343664540 + 486.4019359163 * t);
-            R2 += 0.00000000878 * Math.cos(1.82164034386 + 135.336103133 * t);
-            R2 += 0.00000000791 * Math.cos(2.14989417962 + 2620.0006374698 * t);
-            R2 += 0.00000000881 * Math.cos(2.39697554334 + 289.5651667136 * t);
-            R2 += 0.00000000782 * Math.cos(4.50471317138 + 980.6681783588 * t);
-            R2 += 0.00000000783 * Math.cos(1.14229319753 + 540.7366653585 * t);
-            R2 += 0.00000000831 * Math.cos(0.69937251013 + 421.93232443 * t);
-            R2 += 0.00000000770 * Math.cos(2.40292326155 + 576.1613880106 * t);
-            R2 += 0.00000000950 * Math.cos(5.97621460162 + 196.6243208816 * t);
-            R2 += 0.00000000814 * Math.cos(4.19303098086 + 831.1049812242 * t);
-            R2 += 0.00000000969 * Math.cos(4.78071024754 + 326.6868103951 * t);
-            R2 += 0.00000000760 * Math.cos(0.44860533530 + 425.6349830295 * t);
-            R2 += 0.00000000907 * Math.cos(0.94781730418 + 525.7588118315 * t);
-            R2 += 0.00000000788 * Math.cos(0.14287187051 + 916.9322800554 * t);
-            R2 += 0.00000000801 * Math.cos(1.86383119100 + 3039.485281345 * t);
-            R2 += 0.00000000801 * Math.cos(0.46947170994 + 3466.083472221 * t);
-            R2 += 0.00000000747 * Math.cos(6.05374861925 + 211.8146227297 * t);
-            R2 += 0.00000000968 * Math.cos(3.02618272726 + 2634.2277314714 * t);
-            R2 += 0.00000000739 * Math.cos(2.27110740297 + 2303.6087678132 * t);
-            R2 += 0.00000000750 * Math.cos(5.48554383902 + 173.9422195228 * t);
-            R2 += 0.00000001024 * Math.cos(1.91564925560 + 229.9738699944 * t);
-            R2 += 0.00000000816 * Math.cos(4.98990432666 + 4209.0735327536 * t);
-            R2 += 0.00000000728 * Math.cos(1.30997967935 + 511.5317178299 * t);
-            R2 += 0.00000000716 * Math.cos(3.74192651696 + 3053.7123753466 * t);
-            R2 += 0.00000000727 * Math.cos(0.39191881243 + 1493.093668066 * t);
-            R2 += 0.00000000717 * Math.cos(2.68899513085 + 228.276948965 * t);
-            R2 += 0.00000000739 * Math.cos(2.12749199443 + 1176.7017984094 * t);
-            R2 += 0.00000000805 * Math.cos(0.07187193910 + 556.5176680376 * t);
-            R2 += 0.00000000835 * Math.cos(3.48287855700 + 84.9335269539 * t);
-            R2 += 0.00000000790 * Math.cos(0.48073040004 + 4017.115078318 * t);
-            R2 += 0.00000000725 * Math.cos(1.96643065215 + 220.4608265486 * t);
-            R2 += 0.00000000683 * Math.cos(2.68825142163 + 151.0476698429 * t);
-            R2 += 0.00000000739 * Math.cos(3.33688408107 + 953.1077622329 * t);
-            R2 += 0.00000000745 * Math.cos(6.22304530635 + 1269.4996318895 * t);
-        }
-        return R2 * t * t;
-    }
-
-    public double R3(double t) // 157 terms of order 3
-    {
-        double R3 = 0;
-        R3 += 0.00020315005 * Math.cos(3.02186626038 + 213.299095438 * t);
-        R3 += 0.00008923581 * Math.cos(3.19144205755 + 220.4126424388 * t);
-        R3 += 0.00006908677 * Math.cos(4.35174889353 + 206.1855484372 * t);
-        R3 += 0.00004087129 * Math.cos(4.22406927376 + 7.1135470008 * t);
-        R3 += 0.00003879041 * Math.cos(2.01056445995 + 426.598190876 * t);
-        R3 += 0.00001070788 * Math.cos(4.20360341236 + 199.0720014364 * t);
-        R3 += 0.00000907332 * Math.cos(2.28344368029 + 433.7117378768 * t);
-        R3 += 0.00000606121 * Math.cos(3.17458570534 + 227.5261894396 * t);
-        R3 += 0.00000596639 * Math.cos(4.13455753351 + 14.2270940016 * t);
-        R3 += 0.00000483181 * Math.cos(1.17345973258 + 639.897286314 * t);
-        R3 += 0.00000393174;
-        R3 += 0.00000229472 * Math.cos(4.69838526383 + 419.4846438752 * t);
-        R3 += 0.00000188250 * Math.cos(4.59003889007 + 110.2063212194 * t);
-        R3 += 0.00000149508 * Math.cos(3.20199444400 + 103.0927742186 * t);
-        R3 += 0.00000121442 * Math.cos(3.76831374104 + 323.5054166574 * t);
-        R3 += 0.00000101215 * Math.cos(5.81884137755 + 412.3710968744 * t);
-        R3 += 0.00000102146 * Math.cos(4.70974422803 + 95.9792272178 * t);
-        R3 += 0.00000093078 * Math.cos(1.43531270909 + 647.0108333148 * t);
-        R3 += 0.00000072601 * Math.cos(4.15395598507 + 117.3198682202 * t);
-        R3 += 0.00000084347 * Math.cos(2.63462379693 + 216.4804891757 * t);
-        R3 += 0.00000062198 * Math.cos(2.31239345505 + 440.8252848776 * t);
-        R3 += 0.00000045145 * Math.cos(4.37317047297 + 191.9584544356 * t);
-        R3 += 0.00000049536 * Math.cos(2.38854232908 + 209.3669421749 * t);
-        R3 += 0.00000054829 * Math.cos(0.30526468471 + 853.196381752 * t);
-        R3 += 0.00000040498 * Math.cos(1.83836569765 + 302.164775655 * t);
-        R3 += 0.00000038089 * Math.cos(5.94455115525 + 88.865680217 * t);
-        R3 += 0.00000032243 * Math.cos(4.01146349387 + 21.3406410024 * t);
-        R3 += 0.00000040671 * Math.cos(0.68845183210 + 522.5774180938 * t);
-        R3 += 0.00000028209 * Math.cos(5.77193013961 + 210.1177017003 * t);
-        R3 += 0.00000024976 * Math.cos(3.06249709014 + 234.6397364404 * t);
-        R3 += 0.00000020824 * Math.cos(4.92570695678 + 625.6701923124 * t);
-        R3 += 0.00000025070 * Math.cos(0.73137425284 + 515.463871093 * t);
-        if (highAccuracy) {
-            R3 += 0.00000017485 * Math.cos(5.73135068691 + 728.762966531 * t);
-            R3 += 0.00000018009 * Math.cos(1.45593152612 + 309.2783226558 * t);
-            R3 += 0.00000016927 * Math.cos(3.52771580455 + 3.1813937377 * t);
-            R3 += 0.00000013437 * Math.cos(3.36479898106 + 330.6189636582 * t);
-            R3 += 0.00000011090 * Math.cos(3.37212682914 + 224.3447957019 * t);
-            R3 += 0.00000011082 * Math.cos(3.41719974793 + 956.2891559706 * t);
-            R3 += 0.00000009978 * Math.cos(1.58791582772 + 202.2533951741 * t);
-            R3 += 0.00000011551 * Math.cos(5.99093726182 + 735.8765135318 * t);
-            R3 += 0.00000010500 * Math.cos(6.06911092266 + 405.2575498736 * t);
-            R3 += 0.00000009144 * Math.cos(2.93557421591 + 124.433415221 * t);
-            R3 += 0.00000008737 * Math.cos(4.65432480769 + 632.7837393132 * t);
-            R3 += 0.00000010023 * Math.cos(0.58247011625 + 860.3099287528 * t);
-            R3 += 0.00000007482 * Math.cos(4.50669216436 + 942.062061969 * t);
-            R3 += 0.00000010091 * Math.cos(0.28268774007 + 838.9692877504 * t);
-            R3 += 0.00000009243 * Math.cos(2.57034547708 + 223.5940361765 * t);
-            R3 += 0.00000008652 * Math.cos(1.75808100881 + 429.7795846137 * t);
-            R3 += 0.00000007564 * Math.cos(1.45635107202 + 654.1243803156 * t);
-            R3 += 0.00000007058 * Math.cos(5.47394786065 + 1045.1548361876 * t);
-            R3 += 0.00000006970 * Math.cos(1.51811695028 + 422.6660376129 * t);
-            R3 += 0.00000008067 * Math.cos(4.48457709292 + 742.9900605326 * t);
-            R3 += 0.00000006817 * Math.cos(4.83084424818 + 316.3918696566 * t);
-            R3 += 0.00000007693 * Math.cos(0.43769724671 + 831.8557407496 * t);
-            R3 += 0.00000007934 * Math.cos(4.20112367712 + 195.1398481733 * t);
-            R3 += 0.00000006119 * Math.cos(2.33960392135 + 269.9214467406 * t);
-            R3 += 0.00000005589 * Math.cos(1.14518720694 + 284.1485407422 * t);
-            R3 += 0.00000005564 * Math.cos(4.18123189068 + 529.6909650946 * t);
-            R3 += 0.00000005034 * Math.cos(2.12020038657 + 295.0512286542 * t);
-            R3 += 0.00000006556 * Math.cos(3.42459866876 + 10.2949407385 * t);
-            R3 += 0.00000005544 * Math.cos(2.46823271699 + 536.8045120954 * t);
-            R3 += 0.00000006189 * Math.cos(6.01433827520 + 1066.49547719 * t);
-            R3 += 0.00000005649 * Math.cos(0.82784598388 + 217.2312487011 * t);
-            R3 += 0.00000004264 * Math.cos(3.23245736673 + 1272.6810256272 * t);
-            R3 += 0.00000004450 * Math.cos(0.92477808590 + 203.0041546995 * t);
-            R3 += 0.00000003268 * Math.cos(4.32777516976 + 1258.4539316256 * t);
-            R3 += 0.00000003655 * Math.cos(0.05832123987 + 81.7521332162 * t);
-            R3 += 0.00000003951 * Math.cos(0.11124996745 + 1155.361157407 * t);
-            R3 += 0.00000003773 * Math.cos(6.01157059552 + 1052.2683831884 * t);
-            R3 += 0.00000002915 * Math.cos(5.64342950039 + 3.9321532631 * t);
-            R3 += 0.00000003019 * Math.cos(2.19411778004 + 447.9388318784 * t);
-            R3 += 0.00000002977 * Math.cos(1.89387342550 + 149.5631971346 * t);
-            R3 += 0.00000003146 * Math.cos(0.19215180096 + 1148.2476104062 * t);
-            R3 += 0.00000002763 * Math.cos(0.92363342001 + 508.3503240922 * t);
-            R3 += 0.00000002790 * Math.cos(4.97199778427 + 1677.9385755008 * t);
-            R3 += 0.00000002608 * Math.cos(2.99591016813 + 1589.0728952838 * t);
-            R3 += 0.00000002881 * Math.cos(5.40535671721 + 1361.5467058442 * t);
-            R3 += 0.00000002337 * Math.cos(1.30362271569 + 184.8449074348 * t);
-            R3 += 0.00000002536 * Math.cos(3.71412120849 + 408.4389436113 * t);
-            R3 += 0.00000002450 * Math.cos(3.22118361135 + 319.5732633943 * t);
-            R3 += 0.00000002585 * Math.cos(2.31346415454 + 543.9180590962 * t);
-            R3 += 0.00000002324 * Math.cos(5.87500715503 + 721.6494195302 * t);
-            R3 += 0.00000001990 * Math.cos(0.51565577383 + 416.3032501375 * t);
-            R3 += 0.00000002490 * Math.cos(4.24017800021 + 1059.3819301892 * t);
-            R3 += 0.00000001935 * Math.cos(2.41463084855 + 337.732510659 * t);
-            R3 += 0.00000001886 * Math.cos(0.53809070779 + 635.9651330509 * t);
-            R3 += 0.00000001893 * Math.cos(5.62352727352 + 11.0457002639 * t);
-            R3 += 0.00000002389 * Math.cos(5.73399981234 + 313.2104759189 * t);
-            R3 += 0.00000001900 * Math.cos(2.41000566465 + 131.5469622218 * t);
-            R3 += 0.00000001743 * Math.cos(4.57646237847 + 1994.3304451574 * t);
-            R3 += 0.00000001913 * Math.cos(5.17436386408 + 2854.6403739102 * t);
-            R3 += 0.00000001946 * Math.cos(6.23355845623 + 1471.7530270636 * t);
-            R3 += 0.00000001963 * Math.cos(6.17814558628 + 1464.6394800628 * t);
-            R3 += 0.00000001838 * Math.cos(5.59464577559 + 1038.0412891868 * t);
-            R3 += 0.00000001541 * Math.cos(0.60765337379 + 210.8514148832 * t);
-            R3 += 0.00000001617 * Math.cos(1.75479346067 + 195.8906076987 * t);
-            R3 += 0.00000001577 * Math.cos(0.55789908488 + 2324.9494088156 * t);
-            R3 += 0.00000001492 * Math.cos(0.26624235633 + 497.4476361802 * t);
-            R3 += 0.00000001659 * Math.cos(2.57526072926 + 2090.3096723752 * t);
-            R3 += 0.00000001809 * Math.cos(1.82317819973 + 436.8931316145 * t);
-            R3 += 0.00000001566 * Math.cos(6.15328100324 + 490.3340891794 * t);
-            R3 += 0.00000001771 * Math.cos(6.11741716855 + 1073.6090241908 * t);
-            R3 += 0.00000001456 * Math.cos(0.85374460914 + 415.5524906121 * t);
-            R3 += 0.00000001645 * Math.cos(2.95335775161 + 437.6438911399 * t);
-            R3 += 0.00000001391 * Math.cos(4.12025028560 + 1574.8458012822 * t);
-            R3 += 0.00000001585 * Math.cos(5.96841377266 + 1781.0313497194 * t);
-            R3 += 0.00000001507 * Math.cos(3.84895122542 + 1251.3403846248 * t);
-            R3 += 0.00000001442 * Math.cos(5.32547705924 + 2538.2485042536 * t);
-            R3 += 0.00000001805 * Math.cos(1.50973093681 + 750.1036075334 * t);
-            R3 += 0.00000001462 * Math.cos(3.28599831588 + 1884.124123938 * t);
-            R3 += 0.00000001482 * Math.cos(0.99340744053 + 643.0786800517 * t);
-            R3 += 0.00000001312 * Math.cos(3.79347668996 + 1567.7322542814 * t);
-            R3 += 0.00000001665 * Math.cos(0.02551523913 + 423.4167971383 * t);
-            R3 += 0.00000001469 * Math.cos(5.35285153471 + 1354.4331588434 * t);
-            R3 += 0.00000001352 * Math.cos(0.69945139243 + 867.4234757536 * t);
-            R3 += 0.00000001124 * Math.cos(1.79624810407 + 618.5566453116 * t);
-            R3 += 0.00000001126 * Math.cos(4.70052329245 + 113.3877149571 * t);
-            R3 += 0.00000001122 * Math.cos(3.95537224270 + 1891.2376709388 * t);
-            R3 += 0.00000001458 * Math.cos(1.50198846753 + 430.5303441391 * t);
-            R3 += 0.00000001145 * Math.cos(5.13093399117 + 25.2727942655 * t);
-            R3 += 0.00000001178 * Math.cos(2.97062300389 + 241.7532834412 * t);
-            R3 += 0.00000001274 * Math.cos(2.29089799814 + 2420.9286360334 * t);
-            R3 += 0.00000001071 * Math.cos(0.04888943982 + 63.7358983034 * t);
-            R3 += 0.00000001377 * Math.cos(5.58271514873 + 1382.8873468466 * t);
-            R3 += 0.00000001145 * Math.cos(3.10797488346 + 2200.5159935946 * t);
-            R3 += 0.00000001076 * Math.cos(0.79465514815 + 127.4717966068 * t);
-            R3 += 0.00000001046 * Math.cos(5.85060227045 + 215.7467759928 * t);
-            R3 += 0.00000001082 * Math.cos(3.72589445510 + 131.4039498699 * t);
-            R3 += 0.00000001218 * Math.cos(0.47504349592 + 824.7421937488 * t);
-            R3 += 0.00000001116 * Math.cos(3.78039049056 + 1375.7737998458 * t);
-            R3 += 0.00000000969 * Math.cos(5.90752273481 + 265.9892934775 * t);
-            R3 += 0.00000001230 * Math.cos(1.41325962069 + 2634.2277314714 * t);
-            R3 += 0.00000001070 * Math.cos(4.80334493874 + 1987.2168981566 * t);
-            R3 += 0.00000000946 * Math.cos(6.25968535931 + 2015.6710861598 * t);
-            R3 += 0.00000001030 * Math.cos(1.08973644893 + 362.8622925726 * t);
-            R3 += 0.00000001072 * Math.cos(5.41838042079 + 1279.794572628 * t);
-            R3 += 0.00000000880 * Math.cos(1.92224908504 + 483.2205421786 * t);
-            R3 += 0.00000000878 * Math.cos(2.96591300878 + 934.9485149682 * t);
-            R3 += 0.00000000879 * Math.cos(2.65659265685 + 145.6310438715 * t);
-            R3 += 0.00000000872 * Math.cos(6.26261969664 + 2.4476805548 * t);
-            R3 += 0.00000001082 * Math.cos(4.48298283322 + 2214.7430875962 * t);
-            R3 += 0.00000000959 * Math.cos(0.74479087918 + 16.6747745564 * t);
-            R3 += 0.00000001035 * Math.cos(4.05664979327 + 231.4583427027 * t);
-            R3 += 0.00000000851 * Math.cos(0.09360495322 + 628.8515860501 * t);
-            R3 += 0.00000000888 * Math.cos(5.98816755324 + 2524.021410252 * t);
-            R3 += 0.00000000866 * Math.cos(3.16259265630 + 2207.6295405954 * t);
-            R3 += 0.00000000843 * Math.cos(1.23731248821 + 74.7815985673 * t);
-            R3 += 0.00000000809 * Math.cos(2.89742868175 + 2008.557539159 * t);
-            R3 += 0.00000000779 * Math.cos(2.28434811609 + 1478.8665740644 * t);
-            R3 += 0.00000000990 * Math.cos(5.32604038017 + 2428.0421830342 * t);
-            R3 += 0.00000000795 * Math.cos(2.38178135810 + 2228.9701815978 * t);
-            R3 += 0.00000000765 * Math.cos(4.70033674940 + 1670.82502850 * t);
-            R3 += 0.00000001024 * Math.cos(4.23352869513 + 1802.3719907218 * t);
-            R3 += 0.00000000831 * Math.cos(5.87457134912 + 1368.660252845 * t);
-            R3 += 0.00000000717 * Math.cos(5.92144324994 + 1685.0521225016 * t);
-            R3 += 0.00000000772 * Math.cos(1.15596098579 + 3053.7123753466 * t);
-            R3 += 0.00000000691 * Math.cos(3.13193109668 + 56.6223513026 * t);
-        }
-        return R3 * t * t * t;
-    }
-
-    public double R4(double t) // 64 terms of order 4
-    {
-        double R4 = 0;
-        R4 += 0.00001202050 * Math.cos(1.41499446465 + 220.4126424388 * t);
-        R4 += 0.00000707796 * Math.cos(1.16153570102 + 213.299095438 * t);
-        R4 += 0.00000516121 * Math.cos(6.23973568330 + 206.1855484372 * t);
-        R4 += 0.00000426664 * Math.cos(2.46924890293 + 7.1135470008 * t);
-        R4 += 0.00000267736 * Math.cos(0.18659206741 + 426.598190876 * t);
-        R4 += 0.00000170171 * Math.cos(5.95926972384 + 199.0720014364 * t);
-        R4 += 0.00000145113 * Math.cos(1.44211060143 + 227.5261894396 * t);
-        R4 += 0.00000150339 * Math.cos(0.47970167140 + 433.7117378768 * t);
-        R4 += 0.00000121033 * Math.cos(2.40527320817 + 14.2270940016 * t);
-        R4 += 0.00000047332 * Math.cos(5.56857488676 + 639.897286314 * t);
-        R4 += 0.00000015745 * Math.cos(2.90112466278 + 110.2063212194 * t);
-        R4 += 0.00000016668 * Math.cos(0.52920774279 + 440.8252848776 * t);
-        R4 += 0.00000018954 * Math.cos(5.85626429118 + 647.0108333148 * t);
-        R4 += 0.00000014074 * Math.cos(1.30343550656 + 412.3710968744 * t);
-        R4 += 0.00000012708 * Math.cos(2.09349305926 + 323.5054166574 * t);
-        R4 += 0.00000014724 * Math.cos(0.29905316786 + 419.4846438752 * t);
-        R4 += 0.00000011133 * Math.cos(2.46304825990 + 117.3198682202 * t);
-        R4 += 0.00000011320 * Math.cos(0.21785507019 + 95.9792272178 * t);
-        R4 += 0.00000009233 * Math.cos(2.28127318068 + 21.3406410024 * t);
-        R4 += 0.00000009246 * Math.cos(1.56496312830 + 88.865680217 * t);
-        R4 += 0.00000008970 * Math.cos(0.68301278041 + 216.4804891757 * t);
-        R4 += 0.00000007674 * Math.cos(3.59367715368 + 302.164775655 * t);
-        R4 += 0.00000007823 * Math.cos(4.48688804175 + 853.196381752 * t);
-        R4 += 0.00000008360 * Math.cos(1.27239488455 + 234.6397364404 * t);
-        if (highAccuracy) {
-            R4 -= 0.00000009552;
-            R4 += 0.00000004834 * Math.cos(2.58836294602 + 515.463871093 * t);
-            R4 += 0.00000006059 * Math.cos(5.16774448740 + 103.0927742186 * t);
-            R4 += 0.00000004410 * Math.cos(0.02211643085 + 191.9584544356 * t);
-            R4 += 0.00000004364 * Math.cos(1.59622746023 + 330.6189636582 * t);
-            R4 += 0.00000003676 * Math.cos(3.29899839673 + 210.1177017003 * t);
-            R4 += 0.00000004364 * Math.cos(5.97349927933 + 654.1243803156 * t);
-            R4 += 0.00000004447 * Math.cos(4.97415112184 + 860.3099287528 * t);
-            R4 += 0.00000003220 * Math.cos(2.72684237392 + 522.5774180938 * t);
-            R4 += 0.00000004005 * Math.cos(1.59858435636 + 405.2575498736 * t);
-            R4 += 0.00000003099 * Math.cos(0.75235436533 + 209.3669421749 * t);
-            R4 += 0.00000002464 * Math.cos(1.19167306488 + 124.433415221 * t);
-            R4 += 0.00000003088 * Math.cos(1.32258934286 + 728.762966531 * t);
-            R4 += 0.00000002220 * Math.cos(3.28087994088 + 203.0041546995 * t);
-            R4 += 0.00000002127 * Math.cos(6.14648095022 + 429.7795846137 * t);
-            R4 += 0.00000002110 * Math.cos(0.75462855247 + 295.0512286542 * t);
-            R4 += 0.00000002020 * Math.cos(3.89394929749 + 1066.49547719 * t);
-            R4 += 0.00000002248 * Math.cos(0.49319150178 + 447.9388318784 * t);
-            R4 += 0.00000002180 * Math.cos(0.72761059998 + 625.6701923124 * t);
-            R4 += 0.00000001809 * Math.cos(0.09057839517 + 942.062061969 * t);
-            R4 += 0.00000001672 * Math.cos(1.39635398184 + 224.3447957019 * t);
-            R4 += 0.00000001641 * Math.cos(3.02468307550 + 184.8449074348 * t);
-            R4 += 0.00000001772 * Math.cos(0.81879250825 + 223.5940361765 * t);
-            R4 += 0.00000001902 * Math.cos(2.00472814984 + 831.8557407496 * t);
-            R4 += 0.00000001600 * Math.cos(5.41185167676 + 824.7421937488 * t);
-            R4 += 0.00000001505 * Math.cos(5.95520747253 + 422.6660376129 * t);
-            R4 += 0.00000001133 * Math.cos(1.11512973946 + 838.9692877504 * t);
-            R4 += 0.00000001190 * Math.cos(1.89600567803 + 956.2891559706 * t);
-            R4 += 0.00000001487 * Math.cos(2.11906469507 + 529.6909650946 * t);
-            R4 += 0.00000001409 * Math.cos(0.72254420236 + 536.8045120954 * t);
-            R4 += 0.00000001125 * Math.cos(0.89062692183 + 721.6494195302 * t);
-            R4 += 0.00000001301 * Math.cos(1.64867038984 + 17.4084877393 * t);
-            R4 += 0.00000001164 * Math.cos(5.96957981840 + 195.1398481733 * t);
-            R4 += 0.00000000950 * Math.cos(5.36080713290 + 316.3918696566 * t);
-            R4 += 0.00000000985 * Math.cos(3.05768671768 + 1574.8458012822 * t);
-            R4 += 0.00000001050 * Math.cos(1.59202481523 + 735.8765135318 * t);
-            R4 += 0.00000000817 * Math.cos(4.92838813598 + 56.6223513026 * t);
-            R4 += 0.00000000780 * Math.cos(2.72125404102 + 508.3503240922 * t);
-            R4 += 0.00000000969 * Math.cos(1.00708261792 + 1045.1548361876 * t);
-            R4 += 0.00000000716 * Math.cos(1.11042181341 + 1169.5882514086 * t);
-        }
-        return R4 * t * t * t * t;
-    }
-
-    public double R5(double t) // 28 terms of order 5
-    {
-        double R5 = 0;
-        R5 += 0.00000128612 * Math.cos(5.91282565136 + 220.4126424388 * t);
-        R5 += 0.00000032273 * Math.cos(0.69256228602 + 7.1135470008 * t);
-        R5 += 0.00000026698 * Math.cos(5.91428528629 + 227.5261894396 * t);
-        R5 += 0.00000019923 * Math.cos(0.67370653385 + 14.2270940016 * t);
-        R5 += 0.00000020223 * Math.cos(4.95136801768 + 433.7117378768 * t);
-        R5 += 0.00000013537 * Math.cos(1.45669521408 + 199.0720014364 * t);
-        R5 += 0.00000014097 * Math.cos(2.67074280191 + 206.1855484372 * t);
-        if (highAccuracy) {
-            R5 += 0.00000013364 * Math.cos(4.58826996370 + 426.598190876 * t);
-            R5 += 0.00000007257 * Math.cos(4.62966127155 + 213.299095438 * t);
-            R5 += 0.00000004876 * Math.cos(3.61448275002 + 639.897286314 * t);
-            R5 += 0.00000003136 * Math.cos(4.65661021909 + 191.9584544356 * t);
-            R5 += 0.00000002917 * Math.cos(0.48665273315 + 323.5054166574 * t);
-            R5 += 0.00000003759 * Math.cos(4.89624165044 + 440.8252848776 * t);
-            R5 += 0.00000003303 * Math.cos(4.07190859545 + 647.0108333148 * t);
-            R5 += 0.00000002883 * Math.cos(3.18003019204 + 419.4846438752 * t);
-            R5 += 0.00000002338 * Math.cos(3.69553554327 + 88.865680217 * t);
-            R5 += 0.00000001950 * Math.cos(5.32729247780 + 302.164775655 * t);
-            R5 += 0.00000002052 * Math.cos(3.31663577368 + 95.9792272178 * t);
-            R5 += 0.00000001591 * Math.cos(2.67009215574 + 853.196381752 * t);
-            R5 += 0.00000002028 * Math.cos(0.56025552769 + 117.3198682202 * t);
-            R5 += 0.00000001560 * Math.cos(0.85608042681 + 515.463871093 * t);
-            R5 += 0.00000001678;
-            R5 += 0.00000001102 * Math.cos(5.98011943842 + 3.1813937377 * t);
-            R5 += 0.00000001285 * Math.cos(5.82563377753 + 234.6397364404 * t);
-            R5 += 0.00000000896 * Math.cos(5.22791858719 + 216.4804891757 * t);
-            R5 += 0.00000001141 * Math.cos(0.15741228205 + 412.3710968744 * t);
-            R5 += 0.00000000798 * Math.cos(0.37452846153 + 28.4541880032 * t);
-            R5 += 0.00000000837 * Math.cos(5.04769794123 + 124.433415221 * t);
-        }
-        return R5 * t * t * t * t * t;
-    }
-
 }
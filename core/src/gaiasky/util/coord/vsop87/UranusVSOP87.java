@@ -5,4150 +5,12 @@
 
 package gaiasky.util.coord.vsop87;
 
+/**
+ * VSOP87 (version D) coordinates of Uranus. The coefficients are in <code>data/vsop87/uranus.txt</code>.
+ */
 public class UranusVSOP87 extends AbstractVSOP87 {
     public UranusVSOP87() {
-        super();
-    }
-
-    /*
-     *
-     * URANUS - VSOP87 Series Version D HELIOCENTRIC DYNAMICAL ECLIPTIC AND
-     * EQUINOX OF THE DATE Spherical (L,B,R) Coordinates
-     *
-     * Series Validity Span: 4000 BC < Date < 8000 AD Theoretical accuracy over
-     * span: ±1 arc sec
-     *
-     * L = Longitude in radians B = Latitude in radians R = Radius vector in AU
-     * (Astronomical Units)
-     *
-     * t = (JD - 2451545) / 365250
-     *
-     *
-     * Java Programming Language
-     *
-     * VSOP87 Functions Source Code Generated By The VSOP87 Source Code
-     * Generator Tool (c) Jay Tanner 2014
-     *
-     * Ref: Planetary Theories in Rectangular and Spherical Variables VSOP87
-     * Solutions Pierre Bretagnon, Gerard Francou Journal of Astronomy &
-     * Astrophysics vol. 202, p309-p315 1988
-     *
-     * Source code provided under the provisions of the GNU Affero General
-     * Public License, version 3. https://www.gnu.org/licenses/agpl.html
-     *
-     */
-
-    public double L0(double t) // 947 terms of order 0
-    {
-        double L0 = 0;
-        L0 += 5.48129294299;
-        L0 += 0.09260408252 * Math.cos(0.89106421530 + 74.7815985673 * t);
-        L0 += 0.01504247826 * Math.cos(3.62719262195 + 1.4844727083 * t);
-        L0 += 0.00365981718 * Math.cos(1.89962189068 + 73.297125859 * t);
-        L0 += 0.00272328132 * Math.cos(3.35823710524 + 149.5631971346 * t);
-        L0 += 0.00070328499 * Math.cos(5.39254431993 + 63.7358983034 * t);
-        L0 += 0.00068892609 * Math.cos(6.09292489045 + 76.2660712756 * t);
-        L0 += 0.00061998592 * Math.cos(2.26952040469 + 2.9689454166 * t);
-        L0 += 0.00061950714 * Math.cos(2.85098907565 + 11.0457002639 * t);
-        L0 += 0.00026468869 * Math.cos(3.14152087888 + 71.8126531507 * t);
-        L0 += 0.00025710505 * Math.cos(6.11379842935 + 454.9093665273 * t);
-        L0 += 0.00021078897 * Math.cos(4.36059465144 + 148.0787244263 * t);
-        L0 += 0.00017818665 * Math.cos(1.74436982544 + 36.6485629295 * t);
-        L0 += 0.00014613471 * Math.cos(4.73732047977 + 3.9321532631 * t);
-        L0 += 0.00011162535 * Math.cos(5.82681993692 + 224.3447957019 * t);
-        L0 += 0.00010997934 * Math.cos(0.48865493179 + 138.5174968707 * t);
-        L0 += 0.00009527487 * Math.cos(2.95516893093 + 35.1640902212 * t);
-        L0 += 0.00007545543 * Math.cos(5.23626440666 + 109.9456887885 * t);
-        L0 += 0.00004220170 * Math.cos(3.23328535514 + 70.8494453042 * t);
-        L0 += 0.00004051850 * Math.cos(2.27754158724 + 151.0476698429 * t);
-        L0 += 0.00003354607 * Math.cos(1.06549008887 + 4.4534181249 * t);
-        L0 += 0.00002926671 * Math.cos(4.62903695486 + 9.5612275556 * t);
-        L0 += 0.00003490352 * Math.cos(5.48305567292 + 146.594251718 * t);
-        L0 += 0.00003144093 * Math.cos(4.75199307603 + 77.7505439839 * t);
-        L0 += 0.00002922410 * Math.cos(5.35236743380 + 85.8272988312 * t);
-        L0 += 0.00002272790 * Math.cos(4.36600802756 + 70.3281804424 * t);
-        L0 += 0.00002051209 * Math.cos(1.51773563459 + 0.1118745846 * t);
-        L0 += 0.00002148599 * Math.cos(0.60745800902 + 38.1330356378 * t);
-        L0 += 0.00001991726 * Math.cos(4.92437290826 + 277.0349937414 * t);
-        L0 += 0.00001376208 * Math.cos(2.04281409054 + 65.2203710117 * t);
-        L0 += 0.00001666910 * Math.cos(3.62744580852 + 380.12776796 * t);
-        L0 += 0.00001284183 * Math.cos(3.11346336879 + 202.2533951741 * t);
-        L0 += 0.00001150416 * Math.cos(0.93344454002 + 3.1813937377 * t);
-        L0 += 0.00001533223 * Math.cos(2.58593414266 + 52.6901980395 * t);
-        L0 += 0.00001281641 * Math.cos(0.54269869505 + 222.8603229936 * t);
-        L0 += 0.00001372100 * Math.cos(4.19641615561 + 111.4301614968 * t);
-        L0 += 0.00001220998 * Math.cos(0.19901396193 + 108.4612160802 * t);
-        L0 += 0.00000946195 * Math.cos(1.19249463066 + 127.4717966068 * t);
-        L0 += 0.00001150993 * Math.cos(4.17898207045 + 33.6796175129 * t);
-        L0 += 0.00001244342 * Math.cos(0.91612680579 + 2.4476805548 * t);
-        L0 += 0.00001072008 * Math.cos(0.23564502877 + 62.2514255951 * t);
-        L0 += 0.00001090461 * Math.cos(1.77501638912 + 12.5301729722 * t);
-        L0 += 0.00000707875 * Math.cos(5.18285226584 + 213.299095438 * t);
-        L0 += 0.00000653401 * Math.cos(0.96586909116 + 78.7137518304 * t);
-        L0 += 0.00000627562 * Math.cos(0.18210181975 + 984.6003316219 * t);
-        L0 += 0.00000524495 * Math.cos(2.01276706996 + 299.1263942692 * t);
-        L0 += 0.00000559370 * Math.cos(3.35776737704 + 0.5212648618 * t);
-        L0 += 0.00000606827 * Math.cos(5.43209728952 + 529.6909650946 * t);
-        L0 += 0.00000404891 * Math.cos(5.98689011389 + 8.0767548473 * t);
-        L0 += 0.00000467211 * Math.cos(0.41484068933 + 145.1097790097 * t);
-        L0 += 0.00000471288 * Math.cos(1.40664336447 + 184.7272873558 * t);
-        L0 += 0.00000483219 * Math.cos(2.10553990154 + 0.9632078465 * t);
-        L0 += 0.00000395614 * Math.cos(5.87039580949 + 351.8165923087 * t);
-        L0 += 0.00000433532 * Math.cos(5.52142978255 + 183.2428146475 * t);
-        L0 += 0.00000309885 * Math.cos(5.83301304674 + 145.6310438715 * t);
-        L0 += 0.00000378609 * Math.cos(2.34975805006 + 56.6223513026 * t);
-        L0 += 0.00000398996 * Math.cos(0.33810765436 + 415.5524906121 * t);
-        L0 += 0.00000300379 * Math.cos(5.64353974146 + 22.0914005278 * t);
-        L0 += 0.00000249229 * Math.cos(4.74617120584 + 225.8292684102 * t);
-        L0 += 0.00000239334 * Math.cos(2.35045874708 + 137.0330241624 * t);
-        L0 += 0.00000294172 * Math.cos(5.83916826225 + 39.6175083461 * t);
-        L0 += 0.00000216480 * Math.cos(4.77847481363 + 340.7708920448 * t);
-        L0 += 0.00000251792 * Math.cos(1.63696775578 + 221.3758502853 * t);
-        L0 += 0.00000219621 * Math.cos(1.92212987979 + 67.6680515665 * t);
-        L0 += 0.00000201963 * Math.cos(1.29693040865 + 0.0481841098 * t);
-        L0 += 0.00000224097 * Math.cos(0.51574863468 + 84.3428261229 * t);
-        L0 += 0.00000216549 * Math.cos(6.14211862702 + 5.9378908332 * t);
-        L0 += 0.00000222588 * Math.cos(2.84309380331 + 0.2606324309 * t);
-        L0 += 0.00000207828 * Math.cos(5.58020570040 + 68.8437077341 * t);
-        L0 += 0.00000187474 * Math.cos(1.31924326253 + 0.1600586944 * t);
-        L0 += 0.00000158028 * Math.cos(0.73811997211 + 54.1746707478 * t);
-        L0 += 0.00000199146 * Math.cos(0.95634155010 + 152.5321425512 * t);
-        L0 += 0.00000168648 * Math.cos(5.87874000882 + 18.1592472647 * t);
-        L0 += 0.00000170300 * Math.cos(3.67717520688 + 5.4166259714 * t);
-        L0 += 0.00000193652 * Math.cos(1.88800122606 + 456.3938392356 * t);
-        L0 += 0.00000192998 * Math.cos(0.91616058506 + 453.424893819 * t);
-        L0 += 0.00000181934 * Math.cos(3.53624029238 + 79.2350166922 * t);
-        L0 += 0.00000173145 * Math.cos(1.53860728054 + 160.6088973985 * t);
-        L0 += 0.00000164588 * Math.cos(1.42379714838 + 106.9767433719 * t);
-        L0 += 0.00000171968 * Math.cos(5.67952685533 + 219.891377577 * t);
-        L0 += 0.00000162792 * Math.cos(3.05029377666 + 112.9146342051 * t);
-        L0 += 0.00000146653 * Math.cos(1.26300172265 + 59.8037450403 * t);
-        L0 += 0.00000139453 * Math.cos(5.38597723400 + 32.1951448046 * t);
-        L0 += 0.00000138585 * Math.cos(4.25994786673 + 909.8187330546 * t);
-        L0 += 0.00000143058 * Math.cos(1.29995487555 + 35.4247226521 * t);
-        L0 += 0.00000123840 * Math.cos(1.37359990336 + 7.1135470008 * t);
-        L0 += 0.00000104414 * Math.cos(5.02820888813 + 0.7507595254 * t);
-        L0 += 0.00000103277 * Math.cos(0.68095301267 + 14.977853527 * t);
-        L0 += 0.00000094741 * Math.cos(0.90674090409 + 74.6697239827 * t);
-        L0 += 0.00000082978 * Math.cos(2.92828718445 + 265.9892934775 * t);
-        L0 += 0.00000110163 * Math.cos(2.02685778976 + 554.0699874828 * t);
-        L0 += 0.00000094226 * Math.cos(3.94266328260 + 74.8934731519 * t);
-        L0 += 0.00000079858 * Math.cos(1.01446829180 + 6.592282139 * t);
-        L0 += 0.00000109376 * Math.cos(5.70581833286 + 77.962992305 * t);
-        L0 += 0.00000085876 * Math.cos(1.70649435603 + 82.8583534146 * t);
-        L0 += 0.00000103562 * Math.cos(1.45770270246 + 24.3790223882 * t);
-        L0 += 0.00000074667 * Math.cos(4.63177552576 + 69.3649725959 * t);
-        L0 += 0.00000079919 * Math.cos(3.00974084247 + 297.6419215609 * t);
-        L0 += 0.00000084502 * Math.cos(0.36887189574 + 186.2117600641 * t);
-        L0 += 0.00000088810 * Math.cos(0.52481330563 + 181.7583419392 * t);
-        L0 += 0.00000070303 * Math.cos(1.18986880009 + 66.70484372 * t);
-        L0 += 0.00000069965 * Math.cos(0.87476081875 + 305.3461693927 * t);
-        L0 += 0.00000069927 * Math.cos(3.76102749315 + 131.4039498699 * t);
-        L0 += 0.00000084604 * Math.cos(5.88725183325 + 256.5399405065 * t);
-        L0 += 0.00000074341 * Math.cos(6.24271323846 + 447.7958195265 * t);
-        L0 += 0.00000062310 * Math.cos(0.16901376623 + 479.2883889155 * t);
-        L0 += 0.00000072726 * Math.cos(2.84892775693 + 462.0229135281 * t);
-        L0 += 0.00000069060 * Math.cos(4.43934854374 + 39.3568759152 * t);
-        L0 += 0.00000076568 * Math.cos(4.58721110340 + 6.2197751235 * t);
-        L0 += 0.00000073387 * Math.cos(4.27603448634 + 87.3117715395 * t);
-        L0 += 0.00000055307 * Math.cos(1.49636544147 + 71.6002048296 * t);
-        L0 += 0.00000057291 * Math.cos(1.63015165542 + 143.6253063014 * t);
-        L0 += 0.00000061661 * Math.cos(3.18604743524 + 77.2292791221 * t);
-        L0 += 0.00000057634 * Math.cos(3.67180685401 + 51.2057253312 * t);
-        L0 += 0.00000050289 * Math.cos(1.12279384633 + 20.6069278195 * t);
-        L0 += 0.00000053744 * Math.cos(5.51890986247 + 128.9562693151 * t);
-        L0 += 0.00000057894 * Math.cos(2.66877593418 + 381.6122406683 * t);
-        L0 += 0.00000058112 * Math.cos(1.58629352171 + 60.7669528868 * t);
-        L0 += 0.00000045382 * Math.cos(0.48053933052 + 14.0146456805 * t);
-        L0 += 0.00000037581 * Math.cos(6.06822931932 + 211.8146227297 * t);
-        L0 += 0.00000038640 * Math.cos(3.43597050177 + 153.4953503977 * t);
-        L0 += 0.00000046087 * Math.cos(4.36201639577 + 75.7448064138 * t);
-        L0 += 0.00000040088 * Math.cos(4.57333927519 + 46.2097904851 * t);
-        L0 += 0.00000034229 * Math.cos(2.93967782207 + 140.001969579 * t);
-        L0 += 0.00000038669 * Math.cos(5.58941074168 + 99.1606209555 * t);
-        L0 += 0.00000034827 * Math.cos(1.02792863024 + 203.7378678824 * t);
-        L0 += 0.00000040024 * Math.cos(0.69889667397 + 218.4069048687 * t);
-        L0 += 0.00000032538 * Math.cos(4.21625657443 + 200.7689224658 * t);
-        L0 += 0.00000031865 * Math.cos(5.50961503408 + 72.3339180125 * t);
-        L0 += 0.00000041695 * Math.cos(3.82438031124 + 81.0013736908 * t);
-        L0 += 0.00000034795 * Math.cos(0.39363490236 + 1.3725981237 * t);
-        L0 += 0.00000039775 * Math.cos(6.05600836903 + 293.188503436 * t);
-        L0 += 0.00000027577 * Math.cos(2.18261286374 + 125.9873238985 * t);
-        L0 += 0.00000036279 * Math.cos(1.66586085405 + 258.0244132148 * t);
-        L0 += 0.00000035442 * Math.cos(1.96652806541 + 835.0371344873 * t);
-        L0 += 0.00000035361 * Math.cos(3.72258690030 + 692.5874843535 * t);
-        L0 += 0.00000027323 * Math.cos(2.10164372072 + 209.3669421749 * t);
-        L0 += 0.00000026530 * Math.cos(4.48265986115 + 373.9079928365 * t);
-        L0 += 0.00000034472 * Math.cos(1.07907945481 + 191.2076949102 * t);
-        L0 += 0.00000029915 * Math.cos(3.87358632506 + 259.5088859231 * t);
-        L0 += 0.00000026233 * Math.cos(3.63172504384 + 490.3340891794 * t);
-        L0 += 0.00000025848 * Math.cos(0.54461409359 + 41.6444977756 * t);
-        L0 += 0.00000026989 * Math.cos(6.27711247734 + 28.5718080822 * t);
-        L0 += 0.00000026391 * Math.cos(5.81110061049 + 75.3028634291 * t);
-        L0 += 0.00000034227 * Math.cos(6.05617272657 + 275.5505210331 * t);
-        L0 += 0.00000024279 * Math.cos(3.18776564878 + 81.3738807063 * t);
-        L0 += 0.00000029937 * Math.cos(1.88789751816 + 269.9214467406 * t);
-        L0 += 0.00000026235 * Math.cos(6.20105251336 + 134.5853436076 * t);
-        L0 += 0.00000022754 * Math.cos(0.92919725789 + 288.0806940053 * t);
-        L0 += 0.00000025180 * Math.cos(5.42547381962 + 116.4260963429 * t);
-        L0 += 0.00000022715 * Math.cos(0.53098783687 + 1514.2912967165 * t);
-        L0 += 0.00000026485 * Math.cos(4.77176167929 + 284.1485407422 * t);
-        L0 += 0.00000027008 * Math.cos(4.75281624832 + 41.1019810544 * t);
-        L0 += 0.00000021972 * Math.cos(4.58613057386 + 404.5067903482 * t);
-        L0 += 0.00000022012 * Math.cos(1.84389287183 + 617.8058857862 * t);
-        L0 += 0.00000024694 * Math.cos(4.70875195490 + 378.6432952517 * t);
-        L0 += 0.00000028949 * Math.cos(0.17127584792 + 528.2064923863 * t);
-        L0 += 0.00000020492 * Math.cos(0.10285646641 + 195.1398481733 * t);
-        L0 += 0.00000020696 * Math.cos(5.62143477633 + 55.6591434561 * t);
-        L0 += 0.00000025843 * Math.cos(0.74627159338 + 278.5194664497 * t);
-        L0 += 0.00000022990 * Math.cos(3.58378694661 + 1.5963472929 * t);
-        L0 += 0.00000021843 * Math.cos(0.05733533568 + 173.9422195228 * t);
-        L0 += 0.00000019050 * Math.cos(2.30351091243 + 5.1078094307 * t);
-        L0 += 0.00000020675 * Math.cos(2.64113858585 + 105.4922706636 * t);
-        L0 += 0.00000021856 * Math.cos(5.87352402691 + 45.5766510387 * t);
-        L0 += 0.00000021120 * Math.cos(1.98081790016 + 114.3991069134 * t);
-        L0 += 0.00000019279 * Math.cos(2.84304025179 + 159.1244246902 * t);
-        L0 += 0.00000019061 * Math.cos(0.50598371738 + 67.3592350258 * t);
-        L0 += 0.00000020434 * Math.cos(3.77601951414 + 135.5485514541 * t);
-        L0 += 0.00000017326 * Math.cos(4.47793157645 + 120.358249606 * t);
-        L0 += 0.00000020547 * Math.cos(0.88695598555 + 255.0554677982 * t);
-        L0 += 0.00000019320 * Math.cos(1.48569290504 + 0.8937718773 * t);
-        L0 += 0.00000021331 * Math.cos(2.74470023060 + 28.3111756513 * t);
-        L0 += 0.00000017582 * Math.cos(4.09139636700 + 296.1574488526 * t);
-        L0 += 0.00000015918 * Math.cos(3.94525074972 + 17.5261078183 * t);
-        L0 += 0.00000015562 * Math.cos(0.92748407689 + 300.6108669775 * t);
-        L0 += 0.00000016439 * Math.cos(0.30868798605 + 30.7106720963 * t);
-        L0 += 0.00000015237 * Math.cos(4.93048601827 + 7.4223635415 * t);
-        L0 += 0.00000019284 * Math.cos(6.21950083268 + 329.8370663655 * t);
-        L0 += 0.00000013860 * Math.cos(0.56255266406 + 144.1465711632 * t);
-        L0 += 0.00000016206 * Math.cos(2.30292598693 + 344.7030453079 * t);
-        L0 += 0.00000016041 * Math.cos(0.19723295436 + 103.0927742186 * t);
-        L0 += 0.00000014414 * Math.cos(2.57606243208 + 230.5645708254 * t);
-        L0 += 0.00000016789 * Math.cos(4.93540052916 + 565.1156877467 * t);
-        L0 += 0.00000017052 * Math.cos(1.81844925116 + 294.6729761443 * t);
-        L0 += 0.00000016766 * Math.cos(0.27542186330 + 73.8183907208 * t);
-        L0 += 0.00000015428 * Math.cos(1.91577056305 + 96.8729990951 * t);
-        L0 += 0.00000015718 * Math.cos(3.87095025861 + 98.8999885246 * t);
-        L0 += 0.00000011923 * Math.cos(6.17545505441 + 44.7253177768 * t);
-        L0 += 0.00000012407 * Math.cos(6.22419970167 + 80.1982245387 * t);
-        L0 += 0.00000013040 * Math.cos(1.99652993223 + 27.0873353739 * t);
-        L0 += 0.00000013229 * Math.cos(3.43782440072 + 227.3137411185 * t);
-        L0 += 0.00000011669 * Math.cos(4.31526860843 + 426.598190876 * t);
-        L0 += 0.00000014378 * Math.cos(5.78353646474 + 1059.3819301892 * t);
-        L0 += 0.00000015879 * Math.cos(0.98454960055 + 6208.2942514241 * t);
-        L0 += 0.00000011158 * Math.cos(1.74417430690 + 220.4126424388 * t);
-        L0 += 0.00000011989 * Math.cos(5.84388657950 + 13.3333221243 * t);
-        L0 += 0.00000011386 * Math.cos(2.55925734515 + 19.1224551112 * t);
-        L0 += 0.00000013281 * Math.cos(5.39472153462 + 391.1734682239 * t);
-        L0 += 0.00000012295 * Math.cos(4.57340278496 + 23.5758732361 * t);
-        L0 += 0.00000012827 * Math.cos(1.77410269070 + 180.2738692309 * t);
-        L0 += 0.00000011651 * Math.cos(4.29138607818 + 142.4496501338 * t);
-        L0 += 0.00000012248 * Math.cos(2.44241346243 + 100.3844612329 * t);
-        L0 += 0.00000012421 * Math.cos(2.32591770919 + 80.7194894005 * t);
-        L0 += 0.00000009774 * Math.cos(0.39898140151 + 7.8643065262 * t);
-        L0 += 0.00000013172 * Math.cos(2.74099358938 + 177.8743727859 * t);
-        L0 += 0.00000012262 * Math.cos(5.42795591646 + 831.1049812242 * t);
-        L0 += 0.00000010272 * Math.cos(5.90194483926 + 74.5209661364 * t);
-        L0 += 0.00000009317 * Math.cos(3.75869700774 + 74.8297826771 * t);
-        L0 += 0.00000010701 * Math.cos(4.00709797731 + 235.3904959658 * t);
-        L0 += 0.00000009243 * Math.cos(5.38492199672 + 20.4468691251 * t);
-        L0 += 0.00000009461 * Math.cos(2.60126707172 + 92.3077063856 * t);
-        L0 += 0.00000012066 * Math.cos(5.52163100220 + 74.2603337055 * t);
-        L0 += 0.00000010836 * Math.cos(1.88393779293 + 241.6102710893 * t);
-        L0 += 0.00000009317 * Math.cos(1.16483658310 + 74.7334144575 * t);
-        L0 += 0.00000010718 * Math.cos(5.50310449842 + 187.6962327724 * t);
-        L0 += 0.00000012057 * Math.cos(6.02120050390 + 154.0166152595 * t);
-        L0 += 0.00000009124 * Math.cos(1.15458738606 + 0.6331394464 * t);
-        L0 += 0.00000011526 * Math.cos(6.26425302826 + 155.7829722581 * t);
-        L0 += 0.00000012200 * Math.cos(5.79400179483 + 1364.7280995819 * t);
-        L0 += 0.00000010979 * Math.cos(5.76614513865 + 628.8515860501 * t);
-        L0 += 0.00000008532 * Math.cos(5.18016456150 + 1.6445314027 * t);
-        L0 += 0.00000008660 * Math.cos(3.78133822411 + 74.9416572617 * t);
-        L0 += 0.00000011227 * Math.cos(1.30788626675 + 604.4725636619 * t);
-        L0 += 0.00000010531 * Math.cos(1.05867421534 + 291.7040307277 * t);
-        L0 += 0.00000008446 * Math.cos(3.52020067595 + 756.3233826569 * t);
-        L0 += 0.00000010291 * Math.cos(5.30493908317 + 75.0422309982 * t);
-        L0 += 0.00000008015 * Math.cos(6.24347048958 + 543.0242872189 * t);
-        L0 += 0.00000007796 * Math.cos(5.23497582886 + 58.1068240109 * t);
-        L0 += 0.00000009310 * Math.cos(1.65210713729 + 24.1183899573 * t);
-        L0 += 0.00000008642 * Math.cos(1.14285691458 + 74.6215398729 * t);
-        L0 += 0.00000007797 * Math.cos(4.00208030502 + 31.492569389 * t);
-        L0 += 0.00000008915 * Math.cos(3.63129389881 + 408.4389436113 * t);
-        L0 += 0.00000007191 * Math.cos(4.24536221306 + 110.2063212194 * t);
-        L0 += 0.00000009764 * Math.cos(0.10205649809 + 366.485629295 * t);
-        L0 += 0.00000008710 * Math.cos(2.25910759480 + 451.9404211107 * t);
-        L0 += 0.00000009430 * Math.cos(2.00492467431 + 331.3215390738 * t);
-        L0 += 0.00000009008 * Math.cos(1.63146330622 + 443.8636662634 * t);
-        L0 += 0.00000007247 * Math.cos(4.35313018726 + 88.1149206916 * t);
-        L0 += 0.00000007659 * Math.cos(0.61918159043 + 50.4025761791 * t);
-        L0 += 0.00000006836 * Math.cos(5.12190844483 + 0.8031491521 * t);
-        L0 += 0.00000009367 * Math.cos(1.42664537007 + 414.0680179038 * t);
-        L0 += 0.00000008136 * Math.cos(0.45279998999 + 25.6028626656 * t);
-        L0 += 0.00000009199 * Math.cos(2.41000352664 + 10138.5039476437 * t);
-        L0 += 0.00000006896 * Math.cos(5.85017813531 + 339.2864193365 * t);
-        L0 += 0.00000006487 * Math.cos(6.03397141885 + 1.2238402774 * t);
-        L0 += 0.00000007186 * Math.cos(4.00480285222 + 157.6399519819 * t);
-        L0 += 0.00000008130 * Math.cos(0.21907525983 + 422.6660376129 * t);
-        L0 += 0.00000008022 * Math.cos(2.09953974305 + 92.940845832 * t);
-        L0 += 0.00000006371 * Math.cos(4.47820781123 + 79.889407998 * t);
-        L0 += 0.00000007957 * Math.cos(5.86499639179 + 760.25553592 * t);
-        L0 += 0.00000008383 * Math.cos(2.33782809093 + 417.0369633204 * t);
-        L0 += 0.00000007931 * Math.cos(3.41952210669 + 7.7042478318 * t);
-        L0 += 0.00000006613 * Math.cos(1.39197711439 + 16.6747745564 * t);
-        L0 += 0.00000007142 * Math.cos(5.57864813931 + 4.7353024152 * t);
-        L0 += 0.00000007441 * Math.cos(0.48121969777 + 68.1893164283 * t);
-        L0 += 0.00000007187 * Math.cos(0.50441238918 + 457.8783119439 * t);
-        L0 += 0.00000006613 * Math.cos(2.84628770892 + 142.1408335931 * t);
-        L0 += 0.00000006399 * Math.cos(3.88681409308 + 74.0308390419 * t);
-        L0 += 0.00000006140 * Math.cos(1.65776909220 + 350.3321196004 * t);
-        L0 += 0.00000007053 * Math.cos(0.13890020306 + 306.830642101 * t);
-        L0 += 0.00000006010 * Math.cos(5.46434004640 + 48.7580447764 * t);
-        L0 += 0.00000006810 * Math.cos(6.15448079403 + 67.8804998876 * t);
-        L0 += 0.00000005982 * Math.cos(2.36098472874 + 2.0057375701 * t);
-        L0 += 0.00000005709 * Math.cos(1.49928444044 + 206.1855484372 * t);
-        L0 += 0.00000006843 * Math.cos(1.08172913275 + 465.9550667912 * t);
-        L0 += 0.00000006408 * Math.cos(5.07331258075 + 4.665866446 * t);
-        L0 += 0.00000007805 * Math.cos(3.98866710061 + 3.6233367224 * t);
-        L0 += 0.00000005527 * Math.cos(5.57881556653 + 2.9207613068 * t);
-        L0 += 0.00000005521 * Math.cos(3.38225987040 + 149.45132255 * t);
-        L0 += 0.00000006107 * Math.cos(1.95504762856 + 216.9224321604 * t);
-        L0 += 0.00000005692 * Math.cos(2.83076925167 + 260.9933586314 * t);
-        L0 += 0.00000006586 * Math.cos(2.71085048651 + 329.7251917809 * t);
-        L0 += 0.00000005826 * Math.cos(3.98800970226 + 347.8844390456 * t);
-        L0 += 0.00000005745 * Math.cos(0.49160564101 + 0.3725070155 * t);
-        L0 += 0.00000005473 * Math.cos(5.69158856279 + 1.6969210294 * t);
-        L0 += 0.00000004982 * Math.cos(2.40870746521 + 342.2553647531 * t);
-        L0 += 0.00000006040 * Math.cos(4.78944090986 + 558.0021407459 * t);
-        L0 += 0.00000005317 * Math.cos(2.78403764459 + 13.4933808187 * t);
-        L0 += 0.00000005090 * Math.cos(5.47747622578 + 372.4235201282 * t);
-        L0 += 0.00000004894 * Math.cos(1.77082918618 + 333.657345044 * t);
-        L0 += 0.00000005389 * Math.cos(2.94076732149 + 9.4011688612 * t);
-        L0 += 0.00000004757 * Math.cos(5.37129102802 + 61.2882177486 * t);
-        L0 += 0.00000005000 * Math.cos(3.43988321744 + 518.6452648307 * t);
-        L0 += 0.00000005664 * Math.cos(3.30309284254 + 0.6543913058 * t);
-        L0 += 0.00000005530 * Math.cos(0.45092393824 + 162.0933701068 * t);
-        L0 += 0.00000005746 * Math.cos(3.45964923866 + 55.1378785943 * t);
-        L0 += 0.00000005666 * Math.cos(1.23578675332 + 328.3525936572 * t);
-        L0 += 0.00000005071 * Math.cos(5.42033080481 + 977.4867846211 * t);
-        L0 += 0.00000005719 * Math.cos(0.66718965817 + 92.0470739547 * t);
-        L0 += 0.00000004994 * Math.cos(1.29267872727 + 983.1158589136 * t);
-        L0 += 0.00000005570 * Math.cos(2.36255927193 + 6.9010986797 * t);
-        L0 += 0.00000005189 * Math.cos(2.40682220291 + 58.319272332 * t);
-        L0 += 0.00000005502 * Math.cos(0.13301359232 + 149.6750717192 * t);
-        L0 += 0.00000004706 * Math.cos(1.85473330365 + 119.5069163441 * t);
-        L0 += 0.00000004305 * Math.cos(4.18171934306 + 90.8232336773 * t);
-        L0 += 0.00000005953 * Math.cos(1.73036741041 + 152.7445908723 * t);
-        L0 += 0.00000005607 * Math.cos(5.53187692339 + 1087.6931058405 * t);
-        L0 += 0.00000005591 * Math.cos(5.75072223569 + 358.9301393095 * t);
-        L0 += 0.00000004441 * Math.cos(0.97726075887 + 4.192785694 * t);
-        L0 += 0.00000004608 * Math.cos(3.31800103668 + 89.7594520943 * t);
-        L0 += 0.00000004677 * Math.cos(5.01422713233 + 43.1289704839 * t);
-        L0 += 0.00000004034 * Math.cos(1.08242564328 + 75.5323580927 * t);
-        L0 += 0.00000005626 * Math.cos(1.10270225604 + 66.9172920411 * t);
-        L0 += 0.00000004058 * Math.cos(1.94012136050 + 17.2654753874 * t);
-        L0 += 0.00000004770 * Math.cos(2.24207019076 + 986.0848043302 * t);
-        L0 += 0.00000005207 * Math.cos(1.36600428910 + 767.3690829208 * t);
-        L0 += 0.00000004940 * Math.cos(0.13733547633 + 0.8513332619 * t);
-        L0 += 0.00000004339 * Math.cos(5.33814728291 + 152.0108776894 * t);
-        L0 += 0.00000003917 * Math.cos(3.85320550575 + 2.2876218604 * t);
-        L0 += 0.00000003903 * Math.cos(5.87573410158 + 16.4623262353 * t);
-        L0 += 0.00000004655 * Math.cos(0.93665017107 + 267.4737661858 * t);
-        L0 += 0.00000004638 * Math.cos(5.42566923517 + 16.04163511 * t);
-        L0 += 0.00000005177 * Math.cos(3.40845690805 + 1289.9465010146 * t);
-        L0 += 0.00000003825 * Math.cos(0.59888105730 + 210.3301500214 * t);
-        L0 += 0.00000005048 * Math.cos(2.16732539242 + 367.9701020033 * t);
-        L0 += 0.00000003819 * Math.cos(1.70901925915 + 5.6290742925 * t);
-        L0 += 0.00000005004 * Math.cos(0.26759264038 + 403.1341922245 * t);
-        L0 += 0.00000004202 * Math.cos(5.12029089394 + 19.0105805266 * t);
-        L0 += 0.00000004472 * Math.cos(2.88978371811 + 59.2824801785 * t);
-        if (highAccuracy) {
-            L0 += 0.00000004700 * Math.cos(4.17709035394 + 130.4407420234 * t);
-            L0 += 0.00000004487 * Math.cos(0.85521839581 + 969.6224780949 * t);
-            L0 += 0.00000003802 * Math.cos(4.59721371468 + 25.8634950965 * t);
-            L0 += 0.00000004024 * Math.cos(4.98868930941 + 30.0562807905 * t);
-            L0 += 0.00000004722 * Math.cos(6.16359211847 + 173.6815870919 * t);
-            L0 += 0.00000004732 * Math.cos(3.76697693308 + 373.0142209592 * t);
-            L0 += 0.00000003542 * Math.cos(0.76768843819 + 114.1384744825 * t);
-            L0 += 0.00000003370 * Math.cos(2.00021522907 + 286.596221297 * t);
-            L0 += 0.00000003626 * Math.cos(3.20240733896 + 991.7138786227 * t);
-            L0 += 0.00000004028 * Math.cos(0.46802022168 + 387.2413149608 * t);
-            L0 += 0.00000003442 * Math.cos(5.20959733350 + 894.8408795276 * t);
-            L0 += 0.00000003273 * Math.cos(5.46374958434 + 192.6921676185 * t);
-            L0 += 0.00000003291 * Math.cos(3.97847646998 + 264.5048207692 * t);
-            L0 += 0.00000003291 * Math.cos(1.62538722379 + 681.5417840896 * t);
-            L0 += 0.00000003198 * Math.cos(3.96580804800 + 146.3818033969 * t);
-            L0 += 0.00000004016 * Math.cos(1.40657464840 + 383.0967133766 * t);
-            L0 += 0.00000003844 * Math.cos(3.60271287642 + 0.590700831 * t);
-            L0 += 0.00000003123 * Math.cos(4.50215520755 + 1439.5096981492 * t);
-            L0 += 0.00000003434 * Math.cos(5.18704419009 + 97.4155158163 * t);
-            L0 += 0.00000003123 * Math.cos(4.14198630214 + 76.4785195967 * t);
-            L0 += 0.00000003259 * Math.cos(1.65410614252 + 214.7835681463 * t);
-            L0 += 0.00000003557 * Math.cos(4.15769848885 + 68.5618234438 * t);
-            L0 += 0.00000002934 * Math.cos(2.95575531139 + 120.9913890524 * t);
-            L0 += 0.00000002914 * Math.cos(3.69930995976 + 874.3940104025 * t);
-            L0 += 0.00000003301 * Math.cos(2.14570582133 + 253.5709950899 * t);
-            L0 += 0.00000003362 * Math.cos(4.82277888708 + 19.643719973 * t);
-            L0 += 0.00000003218 * Math.cos(2.56428709831 + 60.5545045657 * t);
-            L0 += 0.00000003059 * Math.cos(3.57539890234 + 117.9105690512 * t);
-            L0 += 0.00000003073 * Math.cos(3.54739757836 + 95.3885263868 * t);
-            L0 += 0.00000002789 * Math.cos(0.65190913388 + 42.5382696529 * t);
-            L0 += 0.00000003235 * Math.cos(5.31608088666 + 546.956440482 * t);
-            L0 += 0.00000003657 * Math.cos(5.89905956226 + 16.1535096946 * t);
-            L0 += 0.00000003549 * Math.cos(2.76314903735 + 82.4858463991 * t);
-            L0 += 0.00000003627 * Math.cos(4.68663059919 + 593.426863398 * t);
-            L0 += 0.00000003306 * Math.cos(1.57486085317 + 312.4597163935 * t);
-            L0 += 0.00000003602 * Math.cos(2.51921910142 + 22.8945496799 * t);
-            L0 += 0.00000003431 * Math.cos(4.95532928836 + 49.7212526229 * t);
-            L0 += 0.00000002675 * Math.cos(2.41314606353 + 29.2049475286 * t);
-            L0 += 0.00000003101 * Math.cos(1.42849885249 + 17.6379824029 * t);
-            L0 += 0.00000003399 * Math.cos(3.02815712113 + 88.7962442478 * t);
-            L0 += 0.00000003379 * Math.cos(2.65894323745 + 771.3012361839 * t);
-            L0 += 0.00000002547 * Math.cos(6.10642153361 + 455.8725743738 * t);
-            L0 += 0.00000002967 * Math.cos(0.31461418738 + 150.5264049811 * t);
-            L0 += 0.00000002681 * Math.cos(1.16839594153 + 477.8039162072 * t);
-            L0 += 0.00000003343 * Math.cos(3.09880618811 + 552.5855147745 * t);
-            L0 += 0.00000002678 * Math.cos(1.42841144096 + 1.1119656928 * t);
-            L0 += 0.00000002540 * Math.cos(1.94053883528 + 6.4804075544 * t);
-            L0 += 0.00000002491 * Math.cos(2.97226347939 + 453.9461586808 * t);
-            L0 += 0.00000002744 * Math.cos(1.93313970916 + 73.1852512744 * t);
-            L0 += 0.00000002935 * Math.cos(4.59394106280 + 167.0893049529 * t);
-            L0 += 0.00000003007 * Math.cos(1.38745560615 + 365.0011565867 * t);
-            L0 += 0.00000003053 * Math.cos(1.91792962252 + 561.1835344836 * t);
-            L0 += 0.00000002496 * Math.cos(5.45540866674 + 66.1835788582 * t);
-            L0 += 0.00000002622 * Math.cos(1.46324659292 + 33.1371007917 * t);
-            L0 += 0.00000003203 * Math.cos(4.01683757076 + 555.5544601911 * t);
-            L0 += 0.00000002317 * Math.cos(1.13727677715 + 43.2408450685 * t);
-            L0 += 0.00000002341 * Math.cos(5.87635018071 + 228.276948965 * t);
-            L0 += 0.00000002841 * Math.cos(3.60234459541 + 42.5864537627 * t);
-            L0 += 0.00000002858 * Math.cos(1.53714262537 + 353.301065017 * t);
-            L0 += 0.00000002484 * Math.cos(3.85791009894 + 104.0077979553 * t);
-            L0 += 0.00000002903 * Math.cos(5.21967656512 + 73.4090004436 * t);
-            L0 += 0.00000002760 * Math.cos(1.21343315367 + 32.2433289144 * t);
-            L0 += 0.00000002269 * Math.cos(3.31411391807 + 4.1446015842 * t);
-            L0 += 0.00000002241 * Math.cos(2.65636547591 + 70.1157321213 * t);
-            L0 += 0.00000002246 * Math.cos(4.08175081363 + 123.5396433437 * t);
-            L0 += 0.00000002583 * Math.cos(2.38305971478 + 100.6450936638 * t);
-            L0 += 0.00000002761 * Math.cos(5.71758409791 + 43.2890291783 * t);
-            L0 += 0.00000002827 * Math.cos(6.16734582851 + 101.8689339412 * t);
-            L0 += 0.00000002838 * Math.cos(0.54888495490 + 20.4950532349 * t);
-            L0 += 0.00000002145 * Math.cos(4.04195315408 + 47.061123747 * t);
-            L0 += 0.00000002810 * Math.cos(1.90169260186 + 273.1028404783 * t);
-            L0 += 0.00000002922 * Math.cos(2.79808700183 + 418.2608035978 * t);
-            L0 += 0.00000002070 * Math.cos(5.50402718290 + 47.6942631934 * t);
-            L0 += 0.00000002071 * Math.cos(2.01973573060 + 316.3918696566 * t);
-            L0 += 0.00000002520 * Math.cos(3.12740527423 + 905.8865797915 * t);
-            L0 += 0.00000002170 * Math.cos(4.46196560050 + 2.7083129857 * t);
-            L0 += 0.00000002399 * Math.cos(3.78849518316 + 75.5847477194 * t);
-            L0 += 0.00000002746 * Math.cos(4.82558024832 + 6.8529145699 * t);
-            L0 += 0.00000002717 * Math.cos(2.33108458294 + 404.6186649328 * t);
-            L0 += 0.00000002416 * Math.cos(4.11932546205 + 332.8060117821 * t);
-            L0 += 0.00000001974 * Math.cos(5.79881978458 + 11.1575748485 * t);
-            L0 += 0.00000001967 * Math.cos(5.43918682709 + 199.2844497575 * t);
-            L0 += 0.00000002282 * Math.cos(2.79530897096 + 22.633917249 * t);
-            L0 += 0.00000001910 * Math.cos(0.27727117649 + 69.1525242748 * t);
-            L0 += 0.00000002471 * Math.cos(3.51033894778 + 8.5980197091 * t);
-            L0 += 0.00000001904 * Math.cos(3.45282024423 + 472.1748419147 * t);
-            L0 += 0.00000002606 * Math.cos(0.43601023323 + 439.782755154 * t);
-            L0 += 0.00000002663 * Math.cos(5.43112910549 + 3265.8308281325 * t);
-            L0 += 0.00000002058 * Math.cos(1.69362390174 + 65.8747623175 * t);
-            L0 += 0.00000002258 * Math.cos(5.32927779367 + 908.3342603463 * t);
-            L0 += 0.00000001873 * Math.cos(5.55399805910 + 175.1660598002 * t);
-            L0 += 0.00000002222 * Math.cos(0.96973865202 + 39.0962434843 * t);
-            L0 += 0.00000002121 * Math.cos(2.00302088316 + 106.0135355254 * t);
-            L0 += 0.00000002010 * Math.cos(1.49945418027 + 29.226199388 * t);
-            L0 += 0.00000002222 * Math.cos(4.36573603431 + 468.2426886516 * t);
-            L0 += 0.00000002055 * Math.cos(0.05798973044 + 205.2223405907 * t);
-            L0 += 0.00000002086 * Math.cos(0.44287700052 + 10.2949407385 * t);
-            L0 += 0.00000001770 * Math.cos(4.32048805830 + 0.457574387 * t);
-            L0 += 0.00000002112 * Math.cos(5.78682409103 + 486.4019359163 * t);
-            L0 += 0.00000001909 * Math.cos(0.82888506421 + 254.9435932136 * t);
-            L0 += 0.00000001973 * Math.cos(6.05826379648 + 78.4049352897 * t);
-            L0 += 0.00000001908 * Math.cos(5.55892482384 + 15.4991183888 * t);
-            L0 += 0.00000001888 * Math.cos(6.20874408008 + 198.321241911 * t);
-            L0 += 0.00000002092 * Math.cos(2.55561831566 + 49.5088043018 * t);
-            L0 += 0.00000001775 * Math.cos(6.17741514589 + 258.8757464767 * t);
-            L0 += 0.00000002146 * Math.cos(1.40508118810 + 526.722019678 * t);
-            L0 += 0.00000001800 * Math.cos(0.04238718337 + 334.2904844904 * t);
-            L0 += 0.00000001738 * Math.cos(1.99152421966 + 77.0692204277 * t);
-            L0 += 0.00000001641 * Math.cos(3.36410541913 + 118.0224436358 * t);
-            L0 += 0.00000002084 * Math.cos(5.21275540105 + 134.0640787458 * t);
-            L0 += 0.00000001861 * Math.cos(2.97480744198 + 178.7893965226 * t);
-            L0 += 0.00000001750 * Math.cos(2.01731567093 + 142.6620984549 * t);
-            L0 += 0.00000001600 * Math.cos(1.60963172329 + 40.1600250673 * t);
-            L0 += 0.00000001668 * Math.cos(1.53361997245 + 0.8300814025 * t);
-            L0 += 0.00000001769 * Math.cos(4.72689497119 + 32.7164096664 * t);
-            L0 += 0.00000001782 * Math.cos(2.60469159465 + 166.828672522 * t);
-            L0 += 0.00000001765 * Math.cos(5.57583636983 + 522.5774180938 * t);
-            L0 += 0.00000001877 * Math.cos(1.09044005603 + 274.0660483248 * t);
-            L0 += 0.00000001544 * Math.cos(1.91798419140 + 303.8616966844 * t);
-            L0 += 0.00000001532 * Math.cos(3.44973397383 + 124.5028511902 * t);
-            L0 += 0.00000001658 * Math.cos(5.23946791059 + 233.9060232575 * t);
-            L0 += 0.00000001743 * Math.cos(2.32369273283 + 290.2195580194 * t);
-            L0 += 0.00000001528 * Math.cos(0.62020771152 + 1033.3583763983 * t);
-            L0 += 0.00000001522 * Math.cos(6.11272567668 + 165.6048322446 * t);
-            L0 += 0.00000001496 * Math.cos(2.02190170195 + 150.0844619964 * t);
-            L0 += 0.00000001490 * Math.cos(3.30997217921 + 820.0592809603 * t);
-            L0 += 0.00000001398 * Math.cos(3.41567259878 + 4.9959348461 * t);
-            L0 += 0.00000001886 * Math.cos(6.25585539882 + 162.8965192589 * t);
-            L0 += 0.00000001388 * Math.cos(0.62745508416 + 448.6895914038 * t);
-            L0 += 0.00000001918 * Math.cos(0.91483173263 + 1819.6374661092 * t);
-            L0 += 0.00000001682 * Math.cos(2.11545135265 + 189.7232222019 * t);
-            L0 += 0.00000001711 * Math.cos(2.55731536599 + 1108.1399749656 * t);
-            L0 += 0.00000001598 * Math.cos(0.89607036108 + 115.8835796217 * t);
-            L0 += 0.00000001477 * Math.cos(0.22838214106 + 370.9390474199 * t);
-            L0 += 0.00000001727 * Math.cos(1.54005322759 + 401.6497195162 * t);
-            L0 += 0.00000001432 * Math.cos(3.73381952953 + 8.9068362498 * t);
-            L0 += 0.00000001338 * Math.cos(0.19338311739 + 81.8951455681 * t);
-            L0 += 0.00000001618 * Math.cos(6.02595306259 + 31.2319369581 * t);
-            L0 += 0.00000001452 * Math.cos(0.11827434627 + 72.7758609972 * t);
-            L0 += 0.00000001626 * Math.cos(4.26332651029 + 369.4545747116 * t);
-            L0 += 0.00000001284 * Math.cos(3.18389639039 + 362.8622925726 * t);
-            L0 += 0.00000001755 * Math.cos(5.57436830525 + 344.9636777388 * t);
-            L0 += 0.00000001451 * Math.cos(4.42615381750 + 189.1807054807 * t);
-            L0 += 0.00000001294 * Math.cos(2.77775613125 + 63.6240237188 * t);
-            L0 += 0.00000001712 * Math.cos(2.16785817753 + 536.8045120954 * t);
-            L0 += 0.00000001266 * Math.cos(2.78408709208 + 55.7710180407 * t);
-            L0 += 0.00000001700 * Math.cos(2.49908604932 + 441.2672278623 * t);
-            L0 += 0.00000001645 * Math.cos(2.41257585783 + 10.0824924174 * t);
-            L0 += 0.00000001666 * Math.cos(5.00664377609 + 79.5169009825 * t);
-            L0 += 0.00000001674 * Math.cos(0.00394784675 + 491.5579294568 * t);
-            L0 += 0.00000001334 * Math.cos(5.62972572008 + 129.9194771616 * t);
-            L0 += 0.00000001328 * Math.cos(0.25606135840 + 114.9416236346 * t);
-            L0 += 0.00000001176 * Math.cos(1.63208422172 + 84.1827674285 * t);
-            L0 += 0.00000001177 * Math.cos(4.10449248614 + 103.3534066495 * t);
-            L0 += 0.00000001384 * Math.cos(5.73004529870 + 89.338760969 * t);
-            L0 += 0.00000001287 * Math.cos(0.99537181009 + 14.6690369863 * t);
-            L0 += 0.00000001171 * Math.cos(5.98078310685 + 57.1436161644 * t);
-            L0 += 0.00000001126 * Math.cos(3.39586759408 + 375.3924655448 * t);
-            L0 += 0.00000001406 * Math.cos(5.18477940039 + 113.8778420516 * t);
-            L0 += 0.00000001397 * Math.cos(1.49751443233 + 14.2270940016 * t);
-            L0 += 0.00000001206 * Math.cos(3.60301196272 + 480.7728616238 * t);
-            L0 += 0.00000001113 * Math.cos(4.80418427391 + 9.449352971 * t);
-            L0 += 0.00000001434 * Math.cos(1.57158177893 + 419.7452763061 * t);
-            L0 += 0.00000001473 * Math.cos(1.03881736383 + 1215.1649024473 * t);
-            L0 += 0.00000001311 * Math.cos(2.99704179684 + 458.8415197904 * t);
-            L0 += 0.00000001453 * Math.cos(6.10676427884 + 64.6991061499 * t);
-            L0 += 0.00000001070 * Math.cos(3.16542344402 + 54.3347294422 * t);
-            L0 += 0.00000001389 * Math.cos(2.78512263875 + 26.0235537909 * t);
-            L0 += 0.00000001203 * Math.cos(0.20627563214 + 0.5694489716 * t);
-            L0 += 0.00000001343 * Math.cos(5.58004577468 + 95.2284676924 * t);
-            L0 += 0.00000001062 * Math.cos(2.40616687148 + 154.979823106 * t);
-            L0 += 0.00000001399 * Math.cos(1.66776602336 + 240.3864308119 * t);
-            L0 += 0.00000001036 * Math.cos(5.53891715915 + 403.0223176399 * t);
-            L0 += 0.00000001269 * Math.cos(2.37684527290 + 37.8724032069 * t);
-            L0 += 0.00000001197 * Math.cos(4.87553746725 + 1044.4040766622 * t);
-            L0 += 0.00000001009 * Math.cos(2.74619462960 + 80.4106728598 * t);
-            L0 += 0.00000001330 * Math.cos(0.99603813295 + 483.2205421786 * t);
-            L0 += 0.00000001348 * Math.cos(0.58829539202 + 476.4313180835 * t);
-            L0 += 0.00000000989 * Math.cos(3.31666847329 + 18.9100067901 * t);
-            L0 += 0.00000001054 * Math.cos(2.85972567059 + 616.3214130779 * t);
-            L0 += 0.00000001276 * Math.cos(4.72938141859 + 691.1030116452 * t);
-            L0 += 0.00000001219 * Math.cos(3.62909689220 + 106.2741679563 * t);
-            L0 += 0.00000001269 * Math.cos(1.53301050628 + 280.9671470045 * t);
-            L0 += 0.00000000968 * Math.cos(2.73688433893 + 218.9281697305 * t);
-            L0 += 0.00000001330 * Math.cos(5.69234088687 + 694.0719570618 * t);
-            L0 += 0.00000001121 * Math.cos(2.80542439790 + 148.5999892881 * t);
-            L0 += 0.00000000980 * Math.cos(6.04026702553 + 5.4690155981 * t);
-            L0 += 0.00000001235 * Math.cos(0.61136787453 + 237.6781178262 * t);
-            L0 += 0.00000001161 * Math.cos(5.32209024820 + 369.0820676961 * t);
-            L0 += 0.00000000944 * Math.cos(1.14261861393 + 384.0599212231 * t);
-            L0 += 0.00000001017 * Math.cos(2.49896409345 + 147.1155165798 * t);
-            L0 += 0.00000001082 * Math.cos(2.46236323548 + 326.8681209489 * t);
-            L0 += 0.00000001037 * Math.cos(5.92126063748 + 4.8259251404 * t);
-            L0 += 0.00000001232 * Math.cos(5.83725190224 + 63.847772888 * t);
-            L0 += 0.00000000914 * Math.cos(0.36627060914 + 10.9338256793 * t);
-            L0 += 0.00000001165 * Math.cos(5.32140830393 + 308.3151148093 * t);
-            L0 += 0.00000000952 * Math.cos(4.78982033367 + 93.9040536785 * t);
-            L0 += 0.00000000993 * Math.cos(3.39918521663 + 10.785067833 * t);
-            L0 += 0.00000001206 * Math.cos(3.64530500530 + 699.7010313543 * t);
-            L0 += 0.00000000893 * Math.cos(2.97140509591 + 248.4631856592 * t);
-            L0 += 0.00000000883 * Math.cos(2.85605198817 + 15.1903018481 * t);
-            L0 += 0.00000000875 * Math.cos(3.43925709280 + 3.0808200012 * t);
-            L0 += 0.00000001103 * Math.cos(4.80576195766 + 6133.5126528568 * t);
-            L0 += 0.00000001178 * Math.cos(6.01576659565 + 377.1588225434 * t);
-            L0 += 0.00000000974 * Math.cos(2.51206761828 + 121.8427223143 * t);
-            L0 += 0.00000000865 * Math.cos(5.68958102479 + 141.6988906084 * t);
-            L0 += 0.00000000974 * Math.cos(3.15729174941 + 215.4379594521 * t);
-            L0 += 0.00000000847 * Math.cos(0.84854843713 + 2043.9822618111 * t);
-            L0 += 0.00000000961 * Math.cos(0.22181374419 + 0.9150237367 * t);
-            L0 += 0.00000001167 * Math.cos(2.37544946421 + 33.9402499438 * t);
-            L0 += 0.00000001013 * Math.cos(3.43778868786 + 36.9091953604 * t);
-            L0 += 0.00000000838 * Math.cos(1.63355479706 + 2.3358059702 * t);
-            L0 += 0.00000001113 * Math.cos(2.50989694970 + 405.9912630565 * t);
-            L0 += 0.00000000987 * Math.cos(1.14030030863 + 82.2039621088 * t);
-            L0 += 0.00000001060 * Math.cos(1.70915765427 + 438.2982824457 * t);
-            L0 += 0.00000000829 * Math.cos(2.97491446672 + 62.7726904569 * t);
-            L0 += 0.00000000991 * Math.cos(4.44869793177 + 406.1031376411 * t);
-            L0 += 0.00000000952 * Math.cos(6.13897716036 + 184.9879197867 * t);
-            L0 += 0.00000001033 * Math.cos(4.19932839584 + 141.4864422873 * t);
-            L0 += 0.00000001029 * Math.cos(5.13205530996 + 157.2674449664 * t);
-            L0 += 0.00000000805 * Math.cos(3.11000318272 + 93.7921790939 * t);
-            L0 += 0.00000000865 * Math.cos(4.44578048207 + 295.1942410061 * t);
-            L0 += 0.00000000921 * Math.cos(4.88190545687 + 12.0089081104 * t);
-            L0 += 0.00000000949 * Math.cos(5.99910796869 + 606.7601855223 * t);
-            L0 += 0.00000000991 * Math.cos(1.68012021428 + 40.5807161926 * t);
-            L0 += 0.00000000854 * Math.cos(0.37823682862 + 217.2312487011 * t);
-            L0 += 0.00000000883 * Math.cos(2.36224385140 + 3.7720945687 * t);
-            L0 += 0.00000001016 * Math.cos(3.90745585959 + 194.2885149114 * t);
-            L0 += 0.00000000807 * Math.cos(5.93051451738 + 302.0953396858 * t);
-            L0 += 0.00000000879 * Math.cos(0.52695940866 + 1057.8974574809 * t);
-            L0 += 0.00000001009 * Math.cos(1.19621149495 + 490.0734567485 * t);
-            L0 += 0.00000000801 * Math.cos(4.96724351781 + 661.0949149645 * t);
-            L0 += 0.00000000843 * Math.cos(0.97496000705 + 73.88782669 * t);
-            L0 += 0.00000001028 * Math.cos(2.65189503651 + 477.9157907918 * t);
-            L0 += 0.00000000846 * Math.cos(3.36343733960 + 40.8413486235 * t);
-            L0 += 0.00000000772 * Math.cos(4.93551925711 + 425.1137181677 * t);
-            L0 += 0.00000000781 * Math.cos(0.59382881638 + 97.6761482472 * t);
-            L0 += 0.00000000770 * Math.cos(4.25621058806 + 488.8496164711 * t);
-            L0 += 0.00000000935 * Math.cos(1.24971148781 + 624.919432787 * t);
-            L0 += 0.00000000984 * Math.cos(4.44298060183 + 171.6545976624 * t);
-            L0 += 0.00000000806 * Math.cos(0.09410536829 + 440.6822725257 * t);
-            L0 += 0.00000000769 * Math.cos(4.09296452529 + 140.6563608848 * t);
-            L0 += 0.00000000802 * Math.cos(0.78515729603 + 11.848849416 * t);
-            L0 += 0.00000001007 * Math.cos(4.06909438635 + 76.154196691 * t);
-            L0 += 0.00000000935 * Math.cos(0.03808890956 + 156.1554792736 * t);
-            L0 += 0.00000000712 * Math.cos(5.35549696452 + 610.6923387854 * t);
-            L0 += 0.00000000911 * Math.cos(4.70177653335 + 81.682697247 * t);
-            L0 += 0.00000000926 * Math.cos(3.09765550633 + 833.552661779 * t);
-            L0 += 0.00000000812 * Math.cos(3.54377377085 + 149.4031384402 * t);
-            L0 += 0.00000000801 * Math.cos(5.48034970408 + 21.9795259432 * t);
-            L0 += 0.00000000900 * Math.cos(4.21739347020 + 778.4147831847 * t);
-            L0 += 0.00000000689 * Math.cos(2.56862945159 + 109.3125493421 * t);
-            L0 += 0.00000000685 * Math.cos(3.19965828980 + 31.6526280834 * t);
-            L0 += 0.00000000952 * Math.cos(4.82579978820 + 1744.8558675419 * t);
-            L0 += 0.00000000724 * Math.cos(2.16878848875 + 1171.875873269 * t);
-            L0 += 0.00000000897 * Math.cos(3.94746491183 + 75.6753704446 * t);
-            L0 += 0.00000000739 * Math.cos(5.45802693622 + 252.6559713532 * t);
-            L0 += 0.00000000821 * Math.cos(4.26046087515 + 1246.6574718363 * t);
-            L0 += 0.00000000663 * Math.cos(5.83767831921 + 86.6304479833 * t);
-            L0 += 0.00000000664 * Math.cos(1.72432848951 + 216.4804891757 * t);
-            L0 += 0.00000000721 * Math.cos(3.98089320988 + 902.7051860538 * t);
-            L0 += 0.00000000663 * Math.cos(4.98388191647 + 958.576777831 * t);
-            L0 += 0.00000000750 * Math.cos(2.66119349235 + 363.5166838784 * t);
-            L0 += 0.00000000828 * Math.cos(3.62849315181 + 14.8177948326 * t);
-            L0 += 0.00000000663 * Math.cos(3.23521229496 + 207.8824694666 * t);
-            L0 += 0.00000000681 * Math.cos(3.29667467046 + 25.0603459444 * t);
-            L0 += 0.00000000887 * Math.cos(4.81199147907 + 155.5010879678 * t);
-            L0 += 0.00000000646 * Math.cos(2.65129054432 + 685.4739373527 * t);
-            L0 += 0.00000000808 * Math.cos(5.68764955594 + 280.003939158 * t);
-            L0 += 0.00000000619 * Math.cos(1.32296886424 + 193.655375465 * t);
-            L0 += 0.00000000621 * Math.cos(2.57837200005 + 703.6331846174 * t);
-            L0 += 0.00000000854 * Math.cos(3.63173686962 + 411.620337349 * t);
-            L0 += 0.00000000728 * Math.cos(1.05845783695 + 916.9322800554 * t);
-            L0 += 0.00000000733 * Math.cos(0.75817076935 + 44.0921783304 * t);
-            L0 += 0.00000000629 * Math.cos(1.52747752455 + 397.3932433474 * t);
-            L0 += 0.00000000599 * Math.cos(5.30671888409 + 180.1619946463 * t);
-            L0 += 0.00000000615 * Math.cos(5.68908944293 + 25.2727942655 * t);
-            L0 += 0.00000000709 * Math.cos(0.64922689354 + 14.5571624017 * t);
-            L0 += 0.00000000729 * Math.cos(4.79389069212 + 479.4002635001 * t);
-            L0 += 0.00000000667 * Math.cos(1.98320895029 + 37.611770776 * t);
-            L0 += 0.00000000586 * Math.cos(1.51157853976 + 668.2084619653 * t);
-            L0 += 0.00000000639 * Math.cos(1.69085181319 + 262.4778313397 * t);
-            L0 += 0.00000000616 * Math.cos(4.62035066985 + 12.2695405413 * t);
-            L0 += 0.00000000687 * Math.cos(2.24368916079 + 228.7982138268 * t);
-            L0 += 0.00000000599 * Math.cos(2.08317681783 + 149.3025647037 * t);
-            L0 += 0.00000000597 * Math.cos(3.14660293947 + 137.5542890242 * t);
-            L0 += 0.00000000581 * Math.cos(2.69049614736 + 823.9914342234 * t);
-            L0 += 0.00000000709 * Math.cos(4.38514100216 + 184.0941479094 * t);
-            L0 += 0.00000000671 * Math.cos(3.46925958949 + 105.380396079 * t);
-            L0 += 0.00000000619 * Math.cos(2.91325544152 + 236.8749686741 * t);
-            L0 += 0.00000000558 * Math.cos(2.96177194880 + 34.2008823747 * t);
-            L0 += 0.00000000648 * Math.cos(5.56457931302 + 140.9651774255 * t);
-            L0 += 0.00000000581 * Math.cos(0.55427680962 + 331.2096644892 * t);
-            L0 += 0.00000000585 * Math.cos(0.15548306049 + 232.4215505492 * t);
-            L0 += 0.00000000548 * Math.cos(3.57525860446 + 497.4476361802 * t);
-            L0 += 0.00000000574 * Math.cos(5.60908001848 + 118.8737768977 * t);
-            L0 += 0.00000000702 * Math.cos(1.74156189506 + 149.0419322728 * t);
-            L0 += 0.00000000543 * Math.cos(0.49890445043 + 133.1008708993 * t);
-            L0 += 0.00000000716 * Math.cos(3.04149734724 + 131.9252147317 * t);
-            L0 += 0.00000000544 * Math.cos(6.22369103738 + 149.6113812444 * t);
-            L0 += 0.00000000539 * Math.cos(0.74276113752 + 911.3032057629 * t);
-            L0 += 0.00000000614 * Math.cos(5.83710659138 + 181.0557665236 * t);
-            L0 += 0.00000000601 * Math.cos(0.30768922616 + 407.5876103494 * t);
-            L0 += 0.00000000635 * Math.cos(4.03476459045 + 136.0698163159 * t);
-            L0 += 0.00000000526 * Math.cos(5.42874995984 + 450.9772132642 * t);
-            L0 += 0.00000000547 * Math.cos(3.07676037032 + 204.7010757289 * t);
-            L0 += 0.00000000622 * Math.cos(3.08666523105 + 268.4369740323 * t);
-            L0 += 0.00000000537 * Math.cos(4.25467814241 + 217.4436970222 * t);
-            L0 += 0.00000000566 * Math.cos(4.84686444604 + 842.1506814881 * t);
-            L0 += 0.00000000636 * Math.cos(2.57425168783 + 621.7380390493 * t);
-            L0 += 0.00000000623 * Math.cos(5.84341335807 + 52.8020726241 * t);
-            L0 += 0.00000000544 * Math.cos(3.62983006500 + 149.5150130248 * t);
-            L0 += 0.00000000578 * Math.cos(0.34796271917 + 139.4807047172 * t);
-            L0 += 0.00000000537 * Math.cos(5.99181083831 + 246.9787129509 * t);
-            L0 += 0.00000000674 * Math.cos(2.57972741298 + 602.9880909536 * t);
-            L0 += 0.00000000539 * Math.cos(6.19662961610 + 696.5196376166 * t);
-            L0 += 0.00000000516 * Math.cos(2.19916575703 + 458.090760265 * t);
-            L0 += 0.00000000632 * Math.cos(5.26658553640 + 67.0773507355 * t);
-            L0 += 0.00000000581 * Math.cos(0.05320320337 + 95.931043108 * t);
-            L0 += 0.00000000504 * Math.cos(6.24600928623 + 149.723255829 * t);
-            L0 += 0.00000000638 * Math.cos(6.23121553223 + 10063.7223490764 * t);
-            L0 += 0.00000000528 * Math.cos(0.20662780149 + 310.1720945331 * t);
-            L0 += 0.00000000537 * Math.cos(2.96207822442 + 73.1370671646 * t);
-            L0 += 0.00000000508 * Math.cos(5.29969144068 + 335.7749571987 * t);
-            L0 += 0.00000000487 * Math.cos(2.83772541949 + 143.9341228421 * t);
-            L0 += 0.00000000537 * Math.cos(3.36808372143 + 252.0865223816 * t);
-            L0 += 0.00000000632 * Math.cos(5.88494938125 + 920.8644333185 * t);
-            L0 += 0.00000000523 * Math.cos(6.13183488285 + 1589.0728952838 * t);
-            L0 += 0.00000000579 * Math.cos(0.04597861846 + 563.6312150384 * t);
-            L0 += 0.00000000613 * Math.cos(0.34938781762 + 343.4792050305 * t);
-            L0 += 0.00000000495 * Math.cos(2.89212499810 + 61.448276443 * t);
-            L0 += 0.00000000623 * Math.cos(0.71740350315 + 513.079881013 * t);
-            L0 += 0.00000000498 * Math.cos(2.53375871592 + 41.7563723602 * t);
-            L0 += 0.00000000564 * Math.cos(2.01612524784 + 449.2802922348 * t);
-            L0 += 0.00000000480 * Math.cos(0.10535023009 + 69.6737891366 * t);
-            L0 += 0.00000000494 * Math.cos(3.25187012728 + 428.0826635843 * t);
-            L0 += 0.00000000536 * Math.cos(5.81149025999 + 282.6640680339 * t);
-            L0 += 0.00000000468 * Math.cos(0.89483830828 + 541.5398145106 * t);
-            L0 += 0.00000000533 * Math.cos(2.44239677121 + 393.4610900843 * t);
-            L0 += 0.00000000589 * Math.cos(6.24067076234 + 29.7956483596 * t);
-            L0 += 0.00000000465 * Math.cos(0.25006743710 + 57.255490749 * t);
-            L0 += 0.00000000622 * Math.cos(3.89339038121 + 416.7763308895 * t);
-            L0 += 0.00000000519 * Math.cos(2.72375973888 + 469.1364605289 * t);
-            L0 += 0.00000000498 * Math.cos(1.76422801185 + 380.3884003909 * t);
-            L0 += 0.00000000596 * Math.cos(0.83642843095 + 98.3574718034 * t);
-            L0 += 0.00000000459 * Math.cos(0.39052216206 + 197.7999770492 * t);
-            L0 += 0.00000000574 * Math.cos(2.86366933069 + 170.7608257851 * t);
-            L0 += 0.00000000518 * Math.cos(3.38058345605 + 535.9107402181 * t);
-            L0 += 0.00000000564 * Math.cos(1.20395155832 + 832.5894539325 * t);
-            L0 += 0.00000000556 * Math.cos(4.39974034374 + 196.6243208816 * t);
-            L0 += 0.00000000537 * Math.cos(3.93637064940 + 460.5384408198 * t);
-            L0 += 0.00000000482 * Math.cos(2.41562148830 + 827.9235874865 * t);
-            L0 += 0.00000000578 * Math.cos(2.39644032176 + 1670.0742689746 * t);
-            L0 += 0.00000000475 * Math.cos(4.19223519775 + 271.4059194489 * t);
-            L0 += 0.00000000452 * Math.cos(3.99146251480 + 135.336103133 * t);
-            L0 += 0.00000000514 * Math.cos(6.11377193423 + 1894.4190646765 * t);
-            L0 += 0.00000000531 * Math.cos(3.45607724228 + 450.4559484024 * t);
-            L0 += 0.00000000492 * Math.cos(5.87591888758 + 170.1701249541 * t);
-            L0 += 0.00000000588 * Math.cos(2.66953705406 + 310.9752436852 * t);
-            L0 += 0.00000000564 * Math.cos(1.04491117370 + 446.3113468182 * t);
-            L0 += 0.00000000440 * Math.cos(5.85084571537 + 224.2329211173 * t);
-            L0 += 0.00000000441 * Math.cos(2.19799439287 + 119.3950417595 * t);
-            L0 += 0.00000000549 * Math.cos(6.05651523611 + 76.3779458602 * t);
-            L0 += 0.00000000573 * Math.cos(2.29898526750 + 122.4758617607 * t);
-            L0 += 0.00000000473 * Math.cos(4.61187869812 + 291.262087743 * t);
-            L0 += 0.00000000553 * Math.cos(4.90464199013 + 463.5073862364 * t);
-            L0 += 0.00000000599 * Math.cos(1.48666209087 + 149.8238295655 * t);
-            L0 += 0.00000000499 * Math.cos(3.72896978991 + 853.196381752 * t);
-            L0 += 0.00000000440 * Math.cos(5.05024690419 + 79.4474650133 * t);
-            L0 += 0.00000000558 * Math.cos(0.42332722744 + 283.6272758804 * t);
-            L0 += 0.00000000458 * Math.cos(4.49655973916 + 754.8389099486 * t);
-            L0 += 0.00000000449 * Math.cos(1.32861330901 + 308.6876218248 * t);
-            L0 += 0.00000000565 * Math.cos(0.45628024105 + 241.8709035202 * t);
-            L0 += 0.00000000510 * Math.cos(3.70202346104 + 452.4616859725 * t);
-            L0 += 0.00000000404 * Math.cos(0.12335821240 + 1097.0942747017 * t);
-            L0 += 0.00000000409 * Math.cos(4.02092464698 + 735.8765135318 * t);
-            L0 += 0.00000000464 * Math.cos(3.82915608692 + 1094.5460204104 * t);
-            L0 += 0.00000000439 * Math.cos(2.72266354653 + 376.1956146969 * t);
-            L0 += 0.00000000478 * Math.cos(0.23380952322 + 1182.9215735329 * t);
-            L0 += 0.00000000412 * Math.cos(1.21971515436 + 419.4846438752 * t);
-            L0 += 0.00000000546 * Math.cos(0.22296640745 + 829.6205085159 * t);
-            L0 += 0.00000000510 * Math.cos(2.69499052512 + 412.5835451955 * t);
-            L0 += 0.00000000409 * Math.cos(2.51935747849 + 409.0720830577 * t);
-            L0 += 0.00000000451 * Math.cos(0.56137272347 + 758.7710632117 * t);
-            L0 += 0.00000000399 * Math.cos(0.86037315330 + 337.8019466282 * t);
-            L0 += 0.00000000393 * Math.cos(0.40202463200 + 107.4980082337 * t);
-            L0 += 0.00000000494 * Math.cos(5.02745190154 + 619.2903584945 * t);
-            L0 += 0.00000000404 * Math.cos(0.08539758465 + 18.9623964168 * t);
-            L0 += 0.00000000504 * Math.cos(4.18251931021 + 449.4927405559 * t);
-            L0 += 0.00000000406 * Math.cos(3.80082989682 + 34.5309507748 * t);
-            L0 += 0.00000000545 * Math.cos(2.80919248176 + 514.5643537213 * t);
-            L0 += 0.00000000390 * Math.cos(1.65941826256 + 447.2051186955 * t);
-            L0 += 0.00000000448 * Math.cos(2.81540452771 + 400.1652468079 * t);
-            L0 += 0.00000000405 * Math.cos(4.86073222353 + 1404.0849754971 * t);
-            L0 += 0.00000000476 * Math.cos(1.61050626902 + 54.2865453324 * t);
-            L0 += 0.00000000406 * Math.cos(1.29798079034 + 226.7924762567 * t);
-            L0 += 0.00000000526 * Math.cos(5.35780726572 + 838.218528225 * t);
-            L0 += 0.00000000403 * Math.cos(2.75405589772 + 285.1117485887 * t);
-            L0 += 0.00000000381 * Math.cos(4.97702366598 + 309.2783226558 * t);
-            L0 += 0.00000000448 * Math.cos(1.37926537411 + 745.277682393 * t);
-            L0 += 0.00000000419 * Math.cos(0.90546724862 + 451.7279727896 * t);
-            L0 += 0.00000000450 * Math.cos(1.92391706975 + 474.9468453752 * t);
-            L0 += 0.00000000474 * Math.cos(5.54351717465 + 494.2662424425 * t);
-            L0 += 0.00000000460 * Math.cos(5.09575399931 + 289.5651667136 * t);
-            L0 += 0.00000000455 * Math.cos(3.14755087330 + 168.5737776612 * t);
-            L0 += 0.00000000372 * Math.cos(4.87645271422 + 116.5379709275 * t);
-            L0 += 0.00000000479 * Math.cos(1.08512503555 + 154.2984995498 * t);
-            L0 += 0.00000000374 * Math.cos(0.16389070181 + 1190.7858800591 * t);
-            L0 += 0.00000000422 * Math.cos(3.51871257208 + 706.8145783551 * t);
-            L0 += 0.00000000354 * Math.cos(4.06405413226 + 124.2904028691 * t);
-            L0 += 0.00000000494 * Math.cos(4.57924296149 + 167.7224443993 * t);
-            L0 += 0.00000000357 * Math.cos(5.78050145791 + 1265.5674786264 * t);
-            L0 += 0.00000000402 * Math.cos(2.67652703260 + 464.4705940829 * t);
-            L0 += 0.00000000370 * Math.cos(2.21677703856 + 232.0490435337 * t);
-            L0 += 0.00000000462 * Math.cos(4.10424305270 + 27.7204748203 * t);
-            L0 += 0.00000000364 * Math.cos(3.07518732480 + 442.639825986 * t);
-            L0 += 0.00000000403 * Math.cos(1.69214233165 + 90.2807169561 * t);
-            L0 += 0.00000000348 * Math.cos(1.16647947937 + 357.4456666012 * t);
-            L0 += 0.00000000443 * Math.cos(1.32306861852 + 298.2326223919 * t);
-            L0 += 0.00000000386 * Math.cos(4.34980428548 + 227.5261894396 * t);
-            L0 += 0.00000000337 * Math.cos(5.92030047826 + 445.3481389717 * t);
-            L0 += 0.00000000356 * Math.cos(2.38824200660 + 511.5954083047 * t);
-            L0 += 0.00000000357 * Math.cos(3.19265737844 + 21.1976286505 * t);
-            L0 += 0.00000000406 * Math.cos(3.72223708907 + 3116.2676309979 * t);
-            L0 += 0.00000000341 * Math.cos(3.05116722794 + 15.7810026791 * t);
-            L0 += 0.00000000379 * Math.cos(4.72472516443 + 30.5987975117 * t);
-            L0 += 0.00000000400 * Math.cos(0.71868453904 + 836.5216071956 * t);
-            L0 += 0.00000000370 * Math.cos(0.17259001853 + 6531.661656265 * t);
-            L0 += 0.00000000456 * Math.cos(0.83408547295 + 674.8007441043 * t);
-            L0 += 0.00000000376 * Math.cos(5.91068811321 + 1617.3840709351 * t);
-            L0 += 0.00000000392 * Math.cos(1.90856045571 + 25863.55834587229 * t);
-            L0 += 0.00000000333 * Math.cos(4.77074940789 + 76.7873361374 * t);
-            L0 += 0.00000000332 * Math.cos(0.85699402720 + 749.2098356561 * t);
-            L0 += 0.00000000321 * Math.cos(3.88221470645 + 38.6061163898 * t);
-            L0 += 0.00000000321 * Math.cos(2.59404134515 + 1300.9922012785 * t);
-            L0 += 0.00000000438 * Math.cos(2.60178805278 + 224.4566702865 * t);
-            L0 += 0.00000000371 * Math.cos(3.73501205989 + 328.2407190726 * t);
-            L0 += 0.00000000357 * Math.cos(0.03656571669 + 148.8124376092 * t);
-            L0 += 0.00000000389 * Math.cos(3.06990362181 + 1012.9115072732 * t);
-            L0 += 0.00000000392 * Math.cos(3.14428599675 + 125.1841747464 * t);
-            L0 += 0.00000000326 * Math.cos(2.23565995627 + 89.5993933999 * t);
-            L0 += 0.00000000314 * Math.cos(4.56810921721 + 1681.1199692385 * t);
-            L0 += 0.00000000333 * Math.cos(4.37613329736 + 147.9668498417 * t);
-            L0 += 0.00000000326 * Math.cos(4.15448016748 + 21.1494445407 * t);
-            L0 += 0.00000000371 * Math.cos(4.09066371754 + 239.1625905345 * t);
-            L0 += 0.00000000372 * Math.cos(1.12230345314 + 321.7603115182 * t);
-            L0 += 0.00000000305 * Math.cos(6.12924444546 + 19.9737883731 * t);
-            L0 += 0.00000000407 * Math.cos(3.65906570714 + 679.2541622292 * t);
-            L0 += 0.00000000406 * Math.cos(3.58469900333 + 26013.1215430069 * t);
-            L0 += 0.00000000310 * Math.cos(3.92339533494 + 229.0800981171 * t);
-            L0 += 0.00000000321 * Math.cos(1.35118535306 + 172.4577468145 * t);
-            L0 += 0.00000000332 * Math.cos(3.54513021513 + 288.7350853111 * t);
-            L0 += 0.00000000312 * Math.cos(2.87878773413 + 806.725958836 * t);
-            L0 += 0.00000000372 * Math.cos(1.99953045718 + 192.8040422031 * t);
-            L0 += 0.00000000302 * Math.cos(0.01867543539 + 501.3797894433 * t);
-            L0 += 0.00000000299 * Math.cos(3.96468960950 + 20277.0078952874 * t);
-            L0 += 0.00000000308 * Math.cos(2.66235795286 + 248.7238180901 * t);
-            L0 += 0.00000000298 * Math.cos(3.52867456736 + 21.4582610814 * t);
-            L0 += 0.00000000370 * Math.cos(3.51061046963 + 91.4563731237 * t);
-            L0 += 0.00000000297 * Math.cos(0.79872983355 + 742.9900605326 * t);
-            L0 += 0.00000000414 * Math.cos(4.81163687199 + 589.4947101349 * t);
-            L0 += 0.00000000302 * Math.cos(5.26079338050 + 27.5604161259 * t);
-            L0 += 0.00000000314 * Math.cos(3.14643487607 + 361.3778198643 * t);
-            L0 += 0.00000000356 * Math.cos(4.63707521448 + 442.7517005706 * t);
-            L0 += 0.00000000357 * Math.cos(3.44793069844 + 44.6134431922 * t);
-            L0 += 0.00000000370 * Math.cos(4.25032151516 + 304.2342036999 * t);
-            L0 += 0.00000000366 * Math.cos(5.43115395433 + 625.9945152181 * t);
-            L0 += 0.00000000365 * Math.cos(0.30454498410 + 6283.0758499914 * t);
-            L0 += 0.00000000322 * Math.cos(2.32892248876 + 229.4526051326 * t);
-            L0 += 0.00000000369 * Math.cos(3.28573365074 + 104.5290628171 * t);
-            L0 += 0.00000000327 * Math.cos(2.98588869318 + 348.8476468921 * t);
-            L0 += 0.00000000315 * Math.cos(3.66842071994 + 230.9370778409 * t);
-            L0 += 0.00000000356 * Math.cos(0.90433599977 + 29.7474642498 * t);
-            L0 += 0.00000000384 * Math.cos(0.91820739126 + 549.7284439425 * t);
-            L0 += 0.00000000317 * Math.cos(3.86462587284 + 639.897286314 * t);
-            L0 += 0.00000000333 * Math.cos(4.95319798125 + 881.5075574033 * t);
-            L0 += 0.00000000285 * Math.cos(4.09883967296 + 904.1896587621 * t);
-            L0 += 0.00000000338 * Math.cos(5.65177488491 + 195.7729876197 * t);
-            L0 += 0.00000000365 * Math.cos(0.57418860616 + 285.6330134505 * t);
-            L0 += 0.00000000363 * Math.cos(0.98999016221 + 839.7030009333 * t);
-            L0 += 0.00000000330 * Math.cos(2.26308969695 + 49.1787359017 * t);
-            L0 += 0.00000000335 * Math.cos(2.25619157817 + 272.5815756165 * t);
-            L0 += 0.00000000376 * Math.cos(5.87496858487 + 268.9582388941 * t);
-            L0 += 0.00000000362 * Math.cos(4.94491380965 + 572.2292347475 * t);
-            L0 += 0.00000000320 * Math.cos(5.58342880588 + 459.3627846522 * t);
-            L0 += 0.00000000299 * Math.cos(2.86286938521 + 883.7951792637 * t);
-            L0 += 0.00000000286 * Math.cos(2.49409963193 + 156.043604689 * t);
-            L0 += 0.00000000272 * Math.cos(3.62976505444 + 754.0357607965 * t);
-            L0 += 0.00000000349 * Math.cos(2.34615857088 + 6069.7767545534 * t);
-            L0 += 0.00000000279 * Math.cos(4.04872155075 + 180.7951340927 * t);
-            L0 += 0.00000000328 * Math.cos(1.21350330743 + 148.1905990109 * t);
-            L0 += 0.00000000315 * Math.cos(0.74270298817 + 320.2758388099 * t);
-            L0 += 0.00000000324 * Math.cos(5.54296698387 + 1507.1777497157 * t);
-            L0 += 0.00000000266 * Math.cos(4.36134021576 + 1310.3933701397 * t);
-            L0 += 0.00000000262 * Math.cos(5.84934968714 + 450.1740641121 * t);
-            L0 += 0.00000000280 * Math.cos(5.05848320657 + 102.523325247 * t);
-            L0 += 0.00000000347 * Math.cos(4.70068639620 + 282.1428031721 * t);
-            L0 += 0.00000000342 * Math.cos(5.47365149093 + 163.5778428151 * t);
-            L0 += 0.00000000364 * Math.cos(3.29301824378 + 378.9039276826 * t);
-            L0 += 0.00000000330 * Math.cos(4.63426494882 + 341.9947323222 * t);
-            L0 += 0.00000000259 * Math.cos(2.43682741156 + 170.0100662597 * t);
-            L0 += 0.00000000336 * Math.cos(3.79029047358 + 9999.986450773 * t);
-            L0 += 0.00000000284 * Math.cos(2.52583672467 + 266.1011680621 * t);
-            L0 += 0.00000000281 * Math.cos(3.93593342516 + 194.1766403268 * t);
-            L0 += 0.00000000297 * Math.cos(0.18595848541 + 491.8185618877 * t);
-            L0 += 0.00000000290 * Math.cos(4.49575150721 + 151.850818995 * t);
-            L0 += 0.00000000284 * Math.cos(1.59495665161 + 336.8387387817 * t);
-            L0 += 0.00000000255 * Math.cos(5.85817353877 + 229.340730548 * t);
-            L0 += 0.00000000260 * Math.cos(5.92834225312 + 455.0694252217 * t);
-            L0 += 0.00000000274 * Math.cos(0.53977064975 + 380.2396425446 * t);
-            L0 += 0.00000000259 * Math.cos(3.15728797958 + 454.7493078329 * t);
-            L0 += 0.00000000303 * Math.cos(0.17851964142 + 384.5811860849 * t);
-            L0 += 0.00000000285 * Math.cos(1.29732672572 + 25.1297819136 * t);
-            L0 += 0.00000000273 * Math.cos(4.18776699292 + 177.3049238143 * t);
-            L0 += 0.00000000326 * Math.cos(1.68159391466 + 161.7208630913 * t);
-            L0 += 0.00000000321 * Math.cos(2.36931686576 + 2274.5468326365 * t);
-            L0 += 0.00000000241 * Math.cos(3.57660492473 + 150.31395666 * t);
-            L0 += 0.00000000273 * Math.cos(3.78780099400 + 380.0158933754 * t);
-            L0 += 0.00000000265 * Math.cos(3.02540120552 + 454.7974919427 * t);
-            L0 += 0.00000000265 * Math.cos(6.06087280189 + 455.0212411119 * t);
-            L0 += 0.00000000279 * Math.cos(3.82392760479 + 31.5407534988 * t);
-            L0 += 0.00000000273 * Math.cos(2.64820862667 + 838.0060799039 * t);
-            L0 += 0.00000000238 * Math.cos(5.17487170793 + 263.0203480609 * t);
-            L0 += 0.00000000299 * Math.cos(3.94906046599 + 531.978586955 * t);
-            L0 += 0.00000000317 * Math.cos(2.28289083599 + 44.070926471 * t);
-            L0 += 0.00000000250 * Math.cos(1.35950829789 + 304.1223291153 * t);
-            L0 += 0.00000000312 * Math.cos(2.73327875294 + 442.3791935551 * t);
-            L0 += 0.00000000314 * Math.cos(3.86400459047 + 734.4557312983 * t);
-            L0 += 0.00000000251 * Math.cos(0.15148137746 + 221.1634019642 * t);
-            L0 += 0.00000000272 * Math.cos(5.71864670101 + 164.5410506616 * t);
-            L0 += 0.00000000305 * Math.cos(4.96642198943 + 1140.38330388 * t);
-            L0 += 0.00000000282 * Math.cos(5.46073788901 + 550.1378342197 * t);
-            L0 += 0.00000000273 * Math.cos(5.68721459468 + 92.4195809702 * t);
-            L0 += 0.00000000256 * Math.cos(0.88787970870 + 418.5214360287 * t);
-            L0 += 0.00000000229 * Math.cos(5.02021405557 + 144.8973306886 * t);
-            L0 += 0.00000000231 * Math.cos(5.70236752870 + 132.8884225782 * t);
-            L0 += 0.00000000218 * Math.cos(2.05623736180 + 303.0585475323 * t);
-            L0 += 0.00000000300 * Math.cos(1.76109447754 + 371.5297482509 * t);
-            L0 += 0.00000000216 * Math.cos(2.97122807313 + 176.6505325085 * t);
-            L0 += 0.00000000224 * Math.cos(3.12798198868 + 188.9200730498 * t);
-            L0 += 0.00000000212 * Math.cos(1.30757526083 + 74.1484591209 * t);
-            L0 += 0.00000000238 * Math.cos(4.65119406609 + 385.7568422525 * t);
-            L0 += 0.00000000216 * Math.cos(0.07086910120 + 893.3564068193 * t);
-            L0 += 0.00000000262 * Math.cos(5.78959872639 + 635.9651330509 * t);
-            L0 += 0.00000000250 * Math.cos(4.47327859711 + 551.1010420662 * t);
-            L0 += 0.00000000222 * Math.cos(1.64692618955 + 76.42612997 * t);
-            L0 += 0.00000000254 * Math.cos(2.61838408005 + 525.2375469697 * t);
-            L0 += 0.00000000284 * Math.cos(4.13290731223 + 544.5087599272 * t);
-            L0 += 0.00000000262 * Math.cos(2.82476092056 + 971.1069508032 * t);
-            L0 += 0.00000000266 * Math.cos(4.12467258610 + 375.6743498351 * t);
-            L0 += 0.00000000212 * Math.cos(3.61675003296 + 75.4147380137 * t);
-            L0 += 0.00000000253 * Math.cos(3.14224867483 + 270.1820791715 * t);
-            L0 += 0.00000000250 * Math.cos(4.32883971376 + 346.4481504471 * t);
-            L0 += 0.00000000273 * Math.cos(1.95676918609 + 402.2191684878 * t);
-            L0 += 0.00000000259 * Math.cos(1.96371242284 + 968.1380053866 * t);
-            L0 += 0.00000000238 * Math.cos(1.29663338057 + 421.1815649046 * t);
-            L0 += 0.00000000243 * Math.cos(5.94961177434 + 117.36805233 * t);
-            L0 += 0.00000000241 * Math.cos(4.70849619029 + 406.954470903 * t);
-            L0 += 0.00000000216 * Math.cos(3.31232425021 + 190.665178189 * t);
-            L0 += 0.00000000201 * Math.cos(1.23733749784 + 799.6124118352 * t);
-            L0 += 0.00000000223 * Math.cos(0.98087204684 + 627.3671133418 * t);
-            L0 += 0.00000000226 * Math.cos(1.66139333004 + 1366.2125722902 * t);
-            L0 += 0.00000000205 * Math.cos(0.33839683950 + 143.3434220111 * t);
-            L0 += 0.00000000240 * Math.cos(0.71559872262 + 525.7588118315 * t);
-            L0 += 0.00000000223 * Math.cos(2.57722930616 + 981.6313862053 * t);
-            L0 += 0.00000000193 * Math.cos(4.48974066435 + 172.1971143836 * t);
-            L0 += 0.00000000221 * Math.cos(2.88670838151 + 238.9019581036 * t);
-            L0 += 0.00000000177 * Math.cos(3.87122035013 + 389.6889955156 * t);
-            L0 += 0.00000000175 * Math.cos(5.85737374379 + 170.7126416753 * t);
-            L0 += 0.00000000233 * Math.cos(0.63169996424 + 980.6681783588 * t);
-            L0 += 0.00000000225 * Math.cos(4.81504648561 + 88.274979386 * t);
-            L0 += 0.00000000210 * Math.cos(2.49819501106 + 128.4350044533 * t);
-            L0 += 0.00000000172 * Math.cos(0.91255921858 + 210.8514148832 * t);
-            L0 += 0.00000000176 * Math.cos(3.85133296117 + 605.9570363702 * t);
-            L0 += 0.00000000211 * Math.cos(1.72999855867 + 10213.285546211 * t);
-            L0 += 0.00000000170 * Math.cos(1.61405340100 + 1512.8068240082 * t);
-            L0 += 0.00000000216 * Math.cos(1.54874566441 + 1060.8664028975 * t);
-            L0 += 0.00000000194 * Math.cos(6.07381783144 + 520.129737539 * t);
-            L0 += 0.00000000170 * Math.cos(2.58526747515 + 1515.7757694248 * t);
-            L0 += 0.00000000172 * Math.cos(1.45073604378 + 995.6460318858 * t);
-            L0 += 0.00000000160 * Math.cos(4.20015913513 + 433.7117378768 * t);
-            L0 += 0.00000000219 * Math.cos(1.63985385568 + 630.3360587584 * t);
-            L0 += 0.00000000219 * Math.cos(1.96273394194 + 313.6835566709 * t);
-            L0 += 0.00000000159 * Math.cos(3.62343846627 + 73.9784494152 * t);
-            L0 += 0.00000000206 * Math.cos(0.83764718449 + 104.8378793578 * t);
-            L0 += 0.00000000203 * Math.cos(0.68701289007 + 1363.2436268736 * t);
-            L0 += 0.00000000158 * Math.cos(0.81666479221 + 987.5692770385 * t);
-            L0 += 0.00000000172 * Math.cos(2.97938676702 + 327.4375699205 * t);
-            L0 += 0.00000000147 * Math.cos(2.15517092627 + 73.2489417492 * t);
-            L0 += 0.00000000156 * Math.cos(1.29643469200 + 216.2680408546 * t);
-            L0 += 0.00000000153 * Math.cos(3.77492020946 + 768.8535556291 * t);
-            L0 += 0.00000000147 * Math.cos(4.74903152642 + 73.3453099688 * t);
-            L0 += 0.00000000198 * Math.cos(2.80749830888 + 225.3080035484 * t);
-            L0 += 0.00000000179 * Math.cos(0.35410767087 + 421.2297490144 * t);
-            L0 += 0.00000000204 * Math.cos(3.47423038287 + 564.8550553158 * t);
-            L0 += 0.00000000172 * Math.cos(2.88420642820 + 233.533516242 * t);
-            L0 += 0.00000000195 * Math.cos(3.09114364733 + 294.3004691288 * t);
-            L0 += 0.00000000181 * Math.cos(4.75684139861 + 71.1582618449 * t);
-            L0 += 0.00000000160 * Math.cos(3.16134209902 + 70.0462961521 * t);
-            L0 += 0.00000000155 * Math.cos(2.07144269719 + 91.2439248026 * t);
-            L0 += 0.00000000154 * Math.cos(3.37462128317 + 138.4056222861 * t);
-            L0 += 0.00000000192 * Math.cos(6.19629054455 + 312.1990839626 * t);
-            L0 += 0.00000000162 * Math.cos(0.60896273267 + 73.0364934281 * t);
-            L0 += 0.00000000172 * Math.cos(2.01712700688 + 973.554631358 * t);
-            L0 += 0.00000000145 * Math.cos(1.72582731815 + 302.3772239761 * t);
-            L0 += 0.00000000170 * Math.cos(2.97437423989 + 3191.0492295652 * t);
-            L0 += 0.00000000153 * Math.cos(0.11158566352 + 138.6293714553 * t);
-            L0 += 0.00000000164 * Math.cos(5.37129563471 + 457.3570470821 * t);
-            L0 += 0.00000000132 * Math.cos(3.15466226029 + 523.4711899711 * t);
-            L0 += 0.00000000137 * Math.cos(2.88313323946 + 765.8846102125 * t);
-            L0 += 0.00000000128 * Math.cos(1.75773421717 + 77.7023598741 * t);
-            L0 += 0.00000000173 * Math.cos(5.03552846066 + 415.2918581812 * t);
-            L0 += 0.00000000137 * Math.cos(4.77137510538 + 73.4571845534 * t);
-            L0 += 0.00000000163 * Math.cos(0.99316178485 + 94.4253185403 * t);
-            L0 += 0.00000000138 * Math.cos(4.68330115148 + 517.1607921224 * t);
-            L0 += 0.00000000133 * Math.cos(2.95376828791 + 75.1541055828 * t);
-            L0 += 0.00000000134 * Math.cos(1.35779558361 + 249.9476583675 * t);
-            L0 += 0.00000000168 * Math.cos(4.73164542970 + 108.7218485111 * t);
-            L0 += 0.00000000119 * Math.cos(1.48229220689 + 237.4174853953 * t);
-            L0 += 0.00000000134 * Math.cos(1.52277177920 + 154.6710065653 * t);
-            L0 += 0.00000000117 * Math.cos(5.48642273610 + 437.6438911399 * t);
-            L0 += 0.00000000131 * Math.cos(5.76525548944 + 75.4359898731 * t);
-            L0 += 0.00000000127 * Math.cos(2.38309227230 + 208.8456773131 * t);
-            L0 += 0.00000000115 * Math.cos(4.38951350436 + 343.2185725996 * t);
-            L0 += 0.00000000114 * Math.cos(4.48142283161 + 224.8660605637 * t);
-            L0 += 0.00000000117 * Math.cos(5.37802827323 + 293.7097682978 * t);
-            L0 += 0.00000000136 * Math.cos(2.80772094137 + 374.4986936675 * t);
-        }
-        return L0;
-    }
-
-    public double L1(double t) // 426 terms of order 1
-    {
-        double L1 = 0;
-        L1 += 75.02543121646;
-        L1 += 0.00154458244 * Math.cos(5.24201658072 + 74.7815985673 * t);
-        L1 += 0.00024456413 * Math.cos(1.71255705309 + 1.4844727083 * t);
-        L1 += 0.00009257828 * Math.cos(0.42844639064 + 11.0457002639 * t);
-        L1 += 0.00008265977 * Math.cos(1.50220035110 + 63.7358983034 * t);
-        L1 += 0.00007841715 * Math.cos(1.31983607251 + 149.5631971346 * t);
-        L1 += 0.00003899105 * Math.cos(0.46483574024 + 3.9321532631 * t);
-        L1 += 0.00002283777 * Math.cos(4.17367533997 + 76.2660712756 * t);
-        L1 += 0.00001926600 * Math.cos(0.53013080152 + 2.9689454166 * t);
-        L1 += 0.00001232727 * Math.cos(1.58634458237 + 70.8494453042 * t);
-        L1 += 0.00000791206 * Math.cos(5.43641224143 + 3.1813937377 * t);
-        L1 += 0.00000766954 * Math.cos(1.99555409575 + 73.297125859 * t);
-        L1 += 0.00000481671 * Math.cos(2.98401996914 + 85.8272988312 * t);
-        L1 += 0.00000449798 * Math.cos(4.13826237508 + 138.5174968707 * t);
-        L1 += 0.00000445600 * Math.cos(3.72300400331 + 224.3447957019 * t);
-        L1 += 0.00000426554 * Math.cos(4.73126059388 + 71.8126531507 * t);
-        L1 += 0.00000347735 * Math.cos(2.45372261286 + 9.5612275556 * t);
-        L1 += 0.00000353752 * Math.cos(2.58324496886 + 148.0787244263 * t);
-        L1 += 0.00000317084 * Math.cos(5.57855232072 + 52.6901980395 * t);
-        L1 += 0.00000179920 * Math.cos(5.68367730922 + 12.5301729722 * t);
-        L1 += 0.00000171084 * Math.cos(3.00060075287 + 78.7137518304 * t);
-        L1 += 0.00000205585 * Math.cos(2.36263144251 + 2.4476805548 * t);
-        L1 += 0.00000158029 * Math.cos(2.90931969498 + 0.9632078465 * t);
-        L1 += 0.00000189068 * Math.cos(4.20242881378 + 56.6223513026 * t);
-        L1 += 0.00000154670 * Math.cos(5.59083925605 + 4.4534181249 * t);
-        L1 += 0.00000183762 * Math.cos(0.28371004654 + 151.0476698429 * t);
-        L1 += 0.00000143464 * Math.cos(2.59049246726 + 62.2514255951 * t);
-        L1 += 0.00000151984 * Math.cos(2.94217326890 + 77.7505439839 * t);
-        L1 += 0.00000153515 * Math.cos(4.65186885939 + 35.1640902212 * t);
-        L1 += 0.00000121452 * Math.cos(4.14839204920 + 127.4717966068 * t);
-        L1 += 0.00000115546 * Math.cos(3.73224603791 + 65.2203710117 * t);
-        L1 += 0.00000102022 * Math.cos(4.18754517993 + 145.6310438715 * t);
-        L1 += 0.00000101718 * Math.cos(6.03385875009 + 0.1118745846 * t);
-        L1 += 0.00000088202 * Math.cos(3.99035787994 + 18.1592472647 * t);
-        L1 += 0.00000087549 * Math.cos(6.15520787584 + 202.2533951741 * t);
-        L1 += 0.00000080530 * Math.cos(2.64124743934 + 22.0914005278 * t);
-        L1 += 0.00000072047 * Math.cos(6.04545933578 + 70.3281804424 * t);
-        L1 += 0.00000068570 * Math.cos(4.05071895264 + 77.962992305 * t);
-        L1 += 0.00000059173 * Math.cos(3.70413919082 + 67.6680515665 * t);
-        L1 += 0.00000047267 * Math.cos(3.54312460519 + 351.8165923087 * t);
-        L1 += 0.00000042534 * Math.cos(5.72357370899 + 5.4166259714 * t);
-        L1 += 0.00000044339 * Math.cos(5.90865821911 + 7.1135470008 * t);
-        L1 += 0.00000035605 * Math.cos(3.29197259183 + 8.0767548473 * t);
-        L1 += 0.00000035524 * Math.cos(3.32784616138 + 71.6002048296 * t);
-        L1 += 0.00000036116 * Math.cos(5.89964278801 + 33.6796175129 * t);
-        L1 += 0.00000030608 * Math.cos(5.46414592601 + 160.6088973985 * t);
-        L1 += 0.00000031454 * Math.cos(5.62015632303 + 984.6003316219 * t);
-        L1 += 0.00000038544 * Math.cos(4.91519003848 + 222.8603229936 * t);
-        L1 += 0.00000034996 * Math.cos(5.08034112149 + 38.1330356378 * t);
-        L1 += 0.00000030811 * Math.cos(5.49591403863 + 59.8037450403 * t);
-        L1 += 0.00000028947 * Math.cos(4.51867390414 + 84.3428261229 * t);
-        L1 += 0.00000026627 * Math.cos(5.54127301037 + 131.4039498699 * t);
-        L1 += 0.00000029866 * Math.cos(1.65980844667 + 447.7958195265 * t);
-        L1 += 0.00000029206 * Math.cos(1.14722640419 + 462.0229135281 * t);
-        L1 += 0.00000025753 * Math.cos(4.99362028417 + 137.0330241624 * t);
-        L1 += 0.00000025373 * Math.cos(5.73584678604 + 380.12776796 * t);
-        L1 += 0.00000021672 * Math.cos(2.80556379586 + 69.3649725959 * t);
-        L1 += 0.00000026605 * Math.cos(6.14640604128 + 299.1263942692 * t);
-        L1 += 0.00000022995 * Math.cos(2.24925345862 + 111.4301614968 * t);
-        L1 += 0.00000019246 * Math.cos(3.55645739672 + 54.1746707478 * t);
-        L1 += 0.00000021780 * Math.cos(0.93285892393 + 213.299095438 * t);
-        L1 += 0.00000019338 * Math.cos(1.86249384092 + 108.4612160802 * t);
-        L1 += 0.00000016153 * Math.cos(3.10208165842 + 14.977853527 * t);
-        L1 += 0.00000013126 * Math.cos(1.95385539499 + 87.3117715395 * t);
-        L1 += 0.00000013907 * Math.cos(1.54149045800 + 340.7708920448 * t);
-        L1 += 0.00000013549 * Math.cos(4.38455126720 + 5.9378908332 * t);
-        L1 += 0.00000013102 * Math.cos(5.88301410143 + 6.2197751235 * t);
-        L1 += 0.00000011810 * Math.cos(0.32615567587 + 35.4247226521 * t);
-        L1 += 0.00000010980 * Math.cos(1.69230280951 + 45.5766510387 * t);
-        L1 += 0.00000012351 * Math.cos(0.32823896833 + 51.2057253312 * t);
-        L1 += 0.00000010906 * Math.cos(5.97068444790 + 265.9892934775 * t);
-        L1 += 0.00000011446 * Math.cos(3.37831545858 + 72.3339180125 * t);
-        L1 += 0.00000012013 * Math.cos(3.60395709253 + 269.9214467406 * t);
-        L1 += 0.00000011662 * Math.cos(1.74504271366 + 79.2350166922 * t);
-        L1 += 0.00000013777 * Math.cos(2.69028726334 + 225.8292684102 * t);
-        L1 += 0.00000012006 * Math.cos(5.34430562395 + 152.5321425512 * t);
-        L1 += 0.00000009866 * Math.cos(5.50316093605 + 153.4953503977 * t);
-        L1 += 0.00000010436 * Math.cos(4.16875643286 + 24.3790223882 * t);
-        L1 += 0.00000010632 * Math.cos(3.06875158069 + 284.1485407422 * t);
-        L1 += 0.00000009613 * Math.cos(0.49590148788 + 209.3669421749 * t);
-        L1 += 0.00000009283 * Math.cos(3.54479191952 + 41.6444977756 * t);
-        L1 += 0.00000009536 * Math.cos(5.60054956443 + 82.8583534146 * t);
-        L1 += 0.00000009740 * Math.cos(1.01087744586 + 68.8437077341 * t);
-        L1 += 0.00000009187 * Math.cos(4.49472579228 + 20.6069278195 * t);
-        L1 += 0.00000010159 * Math.cos(3.51765739489 + 529.6909650946 * t);
-        L1 += 0.00000008612 * Math.cos(3.88869873588 + 60.7669528868 * t);
-        L1 += 0.00000010030 * Math.cos(4.64790204580 + 77.2292791221 * t);
-        L1 += 0.00000008689 * Math.cos(1.96813580258 + 195.1398481733 * t);
-        L1 += 0.00000008370 * Math.cos(4.40914764204 + 134.5853436076 * t);
-        L1 += 0.00000009273 * Math.cos(3.93291227900 + 39.6175083461 * t);
-        L1 += 0.00000007784 * Math.cos(5.35626068469 + 75.7448064138 * t);
-        L1 += 0.00000007724 * Math.cos(5.77176047568 + 73.8183907208 * t);
-        L1 += 0.00000007683 * Math.cos(4.44252070929 + 14.0146456805 * t);
-        L1 += 0.00000008355 * Math.cos(2.44425910430 + 146.594251718 * t);
-        L1 += 0.00000007954 * Math.cos(5.73093878181 + 184.7272873558 * t);
-        L1 += 0.00000007465 * Math.cos(2.18972405572 + 145.1097790097 * t);
-        L1 += 0.00000006430 * Math.cos(0.84582374839 + 32.1951448046 * t);
-        L1 += 0.00000006257 * Math.cos(2.17085130003 + 74.8934731519 * t);
-        L1 += 0.00000007911 * Math.cos(0.17275924476 + 120.358249606 * t);
-        L1 += 0.00000007036 * Math.cos(4.12047266896 + 191.2076949102 * t);
-        L1 += 0.00000006860 * Math.cos(2.13462553365 + 116.4260963429 * t);
-        L1 += 0.00000005191 * Math.cos(3.11155355454 + 106.9767433719 * t);
-        L1 += 0.00000004798 * Math.cos(2.25093144226 + 46.2097904851 * t);
-        L1 += 0.00000004566 * Math.cos(3.45427648666 + 0.7507595254 * t);
-        L1 += 0.00000004401 * Math.cos(3.94058045671 + 6.592282139 * t);
-        L1 += 0.00000004214 * Math.cos(5.17805765625 + 144.1465711632 * t);
-        L1 += 0.00000004409 * Math.cos(0.24427052932 + 92.940845832 * t);
-        L1 += 0.00000004866 * Math.cos(1.15344187054 + 112.9146342051 * t);
-        L1 += 0.00000004744 * Math.cos(5.18229292013 + 81.0013736908 * t);
-        L1 += 0.00000004332 * Math.cos(2.52429167546 + 99.1606209555 * t);
-        L1 += 0.00000003876 * Math.cos(2.78430217652 + 565.1156877467 * t);
-        L1 += 0.00000003801 * Math.cos(0.75133837939 + 58.1068240109 * t);
-        L1 += 0.00000004146 * Math.cos(5.84943984597 + 221.3758502853 * t);
-        L1 += 0.00000003885 * Math.cos(4.95626104286 + 125.9873238985 * t);
-        L1 += 0.00000003815 * Math.cos(3.23004401930 + 479.2883889155 * t);
-        L1 += 0.00000003679 * Math.cos(5.28098232097 + 66.9172920411 * t);
-        L1 += 0.00000003479 * Math.cos(2.95514470947 + 74.6697239827 * t);
-        L1 += 0.00000003514 * Math.cos(4.90090391308 + 28.3111756513 * t);
-        L1 += 0.00000004515 * Math.cos(4.15474629145 + 344.7030453079 * t);
-        L1 += 0.00000004036 * Math.cos(2.28903172191 + 109.9456887885 * t);
-        L1 += 0.00000004266 * Math.cos(2.68534591099 + 7.8643065262 * t);
-        L1 += 0.00000003428 * Math.cos(0.02846652682 + 140.001969579 * t);
-        L1 += 0.00000003644 * Math.cos(5.32002093810 + 408.4389436113 * t);
-        L1 += 0.00000003252 * Math.cos(1.44975192429 + 128.9562693151 * t);
-        L1 += 0.00000004143 * Math.cos(1.89070487241 + 277.0349937414 * t);
-        L1 += 0.00000003177 * Math.cos(0.04197149544 + 220.4126424388 * t);
-        L1 += 0.00000003901 * Math.cos(6.25926496244 + 0.8937718773 * t);
-        L1 += 0.00000003787 * Math.cos(0.02516903921 + 152.7445908723 * t);
-        L1 += 0.00000003200 * Math.cos(0.52009458683 + 2.2876218604 * t);
-        L1 += 0.00000002995 * Math.cos(1.94615440691 + 80.1982245387 * t);
-        L1 += 0.00000004029 * Math.cos(5.24603808726 + 96.8729990951 * t);
-        L1 += 0.00000003302 * Math.cos(4.81033551060 + 422.6660376129 * t);
-        L1 += 0.00000003189 * Math.cos(6.26156603400 + 456.3938392356 * t);
-        L1 += 0.00000002804 * Math.cos(1.35626949052 + 404.5067903482 * t);
-        L1 += 0.00000002970 * Math.cos(0.54327361056 + 159.1244246902 * t);
-        L1 += 0.00000003465 * Math.cos(5.88337990735 + 16.6747745564 * t);
-        L1 += 0.00000003518 * Math.cos(4.99649404130 + 36.6485629295 * t);
-        L1 += 0.00000003081 * Math.cos(2.82772472086 + 453.424893819 * t);
-        L1 += 0.00000003320 * Math.cos(1.56223495893 + 23.5758732361 * t);
-        L1 += 0.00000002573 * Math.cos(6.19617997586 + 135.5485514541 * t);
-        L1 += 0.00000002547 * Math.cos(5.19937103778 + 173.9422195228 * t);
-        L1 += 0.00000002534 * Math.cos(1.85452635674 + 490.3340891794 * t);
-        L1 += 0.00000003106 * Math.cos(6.07067928601 + 142.4496501338 * t);
-        L1 += 0.00000003302 * Math.cos(1.02846689671 + 297.6419215609 * t);
-        L1 += 0.00000002429 * Math.cos(1.33640100979 + 211.8146227297 * t);
-        L1 += 0.00000002792 * Math.cos(3.89897022917 + 358.9301393095 * t);
-        L1 += 0.00000002947 * Math.cos(5.31528985588 + 55.1378785943 * t);
-        L1 += 0.00000002449 * Math.cos(3.44007536754 + 206.1855484372 * t);
-        L1 += 0.00000002407 * Math.cos(4.38551271701 + 60.5545045657 * t);
-        L1 += 0.00000002425 * Math.cos(2.22643225523 + 66.70484372 * t);
-        L1 += 0.00000002295 * Math.cos(2.31690029267 + 31.492569389 * t);
-        L1 += 0.00000002225 * Math.cos(0.41365126245 + 81.3738807063 * t);
-        L1 += 0.00000002196 * Math.cos(0.76281798713 + 17.5261078183 * t);
-        L1 += 0.00000002301 * Math.cos(3.60815987923 + 288.0806940053 * t);
-        L1 += 0.00000002557 * Math.cos(0.73679737974 + 200.7689224658 * t);
-        L1 += 0.00000002158 * Math.cos(2.61924330277 + 13.3333221243 * t);
-        L1 += 0.00000002048 * Math.cos(6.27204714771 + 98.8999885246 * t);
-        L1 += 0.00000002054 * Math.cos(3.61072687338 + 333.657345044 * t);
-        L1 += 0.00000002190 * Math.cos(2.49696729700 + 76.4785195967 * t);
-        L1 += 0.00000002092 * Math.cos(1.66496421654 + 235.3904959658 * t);
-        L1 += 0.00000002206 * Math.cos(2.35938756479 + 347.8844390456 * t);
-        L1 += 0.00000002469 * Math.cos(4.70656858928 + 186.2117600641 * t);
-        L1 += 0.00000002226 * Math.cos(5.97327738150 + 1514.2912967165 * t);
-        L1 += 0.00000001851 * Math.cos(2.19455296942 + 203.7378678824 * t);
-        L1 += 0.00000001865 * Math.cos(4.98207204280 + 5.1078094307 * t);
-        L1 += 0.00000002171 * Math.cos(5.49034081907 + 373.0142209592 * t);
-        L1 += 0.00000001999 * Math.cos(5.80509154216 + 146.3818033969 * t);
-        L1 += 0.00000001903 * Math.cos(4.32950489567 + 49.5088043018 * t);
-        L1 += 0.00000001732 * Math.cos(3.94794012202 + 24.1183899573 * t);
-        L1 += 0.00000001747 * Math.cos(2.46883637489 + 55.6591434561 * t);
-        L1 += 0.00000001833 * Math.cos(3.35110048460 + 143.6253063014 * t);
-        L1 += 0.00000001686 * Math.cos(1.28621563322 + 103.0927742186 * t);
-        L1 += 0.00000001720 * Math.cos(2.35857527806 + 1.6445314027 * t);
-        L1 += 0.00000001641 * Math.cos(2.99507314472 + 391.1734682239 * t);
-        L1 += 0.00000001610 * Math.cos(0.97420709262 + 977.4867846211 * t);
-        L1 += 0.00000001696 * Math.cos(4.98332661473 + 387.2413149608 * t);
-        L1 += 0.00000001527 * Math.cos(3.15107379811 + 7.4223635415 * t);
-        L1 += 0.00000001570 * Math.cos(1.61119571428 + 991.7138786227 * t);
-        L1 += 0.00000001497 * Math.cos(2.89637638984 + 19.643719973 * t);
-        L1 += 0.00000001507 * Math.cos(3.32822127349 + 909.8187330546 * t);
-        L1 += 0.00000001375 * Math.cos(5.75263837916 + 19.1224551112 * t);
-        L1 += 0.00000001407 * Math.cos(2.20244941425 + 67.3592350258 * t);
-        L1 += 0.00000001364 * Math.cos(4.40006421418 + 27.0873353739 * t);
-        L1 += 0.00000001357 * Math.cos(4.33780029649 + 70.1157321213 * t);
-        L1 += 0.00000001311 * Math.cos(4.62202930578 + 81.8951455681 * t);
-        L1 += 0.00000001307 * Math.cos(2.79964247834 + 25.6028626656 * t);
-        L1 += 0.00000001312 * Math.cos(3.73623252660 + 628.8515860501 * t);
-        L1 += 0.00000001286 * Math.cos(3.96557527092 + 61.2882177486 * t);
-        L1 += 0.00000001723 * Math.cos(4.56068809303 + 305.3461693927 * t);
-        L1 += 0.00000001313 * Math.cos(4.90611014973 + 617.8058857862 * t);
-        L1 += 0.00000001508 * Math.cos(6.25017976193 + 604.4725636619 * t);
-        L1 += 0.00000001235 * Math.cos(5.93779486368 + 415.5524906121 * t);
-        L1 += 0.00000001278 * Math.cos(3.21119872139 + 92.0470739547 * t);
-        L1 += 0.00000001357 * Math.cos(0.72647086107 + 546.956440482 * t);
-        L1 += 0.00000001552 * Math.cos(5.05296247763 + 10.2949407385 * t);
-        L1 += 0.00000001230 * Math.cos(1.52077038294 + 157.6399519819 * t);
-        L1 += 0.00000001210 * Math.cos(2.63049415027 + 426.598190876 * t);
-        L1 += 0.00000001206 * Math.cos(4.83219370572 + 100.3844612329 * t);
-        L1 += 0.00000001234 * Math.cos(4.46203104116 + 162.0933701068 * t);
-        L1 += 0.00000001174 * Math.cos(5.32356191090 + 17.2654753874 * t);
-        L1 += 0.00000001431 * Math.cos(6.18138614295 + 14.2270940016 * t);
-        L1 += 0.00000001244 * Math.cos(0.16929250603 + 29.2049475286 * t);
-        L1 += 0.00000001180 * Math.cos(4.09719023908 + 443.8636662634 * t);
-        L1 += 0.00000001180 * Math.cos(3.31438239649 + 44.7253177768 * t);
-        L1 += 0.00000001259 * Math.cos(1.88793196065 + 0.6543913058 * t);
-        L1 += 0.00000001263 * Math.cos(3.49967730885 + 230.5645708254 * t);
-        L1 += 0.00000001168 * Math.cos(2.04071854201 + 30.7106720963 * t);
-        L1 += 0.00000001523 * Math.cos(2.28101186489 + 373.9079928365 * t);
-        L1 += 0.00000001429 * Math.cos(2.05075136274 + 181.7583419392 * t);
-        L1 += 0.00000001065 * Math.cos(2.95960854361 + 241.6102710893 * t);
-        L1 += 0.00000001253 * Math.cos(0.23639539817 + 561.1835344836 * t);
-        L1 += 0.00000001255 * Math.cos(1.25819925760 + 155.7829722581 * t);
-        L1 += 0.00000001044 * Math.cos(2.89293032709 + 543.0242872189 * t);
-        L1 += 0.00000001062 * Math.cos(3.26314901318 + 28.5718080822 * t);
-        L1 += 0.00000001124 * Math.cos(1.06535506684 + 88.1149206916 * t);
-        L1 += 0.00000001186 * Math.cos(5.73445278027 + 329.7251917809 * t);
-        L1 += 0.00000001190 * Math.cos(2.82438170535 + 41.1019810544 * t);
-        if (highAccuracy) {
-            L1 += 0.00000001067 * Math.cos(0.27101806190 + 58.319272332 * t);
-            L1 += 0.00000001017 * Math.cos(4.30527610005 + 67.8804998876 * t);
-            L1 += 0.00000000959 * Math.cos(5.20504598622 + 42.5382696529 * t);
-            L1 += 0.00000000984 * Math.cos(4.90934403664 + 465.9550667912 * t);
-            L1 += 0.00000000944 * Math.cos(0.66925769374 + 88.7962442478 * t);
-            L1 += 0.00000001017 * Math.cos(4.37095088461 + 13.4933808187 * t);
-            L1 += 0.00000001222 * Math.cos(5.13450955699 + 300.6108669775 * t);
-            L1 += 0.00000000989 * Math.cos(0.53937909300 + 80.7194894005 * t);
-            L1 += 0.00000000890 * Math.cos(3.09802121989 + 110.2063212194 * t);
-            L1 += 0.00000001095 * Math.cos(1.70637576740 + 43.1289704839 * t);
-            L1 += 0.00000000992 * Math.cos(4.17968869928 + 154.0166152595 * t);
-            L1 += 0.00000000950 * Math.cos(0.09841899432 + 273.1028404783 * t);
-            L1 += 0.00000000870 * Math.cos(4.77500238443 + 33.1371007917 * t);
-            L1 += 0.00000000867 * Math.cos(4.22078052532 + 20.4468691251 * t);
-            L1 += 0.00000000830 * Math.cos(5.23785245773 + 472.1748419147 * t);
-            L1 += 0.00000000884 * Math.cos(4.34377463442 + 105.4922706636 * t);
-            L1 += 0.00000000812 * Math.cos(3.53258780148 + 39.3568759152 * t);
-            L1 += 0.00000001055 * Math.cos(1.52219418153 + 227.3137411185 * t);
-            L1 += 0.00000000963 * Math.cos(1.87806076896 + 259.5088859231 * t);
-            L1 += 0.00000000859 * Math.cos(0.57844232244 + 152.0108776894 * t);
-            L1 += 0.00000000861 * Math.cos(4.69213709412 + 1059.3819301892 * t);
-            L1 += 0.00000001084 * Math.cos(2.79612346618 + 48.7580447764 * t);
-            L1 += 0.00000000994 * Math.cos(2.87052008214 + 454.9093665273 * t);
-            L1 += 0.00000000831 * Math.cos(1.62068330602 + 554.0699874828 * t);
-            L1 += 0.00000000891 * Math.cos(2.85026036860 + 32.2433289144 * t);
-            L1 += 0.00000000876 * Math.cos(0.83921717739 + 4.7353024152 * t);
-            L1 += 0.00000000707 * Math.cos(6.16918394997 + 3.6233367224 * t);
-            L1 += 0.00000000787 * Math.cos(1.95585343912 + 16.4623262353 * t);
-            L1 += 0.00000000702 * Math.cos(5.49557046240 + 558.0021407459 * t);
-            L1 += 0.00000000817 * Math.cos(0.38724470336 + 378.6432952517 * t);
-            L1 += 0.00000000804 * Math.cos(2.25693582099 + 16.04163511 * t);
-            L1 += 0.00000000866 * Math.cos(1.80814575866 + 258.8757464767 * t);
-            L1 += 0.00000000651 * Math.cos(3.72120167607 + 286.596221297 * t);
-            L1 += 0.00000000672 * Math.cos(1.00052727778 + 522.5774180938 * t);
-            L1 += 0.00000000631 * Math.cos(4.14839739363 + 141.6988906084 * t);
-            L1 += 0.00000000748 * Math.cos(4.19441869839 + 486.4019359163 * t);
-            L1 += 0.00000000668 * Math.cos(0.77754011576 + 120.9913890524 * t);
-            L1 += 0.00000000619 * Math.cos(4.31040053492 + 455.8725743738 * t);
-            L1 += 0.00000000619 * Math.cos(4.77556598202 + 453.9461586808 * t);
-            L1 += 0.00000000647 * Math.cos(5.74952736928 + 119.5069163441 * t);
-            L1 += 0.00000000609 * Math.cos(0.24149609998 + 117.9105690512 * t);
-            L1 += 0.00000000630 * Math.cos(1.79018649942 + 440.6822725257 * t);
-            L1 += 0.00000000601 * Math.cos(1.41196883461 + 218.9281697305 * t);
-            L1 += 0.00000000719 * Math.cos(4.27398947015 + 50.4025761791 * t);
-            L1 += 0.00000000594 * Math.cos(3.92150462249 + 25.2727942655 * t);
-            L1 += 0.00000000710 * Math.cos(0.45768559438 + 536.8045120954 * t);
-            L1 += 0.00000000706 * Math.cos(6.15599144951 + 258.0244132148 * t);
-            L1 += 0.00000000617 * Math.cos(2.80636989892 + 68.5618234438 * t);
-            L1 += 0.00000000587 * Math.cos(5.47247350993 + 767.3690829208 * t);
-            L1 += 0.00000000690 * Math.cos(3.48978614301 + 835.0371344873 * t);
-            L1 += 0.00000000537 * Math.cos(4.06668446648 + 450.9772132642 * t);
-            L1 += 0.00000000511 * Math.cos(0.60155300709 + 264.5048207692 * t);
-            L1 += 0.00000000694 * Math.cos(1.18127476921 + 129.9194771616 * t);
-            L1 += 0.00000000584 * Math.cos(1.94104733057 + 106.2741679563 * t);
-            L1 += 0.00000000522 * Math.cos(5.95180617510 + 518.6452648307 * t);
-            L1 += 0.00000000507 * Math.cos(4.39658523394 + 121.8427223143 * t);
-            L1 += 0.00000000627 * Math.cos(2.24582628581 + 218.4069048687 * t);
-            L1 += 0.00000000485 * Math.cos(0.02058107411 + 106.0135355254 * t);
-            L1 += 0.00000000592 * Math.cos(2.06072766194 + 296.1574488526 * t);
-            L1 += 0.00000000587 * Math.cos(0.18557470860 + 458.090760265 * t);
-            L1 += 0.00000000483 * Math.cos(1.50333774574 + 150.5264049811 * t);
-            L1 += 0.00000000474 * Math.cos(4.99848521665 + 458.8415197904 * t);
-            L1 += 0.00000000566 * Math.cos(1.94435189030 + 699.7010313543 * t);
-            L1 += 0.00000000472 * Math.cos(1.86519720200 + 180.1619946463 * t);
-            L1 += 0.00000000472 * Math.cos(0.07145793467 + 216.4804891757 * t);
-            L1 += 0.00000000571 * Math.cos(6.01195273302 + 47.061123747 * t);
-            L1 += 0.00000000460 * Math.cos(3.76890954025 + 342.2553647531 * t);
-            L1 += 0.00000000489 * Math.cos(2.96084966272 + 385.7568422525 * t);
-            L1 += 0.00000000458 * Math.cos(1.99730631732 + 275.5505210331 * t);
-            L1 += 0.00000000460 * Math.cos(5.75982407113 + 89.7594520943 * t);
-            L1 += 0.00000000549 * Math.cos(1.43219978325 + 171.6545976624 * t);
-            L1 += 0.00000000544 * Math.cos(0.04821904056 + 114.3991069134 * t);
-            L1 += 0.00000000450 * Math.cos(1.94933296558 + 148.5999892881 * t);
-            L1 += 0.00000000444 * Math.cos(2.94093732205 + 692.5874843535 * t);
-            L1 += 0.00000000442 * Math.cos(2.15938034999 + 173.6815870919 * t);
-            L1 += 0.00000000543 * Math.cos(2.61197342701 + 451.7279727896 * t);
-            L1 += 0.00000000465 * Math.cos(0.31777753866 + 756.3233826569 * t);
-            L1 += 0.00000000441 * Math.cos(2.82271922049 + 32.7164096664 * t);
-            L1 += 0.00000000538 * Math.cos(2.39420182072 + 339.2864193365 * t);
-            L1 += 0.00000000569 * Math.cos(0.84686482736 + 260.9933586314 * t);
-            L1 += 0.00000000572 * Math.cos(5.40379754526 + 278.5194664497 * t);
-            L1 += 0.00000000422 * Math.cos(4.61520857062 + 40.1600250673 * t);
-            L1 += 0.00000000451 * Math.cos(4.50911201020 + 142.1408335931 * t);
-            L1 += 0.00000000501 * Math.cos(0.18290112601 + 331.3215390738 * t);
-            L1 += 0.00000000468 * Math.cos(0.97688759019 + 760.25553592 * t);
-            L1 += 0.00000000443 * Math.cos(4.58896013561 + 149.6750717192 * t);
-            L1 += 0.00000000428 * Math.cos(1.02564850231 + 469.1364605289 * t);
-            L1 += 0.00000000500 * Math.cos(4.34235307579 + 166.828672522 * t);
-            L1 += 0.00000000412 * Math.cos(5.69502940499 + 92.3077063856 * t);
-            L1 += 0.00000000404 * Math.cos(5.18855270166 + 22.633917249 * t);
-            L1 += 0.00000000396 * Math.cos(3.98515136901 + 31.2319369581 * t);
-            L1 += 0.00000000421 * Math.cos(5.47567810199 + 104.0077979553 * t);
-            L1 += 0.00000000425 * Math.cos(3.50702044406 + 180.2738692309 * t);
-            L1 += 0.00000000415 * Math.cos(1.52291071520 + 497.4476361802 * t);
-            L1 += 0.00000000430 * Math.cos(2.39159932023 + 39.0962434843 * t);
-            L1 += 0.00000000401 * Math.cos(0.55271143649 + 95.3885263868 * t);
-            L1 += 0.00000000384 * Math.cos(2.48712922138 + 210.3301500214 * t);
-            L1 += 0.00000000422 * Math.cos(1.02056886848 + 468.2426886516 * t);
-            L1 += 0.00000000465 * Math.cos(5.72323435231 + 183.2428146475 * t);
-            L1 += 0.00000000383 * Math.cos(2.63486938783 + 685.4739373527 * t);
-            L1 += 0.00000000367 * Math.cos(5.39331524988 + 874.3940104025 * t);
-            L1 += 0.00000000461 * Math.cos(3.57961254790 + 187.6962327724 * t);
-            L1 += 0.00000000409 * Math.cos(4.21780704807 + 181.0557665236 * t);
-            L1 += 0.00000000440 * Math.cos(0.36380766054 + 367.9701020033 * t);
-            L1 += 0.00000000392 * Math.cos(5.44355925956 + 26.0235537909 * t);
-            L1 += 0.00000000431 * Math.cos(3.83885208954 + 254.9435932136 * t);
-            L1 += 0.00000000366 * Math.cos(2.92275490656 + 291.262087743 * t);
-            L1 += 0.00000000416 * Math.cos(2.54190330826 + 255.0554677982 * t);
-            L1 += 0.00000000348 * Math.cos(0.35176743482 + 46.470422916 * t);
-            L1 += 0.00000000413 * Math.cos(2.41518097006 + 483.2205421786 * t);
-            L1 += 0.00000000386 * Math.cos(4.76483292968 + 268.4369740323 * t);
-            L1 += 0.00000000344 * Math.cos(0.20350283971 + 184.0941479094 * t);
-            L1 += 0.00000000350 * Math.cos(1.24205287122 + 97.4155158163 * t);
-            L1 += 0.00000000361 * Math.cos(5.68393391400 + 353.301065017 * t);
-            L1 += 0.00000000359 * Math.cos(2.62171903648 + 162.8965192589 * t);
-            L1 += 0.00000000381 * Math.cos(3.38777292581 + 114.9416236346 * t);
-            L1 += 0.00000000352 * Math.cos(2.76374792259 + 295.1942410061 * t);
-            L1 += 0.00000000340 * Math.cos(1.34666360560 + 34.2008823747 * t);
-            L1 += 0.00000000433 * Math.cos(1.90504858871 + 123.5396433437 * t);
-            L1 += 0.00000000389 * Math.cos(2.41268196916 + 381.6122406683 * t);
-            L1 += 0.00000000383 * Math.cos(3.20416581825 + 79.4474650133 * t);
-            L1 += 0.00000000369 * Math.cos(2.15185889720 + 555.5544601911 * t);
-            L1 += 0.00000000370 * Math.cos(2.19402183275 + 562.6680071919 * t);
-            L1 += 0.00000000327 * Math.cos(3.40081544565 + 309.2783226558 * t);
-            L1 += 0.00000000378 * Math.cos(5.75737470182 + 916.9322800554 * t);
-            L1 += 0.00000000318 * Math.cos(4.53066393124 + 350.3321196004 * t);
-            L1 += 0.00000000376 * Math.cos(1.74845257914 + 545.4719677737 * t);
-            L1 += 0.00000000346 * Math.cos(4.15815107375 + 282.6640680339 * t);
-            L1 += 0.00000000319 * Math.cos(4.38123849114 + 154.979823106 * t);
-            L1 += 0.00000000320 * Math.cos(0.81846631878 + 610.6923387854 * t);
-            L1 += 0.00000000327 * Math.cos(5.07873875355 + 189.7232222019 * t);
-            L1 += 0.00000000306 * Math.cos(1.71903179875 + 394.3548619616 * t);
-            L1 += 0.00000000329 * Math.cos(1.82999432252 + 706.8145783551 * t);
-            L1 += 0.00000000335 * Math.cos(4.78622577105 + 109.3125493421 * t);
-            L1 += 0.00000000310 * Math.cos(5.08120849869 + 376.1956146969 * t);
-            L1 += 0.00000000327 * Math.cos(1.87637598331 + 207.8824694666 * t);
-            L1 += 0.00000000323 * Math.cos(1.88845451800 + 192.6921676185 * t);
-            L1 += 0.00000000284 * Math.cos(2.88222063053 + 384.0599212231 * t);
-            L1 += 0.00000000283 * Math.cos(4.63187254084 + 332.1728723357 * t);
-            L1 += 0.00000000294 * Math.cos(2.84554743359 + 267.4737661858 * t);
-            L1 += 0.00000000285 * Math.cos(0.97965330777 + 113.8778420516 * t);
-            L1 += 0.00000000319 * Math.cos(5.09582764612 + 285.6330134505 * t);
-            L1 += 0.00000000280 * Math.cos(0.67871105907 + 312.4597163935 * t);
-            L1 += 0.00000000300 * Math.cos(5.93285242876 + 124.2904028691 * t);
-            L1 += 0.00000000320 * Math.cos(4.86151247369 + 448.6895914038 * t);
-            L1 += 0.00000000310 * Math.cos(3.75000484412 + 253.5709950899 * t);
-            L1 += 0.00000000311 * Math.cos(5.59686590720 + 271.4059194489 * t);
-            L1 += 0.00000000316 * Math.cos(1.89686876211 + 228.276948965 * t);
-            L1 += 0.00000000269 * Math.cos(0.14585942744 + 142.6620984549 * t);
-            L1 += 0.00000000270 * Math.cos(2.12904548682 + 778.4147831847 * t);
-            L1 += 0.00000000267 * Math.cos(0.96560769114 + 90.8232336773 * t);
-            L1 += 0.00000000308 * Math.cos(1.38454900684 + 375.3924655448 * t);
-            L1 += 0.00000000298 * Math.cos(3.99595366039 + 451.9404211107 * t);
-            L1 += 0.00000000278 * Math.cos(3.38339026214 + 346.3999663373 * t);
-            L1 += 0.00000000287 * Math.cos(1.01918432834 + 905.8865797915 * t);
-            L1 += 0.00000000263 * Math.cos(0.16921968622 + 124.5028511902 * t);
-            L1 += 0.00000000283 * Math.cos(5.95865378023 + 362.8622925726 * t);
-            L1 += 0.00000000266 * Math.cos(3.07331582044 + 193.655375465 * t);
-            L1 += 0.00000000264 * Math.cos(5.47114459575 + 133.1008708993 * t);
-            L1 += 0.00000000288 * Math.cos(2.78232740152 + 1812.5239191084 * t);
-            L1 += 0.00000000361 * Math.cos(4.30140629884 + 198.321241911 * t);
-            L1 += 0.00000000257 * Math.cos(1.60206491208 + 369.0820676961 * t);
-            L1 += 0.00000000274 * Math.cos(2.88347680082 + 233.9060232575 * t);
-            L1 += 0.00000000267 * Math.cos(4.90554019072 + 681.5417840896 * t);
-            L1 += 0.00000000305 * Math.cos(1.55983861329 + 49.7212526229 * t);
-            L1 += 0.00000000253 * Math.cos(0.50457429429 + 316.3918696566 * t);
-            L1 += 0.00000000258 * Math.cos(5.81453094409 + 630.3360587584 * t);
-            L1 += 0.00000000280 * Math.cos(1.15452517706 + 986.0848043302 * t);
-            L1 += 0.00000000265 * Math.cos(4.93584097286 + 831.1049812242 * t);
-            L1 += 0.00000000246 * Math.cos(1.25186233620 + 134.0640787458 * t);
-            L1 += 0.00000000298 * Math.cos(5.75927878031 + 902.7051860538 * t);
-            L1 += 0.00000000240 * Math.cos(2.84888261768 + 44.0921783304 * t);
-            L1 += 0.00000000261 * Math.cos(2.20643594285 + 73.0846775379 * t);
-            L1 += 0.00000000321 * Math.cos(3.46864827820 + 372.4235201282 * t);
-            L1 += 0.00000000234 * Math.cos(6.06783988023 + 147.1155165798 * t);
-            L1 += 0.00000000262 * Math.cos(2.69623862046 + 167.7224443993 * t);
-            L1 += 0.00000000267 * Math.cos(4.05985113852 + 75.3028634291 * t);
-            L1 += 0.00000000240 * Math.cos(0.48471871511 + 172.1971143836 * t);
-            L1 += 0.00000000261 * Math.cos(4.64354183979 + 535.3200393871 * t);
-            L1 += 0.00000000244 * Math.cos(5.85987959874 + 507.5995645668 * t);
-            L1 += 0.00000000237 * Math.cos(4.79666486485 + 377.1588225434 * t);
-            L1 += 0.00000000224 * Math.cos(1.94589447357 + 593.426863398 * t);
-            L1 += 0.00000000226 * Math.cos(3.71637531808 + 449.2802922348 * t);
-            L1 += 0.00000000233 * Math.cos(5.98739382153 + 219.891377577 * t);
-            L1 += 0.00000000240 * Math.cos(2.71609791875 + 227.5261894396 * t);
-            L1 += 0.00000000221 * Math.cos(2.23218400256 + 460.5384408198 * t);
-            L1 += 0.00000000226 * Math.cos(2.74516124394 + 446.3113468182 * t);
-            L1 += 0.00000000221 * Math.cos(3.20339807670 + 463.5073862364 * t);
-            L1 += 0.00000000203 * Math.cos(5.04975483055 + 457.8783119439 * t);
-            L1 += 0.00000000191 * Math.cos(4.24841510229 + 4.665866446 * t);
-            L1 += 0.00000000169 * Math.cos(0.59358171769 + 983.1158589136 * t);
-            L1 += 0.00000000179 * Math.cos(4.12060524413 + 310.1720945331 * t);
-            L1 += 0.00000000187 * Math.cos(6.22165475247 + 294.6729761443 * t);
-            L1 += 0.00000000162 * Math.cos(1.30776665222 + 248.7238180901 * t);
-            L1 += 0.00000000219 * Math.cos(4.17413407057 + 303.8616966844 * t);
-            L1 += 0.00000000193 * Math.cos(1.64715944768 + 91.4563731237 * t);
-            L1 += 0.00000000170 * Math.cos(2.18067759964 + 66.1835788582 * t);
-            L1 += 0.00000000156 * Math.cos(4.92094728667 + 68.1893164283 * t);
-            L1 += 0.00000000145 * Math.cos(5.51404722738 + 280.9671470045 * t);
-            L1 += 0.00000000144 * Math.cos(5.81835834612 + 75.5323580927 * t);
-            L1 += 0.00000000153 * Math.cos(0.48549989656 + 144.8973306886 * t);
-            L1 += 0.00000000168 * Math.cos(5.81402201452 + 149.45132255 * t);
-            L1 += 0.00000000150 * Math.cos(4.66632209585 + 306.830642101 * t);
-            L1 += 0.00000000131 * Math.cos(1.01359934164 + 175.1660598002 * t);
-            L1 += 0.00000000174 * Math.cos(3.03279013213 + 298.2326223919 * t);
-            L1 += 0.00000000163 * Math.cos(1.97665571311 + 221.1634019642 * t);
-            L1 += 0.00000000144 * Math.cos(2.59058085010 + 217.2312487011 * t);
-            L1 += 0.00000000167 * Math.cos(2.74604167580 + 69.1525242748 * t);
-            L1 += 0.00000000129 * Math.cos(2.87574897902 + 156.1554792736 * t);
-        }
-        return L1 * t;
-    }
-
-    public double L2(double t) // 151 terms of order 2
-    {
-        double L2 = 0;
-        L2 += 0.00053033277;
-        L2 += 0.00002357636 * Math.cos(2.26014661705 + 74.7815985673 * t);
-        L2 += 0.00000769129 * Math.cos(4.52561041823 + 11.0457002639 * t);
-        L2 += 0.00000551533 * Math.cos(3.25814281023 + 63.7358983034 * t);
-        L2 += 0.00000541532 * Math.cos(2.27573907424 + 3.9321532631 * t);
-        L2 += 0.00000529473 * Math.cos(4.92348433826 + 1.4844727083 * t);
-        L2 += 0.00000257521 * Math.cos(3.69059216858 + 3.1813937377 * t);
-        L2 += 0.00000238835 * Math.cos(5.85806638405 + 149.5631971346 * t);
-        L2 += 0.00000181904 * Math.cos(6.21763603405 + 70.8494453042 * t);
-        L2 += 0.00000049401 * Math.cos(6.03101301723 + 56.6223513026 * t);
-        L2 += 0.00000053504 * Math.cos(1.44225240953 + 76.2660712756 * t);
-        L2 += 0.00000038222 * Math.cos(1.78467827781 + 52.6901980395 * t);
-        L2 += 0.00000044753 * Math.cos(3.90904910523 + 2.4476805548 * t);
-        L2 += 0.00000044530 * Math.cos(0.81152639478 + 85.8272988312 * t);
-        L2 += 0.00000037403 * Math.cos(4.46228598032 + 2.9689454166 * t);
-        L2 += 0.00000033029 * Math.cos(0.86388149962 + 9.5612275556 * t);
-        L2 += 0.00000024292 * Math.cos(2.10702559049 + 18.1592472647 * t);
-        L2 += 0.00000029423 * Math.cos(5.09818697708 + 73.297125859 * t);
-        L2 += 0.00000022135 * Math.cos(4.81730808582 + 78.7137518304 * t);
-        L2 += 0.00000022491 * Math.cos(5.99320728691 + 138.5174968707 * t);
-        L2 += 0.00000017226 * Math.cos(2.53537183199 + 145.6310438715 * t);
-        L2 += 0.00000021392 * Math.cos(2.39880709309 + 77.962992305 * t);
-        L2 += 0.00000020578 * Math.cos(2.16918786539 + 224.3447957019 * t);
-        L2 += 0.00000016777 * Math.cos(3.46631344086 + 12.5301729722 * t);
-        L2 += 0.00000012012 * Math.cos(0.01941361902 + 22.0914005278 * t);
-        L2 += 0.00000010466 * Math.cos(4.45556032593 + 62.2514255951 * t);
-        L2 += 0.00000011010 * Math.cos(0.08496274370 + 127.4717966068 * t);
-        L2 += 0.00000008668 * Math.cos(4.25550086984 + 7.1135470008 * t);
-        L2 += 0.00000010476 * Math.cos(5.16453084068 + 71.6002048296 * t);
-        L2 += 0.00000007160 * Math.cos(1.24903906391 + 5.4166259714 * t);
-        L2 += 0.00000008387 * Math.cos(5.50115930045 + 67.6680515665 * t);
-        L2 += 0.00000006087 * Math.cos(5.44611674384 + 65.2203710117 * t);
-        L2 += 0.00000006013 * Math.cos(4.51836836347 + 151.0476698429 * t);
-        L2 += 0.00000005718 * Math.cos(1.82933915340 + 202.2533951741 * t);
-        L2 += 0.00000006109 * Math.cos(3.36320161279 + 447.7958195265 * t);
-        L2 += 0.00000006003 * Math.cos(5.72500086735 + 462.0229135281 * t);
-        L2 += 0.00000005111 * Math.cos(3.52374555791 + 59.8037450403 * t);
-        L2 += 0.00000005155 * Math.cos(1.05810305746 + 131.4039498699 * t);
-        L2 += 0.00000005969 * Math.cos(5.61147374852 + 148.0787244263 * t);
-        L2 += 0.00000005065 * Math.cos(3.36477113418 + 4.4534181249 * t);
-        L2 += 0.00000004845 * Math.cos(1.20298837109 + 71.8126531507 * t);
-        L2 += 0.00000003979 * Math.cos(0.67629577193 + 77.7505439839 * t);
-        L2 += 0.00000003673 * Math.cos(1.76315074166 + 351.8165923087 * t);
-        L2 += 0.00000003149 * Math.cos(3.83590892865 + 45.5766510387 * t);
-        L2 += 0.00000003036 * Math.cos(3.32062892682 + 160.6088973985 * t);
-        L2 += 0.00000003033 * Math.cos(6.14532331482 + 77.2292791221 * t);
-        L2 += 0.00000003596 * Math.cos(4.57256025582 + 454.9093665273 * t);
-        L2 += 0.00000002664 * Math.cos(5.36121614612 + 269.9214467406 * t);
-        L2 += 0.00000002498 * Math.cos(1.04819496324 + 69.3649725959 * t);
-        L2 += 0.00000002307 * Math.cos(2.69282373897 + 84.3428261229 * t);
-        L2 += 0.00000002249 * Math.cos(5.07693376112 + 14.977853527 * t);
-        L2 += 0.00000002228 * Math.cos(1.38937510191 + 284.1485407422 * t);
-        L2 += 0.00000002064 * Math.cos(4.34647674542 + 984.6003316219 * t);
-        L2 += 0.00000002105 * Math.cos(2.32047802326 + 120.358249606 * t);
-        L2 += 0.00000001864 * Math.cos(5.70354779393 + 54.1746707478 * t);
-        L2 += 0.00000002005 * Math.cos(3.87177765185 + 195.1398481733 * t);
-        L2 += 0.00000001622 * Math.cos(5.07964536529 + 209.3669421749 * t);
-        L2 += 0.00000001597 * Math.cos(0.48807990368 + 137.0330241624 * t);
-        L2 += 0.00000001583 * Math.cos(2.90536212187 + 51.2057253312 * t);
-        L2 += 0.00000001725 * Math.cos(6.25703202673 + 41.6444977756 * t);
-        L2 += 0.00000002073 * Math.cos(1.24032244487 + 35.1640902212 * t);
-        L2 += 0.00000001543 * Math.cos(2.15414338268 + 70.3281804424 * t);
-        L2 += 0.00000001671 * Math.cos(6.28283232471 + 277.0349937414 * t);
-        L2 += 0.00000001494 * Math.cos(6.04572758571 + 87.3117715395 * t);
-        L2 += 0.00000001418 * Math.cos(1.15843502159 + 213.299095438 * t);
-        L2 += 0.00000001239 * Math.cos(4.63223076077 + 92.940845832 * t);
-        L2 += 0.00000001238 * Math.cos(2.65969680342 + 134.5853436076 * t);
-        L2 += 0.00000001273 * Math.cos(5.87964059822 + 60.5545045657 * t);
-        L2 += 0.00000001160 * Math.cos(1.03320781667 + 153.4953503977 * t);
-        L2 += 0.00000001430 * Math.cos(4.68022239016 + 299.1263942692 * t);
-        L2 += 0.00000001117 * Math.cos(2.62506108047 + 72.3339180125 * t);
-        L2 += 0.00000001142 * Math.cos(4.64615099782 + 152.7445908723 * t);
-        L2 += 0.00000000974 * Math.cos(2.85233132493 + 222.8603229936 * t);
-        L2 += 0.00000001046 * Math.cos(4.81299135934 + 116.4260963429 * t);
-        L2 += 0.00000000872 * Math.cos(3.49659835508 + 340.7708920448 * t);
-        L2 += 0.00000000952 * Math.cos(2.10837480840 + 20.6069278195 * t);
-        L2 += 0.00000000964 * Math.cos(2.46471453524 + 380.12776796 * t);
-        L2 += 0.00000000843 * Math.cos(6.12869288891 + 49.5088043018 * t);
-        L2 += 0.00000000821 * Math.cos(0.27134156683 + 191.2076949102 * t);
-        L2 += 0.00000000813 * Math.cos(4.08930465981 + 14.2270940016 * t);
-        L2 += 0.00000000796 * Math.cos(6.17066846300 + 344.7030453079 * t);
-        L2 += 0.00000000924 * Math.cos(2.11096444289 + 14.0146456805 * t);
-        L2 += 0.00000000791 * Math.cos(2.38927423348 + 58.1068240109 * t);
-        L2 += 0.00000000781 * Math.cos(0.74223115950 + 408.4389436113 * t);
-        L2 += 0.00000000759 * Math.cos(3.77564054479 + 80.1982245387 * t);
-        L2 += 0.00000000884 * Math.cos(1.99930014838 + 265.9892934775 * t);
-        L2 += 0.00000000722 * Math.cos(3.10001033669 + 422.6660376129 * t);
-        L2 += 0.00000000750 * Math.cos(2.33167721991 + 358.9301393095 * t);
-        L2 += 0.00000000687 * Math.cos(2.02866342040 + 33.6796175129 * t);
-        L2 += 0.00000000603 * Math.cos(1.10391172652 + 55.1378785943 * t);
-        L2 += 0.00000000655 * Math.cos(3.85415269764 + 16.6747745564 * t);
-        L2 += 0.00000000606 * Math.cos(0.15052747979 + 28.3111756513 * t);
-        L2 += 0.00000000639 * Math.cos(5.16714934188 + 23.5758732361 * t);
-        L2 += 0.00000000658 * Math.cos(0.75636229109 + 76.4785195967 * t);
-        L2 += 0.00000000590 * Math.cos(1.73778850095 + 8.0767548473 * t);
-        L2 += 0.00000000565 * Math.cos(4.92645232089 + 35.4247226521 * t);
-        L2 += 0.00000000656 * Math.cos(2.34273264083 + 38.1330356378 * t);
-        L2 += 0.00000000542 * Math.cos(5.97968975563 + 146.594251718 * t);
-        L2 += 0.00000000518 * Math.cos(3.19086220901 + 152.5321425512 * t);
-        L2 += 0.00000000536 * Math.cos(4.52808465499 + 220.4126424388 * t);
-        L2 += 0.00000000489 * Math.cos(4.80633294199 + 159.1244246902 * t);
-        L2 += 0.00000000491 * Math.cos(0.85765309118 + 565.1156877467 * t);
-        L2 += 0.00000000483 * Math.cos(3.52583593251 + 144.1465711632 * t);
-        L2 += 0.00000000521 * Math.cos(5.21561656321 + 206.1855484372 * t);
-        L2 += 0.00000000477 * Math.cos(4.25420753202 + 365.9006739584 * t);
-        L2 += 0.00000000466 * Math.cos(5.13219663072 + 297.6419215609 * t);
-        L2 += 0.00000000557 * Math.cos(0.98387565952 + 225.8292684102 * t);
-        L2 += 0.00000000531 * Math.cos(4.22534657450 + 29.2049475286 * t);
-        L2 += 0.00000000500 * Math.cos(3.49663062387 + 128.9562693151 * t);
-        L2 += 0.00000000445 * Math.cos(2.60797570173 + 96.8729990951 * t);
-        L2 += 0.00000000466 * Math.cos(6.05585106742 + 70.1157321213 * t);
-        L2 += 0.00000000425 * Math.cos(1.04692398351 + 19.643719973 * t);
-        L2 += 0.00000000491 * Math.cos(2.26123398680 + 152.0108776894 * t);
-        L2 += 0.00000000455 * Math.cos(5.45520675000 + 333.657345044 * t);
-        L2 += 0.00000000458 * Math.cos(0.91654899383 + 373.0142209592 * t);
-        L2 += 0.00000000520 * Math.cos(5.72828536642 + 111.4301614968 * t);
-        L2 += 0.00000000432 * Math.cos(1.04604024916 + 125.9873238985 * t);
-        L2 += 0.00000000387 * Math.cos(2.82547341355 + 200.7689224658 * t);
-        L2 += 0.00000000383 * Math.cos(1.91679738697 + 5.6290742925 * t);
-        L2 += 0.00000000504 * Math.cos(1.95816731769 + 415.5524906121 * t);
-        L2 += 0.00000000370 * Math.cos(3.21958844151 + 387.2413149608 * t);
-        L2 += 0.00000000379 * Math.cos(2.75940848661 + 81.8951455681 * t);
-        L2 += 0.00000000345 * Math.cos(2.98021540638 + 429.7795846137 * t);
-        L2 += 0.00000000368 * Math.cos(6.20331898497 + 456.3938392356 * t);
-        L2 += 0.00000000335 * Math.cos(5.29062985955 + 13.3333221243 * t);
-        L2 += 0.00000000320 * Math.cos(0.74685222907 + 347.8844390456 * t);
-        L2 += 0.00000000307 * Math.cos(1.65925943351 + 99.1606209555 * t);
-        L2 += 0.00000000284 * Math.cos(2.09437476480 + 129.9194771616 * t);
-        L2 += 0.00000000275 * Math.cos(0.62680026669 + 31.492569389 * t);
-        L2 += 0.00000000339 * Math.cos(1.65968150805 + 142.4496501338 * t);
-        L2 += 0.00000000270 * Math.cos(2.79378345550 + 977.4867846211 * t);
-        L2 += 0.00000000284 * Math.cos(2.42261530322 + 546.956440482 * t);
-        L2 += 0.00000000271 * Math.cos(0.59225635449 + 1894.4190646765 * t);
-        L2 += 0.00000000263 * Math.cos(3.49309481771 + 440.6822725257 * t);
-        L2 += 0.00000000295 * Math.cos(0.43376026627 + 373.9079928365 * t);
-        L2 += 0.00000000271 * Math.cos(4.82853730065 + 561.1835344836 * t);
-        L2 += 0.00000000248 * Math.cos(5.72379940676 + 79.2350166922 * t);
-        L2 += 0.00000000252 * Math.cos(5.76728095309 + 235.3904959658 * t);
-        L2 += 0.00000000261 * Math.cos(0.09830739366 + 991.7138786227 * t);
-        L2 += 0.00000000238 * Math.cos(1.14634663242 + 288.0806940053 * t);
-        L2 += 0.00000000220 * Math.cos(5.12386263728 + 479.2883889155 * t);
-        L2 += 0.00000000263 * Math.cos(1.52366362053 + 146.3818033969 * t);
-        L2 += 0.00000000230 * Math.cos(0.35983101967 + 109.9456887885 * t);
-        L2 += 0.00000000214 * Math.cos(2.94388765580 + 184.7272873558 * t);
-        L2 += 0.00000000198 * Math.cos(5.72107161521 + 453.424893819 * t);
-        L2 += 0.00000000185 * Math.cos(4.71600176780 + 108.4612160802 * t);
-        L2 += 0.00000000139 * Math.cos(2.99832472431 + 211.8146227297 * t);
-        L2 += 0.00000000167 * Math.cos(1.19643522280 + 39.6175083461 * t);
-        L2 += 0.00000000180 * Math.cos(0.80198096578 + 183.2428146475 * t);
-        L2 += 0.00000000131 * Math.cos(2.73236351123 + 522.5774180938 * t);
-        L2 += 0.00000000142 * Math.cos(5.03489222377 + 536.8045120954 * t);
-        return L2 * t * t;
-    }
-
-    public double L3(double t) // 46 terms of order 3
-    {
-        double L3 = 0;
-        L3 += 0.00000120936 * Math.cos(0.02418789918 + 74.7815985673 * t);
-        L3 += 0.00000068064 * Math.cos(4.12084267733 + 3.9321532631 * t);
-        L3 += 0.00000052828 * Math.cos(2.38964061260 + 11.0457002639 * t);
-        L3 += 0.00000043754 * Math.cos(2.95965039734 + 1.4844727083 * t);
-        L3 += 0.00000045300 * Math.cos(2.04423798410 + 3.1813937377 * t);
-        L3 += 0.00000045806;
-        L3 += 0.00000024969 * Math.cos(4.88741307918 + 63.7358983034 * t);
-        L3 += 0.00000021061 * Math.cos(4.54511486862 + 70.8494453042 * t);
-        L3 += 0.00000019897 * Math.cos(2.31320314136 + 149.5631971346 * t);
-        L3 += 0.00000008901 * Math.cos(1.57548871761 + 56.6223513026 * t);
-        L3 += 0.00000004271 * Math.cos(0.22777319552 + 18.1592472647 * t);
-        L3 += 0.00000003613 * Math.cos(5.39244611308 + 76.2660712756 * t);
-        L3 += 0.00000003488 * Math.cos(4.97622811775 + 85.8272988312 * t);
-        L3 += 0.00000003479 * Math.cos(4.12969359977 + 52.6901980395 * t);
-        L3 += 0.00000003572 * Math.cos(0.95052448578 + 77.962992305 * t);
-        L3 += 0.00000002328 * Math.cos(0.85770961794 + 145.6310438715 * t);
-        L3 += 0.00000002696 * Math.cos(0.37287796344 + 78.7137518304 * t);
-        L3 += 0.00000001946 * Math.cos(2.67997393431 + 7.1135470008 * t);
-        L3 += 0.00000002156 * Math.cos(5.65647821519 + 9.5612275556 * t);
-        L3 += 0.00000001363 * Math.cos(4.86983744746 + 224.3447957019 * t);
-        L3 += 0.00000001333 * Math.cos(1.25032115614 + 12.5301729722 * t);
-        L3 += 0.00000001613 * Math.cos(0.48764377311 + 71.6002048296 * t);
-        L3 += 0.00000001475 * Math.cos(5.19957293069 + 73.297125859 * t);
-        L3 += 0.00000001225 * Math.cos(3.93406822032 + 22.0914005278 * t);
-        L3 += 0.00000000911 * Math.cos(2.18921999026 + 127.4717966068 * t);
-        L3 += 0.00000000811 * Math.cos(3.98323855938 + 462.0229135281 * t);
-        L3 += 0.00000000808 * Math.cos(5.06374463008 + 447.7958195265 * t);
-        L3 += 0.00000000718 * Math.cos(0.34600103024 + 5.6290742925 * t);
-        L3 += 0.00000000722 * Math.cos(1.05856935832 + 138.5174968707 * t);
-        L3 += 0.00000000687 * Math.cos(2.93752748595 + 131.4039498699 * t);
-        L3 += 0.00000000463 * Math.cos(1.58927254512 + 151.0476698429 * t);
-        L3 += 0.00000000414 * Math.cos(4.32904287620 + 120.358249606 * t);
-        L3 += 0.00000000372 * Math.cos(0.73596518002 + 269.9214467406 * t);
-        L3 += 0.00000000345 * Math.cos(3.05968942771 + 561.1835344836 * t);
-        L3 += 0.00000000338 * Math.cos(5.94221536204 + 284.1485407422 * t);
-        L3 += 0.00000000343 * Math.cos(4.01891371998 + 546.956440482 * t);
-        L3 += 0.00000000382 * Math.cos(5.93515231196 + 45.5766510387 * t);
-        L3 += 0.00000000276 * Math.cos(3.44212110991 + 202.2533951741 * t);
-        L3 += 0.00000000300 * Math.cos(1.13119175675 + 160.6088973985 * t);
-        L3 += 0.00000000268 * Math.cos(3.24615387968 + 536.8045120954 * t);
-        L3 += 0.00000000358 * Math.cos(1.10916640253 + 333.657345044 * t);
-        L3 += 0.00000000236 * Math.cos(4.65292396535 + 387.2413149608 * t);
-        L3 += 0.00000000204 * Math.cos(5.81663798296 + 373.0142209592 * t);
-        L3 += 0.00000000145 * Math.cos(2.75632381347 + 92.940845832 * t);
-        L3 += 0.00000000149 * Math.cos(0.13764106563 + 71.8126531507 * t);
-        L3 += 0.00000000156 * Math.cos(2.90936922804 + 153.4953503977 * t);
-        return L3 * t * t * t;
-    }
-
-    public double L4(double t) // 7 terms of order 4
-    {
-        double L4 = 0;
-        L4 -= 0.00000113855;
-        L4 += 0.00000005599 * Math.cos(4.57882424417 + 74.7815985673 * t);
-        L4 += 0.00000003203 * Math.cos(0.34623003207 + 11.0457002639 * t);
-        L4 += 0.00000001217 * Math.cos(3.42199121826 + 56.6223513026 * t);
-        L4 += 0.00000000634 * Math.cos(4.65759668097 + 18.1592472647 * t);
-        L4 += 0.00000000171 * Math.cos(3.80393539303 + 149.5631971346 * t);
-        L4 += 0.00000000133 * Math.cos(4.35519131657 + 63.7358983034 * t);
-        return L4 * t * t * t * t;
-    }
-
-    public double L5(double t) // 1 term of order 5
-    {
-        double L5 = 0;
-        L5 -= 0.00000000873;
-        return L5 * t * t * t * t * t;
-    }
-
-    public double B0(double t) // 283 terms of order 0
-    {
-        double B0 = 0;
-        B0 += 0.01346277639 * Math.cos(2.61877810545 + 74.7815985673 * t);
-        B0 += 0.00062341405 * Math.cos(5.08111175856 + 149.5631971346 * t);
-        B0 -= 0.00061601203;
-        B0 += 0.00009963744 * Math.cos(1.61603876357 + 76.2660712756 * t);
-        B0 += 0.00009926151 * Math.cos(0.57630387917 + 73.297125859 * t);
-        B0 += 0.00003259455 * Math.cos(1.26119385960 + 224.3447957019 * t);
-        B0 += 0.00002972318 * Math.cos(2.24367035538 + 1.4844727083 * t);
-        B0 += 0.00002010257 * Math.cos(6.05550401088 + 148.0787244263 * t);
-        B0 += 0.00001522172 * Math.cos(0.27960386377 + 63.7358983034 * t);
-        B0 += 0.00000924055 * Math.cos(4.03822927853 + 151.0476698429 * t);
-        B0 += 0.00000760624 * Math.cos(6.14000431923 + 71.8126531507 * t);
-        B0 += 0.00000420265 * Math.cos(5.21279984788 + 11.0457002639 * t);
-        B0 += 0.00000430668 * Math.cos(3.55445034854 + 213.299095438 * t);
-        B0 += 0.00000436843 * Math.cos(3.38082524317 + 529.6909650946 * t);
-        B0 += 0.00000522309 * Math.cos(3.32085194770 + 138.5174968707 * t);
-        B0 += 0.00000434625 * Math.cos(0.34065281858 + 77.7505439839 * t);
-        B0 += 0.00000462630 * Math.cos(0.74256727574 + 85.8272988312 * t);
-        B0 += 0.00000232649 * Math.cos(2.25716421383 + 222.8603229936 * t);
-        B0 += 0.00000215838 * Math.cos(1.59121704940 + 38.1330356378 * t);
-        B0 += 0.00000244698 * Math.cos(0.78795150326 + 2.9689454166 * t);
-        B0 += 0.00000179935 * Math.cos(3.72487952673 + 299.1263942692 * t);
-        B0 += 0.00000174895 * Math.cos(1.23550262213 + 146.594251718 * t);
-        B0 += 0.00000173667 * Math.cos(1.93654269131 + 380.12776796 * t);
-        B0 += 0.00000160368 * Math.cos(5.33635436463 + 111.4301614968 * t);
-        B0 += 0.00000144064 * Math.cos(5.96239326415 + 35.1640902212 * t);
-        B0 += 0.00000102049 * Math.cos(2.61876256513 + 78.7137518304 * t);
-        B0 += 0.00000116363 * Math.cos(5.73877190007 + 70.8494453042 * t);
-        B0 += 0.00000106441 * Math.cos(0.94103112994 + 70.3281804424 * t);
-        B0 += 0.00000086163 * Math.cos(0.70262506622 + 39.6175083461 * t);
-        B0 += 0.00000072617 * Math.cos(0.20564696113 + 225.8292684102 * t);
-        B0 += 0.00000071172 * Math.cos(0.83343269975 + 109.9456887885 * t);
-        B0 += 0.00000057502 * Math.cos(2.67039425415 + 108.4612160802 * t);
-        B0 += 0.00000054255 * Math.cos(3.35166579613 + 184.7272873558 * t);
-        B0 += 0.00000044470 * Math.cos(2.74408231138 + 152.5321425512 * t);
-        B0 += 0.00000038591 * Math.cos(5.17394663303 + 202.2533951741 * t);
-        B0 += 0.00000039157 * Math.cos(2.17108251341 + 351.8165923087 * t);
-        B0 += 0.00000041346 * Math.cos(3.22134319551 + 160.6088973985 * t);
-        B0 += 0.00000035140 * Math.cos(4.00111634363 + 112.9146342051 * t);
-        B0 += 0.00000033073 * Math.cos(3.61378095742 + 221.3758502853 * t);
-        B0 += 0.00000031315 * Math.cos(2.71969470781 + 145.1097790097 * t);
-        B0 += 0.00000037336 * Math.cos(4.02053241202 + 52.6901980395 * t);
-        B0 += 0.00000032028 * Math.cos(1.29160071142 + 145.6310438715 * t);
-        B0 += 0.00000027574 * Math.cos(3.70064266960 + 36.6485629295 * t);
-        B0 += 0.00000024277 * Math.cos(2.84989187496 + 127.4717966068 * t);
-        B0 += 0.00000024635 * Math.cos(1.11645461259 + 3.9321532631 * t);
-        B0 += 0.00000024315 * Math.cos(5.48987913644 + 79.2350166922 * t);
-        B0 += 0.00000021418 * Math.cos(0.63722900407 + 277.0349937414 * t);
-        B0 += 0.00000019826 * Math.cos(2.59334182230 + 84.3428261229 * t);
-        B0 += 0.00000022373 * Math.cos(5.73687615457 + 4.4534181249 * t);
-        B0 += 0.00000019137 * Math.cos(1.30214105578 + 62.2514255951 * t);
-        B0 += 0.00000019789 * Math.cos(4.72260849557 + 297.6419215609 * t);
-        B0 += 0.00000020299 * Math.cos(1.06070151806 + 454.9093665273 * t);
-        B0 += 0.00000019768 * Math.cos(5.77906142568 + 305.3461693927 * t);
-        B0 += 0.00000021348 * Math.cos(1.01350946382 + 33.6796175129 * t);
-        B0 += 0.00000015142 * Math.cos(2.91786832554 + 426.598190876 * t);
-        B0 += 0.00000016000 * Math.cos(1.95535748902 + 186.2117600641 * t);
-        B0 += 0.00000013819 * Math.cos(2.67163927171 + 74.6697239827 * t);
-        B0 += 0.00000011463 * Math.cos(5.73391138419 + 41.1019810544 * t);
-        B0 += 0.00000010741 * Math.cos(3.73401569675 + 1059.3819301892 * t);
-        B0 += 0.00000011450 * Math.cos(3.98177764866 + 106.9767433719 * t);
-        B0 += 0.00000010360 * Math.cos(4.75567608732 + 183.2428146475 * t);
-        B0 += 0.00000010232 * Math.cos(6.18772866993 + 373.9079928365 * t);
-        B0 += 0.00000013803 * Math.cos(5.70712120608 + 74.8934731519 * t);
-        B0 += 0.00000010553 * Math.cos(3.78602881738 + 490.3340891794 * t);
-        B0 += 0.00000011838 * Math.cos(5.96756415681 + 87.3117715395 * t);
-        B0 += 0.00000010030 * Math.cos(1.74828757238 + 22.0914005278 * t);
-        B0 += 0.00000010107 * Math.cos(0.92911975959 + 65.2203710117 * t);
-        B0 += 0.00000009127 * Math.cos(5.11093790809 + 153.4953503977 * t);
-        B0 += 0.00000012093 * Math.cos(2.53736362742 + 9.5612275556 * t);
-        B0 += 0.00000008646 * Math.cos(4.18351923569 + 12.5301729722 * t);
-        B0 += 0.00000009978 * Math.cos(5.83600622359 + 604.4725636619 * t);
-        B0 += 0.00000011352 * Math.cos(2.12645777694 + 68.8437077341 * t);
-        B0 += 0.00000008472 * Math.cos(3.36885457285 + 72.3339180125 * t);
-        B0 += 0.00000007797 * Math.cos(5.11771906359 + 77.962992305 * t);
-        B0 += 0.00000008302 * Math.cos(5.19247905162 + 77.2292791221 * t);
-        B0 += 0.00000007696 * Math.cos(3.25189037096 + 71.6002048296 * t);
-        B0 += 0.00000007513 * Math.cos(2.98265970100 + 114.3991069134 * t);
-        B0 += 0.00000006947 * Math.cos(3.31871016057 + 56.6223513026 * t);
-        B0 += 0.00000006490 * Math.cos(0.88434578474 + 288.0806940053 * t);
-        B0 += 0.00000006394 * Math.cos(3.51142812432 + 220.4126424388 * t);
-        B0 += 0.00000006211 * Math.cos(0.58222518453 + 340.7708920448 * t);
-        B0 += 0.00000006772 * Math.cos(4.09374798222 + 137.0330241624 * t);
-        B0 += 0.00000005595 * Math.cos(5.68643434536 + 259.5088859231 * t);
-        B0 += 0.00000005309 * Math.cos(2.65421183211 + 300.6108669775 * t);
-        B0 += 0.00000004950 * Math.cos(4.99672086239 + 219.891377577 * t);
-        B0 += 0.00000006419 * Math.cos(0.44895727879 + 140.001969579 * t);
-        B0 += 0.00000004975 * Math.cos(4.06722486039 + 143.6253063014 * t);
-        B0 += 0.00000005692 * Math.cos(3.76563463180 + 67.6680515665 * t);
-        B0 += 0.00000004853 * Math.cos(2.03383592524 + 415.5524906121 * t);
-        B0 += 0.00000003796 * Math.cos(1.26231186682 + 75.3028634291 * t);
-        B0 += 0.00000003807 * Math.cos(2.24787582155 + 909.8187330546 * t);
-        B0 += 0.00000003812 * Math.cos(3.10475682509 + 181.7583419392 * t);
-        B0 += 0.00000003764 * Math.cos(5.20052090560 + 227.3137411185 * t);
-        B0 += 0.00000003445 * Math.cos(5.91769433069 + 296.1574488526 * t);
-        B0 += 0.00000003517 * Math.cos(5.44397685665 + 628.8515860501 * t);
-        B0 += 0.00000003943 * Math.cos(4.95136058926 + 265.9892934775 * t);
-        B0 += 0.00000003472 * Math.cos(0.34737998380 + 131.4039498699 * t);
-        B0 += 0.00000003390 * Math.cos(0.53497504164 + 206.1855484372 * t);
-        B0 += 0.00000003038 * Math.cos(4.68314286209 + 159.1244246902 * t);
-        B0 += 0.00000003190 * Math.cos(5.68929316349 + 235.3904959658 * t);
-        B0 += 0.00000003303 * Math.cos(2.09359507373 + 73.8183907208 * t);
-        B0 += 0.00000003069 * Math.cos(4.49065085092 + 66.70484372 * t);
-        B0 += 0.00000003285 * Math.cos(0.00780313833 + 75.7448064138 * t);
-        B0 += 0.00000002917 * Math.cos(4.21615078632 + 258.0244132148 * t);
-        B0 += 0.00000003747 * Math.cos(0.82999983666 + 74.2603337055 * t);
-        B0 += 0.00000002814 * Math.cos(3.96708337625 + 82.8583534146 * t);
-        B0 += 0.00000002474 * Math.cos(3.81319259323 + 7.1135470008 * t);
-        B0 += 0.00000002394 * Math.cos(2.21483198491 + 54.1746707478 * t);
-        B0 += 0.00000002555 * Math.cos(2.97023907145 + 378.6432952517 * t);
-        B0 += 0.00000002631 * Math.cos(1.55153254691 + 154.0166152595 * t);
-        B0 += 0.00000002633 * Math.cos(2.28385552693 + 32.1951448046 * t);
-        B0 += 0.00000002643 * Math.cos(3.96832729680 + 381.6122406683 * t);
-        B0 += 0.00000002206 * Math.cos(3.06995275892 + 59.8037450403 * t);
-        B0 += 0.00000002635 * Math.cos(0.53987945692 + 211.8146227297 * t);
-        B0 += 0.00000002071 * Math.cos(1.97429082033 + 18.1592472647 * t);
-        B0 += 0.00000002485 * Math.cos(3.55433846990 + 96.8729990951 * t);
-        B0 += 0.00000002061 * Math.cos(4.50102695788 + 5.9378908332 * t);
-        B0 += 0.00000001916 * Math.cos(1.60538526374 + 80.1982245387 * t);
-        B0 += 0.00000002480 * Math.cos(0.63321072542 + 187.6962327724 * t);
-        B0 += 0.00000002039 * Math.cos(2.97351088965 + 191.2076949102 * t);
-        B0 += 0.00000001833 * Math.cos(1.95824865568 + 81.8951455681 * t);
-        B0 += 0.00000001719 * Math.cos(2.22526635038 + 479.2883889155 * t);
-        B0 += 0.00000001745 * Math.cos(3.22821992592 + 218.4069048687 * t);
-        B0 += 0.00000001857 * Math.cos(1.66304484985 + 984.6003316219 * t);
-        B0 += 0.00000001766 * Math.cos(5.24239122261 + 105.4922706636 * t);
-        B0 += 0.00000001524 * Math.cos(6.05374020264 + 99.1606209555 * t);
-        B0 += 0.00000001519 * Math.cos(0.94716867229 + 372.4235201282 * t);
-        B0 += 0.00000001614 * Math.cos(3.39986066169 + 230.5645708254 * t);
-        B0 += 0.00000001711 * Math.cos(3.44237080993 + 522.5774180938 * t);
-        B0 += 0.00000001504 * Math.cos(1.34653259405 + 74.5209661364 * t);
-        B0 += 0.00000001577 * Math.cos(4.38020936720 + 80.7194894005 * t);
-        B0 += 0.00000001360 * Math.cos(5.48691240270 + 74.8297826771 * t);
-        B0 += 0.00000001364 * Math.cos(4.56045715617 + 42.5864537627 * t);
-        B0 += 0.00000001398 * Math.cos(0.33827838973 + 142.4496501338 * t);
-        B0 += 0.00000001709 * Math.cos(3.63188407264 + 554.0699874828 * t);
-        B0 += 0.00000001360 * Math.cos(2.89305157919 + 74.7334144575 * t);
-        B0 += 0.00000001260 * Math.cos(5.50922979275 + 74.9416572617 * t);
-        B0 += 0.00000001374 * Math.cos(4.39897993200 + 260.9933586314 * t);
-        B0 += 0.00000001366 * Math.cos(2.15288773765 + 162.0933701068 * t);
-        B0 += 0.00000001244 * Math.cos(4.97789913094 + 149.45132255 * t);
-        B0 += 0.00000001269 * Math.cos(0.84167691738 + 767.3690829208 * t);
-        B0 += 0.00000001278 * Math.cos(4.53585702916 + 294.6729761443 * t);
-        B0 += 0.00000001342 * Math.cos(5.11117141196 + 51.2057253312 * t);
-        B0 += 0.00000001180 * Math.cos(0.79882196802 + 116.4260963429 * t);
-        B0 += 0.00000001495 * Math.cos(0.74986873597 + 75.0422309982 * t);
-        B0 += 0.00000001207 * Math.cos(3.67288675913 + 20.6069278195 * t);
-        B0 += 0.00000001181 * Math.cos(4.39598416757 + 180.2738692309 * t);
-        B0 += 0.00000001248 * Math.cos(3.13312504066 + 67.3592350258 * t);
-        B0 += 0.00000001263 * Math.cos(2.87116663203 + 74.6215398729 * t);
-        B0 += 0.00000001380 * Math.cos(3.76141611602 + 92.940845832 * t);
-        B0 += 0.00000001113 * Math.cos(3.87133607367 + 39.3568759152 * t);
-        B0 += 0.00000001018 * Math.cos(6.20393099094 + 835.0371344873 * t);
-        B0 += 0.00000000962 * Math.cos(3.30343472839 + 255.0554677982 * t);
-        B0 += 0.00000001238 * Math.cos(1.73023505315 + 149.6750717192 * t);
-        B0 += 0.00000000970 * Math.cos(1.71236273285 + 115.8835796217 * t);
-        B0 += 0.00000001001 * Math.cos(5.49914631698 + 256.5399405065 * t);
-        B0 += 0.00000000921 * Math.cos(3.07729879788 + 8.0767548473 * t);
-        B0 += 0.00000000914 * Math.cos(0.00764291274 + 536.8045120954 * t);
-        B0 += 0.00000000911 * Math.cos(6.23753038018 + 200.7689224658 * t);
-        B0 += 0.00000000956 * Math.cos(5.76811833839 + 128.9562693151 * t);
-        B0 += 0.00000000999 * Math.cos(0.33400530567 + 404.5067903482 * t);
-        B0 += 0.00000000952 * Math.cos(3.00456073496 + 14.977853527 * t);
-        B0 += 0.00000000765 * Math.cos(3.45454533660 + 214.7835681463 * t);
-        B0 += 0.00000000800 * Math.cos(3.20912932090 + 28.3111756513 * t);
-        B0 += 0.00000000799 * Math.cos(4.11425365829 + 125.9873238985 * t);
-        B0 += 0.00000001021 * Math.cos(1.79905869707 + 3.1813937377 * t);
-        B0 += 0.00000000706 * Math.cos(5.80210566917 + 157.6399519819 * t);
-        B0 += 0.00000000715 * Math.cos(5.56313177065 + 146.3818033969 * t);
-        B0 += 0.00000000689 * Math.cos(1.84748347121 + 41.6444977756 * t);
-        B0 += 0.00000000682 * Math.cos(5.16479782395 + 74.0308390419 * t);
-        B0 += 0.00000000673 * Math.cos(2.65544175682 + 75.5323580927 * t);
-        B0 += 0.00000000723 * Math.cos(4.75905991606 + 331.3215390738 * t);
-        B0 += 0.00000000730 * Math.cos(2.25510749124 + 453.424893819 * t);
-        B0 += 0.00000000691 * Math.cos(3.58561635364 + 362.8622925726 * t);
-        B0 += 0.00000000641 * Math.cos(5.77408891198 + 110.2063212194 * t);
-        B0 += 0.00000000671 * Math.cos(5.96862039131 + 135.5485514541 * t);
-        B0 += 0.00000000631 * Math.cos(1.97807297205 + 639.897286314 * t);
-        B0 += 0.00000000774 * Math.cos(0.42035450706 + 565.1156877467 * t);
-        B0 += 0.00000000705 * Math.cos(2.94649553712 + 60.7669528868 * t);
-        B0 += 0.00000000663 * Math.cos(5.32574112049 + 142.1408335931 * t);
-        B0 += 0.00000000612 * Math.cos(2.01741578932 + 195.1398481733 * t);
-        B0 += 0.00000000749 * Math.cos(5.56828487823 + 2.4476805548 * t);
-        B0 += 0.00000000798 * Math.cos(0.90969731665 + 152.0108776894 * t);
-        B0 += 0.00000000747 * Math.cos(5.07639466593 + 89.7594520943 * t);
-        B0 += 0.00000000650 * Math.cos(4.56215718085 + 216.9224321604 * t);
-        B0 += 0.00000000651 * Math.cos(2.80626026285 + 50.4025761791 * t);
-        B0 += 0.00000000593 * Math.cos(1.89556258897 + 203.7378678824 * t);
-        B0 += 0.00000000550 * Math.cos(2.90625551534 + 68.1893164283 * t);
-        B0 += 0.00000000548 * Math.cos(3.75628845322 + 617.8058857862 * t);
-        B0 += 0.00000000554 * Math.cos(2.78135114877 + 14.0146456805 * t);
-        B0 += 0.00000000530 * Math.cos(3.51385025328 + 291.7040307277 * t);
-        B0 += 0.00000000506 * Math.cos(4.94619342366 + 81.3738807063 * t);
-        B0 += 0.00000000649 * Math.cos(5.74895589744 + 141.4864422873 * t);
-        B0 += 0.00000000593 * Math.cos(5.40734033998 + 692.5874843535 * t);
-        B0 += 0.00000000544 * Math.cos(2.99910512780 + 152.7445908723 * t);
-        B0 += 0.00000000485 * Math.cos(2.36317665443 + 448.6895914038 * t);
-        B0 += 0.00000000481 * Math.cos(5.81647231299 + 134.5853436076 * t);
-        B0 += 0.00000000517 * Math.cos(4.97759795528 + 387.2413149608 * t);
-        B0 += 0.00000000573 * Math.cos(2.46311368783 + 81.0013736908 * t);
-        B0 += 0.00000000470 * Math.cos(1.30184316812 + 228.276948965 * t);
-        B0 += 0.00000000475 * Math.cos(0.53480492526 + 303.8616966844 * t);
-        if (highAccuracy) {
-            B0 += 0.00000000485 * Math.cos(6.21247575899 + 5.4166259714 * t);
-            B0 += 0.00000000468 * Math.cos(0.55881267334 + 23.5758732361 * t);
-            B0 += 0.00000000585 * Math.cos(4.67924542643 + 88.7962442478 * t);
-            B0 += 0.00000000512 * Math.cos(5.86200059955 + 293.188503436 * t);
-            B0 += 0.00000000445 * Math.cos(2.50076311432 + 905.8865797915 * t);
-            B0 += 0.00000000501 * Math.cos(4.79997295899 + 306.830642101 * t);
-            B0 += 0.00000000418 * Math.cos(5.21379084769 + 35.4247226521 * t);
-            B0 += 0.00000000408 * Math.cos(5.69107313998 + 284.1485407422 * t);
-            B0 += 0.00000000474 * Math.cos(3.03149617428 + 286.596221297 * t);
-            B0 += 0.00000000432 * Math.cos(4.20907682097 + 278.5194664497 * t);
-            B0 += 0.00000000506 * Math.cos(2.05348204197 + 373.0142209592 * t);
-            B0 += 0.00000000410 * Math.cos(5.30637634877 + 95.3885263868 * t);
-            B0 += 0.00000000478 * Math.cos(2.41106642594 + 358.9301393095 * t);
-            B0 += 0.00000000536 * Math.cos(1.82614772260 + 114.1384744825 * t);
-            B0 += 0.00000000383 * Math.cos(5.54541241459 + 419.4846438752 * t);
-            B0 += 0.00000000413 * Math.cos(0.03813081773 + 103.0927742186 * t);
-            B0 += 0.00000000368 * Math.cos(4.08526832792 + 1589.0728952838 * t);
-            B0 += 0.00000000369 * Math.cos(1.82533858431 + 334.2904844904 * t);
-            B0 += 0.00000000491 * Math.cos(5.58913582973 + 68.5618234438 * t);
-            B0 += 0.00000000387 * Math.cos(0.56619310480 + 602.9880909536 * t);
-            B0 += 0.00000000427 * Math.cos(5.08349119654 + 367.9701020033 * t);
-            B0 += 0.00000000475 * Math.cos(0.17507881032 + 120.358249606 * t);
-            B0 += 0.00000000342 * Math.cos(5.27187859255 + 28.5718080822 * t);
-            B0 += 0.00000000407 * Math.cos(2.00853504718 + 679.2541622292 * t);
-            B0 += 0.00000000381 * Math.cos(4.61366060949 + 329.7251917809 * t);
-            B0 += 0.00000000388 * Math.cos(0.88856038803 + 483.2205421786 * t);
-            B0 += 0.00000000376 * Math.cos(1.28856348513 + 155.7829722581 * t);
-            B0 += 0.00000000326 * Math.cos(6.09140263554 + 456.3938392356 * t);
-            B0 += 0.00000000318 * Math.cos(0.09996195379 + 69.3649725959 * t);
-            B0 += 0.00000000292 * Math.cos(5.11578046796 + 375.3924655448 * t);
-            B0 += 0.00000000299 * Math.cos(6.04121646505 + 332.8060117821 * t);
-            B0 += 0.00000000328 * Math.cos(3.47252263966 + 73.4090004436 * t);
-            B0 += 0.00000000283 * Math.cos(1.81773059325 + 647.0108333148 * t);
-            B0 += 0.00000000308 * Math.cos(3.50154864071 + 30.7106720963 * t);
-            B0 += 0.00000000283 * Math.cos(1.88910019831 + 24.3790223882 * t);
-            B0 += 0.00000000278 * Math.cos(3.85507901929 + 760.25553592 * t);
-            B0 += 0.00000000273 * Math.cos(4.22941219477 + 391.1734682239 * t);
-            B0 += 0.00000000293 * Math.cos(5.44464406156 + 477.9157907918 * t);
-            B0 += 0.00000000289 * Math.cos(3.85492516765 + 209.3669421749 * t);
-            B0 += 0.00000000309 * Math.cos(1.97045147502 + 543.0242872189 * t);
-            B0 += 0.00000000324 * Math.cos(5.57191515554 + 501.3797894433 * t);
-            B0 += 0.00000000248 * Math.cos(2.17741598681 + 611.5861106627 * t);
-            B0 += 0.00000000245 * Math.cos(1.04008534095 + 1332.4847706675 * t);
-            B0 += 0.00000000248 * Math.cos(6.19516038159 + 1134.1635287565 * t);
-            B0 += 0.00000000242 * Math.cos(1.37720813333 + 121.2520214833 * t);
-            B0 += 0.00000000233 * Math.cos(0.50933224249 + 462.0229135281 * t);
-            B0 += 0.00000000319 * Math.cos(4.24219881040 + 328.3525936572 * t);
-            B0 += 0.00000000244 * Math.cos(6.00644853640 + 295.1942410061 * t);
-            B0 += 0.00000000228 * Math.cos(0.72608678727 + 233.9060232575 * t);
-            B0 += 0.00000000223 * Math.cos(5.35785607671 + 983.1158589136 * t);
-            B0 += 0.00000000304 * Math.cos(5.68101077712 + 189.1807054807 * t);
-            B0 += 0.00000000223 * Math.cos(2.04168197187 + 370.9390474199 * t);
-            B0 += 0.00000000245 * Math.cos(4.69742022955 + 316.3918696566 * t);
-            B0 += 0.00000000217 * Math.cos(4.33845164683 + 269.9214467406 * t);
-            B0 += 0.00000000267 * Math.cos(0.15744446718 + 10213.285546211 * t);
-            B0 += 0.00000000210 * Math.cos(5.84975171904 + 147.1155165798 * t);
-            B0 += 0.00000000224 * Math.cos(3.04829549918 + 1439.5096981492 * t);
-            B0 += 0.00000000226 * Math.cos(0.72248476212 + 45.5766510387 * t);
-            B0 += 0.00000000202 * Math.cos(1.37341689387 + 302.0953396858 * t);
-            B0 += 0.00000000207 * Math.cos(6.13936312021 + 344.7030453079 * t);
-            B0 += 0.00000000228 * Math.cos(2.33602531859 + 150.5264049811 * t);
-            B0 += 0.00000000203 * Math.cos(2.38070591912 + 275.5505210331 * t);
-            B0 += 0.00000000194 * Math.cos(5.11344829813 + 1215.1649024473 * t);
-            B0 += 0.00000000259 * Math.cos(2.78974616768 + 144.1465711632 * t);
-            B0 += 0.00000000199 * Math.cos(3.21010368905 + 7.4223635415 * t);
-            B0 += 0.00000000246 * Math.cos(6.15106498377 + 6.2197751235 * t);
-            B0 += 0.00000000180 * Math.cos(4.70377036870 + 518.6452648307 * t);
-            B0 += 0.00000000186 * Math.cos(3.85070006482 + 46.2097904851 * t);
-            B0 += 0.00000000175 * Math.cos(3.72163733058 + 150.0844619964 * t);
-            B0 += 0.00000000165 * Math.cos(1.87245210311 + 310.1720945331 * t);
-            B0 += 0.00000000166 * Math.cos(3.24028819042 + 173.9422195228 * t);
-            B0 += 0.00000000181 * Math.cos(0.39521867351 + 0.9632078465 * t);
-            B0 += 0.00000000144 * Math.cos(1.78180338482 + 531.1754378029 * t);
-            B0 += 0.00000000137 * Math.cos(6.20635855175 + 369.4545747116 * t);
-            B0 += 0.00000000136 * Math.cos(4.00164375048 + 526.722019678 * t);
-            B0 += 0.00000000141 * Math.cos(4.02238453909 + 350.3321196004 * t);
-            B0 += 0.00000000125 * Math.cos(5.28865037145 + 329.8370663655 * t);
-            B0 += 0.00000000134 * Math.cos(3.97421067761 + 228.7982138268 * t);
-            B0 += 0.00000000132 * Math.cos(4.52023845365 + 148.5999892881 * t);
-            B0 += 0.00000000125 * Math.cos(4.24724390191 + 248.7238180901 * t);
-            B0 += 0.00000000120 * Math.cos(4.08565783859 + 154.979823106 * t);
-            B0 += 0.00000000133 * Math.cos(3.16576403244 + 262.4778313397 * t);
-        }
-        return B0;
-    }
-
-    public double B1(double t) // 154 terms of order 1
-    {
-        double B1 = 0;
-        B1 += 0.00206366162 * Math.cos(4.12394311407 + 74.7815985673 * t);
-        B1 += 0.00008563230 * Math.cos(0.33819986165 + 149.5631971346 * t);
-        B1 += 0.00001725703 * Math.cos(2.12193159895 + 73.297125859 * t);
-        B1 += 0.00001368860 * Math.cos(3.06861722047 + 76.2660712756 * t);
-        B1 += 0.00001374449;
-        B1 += 0.00000399847 * Math.cos(2.84767037795 + 224.3447957019 * t);
-        B1 += 0.00000450639 * Math.cos(3.77656180977 + 1.4844727083 * t);
-        B1 += 0.00000307214 * Math.cos(1.25456766737 + 148.0787244263 * t);
-        B1 += 0.00000154336 * Math.cos(3.78575467747 + 63.7358983034 * t);
-        B1 += 0.00000110888 * Math.cos(5.32888676461 + 138.5174968707 * t);
-        B1 += 0.00000112432 * Math.cos(5.57299891505 + 151.0476698429 * t);
-        B1 += 0.00000083493 * Math.cos(3.59152795558 + 71.8126531507 * t);
-        B1 += 0.00000055573 * Math.cos(3.40135416354 + 85.8272988312 * t);
-        B1 += 0.00000041377 * Math.cos(4.45476669141 + 78.7137518304 * t);
-        B1 += 0.00000053690 * Math.cos(1.70455769943 + 77.7505439839 * t);
-        B1 += 0.00000041912 * Math.cos(1.21476607434 + 11.0457002639 * t);
-        B1 += 0.00000031959 * Math.cos(3.77446207748 + 222.8603229936 * t);
-        B1 += 0.00000030297 * Math.cos(2.56371683644 + 2.9689454166 * t);
-        B1 += 0.00000026977 * Math.cos(5.33695500294 + 213.299095438 * t);
-        B1 += 0.00000026222 * Math.cos(0.41620628369 + 380.12776796 * t);
-        B1 += 0.00000020094 * Math.cos(5.93085633510 + 529.6909650946 * t);
-        B1 += 0.00000022992 * Math.cos(2.48887389394 + 146.594251718 * t);
-        B1 += 0.00000019590 * Math.cos(5.37213500014 + 299.1263942692 * t);
-        B1 += 0.00000020408 * Math.cos(3.70179681605 + 70.8494453042 * t);
-        B1 += 0.00000019102 * Math.cos(1.09213276596 + 111.4301614968 * t);
-        B1 += 0.00000019411 * Math.cos(3.83015453768 + 38.1330356378 * t);
-        B1 += 0.00000010847 * Math.cos(2.66326308043 + 3.9321532631 * t);
-        B1 += 0.00000010249 * Math.cos(2.31278807720 + 109.9456887885 * t);
-        B1 += 0.00000009405 * Math.cos(2.76950513184 + 39.6175083461 * t);
-        B1 += 0.00000007660 * Math.cos(1.81108462850 + 225.8292684102 * t);
-        B1 += 0.00000008082 * Math.cos(4.69064168719 + 184.7272873558 * t);
-        B1 += 0.00000006584 * Math.cos(5.50417589189 + 35.1640902212 * t);
-        B1 += 0.00000007410 * Math.cos(1.17879753422 + 65.2203710117 * t);
-        B1 += 0.00000006451 * Math.cos(4.98294064391 + 71.6002048296 * t);
-        B1 += 0.00000006089 * Math.cos(1.31830108565 + 52.6901980395 * t);
-        B1 += 0.00000004768 * Math.cos(5.90574941745 + 145.6310438715 * t);
-        B1 += 0.00000004840 * Math.cos(4.86390682412 + 221.3758502853 * t);
-        B1 += 0.00000004192 * Math.cos(3.29643787103 + 77.962992305 * t);
-        B1 += 0.00000004711 * Math.cos(4.24289069791 + 152.5321425512 * t);
-        B1 += 0.00000004894 * Math.cos(6.01164167429 + 160.6088973985 * t);
-        B1 += 0.00000003738 * Math.cos(4.75287390209 + 70.3281804424 * t);
-        B1 += 0.00000003481 * Math.cos(0.64108927026 + 153.4953503977 * t);
-        B1 += 0.00000003758 * Math.cos(3.94715595219 + 351.8165923087 * t);
-        B1 += 0.00000003114 * Math.cos(0.10537144899 + 112.9146342051 * t);
-        B1 += 0.00000002788 * Math.cos(4.24118032837 + 74.6697239827 * t);
-        B1 += 0.00000002505 * Math.cos(0.04576283378 + 297.6419215609 * t);
-        B1 += 0.00000002563 * Math.cos(4.15665405963 + 305.3461693927 * t);
-        B1 += 0.00000002544 * Math.cos(5.25903565788 + 56.6223513026 * t);
-        B1 += 0.00000002247 * Math.cos(4.24726481845 + 36.6485629295 * t);
-        B1 += 0.00000002541 * Math.cos(0.40106060407 + 77.2292791221 * t);
-        B1 += 0.00000002212 * Math.cos(2.88960413468 + 277.0349937414 * t);
-        B1 += 0.00000002299 * Math.cos(3.57748029365 + 186.2117600641 * t);
-        B1 += 0.00000002661 * Math.cos(0.53230319176 + 79.2350166922 * t);
-        B1 += 0.00000002157 * Math.cos(2.10150995852 + 127.4717966068 * t);
-        B1 += 0.00000002265 * Math.cos(1.41055702214 + 4.4534181249 * t);
-        B1 += 0.00000002103 * Math.cos(4.27438518414 + 22.0914005278 * t);
-        B1 += 0.00000001861 * Math.cos(3.75619999278 + 145.1097790097 * t);
-        B1 += 0.00000001759 * Math.cos(2.10240976488 + 131.4039498699 * t);
-        B1 += 0.00000001661 * Math.cos(4.84483054269 + 62.2514255951 * t);
-        B1 += 0.00000001496 * Math.cos(1.72084298116 + 220.4126424388 * t);
-        B1 += 0.00000001659 * Math.cos(5.86539712478 + 454.9093665273 * t);
-        B1 += 0.00000001428 * Math.cos(0.31508367934 + 137.0330241624 * t);
-        B1 += 0.00000001522 * Math.cos(1.00801468633 + 75.7448064138 * t);
-        B1 += 0.00000001459 * Math.cos(6.17427145114 + 426.598190876 * t);
-        B1 += 0.00000001463 * Math.cos(5.14953143442 + 84.3428261229 * t);
-        B1 += 0.00000001453 * Math.cos(2.22988903923 + 206.1855484372 * t);
-        B1 += 0.00000001358 * Math.cos(5.85111427068 + 183.2428146475 * t);
-        B1 += 0.00000001405 * Math.cos(2.43582184515 + 87.3117715395 * t);
-        B1 += 0.00000001495 * Math.cos(5.55621838458 + 67.6680515665 * t);
-        B1 += 0.00000001317 * Math.cos(1.91178535183 + 140.001969579 * t);
-        B1 += 0.00000001068 * Math.cos(1.51430678116 + 373.9079928365 * t);
-        B1 += 0.00000001439 * Math.cos(0.99170994448 + 74.8934731519 * t);
-        B1 += 0.00000001065 * Math.cos(4.15616015505 + 288.0806940053 * t);
-        B1 += 0.00000001096 * Math.cos(1.63909426062 + 41.1019810544 * t);
-        B1 += 0.00000001189 * Math.cos(0.90595784409 + 33.6796175129 * t);
-        B1 += 0.00000000961 * Math.cos(5.48175535705 + 490.3340891794 * t);
-        B1 += 0.00000000851 * Math.cos(0.95029849401 + 909.8187330546 * t);
-        B1 += 0.00000000820 * Math.cos(0.78610123063 + 259.5088859231 * t);
-        B1 += 0.00000000881 * Math.cos(4.31294603221 + 9.5612275556 * t);
-        B1 += 0.00000000708 * Math.cos(0.00007309836 + 81.8951455681 * t);
-        B1 += 0.00000000709 * Math.cos(3.18853632737 + 80.1982245387 * t);
-        B1 += 0.00000000786 * Math.cos(5.18884635415 + 114.3991069134 * t);
-        B1 += 0.00000000822 * Math.cos(0.01949759759 + 18.1592472647 * t);
-        B1 += 0.00000000656 * Math.cos(6.16899483115 + 96.8729990951 * t);
-        B1 += 0.00000000879 * Math.cos(1.82006610038 + 73.8183907208 * t);
-        B1 += 0.00000000872 * Math.cos(0.30134022304 + 12.5301729722 * t);
-        B1 += 0.00000000860 * Math.cos(0.21225398802 + 3.1813937377 * t);
-        B1 += 0.00000000637 * Math.cos(2.64378420008 + 75.3028634291 * t);
-        B1 += 0.00000000727 * Math.cos(0.02846968582 + 66.70484372 * t);
-        B1 += 0.00000000600 * Math.cos(4.42462853209 + 415.5524906121 * t);
-        B1 += 0.00000000590 * Math.cos(4.17885957237 + 300.6108669775 * t);
-        B1 += 0.00000000610 * Math.cos(6.07202921132 + 219.891377577 * t);
-        B1 += 0.00000000611 * Math.cos(0.97629869063 + 296.1574488526 * t);
-        B1 += 0.00000000635 * Math.cos(2.21125075603 + 74.2603337055 * t);
-        B1 += 0.00000000529 * Math.cos(2.35940463062 + 7.1135470008 * t);
-        B1 += 0.00000000622 * Math.cos(2.21801944850 + 211.8146227297 * t);
-        B1 += 0.00000000519 * Math.cos(2.01872911223 + 142.4496501338 * t);
-        B1 += 0.00000000489 * Math.cos(1.83419944488 + 92.940845832 * t);
-        B1 += 0.00000000445 * Math.cos(2.51784247184 + 604.4725636619 * t);
-        B1 += 0.00000000413 * Math.cos(5.36482818305 + 82.8583534146 * t);
-        B1 += 0.00000000445 * Math.cos(0.33164113115 + 227.3137411185 * t);
-        B1 += 0.00000000456 * Math.cos(2.44190834824 + 381.6122406683 * t);
-        B1 += 0.00000000378 * Math.cos(1.91873737843 + 202.2533951741 * t);
-        B1 += 0.00000000509 * Math.cos(5.83556856314 + 191.2076949102 * t);
-        B1 += 0.00000000455 * Math.cos(5.15414537021 + 522.5774180938 * t);
-        B1 += 0.00000000419 * Math.cos(2.80644155875 + 72.3339180125 * t);
-        B1 += 0.00000000333 * Math.cos(0.32014837950 + 2.4476805548 * t);
-        B1 += 0.00000000360 * Math.cos(1.47248643716 + 378.6432952517 * t);
-        B1 += 0.00000000306 * Math.cos(0.15517399606 + 159.1244246902 * t);
-        B1 += 0.00000000301 * Math.cos(4.46417652272 + 536.8045120954 * t);
-        B1 += 0.00000000353 * Math.cos(0.48749845867 + 128.9562693151 * t);
-        B1 += 0.00000000351 * Math.cos(6.24769322491 + 5.9378908332 * t);
-        B1 += 0.00000000298 * Math.cos(1.71815652029 + 235.3904959658 * t);
-        B1 += 0.00000000315 * Math.cos(2.44922921309 + 187.6962327724 * t);
-        B1 += 0.00000000318 * Math.cos(0.70176359510 + 181.7583419392 * t);
-        B1 += 0.00000000314 * Math.cos(4.68400251693 + 14.977853527 * t);
-        if (highAccuracy) {
-            B1 += 0.00000000282 * Math.cos(3.70093718573 + 108.4612160802 * t);
-            B1 += 0.00000000272 * Math.cos(3.91340553608 + 617.8058857862 * t);
-            B1 += 0.00000000273 * Math.cos(3.29483889428 + 387.2413149608 * t);
-            B1 += 0.00000000323 * Math.cos(4.90410549341 + 258.0244132148 * t);
-            B1 += 0.00000000288 * Math.cos(4.42249612833 + 195.1398481733 * t);
-            B1 += 0.00000000250 * Math.cos(1.23231297183 + 703.6331846174 * t);
-            B1 += 0.00000000338 * Math.cos(2.84645768890 + 154.0166152595 * t);
-            B1 += 0.00000000297 * Math.cos(1.16538119842 + 146.3818033969 * t);
-            B1 += 0.00000000248 * Math.cos(4.90614051989 + 41.6444977756 * t);
-            B1 += 0.00000000275 * Math.cos(5.35665949805 + 80.7194894005 * t);
-            B1 += 0.00000000257 * Math.cos(1.82441994046 + 230.5645708254 * t);
-            B1 += 0.00000000234 * Math.cos(0.27679874465 + 33.1371007917 * t);
-            B1 += 0.00000000280 * Math.cos(1.73679618032 + 265.9892934775 * t);
-            B1 += 0.00000000229 * Math.cos(0.49529839431 + 74.8297826771 * t);
-            B1 += 0.00000000229 * Math.cos(4.18462288684 + 74.7334144575 * t);
-            B1 += 0.00000000253 * Math.cos(2.63817804331 + 74.5209661364 * t);
-            B1 += 0.00000000252 * Math.cos(2.04143912495 + 75.0422309982 * t);
-            B1 += 0.00000000213 * Math.cos(4.16218259902 + 74.6215398729 * t);
-            B1 += 0.00000000212 * Math.cos(0.51761494342 + 74.9416572617 * t);
-            B1 += 0.00000000201 * Math.cos(4.54140547837 + 20.6069278195 * t);
-            B1 += 0.00000000194 * Math.cos(4.17282454759 + 116.4260963429 * t);
-            B1 += 0.00000000213 * Math.cos(2.29528235429 + 32.1951448046 * t);
-            B1 += 0.00000000174 * Math.cos(3.15418942153 + 228.276948965 * t);
-            B1 += 0.00000000194 * Math.cos(0.06960211137 + 42.5864537627 * t);
-            B1 += 0.00000000173 * Math.cos(5.59700344643 + 68.8437077341 * t);
-            B1 += 0.00000000159 * Math.cos(4.91721631097 + 143.6253063014 * t);
-            B1 += 0.00000000150 * Math.cos(0.92771324396 + 404.5067903482 * t);
-            B1 += 0.00000000136 * Math.cos(2.51083022906 + 372.4235201282 * t);
-            B1 += 0.00000000134 * Math.cos(3.22507836958 + 479.2883889155 * t);
-            B1 += 0.00000000124 * Math.cos(0.42063711585 + 149.45132255 * t);
-            B1 += 0.00000000122 * Math.cos(1.20639876458 + 5.4166259714 * t);
-            B1 += 0.00000000119 * Math.cos(0.45375065997 + 74.0308390419 * t);
-            B1 += 0.00000000146 * Math.cos(5.08207330360 + 294.6729761443 * t);
-            B1 += 0.00000000118 * Math.cos(4.22640788890 + 75.5323580927 * t);
-            B1 += 0.00000000118 * Math.cos(1.50613822829 + 344.7030453079 * t);
-            B1 += 0.00000000121 * Math.cos(2.13544759505 + 209.3669421749 * t);
-            B1 += 0.00000000121 * Math.cos(6.08239076370 + 260.9933586314 * t);
-            B1 += 0.00000000154 * Math.cos(4.18369977366 + 39.3568759152 * t);
-        }
-        return B1 * t;
-    }
-
-    public double B2(double t) // 60 terms of order 2
-    {
-        double B2 = 0;
-        B2 += 0.00009211656 * Math.cos(5.80044305785 + 74.7815985673 * t);
-        B2 += 0.00000556926;
-        B2 += 0.00000286265 * Math.cos(2.17729776353 + 149.5631971346 * t);
-        B2 += 0.00000094969 * Math.cos(3.84237569809 + 73.297125859 * t);
-        B2 += 0.00000045419 * Math.cos(4.87822046064 + 76.2660712756 * t);
-        B2 += 0.00000020107 * Math.cos(5.46264485369 + 1.4844727083 * t);
-        B2 += 0.00000014793 * Math.cos(0.87983715652 + 138.5174968707 * t);
-        B2 += 0.00000013963 * Math.cos(5.07234043994 + 63.7358983034 * t);
-        B2 += 0.00000014261 * Math.cos(2.84517742687 + 148.0787244263 * t);
-        B2 += 0.00000010122 * Math.cos(5.00290894862 + 224.3447957019 * t);
-        B2 += 0.00000008299 * Math.cos(6.26655615197 + 78.7137518304 * t);
-        B2 += 0.00000004729 * Math.cos(5.16274174929 + 71.8126531507 * t);
-        B2 += 0.00000003816 * Math.cos(6.28224514574 + 85.8272988312 * t);
-        B2 += 0.00000003488 * Math.cos(3.53472172445 + 11.0457002639 * t);
-        B2 += 0.00000002555 * Math.cos(1.44444215715 + 151.0476698429 * t);
-        B2 += 0.00000002353 * Math.cos(4.23069776466 + 3.9321532631 * t);
-        B2 += 0.00000002585 * Math.cos(0.41383633246 + 71.6002048296 * t);
-        B2 += 0.00000001394 * Math.cos(4.13126838571 + 146.594251718 * t);
-        B2 += 0.00000001183 * Math.cos(3.68471361409 + 77.7505439839 * t);
-        B2 += 0.00000001103 * Math.cos(5.54212014132 + 222.8603229936 * t);
-        B2 += 0.00000001205 * Math.cos(5.05109252937 + 380.12776796 * t);
-        B2 += 0.00000001146 * Math.cos(1.95280464754 + 529.6909650946 * t);
-        B2 += 0.00000000977 * Math.cos(1.52652616357 + 77.962992305 * t);
-        B2 += 0.00000001025 * Math.cos(4.33698643491 + 2.9689454166 * t);
-        B2 += 0.00000000858 * Math.cos(2.78728745263 + 111.4301614968 * t);
-        B2 += 0.00000000868 * Math.cos(5.55175791193 + 38.1330356378 * t);
-        B2 += 0.00000000633 * Math.cos(0.41074353315 + 213.299095438 * t);
-        B2 += 0.00000000596 * Math.cos(5.39265533517 + 127.4717966068 * t);
-        B2 += 0.00000000586 * Math.cos(4.00404667232 + 109.9456887885 * t);
-        B2 += 0.00000000543 * Math.cos(2.40369406419 + 153.4953503977 * t);
-        B2 += 0.00000000486 * Math.cos(2.05237757516 + 299.1263942692 * t);
-        B2 += 0.00000000557 * Math.cos(3.13408880388 + 65.2203710117 * t);
-        B2 += 0.00000000457 * Math.cos(3.96543219832 + 454.9093665273 * t);
-        B2 += 0.00000000481 * Math.cos(2.81511187371 + 160.6088973985 * t);
-        B2 += 0.00000000421 * Math.cos(2.16819778071 + 56.6223513026 * t);
-        B2 += 0.00000000326 * Math.cos(4.52920012430 + 39.6175083461 * t);
-        B2 += 0.00000000308 * Math.cos(6.26508780547 + 70.3281804424 * t);
-        B2 += 0.00000000338 * Math.cos(5.14594268587 + 3.1813937377 * t);
-        B2 += 0.00000000288 * Math.cos(0.47061435406 + 22.0914005278 * t);
-        B2 += 0.00000000336 * Math.cos(4.23512034174 + 35.1640902212 * t);
-        B2 += 0.00000000316 * Math.cos(3.93430525759 + 52.6901980395 * t);
-        B2 += 0.00000000306 * Math.cos(1.10359318443 + 70.8494453042 * t);
-        B2 += 0.00000000250 * Math.cos(3.58780257084 + 202.2533951741 * t);
-        B2 += 0.00000000239 * Math.cos(4.77679306080 + 87.3117715395 * t);
-        B2 += 0.00000000227 * Math.cos(2.74138067839 + 12.5301729722 * t);
-        B2 += 0.00000000263 * Math.cos(1.59203582407 + 84.3428261229 * t);
-        B2 += 0.00000000215 * Math.cos(3.88195737361 + 131.4039498699 * t);
-        B2 += 0.00000000216 * Math.cos(5.80700510713 + 74.6697239827 * t);
-        B2 += 0.00000000264 * Math.cos(1.82574036051 + 77.2292791221 * t);
-        B2 += 0.00000000222 * Math.cos(0.04111883550 + 184.7272873558 * t);
-        B2 += 0.00000000197 * Math.cos(1.56602555362 + 9.5612275556 * t);
-        B2 += 0.00000000193 * Math.cos(2.26416938160 + 75.7448064138 * t);
-        B2 += 0.00000000179 * Math.cos(2.69065316892 + 145.6310438715 * t);
-        B2 += 0.00000000170 * Math.cos(2.75844544119 + 73.8183907208 * t);
-        B2 += 0.00000000155 * Math.cos(3.55393249110 + 18.1592472647 * t);
-        B2 += 0.00000000174 * Math.cos(4.76111441901 + 277.0349937414 * t);
-        B2 += 0.00000000140 * Math.cos(0.28714762870 + 221.3758502853 * t);
-        B2 += 0.00000000134 * Math.cos(1.29065526326 + 206.1855484372 * t);
-        B2 += 0.00000000127 * Math.cos(6.17908901556 + 62.2514255951 * t);
-        B2 += 0.00000000116 * Math.cos(6.26646620658 + 220.4126424388 * t);
-        return B2 * t * t;
+        super("uranus");
+        ephemerisWindow = 128;
     }
-
-    public double B3(double t) // 16 terms of order 3
-    {
-        double B3 = 0;
-        B3 += 0.00000267832 * Math.cos(1.25097888291 + 74.7815985673 * t);
-        B3 -= 0.00000011048;
-        B3 += 0.00000006154 * Math.cos(4.00663614486 + 149.5631971346 * t);
-        B3 += 0.00000003361 * Math.cos(5.77804694935 + 73.297125859 * t);
-        B3 += 0.00000001602 * Math.cos(1.05657834344 + 63.7358983034 * t);
-        B3 += 0.00000001265 * Math.cos(1.66795295537 + 78.7137518304 * t);
-        B3 += 0.00000001183 * Math.cos(2.58856450374 + 138.5174968707 * t);
-        B3 += 0.00000001087 * Math.cos(0.28687213135 + 76.2660712756 * t);
-        B3 += 0.00000000640 * Math.cos(1.87238784591 + 71.6002048296 * t);
-        B3 += 0.00000000590 * Math.cos(0.80206040001 + 1.4844727083 * t);
-        B3 += 0.00000000467 * Math.cos(4.42872012006 + 148.0787244263 * t);
-        B3 += 0.00000000272 * Math.cos(4.00684090176 + 85.8272988312 * t);
-        B3 += 0.00000000203 * Math.cos(0.60406901282 + 71.8126531507 * t);
-        B3 += 0.00000000180 * Math.cos(5.55657564049 + 3.9321532631 * t);
-        B3 += 0.00000000168 * Math.cos(4.67745630044 + 70.8494453042 * t);
-        B3 += 0.00000000170 * Math.cos(2.93672195979 + 11.0457002639 * t);
-        return B3 * t * t * t;
-    }
-
-    public double B4(double t) // 2 terms of order 4
-    {
-        double B4 = 0;
-        B4 += 0.00000005719 * Math.cos(2.85499529315 + 74.7815985673 * t);
-        B4 -= 0.00000000300;
-        return B4 * t * t * t * t;
-    }
-
-    public double B5(double t) // 1 term of order 5
-    {
-        double B5 = 0;
-        B5 += 0.00000000000;
-        return B5 * t * t * t * t * t;
-    }
-
-    public double R0(double t) // 1124 terms of order 0
-    {
-        double R0 = 0;
-        R0 += 19.21264847881;
-        R0 += 0.88784984055 * Math.cos(5.60377526994 + 74.7815985673 * t);
-        R0 += 0.03440835545 * Math.cos(0.32836098991 + 73.297125859 * t);
-        R0 += 0.02055653495 * Math.cos(1.78295170028 + 149.5631971346 * t);
-        R0 += 0.00649321851 * Math.cos(4.52247298119 + 76.2660712756 * t);
-        R0 += 0.00602248144 * Math.cos(3.86003820462 + 63.7358983034 * t);
-        R0 += 0.00496404171 * Math.cos(1.40139934716 + 454.9093665273 * t);
-        R0 += 0.00338525522 * Math.cos(1.58002682946 + 138.5174968707 * t);
-        R0 += 0.00243508222 * Math.cos(1.57086595074 + 71.8126531507 * t);
-        R0 += 0.00190521915 * Math.cos(1.99809364502 + 1.4844727083 * t);
-        R0 += 0.00161858251 * Math.cos(2.79137863469 + 148.0787244263 * t);
-        R0 += 0.00143705902 * Math.cos(1.38368574483 + 11.0457002639 * t);
-        R0 += 0.00093192359 * Math.cos(0.17437193645 + 36.6485629295 * t);
-        R0 += 0.00071424265 * Math.cos(4.24509327405 + 224.3447957019 * t);
-        R0 += 0.00089805842 * Math.cos(3.66105366329 + 109.9456887885 * t);
-        R0 += 0.00039009624 * Math.cos(1.66971128869 + 70.8494453042 * t);
-        R0 += 0.00046677322 * Math.cos(1.39976563936 + 35.1640902212 * t);
-        R0 += 0.00039025681 * Math.cos(3.36234710692 + 277.0349937414 * t);
-        R0 += 0.00036755160 * Math.cos(3.88648934736 + 146.594251718 * t);
-        R0 += 0.00030348875 * Math.cos(0.70100446346 + 151.0476698429 * t);
-        R0 += 0.00029156264 * Math.cos(3.18056174556 + 77.7505439839 * t);
-        R0 += 0.00020471584 * Math.cos(1.55588961500 + 202.2533951741 * t);
-        R0 += 0.00025620360 * Math.cos(5.25656292802 + 380.12776796 * t);
-        R0 += 0.00025785805 * Math.cos(3.78537741503 + 85.8272988312 * t);
-        R0 += 0.00022637152 * Math.cos(0.72519137745 + 529.6909650946 * t);
-        R0 += 0.00020473163 * Math.cos(2.79639811626 + 70.3281804424 * t);
-        R0 += 0.00017900561 * Math.cos(0.55455488605 + 2.9689454166 * t);
-        R0 += 0.00012328151 * Math.cos(5.96039150918 + 127.4717966068 * t);
-        R0 += 0.00014701566 * Math.cos(4.90434406648 + 108.4612160802 * t);
-        R0 += 0.00011494701 * Math.cos(0.43774027872 + 65.2203710117 * t);
-        R0 += 0.00015502809 * Math.cos(5.35405037603 + 38.1330356378 * t);
-        R0 += 0.00010792699 * Math.cos(1.42104858472 + 213.299095438 * t);
-        R0 += 0.00011696085 * Math.cos(3.29825599114 + 3.9321532631 * t);
-        R0 += 0.00011959355 * Math.cos(1.75044072173 + 984.6003316219 * t);
-        R0 += 0.00012896507 * Math.cos(2.62154018241 + 111.4301614968 * t);
-        R0 += 0.00011852996 * Math.cos(0.99342814582 + 52.6901980395 * t);
-        R0 += 0.00009111446 * Math.cos(4.99638600045 + 62.2514255951 * t);
-        R0 += 0.00008420550 * Math.cos(5.25350716616 + 222.8603229936 * t);
-        R0 += 0.00007449125 * Math.cos(0.79491905956 + 351.8165923087 * t);
-        R0 += 0.00008402147 * Math.cos(5.03877516489 + 415.5524906121 * t);
-        R0 += 0.00006046370 * Math.cos(5.67960948357 + 78.7137518304 * t);
-        R0 += 0.00005524133 * Math.cos(3.11499484161 + 9.5612275556 * t);
-        R0 += 0.00007329454 * Math.cos(3.97277527840 + 183.2428146475 * t);
-        R0 += 0.00005444878 * Math.cos(5.10575635361 + 145.1097790097 * t);
-        R0 += 0.00005238103 * Math.cos(2.62960141797 + 33.6796175129 * t);
-        R0 += 0.00004079167 * Math.cos(3.22064788674 + 340.7708920448 * t);
-        R0 += 0.00003801606 * Math.cos(6.10985558505 + 184.7272873558 * t);
-        R0 += 0.00003919476 * Math.cos(4.25015288873 + 39.6175083461 * t);
-        R0 += 0.00002940492 * Math.cos(2.14637460319 + 137.0330241624 * t);
-        R0 += 0.00003781219 * Math.cos(3.45840272873 + 456.3938392356 * t);
-        R0 += 0.00002942239 * Math.cos(0.42393808854 + 299.1263942692 * t);
-        R0 += 0.00003686787 * Math.cos(2.48718116535 + 453.424893819 * t);
-        R0 += 0.00003101743 * Math.cos(4.14031063896 + 219.891377577 * t);
-        R0 += 0.00002962641 * Math.cos(0.82977991995 + 56.6223513026 * t);
-        R0 += 0.00002937799 * Math.cos(3.67657450930 + 140.001969579 * t);
-        R0 += 0.00002865128 * Math.cos(0.30996903761 + 12.5301729722 * t);
-        R0 += 0.00002538032 * Math.cos(4.85457831993 + 131.4039498699 * t);
-        R0 += 0.00001962510 * Math.cos(5.24342224065 + 84.3428261229 * t);
-        R0 += 0.00002363550 * Math.cos(0.44253328372 + 554.0699874828 * t);
-        R0 += 0.00001979394 * Math.cos(6.12836181686 + 106.9767433719 * t);
-        R0 += 0.00002182572 * Math.cos(2.94040431638 + 305.3461693927 * t);
-        R0 += 0.00001962974 * Math.cos(0.04114739120 + 221.3758502853 * t);
-        R0 += 0.00001829560 * Math.cos(4.01105771632 + 68.8437077341 * t);
-        R0 += 0.00001642920 * Math.cos(0.35564102554 + 67.6680515665 * t);
-        R0 += 0.00001584850 * Math.cos(3.16267171762 + 225.8292684102 * t);
-        R0 += 0.00001848655 * Math.cos(2.91111759376 + 909.8187330546 * t);
-        R0 += 0.00001632430 * Math.cos(4.23061792837 + 22.0914005278 * t);
-        R0 += 0.00001401390 * Math.cos(1.39084023521 + 265.9892934775 * t);
-        R0 += 0.00001403717 * Math.cos(5.63563637532 + 4.4534181249 * t);
-        R0 += 0.00001655866 * Math.cos(1.96431297431 + 79.2350166922 * t);
-        R0 += 0.00001248978 * Math.cos(5.44027380866 + 54.1746707478 * t);
-        R0 += 0.00001563447 * Math.cos(1.47917835549 + 112.9146342051 * t);
-        R0 += 0.00001248054 * Math.cos(4.88984353601 + 479.2883889155 * t);
-        R0 += 0.00001197439 * Math.cos(2.52185744943 + 145.6310438715 * t);
-        R0 += 0.00001506952 * Math.cos(5.24186185583 + 181.7583419392 * t);
-        R0 += 0.00001481746 * Math.cos(5.66203046912 + 152.5321425512 * t);
-        R0 += 0.00001438838 * Math.cos(1.53046287618 + 447.7958195265 * t);
-        R0 += 0.00001408514 * Math.cos(4.41921749601 + 462.0229135281 * t);
-        R0 += 0.00001477112 * Math.cos(4.32214690647 + 256.5399405065 * t);
-        R0 += 0.00001228314 * Math.cos(5.97703331040 + 59.8037450403 * t);
-        R0 += 0.00001249958 * Math.cos(6.24484546141 + 160.6088973985 * t);
-        R0 += 0.00000906468 * Math.cos(5.62025869483 + 74.6697239827 * t);
-        R0 += 0.00001090681 * Math.cos(4.15393813845 + 77.962992305 * t);
-        R0 += 0.00000844931 * Math.cos(0.12943398585 + 82.8583534146 * t);
-        R0 += 0.00000900363 * Math.cos(2.37315925843 + 74.8934731519 * t);
-        R0 += 0.00001071957 * Math.cos(1.74286714339 + 528.2064923863 * t);
-        R0 += 0.00000689708 * Math.cos(3.08097059985 + 69.3649725959 * t);
-        R0 += 0.00000593798 * Math.cos(4.50074517056 + 8.0767548473 * t);
-        R0 += 0.00000718559 * Math.cos(4.00047509264 + 128.9562693151 * t);
-        R0 += 0.00000699574 * Math.cos(0.03987168068 + 143.6253063014 * t);
-        R0 += 0.00000575656 * Math.cos(5.89552672641 + 66.70484372 * t);
-        R0 += 0.00000759004 * Math.cos(2.13700057433 + 692.5874843535 * t);
-        R0 += 0.00000710449 * Math.cos(5.41605755095 + 218.4069048687 * t);
-        R0 += 0.00000548672 * Math.cos(5.62811496970 + 3.1813937377 * t);
-        R0 += 0.00000651632 * Math.cos(4.42340061551 + 18.1592472647 * t);
-        R0 += 0.00000539825 * Math.cos(6.20788667166 + 71.6002048296 * t);
-        R0 += 0.00000544539 * Math.cos(5.69375108253 + 203.7378678824 * t);
-        R0 += 0.00000710276 * Math.cos(4.21967260022 + 381.6122406683 * t);
-        R0 += 0.00000593819 * Math.cos(3.83805798523 + 32.1951448046 * t);
-        R0 += 0.00000710134 * Math.cos(4.48972171999 + 293.188503436 * t);
-        R0 += 0.00000705482 * Math.cos(0.45521177725 + 835.0371344873 * t);
-        R0 += 0.00000588000 * Math.cos(5.08252923316 + 186.2117600641 * t);
-        R0 += 0.00000598231 * Math.cos(0.35815291076 + 269.9214467406 * t);
-        R0 += 0.00000641914 * Math.cos(2.71127457036 + 87.3117715395 * t);
-        R0 += 0.00000495621 * Math.cos(2.65094755989 + 200.7689224658 * t);
-        R0 += 0.00000630252 * Math.cos(4.46146214548 + 275.5505210331 * t);
-        R0 += 0.00000575195 * Math.cos(5.57862480486 + 2.4476805548 * t);
-        R0 += 0.00000569870 * Math.cos(1.63930932740 + 77.2292791221 * t);
-        R0 += 0.00000556672 * Math.cos(1.07231961344 + 1059.3819301892 * t);
-        R0 += 0.00000449439 * Math.cos(0.27981733949 + 617.8058857862 * t);
-        R0 += 0.00000463608 * Math.cos(1.43448297993 + 297.6419215609 * t);
-        R0 += 0.00000436547 * Math.cos(0.52802035072 + 209.3669421749 * t);
-        R0 += 0.00000463938 * Math.cos(2.35443114417 + 211.8146227297 * t);
-        R0 += 0.00000435943 * Math.cos(2.10077211065 + 1514.2912967165 * t);
-        R0 += 0.00000515534 * Math.cos(3.23274579379 + 284.1485407422 * t);
-        R0 += 0.00000454879 * Math.cos(4.08364210459 + 99.1606209555 * t);
-        R0 += 0.00000477430 * Math.cos(2.89397217998 + 39.3568759152 * t);
-        R0 += 0.00000542331 * Math.cos(5.39481705077 + 278.5194664497 * t);
-        R0 += 0.00000410087 * Math.cos(3.04968860441 + 404.5067903482 * t);
-        R0 += 0.00000367848 * Math.cos(0.71159607058 + 125.9873238985 * t);
-        R0 += 0.00000503096 * Math.cos(5.83931251717 + 191.2076949102 * t);
-        R0 += 0.00000487532 * Math.cos(0.06402454583 + 60.7669528868 * t);
-        R0 += 0.00000455043 * Math.cos(2.59321186669 + 490.3340891794 * t);
-        R0 += 0.00000436291 * Math.cos(2.08183813746 + 51.2057253312 * t);
-        R0 += 0.00000435803 * Math.cos(2.79445203085 + 75.7448064138 * t);
-        R0 += 0.00000323546 * Math.cos(4.82899980859 + 195.1398481733 * t);
-        R0 += 0.00000359363 * Math.cos(0.00868012078 + 35.4247226521 * t);
-        R0 += 0.00000429314 * Math.cos(3.08031550488 + 41.1019810544 * t);
-        R0 += 0.00000320021 * Math.cos(5.48625497747 + 14.977853527 * t);
-        R0 += 0.00000414331 * Math.cos(0.09012800478 + 258.0244132148 * t);
-        R0 += 0.00000379715 * Math.cos(0.05832815311 + 378.6432952517 * t);
-        R0 += 0.00000420062 * Math.cos(2.25393983318 + 81.0013736908 * t);
-        R0 += 0.00000357721 * Math.cos(4.71414305625 + 173.9422195228 * t);
-        R0 += 0.00000358922 * Math.cos(0.35213227553 + 426.598190876 * t);
-        R0 += 0.00000405410 * Math.cos(6.12263257999 + 24.3790223882 * t);
-        R0 += 0.00000365158 * Math.cos(5.59483211224 + 255.0554677982 * t);
-        R0 += 0.00000308102 * Math.cos(3.92355394354 + 116.4260963429 * t);
-        R0 += 0.00000325660 * Math.cos(4.71996698332 + 134.5853436076 * t);
-        R0 += 0.00000292781 * Math.cos(3.99521194830 + 72.3339180125 * t);
-        R0 += 0.00000386543 * Math.cos(0.68619006966 + 230.5645708254 * t);
-        R0 += 0.00000305686 * Math.cos(3.76108783519 + 344.7030453079 * t);
-        R0 += 0.00000286972 * Math.cos(1.84990335310 + 153.4953503977 * t);
-        R0 += 0.00000353640 * Math.cos(4.65717995107 + 329.8370663655 * t);
-        R0 += 0.00000302051 * Math.cos(0.13190003806 + 565.1156877467 * t);
-        R0 += 0.00000241128 * Math.cos(1.60454142389 + 81.3738807063 * t);
-        R0 += 0.00000249829 * Math.cos(4.24205256241 + 75.3028634291 * t);
-        R0 += 0.00000245063 * Math.cos(5.94905404273 + 20.6069278195 * t);
-        R0 += 0.00000248277 * Math.cos(1.06282887181 + 105.4922706636 * t);
-        R0 += 0.00000305353 * Math.cos(2.55534744586 + 6208.2942514241 * t);
-        R0 += 0.00000296328 * Math.cos(4.21100245276 + 1364.7280995819 * t);
-        R0 += 0.00000219938 * Math.cos(2.96119055727 + 120.358249606 * t);
-        R0 += 0.00000233564 * Math.cos(2.97074409938 + 46.2097904851 * t);
-        R0 += 0.00000262422 * Math.cos(3.83652250971 + 831.1049812242 * t);
-        R0 += 0.00000233546 * Math.cos(4.48117006140 + 628.8515860501 * t);
-        R0 += 0.00000187432 * Math.cos(3.03529190348 + 135.5485514541 * t);
-        R0 += 0.00000216776 * Math.cos(3.42907414802 + 241.6102710893 * t);
-        R0 += 0.00000255760 * Math.cos(1.16707893460 + 177.8743727859 * t);
-        R0 += 0.00000220458 * Math.cos(0.19633492290 + 180.2738692309 * t);
-        R0 += 0.00000224519 * Math.cos(0.40677777819 + 114.3991069134 * t);
-        R0 += 0.00000205398 * Math.cos(2.30380942634 + 259.5088859231 * t);
-        R0 += 0.00000211106 * Math.cos(4.93079982424 + 103.0927742186 * t);
-        R0 += 0.00000175758 * Math.cos(5.50822822216 + 7.1135470008 * t);
-        R0 += 0.00000188512 * Math.cos(2.23588941288 + 5.4166259714 * t);
-        R0 += 0.00000171718 * Math.cos(5.21730232334 + 41.6444977756 * t);
-        R0 += 0.00000176136 * Math.cos(1.95958319897 + 756.3233826569 * t);
-        R0 += 0.00000170447 * Math.cos(4.94978757413 + 206.1855484372 * t);
-        R0 += 0.00000169454 * Math.cos(4.04319823722 + 55.6591434561 * t);
-        R0 += 0.00000219015 * Math.cos(0.24790282027 + 294.6729761443 * t);
-        R0 += 0.00000187768 * Math.cos(2.04538775456 + 408.4389436113 * t);
-        R0 += 0.00000182258 * Math.cos(0.70728384467 + 391.1734682239 * t);
-        R0 += 0.00000192095 * Math.cos(5.76718231319 + 291.7040307277 * t);
-        R0 += 0.00000153684 * Math.cos(4.70659406659 + 543.0242872189 * t);
-        R0 += 0.00000170043 * Math.cos(4.50995820508 + 288.0806940053 * t);
-        R0 += 0.00000164097 * Math.cos(5.22527540372 + 67.3592350258 * t);
-        R0 += 0.00000194341 * Math.cos(6.11690364710 + 414.0680179038 * t);
-        R0 += 0.00000168027 * Math.cos(5.25810639105 + 518.6452648307 * t);
-        R0 += 0.00000156641 * Math.cos(0.66304836778 + 220.4126424388 * t);
-        R0 += 0.00000182330 * Math.cos(0.78383856974 + 417.0369633204 * t);
-        R0 += 0.00000167462 * Math.cos(4.92241597775 + 422.6660376129 * t);
-        R0 += 0.00000170770 * Math.cos(2.30927162659 + 98.8999885246 * t);
-        R0 += 0.00000161678 * Math.cos(3.27259601116 + 443.8636662634 * t);
-        R0 += 0.00000132763 * Math.cos(2.88875442023 + 373.9079928365 * t);
-        R0 += 0.00000161140 * Math.cos(3.82341391177 + 451.9404211107 * t);
-        R0 += 0.00000179292 * Math.cos(4.82405681293 + 366.485629295 * t);
-        R0 += 0.00000178153 * Math.cos(3.98026039043 + 10138.5039476437 * t);
-        R0 += 0.00000141929 * Math.cos(1.26972581554 + 159.1244246902 * t);
-        R0 += 0.00000153750 * Math.cos(4.27847681414 + 45.5766510387 * t);
-        R0 += 0.00000161513 * Math.cos(4.99545008738 + 73.8183907208 * t);
-        R0 += 0.00000146315 * Math.cos(2.65664902119 + 465.9550667912 * t);
-        R0 += 0.00000124875 * Math.cos(4.30470898895 + 339.2864193365 * t);
-        R0 += 0.00000154620 * Math.cos(4.32046228120 + 760.25553592 * t);
-        R0 += 0.00000142894 * Math.cos(2.07773752143 + 457.8783119439 * t);
-        R0 += 0.00000152408 * Math.cos(4.64742446768 + 155.7829722581 * t);
-        R0 += 0.00000116389 * Math.cos(4.43513730944 + 5.9378908332 * t);
-        R0 += 0.00000113444 * Math.cos(4.65351596266 + 80.1982245387 * t);
-        R0 += 0.00000107611 * Math.cos(3.77290419929 + 142.4496501338 * t);
-        R0 += 0.00000133740 * Math.cos(5.30894739047 + 14.0146456805 * t);
-        R0 += 0.00000116104 * Math.cos(2.51182725670 + 296.1574488526 * t);
-        R0 += 0.00000129106 * Math.cos(0.36277717661 + 96.8729990951 * t);
-        R0 += 0.00000122766 * Math.cos(2.38341351026 + 141.4864422873 * t);
-        R0 += 0.00000101368 * Math.cos(1.05739625315 + 92.3077063856 * t);
-        R0 += 0.00000114669 * Math.cos(6.24863527978 + 767.3690829208 * t);
-        R0 += 0.00000113283 * Math.cos(0.83051319425 + 100.3844612329 * t);
-        R0 += 0.00000107199 * Math.cos(2.39365512354 + 347.8844390456 * t);
-        R0 += 0.00000095443 * Math.cos(0.80094579583 + 342.2553647531 * t);
-        R0 += 0.00000110789 * Math.cos(0.38651051525 + 216.9224321604 * t);
-        R0 += 0.00000126978 * Math.cos(0.42359358250 + 331.3215390738 * t);
-        R0 += 0.00000112635 * Math.cos(0.08107814739 + 558.0021407459 * t);
-        R0 += 0.00000103166 * Math.cos(0.69792283389 + 358.9301393095 * t);
-        R0 += 0.00000111474 * Math.cos(0.75023459027 + 80.7194894005 * t);
-        R0 += 0.00000090902 * Math.cos(5.16530481614 + 144.1465711632 * t);
-        R0 += 0.00000090677 * Math.cos(0.22036476597 + 333.657345044 * t);
-        R0 += 0.00000098568 * Math.cos(4.33164222339 + 74.5209661364 * t);
-        R0 += 0.00000089306 * Math.cos(2.18851161761 + 74.8297826771 * t);
-        R0 += 0.00000117216 * Math.cos(3.94965784596 + 74.2603337055 * t);
-        R0 += 0.00000089088 * Math.cos(5.87783179087 + 74.7334144575 * t);
-        R0 += 0.00000097316 * Math.cos(0.69429695020 + 977.4867846211 * t);
-        R0 += 0.00000116587 * Math.cos(1.83677031994 + 1289.9465010146 * t);
-        R0 += 0.00000085449 * Math.cos(5.80255966149 + 6.592282139 * t);
-        R0 += 0.00000086823 * Math.cos(5.61973473261 + 300.6108669775 * t);
-        R0 += 0.00000105226 * Math.cos(5.94513614941 + 328.3525936572 * t);
-        R0 += 0.00000112117 * Math.cos(1.21168089807 + 329.7251917809 * t);
-        R0 += 0.00000082982 * Math.cos(2.20797412496 + 74.9416572617 * t);
-        R0 += 0.00000094345 * Math.cos(4.53937998713 + 28.5718080822 * t);
-        R0 += 0.00000106847 * Math.cos(1.82071328579 + 306.830642101 * t);
-        R0 += 0.00000103572 * Math.cos(2.99368274596 + 6.2197751235 * t);
-        R0 += 0.00000106357 * Math.cos(0.81583874750 + 1087.6931058405 * t);
-        R0 += 0.00000077728 * Math.cos(2.73390123734 + 110.2063212194 * t);
-        R0 += 0.00000098405 * Math.cos(3.73478182667 + 75.0422309982 * t);
-        R0 += 0.00000086231 * Math.cos(2.83316881064 + 983.1158589136 * t);
-        R0 += 0.00000089023 * Math.cos(4.73754458960 + 604.4725636619 * t);
-        R0 += 0.00000083013 * Math.cos(1.88273535999 + 387.2413149608 * t);
-        R0 += 0.00000090227 * Math.cos(3.80367274711 + 986.0848043302 * t);
-        R0 += 0.00000084598 * Math.cos(1.25774132938 + 142.1408335931 * t);
-        R0 += 0.00000074690 * Math.cos(1.35097482767 + 350.3321196004 * t);
-        R0 += 0.00000095770 * Math.cos(5.54845504768 + 969.6224780949 * t);
-        R0 += 0.00000090277 * Math.cos(0.36773710508 + 0.9632078465 * t);
-        R0 += 0.00000082748 * Math.cos(5.85590525764 + 74.6215398729 * t);
-        R0 += 0.00000075828 * Math.cos(2.78019216029 + 88.1149206916 * t);
-        R0 += 0.00000083850 * Math.cos(1.84386358668 + 227.3137411185 * t);
-        R0 += 0.00000070705 * Math.cos(4.65567024014 + 44.7253177768 * t);
-        R0 += 0.00000071322 * Math.cos(3.64963906751 + 894.8408795276 * t);
-        R0 += 0.00000094141 * Math.cos(4.98819201726 + 403.1341922245 * t);
-        R0 += 0.00000088966 * Math.cos(4.43895583278 + 154.0166152595 * t);
-        R0 += 0.00000079436 * Math.cos(5.66662613679 + 267.4737661858 * t);
-        R0 += 0.00000075615 * Math.cos(5.40971072536 + 50.4025761791 * t);
-        R0 += 0.00000068583 * Math.cos(4.76679841388 + 991.7138786227 * t);
-        R0 += 0.00000065256 * Math.cos(0.69286370395 + 152.7445908723 * t);
-        R0 += 0.00000063031 * Math.cos(2.89946567712 + 79.889407998 * t);
-        R0 += 0.00000063878 * Math.cos(0.09820555288 + 681.5417840896 * t);
-        R0 += 0.00000080101 * Math.cos(2.97520561915 + 526.722019678 * t);
-        R0 += 0.00000069693 * Math.cos(3.95281159807 + 187.6962327724 * t);
-        R0 += 0.00000059492 * Math.cos(3.59642351692 + 58.1068240109 * t);
-        R0 += 0.00000059273 * Math.cos(0.50930692071 + 28.3111756513 * t);
-        R0 += 0.00000068590 * Math.cos(2.41880311530 + 235.3904959658 * t);
-        R0 += 0.00000066007 * Math.cos(5.04558399435 + 30.7106720963 * t);
-        R0 += 0.00000070223 * Math.cos(3.73647415486 + 546.956440482 * t);
-        R0 += 0.00000066836 * Math.cos(0.85506033017 + 522.5774180938 * t);
-        R0 += 0.00000063027 * Math.cos(0.29269109052 + 119.5069163441 * t);
-        R0 += 0.00000062023 * Math.cos(2.31557510311 + 74.0308390419 * t);
-        R0 += 0.00000071379 * Math.cos(3.16967571102 + 23.5758732361 * t);
-        R0 += 0.00000074827 * Math.cos(5.36812537961 + 373.0142209592 * t);
-        R0 += 0.00000064204 * Math.cos(2.36817149460 + 157.6399519819 * t);
-        R0 += 0.00000070712 * Math.cos(0.55830476304 + 92.940845832 * t);
-        R0 += 0.00000055762 * Math.cos(5.27011035858 + 874.3940104025 * t);
-        R0 += 0.00000075638 * Math.cos(4.66344127677 + 101.8689339412 * t);
-        R0 += 0.00000073727 * Math.cos(6.20581665991 + 312.4597163935 * t);
-        R0 += 0.00000072940 * Math.cos(0.58406607757 + 367.9701020033 * t);
-        R0 += 0.00000053230 * Math.cos(2.24728742995 + 17.5261078183 * t);
-        R0 += 0.00000063139 * Math.cos(4.59563922296 + 67.8804998876 * t);
-        R0 += 0.00000060550 * Math.cos(0.57591315857 + 253.5709950899 * t);
-        R0 += 0.00000052946 * Math.cos(2.45947017614 + 264.5048207692 * t);
-        R0 += 0.00000070236 * Math.cos(1.51860943454 + 552.5855147745 * t);
-        R0 += 0.00000068624 * Math.cos(2.44507780453 + 555.5544601911 * t);
-        R0 += 0.00000062796 * Math.cos(0.33786296181 + 561.1835344836 * t);
-        R0 += 0.00000049009 * Math.cos(1.09233728279 + 19.1224551112 * t);
-        R0 += 0.00000064636 * Math.cos(5.27469970900 + 68.1893164283 * t);
-        R0 += 0.00000062957 * Math.cos(5.35891188483 + 92.0470739547 * t);
-        R0 += 0.00000047664 * Math.cos(3.90924952181 + 192.6921676185 * t);
-        R0 += 0.00000065279 * Math.cos(4.23629510074 + 771.3012361839 * t);
-        R0 += 0.00000065190 * Math.cos(3.73942854797 + 536.8045120954 * t);
-        R0 += 0.00000059452 * Math.cos(6.10554259948 + 365.0011565867 * t);
-        R0 += 0.00000052153 * Math.cos(1.71734604937 + 905.8865797915 * t);
-        R0 += 0.00000046035 * Math.cos(3.87093684776 + 210.3301500214 * t);
-        R0 += 0.00000046429 * Math.cos(5.97423131576 + 477.8039162072 * t);
-        R0 += 0.00000062115 * Math.cos(2.67544358037 + 130.4407420234 * t);
-        R0 += 0.00000046038 * Math.cos(3.89378239085 + 48.7580447764 * t);
-        R0 += 0.00000042663 * Math.cos(3.81519760715 + 61.2882177486 * t);
-        R0 += 0.00000053909 * Math.cos(2.86457147106 + 353.301065017 * t);
-        R0 += 0.00000046936 * Math.cos(1.00011046774 + 166.828672522 * t);
-        R0 += 0.00000042217 * Math.cos(2.61748790314 + 90.8232336773 * t);
-        R0 += 0.00000043324 * Math.cos(4.15777895713 + 173.6815870919 * t);
-        R0 += 0.00000041296 * Math.cos(1.79930408254 + 149.45132255 * t);
-        R0 += 0.00000044960 * Math.cos(1.76623306927 + 0.5212648618 * t);
-        R0 += 0.00000051904 * Math.cos(2.97773319756 + 383.0967133766 * t);
-        R0 += 0.00000042931 * Math.cos(1.57416456203 + 120.9913890524 * t);
-        R0 += 0.00000049611 * Math.cos(4.03427920470 + 303.8616966844 * t);
-        R0 += 0.00000045263 * Math.cos(3.58382163089 + 97.4155158163 * t);
-        R0 += 0.00000038695 * Math.cos(2.39404211169 + 31.492569389 * t);
-        R0 += 0.00000038072 * Math.cos(5.79473670350 + 75.5323580927 * t);
-        R0 += 0.00000050126 * Math.cos(4.76412907201 + 911.3032057629 * t);
-        R0 += 0.00000050884 * Math.cos(5.15513957132 + 439.782755154 * t);
-        R0 += 0.00000043148 * Math.cos(0.84999004804 + 58.319272332 * t);
-        R0 += 0.00000042732 * Math.cos(5.17318058934 + 162.0933701068 * t);
-        R0 += 0.00000050298 * Math.cos(5.81603435915 + 66.9172920411 * t);
-        R0 += 0.00000035639 * Math.cos(1.87447823723 + 472.1748419147 * t);
-        R0 += 0.00000049963 * Math.cos(1.88943490790 + 42.5864537627 * t);
-        R0 += 0.00000039974 * Math.cos(1.74262050679 + 89.7594520943 * t);
-        R0 += 0.00000045252 * Math.cos(1.92511912328 + 55.1378785943 * t);
-        R0 += 0.00000044896 * Math.cos(1.48355901890 + 450.9772132642 * t);
-        R0 += 0.00000034297 * Math.cos(5.20257496546 + 316.3918696566 * t);
-        R0 += 0.00000046355 * Math.cos(0.33942039181 + 273.1028404783 * t);
-        R0 += 0.00000037152 * Math.cos(2.03757941865 + 117.9105690512 * t);
-        R0 += 0.00000046106 * Math.cos(5.62315633955 + 1819.6374661092 * t);
-        R0 += 0.00000039368 * Math.cos(4.19402806344 + 486.4019359163 * t);
-        R0 += 0.00000041039 * Math.cos(4.82994471947 + 149.6750717192 * t);
-        R0 += 0.00000044959 * Math.cos(0.72694662195 + 3265.8308281325 * t);
-        R0 += 0.00000043617 * Math.cos(0.75332422672 + 404.6186649328 * t);
-        R0 += 0.00000031823 * Math.cos(3.84768075667 + 20.4468691251 * t);
-        R0 += 0.00000044196 * Math.cos(4.36769721266 + 418.2608035978 * t);
-        R0 += 0.00000037900 * Math.cos(3.02928044053 + 167.0893049529 * t);
-        R0 += 0.00000043684 * Math.cos(1.57328182739 + 491.5579294568 * t);
-        R0 += 0.00000034004 * Math.cos(1.26257052908 + 260.9933586314 * t);
-        R0 += 0.00000031276 * Math.cos(4.16123711648 + 13.3333221243 * t);
-        R0 += 0.00000039984 * Math.cos(2.86626125620 + 468.2426886516 * t);
-        R0 += 0.00000036490 * Math.cos(2.58804294589 + 68.5618234438 * t);
-        R0 += 0.00000032364 * Math.cos(3.11577354875 + 103.3534066495 * t);
-        R0 += 0.00000033857 * Math.cos(0.15592410716 + 24.1183899573 * t);
-        R0 += 0.00000035933 * Math.cos(1.36784550071 + 59.2824801785 * t);
-        R0 += 0.00000033633 * Math.cos(0.75501177400 + 290.2195580194 * t);
-        R0 += 0.00000029751 * Math.cos(5.33178627038 + 1033.3583763983 * t);
-        R0 += 0.00000032036 * Math.cos(4.67549858000 + 205.2223405907 * t);
-        R0 += 0.00000030991 * Math.cos(4.62823866461 + 258.8757464767 * t);
-        R0 += 0.00000035268 * Math.cos(1.00718464327 + 1108.1399749656 * t);
-        R0 += 0.00000033366 * Math.cos(3.40738625377 + 43.1289704839 * t);
-        R0 += 0.00000032638 * Math.cos(5.25485850258 + 114.1384744825 * t);
-        R0 += 0.00000029825 * Math.cos(5.64157476876 + 254.9435932136 * t);
-        R0 += 0.00000031613 * Math.cos(3.78231393110 + 152.0108776894 * t);
-        R0 += 0.00000030980 * Math.cos(2.26660677937 + 104.0077979553 * t);
-        R0 += 0.00000034591 * Math.cos(5.17326577255 + 25.6028626656 * t);
-        R0 += 0.00000028398 * Math.cos(1.76872790446 + 820.0592809603 * t);
-        R0 += 0.00000027991 * Math.cos(3.92486885309 + 199.2844497575 * t);
-        R0 += 0.00000028986 * Math.cos(2.58171811759 + 76.4785195967 * t);
-        R0 += 0.00000033772 * Math.cos(5.79359878723 + 274.0660483248 * t);
-        R0 += 0.00000029401 * Math.cos(5.93638676504 + 280.9671470045 * t);
-        R0 += 0.00000031094 * Math.cos(1.39352495971 + 178.7893965226 * t);
-        R0 += 0.00000030118 * Math.cos(0.44367887423 + 27.0873353739 * t);
-        R0 += 0.00000033820 * Math.cos(6.26168443513 + 401.6497195162 * t);
-        R0 += 0.00000027513 * Math.cos(2.15194454461 + 480.7728616238 * t);
-        R0 += 0.00000026880 * Math.cos(2.51300272780 + 123.5396433437 * t);
-        R0 += 0.00000026139 * Math.cos(0.21985367371 + 286.596221297 * t);
-        R0 += 0.00000026455 * Math.cos(3.88229792258 + 372.4235201282 * t);
-        R0 += 0.00000033974 * Math.cos(1.44637843871 + 88.7962442478 * t);
-        R0 += 0.00000030107 * Math.cos(0.82723915882 + 100.6450936638 * t);
-        R0 += 0.00000027715 * Math.cos(4.64827434185 + 198.321241911 * t);
-        R0 += 0.00000033687 * Math.cos(1.14348201049 + 82.4858463991 * t);
-        R0 += 0.00000026493 * Math.cos(1.97889544238 + 95.3885263868 * t);
-        R0 += 0.00000024355 * Math.cos(2.37839176150 + 146.3818033969 * t);
-        R0 += 0.00000026590 * Math.cos(0.39881920389 + 106.0135355254 * t);
-        R0 += 0.00000027006 * Math.cos(2.10206230691 + 1057.8974574809 * t);
-        R0 += 0.00000023976 * Math.cos(6.21233637686 + 16.6747745564 * t);
-        R0 += 0.00000030970 * Math.cos(5.34005431547 + 476.4313180835 * t);
-        R0 += 0.00000024073 * Math.cos(3.42953641968 + 1044.4040766622 * t);
-        R0 += 0.00000027023 * Math.cos(0.71284764471 + 248.7238180901 * t);
-        R0 += 0.00000029098 * Math.cos(3.99184722502 + 908.3342603463 * t);
-        R0 += 0.00000022862 * Math.cos(2.26978781393 + 175.1660598002 * t);
-        R0 += 0.00000024026 * Math.cos(0.36584131268 + 73.1852512744 * t);
-        R0 += 0.00000028024 * Math.cos(3.46485782266 + 1439.5096981492 * t);
-        R0 += 0.00000022034 * Math.cos(0.05163807300 + 33.1371007917 * t);
-        R0 += 0.00000022185 * Math.cos(5.32252126255 + 483.2205421786 * t);
-        R0 += 0.00000021027 * Math.cos(0.37224660652 + 214.7835681463 * t);
-        R0 += 0.00000020548 * Math.cos(1.80004483299 + 118.0224436358 * t);
-        R0 += 0.00000027835 * Math.cos(4.12412553530 + 694.0719570618 * t);
-        R0 += 0.00000025500 * Math.cos(5.49632191634 + 115.8835796217 * t);
-        R0 += 0.00000021377 * Math.cos(3.89179204956 + 66.1835788582 * t);
-        R0 += 0.00000027201 * Math.cos(5.76148797900 + 1215.1649024473 * t);
-        R0 += 0.00000024984 * Math.cos(0.65339418015 + 132.8884225782 * t);
-        R0 += 0.00000023976 * Math.cos(4.56161326826 + 458.8415197904 * t);
-        R0 += 0.00000021116 * Math.cos(1.13610706250 + 60.5545045657 * t);
-        R0 += 0.00000026263 * Math.cos(2.77532723118 + 490.0734567485 * t);
-        R0 += 0.00000026369 * Math.cos(3.37120039300 + 49.7212526229 * t);
-        R0 += 0.00000022870 * Math.cos(4.53135637620 + 78.4049352897 * t);
-        R0 += 0.00000026872 * Math.cos(3.26037129303 + 691.1030116452 * t);
-        R0 += 0.00000025004 * Math.cos(3.65018677651 + 73.4090004436 * t);
-        R0 += 0.00000020874 * Math.cos(3.92589972978 + 134.0640787458 * t);
-        R0 += 0.00000020915 * Math.cos(5.53955400138 + 129.9194771616 * t);
-        R0 += 0.00000023067 * Math.cos(2.56806856688 + 332.8060117821 * t);
-        R0 += 0.00000022630 * Math.cos(5.02721554401 + 150.5264049811 * t);
-        R0 += 0.00000019123 * Math.cos(1.92386327535 + 124.5028511902 * t);
-        R0 += 0.00000020678 * Math.cos(0.98302410602 + 29.2049475286 * t);
-        R0 += 0.00000018755 * Math.cos(1.07911898422 + 70.1157321213 * t);
-        R0 += 0.00000019458 * Math.cos(1.33847349577 + 616.3214130779 * t);
-        R0 += 0.00000023071 * Math.cos(3.93152899657 + 43.2890291783 * t);
-        R0 += 0.00000023313 * Math.cos(0.61185525008 + 189.7232222019 * t);
-        R0 += 0.00000019660 * Math.cos(1.40884902649 + 1589.0728952838 * t);
-        R0 += 0.00000024990 * Math.cos(0.91842956919 + 441.2672278623 * t);
-        R0 += 0.00000023555 * Math.cos(0.02127675886 + 593.426863398 * t);
-        R0 += 0.00000018288 * Math.cos(4.55111843462 + 165.6048322446 * t);
-        R0 += 0.00000020980 * Math.cos(0.88504201898 + 326.8681209489 * t);
-        R0 += 0.00000024940 * Math.cos(4.63470443286 + 162.8965192589 * t);
-        R0 += 0.00000018941 * Math.cos(5.10763304564 + 81.8951455681 * t);
-        R0 += 0.00000018911 * Math.cos(1.23351635328 + 13.4933808187 * t);
-        R0 += 0.00000017358 * Math.cos(4.05768226252 + 403.0223176399 * t);
-        R0 += 0.00000017362 * Math.cos(5.28607227640 + 7.8643065262 * t);
-        R0 += 0.00000022513 * Math.cos(3.15059891398 + 419.7452763061 * t);
-        R0 += 0.00000021237 * Math.cos(2.14856256664 + 75.5847477194 * t);
-        R0 += 0.00000017845 * Math.cos(2.54349200329 + 47.061123747 * t);
-        R0 += 0.00000016995 * Math.cos(2.48647736969 + 2043.9822618111 * t);
-        R0 += 0.00000023676 * Math.cos(5.80355919955 + 232.0490435337 * t);
-        R0 += 0.00000022639 * Math.cos(2.07623129509 + 699.7010313543 * t);
-        R0 += 0.00000019261 * Math.cos(1.56494156016 + 425.1137181677 * t);
-        R0 += 0.00000021067 * Math.cos(5.30844438236 + 237.6781178262 * t);
-        R0 += 0.00000022733 * Math.cos(0.28303126440 + 0.1118745846 * t);
-        R0 += 0.00000016372 * Math.cos(3.45984005656 + 0.7507595254 * t);
-        R0 += 0.00000021213 * Math.cos(0.95828006612 + 405.9912630565 * t);
-        R0 += 0.00000018033 * Math.cos(1.60723214246 + 215.4379594521 * t);
-        R0 += 0.00000016267 * Math.cos(4.89002016360 + 69.1525242748 * t);
-        R0 += 0.00000021738 * Math.cos(3.24738839789 + 1744.8558675419 * t);
-        R0 += 0.00000016149 * Math.cos(0.35803995032 + 77.0692204277 * t);
-        R0 += 0.00000021710 * Math.cos(0.88800040769 + 344.9636777388 * t);
-        R0 += 0.00000017204 * Math.cos(6.04366142241 + 32.2433289144 * t);
-        R0 += 0.00000017883 * Math.cos(4.01076173641 + 280.003939158 * t);
-        R0 += 0.00000015918 * Math.cos(2.96623390816 + 25.8634950965 * t);
-        R0 += 0.00000014769 * Math.cos(3.73887340623 + 610.6923387854 * t);
-        R0 += 0.00000015033 * Math.cos(4.24825484707 + 228.276948965 * t);
-        R0 += 0.00000015586 * Math.cos(5.07987082740 + 114.9416236346 * t);
-        R0 += 0.00000015392 * Math.cos(0.22971106129 + 17.2654753874 * t);
-        R0 += 0.00000015354 * Math.cos(0.25482391126 + 661.0949149645 * t);
-        R0 += 0.00000014617 * Math.cos(1.13349626273 + 823.9914342234 * t);
-        R0 += 0.00000016232 * Math.cos(3.43499743810 + 147.1155165798 * t);
-        R0 += 0.00000014654 * Math.cos(1.68288566884 + 207.8824694666 * t);
-        R0 += 0.00000017682 * Math.cos(5.94376629143 + 624.919432787 * t);
-        R0 += 0.00000018837 * Math.cos(1.38335408070 + 377.1588225434 * t);
-        R0 += 0.00000015425 * Math.cos(1.66489033237 + 440.6822725257 * t);
-        R0 += 0.00000014764 * Math.cos(4.41710614445 + 16.4623262353 * t);
-        R0 += 0.00000014402 * Math.cos(0.41359448817 + 142.6620984549 * t);
-        R0 += 0.00000016992 * Math.cos(0.16042368544 + 438.2982824457 * t);
-        R0 += 0.00000013268 * Math.cos(3.04634728126 + 668.2084619653 * t);
-        R0 += 0.00000016460 * Math.cos(0.92068542861 + 369.0820676961 * t);
-        R0 += 0.00000017239 * Math.cos(4.51659246818 + 606.7601855223 * t);
-        R0 += 0.00000013238 * Math.cos(0.13650358961 + 216.4804891757 * t);
-        R0 += 0.00000015832 * Math.cos(4.94315562971 + 124.2904028691 * t);
-        R0 += 0.00000014374 * Math.cos(2.93700606008 + 419.4846438752 * t);
-        R0 += 0.00000012927 * Math.cos(1.65950183061 + 54.3347294422 * t);
-        R0 += 0.00000014224 * Math.cos(4.42286781619 + 47.6942631934 * t);
-        R0 += 0.00000012753 * Math.cos(0.03020931725 + 217.2312487011 * t);
-        R0 += 0.00000014792 * Math.cos(1.08447500622 + 49.5088043018 * t);
-        R0 += 0.00000014031 * Math.cos(3.68785757687 + 16.04163511 * t);
-        R0 += 0.00000013709 * Math.cos(4.78890618802 + 72.7758609972 * t);
-        R0 += 0.00000013073 * Math.cos(1.54064778942 + 218.9281697305 * t);
-        R0 += 0.00000017474 * Math.cos(5.05621281434 + 564.8550553158 * t);
-        R0 += 0.00000012686 * Math.cos(3.44640888880 + 958.576777831 * t);
-        R0 += 0.00000013035 * Math.cos(0.56445754615 + 1171.875873269 * t);
-        R0 += 0.00000012458 * Math.cos(3.29187197133 + 902.7051860538 * t);
-        R0 += 0.00000011893 * Math.cos(1.41294011193 + 55.7710180407 * t);
-        R0 += 0.00000015018 * Math.cos(3.43209569509 + 19.0105805266 * t);
-        R0 += 0.00000016470 * Math.cos(2.04067754807 + 411.620337349 * t);
-        R0 += 0.00000015619 * Math.cos(1.53464600544 + 833.552661779 * t);
-        R0 += 0.00000015678 * Math.cos(5.92839374034 + 778.4147831847 * t);
-        R0 += 0.00000012039 * Math.cos(5.17748353434 + 135.336103133 * t);
-        R0 += 0.00000015523 * Math.cos(3.54656631824 + 113.8778420516 * t);
-        R0 += 0.00000014364 * Math.cos(4.19825110964 + 89.338760969 * t);
-        R0 += 0.00000015424 * Math.cos(2.12697366269 + 106.2741679563 * t);
-        R0 += 0.00000011957 * Math.cos(1.43314130608 + 455.8725743738 * t);
-        R0 += 0.00000015938 * Math.cos(5.49575810978 + 513.079881013 * t);
-        R0 += 0.00000013532 * Math.cos(4.11463529983 + 95.2284676924 * t);
-        R0 += 0.00000015105 * Math.cos(1.86350524526 + 7.7042478318 * t);
-        R0 += 0.00000015832 * Math.cos(3.42498484109 + 79.5169009825 * t);
-        R0 += 0.00000011492 * Math.cos(4.65187455620 + 149.6113812444 * t);
-        R0 += 0.00000011406 * Math.cos(1.31085455047 + 63.6240237188 * t);
-        R0 += 0.00000014469 * Math.cos(3.35284802718 + 19.643719973 * t);
-        R0 += 0.00000011953 * Math.cos(0.20979051344 + 65.8747623175 * t);
-        R0 += 0.00000012039 * Math.cos(0.01423238410 + 397.3932433474 * t);
-        R0 += 0.00000014157 * Math.cos(1.87440535404 + 6283.0758499914 * t);
-        R0 += 0.00000011357 * Math.cos(0.19079103112 + 5.6290742925 * t);
-        R0 += 0.00000014109 * Math.cos(0.09348109701 + 6133.5126528568 * t);
-        R0 += 0.00000015322 * Math.cos(3.54468546172 + 252.6559713532 * t);
-        R0 += 0.00000011681 * Math.cos(0.85100356112 + 5.1078094307 * t);
-        R0 += 0.00000014134 * Math.cos(5.66340426198 + 639.897286314 * t);
-        R0 += 0.00000011052 * Math.cos(0.47607339302 + 150.0844619964 * t);
-        R0 += 0.00000011507 * Math.cos(5.19480309409 + 1182.9215735329 * t);
-        R0 += 0.00000011492 * Math.cos(2.05801478181 + 149.5150130248 * t);
-        R0 += 0.00000011571 * Math.cos(4.78210724970 + 334.2904844904 * t);
-        R0 += 0.00000010671 * Math.cos(4.67373109923 + 149.723255829 * t);
-        R0 += 0.00000011651 * Math.cos(3.13272450186 + 93.9040536785 * t);
-        R0 += 0.00000014316 * Math.cos(0.08421279341 + 240.3864308119 * t);
-        R0 += 0.00000010855 * Math.cos(4.52379396618 + 453.9461586808 * t);
-        R0 += 0.00000011900 * Math.cos(1.41784572428 + 26.0235537909 * t);
-        R0 += 0.00000010851 * Math.cos(4.40625021974 + 57.1436161644 * t);
-        R0 += 0.00000013385 * Math.cos(0.76174742916 + 37.8724032069 * t);
-        R0 += 0.00000010664 * Math.cos(5.81644528276 + 193.655375465 * t);
-        R0 += 0.00000010700 * Math.cos(5.34595506070 + 331.2096644892 * t);
-        R0 += 0.00000010465 * Math.cos(3.82648204886 + 180.1619946463 * t);
-        R0 += 0.00000013350 * Math.cos(0.86920479636 + 22.8945496799 * t);
-        R0 += 0.00000010324 * Math.cos(2.99969783109 + 525.7588118315 * t);
-        R0 += 0.00000014293 * Math.cos(1.06904465002 + 477.9157907918 * t);
-        R0 += 0.00000012341 * Math.cos(4.62813430535 + 1894.4190646765 * t);
-        R0 += 0.00000012539 * Math.cos(3.70404881494 + 67.0773507355 * t);
-        R0 += 0.00000011771 * Math.cos(1.07971321862 + 363.5166838784 * t);
-        R0 += 0.00000011466 * Math.cos(0.93528386040 + 121.8427223143 * t);
-        R0 += 0.00000012839 * Math.cos(0.31988787839 + 474.9468453752 * t);
-        R0 += 0.00000010194 * Math.cos(6.23976471898 + 84.1827674285 * t);
-        R0 += 0.00000012300 * Math.cos(2.85238700423 + 184.0941479094 * t);
-        R0 += 0.00000013861 * Math.cos(3.48367688770 + 157.2674449664 * t);
-        R0 += 0.00000011395 * Math.cos(4.25533440680 + 181.0557665236 * t);
-        R0 += 0.00000010146 * Math.cos(6.01371693363 + 43.2408450685 * t);
-        R0 += 0.00000009889 * Math.cos(0.01753733887 + 40.1600250673 * t);
-        R0 += 0.00000010798 * Math.cos(2.46364243940 + 140.6563608848 * t);
-        R0 += 0.00000009893 * Math.cos(2.72219544398 + 384.0599212231 * t);
-        R0 += 0.00000011012 * Math.cos(3.77284307154 + 494.2662424425 * t);
-        R0 += 0.00000010226 * Math.cos(1.49169427598 + 80.4106728598 * t);
-        R0 += 0.00000011981 * Math.cos(2.69741212203 + 369.4545747116 * t);
-        R0 += 0.00000010658 * Math.cos(1.78702880970 + 252.0865223816 * t);
-        R0 += 0.00000012506 * Math.cos(4.66852994807 + 64.6991061499 * t);
-        R0 += 0.00000011640 * Math.cos(5.70405852396 + 39.0962434843 * t);
-        R0 += 0.00000012305 * Math.cos(1.73322306013 + 229.0800981171 * t);
-        R0 += 0.00000009954 * Math.cos(3.72074935511 + 233.9060232575 * t);
-        R0 += 0.00000011004 * Math.cos(3.58723041577 + 449.2802922348 * t);
-        R0 += 0.00000010581 * Math.cos(2.79550711884 + 1246.6574718363 * t);
-        R0 += 0.00000010411 * Math.cos(2.86727145530 + 189.1807054807 * t);
-        R0 += 0.00000009259 * Math.cos(5.19834823120 + 749.2098356561 * t);
-        R0 += 0.00000012468 * Math.cos(0.76477162698 + 122.4758617607 * t);
-        R0 += 0.00000010099 * Math.cos(6.06894682979 + 156.1554792736 * t);
-        R0 += 0.00000012671 * Math.cos(6.19797171716 + 149.8238295655 * t);
-        R0 += 0.00000009053 * Math.cos(0.99447742265 + 109.3125493421 * t);
-        R0 += 0.00000009595 * Math.cos(1.00827882958 + 393.4610900843 * t);
-        R0 += 0.00000010455 * Math.cos(1.23531019351 + 148.5999892881 * t);
-        R0 += 0.00000010645 * Math.cos(5.50399216121 + 460.5384408198 * t);
-        R0 += 0.00000012433 * Math.cos(5.29843661600 + 20.4950532349 * t);
-        R0 += 0.00000009002 * Math.cos(5.51216892840 + 133.1008708993 * t);
-        R0 += 0.00000009882 * Math.cos(5.68987366321 + 42.5382696529 * t);
-        R0 += 0.00000012110 * Math.cos(3.14577799081 + 30.0562807905 * t);
-        R0 += 0.00000010380 * Math.cos(3.54528360301 + 619.2903584945 * t);
-        R0 += 0.00000010139 * Math.cos(1.90528799801 + 25.0603459444 * t);
-        R0 += 0.00000011206 * Math.cos(5.87823238990 + 832.5894539325 * t);
-        R0 += 0.00000009283 * Math.cos(3.00514787072 + 754.8389099486 * t);
-        R0 += 0.00000010994 * Math.cos(0.05721003392 + 54.2865453324 * t);
-        R0 += 0.00000008981 * Math.cos(5.82462023723 + 248.4631856592 * t);
-        R0 += 0.00000008634 * Math.cos(5.49123270314 + 448.6895914038 * t);
-        R0 += 0.00000009390 * Math.cos(1.32674472283 + 9.4011688612 * t);
-        R0 += 0.00000009621 * Math.cos(5.69090299390 + 73.88782669 * t);
-        R0 += 0.00000010843 * Math.cos(1.42812648220 + 268.4369740323 * t);
-        R0 += 0.00000010874 * Math.cos(2.61361741990 + 446.3113468182 * t);
-        R0 += 0.00000009681 * Math.cos(4.27051176079 + 282.6640680339 * t);
-        R0 += 0.00000010770 * Math.cos(0.19304986906 + 463.5073862364 * t);
-        R0 += 0.00000008223 * Math.cos(3.30114329151 + 172.1971143836 * t);
-        R0 += 0.00000010216 * Math.cos(5.04428111805 + 241.8709035202 * t);
-        R0 += 0.00000008890 * Math.cos(2.53320903906 + 271.4059194489 * t);
-        R0 += 0.00000010621 * Math.cos(4.39013117792 + 63.847772888 * t);
-        R0 += 0.00000009085 * Math.cos(0.99085954236 + 6.9010986797 * t);
-        R0 += 0.00000010414 * Math.cos(4.96367476854 + 97.6761482472 * t);
-        R0 += 0.00000008382 * Math.cos(5.03764591595 + 370.9390474199 * t);
-        R0 += 0.00000008791 * Math.cos(3.05426995163 + 291.262087743 * t);
-        R0 += 0.00000008629 * Math.cos(0.14674938050 + 262.4778313397 * t);
-        R0 += 0.00000009673 * Math.cos(4.25597330570 + 602.9880909536 * t);
-        R0 += 0.00000007939 * Math.cos(5.71230451368 + 541.5398145106 * t);
-        R0 += 0.00000007981 * Math.cos(2.35900017752 + 196.6243208816 * t);
-        R0 += 0.00000007941 * Math.cos(0.88239951788 + 154.979823106 * t);
-        R0 += 0.00000008212 * Math.cos(0.00845991197 + 76.42612997 * t);
-        R0 += 0.00000010135 * Math.cos(1.90258069764 + 91.4563731237 * t);
-        R0 += 0.00000008948 * Math.cos(4.31891786278 + 469.1364605289 * t);
-        R0 += 0.00000009906 * Math.cos(0.61122653279 + 308.3151148093 * t);
-        R0 += 0.00000008257 * Math.cos(4.61012292958 + 69.6737891366 * t);
-        R0 += 0.00000010291 * Math.cos(3.58217488981 + 842.1506814881 * t);
-        R0 += 0.00000010672 * Math.cos(2.28920805112 + 194.2885149114 * t);
-        R0 += 0.00000009024 * Math.cos(0.70282370018 + 685.4739373527 * t);
-        R0 += 0.00000007552 * Math.cos(4.86800510978 + 1097.0942747017 * t);
-        R0 += 0.00000009496 * Math.cos(1.06662350720 + 93.7921790939 * t);
-        R0 += 0.00000008413 * Math.cos(3.15290837718 + 32.7164096664 * t);
-        R0 += 0.00000008914 * Math.cos(5.03579282562 + 450.4559484024 * t);
-        R0 += 0.00000008008 * Math.cos(4.33420849497 + 302.0953396858 * t);
-        R0 += 0.00000010397 * Math.cos(4.90564475822 + 829.6205085159 * t);
-        R0 += 0.00000007401 * Math.cos(5.67595616187 + 337.8019466282 * t);
-        R0 += 0.00000007419 * Math.cos(3.04672439120 + 7.4223635415 * t);
-        R0 += 0.00000007936 * Math.cos(4.37116642726 + 464.4705940829 * t);
-        R0 += 0.00000009731 * Math.cos(5.70393303400 + 98.3574718034 * t);
-        R0 += 0.00000009287 * Math.cos(4.16913084905 + 15.4991183888 * t);
-        R0 += 0.00000010072 * Math.cos(1.18963356664 + 621.7380390493 * t);
-        R0 += 0.00000009867 * Math.cos(1.34469368253 + 142.9709149956 * t);
-        R0 += 0.00000008913 * Math.cos(1.33679256423 + 0.2606324309 * t);
-        R0 += 0.00000008734 * Math.cos(2.03651443558 + 149.4031384402 * t);
-        R0 += 0.00000007745 * Math.cos(0.14834225031 + 1404.0849754971 * t);
-        R0 += 0.00000009037 * Math.cos(3.53203542312 + 636.6677084665 * t);
-        R0 += 0.00000007707 * Math.cos(1.87083579542 + 31.6526280834 * t);
-        R0 += 0.00000008566 * Math.cos(2.48280357910 + 497.4476361802 * t);
-        R0 += 0.00000010074 * Math.cos(2.59066128203 + 711.4493070338 * t);
-        R0 += 0.00000008726 * Math.cos(5.88905195509 + 82.2039621088 * t);
-        R0 += 0.00000009218 * Math.cos(1.10861658464 + 412.5835451955 * t);
-        R0 += 0.00000009483 * Math.cos(6.02304095716 + 916.9322800554 * t);
-        R0 += 0.00000007012 * Math.cos(6.27635752748 + 376.1956146969 * t);
-        R0 += 0.00000009867 * Math.cos(1.93140204720 + 62.7726904569 * t);
-        R0 += 0.00000007121 * Math.cos(1.54192963162 + 679.2541622292 * t);
-        R0 += 0.00000008440 * Math.cos(5.06400284478 + 1.3725981237 * t);
-        R0 += 0.00000008915 * Math.cos(2.39052372377 + 76.154196691 * t);
-        R0 += 0.00000009637 * Math.cos(3.78128664809 + 838.218528225 * t);
-        R0 += 0.00000007059 * Math.cos(5.91499106809 + 74.1484591209 * t);
-        R0 += 0.00000009570 * Math.cos(1.97721363991 + 703.6331846174 * t);
-        R0 += 0.00000007516 * Math.cos(4.87738017916 + 310.1720945331 * t);
-        R0 += 0.00000007059 * Math.cos(1.94098053303 + 75.4147380137 * t);
-        R0 += 0.00000008552 * Math.cos(6.14581140636 + 17.6379824029 * t);
-        R0 += 0.00000006859 * Math.cos(5.11679089849 + 107.4980082337 * t);
-        R0 += 0.00000007148 * Math.cos(1.73466140387 + 1190.7858800591 * t);
-        R0 += 0.00000009112 * Math.cos(0.88368663290 + 362.8622925726 * t);
-        if (highAccuracy) {
-            R0 += 0.00000009300 * Math.cos(1.44257902224 + 763.4369296577 * t);
-            R0 += 0.00000009073 * Math.cos(4.31998777457 + 16.1535096946 * t);
-            R0 += 0.00000009126 * Math.cos(3.74417347717 + 4.665866446 * t);
-            R0 += 0.00000007869 * Math.cos(4.65596954763 + 232.4215505492 * t);
-            R0 += 0.00000009168 * Math.cos(3.25096522859 + 155.5010879678 * t);
-            R0 += 0.00000007624 * Math.cos(0.88232424215 + 459.3627846522 * t);
-            R0 += 0.00000008200 * Math.cos(1.51866334747 + 10063.7223490764 * t);
-            R0 += 0.00000008579 * Math.cos(2.37726234500 + 75.6753704446 * t);
-            R0 += 0.00000007595 * Math.cos(2.63499505823 + 657.1627617014 * t);
-            R0 += 0.00000008131 * Math.cos(6.15861249482 + 745.277682393 * t);
-            R0 += 0.00000006398 * Math.cos(0.61376490225 + 73.2489417492 * t);
-            R0 += 0.00000007710 * Math.cos(4.02552779925 + 4.7353024152 * t);
-            R0 += 0.00000006380 * Math.cos(3.20688120531 + 73.3453099688 * t);
-            R0 += 0.00000007505 * Math.cos(0.67397826037 + 228.7982138268 * t);
-            R0 += 0.00000007129 * Math.cos(1.33525552417 + 236.8749686741 * t);
-            R0 += 0.00000007444 * Math.cos(3.05581518163 + 171.6545976624 * t);
-            R0 += 0.00000006361 * Math.cos(6.05108999867 + 95.9792272178 * t);
-            R0 += 0.00000007086 * Math.cos(4.88497877319 + 6531.661656265 * t);
-            R0 += 0.00000006527 * Math.cos(4.01380149030 + 118.8737768977 * t);
-            R0 += 0.00000007984 * Math.cos(1.70695215254 + 104.5290628171 * t);
-            R0 += 0.00000006239 * Math.cos(1.08160874504 + 143.9341228421 * t);
-            R0 += 0.00000007200 * Math.cos(1.19830150903 + 1617.3840709351 * t);
-            R0 += 0.00000006390 * Math.cos(4.83649966441 + 1072.7152523135 * t);
-            R0 += 0.00000007857 * Math.cos(3.06062400692 + 341.9947323222 * t);
-            R0 += 0.00000006158 * Math.cos(0.04340975323 + 627.3671133418 * t);
-            R0 += 0.00000008664 * Math.cos(5.60425824325 + 2810.9214616052 * t);
-            R0 += 0.00000006147 * Math.cos(4.16482048084 + 1300.9922012785 * t);
-            R0 += 0.00000008148 * Math.cos(3.11700641910 + 10213.285546211 * t);
-            R0 += 0.00000008603 * Math.cos(3.80404544682 + 25558.2121764796 * t);
-            R0 += 0.00000007586 * Math.cos(2.86885781812 + 406.1031376411 * t);
-            R0 += 0.00000007925 * Math.cos(3.11650504000 + 81.682697247 * t);
-            R0 += 0.00000007063 * Math.cos(5.35078594952 + 73.0364934281 * t);
-            R0 += 0.00000006265 * Math.cos(3.27996815317 + 116.5379709275 * t);
-            R0 += 0.00000007345 * Math.cos(0.45699353973 + 192.8040422031 * t);
-            R0 += 0.00000006878 * Math.cos(1.29690429239 + 22.633917249 * t);
-            R0 += 0.00000006102 * Math.cos(2.06174377751 + 73.9784494152 * t);
-            R0 += 0.00000007867 * Math.cos(1.45455437627 + 131.9252147317 * t);
-            R0 += 0.00000006837 * Math.cos(0.07237438837 + 90.2807169561 * t);
-            R0 += 0.00000007740 * Math.cos(2.87078307084 + 79.4474650133 * t);
-            R0 += 0.00000006744 * Math.cos(0.01897075429 + 572.2292347475 * t);
-            R0 += 0.00000006034 * Math.cos(0.96635268225 + 476.3194434989 * t);
-            R0 += 0.00000008276 * Math.cos(2.40596529645 + 674.8007441043 * t);
-            R0 += 0.00000006002 * Math.cos(3.24986200464 + 76.7873361374 * t);
-            R0 += 0.00000006863 * Math.cos(1.24850658686 + 400.1652468079 * t);
-            R0 += 0.00000006375 * Math.cos(1.37050567525 + 75.1541055828 * t);
-            R0 += 0.00000007445 * Math.cos(5.47946546419 + 50.66320861 * t);
-            R0 += 0.00000005889 * Math.cos(5.83364715391 + 164.1203595363 * t);
-            R0 += 0.00000007190 * Math.cos(3.21396813566 + 71.1582618449 * t);
-            R0 += 0.00000006305 * Math.cos(1.65443603478 + 70.0462961521 * t);
-            R0 += 0.00000006628 * Math.cos(1.99043744200 + 1.5963472929 * t);
-            R0 += 0.00000006081 * Math.cos(1.26599890530 + 61.448276443 * t);
-            R0 += 0.00000007795 * Math.cos(0.70956881527 + 44.070926471 * t);
-            R0 += 0.00000007784 * Math.cos(5.47416712189 + 416.7763308895 * t);
-            R0 += 0.00000005727 * Math.cos(2.39389303582 + 20277.0078952874 * t);
-            R0 += 0.00000006363 * Math.cos(1.96472326808 + 288.7350853111 * t);
-            R0 += 0.00000005724 * Math.cos(4.30532783970 + 86.6304479833 * t);
-            R0 += 0.00000007348 * Math.cos(5.28008775997 + 285.6330134505 * t);
-            R0 += 0.00000005693 * Math.cos(1.13590287643 + 445.3481389717 * t);
-            R0 += 0.00000005799 * Math.cos(2.43420435064 + 180.7951340927 * t);
-            R0 += 0.00000006927 * Math.cos(4.19297070447 + 525.2375469697 * t);
-            R0 += 0.00000006143 * Math.cos(2.23902465258 + 1310.3933701397 * t);
-            R0 += 0.00000006680 * Math.cos(5.36285833774 + 452.4616859725 * t);
-            R0 += 0.00000005709 * Math.cos(3.65303501856 + 442.3791935551 * t);
-            R0 += 0.00000006238 * Math.cos(4.60538870228 + 137.5542890242 * t);
-            R0 += 0.00000005932 * Math.cos(3.22993254909 + 73.4571845534 * t);
-            R0 += 0.00000007734 * Math.cos(5.72805659987 + 154.2984995498 * t);
-            R0 += 0.00000005782 * Math.cos(2.17577477697 + 2.2876218604 * t);
-            R0 += 0.00000006016 * Math.cos(3.46585546590 + 346.3999663373 * t);
-            R0 += 0.00000007517 * Math.cos(5.63641104589 + 549.7284439425 * t);
-            R0 += 0.00000006685 * Math.cos(4.84971092735 + 148.8124376092 * t);
-            R0 += 0.00000005797 * Math.cos(0.51568102762 + 149.3025647037 * t);
-            R0 += 0.00000007739 * Math.cos(3.23104533276 + 589.4947101349 * t);
-            R0 += 0.00000007590 * Math.cos(2.49504939023 + 321.7603115182 * t);
-            R0 += 0.00000006706 * Math.cos(5.23367324742 + 769.8167634756 * t);
-            R0 += 0.00000007210 * Math.cos(2.56243122515 + 375.6743498351 * t);
-            R0 += 0.00000005491 * Math.cos(1.84139760824 + 375.3924655448 * t);
-            R0 += 0.00000006592 * Math.cos(3.39703193659 + 389.6889955156 * t);
-            R0 += 0.00000006414 * Math.cos(3.56513278405 + 488.8496164711 * t);
-            R0 += 0.00000006376 * Math.cos(0.24081237769 + 881.5075574033 * t);
-            R0 += 0.00000005785 * Math.cos(3.49508162978 + 102.523325247 * t);
-            R0 += 0.00000006079 * Math.cos(0.84517404881 + 89.5993933999 * t);
-            R0 += 0.00000005799 * Math.cos(2.19388408812 + 8.9068362498 * t);
-            R0 += 0.00000005305 * Math.cos(1.97785611200 + 150.31395666 * t);
-            R0 += 0.00000005422 * Math.cos(1.21990761182 + 332.1728723357 * t);
-            R0 += 0.00000007235 * Math.cos(2.78896876234 + 748.0978699633 * t);
-            R0 += 0.00000006360 * Math.cos(0.36304095923 + 74.4090915518 * t);
-            R0 += 0.00000005285 * Math.cos(4.41108441808 + 12.0089081104 * t);
-            R0 += 0.00000006602 * Math.cos(3.01699401726 + 442.7517005706 * t);
-            R0 += 0.00000006509 * Math.cos(0.49819168917 + 1147.4968508808 * t);
-            R0 += 0.00000005585 * Math.cos(6.04761249158 + 172.4577468145 * t);
-            R0 += 0.00000006673 * Math.cos(0.77536194908 + 6069.7767545534 * t);
-            R0 += 0.00000007125 * Math.cos(0.34356180793 + 511.5954083047 * t);
-            R0 += 0.00000005288 * Math.cos(4.27462942653 + 11.1575748485 * t);
-            R0 += 0.00000006767 * Math.cos(2.00969662613 + 105.380396079 * t);
-            R0 += 0.00000005611 * Math.cos(2.40776057824 + 1286.0143477515 * t);
-            R0 += 0.00000006456 * Math.cos(4.48699081452 + 31.2319369581 * t);
-            R0 += 0.00000005898 * Math.cos(5.26174074234 + 757.8078553652 * t);
-            R0 += 0.00000005153 * Math.cos(2.41386832919 + 742.9900605326 * t);
-            R0 += 0.00000005087 * Math.cos(6.03592089039 + 980.6681783588 * t);
-            R0 += 0.00000006198 * Math.cos(0.83056505252 + 1507.1777497157 * t);
-            R0 += 0.00000005425 * Math.cos(1.93107713343 + 40.8413486235 * t);
-            R0 += 0.00000006091 * Math.cos(5.18564204379 + 487.1045113319 * t);
-            R0 += 0.00000005715 * Math.cos(1.96802719384 + 394.3548619616 * t);
-            R0 += 0.00000005509 * Math.cos(1.31275092080 + 883.7951792637 * t);
-            R0 += 0.00000005320 * Math.cos(4.22718652038 + 65.3804297061 * t);
-            R0 += 0.00000005357 * Math.cos(1.80483136985 + 139.4807047172 * t);
-            R0 += 0.00000005204 * Math.cos(3.39869589191 + 1400.152822234 * t);
-            R0 += 0.00000006537 * Math.cos(2.31923989568 + 328.2407190726 * t);
-            R0 += 0.00000005041 * Math.cos(2.94673346440 + 361.3778198643 * t);
-            R0 += 0.00000004969 * Math.cos(6.27367198215 + 0.1600586944 * t);
-            R0 += 0.00000005334 * Math.cos(2.78985718428 + 217.4436970222 * t);
-            R0 += 0.00000005654 * Math.cos(0.51056760715 + 285.1117485887 * t);
-            R0 += 0.00000006432 * Math.cos(2.21948959433 + 9999.986450773 * t);
-            R0 += 0.00000005768 * Math.cos(5.10735836078 + 216.2680408546 * t);
-            R0 += 0.00000004977 * Math.cos(2.62435916254 + 194.1766403268 * t);
-            R0 += 0.00000006932 * Math.cos(1.71722863424 + 378.9039276826 * t);
-            R0 += 0.00000005187 * Math.cos(3.04429850681 + 1083.7609525774 * t);
-            R0 += 0.00000005791 * Math.cos(3.94061476250 + 550.1378342197 * t);
-            R0 += 0.00000005816 * Math.cos(2.24843661305 + 230.9370778409 * t);
-            R0 += 0.00000005319 * Math.cos(0.06998825350 + 336.8387387817 * t);
-            R0 += 0.00000005427 * Math.cos(0.30577275388 + 40.5807161926 * t);
-            R0 += 0.00000006469 * Math.cos(3.02579309025 + 298.2326223919 * t);
-            R0 += 0.00000004974 * Math.cos(1.21594265105 + 455.0694252217 * t);
-            R0 += 0.00000004960 * Math.cos(4.72806210230 + 454.7493078329 * t);
-            R0 += 0.00000005619 * Math.cos(2.27500303004 + 227.5261894396 * t);
-            R0 += 0.00000006328 * Math.cos(0.97544932086 + 249.9476583675 * t);
-            R0 += 0.00000005319 * Math.cos(4.59867974067 + 454.7974919427 * t);
-            R0 += 0.00000004791 * Math.cos(4.40360629153 + 853.196381752 * t);
-            R0 += 0.00000006519 * Math.cos(3.03043401282 + 167.7224443993 * t);
-            R0 += 0.00000005450 * Math.cos(6.00971547441 + 25.1297819136 * t);
-            R0 += 0.00000005094 * Math.cos(3.96693309189 + 1066.49547719 * t);
-            R0 += 0.00000005779 * Math.cos(0.65954416303 + 272.5815756165 * t);
-            R0 += 0.00000006491 * Math.cos(4.68529651540 + 312.1990839626 * t);
-            R0 += 0.00000005234 * Math.cos(4.34712255335 + 233.533516242 * t);
-            R0 += 0.00000005396 * Math.cos(5.62885554221 + 418.5214360287 * t);
-            R0 += 0.00000005048 * Math.cos(2.46802064424 + 987.5692770385 * t);
-            R0 += 0.00000006152 * Math.cos(0.79853332272 + 2274.5468326365 * t);
-            R0 += 0.00000006506 * Math.cos(1.72915575120 + 125.1841747464 * t);
-            R0 += 0.00000004993 * Math.cos(3.75975860404 + 57.255490749 * t);
-            R0 += 0.00000006295 * Math.cos(0.84778953014 + 10.0824924174 * t);
-            R0 += 0.00000006251 * Math.cos(4.78782138567 + 270.1820791715 * t);
-            R0 += 0.00000005785 * Math.cos(4.31237764709 + 374.4986936675 * t);
-            R0 += 0.00000005406 * Math.cos(5.49902863401 + 632.7837393132 * t);
-            R0 += 0.00000006224 * Math.cos(0.12733845417 + 149.0419322728 * t);
-            R0 += 0.00000004921 * Math.cos(1.43037646364 + 73.1370671646 * t);
-            R0 += 0.00000005076 * Math.cos(1.34845106372 + 455.0212411119 * t);
-            R0 += 0.00000005730 * Math.cos(3.30386575867 + 88.274979386 * t);
-            R0 += 0.00000004618 * Math.cos(0.64720625124 + 119.3950417595 * t);
-            R0 += 0.00000006213 * Math.cos(2.58827934841 + 544.5087599272 * t);
-            R0 += 0.00000004825 * Math.cos(6.08615765986 + 304.1223291153 * t);
-            R0 += 0.00000004825 * Math.cos(6.00483903794 + 226.7924762567 * t);
-            R0 += 0.00000005528 * Math.cos(5.69752791882 + 548.4409131903 * t);
-            R0 += 0.00000005108 * Math.cos(2.74489127167 + 423.6292454594 * t);
-            R0 += 0.00000005426 * Math.cos(2.44835106987 + 531.978586955 * t);
-            R0 += 0.00000004573 * Math.cos(1.61098293427 + 357.4456666012 * t);
-            R0 += 0.00000004487 * Math.cos(6.09067660554 + 204.7010757289 * t);
-            R0 += 0.00000005866 * Math.cos(6.20513223441 + 772.7857088922 * t);
-            R0 += 0.00000005334 * Math.cos(2.49860553733 + 1131.1945833399 * t);
-            R0 += 0.00000005656 * Math.cos(4.75744184558 + 491.8185618877 * t);
-            R0 += 0.00000004441 * Math.cos(0.23590452375 + 35.685355083 * t);
-            R0 += 0.00000004370 * Math.cos(3.81136490830 + 1329.3033769298 * t);
-            R0 += 0.00000004406 * Math.cos(3.42865095493 + 144.8973306886 * t);
-            R0 += 0.00000005251 * Math.cos(4.72114047741 + 535.3200393871 * t);
-            R0 += 0.00000005174 * Math.cos(1.37807596858 + 520.129737539 * t);
-            R0 += 0.00000004331 * Math.cos(2.64717426456 + 1517.2602421331 * t);
-            R0 += 0.00000004802 * Math.cos(2.60569463520 + 177.3049238143 * t);
-            R0 += 0.00000004368 * Math.cos(3.36272561974 + 1503.2455964526 * t);
-            R0 += 0.00000004335 * Math.cos(2.73379207096 + 289.5651667136 * t);
-            R0 += 0.00000005198 * Math.cos(0.97116582962 + 128.4350044533 * t);
-            R0 += 0.00000004437 * Math.cos(0.56678131875 + 253.4591205053 * t);
-            R0 += 0.00000005386 * Math.cos(5.84886051674 + 268.6976064632 * t);
-            R0 += 0.00000005376 * Math.cos(1.30096148962 + 436.8138097374 * t);
-            R0 += 0.00000005797 * Math.cos(4.33049740199 + 208.8456773131 * t);
-            R0 += 0.00000004353 * Math.cos(1.66111524192 + 1261.6353253633 * t);
-            R0 += 0.00000004812 * Math.cos(4.95769337401 + 545.4719677737 * t);
-            R0 += 0.00000005897 * Math.cos(2.04201205180 + 8.5980197091 * t);
-            R0 += 0.00000005032 * Math.cos(2.80550759770 + 360.4146120178 * t);
-            R0 += 0.00000004921 * Math.cos(2.55658380096 + 260.360219185 * t);
-            R0 += 0.00000004413 * Math.cos(3.23825819993 + 973.554631358 * t);
-            R0 += 0.00000004506 * Math.cos(0.17509624151 + 380.3884003909 * t);
-            R0 += 0.00000004947 * Math.cos(5.50324549675 + 365.9006739584 * t);
-            R0 += 0.00000004174 * Math.cos(2.99974290843 + 136.0698163159 * t);
-            R0 += 0.00000004553 * Math.cos(2.77416673233 + 147.9668498417 * t);
-            R0 += 0.00000005344 * Math.cos(1.81213470593 + 521.0929453855 * t);
-            R0 += 0.00000005155 * Math.cos(0.78324341489 + 1670.0742689746 * t);
-            R0 += 0.00000005133 * Math.cos(1.37435234967 + 271.61836777 * t);
-            R0 += 0.00000005708 * Math.cos(2.52872222038 + 501.3797894433 * t);
-            R0 += 0.00000004933 * Math.cos(1.36454104948 + 238.9019581036 * t);
-            R0 += 0.00000004973 * Math.cos(1.92960964594 + 535.9107402181 * t);
-            R0 += 0.00000004935 * Math.cos(5.04375067678 + 697.8071683688 * t);
-            R0 += 0.00000004129 * Math.cos(1.50064332826 + 71.8608372605 * t);
-            R0 += 0.00000005207 * Math.cos(4.01877367340 + 92.4195809702 * t);
-            R0 += 0.00000004587 * Math.cos(4.78553156868 + 95.931043108 * t);
-            R0 += 0.00000005050 * Math.cos(5.41251268131 + 758.7710632117 * t);
-            R0 += 0.00000005012 * Math.cos(4.50266403888 + 635.9651330509 * t);
-            R0 += 0.00000004248 * Math.cos(0.65406962267 + 920.8644333185 * t);
-            R0 += 0.00000005150 * Math.cos(1.13490701556 + 310.9752436852 * t);
-            R0 += 0.00000004146 * Math.cos(5.54040372231 + 1048.3362299253 * t);
-            R0 += 0.00000004256 * Math.cos(4.20942901957 + 25.2727942655 * t);
-            R0 += 0.00000004569 * Math.cos(5.19758291396 + 10.2949407385 * t);
-            R0 += 0.00000004259 * Math.cos(5.53202386861 + 184.9879197867 * t);
-            R0 += 0.00000004315 * Math.cos(2.80569687202 + 213.9534867438 * t);
-            R0 += 0.00000004604 * Math.cos(2.51643176466 + 962.5089310941 * t);
-            R0 += 0.00000005105 * Math.cos(1.26007002216 + 971.1069508032 * t);
-            R0 += 0.00000004500 * Math.cos(6.15796742231 + 1052.2683831884 * t);
-            R0 += 0.00000004095 * Math.cos(0.63467124507 + 1321.4390704036 * t);
-            R0 += 0.00000003968 * Math.cos(0.07377679014 + 77.7023598741 * t);
-            R0 += 0.00000004617 * Math.cos(2.77367751889 + 406.954470903 * t);
-            R0 += 0.00000004899 * Math.cos(4.65767840428 + 305.6068018236 * t);
-            R0 += 0.00000003900 * Math.cos(1.66467970991 + 945.2434557067 * t);
-            R0 += 0.00000004133 * Math.cos(3.76396043787 + 263.0203480609 * t);
-            R0 += 0.00000003899 * Math.cos(4.28677450975 + 224.2329211173 * t);
-            R0 += 0.00000005030 * Math.cos(6.24112139981 + 1162.4747044078 * t);
-            R0 += 0.00000005024 * Math.cos(0.39738855487 + 968.1380053866 * t);
-            R0 += 0.00000004894 * Math.cos(2.50422546622 + 355.7487455718 * t);
-            R0 += 0.00000004283 * Math.cos(3.15267059582 + 846.0828347512 * t);
-            R0 += 0.00000003941 * Math.cos(0.04342429962 + 1235.6117715724 * t);
-            R0 += 0.00000004077 * Math.cos(5.68854469970 + 695.5564297701 * t);
-            R0 += 0.00000003842 * Math.cos(0.37429373422 + 774.4826299216 * t);
-            R0 += 0.00000004674 * Math.cos(0.08112657673 + 1366.2125722902 * t);
-            R0 += 0.00000004671 * Math.cos(4.38923533828 + 117.36805233 * t);
-            R0 += 0.00000005313 * Math.cos(4.38472090135 + 689.6185389369 * t);
-            R0 += 0.00000003787 * Math.cos(1.41443617212 + 48.9181034708 * t);
-            R0 += 0.00000004236 * Math.cos(1.60316940746 + 367.5975949878 * t);
-            R0 += 0.00000004569 * Math.cos(2.88138923862 + 551.1010420662 * t);
-            R0 += 0.00000004636 * Math.cos(5.93442268083 + 148.1905990109 * t);
-            R0 += 0.00000005128 * Math.cos(0.17600225009 + 433.7117378768 * t);
-            R0 += 0.00000004264 * Math.cos(2.08657038625 + 325.3836482406 * t);
-            R0 += 0.00000003885 * Math.cos(5.85359840623 + 450.7165808333 * t);
-            R0 += 0.00000004753 * Math.cos(2.58442943928 + 358.4088744477 * t);
-            R0 += 0.00000004226 * Math.cos(6.24596640453 + 448.9714756941 * t);
-            R0 += 0.00000003776 * Math.cos(1.78756451192 + 71.7007785661 * t);
-            R0 += 0.00000004912 * Math.cos(4.45665056284 + 51.8870488874 * t);
-            R0 += 0.00000003854 * Math.cos(2.72138633161 + 151.850818995 * t);
-            R0 += 0.00000004561 * Math.cos(0.07201979569 + 2349.3284312038 * t);
-            R0 += 0.00000004291 * Math.cos(5.39929339966 + 523.7530742614 * t);
-            R0 += 0.00000004143 * Math.cos(0.17158866270 + 735.8765135318 * t);
-            R0 += 0.00000003806 * Math.cos(1.44358694049 + 138.6293714553 * t);
-            R0 += 0.00000003654 * Math.cos(2.41520715554 + 348.8476468921 * t);
-            R0 += 0.00000003728 * Math.cos(1.69745141654 + 984.7122062065 * t);
-            R0 += 0.00000004176 * Math.cos(4.01139155515 + 195.7729876197 * t);
-            R0 += 0.00000004986 * Math.cos(1.03562905920 + 224.4566702865 * t);
-            R0 += 0.00000004031 * Math.cos(0.92145122185 + 76.0054388447 * t);
-            R0 += 0.00000004098 * Math.cos(3.51214223942 + 72.4939767069 * t);
-            R0 += 0.00000003812 * Math.cos(4.41246815759 + 1511.3223512999 * t);
-            R0 += 0.00000004098 * Math.cos(2.39702785276 + 239.1625905345 * t);
-            R0 += 0.00000004894 * Math.cos(5.26621064696 + 601.5036182453 * t);
-            R0 += 0.00000004459 * Math.cos(5.76440378473 + 836.5216071956 * t);
-            R0 += 0.00000004373 * Math.cos(4.08948598951 + 75.4359898731 * t);
-            R0 += 0.00000004363 * Math.cos(6.01127167247 + 421.1815649046 * t);
-            R0 += 0.00000004414 * Math.cos(0.35830661600 + 168.3131452303 * t);
-            R0 += 0.00000003700 * Math.cos(2.04103813925 + 63.2146334416 * t);
-            R0 += 0.00000004648 * Math.cos(2.07482117651 + 1106.6555022573 * t);
-            R0 += 0.00000004304 * Math.cos(3.03122452327 + 1109.6244476739 * t);
-            R0 += 0.00000003618 * Math.cos(4.84400847177 + 893.3564068193 * t);
-            R0 += 0.00000004023 * Math.cos(0.59685650686 + 91.2439248026 * t);
-            R0 += 0.00000004937 * Math.cos(5.49417275871 + 976.7360250957 * t);
-            R0 += 0.00000004373 * Math.cos(3.76648561161 + 74.1272072615 * t);
-            R0 += 0.00000004310 * Math.cos(3.72983787822 + 673.316271396 * t);
-            R0 += 0.00000004680 * Math.cos(3.89631254150 + 163.5778428151 * t);
-            R0 += 0.00000004172 * Math.cos(0.75349427039 + 1500.0642027149 * t);
-            R0 += 0.00000004492 * Math.cos(1.87283145714 + 141.1776257466 * t);
-            R0 += 0.00000004174 * Math.cos(5.82910805335 + 346.4481504471 * t);
-            R0 += 0.00000003775 * Math.cos(0.83052387256 + 827.9235874865 * t);
-            R0 += 0.00000003481 * Math.cos(2.70828672792 + 818.574808252 * t);
-            R0 += 0.00000004853 * Math.cos(0.95917381603 + 58.1705144857 * t);
-            R0 += 0.00000004021 * Math.cos(3.11274455034 + 377.4194549743 * t);
-            R0 += 0.00000004409 * Math.cos(0.16607520728 + 630.3360587584 * t);
-            R0 += 0.00000003597 * Math.cos(1.02560564654 + 515.463871093 * t);
-            R0 += 0.00000003444 * Math.cos(1.38488805947 + 117.3198682202 * t);
-            R0 += 0.00000004021 * Math.cos(5.68447974866 + 3.4902102784 * t);
-            R0 += 0.00000004244 * Math.cos(3.75845344717 + 733.428832977 * t);
-            R0 += 0.00000003933 * Math.cos(4.55157642432 + 240.125798381 * t);
-            R0 += 0.00000004421 * Math.cos(1.51263319894 + 1610.2705239343 * t);
-            R0 += 0.00000003390 * Math.cos(4.00215380112 + 74.9940468884 * t);
-            R0 += 0.00000004556 * Math.cos(3.41531360529 + 1140.38330388 * t);
-            R0 += 0.00000004171 * Math.cos(0.76417016678 + 623.4349600787 * t);
-            R0 += 0.00000003441 * Math.cos(2.56450835637 + 14.8177948326 * t);
-            R0 += 0.00000003587 * Math.cos(4.10186965494 + 343.2185725996 * t);
-            R0 += 0.00000003997 * Math.cos(5.74857613262 + 6212.2264046872 * t);
-            R0 += 0.00000004215 * Math.cos(0.84469743228 + 176.6505325085 * t);
-            R0 += 0.00000004098 * Math.cos(1.41920746453 + 559.6990617753 * t);
-            R0 += 0.00000004553 * Math.cos(1.09016692751 + 561.8861098992 * t);
-            R0 += 0.00000003493 * Math.cos(0.11837510368 + 1031.87390369 * t);
-            R0 += 0.00000003596 * Math.cos(5.33968666729 + 394.9455627926 * t);
-            R0 += 0.00000003501 * Math.cos(5.53309359866 + 594.9113361063 * t);
-            R0 += 0.00000003564 * Math.cos(1.57868308864 + 354.9979860464 * t);
-            R0 += 0.00000004279 * Math.cos(2.35436288262 + 562.6680071919 * t);
-            R0 += 0.00000003398 * Math.cos(1.62086348540 + 941.3113024436 * t);
-            R0 += 0.00000003803 * Math.cos(1.78948693511 + 251.1714986449 * t);
-            R0 += 0.00000003299 * Math.cos(5.13631478768 + 477.0007670551 * t);
-            R0 += 0.00000003422 * Math.cos(3.55674695079 + 256.4280659219 * t);
-            R0 += 0.00000003802 * Math.cos(4.09287840097 + 268.9582388941 * t);
-            R0 += 0.00000003818 * Math.cos(4.64162443046 + 71.9245277353 * t);
-            R0 += 0.00000004623 * Math.cos(2.72836206211 + 6244.9428143536 * t);
-            R0 += 0.00000003466 * Math.cos(1.91387688001 + 58.7399634573 * t);
-            R0 += 0.00000003435 * Math.cos(2.96178782926 + 995.6460318858 * t);
-            R0 += 0.00000003626 * Math.cos(5.35614681493 + 57.5161231799 * t);
-            R0 += 0.00000004512 * Math.cos(1.18350543284 + 170.7608257851 * t);
-            R0 += 0.00000004378 * Math.cos(0.27346037700 + 469.7271613599 * t);
-            R0 += 0.00000003323 * Math.cos(4.51516827363 + 454.8611824175 * t);
-            R0 += 0.00000003320 * Math.cos(1.42938752044 + 454.9575506371 * t);
-            R0 += 0.00000004578 * Math.cos(4.74980514730 + 731.9443602687 * t);
-            R0 += 0.00000003249 * Math.cos(0.67719975914 + 74.0478853844 * t);
-            R0 += 0.00000004145 * Math.cos(5.58064267022 + 57.7980074702 * t);
-            R0 += 0.00000003512 * Math.cos(6.09122971288 + 70.5888128733 * t);
-            R0 += 0.00000003814 * Math.cos(2.49565462974 + 6204.362098161 * t);
-            R0 += 0.00000003828 * Math.cos(4.39751907192 + 586.3133163972 * t);
-            R0 += 0.00000003639 * Math.cos(4.85097208169 + 138.4056222861 * t);
-            R0 += 0.00000003518 * Math.cos(0.52105043625 + 262.8078997398 * t);
-            R0 += 0.00000003671 * Math.cos(1.99667387765 + 511.5317178299 * t);
-            R0 += 0.00000003215 * Math.cos(0.64628330219 + 887.7273325268 * t);
-            R0 += 0.00000003718 * Math.cos(3.27473813045 + 454.6487340964 * t);
-            R0 += 0.00000003638 * Math.cos(2.63250736806 + 455.1699989582 * t);
-            R0 += 0.00000003772 * Math.cos(0.88810300052 + 10142.4361009068 * t);
-            R0 += 0.00000003190 * Math.cos(4.87960158471 + 455.6601260527 * t);
-            R0 += 0.00000003669 * Math.cos(4.11456655271 + 409.9234163196 * t);
-            R0 += 0.00000003166 * Math.cos(1.24948126394 + 82.6459050935 * t);
-            R0 += 0.00000003530 * Math.cos(4.02075420346 + 388.2045228073 * t);
-            R0 += 0.00000003163 * Math.cos(1.65294183878 + 765.8846102125 * t);
-            R0 += 0.00000003568 * Math.cos(5.95965909592 + 460.8472573605 * t);
-            R0 += 0.00000003450 * Math.cos(0.08821515281 + 49.1787359017 * t);
-            R0 += 0.00000003270 * Math.cos(1.81146731641 + 34.2008823747 * t);
-            R0 += 0.00000003188 * Math.cos(1.74587038709 + 18.9100067901 * t);
-            R0 += 0.00000003305 * Math.cos(5.77382040863 + 10.5244354021 * t);
-            R0 += 0.00000003345 * Math.cos(4.15802505352 + 1515.7757694248 * t);
-            R0 += 0.00000003160 * Math.cos(1.06549289762 + 454.1586070019 * t);
-            R0 += 0.00000003525 * Math.cos(2.56091667232 + 78114.14622758799 * t);
-            R0 += 0.00000004124 * Math.cos(1.06751791085 + 388.4651552382 * t);
-            R0 += 0.00000004016 * Math.cos(2.48751669586 + 531.1754378029 * t);
-            R0 += 0.00000003147 * Math.cos(5.05814757549 + 1521.4048437173 * t);
-            R0 += 0.00000004180 * Math.cos(1.16833674781 + 514.5643537213 * t);
-            R0 += 0.00000003212 * Math.cos(3.18682610058 + 1512.8068240082 * t);
-            R0 += 0.00000003486 * Math.cos(0.22630227172 + 36.5366883449 * t);
-            R0 += 0.00000004211 * Math.cos(3.21876950029 + 761.7400086283 * t);
-            R0 += 0.00000003485 * Math.cos(3.26177495276 + 36.7604375141 * t);
-            R0 += 0.00000003506 * Math.cos(6.26633354904 + 545.2750258176 * t);
-            R0 += 0.00000003733 * Math.cos(2.55776517455 + 279.4826742962 * t);
-            R0 += 0.00000004227 * Math.cos(1.41381723926 + 41.7563723602 * t);
-            R0 += 0.00000003187 * Math.cos(1.62296832026 + 138.4693127609 * t);
-            R0 += 0.00000003934 * Math.cos(2.86731965547 + 832.0681890707 * t);
-            R0 += 0.00000003684 * Math.cos(3.94174060300 + 179.3106613844 * t);
-            R0 += 0.00000003115 * Math.cos(5.67364420834 + 73.5577582899 * t);
-            R0 += 0.00000003663 * Math.cos(1.80556740809 + 31.5407534988 * t);
-            R0 += 0.00000003171 * Math.cos(4.85529878165 + 138.5656809805 * t);
-            R0 += 0.00000003777 * Math.cos(5.94890597104 + 873.1701701251 * t);
-            R0 += 0.00000004357 * Math.cos(4.15105623366 + 10175.1525105732 * t);
-            R0 += 0.00000003951 * Math.cos(1.60185888278 + 576.1613880106 * t);
-            R0 += 0.00000003525 * Math.cos(4.80316435970 + 429.7795846137 * t);
-            R0 += 0.00000003330 * Math.cos(5.62171319933 + 1116.0042814918 * t);
-            R0 += 0.00000003943 * Math.cos(4.62641543020 + 898.7730327907 * t);
-            R0 += 0.00000003382 * Math.cos(1.45717307307 + 5983.9494557222 * t);
-            R0 += 0.00000003215 * Math.cos(3.73878297941 + 335.7749571987 * t);
-            R0 += 0.00000003423 * Math.cos(5.07987216951 + 143.3434220111 * t);
-            R0 += 0.00000004161 * Math.cos(5.39091883238 + 1363.2436268736 * t);
-            R0 += 0.00000003457 * Math.cos(3.94796907904 + 444.8268741099 * t);
-            R0 += 0.00000003593 * Math.cos(3.91831549069 + 10134.5717943806 * t);
-            R0 += 0.00000003666 * Math.cos(4.22620338990 + 36.1754821775 * t);
-            R0 += 0.00000003580 * Math.cos(3.43130119859 + 912.7876784712 * t);
-            R0 += 0.00000003700 * Math.cos(0.67445695843 + 73.9302653054 * t);
-            R0 += 0.00000003679 * Math.cos(1.10949079061 + 686.958410061 * t);
-            R0 += 0.00000003547 * Math.cos(5.63096398237 + 440.8947208468 * t);
-            R0 += 0.00000003622 * Math.cos(1.10742531477 + 2250.1678102483 * t);
-            R0 += 0.00000003562 * Math.cos(3.80604468765 + 1525.3369969804 * t);
-            R0 += 0.00000003330 * Math.cos(1.76480149289 + 78.9743842613 * t);
-            R0 += 0.00000003738 * Math.cos(1.76754910180 + 384.5811860849 * t);
-            R0 += 0.00000003986 * Math.cos(1.06842874470 + 743.7932096847 * t);
-            R0 += 0.00000003032 * Math.cos(5.77852412826 + 612.1768114937 * t);
-            R0 += 0.00000003008 * Math.cos(0.64086342534 + 210.8514148832 * t);
-            R0 += 0.00000003334 * Math.cos(4.81681647959 + 597.3590166611 * t);
-            R0 += 0.00000003141 * Math.cos(3.11768616608 + 6607.9277275406 * t);
-            R0 += 0.00000003022 * Math.cos(2.08709314702 + 34.5309507748 * t);
-            R0 += 0.00000003226 * Math.cos(3.19780030434 + 377.6800874052 * t);
-            R0 += 0.00000004065 * Math.cos(3.53637930424 + 402.2191684878 * t);
-            R0 += 0.00000004138 * Math.cos(0.28927701421 + 517.1607921224 * t);
-            R0 += 0.00000003697 * Math.cos(0.89932694516 + 75.6329318292 * t);
-            R0 += 0.00000003918 * Math.cos(5.73859894835 + 94.4253185403 * t);
-            R0 += 0.00000003374 * Math.cos(0.40974405580 + 677.7696895209 * t);
-            R0 += 0.00000003194 * Math.cos(4.56998602897 + 1385.174968707 * t);
-            R0 += 0.00000003180 * Math.cos(1.03370427552 + 885.4397106664 * t);
-            R0 += 0.00000003235 * Math.cos(5.09681747179 + 464.9918589447 * t);
-            R0 += 0.00000003798 * Math.cos(5.76464888795 + 586.377006872 * t);
-            R0 += 0.00000003173 * Math.cos(5.68964342749 + 4.192785694 * t);
-            R0 += 0.00000003181 * Math.cos(2.87968862974 + 9914.1591519418 * t);
-            R0 += 0.00000003355 * Math.cos(5.45857968674 + 73.0846775379 * t);
-            R0 += 0.00000002899 * Math.cos(5.12928266291 + 448.3170843883 * t);
-            R0 += 0.00000003706 * Math.cos(2.47342147635 + 64.2571631652 * t);
-            R0 += 0.00000003796 * Math.cos(4.29502458131 + 164.5410506616 * t);
-            R0 += 0.00000003534 * Math.cos(4.42464754991 + 46.470422916 * t);
-            R0 += 0.00000003488 * Math.cos(5.62713714766 + 3189.5647568569 * t);
-            R0 += 0.00000002940 * Math.cos(4.33606107945 + 78263.70942472259 * t);
-            R0 += 0.00000003309 * Math.cos(3.10770680369 + 519.6084726772 * t);
-            R0 += 0.00000004030 * Math.cos(4.41794838679 + 772.5887669361 * t);
-            R0 += 0.00000002867 * Math.cos(5.17129632099 + 346.1875180162 * t);
-            R0 += 0.00000003842 * Math.cos(1.87994191354 + 299.7170951002 * t);
-            R0 += 0.00000003846 * Math.cos(5.38315286213 + 980.146913497 * t);
-            R0 += 0.00000003724 * Math.cos(4.94511644698 + 984.4884570373 * t);
-            R0 += 0.00000002814 * Math.cos(2.17260061398 + 191.3195694948 * t);
-            R0 += 0.00000003392 * Math.cos(3.08552116090 + 245.4942402426 * t);
-            R0 += 0.00000002923 * Math.cos(0.37358823115 + 6.4804075544 * t);
-            R0 += 0.00000003025 * Math.cos(1.19297242418 + 104.8378793578 * t);
-            R0 += 0.00000003470 * Math.cos(1.89084704021 + 44.6134431922 * t);
-            R0 += 0.00000002931 * Math.cos(0.78809830626 + 540.0553418023 * t);
-            R0 += 0.00000003707 * Math.cos(4.14868763219 + 6136.4815982734 * t);
-            R0 += 0.00000003931 * Math.cos(5.52289695589 + 6171.6456884946 * t);
-            R0 += 0.00000003056 * Math.cos(2.97000936733 + 250.6020496733 * t);
-            R0 += 0.00000003117 * Math.cos(0.76332399369 + 229.4526051326 * t);
-            R0 += 0.00000003091 * Math.cos(4.91941279780 + 221.1634019642 * t);
-            R0 += 0.00000003378 * Math.cos(3.82658652472 + 25936.85547173129 * t);
-            R0 += 0.00000003041 * Math.cos(2.14503983522 + 6604.958782124 * t);
-            R0 += 0.00000002865 * Math.cos(0.53734608663 + 273.8536000037 * t);
-            R0 += 0.00000002845 * Math.cos(0.34922064899 + 85.9391734158 * t);
-            R0 += 0.00000003657 * Math.cos(6.02755271763 + 340.8827666294 * t);
-            R0 += 0.00000002818 * Math.cos(4.44508352472 + 369.342700127 * t);
-            R0 += 0.00000002861 * Math.cos(2.19284349075 + 295.1942410061 * t);
-            R0 += 0.00000002865 * Math.cos(3.21935127992 + 3.8202786785 * t);
-            R0 += 0.00000002797 * Math.cos(5.97725967979 + 2014.0265547571 * t);
-            R0 += 0.00000003280 * Math.cos(0.74832416123 + 422.7142217227 * t);
-            R0 += 0.00000003509 * Math.cos(1.92501559437 + 343.4792050305 * t);
-            R0 += 0.00000002962 * Math.cos(2.29867992492 + 661.1586054393 * t);
-            R0 += 0.00000003485 * Math.cos(4.53205302380 + 676.2852168126 * t);
-            R0 += 0.00000002836 * Math.cos(1.20779683660 + 1119.1856752295 * t);
-            R0 += 0.00000003603 * Math.cos(2.72183511139 + 508.6264628881 * t);
-            R0 += 0.00000003620 * Math.cos(5.57691156197 + 10066.691294493 * t);
-            R0 += 0.00000002731 * Math.cos(0.96663411770 + 582.3811631341 * t);
-            R0 += 0.00000003306 * Math.cos(6.20620840278 + 11.5669651257 * t);
-            R0 += 0.00000003279 * Math.cos(6.13563821647 + 276.0717858949 * t);
-            R0 += 0.00000002747 * Math.cos(4.57476263020 + 226.6324175623 * t);
-            R0 += 0.00000002825 * Math.cos(1.24120423378 + 989.0537497468 * t);
-            R0 += 0.00000002707 * Math.cos(0.46257342768 + 1458.472094566 * t);
-            R0 += 0.00000002755 * Math.cos(5.43548338507 + 246.9787129509 * t);
-            R0 += 0.00000003338 * Math.cos(3.98641322371 + 488.5889840402 * t);
-            R0 += 0.00000002960 * Math.cos(5.31788128818 + 1467.0701142751 * t);
-            R0 += 0.00000003062 * Math.cos(1.93542241882 + 987.7817253596 * t);
-            R0 += 0.00000003504 * Math.cos(4.10521239427 + 6280.1069045748 * t);
-            R0 += 0.00000003584 * Math.cos(3.12196206517 + 108.7218485111 * t);
-            R0 += 0.00000002975 * Math.cos(0.13746189123 + 9987.4562778008 * t);
-            R0 += 0.00000002634 * Math.cos(5.61201014857 + 412.3710968744 * t);
-            R0 += 0.00000003702 * Math.cos(0.66231252049 + 10101.8553847142 * t);
-            R0 += 0.00000003261 * Math.cos(4.39228048501 + 75.3722993983 * t);
-            R0 += 0.00000002939 * Math.cos(3.26319979850 + 130.552616608 * t);
-            R0 += 0.00000002742 * Math.cos(6.24317126103 + 447.2051186955 * t);
-            R0 += 0.00000003008 * Math.cos(4.24451493185 + 170.1701249541 * t);
-            R0 += 0.00000003001 * Math.cos(2.45489658954 + 230.8252032563 * t);
-            R0 += 0.00000002722 * Math.cos(4.98348297926 + 754.0357607965 * t);
-            R0 += 0.00000002928 * Math.cos(5.73784691627 + 14.6690369863 * t);
-            R0 += 0.00000002699 * Math.cos(2.98043546816 + 27.7204748203 * t);
-            R0 += 0.00000003678 * Math.cos(3.46436124301 + 26468.0309095342 * t);
-            R0 += 0.00000003500 * Math.cos(4.41810854452 + 322.6116447801 * t);
-            R0 += 0.00000002943 * Math.cos(3.58544468129 + 12489.8856287072 * t);
-            R0 += 0.00000002894 * Math.cos(2.26999120840 + 1615.8995982268 * t);
-            R0 += 0.00000002679 * Math.cos(1.32002304425 + 236.1936451179 * t);
-            R0 += 0.00000002711 * Math.cos(1.25250599577 + 52250.5878817157 * t);
-            R0 += 0.00000002573 * Math.cos(4.41371056719 + 262.0571402144 * t);
-            R0 += 0.00000003483 * Math.cos(1.97113718781 + 655.938921424 * t);
-            R0 += 0.00000002600 * Math.cos(3.80107226970 + 70.6369969831 * t);
-            R0 += 0.00000003280 * Math.cos(1.75059058234 + 683.9894646444 * t);
-            R0 += 0.00000003260 * Math.cos(3.46047977615 + 74.1908977363 * t);
-            R0 += 0.00000003097 * Math.cos(5.47452034532 + 302.3772239761 * t);
-            R0 += 0.00000002565 * Math.cos(3.47443238116 + 2042.4977891028 * t);
-            R0 += 0.00000003158 * Math.cos(4.58160924364 + 12492.8545741238 * t);
-            R0 += 0.00000003373 * Math.cos(5.52806001629 + 10210.3166007944 * t);
-            R0 += 0.00000002619 * Math.cos(4.43681016753 + 949.1756089698 * t);
-            R0 += 0.00000003290 * Math.cos(1.35055242247 + 515.6763194141 * t);
-            R0 += 0.00000003180 * Math.cos(4.49938964982 + 694.8382229522 * t);
-            R0 += 0.00000002558 * Math.cos(5.07921716363 + 197.7999770492 * t);
-            R0 += 0.00000002902 * Math.cos(2.61388996483 + 115.3623147599 * t);
-            R0 += 0.00000002586 * Math.cos(4.09771865336 + 1448.9108670104 * t);
-            R0 += 0.00000003160 * Math.cos(4.82168102018 + 714.6788848813 * t);
-            R0 += 0.00000003016 * Math.cos(3.16691101108 + 385.7568422525 * t);
-            R0 += 0.00000003001 * Math.cos(3.24181300229 + 1618.8685436434 * t);
-            R0 += 0.00000003319 * Math.cos(5.98200177347 + 533.8355666788 * t);
-            R0 += 0.00000003307 * Math.cos(3.31452419197 + 732.97125859 * t);
-            R0 += 0.00000002530 * Math.cos(0.13809025963 + 591.9423906897 * t);
-            R0 += 0.00000002975 * Math.cos(5.72770980032 + 1011.4270345649 * t);
-            R0 += 0.00000002857 * Math.cos(4.11031053901 + 2267.4332856357 * t);
-            R0 += 0.00000003091 * Math.cos(4.87979664891 + 582.641795565 * t);
-            R0 += 0.00000003422 * Math.cos(6.18592254593 + 281.4884118663 * t);
-            R0 += 0.00000002501 * Math.cos(0.50645055144 + 29.226199388 * t);
-            R0 += 0.00000003502 * Math.cos(0.17203520151 + 371.5297482509 * t);
-            R0 += 0.00000002607 * Math.cos(3.51828908958 + 112.3933693433 * t);
-            R0 += 0.00000002547 * Math.cos(4.45612695304 + 901.2207133455 * t);
-            R0 += 0.00000002778 * Math.cos(4.97805873371 + 132.5796060375 * t);
-            R0 += 0.00000002476 * Math.cos(1.55163657371 + 1234.1272988641 * t);
-            R0 += 0.00000002929 * Math.cos(2.34725672182 + 273.1510245881 * t);
-            R0 += 0.00000002724 * Math.cos(5.73177362443 + 688.6553310904 * t);
-            R0 += 0.00000002667 * Math.cos(6.13733078138 + 161.4120465506 * t);
-            R0 += 0.00000002877 * Math.cos(5.47506403197 + 1436.5407527326 * t);
-            R0 += 0.00000002779 * Math.cos(1.54196175338 + 680.0573113813 * t);
-            R0 += 0.00000002427 * Math.cos(4.64913431310 + 392.6579409322 * t);
-            R0 += 0.00000003223 * Math.cos(2.57976952494 + 267.5856407704 * t);
-            R0 += 0.00000002750 * Math.cos(1.29662662582 + 108.982480942 * t);
-            R0 += 0.00000003220 * Math.cos(1.06290187940 + 388.7257876691 * t);
-            R0 += 0.00000003236 * Math.cos(3.47802643973 + 283.6272758804 * t);
-            R0 += 0.00000003027 * Math.cos(5.38233284458 + 44.0921783304 * t);
-            R0 += 0.00000002830 * Math.cos(5.70274947128 + 327.4375699205 * t);
-            R0 += 0.00000002768 * Math.cos(5.42256168790 + 482.2573343321 * t);
-            R0 += 0.00000003230 * Math.cos(5.65661970187 + 134.3728952865 * t);
-            R0 += 0.00000002685 * Math.cos(5.03687735302 + 763.2244813366 * t);
-            R0 += 0.00000002441 * Math.cos(5.19830386978 + 380.2396425446 * t);
-            R0 += 0.00000002608 * Math.cos(3.11386505876 + 578.449009871 * t);
-            R0 += 0.00000002465 * Math.cos(1.49242672830 + 141.6988906084 * t);
-            R0 += 0.00000002332 * Math.cos(3.19371804203 + 683.0262567979 * t);
-            R0 += 0.00000002307 * Math.cos(4.07685834192 + 78.9262001515 * t);
-            R0 += 0.00000002280 * Math.cos(2.52476606956 + 156.6767441354 * t);
-            R0 += 0.00000002260 * Math.cos(6.23958645351 + 400.5746370851 * t);
-            R0 += 0.00000002301 * Math.cos(2.47762267951 + 107.918699359 * t);
-            R0 += 0.00000003089 * Math.cos(5.69639540598 + 537.3952129264 * t);
-            R0 += 0.00000003074 * Math.cos(1.16740737548 + 58.6280888727 * t);
-            R0 += 0.00000002846 * Math.cos(0.02430566936 + 563.3705826075 * t);
-            R0 += 0.00000002423 * Math.cos(4.24559706691 + 27.7417266797 * t);
-            R0 += 0.00000002670 * Math.cos(3.48404619442 + 123.0183784819 * t);
-            R0 += 0.00000002228 * Math.cos(3.33159258912 + 1257.7031721002 * t);
-            R0 += 0.00000002445 * Math.cos(2.29979337782 + 280.2163874791 * t);
-            R0 += 0.00000002260 * Math.cos(3.85026258012 + 753.1419889192 * t);
-            R0 += 0.00000002195 * Math.cos(4.94038065567 + 1222.2784494481 * t);
-            R0 += 0.00000002579 * Math.cos(1.76841912074 + 710.7467316182 * t);
-            R0 += 0.00000002402 * Math.cos(4.47942458428 + 569.0478410098 * t);
-            R0 += 0.00000002181 * Math.cos(5.39048760967 + 318.679491517 * t);
-            R0 += 0.00000002317 * Math.cos(6.27946729049 + 493.0424021651 * t);
-            R0 += 0.00000002420 * Math.cos(3.66436222896 + 3.6233367224 * t);
-        }
-        return R0;
-    }
-
-    public double R1(double t) // 514 terms of order 1
-    {
-        double R1 = 0;
-        R1 += 0.01479896370 * Math.cos(3.67205705317 + 74.7815985673 * t);
-        R1 += 0.00071212085 * Math.cos(6.22601006675 + 63.7358983034 * t);
-        R1 += 0.00068626972 * Math.cos(6.13411265052 + 149.5631971346 * t);
-        R1 += 0.00020857262 * Math.cos(5.24625494219 + 11.0457002639 * t);
-        R1 += 0.00021468152 * Math.cos(2.60176704270 + 76.2660712756 * t);
-        R1 -= 0.00024059649;
-        R1 += 0.00011405346 * Math.cos(0.01848461561 + 70.8494453042 * t);
-        R1 += 0.00007496775 * Math.cos(0.42360033283 + 73.297125859 * t);
-        R1 += 0.00004243800 * Math.cos(1.41692350371 + 85.8272988312 * t);
-        R1 += 0.00003505936 * Math.cos(2.58354048851 + 138.5174968707 * t);
-        R1 += 0.00003228835 * Math.cos(5.25499602896 + 3.9321532631 * t);
-        R1 += 0.00003926694 * Math.cos(3.15513991323 + 71.8126531507 * t);
-        R1 += 0.00003060010 * Math.cos(0.15321893225 + 1.4844727083 * t);
-        R1 += 0.00003578446 * Math.cos(2.31160668309 + 224.3447957019 * t);
-        R1 += 0.00002564251 * Math.cos(0.98076846352 + 148.0787244263 * t);
-        R1 += 0.00002429445 * Math.cos(3.99440122468 + 52.6901980395 * t);
-        R1 += 0.00001644719 * Math.cos(2.65349313124 + 127.4717966068 * t);
-        R1 += 0.00001583766 * Math.cos(1.43045619196 + 78.7137518304 * t);
-        R1 += 0.00001413112 * Math.cos(4.57461892062 + 202.2533951741 * t);
-        R1 += 0.00001489525 * Math.cos(2.67559167316 + 56.6223513026 * t);
-        R1 += 0.00001403237 * Math.cos(1.36985349744 + 77.7505439839 * t);
-        R1 += 0.00001228220 * Math.cos(1.04703640149 + 62.2514255951 * t);
-        R1 += 0.00001508028 * Math.cos(5.05996325425 + 151.0476698429 * t);
-        R1 += 0.00000992085 * Math.cos(2.17168865909 + 65.2203710117 * t);
-        R1 += 0.00001032731 * Math.cos(0.26459059027 + 131.4039498699 * t);
-        R1 += 0.00000861867 * Math.cos(5.05530802218 + 351.8165923087 * t);
-        R1 += 0.00000744445 * Math.cos(3.07640148939 + 35.1640902212 * t);
-        R1 += 0.00000604362 * Math.cos(0.90717667985 + 984.6003316219 * t);
-        R1 += 0.00000646851 * Math.cos(4.47290422910 + 70.3281804424 * t);
-        R1 += 0.00000574710 * Math.cos(3.23070708457 + 447.7958195265 * t);
-        R1 += 0.00000687470 * Math.cos(2.49912565674 + 77.962992305 * t);
-        R1 += 0.00000623602 * Math.cos(0.86253073820 + 9.5612275556 * t);
-        R1 += 0.00000527794 * Math.cos(5.15136007084 + 2.9689454166 * t);
-        R1 += 0.00000561839 * Math.cos(2.71778158980 + 462.0229135281 * t);
-        R1 += 0.00000530364 * Math.cos(5.91655309045 + 213.299095438 * t);
-        R1 += 0.00000460080 * Math.cos(4.22302465979 + 12.5301729722 * t);
-        R1 += 0.00000494280 * Math.cos(0.46291078127 + 145.6310438715 * t);
-        R1 += 0.00000487336 * Math.cos(0.70614146398 + 380.12776796 * t);
-        R1 += 0.00000380908 * Math.cos(3.85089591694 + 3.1813937377 * t);
-        R1 += 0.00000444352 * Math.cos(2.15558291251 + 67.6680515665 * t);
-        R1 += 0.00000338800 * Math.cos(2.53820897704 + 18.1592472647 * t);
-        R1 += 0.00000372947 * Math.cos(5.05141251694 + 529.6909650946 * t);
-        R1 += 0.00000348345 * Math.cos(1.74874852104 + 71.6002048296 * t);
-        R1 += 0.00000405881 * Math.cos(1.22961727600 + 22.0914005278 * t);
-        R1 += 0.00000268913 * Math.cos(6.24069521597 + 340.7708920448 * t);
-        R1 += 0.00000255585 * Math.cos(2.95695013627 + 84.3428261229 * t);
-        R1 += 0.00000259465 * Math.cos(3.92053708924 + 59.8037450403 * t);
-        R1 += 0.00000224731 * Math.cos(3.90961468562 + 160.6088973985 * t);
-        R1 += 0.00000221710 * Math.cos(3.64727173951 + 137.0330241624 * t);
-        R1 += 0.00000254591 * Math.cos(3.50411592815 + 38.1330356378 * t);
-        R1 += 0.00000238290 * Math.cos(2.04879982674 + 269.9214467406 * t);
-        R1 += 0.00000272355 * Math.cos(3.38363105223 + 222.8603229936 * t);
-        R1 += 0.00000200648 * Math.cos(1.24861003313 + 69.3649725959 * t);
-        R1 += 0.00000234153 * Math.cos(0.27825220612 + 108.4612160802 * t);
-        R1 += 0.00000188515 * Math.cos(4.41307507326 + 265.9892934775 * t);
-        R1 += 0.00000211691 * Math.cos(0.68027381802 + 111.4301614968 * t);
-        R1 += 0.00000205946 * Math.cos(1.53379817229 + 284.1485407422 * t);
-        R1 += 0.00000196179 * Math.cos(4.77152996605 + 299.1263942692 * t);
-        R1 += 0.00000153102 * Math.cos(5.21761881347 + 209.3669421749 * t);
-        R1 += 0.00000162563 * Math.cos(4.34054353610 + 33.6796175129 * t);
-        R1 += 0.00000150563 * Math.cos(1.98966326297 + 54.1746707478 * t);
-        R1 += 0.00000137012 * Math.cos(0.40323866041 + 195.1398481733 * t);
-        R1 += 0.00000117171 * Math.cos(0.39649791652 + 87.3117715395 * t);
-        R1 += 0.00000127913 * Math.cos(2.40333045173 + 39.6175083461 * t);
-        R1 += 0.00000104218 * Math.cos(2.92152185788 + 134.5853436076 * t);
-        R1 += 0.00000103862 * Math.cos(1.81622936156 + 72.3339180125 * t);
-        R1 += 0.00000105741 * Math.cos(0.17067407327 + 79.2350166922 * t);
-        R1 += 0.00000106419 * Math.cos(0.69799543514 + 2.4476805548 * t);
-        R1 += 0.00000095326 * Math.cos(4.02880266738 + 82.8583534146 * t);
-        R1 += 0.00000104772 * Math.cos(4.43616414428 + 305.3461693927 * t);
-        R1 += 0.00000093825 * Math.cos(5.01823592717 + 51.2057253312 * t);
-        R1 += 0.00000103739 * Math.cos(2.57553519741 + 191.2076949102 * t);
-        R1 += 0.00000106679 * Math.cos(1.22996874093 + 225.8292684102 * t);
-        R1 += 0.00000093452 * Math.cos(3.09274255916 + 77.2292791221 * t);
-        R1 += 0.00000097398 * Math.cos(3.81380841075 + 152.5321425512 * t);
-        R1 += 0.00000084583 * Math.cos(5.72473747348 + 68.8437077341 * t);
-        R1 += 0.00000077395 * Math.cos(0.08281157747 + 45.5766510387 * t);
-        R1 += 0.00000076207 * Math.cos(4.20384370842 + 73.8183907208 * t);
-        R1 += 0.00000086249 * Math.cos(0.53131085736 + 145.1097790097 * t);
-        R1 += 0.00000075795 * Math.cos(3.78559826812 + 75.7448064138 * t);
-        R1 += 0.00000077592 * Math.cos(1.63628139623 + 479.2883889155 * t);
-        R1 += 0.00000084612 * Math.cos(0.61662456010 + 116.4260963429 * t);
-        R1 += 0.00000100209 * Math.cos(4.94084867643 + 120.358249606 * t);
-        R1 += 0.00000072142 * Math.cos(4.30505812564 + 565.1156877467 * t);
-        R1 += 0.00000070733 * Math.cos(2.38450718488 + 60.7669528868 * t);
-        R1 += 0.00000071585 * Math.cos(3.93906647867 + 153.4953503977 * t);
-        R1 += 0.00000084566 * Math.cos(5.56037336584 + 344.7030453079 * t);
-        R1 += 0.00000063556 * Math.cos(1.93742986679 + 41.6444977756 * t);
-        R1 += 0.00000071619 * Math.cos(3.71213491656 + 408.4389436113 * t);
-        R1 += 0.00000061594 * Math.cos(3.90006698249 + 4.4534181249 * t);
-        R1 += 0.00000064973 * Math.cos(1.55845503407 + 106.9767433719 * t);
-        R1 += 0.00000059913 * Math.cos(0.60110866128 + 74.8934731519 * t);
-        R1 += 0.00000062000 * Math.cos(4.39369268007 + 453.424893819 * t);
-        R1 += 0.00000063361 * Math.cos(4.19159979468 + 184.7272873558 * t);
-        R1 += 0.00000062301 * Math.cos(3.23773103318 + 422.6660376129 * t);
-        R1 += 0.00000054427 * Math.cos(3.72545550857 + 7.1135470008 * t);
-        R1 += 0.00000052474 * Math.cos(6.08562717749 + 404.5067903482 * t);
-        R1 += 0.00000059073 * Math.cos(1.55568469603 + 456.3938392356 * t);
-        R1 += 0.00000052597 * Math.cos(3.50492233970 + 125.9873238985 * t);
-        R1 += 0.00000052835 * Math.cos(5.20100035142 + 358.9301393095 * t);
-        R1 += 0.00000058123 * Math.cos(5.33480562448 + 220.4126424388 * t);
-        R1 += 0.00000052909 * Math.cos(4.44819701196 + 426.598190876 * t);
-        R1 += 0.00000050934 * Math.cos(0.52638534200 + 490.3340891794 * t);
-        R1 += 0.00000054968 * Math.cos(1.60146090981 + 14.977853527 * t);
-        R1 += 0.00000049491 * Math.cos(4.25534603275 + 5.4166259714 * t);
-        R1 += 0.00000051303 * Math.cos(0.36772379136 + 206.1855484372 * t);
-        R1 += 0.00000051821 * Math.cos(1.75832999538 + 8.0767548473 * t);
-        R1 += 0.00000056964 * Math.cos(0.84114552694 + 146.594251718 * t);
-        R1 += 0.00000049109 * Math.cos(0.94061875871 + 99.1606209555 * t);
-        R1 += 0.00000046361 * Math.cos(5.35115472594 + 152.7445908723 * t);
-        R1 += 0.00000048023 * Math.cos(1.97249712347 + 288.0806940053 * t);
-        R1 += 0.00000043772 * Math.cos(3.03713403879 + 20.6069278195 * t);
-        R1 += 0.00000049493 * Math.cos(5.84619560979 + 112.9146342051 * t);
-        R1 += 0.00000041987 * Math.cos(0.04620500196 + 128.9562693151 * t);
-        R1 += 0.00000048628 * Math.cos(3.62817742782 + 81.0013736908 * t);
-        R1 += 0.00000041472 * Math.cos(2.33730376429 + 277.0349937414 * t);
-        R1 += 0.00000039983 * Math.cos(5.09525356576 + 35.4247226521 * t);
-        R1 += 0.00000041948 * Math.cos(2.51050760642 + 24.3790223882 * t);
-        R1 += 0.00000038325 * Math.cos(3.61946898382 + 173.9422195228 * t);
-        R1 += 0.00000038385 * Math.cos(2.06003220130 + 333.657345044 * t);
-        R1 += 0.00000042597 * Math.cos(1.26088737300 + 1514.2912967165 * t);
-        R1 += 0.00000038855 * Math.cos(0.74239364306 + 347.8844390456 * t);
-        R1 += 0.00000038535 * Math.cos(4.95064283065 + 92.940845832 * t);
-        R1 += 0.00000033234 * Math.cos(1.38358507432 + 74.6697239827 * t);
-        R1 += 0.00000033788 * Math.cos(3.68407945156 + 66.9172920411 * t);
-        R1 += 0.00000038953 * Math.cos(5.49236040328 + 200.7689224658 * t);
-        R1 += 0.00000031850 * Math.cos(0.53990592534 + 203.7378678824 * t);
-        R1 += 0.00000033320 * Math.cos(6.26012644668 + 1059.3819301892 * t);
-        R1 += 0.00000030806 * Math.cos(2.53797566903 + 977.4867846211 * t);
-        R1 += 0.00000029198 * Math.cos(5.43116906000 + 58.1068240109 * t);
-        R1 += 0.00000030059 * Math.cos(0.19481555617 + 387.2413149608 * t);
-        R1 += 0.00000028997 * Math.cos(3.10546504714 + 991.7138786227 * t);
-        R1 += 0.00000035640 * Math.cos(3.72863820177 + 96.8729990951 * t);
-        R1 += 0.00000027607 * Math.cos(0.37142052647 + 80.1982245387 * t);
-        R1 += 0.00000032492 * Math.cos(4.38403518987 + 221.3758502853 * t);
-        R1 += 0.00000027029 * Math.cos(1.35552416596 + 0.9632078465 * t);
-        R1 += 0.00000031276 * Math.cos(0.79566430555 + 373.0142209592 * t);
-        R1 += 0.00000031122 * Math.cos(2.05381353845 + 230.5645708254 * t);
-        R1 += 0.00000025883 * Math.cos(3.46808071409 + 144.1465711632 * t);
-        R1 += 0.00000030201 * Math.cos(0.71392007232 + 109.9456887885 * t);
-        R1 += 0.00000024688 * Math.cos(3.04162764358 + 14.0146456805 * t);
-        R1 += 0.00000027882 * Math.cos(4.76559523368 + 415.5524906121 * t);
-        R1 += 0.00000025110 * Math.cos(5.12405829717 + 81.3738807063 * t);
-        R1 += 0.00000025582 * Math.cos(2.56904073164 + 522.5774180938 * t);
-        R1 += 0.00000024351 * Math.cos(2.20289059750 + 628.8515860501 * t);
-        R1 += 0.00000025479 * Math.cos(1.79521877300 + 143.6253063014 * t);
-        R1 += 0.00000024182 * Math.cos(5.67160913092 + 443.8636662634 * t);
-        R1 += 0.00000025679 * Math.cos(5.43185950751 + 546.956440482 * t);
-        R1 += 0.00000024177 * Math.cos(5.59982039849 + 32.1951448046 * t);
-        R1 += 0.00000024428 * Math.cos(3.30271734903 + 617.8058857862 * t);
-        R1 += 0.00000023535 * Math.cos(0.65842590604 + 46.2097904851 * t);
-        R1 += 0.00000022371 * Math.cos(4.82094751058 + 135.5485514541 * t);
-        R1 += 0.00000027179 * Math.cos(2.02720001624 + 536.8045120954 * t);
-        R1 += 0.00000022213 * Math.cos(4.61664624220 + 391.1734682239 * t);
-        R1 += 0.00000021973 * Math.cos(4.59216260632 + 241.6102710893 * t);
-        R1 += 0.00000020813 * Math.cos(0.24392941148 + 465.9550667912 * t);
-        R1 += 0.00000027264 * Math.cos(2.15210992383 + 140.001969579 * t);
-        R1 += 0.00000021356 * Math.cos(5.27168432406 + 159.1244246902 * t);
-        R1 += 0.00000023632 * Math.cos(4.94972840898 + 561.1835344836 * t);
-        R1 += 0.00000024921 * Math.cos(0.54550733267 + 181.7583419392 * t);
-        R1 += 0.00000023027 * Math.cos(3.80632203913 + 55.1378785943 * t);
-        R1 += 0.00000019799 * Math.cos(1.30259938601 + 518.6452648307 * t);
-        R1 += 0.00000019252 * Math.cos(1.31448491434 + 543.0242872189 * t);
-        R1 += 0.00000019704 * Math.cos(4.90869636976 + 909.8187330546 * t);
-        R1 += 0.00000020801 * Math.cos(0.91178207093 + 76.4785195967 * t);
-        R1 += 0.00000019876 * Math.cos(0.66494008343 + 66.70484372 * t);
-        R1 += 0.00000018957 * Math.cos(4.67998817036 + 98.8999885246 * t);
-        R1 += 0.00000025913 * Math.cos(4.52903186569 + 454.9093665273 * t);
-        R1 += 0.00000021888 * Math.cos(1.23372931740 + 41.1019810544 * t);
-        R1 += 0.00000018703 * Math.cos(6.09640927844 + 103.0927742186 * t);
-        R1 += 0.00000018207 * Math.cos(0.97283864525 + 55.6591434561 * t);
-        R1 += 0.00000021247 * Math.cos(4.19373732137 + 329.7251917809 * t);
-        R1 += 0.00000019408 * Math.cos(4.31468230800 + 6.2197751235 * t);
-        R1 += 0.00000018497 * Math.cos(5.78624335074 + 142.4496501338 * t);
-        R1 += 0.00000022588 * Math.cos(5.84591645052 + 297.6419215609 * t);
-        R1 += 0.00000016770 * Math.cos(6.09084656811 + 211.8146227297 * t);
-        R1 += 0.00000016432 * Math.cos(2.50008469020 + 61.2882177486 * t);
-        R1 += 0.00000020361 * Math.cos(3.16137245375 + 186.2117600641 * t);
-        R1 += 0.00000015955 * Math.cos(2.98317221345 + 81.8951455681 * t);
-        R1 += 0.00000018953 * Math.cos(6.01226591746 + 155.7829722581 * t);
-        R1 += 0.00000017686 * Math.cos(4.82613965176 + 273.1028404783 * t);
-        R1 += 0.00000015141 * Math.cos(3.65588411561 + 472.1748419147 * t);
-        R1 += 0.00000018440 * Math.cos(3.47582817224 + 36.6485629295 * t);
-        R1 += 0.00000016303 * Math.cos(0.13086415177 + 554.0699874828 * t);
-        R1 += 0.00000018633 * Math.cos(0.23932740251 + 23.5758732361 * t);
-        R1 += 0.00000014352 * Math.cos(2.69389896537 + 70.1157321213 * t);
-        R1 += 0.00000015190 * Math.cos(2.43789398875 + 486.4019359163 * t);
-        R1 += 0.00000014002 * Math.cos(5.12389205028 + 29.2049475286 * t);
-        R1 += 0.00000015758 * Math.cos(4.24947053051 + 146.3818033969 * t);
-        R1 += 0.00000014125 * Math.cos(1.55719788547 + 110.2063212194 * t);
-        R1 += 0.00000017477 * Math.cos(1.94549668506 + 835.0371344873 * t);
-        R1 += 0.00000013691 * Math.cos(1.63831110442 + 92.0470739547 * t);
-        R1 += 0.00000013801 * Math.cos(0.13721153975 + 235.3904959658 * t);
-        R1 += 0.00000013573 * Math.cos(2.85427895075 + 49.5088043018 * t);
-        R1 += 0.00000012563 * Math.cos(3.20921738646 + 100.3844612329 * t);
-        R1 += 0.00000012390 * Math.cos(2.88595800082 + 60.5545045657 * t);
-        R1 += 0.00000014986 * Math.cos(0.32593957273 + 259.5088859231 * t);
-        R1 += 0.00000012922 * Math.cos(2.77565630582 + 105.4922706636 * t);
-        R1 += 0.00000012323 * Math.cos(3.36427641421 + 440.6822725257 * t);
-        R1 += 0.00000015233 * Math.cos(0.25589845180 + 258.8757464767 * t);
-        R1 += 0.00000012106 * Math.cos(0.10857558014 + 157.6399519819 * t);
-        R1 += 0.00000012883 * Math.cos(0.30655541587 + 124.2904028691 * t);
-        R1 += 0.00000010900 * Math.cos(3.42905554547 + 33.1371007917 * t);
-        R1 += 0.00000011206 * Math.cos(4.98840478043 + 604.4725636619 * t);
-        R1 += 0.00000010812 * Math.cos(3.86253020441 + 767.3690829208 * t);
-        R1 += 0.00000011561 * Math.cos(2.60450144944 + 166.828672522 * t);
-        R1 += 0.00000010200 * Math.cos(5.27810824796 + 264.5048207692 * t);
-        R1 += 0.00000010926 * Math.cos(0.64149188846 + 558.0021407459 * t);
-        R1 += 0.00000012315 * Math.cos(4.33998516461 + 16.6747745564 * t);
-        R1 += 0.00000009946 * Math.cos(0.67298666287 + 31.492569389 * t);
-        R1 += 0.00000012641 * Math.cos(4.83194943583 + 114.3991069134 * t);
-        R1 += 0.00000010479 * Math.cos(0.20404797652 + 275.5505210331 * t);
-        R1 += 0.00000011291 * Math.cos(0.96120625051 + 373.9079928365 * t);
-        R1 += 0.00000012144 * Math.cos(1.91712815063 + 378.6432952517 * t);
-        R1 += 0.00000012229 * Math.cos(0.70465454670 + 218.4069048687 * t);
-        R1 += 0.00000010753 * Math.cos(5.74480767273 + 88.1149206916 * t);
-        R1 += 0.00000009481 * Math.cos(0.65566927406 + 353.301065017 * t);
-        R1 += 0.00000011006 * Math.cos(2.62953946665 + 154.0166152595 * t);
-        R1 += 0.00000009113 * Math.cos(2.99457723478 + 681.5417840896 * t);
-        R1 += 0.00000010429 * Math.cos(2.33056994007 + 132.8884225782 * t);
-        R1 += 0.00000009169 * Math.cos(4.79284571455 + 216.4804891757 * t);
-        R1 += 0.00000009341 * Math.cos(0.75923548315 + 129.9194771616 * t);
-        R1 += 0.00000008917 * Math.cos(0.78008399009 + 67.3592350258 * t);
-        R1 += 0.00000008757 * Math.cos(6.12717748848 + 150.5264049811 * t);
-        R1 += 0.00000009637 * Math.cos(2.88664912193 + 67.8804998876 * t);
-        R1 += 0.00000010465 * Math.cos(0.36943456465 + 699.7010313543 * t);
-        R1 += 0.00000009301 * Math.cos(1.49620591593 + 19.643719973 * t);
-        R1 += 0.00000009367 * Math.cos(5.26481516822 + 80.7194894005 * t);
-        R1 += 0.00000010076 * Math.cos(3.56540311122 + 278.5194664497 * t);
-        R1 += 0.00000009455 * Math.cos(3.06088968751 + 149.6750717192 * t);
-        R1 += 0.00000009168 * Math.cos(3.02528121597 + 162.0933701068 * t);
-        R1 += 0.00000008395 * Math.cos(2.18455001650 + 342.2553647531 * t);
-        R1 += 0.00000009233 * Math.cos(5.32613442062 + 152.0108776894 * t);
-        R1 += 0.00000009786 * Math.cos(2.43713607191 + 75.3028634291 * t);
-        R1 += 0.00000010029 * Math.cos(0.81917102953 + 339.2864193365 * t);
-        R1 += 0.00000009429 * Math.cos(1.93671715384 + 147.1155165798 * t);
-        R1 += 0.00000007861 * Math.cos(4.71717822837 + 106.0135355254 * t);
-        R1 += 0.00000008813 * Math.cos(0.01616162513 + 42.5864537627 * t);
-        R1 += 0.00000007808 * Math.cos(0.61104170424 + 135.336103133 * t);
-        R1 += 0.00000008193 * Math.cos(2.59644466423 + 469.1364605289 * t);
-        R1 += 0.00000010084 * Math.cos(2.58619215129 + 50.4025761791 * t);
-        R1 += 0.00000008574 * Math.cos(5.69115937472 + 760.25553592 * t);
-        R1 += 0.00000007525 * Math.cos(2.64764195045 + 5.9378908332 * t);
-        R1 += 0.00000008699 * Math.cos(0.54050826161 + 66.1835788582 * t);
-        R1 += 0.00000008027 * Math.cos(1.94079002321 + 180.2738692309 * t);
-        R1 += 0.00000007547 * Math.cos(5.94593031762 + 97.4155158163 * t);
-        R1 += 0.00000007597 * Math.cos(5.80197738402 + 450.9772132642 * t);
-        R1 += 0.00000008666 * Math.cos(3.69933873164 + 300.6108669775 * t);
-        R1 += 0.00000007685 * Math.cos(1.47377256329 + 32.2433289144 * t);
-        R1 += 0.00000008195 * Math.cos(2.30769657654 + 254.9435932136 * t);
-        R1 += 0.00000008473 * Math.cos(1.27680705911 + 39.3568759152 * t);
-        R1 += 0.00000007026 * Math.cos(0.68091865104 + 874.3940104025 * t);
-        R1 += 0.00000008898 * Math.cos(0.16273040357 + 43.1289704839 * t);
-        R1 += 0.00000007205 * Math.cos(4.98177531040 + 117.9105690512 * t);
-        R1 += 0.00000007389 * Math.cos(4.09295183164 + 92.3077063856 * t);
-        R1 += 0.00000007314 * Math.cos(5.04313738379 + 756.3233826569 * t);
-        R1 += 0.00000008454 * Math.cos(1.22026161161 + 79.4474650133 * t);
-        R1 += 0.00000006925 * Math.cos(6.04100189247 + 350.3321196004 * t);
-        R1 += 0.00000008793 * Math.cos(1.33398658801 + 48.7580447764 * t);
-        R1 += 0.00000007270 * Math.cos(3.32609286227 + 68.1893164283 * t);
-        R1 += 0.00000006825 * Math.cos(4.77832275072 + 142.6620984549 * t);
-        R1 += 0.00000006816 * Math.cos(3.90452052962 + 480.7728616238 * t);
-        R1 += 0.00000007062 * Math.cos(1.27536949417 + 68.5618234438 * t);
-        R1 += 0.00000007947 * Math.cos(4.29940380231 + 624.919432787 * t);
-        R1 += 0.00000006741 * Math.cos(5.43264472273 + 610.6923387854 * t);
-        R1 += 0.00000006529 * Math.cos(5.43599941795 + 88.7962442478 * t);
-        R1 += 0.00000007635 * Math.cos(4.81180007736 + 312.4597163935 * t);
-        R1 += 0.00000007235 * Math.cos(3.18370421558 + 268.4369740323 * t);
-        R1 += 0.00000008133 * Math.cos(1.98936178361 + 692.5874843535 * t);
-        R1 += 0.00000006477 * Math.cos(1.05238958778 + 685.4739373527 * t);
-        R1 += 0.00000006630 * Math.cos(1.37656948077 + 291.262087743 * t);
-        R1 += 0.00000006878 * Math.cos(2.59188446778 + 282.6640680339 * t);
-        R1 += 0.00000007123 * Math.cos(5.79744758808 + 468.2426886516 * t);
-        R1 += 0.00000006320 * Math.cos(2.58497126634 + 458.090760265 * t);
-        R1 += 0.00000006222 * Math.cos(5.68982546821 + 113.8778420516 * t);
-        if (highAccuracy) {
-            R1 += 0.00000007635 * Math.cos(0.49482302003 + 296.1574488526 * t);
-            R1 += 0.00000008521 * Math.cos(0.00576688485 + 227.3137411185 * t);
-            R1 += 0.00000006520 * Math.cos(3.99093726386 + 42.5382696529 * t);
-            R1 += 0.00000006435 * Math.cos(1.03721543102 + 365.9006739584 * t);
-            R1 += 0.00000006107 * Math.cos(0.35071886662 + 148.5999892881 * t);
-            R1 += 0.00000008199 * Math.cos(1.13448902886 + 69.1525242748 * t);
-            R1 += 0.00000006102 * Math.cos(0.94101111641 + 13.3333221243 * t);
-            R1 += 0.00000005989 * Math.cos(4.98445156102 + 184.0941479094 * t);
-            R1 += 0.00000006355 * Math.cos(0.16346166674 + 228.276948965 * t);
-            R1 += 0.00000007955 * Math.cos(4.03567630186 + 183.2428146475 * t);
-            R1 += 0.00000005884 * Math.cos(4.40842406038 + 19.1224551112 * t);
-            R1 += 0.00000005938 * Math.cos(5.40863870407 + 17.5261078183 * t);
-            R1 += 0.00000005869 * Math.cos(5.39494525133 + 95.3885263868 * t);
-            R1 += 0.00000005775 * Math.cos(2.81250784939 + 121.8427223143 * t);
-            R1 += 0.00000006070 * Math.cos(4.23605170027 + 119.5069163441 * t);
-            R1 += 0.00000006349 * Math.cos(3.52304701692 + 285.6330134505 * t);
-            R1 += 0.00000005780 * Math.cos(0.17831551537 + 458.8415197904 * t);
-            R1 += 0.00000005674 * Math.cos(4.16711163603 + 89.7594520943 * t);
-            R1 += 0.00000005534 * Math.cos(4.24741728108 + 75.5323580927 * t);
-            R1 += 0.00000005648 * Math.cos(2.81224199321 + 154.979823106 * t);
-            R1 += 0.00000006939 * Math.cos(3.31979953743 + 306.830642101 * t);
-            R1 += 0.00000005682 * Math.cos(4.79764449768 + 248.7238180901 * t);
-            R1 += 0.00000006087 * Math.cos(4.04640130992 + 271.4059194489 * t);
-            R1 += 0.00000006869 * Math.cos(1.34392408836 + 7.8643065262 * t);
-            R1 += 0.00000005611 * Math.cos(5.32955957046 + 920.8644333185 * t);
-            R1 += 0.00000006495 * Math.cos(0.45735814276 + 106.2741679563 * t);
-            R1 += 0.00000005353 * Math.cos(2.49825965802 + 24.1183899573 * t);
-            R1 += 0.00000006612 * Math.cos(5.24626646696 + 58.319272332 * t);
-            R1 += 0.00000005552 * Math.cos(0.24515487696 + 173.6815870919 * t);
-            R1 += 0.00000005209 * Math.cos(6.07866998675 + 134.0640787458 * t);
-            R1 += 0.00000005176 * Math.cos(3.69984512887 + 778.4147831847 * t);
-            R1 += 0.00000005949 * Math.cos(3.63204266272 + 189.7232222019 * t);
-            R1 += 0.00000006360 * Math.cos(0.35370738262 + 411.620337349 * t);
-            R1 += 0.00000005147 * Math.cos(1.55440402971 + 193.655375465 * t);
-            R1 += 0.00000006436 * Math.cos(5.18759014405 + 120.9913890524 * t);
-            R1 += 0.00000006994 * Math.cos(4.85978914075 + 419.4846438752 * t);
-            R1 += 0.00000005323 * Math.cos(0.50787742639 + 16.4623262353 * t);
-            R1 += 0.00000005085 * Math.cos(1.28917723765 + 267.4737661858 * t);
-            R1 += 0.00000005993 * Math.cos(4.70505267412 + 298.2326223919 * t);
-            R1 += 0.00000005507 * Math.cos(2.72405080404 + 986.0848043302 * t);
-            R1 += 0.00000006163 * Math.cos(1.87793216012 + 397.3932433474 * t);
-            R1 += 0.00000004846 * Math.cos(5.66714115710 + 90.8232336773 * t);
-            R1 += 0.00000004875 * Math.cos(1.24385851949 + 25.6028626656 * t);
-            R1 += 0.00000005374 * Math.cos(0.31175745933 + 192.6921676185 * t);
-            R1 += 0.00000005262 * Math.cos(1.85699096844 + 114.9416236346 * t);
-            R1 += 0.00000005373 * Math.cos(6.22242588334 + 91.4563731237 * t);
-            R1 += 0.00000005050 * Math.cos(3.39322756907 + 831.1049812242 * t);
-            R1 += 0.00000004637 * Math.cos(0.84958882655 + 403.0223176399 * t);
-            R1 += 0.00000006382 * Math.cos(2.77560901069 + 198.321241911 * t);
-            R1 += 0.00000004685 * Math.cos(4.94029403928 + 902.7051860538 * t);
-            R1 += 0.00000005005 * Math.cos(1.40309022449 + 6.1503391543 * t);
-            R1 += 0.00000005014 * Math.cos(5.57665259095 + 451.9404211107 * t);
-            R1 += 0.00000004580 * Math.cos(2.47734499363 + 31.2319369581 * t);
-            R1 += 0.00000005129 * Math.cos(3.23528704150 + 109.3125493421 * t);
-            R1 += 0.00000004459 * Math.cos(6.22635092697 + 207.8824694666 * t);
-            R1 += 0.00000005734 * Math.cos(0.96616252776 + 483.2205421786 * t);
-            R1 += 0.00000004425 * Math.cos(2.74721673213 + 823.9914342234 * t);
-            R1 += 0.00000004575 * Math.cos(1.87994871749 + 44.7253177768 * t);
-            R1 += 0.00000004748 * Math.cos(0.34902594832 + 457.8783119439 * t);
-            R1 += 0.00000004268 * Math.cos(4.89983575247 + 124.5028511902 * t);
-            R1 += 0.00000004709 * Math.cos(5.28612293112 + 449.2802922348 * t);
-            R1 += 0.00000005761 * Math.cos(2.09247769051 + 187.6962327724 * t);
-            R1 += 0.00000004284 * Math.cos(0.66132439268 + 210.3301500214 * t);
-            R1 += 0.00000004318 * Math.cos(1.68857333749 + 309.2783226558 * t);
-            R1 += 0.00000004332 * Math.cos(1.41872733238 + 25.1297819136 * t);
-            R1 += 0.00000004305 * Math.cos(1.05990546337 + 606.7601855223 * t);
-            R1 += 0.00000004519 * Math.cos(5.84384426255 + 905.8865797915 * t);
-            R1 += 0.00000003934 * Math.cos(0.41768897300 + 180.1619946463 * t);
-            R1 += 0.00000003973 * Math.cos(3.22666150606 + 639.897286314 * t);
-            R1 += 0.00000004871 * Math.cos(4.61331971606 + 258.0244132148 * t);
-            R1 += 0.00000004604 * Math.cos(4.77631056831 + 463.5073862364 * t);
-            R1 += 0.00000003943 * Math.cos(3.31312639875 + 107.4980082337 * t);
-            R1 += 0.00000004217 * Math.cos(0.73383451512 + 497.4476361802 * t);
-            R1 += 0.00000004057 * Math.cos(1.67333716577 + 7.4223635415 * t);
-            R1 += 0.00000003854 * Math.cos(6.13547145503 + 34.2008823747 * t);
-            R1 += 0.00000004617 * Math.cos(5.89829880253 + 303.8616966844 * t);
-            R1 += 0.00000005086 * Math.cos(2.85235518740 + 28.3111756513 * t);
-            R1 += 0.00000005337 * Math.cos(2.36556705745 + 477.8039162072 * t);
-            R1 += 0.00000004456 * Math.cos(1.74674336635 + 95.9792272178 * t);
-            R1 += 0.00000004138 * Math.cos(3.80344455465 + 460.5384408198 * t);
-            R1 += 0.00000003812 * Math.cos(2.48508006441 + 25.2727942655 * t);
-            R1 += 0.00000004732 * Math.cos(0.87519409311 + 255.0554677982 * t);
-            R1 += 0.00000003843 * Math.cos(4.02615028031 + 104.0077979553 * t);
-            R1 += 0.00000003776 * Math.cos(2.89171052095 + 27.0873353739 * t);
-            R1 += 0.00000004932 * Math.cos(0.36238909407 + 123.5396433437 * t);
-            R1 += 0.00000004371 * Math.cos(3.74322467592 + 376.1956146969 * t);
-            R1 += 0.00000003747 * Math.cos(3.04126115463 + 142.1408335931 * t);
-            R1 += 0.00000004232 * Math.cos(4.31629167726 + 446.3113468182 * t);
-            R1 += 0.00000003685 * Math.cos(3.26448469664 + 170.7608257851 * t);
-            R1 += 0.00000003575 * Math.cos(4.31199276037 + 572.2292347475 * t);
-            R1 += 0.00000003567 * Math.cos(4.08542270507 + 433.7117378768 * t);
-            R1 += 0.00000004496 * Math.cos(2.10358455875 + 838.218528225 * t);
-            R1 += 0.00000003505 * Math.cos(3.53902384390 + 520.129737539 * t);
-            R1 += 0.00000003524 * Math.cos(3.75716903766 + 473.068613792 * t);
-            R1 += 0.00000003962 * Math.cos(5.33706246667 + 43.2890291783 * t);
-            R1 += 0.00000003597 * Math.cos(3.65066955203 + 976.0023119128 * t);
-            R1 += 0.00000003487 * Math.cos(2.12239114397 + 316.3918696566 * t);
-            R1 += 0.00000003475 * Math.cos(4.44351326599 + 384.0599212231 * t);
-            R1 += 0.00000003628 * Math.cos(2.11511417759 + 73.1852512744 * t);
-            R1 += 0.00000003702 * Math.cos(3.86923731076 + 981.6313862053 * t);
-            R1 += 0.00000003687 * Math.cos(5.18698183343 + 993.198351331 * t);
-            R1 += 0.00000003599 * Math.cos(2.07986409347 + 47.6942631934 * t);
-            R1 += 0.00000003807 * Math.cos(4.21821126511 + 196.6243208816 * t);
-            R1 += 0.00000004707 * Math.cos(4.56309173897 + 47.061123747 * t);
-            R1 += 0.00000004312 * Math.cos(0.38740046308 + 988.532484885 * t);
-            R1 += 0.00000003867 * Math.cos(2.08559458308 + 457.3570470821 * t);
-            R1 += 0.00000004723 * Math.cos(4.16947683948 + 219.891377577 * t);
-            R1 += 0.00000003527 * Math.cos(0.20371576470 + 394.3548619616 * t);
-            R1 += 0.00000003644 * Math.cos(5.82023483708 + 586.3133163972 * t);
-            R1 += 0.00000003328 * Math.cos(2.93840719007 + 535.9107402181 * t);
-            R1 += 0.00000003321 * Math.cos(4.19289134366 + 114.1384744825 * t);
-            R1 += 0.00000004128 * Math.cos(3.06165703109 + 377.1588225434 * t);
-            R1 += 0.00000003545 * Math.cos(4.41886084391 + 1293.8786542777 * t);
-            R1 += 0.00000003295 * Math.cos(2.97049569593 + 15.1903018481 * t);
-            R1 += 0.00000003337 * Math.cos(6.23473900765 + 9947.0556815321 * t);
-            R1 += 0.00000003253 * Math.cos(5.22412177835 + 425.1137181677 * t);
-            R1 += 0.00000003677 * Math.cos(5.31389484415 + 141.6988906084 * t);
-            R1 += 0.00000003242 * Math.cos(4.68868636498 + 978.9712573294 * t);
-            R1 += 0.00000003266 * Math.cos(3.57072306171 + 17.2654753874 * t);
-            R1 += 0.00000003435 * Math.cos(0.52794358986 + 141.4864422873 * t);
-            R1 += 0.00000003242 * Math.cos(2.62760698007 + 6.592282139 * t);
-            R1 += 0.00000003613 * Math.cos(1.94737668557 + 661.0949149645 * t);
-            R1 += 0.00000003182 * Math.cos(0.36603315110 + 449.4927405559 * t);
-            R1 += 0.00000003311 * Math.cos(1.25616383318 + 233.9060232575 * t);
-            R1 += 0.00000003403 * Math.cos(6.03792583170 + 199.2844497575 * t);
-            R1 += 0.00000004196 * Math.cos(4.26442082589 + 381.6122406683 * t);
-            R1 += 0.00000003961 * Math.cos(4.53281422377 + 916.9322800554 * t);
-            R1 += 0.00000003846 * Math.cos(3.76849990033 + 8.5980197091 * t);
-            R1 += 0.00000003350 * Math.cos(5.63661413371 + 444.8268741099 * t);
-            R1 += 0.00000003780 * Math.cos(5.35722293289 + 328.2407190726 * t);
-            R1 += 0.00000003166 * Math.cos(2.16351748263 + 983.1158589136 * t);
-            R1 += 0.00000003538 * Math.cos(1.89746744103 + 280.9671470045 * t);
-            R1 += 0.00000003930 * Math.cos(2.09444900058 + 653.9813679637 * t);
-            R1 += 0.00000003282 * Math.cos(1.91872815218 + 2349.3284312038 * t);
-            R1 += 0.00000003269 * Math.cos(0.52855777633 + 450.4559484024 * t);
-            R1 += 0.00000003582 * Math.cos(1.60170266832 + 1587.5884225755 * t);
-            R1 += 0.00000003522 * Math.cos(2.51782036180 + 237.6781178262 * t);
-            R1 += 0.00000003024 * Math.cos(3.54567524563 + 94.4253185403 * t);
-            R1 += 0.00000003528 * Math.cos(4.79818282081 + 406.954470903 * t);
-            R1 += 0.00000002996 * Math.cos(2.59155293620 + 6133.5126528568 * t);
-            R1 += 0.00000003146 * Math.cos(2.18094827839 + 216.9224321604 * t);
-            R1 += 0.00000003610 * Math.cos(6.15486273902 + 171.6545976624 * t);
-            R1 += 0.00000002977 * Math.cos(0.69478628170 + 294.3004691288 * t);
-            R1 += 0.00000003377 * Math.cos(1.21382647091 + 162.8965192589 * t);
-            R1 += 0.00000003347 * Math.cos(4.14981703949 + 214.7835681463 * t);
-            R1 += 0.00000002953 * Math.cos(2.18721777019 + 597.3590166611 * t);
-            R1 += 0.00000004049 * Math.cos(3.15153850922 + 833.552661779 * t);
-            R1 += 0.00000003725 * Math.cos(5.84743216544 + 6058.7310542895 * t);
-            R1 += 0.00000003390 * Math.cos(1.18412112871 + 167.7224443993 * t);
-            R1 += 0.00000003142 * Math.cos(2.26934209337 + 517.1607921224 * t);
-            R1 += 0.00000004077 * Math.cos(0.07273073033 + 1190.0351205337 * t);
-            R1 += 0.00000003020 * Math.cos(2.64998251178 + 20.4468691251 * t);
-            R1 += 0.00000003926 * Math.cos(1.41612569694 + 346.1875180162 * t);
-            R1 += 0.00000003110 * Math.cos(1.11431255827 + 1044.4040766622 * t);
-            R1 += 0.00000002836 * Math.cos(0.62522723719 + 749.2098356561 * t);
-            R1 += 0.00000002831 * Math.cos(4.78996738581 + 820.0592809603 * t);
-            R1 += 0.00000002824 * Math.cos(0.87232289414 + 30.7106720963 * t);
-            R1 += 0.00000003114 * Math.cos(1.79734939525 + 414.0680179038 * t);
-            R1 += 0.00000002801 * Math.cos(3.99301180541 + 10063.7223490764 * t);
-            R1 += 0.00000003489 * Math.cos(1.86982946081 + 371.5297482509 * t);
-            R1 += 0.00000003725 * Math.cos(1.68366366742 + 683.9894646444 * t);
-            R1 += 0.00000003763 * Math.cos(3.28247771799 + 432.8179659995 * t);
-            R1 += 0.00000003493 * Math.cos(0.98765698465 + 9988.9407505091 * t);
-            R1 += 0.00000003523 * Math.cos(5.12512607932 + 105.380396079 * t);
-            R1 += 0.00000002839 * Math.cos(4.22662576295 + 990.2294059144 * t);
-            R1 += 0.00000003432 * Math.cos(2.80483162230 + 764.1876891831 * t);
-            R1 += 0.00000002733 * Math.cos(0.42373696972 + 354.9979860464 * t);
-            R1 += 0.00000003146 * Math.cos(5.19208910201 + 417.0369633204 * t);
-            R1 += 0.00000003041 * Math.cos(5.75641149588 + 409.9234163196 * t);
-            R1 += 0.00000003379 * Math.cos(5.47448876584 + 1396.2206689709 * t);
-            R1 += 0.00000003102 * Math.cos(0.41684444780 + 521.0929453855 * t);
-            R1 += 0.00000002863 * Math.cos(0.41519700992 + 894.8408795276 * t);
-            R1 += 0.00000002707 * Math.cos(3.60084311477 + 621.7380390493 * t);
-            R1 += 0.00000003128 * Math.cos(5.23384180625 + 424.1505103212 * t);
-            R1 += 0.00000003107 * Math.cos(2.44919355737 + 4.665866446 * t);
-            R1 += 0.00000002683 * Math.cos(3.88682711832 + 133.1008708993 * t);
-            R1 += 0.00000002660 * Math.cos(4.78670985324 + 362.8622925726 * t);
-            R1 += 0.00000003200 * Math.cos(1.88004939357 + 331.2096644892 * t);
-            R1 += 0.00000002730 * Math.cos(4.12217979791 + 600.5404103988 * t);
-            R1 += 0.00000003414 * Math.cos(4.93712749827 + 1140.38330388 * t);
-            R1 += 0.00000002653 * Math.cos(5.10283251074 + 118.0224436358 * t);
-            R1 += 0.00000003222 * Math.cos(4.76521772319 + 294.6729761443 * t);
-            R1 += 0.00000003289 * Math.cos(4.26401031509 + 544.5087599272 * t);
-            R1 += 0.00000003100 * Math.cos(5.47928527930 + 701.1855040626 * t);
-            R1 += 0.00000002785 * Math.cos(5.19343849039 + 144.8973306886 * t);
-            R1 += 0.00000002607 * Math.cos(4.72531286187 + 122.4758617607 * t);
-            R1 += 0.00000002581 * Math.cos(6.27329466695 + 908.3342603463 * t);
-            R1 += 0.00000003285 * Math.cos(1.95972622670 + 372.4235201282 * t);
-            R1 += 0.00000002897 * Math.cos(0.37378090180 + 582.3811631341 * t);
-            R1 += 0.00000002615 * Math.cos(2.25516923974 + 74.9940468884 * t);
-            R1 += 0.00000003582 * Math.cos(1.27992264402 + 987.5692770385 * t);
-            R1 += 0.00000003115 * Math.cos(5.10929689813 + 459.0539681115 * t);
-            R1 += 0.00000002857 * Math.cos(5.90256930211 + 525.2375469697 * t);
-            R1 += 0.00000002589 * Math.cos(1.83177157032 + 657.1627617014 * t);
-            R1 += 0.00000002539 * Math.cos(4.14968938109 + 74.7334144575 * t);
-            R1 += 0.00000002797 * Math.cos(2.82242772664 + 2036.8687148103 * t);
-            R1 += 0.00000002688 * Math.cos(2.16500211397 + 262.8078997398 * t);
-            R1 += 0.00000002744 * Math.cos(1.54445470732 + 28.5718080822 * t);
-            R1 += 0.00000002539 * Math.cos(0.46036497385 + 74.8297826771 * t);
-            R1 += 0.00000003322 * Math.cos(3.50108539407 + 82.6459050935 * t);
-            R1 += 0.00000002810 * Math.cos(6.06709915335 + 374.4986936675 * t);
-            R1 += 0.00000002504 * Math.cos(3.52394801700 + 1183.6723330583 * t);
-            R1 += 0.00000002565 * Math.cos(1.64023845161 + 73.4090004436 * t);
-            R1 += 0.00000002531 * Math.cos(3.50486296784 + 293.188503436 * t);
-            R1 += 0.00000002663 * Math.cos(4.23321349902 + 421.1815649046 * t);
-            R1 += 0.00000002793 * Math.cos(2.00644423849 + 75.0422309982 * t);
-            R1 += 0.00000002430 * Math.cos(1.56119387576 + 136.0698163159 * t);
-            R1 += 0.00000002553 * Math.cos(1.25909246207 + 670.4960838257 * t);
-            R1 += 0.00000002604 * Math.cos(3.87350462519 + 74.0308390419 * t);
-            R1 += 0.00000002510 * Math.cos(3.35948960782 + 464.9918589447 * t);
-            R1 += 0.00000003005 * Math.cos(0.81031349171 + 73.88782669 * t);
-            R1 += 0.00000003110 * Math.cos(6.14956891318 + 118.8737768977 * t);
-            R1 += 0.00000003234 * Math.cos(2.45751141361 + 98.3574718034 * t);
-            R1 += 0.00000002774 * Math.cos(6.26134027482 + 1022.3126761344 * t);
-            R1 += 0.00000002402 * Math.cos(4.38353347008 + 1303.2798231389 * t);
-            R1 += 0.00000003296 * Math.cos(3.84350963765 + 511.5317178299 * t);
-            R1 += 0.00000002800 * Math.cos(2.60339313269 + 74.5209661364 * t);
-            R1 += 0.00000003005 * Math.cos(0.76247280223 + 75.6753704446 * t);
-            R1 += 0.00000002434 * Math.cos(4.94784679430 + 969.6224780949 * t);
-            R1 += 0.00000002632 * Math.cos(0.63557110200 + 227.5261894396 * t);
-            R1 += 0.00000002669 * Math.cos(0.73340228210 + 73.0846775379 * t);
-            R1 += 0.00000002465 * Math.cos(1.30648773380 + 77.0692204277 * t);
-            R1 += 0.00000003237 * Math.cos(3.19110274211 + 1887.3055176757 * t);
-            R1 += 0.00000002395 * Math.cos(2.76580569447 + 768.8535556291 * t);
-            R1 += 0.00000003230 * Math.cos(0.01981320255 + 881.5075574033 * t);
-            R1 += 0.00000002747 * Math.cos(5.59085990261 + 388.7257876691 * t);
-            R1 += 0.00000003008 * Math.cos(5.65955463660 + 1969.2006632438 * t);
-            R1 += 0.00000003008 * Math.cos(0.91409756228 + 2118.7638603784 * t);
-            R1 += 0.00000002465 * Math.cos(0.26629856014 + 72.4939767069 * t);
-            R1 += 0.00000002629 * Math.cos(4.00618677646 + 26.0235537909 * t);
-            R1 += 0.00000002272 * Math.cos(2.77069357315 + 515.463871093 * t);
-            R1 += 0.00000002360 * Math.cos(4.12736987374 + 74.6215398729 * t);
-            R1 += 0.00000002255 * Math.cos(3.36574443950 + 286.596221297 * t);
-            R1 += 0.00000002211 * Math.cos(5.18239546182 + 59.2824801785 * t);
-            R1 += 0.00000002994 * Math.cos(2.83179016989 + 184.9879197867 * t);
-            R1 += 0.00000002492 * Math.cos(1.19872353228 + 383.0967133766 * t);
-            R1 += 0.00000002355 * Math.cos(0.48259604722 + 74.9416572617 * t);
-            R1 += 0.00000002185 * Math.cos(6.07997119980 + 63.6240237188 * t);
-            R1 += 0.00000002228 * Math.cos(1.42452148910 + 6219.339951688 * t);
-        }
-        return R1 * t;
-    }
-
-    public double R2(double t) // 192 terms of order 2
-    {
-        double R2 = 0;
-        R2 += 0.00022439904 * Math.cos(0.69953118760 + 74.7815985673 * t);
-        R2 += 0.00004727037 * Math.cos(1.69901641488 + 63.7358983034 * t);
-        R2 += 0.00001681903 * Math.cos(4.64833551727 + 70.8494453042 * t);
-        R2 += 0.00001433755 * Math.cos(3.52119917947 + 149.5631971346 * t);
-        R2 += 0.00001649559 * Math.cos(3.09660078980 + 11.0457002639 * t);
-        R2 += 0.00000770188;
-        R2 += 0.00000461009 * Math.cos(0.76676632849 + 3.9321532631 * t);
-        R2 += 0.00000500429 * Math.cos(6.17229032223 + 76.2660712756 * t);
-        R2 += 0.00000390371 * Math.cos(4.49605283502 + 56.6223513026 * t);
-        R2 += 0.00000389945 * Math.cos(5.52673426377 + 85.8272988312 * t);
-        R2 += 0.00000292097 * Math.cos(0.20389012095 + 52.6901980395 * t);
-        R2 += 0.00000272898 * Math.cos(3.84707823651 + 138.5174968707 * t);
-        R2 += 0.00000286579 * Math.cos(3.53357683270 + 73.297125859 * t);
-        R2 += 0.00000205449 * Math.cos(3.24758017121 + 78.7137518304 * t);
-        R2 += 0.00000219674 * Math.cos(1.96418942891 + 131.4039498699 * t);
-        R2 += 0.00000215788 * Math.cos(0.84812474187 + 77.962992305 * t);
-        R2 += 0.00000128834 * Math.cos(2.08146849515 + 3.1813937377 * t);
-        R2 += 0.00000148554 * Math.cos(4.89840863841 + 127.4717966068 * t);
-        R2 += 0.00000117452 * Math.cos(4.93414907433 + 447.7958195265 * t);
-        R2 += 0.00000112690 * Math.cos(1.01361852218 + 462.0229135281 * t);
-        R2 += 0.00000098875 * Math.cos(6.15817742611 + 224.3447957019 * t);
-        R2 += 0.00000091379 * Math.cos(0.67973399531 + 18.1592472647 * t);
-        R2 += 0.00000089217 * Math.cos(0.23425778826 + 202.2533951741 * t);
-        R2 += 0.00000088206 * Math.cos(2.93094837724 + 62.2514255951 * t);
-        R2 += 0.00000114066 * Math.cos(4.78741873960 + 145.6310438715 * t);
-        R2 += 0.00000103858 * Math.cos(3.58561789629 + 71.6002048296 * t);
-        R2 += 0.00000061819 * Math.cos(3.29964272893 + 351.8165923087 * t);
-        R2 += 0.00000057782 * Math.cos(4.90737420887 + 22.0914005278 * t);
-        R2 += 0.00000064369 * Math.cos(3.39006689398 + 1.4844727083 * t);
-        R2 += 0.00000071110 * Math.cos(6.10490061068 + 454.9093665273 * t);
-        R2 += 0.00000050990 * Math.cos(3.86691997779 + 65.2203710117 * t);
-        R2 += 0.00000063537 * Math.cos(3.96202309168 + 67.6680515665 * t);
-        R2 += 0.00000058957 * Math.cos(5.55530463687 + 9.5612275556 * t);
-        R2 += 0.00000048700 * Math.cos(3.74709235789 + 269.9214467406 * t);
-        R2 += 0.00000043584 * Math.cos(1.92568752002 + 59.8037450403 * t);
-        R2 += 0.00000042170 * Math.cos(2.61650997054 + 151.0476698429 * t);
-        R2 += 0.00000042420 * Math.cos(6.13634453301 + 284.1485407422 * t);
-        R2 += 0.00000044340 * Math.cos(5.89997845114 + 71.8126531507 * t);
-        R2 += 0.00000037328 * Math.cos(5.91300114911 + 984.6003316219 * t);
-        R2 += 0.00000036201 * Math.cos(5.40315761474 + 77.7505439839 * t);
-        R2 += 0.00000041989 * Math.cos(2.09071623849 + 12.5301729722 * t);
-        R2 += 0.00000031411 * Math.cos(4.59200004835 + 148.0787244263 * t);
-        R2 += 0.00000031289 * Math.cos(2.26696307388 + 195.1398481733 * t);
-        R2 += 0.00000027150 * Math.cos(3.53242984046 + 209.3669421749 * t);
-        R2 += 0.00000028152 * Math.cos(4.57845964163 + 77.2292791221 * t);
-        R2 += 0.00000026097 * Math.cos(0.65978256272 + 120.358249606 * t);
-        R2 += 0.00000024372 * Math.cos(5.86680440531 + 69.3649725959 * t);
-        R2 += 0.00000023037 * Math.cos(1.03776963677 + 84.3428261229 * t);
-        R2 += 0.00000022679 * Math.cos(1.71434243970 + 160.6088973985 * t);
-        R2 += 0.00000027650 * Math.cos(4.91488946525 + 277.0349937414 * t);
-        R2 += 0.00000020816 * Math.cos(2.19643268155 + 45.5766510387 * t);
-        R2 += 0.00000019961 * Math.cos(2.32077356180 + 2.4476805548 * t);
-        R2 += 0.00000016584 * Math.cos(4.77529536873 + 213.299095438 * t);
-        R2 += 0.00000016578 * Math.cos(1.85615182154 + 340.7708920448 * t);
-        R2 += 0.00000017196 * Math.cos(4.36852462522 + 54.1746707478 * t);
-        R2 += 0.00000016053 * Math.cos(3.64619586667 + 152.7445908723 * t);
-        R2 += 0.00000014806 * Math.cos(5.43824503068 + 408.4389436113 * t);
-        R2 += 0.00000013872 * Math.cos(3.38531100784 + 358.9301393095 * t);
-        R2 += 0.00000013328 * Math.cos(5.25179190495 + 137.0330241624 * t);
-        R2 += 0.00000013286 * Math.cos(1.26285812368 + 134.5853436076 * t);
-        R2 += 0.00000012890 * Math.cos(3.03270380745 + 92.940845832 * t);
-        R2 += 0.00000012467 * Math.cos(1.33213558369 + 51.2057253312 * t);
-        R2 += 0.00000013450 * Math.cos(1.53176996919 + 422.6660376129 * t);
-        R2 += 0.00000016442 * Math.cos(0.40190549188 + 265.9892934775 * t);
-        R2 += 0.00000011996 * Math.cos(5.10426418352 + 191.2076949102 * t);
-        R2 += 0.00000012898 * Math.cos(4.43242192513 + 87.3117715395 * t);
-        R2 += 0.00000011449 * Math.cos(2.02645622099 + 7.1135470008 * t);
-        R2 += 0.00000011826 * Math.cos(4.65645290272 + 41.6444977756 * t);
-        R2 += 0.00000012045 * Math.cos(3.23910807852 + 116.4260963429 * t);
-        R2 += 0.00000011680 * Math.cos(3.73278249629 + 220.4126424388 * t);
-        R2 += 0.00000011573 * Math.cos(4.16500659139 + 60.5545045657 * t);
-        R2 += 0.00000010175 * Math.cos(0.32936886913 + 70.3281804424 * t);
-        R2 += 0.00000011332 * Math.cos(1.07613885149 + 72.3339180125 * t);
-        R2 += 0.00000009655 * Math.cos(3.05950236129 + 2.9689454166 * t);
-        R2 += 0.00000009279 * Math.cos(2.43997351068 + 565.1156877467 * t);
-        R2 += 0.00000008986 * Math.cos(5.18839740735 + 225.8292684102 * t);
-        R2 += 0.00000010284 * Math.cos(1.18602582060 + 344.7030453079 * t);
-        R2 += 0.00000008844 * Math.cos(6.00894470528 + 5.4166259714 * t);
-        R2 += 0.00000008508 * Math.cos(5.24741470216 + 347.8844390456 * t);
-        R2 += 0.00000008319 * Math.cos(3.71723808749 + 14.977853527 * t);
-        R2 += 0.00000008276 * Math.cos(2.27408171672 + 299.1263942692 * t);
-        R2 += 0.00000008064 * Math.cos(5.71681525179 + 55.1378785943 * t);
-        R2 += 0.00000007830 * Math.cos(0.90313686798 + 222.8603229936 * t);
-        R2 += 0.00000008335 * Math.cos(4.48600419464 + 70.1157321213 * t);
-        R2 += 0.00000008763 * Math.cos(5.81519440120 + 153.4953503977 * t);
-        R2 += 0.00000008472 * Math.cos(3.91387041805 + 333.657345044 * t);
-        R2 += 0.00000009874 * Math.cos(5.96526143660 + 35.1640902212 * t);
-        R2 += 0.00000009647 * Math.cos(0.38872626737 + 415.5524906121 * t);
-        R2 += 0.00000007106 * Math.cos(1.50598488470 + 991.7138786227 * t);
-        R2 += 0.00000006596 * Math.cos(1.18068235818 + 96.8729990951 * t);
-        R2 += 0.00000008065 * Math.cos(2.25930653257 + 206.1855484372 * t);
-        R2 += 0.00000006479 * Math.cos(2.99461362786 + 380.12776796 * t);
-        R2 += 0.00000009012 * Math.cos(6.05343622530 + 146.3818033969 * t);
-        R2 += 0.00000006131 * Math.cos(0.05596259493 + 99.1606209555 * t);
-        R2 += 0.00000005799 * Math.cos(0.82465326137 + 142.4496501338 * t);
-        R2 += 0.00000005816 * Math.cos(4.63029217647 + 49.5088043018 * t);
-        R2 += 0.00000005608 * Math.cos(0.66268449799 + 58.1068240109 * t);
-        R2 += 0.00000005966 * Math.cos(2.48916255408 + 373.0142209592 * t);
-        R2 += 0.00000005710 * Math.cos(2.23566160404 + 80.1982245387 * t);
-        R2 += 0.00000005272 * Math.cos(5.06746739956 + 440.6822725257 * t);
-        R2 += 0.00000005162 * Math.cos(4.36457872885 + 977.4867846211 * t);
-        R2 += 0.00000005428 * Math.cos(0.85181859845 + 546.956440482 * t);
-        R2 += 0.00000005766 * Math.cos(0.34229025692 + 536.8045120954 * t);
-        R2 += 0.00000005924 * Math.cos(5.48443563529 + 76.4785195967 * t);
-        R2 += 0.00000005340 * Math.cos(3.73073116400 + 23.5758732361 * t);
-        R2 += 0.00000005174 * Math.cos(4.13873402677 + 132.8884225782 * t);
-        R2 += 0.00000005310 * Math.cos(6.14059082194 + 39.6175083461 * t);
-        R2 += 0.00000005790 * Math.cos(3.39593613152 + 458.090760265 * t);
-        R2 += 0.00000005007 * Math.cos(4.25821412289 + 522.5774180938 * t);
-        R2 += 0.00000004967 * Math.cos(4.79184817938 + 387.2413149608 * t);
-        R2 += 0.00000005183 * Math.cos(3.25775152471 + 561.1835344836 * t);
-        R2 += 0.00000004602 * Math.cos(1.69262282455 + 152.5321425512 * t);
-        R2 += 0.00000005302 * Math.cos(1.83522660093 + 124.2904028691 * t);
-        R2 += 0.00000005005 * Math.cos(0.36630565950 + 60.7669528868 * t);
-        R2 += 0.00000004454 * Math.cos(2.30288945184 + 312.4597163935 * t);
-        R2 += 0.00000004457 * Math.cos(0.45775730382 + 33.1371007917 * t);
-        R2 += 0.00000005722 * Math.cos(0.89523844278 + 81.8951455681 * t);
-        R2 += 0.00000005842 * Math.cos(0.92039543147 + 20.6069278195 * t);
-        R2 += 0.00000005743 * Math.cos(0.66226484448 + 38.1330356378 * t);
-        R2 += 0.00000004255 * Math.cos(3.55373860346 + 479.2883889155 * t);
-        R2 += 0.00000004190 * Math.cos(4.37674804409 + 79.2350166922 * t);
-        R2 += 0.00000004194 * Math.cos(1.64986267170 + 128.9562693151 * t);
-        R2 += 0.00000005125 * Math.cos(1.40553011416 + 144.1465711632 * t);
-        R2 += 0.00000004045 * Math.cos(6.07362424798 + 19.643719973 * t);
-        R2 += 0.00000003984 * Math.cos(5.77178406410 + 288.0806940053 * t);
-        R2 += 0.00000005017 * Math.cos(2.99521887648 + 29.2049475286 * t);
-        R2 += 0.00000003842 * Math.cos(2.60024827897 + 426.598190876 * t);
-        R2 += 0.00000003861 * Math.cos(3.19886211335 + 159.1244246902 * t);
-        R2 += 0.00000003870 * Math.cos(4.43713601497 + 141.6988906084 * t);
-        R2 += 0.00000005316 * Math.cos(4.07970979457 + 111.4301614968 * t);
-        R2 += 0.00000004553 * Math.cos(0.01384318412 + 298.2326223919 * t);
-        R2 += 0.00000003737 * Math.cos(5.28319518103 + 353.301065017 * t);
-        R2 += 0.00000003939 * Math.cos(5.27301148162 + 521.0929453855 * t);
-        R2 += 0.00000003710 * Math.cos(5.15385470848 + 490.3340891794 * t);
-        R2 += 0.00000004039 * Math.cos(0.60924359087 + 152.0108776894 * t);
-        R2 += 0.00000003861 * Math.cos(1.34394383700 + 535.3200393871 * t);
-        R2 += 0.00000004385 * Math.cos(0.62057680100 + 827.1728279611 * t);
-        R2 += 0.00000003567 * Math.cos(4.71986443303 + 6.9010986797 * t);
-        if (highAccuracy) {
-            R2 += 0.00000003576 * Math.cos(3.24526237368 + 230.5645708254 * t);
-            R2 += 0.00000003469 * Math.cos(0.79054323335 + 983.1158589136 * t);
-            R2 += 0.00000004524 * Math.cos(2.86819565712 + 129.9194771616 * t);
-            R2 += 0.00000003648 * Math.cos(5.59395544992 + 774.4826299216 * t);
-            R2 += 0.00000003513 * Math.cos(4.49630054276 + 376.1956146969 * t);
-            R2 += 0.00000003432 * Math.cos(2.55614913808 + 258.8757464767 * t);
-            R2 += 0.00000004352 * Math.cos(2.09804374929 + 404.5067903482 * t);
-            R2 += 0.00000003336 * Math.cos(0.89628904042 + 469.1364605289 * t);
-            R2 += 0.00000003274 * Math.cos(3.86236880159 + 42.5382696529 * t);
-            R2 += 0.00000003201 * Math.cos(2.76459652868 + 248.7238180901 * t);
-            R2 += 0.00000003184 * Math.cos(0.07709843451 + 1514.2912967165 * t);
-            R2 += 0.00000003783 * Math.cos(5.29835962126 + 369.0820676961 * t);
-            R2 += 0.00000003266 * Math.cos(2.24754480216 + 73.8183907208 * t);
-            R2 += 0.00000003055 * Math.cos(2.60120354415 + 433.7117378768 * t);
-            R2 += 0.00000003051 * Math.cos(4.54953369151 + 980.6681783588 * t);
-            R2 += 0.00000003062 * Math.cos(1.27089879603 + 200.7689224658 * t);
-            R2 += 0.00000003055 * Math.cos(1.70878161343 + 639.897286314 * t);
-            R2 += 0.00000003110 * Math.cos(3.63187411723 + 16.6747745564 * t);
-            R2 += 0.00000003472 * Math.cos(4.93521260607 + 411.620337349 * t);
-            R2 += 0.00000003531 * Math.cos(4.49372794858 + 881.5075574033 * t);
-            R2 += 0.00000003284 * Math.cos(5.59170577331 + 472.1748419147 * t);
-            R2 += 0.00000003015 * Math.cos(6.02967446446 + 291.262087743 * t);
-            R2 += 0.00000003467 * Math.cos(2.17484439267 + 554.0699874828 * t);
-            R2 += 0.00000003138 * Math.cos(0.52367930477 + 1094.8066528413 * t);
-            R2 += 0.00000003257 * Math.cos(2.49339546514 + 451.7279727896 * t);
-            R2 += 0.00000002881 * Math.cos(0.50481204892 + 305.3461693927 * t);
-            R2 += 0.00000003082 * Math.cos(4.20145474081 + 146.594251718 * t);
-            R2 += 0.00000002883 * Math.cos(2.44983947531 + 135.336103133 * t);
-            R2 += 0.00000002965 * Math.cos(0.39294995530 + 25.2727942655 * t);
-            R2 += 0.00000002831 * Math.cos(2.52728803131 + 867.2804634017 * t);
-            R2 += 0.00000002728 * Math.cos(5.29491477549 + 125.9873238985 * t);
-            R2 += 0.00000002857 * Math.cos(4.71106805785 + 218.9281697305 * t);
-            R2 += 0.00000002763 * Math.cos(4.27510031656 + 350.3321196004 * t);
-            R2 += 0.00000002730 * Math.cos(1.98552777251 + 82.8583534146 * t);
-            R2 += 0.00000002857 * Math.cos(3.08706426922 + 216.4804891757 * t);
-            R2 += 0.00000003365 * Math.cos(3.67691210011 + 661.0949149645 * t);
-            R2 += 0.00000002925 * Math.cos(1.43646759644 + 381.6122406683 * t);
-            R2 += 0.00000002753 * Math.cos(0.39468041761 + 33.6796175129 * t);
-            R2 += 0.00000002756 * Math.cos(4.62672498840 + 1357.6145525811 * t);
-            R2 += 0.00000003450 * Math.cos(2.12911756067 + 685.4739373527 * t);
-            R2 += 0.00000002571 * Math.cos(5.92862393284 + 89.7594520943 * t);
-            R2 += 0.00000002677 * Math.cos(0.76342313946 + 486.4019359163 * t);
-            R2 += 0.00000002689 * Math.cos(4.16436463826 + 235.3904959658 * t);
-            R2 += 0.00000002646 * Math.cos(3.81808560938 + 550.8885937451 * t);
-            R2 += 0.00000003369 * Math.cos(3.17071565345 + 108.4612160802 * t);
-            R2 += 0.00000002613 * Math.cos(5.68333838067 + 24.3790223882 * t);
-            R2 += 0.00000002736 * Math.cos(1.87107584495 + 529.6909650946 * t);
-            R2 += 0.00000002606 * Math.cos(4.36605237304 + 1080.5795588397 * t);
-            R2 += 0.00000002407 * Math.cos(3.07343136742 + 391.1734682239 * t);
-            R2 += 0.00000002446 * Math.cos(5.73846381540 + 535.9107402181 * t);
-            R2 += 0.00000002334 * Math.cos(5.18878243102 + 1059.3819301892 * t);
-            R2 += 0.00000002568 * Math.cos(1.09886876369 + 913.0001267923 * t);
-            R2 += 0.00000002236 * Math.cos(6.10115874045 + 140.001969579 * t);
-            R2 += 0.00000003053 * Math.cos(5.35047433775 + 681.5417840896 * t);
-        }
-        return R2 * t * t;
-    }
-
-    public double R3(double t) // 55 terms of order 3
-    {
-        double R3 = 0;
-        R3 += 0.00001164382 * Math.cos(4.73453291602 + 74.7815985673 * t);
-        R3 += 0.00000212367 * Math.cos(3.34255734999 + 63.7358983034 * t);
-        R3 += 0.00000196408 * Math.cos(2.98004616318 + 70.8494453042 * t);
-        R3 += 0.00000104527 * Math.cos(0.95807937648 + 11.0457002639 * t);
-        R3 += 0.00000071681 * Math.cos(0.02528455665 + 56.6223513026 * t);
-        R3 += 0.00000072540 * Math.cos(0.99701907912 + 149.5631971346 * t);
-        R3 += 0.00000054875 * Math.cos(2.59436811267 + 3.9321532631 * t);
-        R3 += 0.00000034029 * Math.cos(3.81553325635 + 76.2660712756 * t);
-        R3 += 0.00000032081 * Math.cos(3.59825177840 + 131.4039498699 * t);
-        R3 += 0.00000029641 * Math.cos(3.44111535957 + 85.8272988312 * t);
-        R3 += 0.00000036377 * Math.cos(5.65035573017 + 77.962992305 * t);
-        R3 += 0.00000027663 * Math.cos(0.42836001470 + 3.1813937377 * t);
-        R3 += 0.00000027464 * Math.cos(2.55126467481 + 52.6901980395 * t);
-        R3 += 0.00000024569 * Math.cos(5.14034173566 + 78.7137518304 * t);
-        R3 += 0.00000019390 * Math.cos(5.13477648625 + 18.1592472647 * t);
-        R3 += 0.00000015767 * Math.cos(0.37116951743 + 447.7958195265 * t);
-        R3 += 0.00000015441 * Math.cos(5.57271837433 + 462.0229135281 * t);
-        R3 += 0.00000015232 * Math.cos(3.85998573509 + 73.297125859 * t);
-        R3 += 0.00000015475 * Math.cos(2.97496547327 + 145.6310438715 * t);
-        R3 += 0.00000017951;
-        R3 += 0.00000015958 * Math.cos(5.19915553904 + 71.6002048296 * t);
-        R3 += 0.00000011056 * Math.cos(6.03152659562 + 138.5174968707 * t);
-        R3 += 0.00000010529 * Math.cos(3.58261852497 + 224.3447957019 * t);
-        R3 += 0.00000007606 * Math.cos(1.44542030704 + 1.4844727083 * t);
-        R3 += 0.00000008121 * Math.cos(2.61579604319 + 22.0914005278 * t);
-        R3 += 0.00000007107 * Math.cos(5.43946774526 + 269.9214467406 * t);
-        R3 += 0.00000006459 * Math.cos(4.37142319461 + 284.1485407422 * t);
-        R3 += 0.00000006818 * Math.cos(0.01396812984 + 151.0476698429 * t);
-        R3 += 0.00000008101 * Math.cos(0.29563819537 + 127.4717966068 * t);
-        R3 += 0.00000005768 * Math.cos(4.22672716593 + 373.0142209592 * t);
-        R3 += 0.00000005022 * Math.cos(1.84154937974 + 202.2533951741 * t);
-        R3 += 0.00000004692 * Math.cos(2.78404575440 + 120.358249606 * t);
-        R3 += 0.00000005087 * Math.cos(0.77745294804 + 62.2514255951 * t);
-        R3 += 0.00000004160 * Math.cos(1.83820502779 + 72.3339180125 * t);
-        R3 += 0.00000003922 * Math.cos(1.88900691473 + 209.3669421749 * t);
-        R3 += 0.00000005201 * Math.cos(4.15791319343 + 195.1398481733 * t);
-        R3 += 0.00000003636 * Math.cos(1.99709010456 + 65.2203710117 * t);
-        R3 += 0.00000003582 * Math.cos(3.92592140377 + 124.2904028691 * t);
-        R3 += 0.00000003808 * Math.cos(1.04818660873 + 92.940845832 * t);
-        R3 += 0.00000004241 * Math.cos(3.95755998904 + 9.5612275556 * t);
-        R3 += 0.00000003497 * Math.cos(1.54139696251 + 148.0787244263 * t);
-        R3 += 0.00000003195 * Math.cos(2.98608971329 + 387.2413149608 * t);
-        R3 += 0.00000003950 * Math.cos(1.85721204932 + 152.7445908723 * t);
-        R3 += 0.00000003277 * Math.cos(1.40881404192 + 351.8165923087 * t);
-        R3 += 0.00000003605 * Math.cos(1.17366167402 + 153.4953503977 * t);
-        R3 += 0.00000002940 * Math.cos(6.03594958459 + 12.5301729722 * t);
-        R3 += 0.00000002744 * Math.cos(5.64674283515 + 134.5853436076 * t);
-        R3 += 0.00000002800 * Math.cos(0.79480255927 + 572.2292347475 * t);
-        R3 += 0.00000003054 * Math.cos(5.84310939105 + 160.6088973985 * t);
-        R3 += 0.00000002662 * Math.cos(1.98593312104 + 450.9772132642 * t);
-        R3 += 0.00000002700 * Math.cos(2.77036653988 + 213.299095438 * t);
-        R3 += 0.00000002323 * Math.cos(1.67918985468 + 358.9301393095 * t);
-        R3 += 0.00000002254 * Math.cos(5.77129530133 + 84.3428261229 * t);
-        R3 += 0.00000002291 * Math.cos(4.81424601600 + 536.8045120954 * t);
-        R3 += 0.00000002213 * Math.cos(2.20360299816 + 465.9550667912 * t);
-        return R3 * t * t * t;
-    }
-
-    public double R4(double t) // 11 terms of order 4
-    {
-        double R4 = 0;
-        R4 += 0.00000052996 * Math.cos(3.00838033088 + 74.7815985673 * t);
-        R4 += 0.00000009887 * Math.cos(1.91399083603 + 56.6223513026 * t);
-        R4 += 0.00000007008 * Math.cos(5.08677527404 + 11.0457002639 * t);
-        R4 += 0.00000006728 * Math.cos(5.42924958121 + 149.5631971346 * t);
-        R4 += 0.00000003703 * Math.cos(5.22728581851 + 131.4039498699 * t);
-        R4 += 0.00000003361 * Math.cos(1.29695290266 + 85.8272988312 * t);
-        R4 += 0.00000002664 * Math.cos(0.44064577837 + 63.7358983034 * t);
-        R4 += 0.00000002309 * Math.cos(0.92380720934 + 145.6310438715 * t);
-        R4 += 0.00000002383 * Math.cos(6.21390585593 + 358.9301393095 * t);
-        R4 += 0.00000002288 * Math.cos(2.23425399117 + 440.6822725257 * t);
-        R4 -= 0.00000003093;
-        return R4 * t * t * t * t;
-    }
-
-    public double R5(double t) // 1 term of order 5
-    {
-        double R5 = 0;
-        R5 += 0.00000000000;
-        return R5 * t * t * t * t * t;
-    }
-
 }
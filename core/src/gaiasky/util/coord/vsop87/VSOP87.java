@@ -30,7 +30,7 @@ public class VSOP87 {
         tried = new HashMap<>();
     }
 
-    public iVSOP87 getVOSP87(String cb) {
+    public synchronized iVSOP87 getVOSP87(String cb) {
         if (!tried.containsKey(cb) || !tried.get(cb)) {
             // Initialize
             String pkg = "gaiasky.util.coord.vsop87.";
@@ -0,0 +1,237 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.util.coord.vsop87;
+
+import gaiasky.util.Logger;
+import gaiasky.util.Logger.Log;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Coefficients of the VSOP87 series of a planet. They are read once from the data file of the planet in
+ * <code>data/vsop87</code>, in the classpath, and shared by all the coordinate objects of the planet.
+ * <p>
+ * Each variable (L, B and R) is a polynomial in t of the series of orders 0 to 5, and each series is a sum of terms
+ * <code>A cos(B + C t)</code>. The terms of each series are sorted by decreasing amplitude, so that the series can be
+ * truncated to the terms above an amplitude threshold just by evaluating fewer terms. The threshold is relative: the
+ * amplitudes of L and B are in radians, and the amplitudes of R are divided by the mean distance of the planet, so
+ * that the same threshold gives about the same relative error in all variables and planets.
+ */
+public class VSOP87Table {
+    private static final Log logger = Logger.getLogger(VSOP87Table.class);
+
+    /** Indices of the variables. **/
+    public static final int L = 0, B = 1, R = 2;
+    /** Number of series (orders) of each variable. **/
+    public static final int N_ORDERS = 6;
+    /** Number of series. **/
+    public static final int N_SERIES = 3 * N_ORDERS;
+
+    private static final Map<String, VSOP87Table> tables = new HashMap<>();
+
+    /** Terms of each series, indexed by <code>variable * N_ORDERS + order</code>, sorted by decreasing amplitude. **/
+    private final double[][] a, b, c;
+    /** Sums of the absolute amplitudes of the terms from each index to the end of each series, for the error bounds. **/
+    private final double[][] tail;
+    /** Scale of the amplitudes of each variable. **/
+    private final double[] scale;
+
+    private VSOP87Table(double[][] a, double[][] b, double[][] c) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.tail = new double[N_SERIES][];
+        for (int s = 0; s < N_SERIES; s++) {
+            tail[s] = new double[a[s].length + 1];
+            for (int i = a[s].length - 1; i >= 0; i--) {
+                tail[s][i] = tail[s][i + 1] + Math.abs(a[s][i]);
+            }
+        }
+        // The largest term of R0 is the constant term, the mean distance
+        double meanDistance = a[R * N_ORDERS].length > 0 ? Math.abs(a[R * N_ORDERS][0]) : 1;
+        this.scale = new double[] { 1, 1, meanDistance > 0 ? meanDistance : 1 };
+    }
+
+    /**
+     * Gets the table of the given planet, loading it the first time.
+     *
+     * @param name The name of the planet, in lower case.
+     *
+     * @return The table, or null if it could not be loaded.
+     */
+    public static synchronized VSOP87Table get(String name) {
+        if (!tables.containsKey(name)) {
+            VSOP87Table table = null;
+            try {
+                table = load(name);
+            } catch (Exception e) {
+                logger.error(e, "Error loading VSOP87 table: " + name);
+            }
+            tables.put(name, table);
+        }
+        return tables.get(name);
+    }
+
+    private static VSOP87Table load(String name) throws IOException {
+        final String file = "/data/vsop87/" + name + ".txt";
+        final InputStream is = VSOP87Table.class.getResourceAsStream(file);
+        if (is == null) {
+            throw new IOException("File not found in classpath: " + file);
+        }
+        final double[][] a = new double[N_SERIES][0], b = new double[N_SERIES][0], c = new double[N_SERIES][0];
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.US_ASCII))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                // Series header: variable, order and number of terms
+                String[] header = line.trim().split("\\s+");
+                int variable = "LBR".indexOf(header[0]);
+                int order = Integer.parseInt(header[1]);
+                int n = Integer.parseInt(header[2]);
+                if (header[0].length() != 1 || variable < 0 || order < 0 || order >= N_ORDERS) {
+                    throw new IOException("Wrong series header in " + file + ": " + line);
+                }
+                double[][] terms = new double[n][];
+                for (int i = 0; i < n; i++) {
+                    line = reader.readLine();
+                    if (line == null) {
+                        throw new IOException("Unexpected end of file in " + file);
+                    }
+                    String[] tokens = line.trim().split("\\s+");
+                    terms[i] = new double[] { Double.parseDouble(tokens[0]), Double.parseDouble(tokens[1]), Double.parseDouble(tokens[2]) };
+                }
+                // Stable sort, by decreasing amplitude
+                Arrays.sort(terms, Comparator.comparingDouble((double[] term) -> Math.abs(term[0])).reversed());
+                final int s = variable * N_ORDERS + order;
+                a[s] = IntStream.range(0, n).mapToDouble(i -> terms[i][0]).toArray();
+                b[s] = IntStream.range(0, n).mapToDouble(i -> terms[i][1]).toArray();
+                c[s] = IntStream.range(0, n).mapToDouble(i -> terms[i][2]).toArray();
+            }
+        }
+        return new VSOP87Table(a, b, c);
+    }
+
+    /**
+     * Computes the number of terms of each series whose relative amplitude is at least the given threshold.
+     *
+     * @param threshold The relative amplitude threshold. Zero keeps all terms.
+     *
+     * @return The number of terms of each series.
+     */
+    public int[] counts(double threshold) {
+        int[] counts = new int[N_SERIES];
+        for (int s = 0; s < N_SERIES; s++) {
+            final double[] a = this.a[s];
+            final double min = threshold * scale[s / N_ORDERS];
+            // Amplitudes are sorted in decreasing absolute value
+            int lo = 0, hi = a.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (Math.abs(a[mid]) >= min) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            counts[s] = lo;
+        }
+        return counts;
+    }
+
+    /**
+     * Evaluates the given variable, truncating each series to the given number of terms.
+     *
+     * @param variable The variable, {@link #L}, {@link #B} or {@link #R}.
+     * @param t        The time, in Julian millennia since J2000.
+     * @param counts   The number of terms of each series, see {@link #counts(double)}.
+     *
+     * @return The value of the variable.
+     */
+    public double evaluate(int variable, double t, int[] counts) {
+        double value = 0;
+        for (int order = N_ORDERS - 1; order >= 0; order--) {
+            final int s = variable * N_ORDERS + order;
+            value = value * t + sum(s, t, counts[s]);
+        }
+        return value;
+    }
+
+    /**
+     * Evaluates the given series, truncated to the given number of terms, without the factor <code>t^order</code>.
+     *
+     * @param variable The variable, {@link #L}, {@link #B} or {@link #R}.
+     * @param order    The order of the series.
+     * @param t        The time, in Julian millennia since J2000.
+     * @param count    The number of terms.
+     *
+     * @return The sum of the terms.
+     */
+    public double series(int variable, int order, double t, int count) {
+        return sum(variable * N_ORDERS + order, t, count);
+    }
+
+    private double sum(int s, double t, int n) {
+        final double[] a = this.a[s], b = this.b[s], c = this.c[s];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += a[i] * Math.cos(b[i] + c[i] * t);
+        }
+        return sum;
+    }
+
+    /**
+     * Computes an upper bound of the difference between the full series and the series truncated to the given
+     * number of terms, for the given variable, as the sum of the absolute amplitudes of the terms left out.
+     *
+     * @param variable The variable, {@link #L}, {@link #B} or {@link #R}.
+     * @param t        The time, in Julian millennia since J2000.
+     * @param counts   The number of terms of each series, see {@link #counts(double)}.
+     *
+     * @return The error bound, in radians for L and B, and in AU for R.
+     */
+    public double errorBound(int variable, double t, int[] counts) {
+        final double at = Math.abs(t);
+        double bound = 0;
+        for (int order = N_ORDERS - 1; order >= 0; order--) {
+            final int s = variable * N_ORDERS + order;
+            bound = bound * at + tail[s][counts[s]];
+        }
+        return bound;
+    }
+
+    /**
+     * @return The total number of terms of the given counts.
+     */
+    public static int total(int[] counts) {
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * @return The number of terms of each series, with no truncation.
+     */
+    public int[] sizes() {
+        int[] sizes = new int[N_SERIES];
+        for (int s = 0; s < N_SERIES; s++) {
+            sizes[s] = a[s].length;
+        }
+        return sizes;
+    }
+}
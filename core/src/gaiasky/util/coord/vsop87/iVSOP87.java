@@ -49,5 +49,13 @@ public interface iVSOP87 {
 
     void setHighAccuracy(boolean highAccuracy);
 
+    /**
+     * Sets the relative amplitude threshold under which the terms of the series are left out. Amplitudes of
+     * L and B are in radians, amplitudes of R are relative to the mean distance of the planet.
+     *
+     * @param threshold The threshold. Zero evaluates the full series.
+     */
+    void setAmplitudeThreshold(double threshold);
+
     Vector3b getEclipticSphericalCoordinates(Instant date, Vector3b out);
 }
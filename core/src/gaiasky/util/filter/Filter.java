@@ -8,12 +8,20 @@ package gaiasky.util.filter;
 import com.badlogic.gdx.utils.Array;
 import gaiasky.scene.api.IParticleRecord;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
 /**
  * A filter on a dataset as a set of rules
  */
 public class Filter {
+    /** Minimum number of particles for which the mask is computed in parallel. **/
+    private static final int PARALLEL_THRESHOLD = 50_000;
+
     private final Array<FilterRule> rules;
     private IOperation operation;
+    /** Modification counter, incremented every time the rules or the operation change. **/
+    private volatile long version = 0;
 
     /**
      * Creates a filter with only one rule
@@ -24,6 +32,7 @@ public class Filter {
         this.rules = new Array<>();
         this.rules.add(rule);
         this.operation = new OperationAnd();
+        rule.setOwner(this);
     }
 
     /**
@@ -33,13 +42,15 @@ public class Filter {
      * @param operation The operation: 'and', 'or'
      */
     public Filter(String operation, FilterRule... rules) {
-        this.rules = new Array<>(rules);
-        this.operation = getOperationFromString(operation);
+        this(operation, new Array<>(rules));
     }
 
     public Filter(String operation, Array<FilterRule> rules) {
         this.rules = rules;
         this.operation = getOperationFromString(operation);
+        for (FilterRule rule : rules) {
+            rule.setOwner(this);
+        }
     }
 
     public Filter deepCopy() {
@@ -57,6 +68,62 @@ public class Filter {
         }
     }
 
+    /**
+     * Evaluates this filter for all the particles in the given list, and writes the results
+     * to a bit mask, where bit <code>i % 64</code> of word <code>i / 64</code> is set if the particle
+     * <code>i</code> passes the filter. Rules are evaluated column-wise, in blocks of 64 particles, and
+     * blocks are processed in parallel if the list is large enough.
+     *
+     * @param data The particle list.
+     * @param mask The output mask, with at least <code>(data.size() + 63) / 64</code> words. If null, a new array is created.
+     *
+     * @return The mask.
+     */
+    public long[] evaluate(List<IParticleRecord> data, long[] mask) {
+        final int n = data.size();
+        final int nWords = (n + 63) >>> 6;
+        final long[] out = mask != null && mask.length >= nWords ? mask : new long[nWords];
+        synchronized (this) {
+            final FilterRule[] rulesArray = rules.toArray(FilterRule.class);
+            final IOperation op = operation;
+            IntStream words = IntStream.range(0, nWords);
+            if (n >= PARALLEL_THRESHOLD) {
+                words = words.parallel();
+            }
+            words.forEach(word -> {
+                final int from = word << 6;
+                final int to = Math.min(from + 64, n);
+                long result = op.identity();
+                for (FilterRule rule : rulesArray) {
+                    result = op.combine(result, rule.evaluate(data, from, to));
+                }
+                // Clear the bits past the end of the list.
+                if (to - from < 64) {
+                    result &= (1L << (to - from)) - 1L;
+                }
+                out[word] = result;
+            });
+        }
+        return out;
+    }
+
+    /**
+     * Returns the modification counter of this filter. Any change in the rules or the operation
+     * produces a new version, so that cached evaluations can be invalidated.
+     *
+     * @return The version of this filter.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Marks this filter as modified.
+     */
+    protected void touch() {
+        version++;
+    }
+
     public boolean hasRules() {
         return rules != null && rules.size > 0;
     }
@@ -71,6 +138,7 @@ public class Filter {
 
     public void setOperation(String op) {
         this.operation = getOperationFromString(op);
+        touch();
     }
 
     public String getOperationString() {
@@ -91,15 +159,28 @@ public class Filter {
 
     public void addRule(FilterRule rule) {
         rules.add(rule);
+        rule.setOwner(this);
+        touch();
     }
 
     public boolean removeRule(FilterRule rule) {
-        return rules.removeValue(rule, true);
+        boolean removed = rules.removeValue(rule, true);
+        if (removed) {
+            rule.setOwner(null);
+            touch();
+        }
+        return removed;
     }
 
     private interface IOperation {
         boolean evaluate(Array<FilterRule> rules, IParticleRecord pb);
 
+        /** Identity element of the operation on bit masks. **/
+        long identity();
+
+        /** Combines two bit masks with this operation. **/
+        long combine(long a, long b);
+
         String getOperationString();
     }
 
@@ -119,6 +200,16 @@ public class Filter {
             return result;
         }
 
+        @Override
+        public long identity() {
+            return -1L;
+        }
+
+        @Override
+        public long combine(long a, long b) {
+            return a & b;
+        }
+
         @Override
         public String getOperationString() {
             return op;
@@ -141,6 +232,16 @@ public class Filter {
             return result;
         }
 
+        @Override
+        public long identity() {
+            return 0L;
+        }
+
+        @Override
+        public long combine(long a, long b) {
+            return a | b;
+        }
+
         @Override
         public String getOperationString() {
             return op;
@@ -163,6 +264,16 @@ public class Filter {
             return result;
         }
 
+        @Override
+        public long identity() {
+            return 0L;
+        }
+
+        @Override
+        public long combine(long a, long b) {
+            return a ^ b;
+        }
+
         @Override
         public String getOperationString() {
             return op;
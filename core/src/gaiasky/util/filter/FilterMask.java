@@ -0,0 +1,82 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.util.filter;
+
+import gaiasky.scene.api.IParticleRecord;
+
+import java.util.List;
+
+/**
+ * Caches the evaluation of a {@link Filter} over a particle list as a visibility bit mask. The mask is
+ * only recomputed when the filter (or any of its rules) or the data change, so that consumers which test
+ * the same particle many times per second only pay for a bit lookup.
+ */
+public class FilterMask {
+
+    /** Current state. Replaced atomically whenever the mask is recomputed. **/
+    private volatile State state;
+
+    /**
+     * Tests whether the particle with the given index passes the given filter. If the cached mask
+     * is stale, it is recomputed first.
+     *
+     * @param index  The index of the particle.
+     * @param filter The filter. If null, all particles pass.
+     * @param data   The particle list the index refers to.
+     *
+     * @return True if the particle passes the filter, false otherwise.
+     */
+    public boolean test(int index, Filter filter, List<IParticleRecord> data) {
+        if (filter == null || data == null) {
+            return true;
+        }
+        State s = state;
+        if (s == null || !s.isValid(filter, data)) {
+            s = update(filter, data);
+        }
+        return (s.mask[index >>> 6] & (1L << index)) != 0L;
+    }
+
+    /**
+     * Invalidates the mask, so that it is recomputed with the next test. Must be called whenever the
+     * contents of the particle list change.
+     */
+    public void invalidate() {
+        state = null;
+    }
+
+    private synchronized State update(Filter filter, List<IParticleRecord> data) {
+        State s = state;
+        if (s == null || !s.isValid(filter, data)) {
+            // Read the version before evaluating, so that concurrent edits trigger a new evaluation.
+            long version = filter.getVersion();
+            long[] mask = filter.evaluate(data, null);
+            s = new State(mask, filter, version, data, data.size());
+            state = s;
+        }
+        return s;
+    }
+
+    private static final class State {
+        private final long[] mask;
+        private final Filter filter;
+        private final long version;
+        private final List<IParticleRecord> data;
+        private final int size;
+
+        private State(long[] mask, Filter filter, long version, List<IParticleRecord> data, int size) {
+            this.mask = mask;
+            this.filter = filter;
+            this.version = version;
+            this.data = data;
+            this.size = size;
+        }
+
+        private boolean isValid(Filter filter, List<IParticleRecord> data) {
+            return this.filter == filter && this.version == filter.getVersion() && this.data == data && this.size == data.size();
+        }
+    }
+}
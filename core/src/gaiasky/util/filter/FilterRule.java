@@ -8,11 +8,15 @@ package gaiasky.util.filter;
 import gaiasky.scene.api.IParticleRecord;
 import gaiasky.util.filter.attrib.IAttribute;
 
+import java.util.List;
+
 public class FilterRule {
     // Value in the same units as the one internal units
     private double value;
     private IComparator comparator;
     private IAttribute attribute;
+    // The filter this rule belongs to, if any
+    private Filter owner;
 
     /**
      * Creates a new filter with the given attribute, value and comparator function
@@ -32,6 +36,38 @@ public class FilterRule {
         return comparator.evaluate(attribute.get(bean), value);
     }
 
+    /**
+     * Evaluates this rule for the particles in [from, to) of the given list, with to - from &le; 64.
+     *
+     * @param data The particle list.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     *
+     * @return A bit mask where bit <code>i - from</code> is set if particle <code>i</code> passes the rule.
+     */
+    public long evaluate(List<IParticleRecord> data, int from, int to) {
+        final IComparator comp = comparator;
+        final IAttribute attr = attribute;
+        final double val = value;
+        long bits = 0L;
+        for (int i = from; i < to; i++) {
+            if (comp.evaluate(attr.get(data.get(i)), val)) {
+                bits |= 1L << (i - from);
+            }
+        }
+        return bits;
+    }
+
+    protected void setOwner(Filter owner) {
+        this.owner = owner;
+    }
+
+    private void touch() {
+        if (owner != null) {
+            owner.touch();
+        }
+    }
+
     public FilterRule copy() {
         FilterRule cpy = new FilterRule(comparator.toString(), attribute, value);
         return cpy;
@@ -43,6 +79,7 @@ public class FilterRule {
 
     public void setValue(double value) {
         this.value = value;
+        touch();
     }
 
     public IComparator getComparator() {
@@ -51,6 +88,7 @@ public class FilterRule {
 
     public void setComparator(IComparator comp) {
         this.comparator = comp;
+        touch();
     }
 
     public IAttribute getAttribute() {
@@ -59,6 +97,7 @@ public class FilterRule {
 
     public void setAttribute(IAttribute attr) {
         this.attribute = attr;
+        touch();
     }
 
     public IComparator getComparatorFromString(String c) {
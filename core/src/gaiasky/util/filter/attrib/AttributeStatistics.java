@@ -0,0 +1,255 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.util.filter.attrib;
+
+import com.badlogic.ashley.core.Entity;
+import gaiasky.scene.Mapper;
+import gaiasky.scene.api.IParticleRecord;
+import gaiasky.scene.component.ParticleSet;
+import gaiasky.scene.view.OctreeObjectView;
+import gaiasky.util.CatalogInfo;
+import gaiasky.util.Logger;
+import gaiasky.util.Logger.Log;
+import gaiasky.util.tree.IOctreeObject;
+import gaiasky.util.tree.OctreeNode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+/**
+ * Computes {@link AttributeStats} for the attributes of datasets in parallel, off the calling thread,
+ * and caches them in the {@link CatalogInfo} of each dataset.
+ * <p>
+ * For LOD datasets, if the octree metadata contains per-octant summaries of the attribute, these are
+ * merged to get the statistics of the full catalog without loading any particle data. Otherwise, the
+ * statistics of the octants currently loaded are computed, and they are updated incrementally
+ * as new octants are loaded (see {@link #octantLoaded(CatalogInfo, OctreeNode, List)}).
+ */
+public class AttributeStatistics {
+    private static final Log logger = Logger.getLogger(AttributeStatistics.class);
+
+    public static final AttributeStatistics instance = new AttributeStatistics();
+
+    /** Number of particles per parallel work unit. **/
+    private static final int CHUNK_SIZE = 8192;
+
+    private AttributeStatistics() {
+    }
+
+    /**
+     * Gets the key that identifies the given attribute in the caches and in the octree metadata. This is the
+     * column name for extra attributes, and the attribute class name without the 'Attribute'
+     * prefix (i.e. 'Appmag', 'GalLatitude') for the default attributes.
+     *
+     * @param attribute The attribute.
+     *
+     * @return The key.
+     */
+    public static String key(IAttribute attribute) {
+        if (attribute instanceof AttributeUCD) {
+            return ((AttributeUCD) attribute).ucd.colname;
+        }
+        String name = attribute.getClass().getSimpleName();
+        return name.startsWith("Attribute") ? name.substring("Attribute".length()) : name;
+    }
+
+    /**
+     * Gets the cached statistics of the given attribute of the given catalog, if any.
+     *
+     * @param ci        The catalog.
+     * @param attribute The attribute.
+     *
+     * @return The cached statistics, or null if they have not been computed.
+     */
+    public AttributeStats getCached(CatalogInfo ci, IAttribute attribute) {
+        return ci.attributeStats.get(key(attribute));
+    }
+
+    /**
+     * Gets the statistics of the given attribute of the given catalog. If they are not cached or
+     * recomputation is forced, they are computed asynchronously in a worker thread.
+     *
+     * @param ci        The catalog.
+     * @param attribute The attribute.
+     * @param force     Whether to recompute the statistics even if they are cached.
+     *
+     * @return A future with the statistics.
+     */
+    public CompletableFuture<AttributeStats> get(final CatalogInfo ci, final IAttribute attribute, final boolean force) {
+        final String key = key(attribute);
+        ci.attributeStatsSources.put(key, attribute);
+        if (!force) {
+            AttributeStats cached = ci.attributeStats.get(key);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            AttributeStats stats = compute(ci, attribute);
+            ci.attributeStats.put(key, stats);
+            return stats;
+        }).exceptionally(t -> {
+            logger.error(t);
+            return new AttributeStats();
+        });
+    }
+
+    private AttributeStats compute(CatalogInfo ci, IAttribute attribute) {
+        final Entity entity = ci.entity;
+        if (entity == null) {
+            return new AttributeStats();
+        }
+        if (Mapper.octree.has(entity)) {
+            OctreeNode root = Mapper.octant.get(entity).octant;
+            // Full catalog from the metadata, if available
+            AttributeStats fromMetadata = fromOctantSummaries(root, key(attribute));
+            if (fromMetadata != null) {
+                return fromMetadata;
+            }
+            // Loaded octants only
+            List<IOctreeObject> objects = new ArrayList<>();
+            collectObjects(root, objects);
+            AttributeStats stats = new AttributeStats();
+            for (IOctreeObject object : objects) {
+                Entity octantEntity = ((OctreeObjectView) object).getEntity();
+                if (octantEntity != null && Mapper.starSet.has(octantEntity) && stats.addOctant(Mapper.octant.get(octantEntity).octant.pageId)) {
+                    stats.merge(compute(Mapper.starSet.get(octantEntity).pointData, attribute));
+                }
+            }
+            return stats;
+        } else {
+            ParticleSet set = Mapper.particleSet.has(entity) ? Mapper.particleSet.get(entity) : Mapper.starSet.get(entity);
+            return set != null ? compute(set.pointData, attribute) : new AttributeStats();
+        }
+    }
+
+    private void collectObjects(OctreeNode node, List<IOctreeObject> out) {
+        synchronized (node) {
+            if (node.objects != null) {
+                out.addAll(node.objects);
+            }
+        }
+        for (OctreeNode child : node.children) {
+            if (child != null) {
+                collectObjects(child, out);
+            }
+        }
+    }
+
+    /**
+     * Computes the statistics of the given attribute over the given particles, in parallel.
+     *
+     * @param data      The particles.
+     * @param attribute The attribute.
+     *
+     * @return The statistics.
+     */
+    public AttributeStats compute(final List<IParticleRecord> data, final IAttribute attribute) {
+        if (data == null || data.isEmpty()) {
+            return new AttributeStats();
+        }
+        final int n = data.size();
+        final int nChunks = (n + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream chunks = IntStream.range(0, nChunks);
+        if (nChunks > 1) {
+            chunks = chunks.parallel();
+        }
+        return chunks.mapToObj(chunk -> {
+            AttributeStats stats = new AttributeStats();
+            int to = Math.min((chunk + 1) * CHUNK_SIZE, n);
+            for (int i = chunk * CHUNK_SIZE; i < to; i++) {
+                stats.accept(attribute.get(data.get(i)));
+            }
+            return stats;
+        }).reduce(AttributeStats::merge).orElseGet(AttributeStats::new);
+    }
+
+    /**
+     * Merges the summaries of the given attribute stored in the metadata of the given octree.
+     *
+     * @param root The root node.
+     * @param key  The attribute key.
+     *
+     * @return The statistics of the full catalog, or null if any of the nodes with objects has no summary for the attribute.
+     */
+    public AttributeStats fromOctantSummaries(OctreeNode root, String key) {
+        AttributeStats result = new AttributeStats(false);
+        if (mergeSummaries(root, key, result)) {
+            result.setComplete(true);
+            return result;
+        }
+        return null;
+    }
+
+    private boolean mergeSummaries(OctreeNode node, String key, AttributeStats result) {
+        if (node.numObjects > 0) {
+            Map<String, AttributeStats> summaries = node.attributeStats;
+            if (summaries == null || !summaries.containsKey(key)) {
+                return false;
+            }
+            result.merge(summaries.get(key));
+        }
+        for (OctreeNode child : node.children) {
+            if (child != null && !mergeSummaries(child, key, result)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Updates the cached statistics of the given catalog which do not yet cover the whole catalog
+     * with the data of a newly loaded octant. Octants whose data is already in the statistics, because they were
+     * loaded before, are skipped.
+     *
+     * @param ci     The catalog.
+     * @param octant The octant.
+     * @param data   The particles of the octant.
+     */
+    public void octantLoaded(CatalogInfo ci, OctreeNode octant, List<IParticleRecord> data) {
+        if (ci == null || ci.attributeStats.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, AttributeStats> entry : ci.attributeStats.entrySet()) {
+            AttributeStats stats = entry.getValue();
+            if (!stats.isComplete()) {
+                IAttribute attribute = ci.attributeStatsSources.get(entry.getKey());
+                if (attribute != null) {
+                    synchronized (stats) {
+                        if (!stats.addOctant(octant.pageId)) {
+                            continue;
+                        }
+                    }
+                    AttributeStats octantStats = compute(data, attribute);
+                    synchronized (stats) {
+                        stats.merge(octantStats);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the per-octant summaries of the given attributes for the given octree node, to be stored
+     * in the metadata. Used when generating LOD datasets.
+     *
+     * @param node       The octree node.
+     * @param data       The particles of the node (not including its descendants).
+     * @param attributes The attributes to summarize.
+     */
+    public void computeOctantSummaries(OctreeNode node, List<IParticleRecord> data, IAttribute... attributes) {
+        Map<String, AttributeStats> summaries = new LinkedHashMap<>();
+        for (IAttribute attribute : attributes) {
+            AttributeStats stats = compute(data, attribute);
+            summaries.put(key(attribute), new AttributeStats(stats.count(), stats.min(), stats.max(), stats.sum()));
+        }
+        node.attributeStats = summaries;
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.util.filter.attrib;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Mergeable summary statistics of an attribute: count, minimum, maximum and mean of all
+ * finite values, plus a fixed-size uniform reservoir sample which acts as a quantile sketch.
+ * Instances can be computed independently for disjoint subsets of the data (chunks, octants) and then
+ * combined with {@link #merge(AttributeStats)}.
+ * <p>
+ * This class is not thread-safe, synchronize externally if shared.
+ */
+public class AttributeStats {
+    /** Maximum number of values kept in the sample. **/
+    public static final int SAMPLE_SIZE = 4096;
+
+    private long count = 0;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private double sum = 0;
+    private double[] sample;
+    private int sampleSize = 0;
+    private double[] sorted;
+    /**
+     * Whether these statistics cover the whole catalog (e.g. they come from the per-octant summaries of
+     * an LOD dataset), as opposed to only the currently loaded data.
+     */
+    private boolean complete = false;
+    /** Identifiers of the octants merged into these statistics, for LOD datasets. **/
+    private Set<Long> octants;
+
+    public AttributeStats() {
+        this(true);
+    }
+
+    /**
+     * Creates empty statistics.
+     *
+     * @param withSample Whether to keep a sample for the quantiles. Summaries stored in the
+     *                   octree metadata do not have samples.
+     */
+    public AttributeStats(boolean withSample) {
+        this.sample = withSample ? new double[SAMPLE_SIZE] : null;
+    }
+
+    /**
+     * Creates a summary with the given values and no sample.
+     */
+    public AttributeStats(long count, double min, double max, double sum) {
+        this(false);
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.sum = sum;
+    }
+
+    /**
+     * Adds a value. Non-finite values are ignored.
+     *
+     * @param value The value.
+     */
+    public void accept(double value) {
+        accept(value, ThreadLocalRandom.current());
+    }
+
+    private void accept(double value, Random rnd) {
+        if (!Double.isFinite(value)) {
+            return;
+        }
+        count++;
+        sum += value;
+        if (value < min)
+            min = value;
+        if (value > max)
+            max = value;
+        if (sample != null) {
+            if (sampleSize < SAMPLE_SIZE) {
+                sample[sampleSize++] = value;
+            } else {
+                // Reservoir sampling
+                long j = (long) (rnd.nextDouble() * count);
+                if (j < SAMPLE_SIZE) {
+                    sample[(int) j] = value;
+                }
+            }
+        }
+        sorted = null;
+    }
+
+    /**
+     * Merges the given statistics into these. The resulting sample is a uniform sample
+     * of the union of both data sets.
+     *
+     * @param other The other statistics.
+     *
+     * @return This object, for chaining.
+     */
+    public AttributeStats merge(AttributeStats other) {
+        if (other == null || other.count == 0) {
+            return this;
+        }
+        if (sample != null) {
+            if (other.sample == null) {
+                // The other has no sample, we can't represent the union
+                sample = null;
+                sampleSize = 0;
+            } else if (sampleSize + other.sampleSize <= SAMPLE_SIZE) {
+                System.arraycopy(other.sample, 0, sample, sampleSize, other.sampleSize);
+                sampleSize += other.sampleSize;
+            } else {
+                mergeSamples(other);
+            }
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        sorted = null;
+        return this;
+    }
+
+    /**
+     * Draws a new sample of {@link #SAMPLE_SIZE} values from both samples, picking from each
+     * with a probability proportional to the remaining number of values it represents.
+     */
+    private void mergeSamples(AttributeStats other) {
+        final Random rnd = ThreadLocalRandom.current();
+        double[] a = Arrays.copyOf(sample, sampleSize);
+        double[] b = Arrays.copyOf(other.sample, other.sampleSize);
+        shuffle(a, rnd);
+        shuffle(b, rnd);
+        double weightA = (double) count / sampleSize;
+        double weightB = (double) other.count / other.sampleSize;
+        double remainingA = count, remainingB = other.count;
+        int ia = 0, ib = 0;
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            boolean fromA = ib >= b.length || (ia < a.length && rnd.nextDouble() * (remainingA + remainingB) < remainingA);
+            if (fromA) {
+                sample[i] = a[ia++];
+                remainingA -= weightA;
+            } else {
+                sample[i] = b[ib++];
+                remainingB -= weightB;
+            }
+        }
+        sampleSize = SAMPLE_SIZE;
+    }
+
+    private static void shuffle(double[] values, Random rnd) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            double tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+
+    /**
+     * Estimates the given quantile from the sample, interpolating linearly. The result
+     * is exact if the number of values is at most {@link #SAMPLE_SIZE}.
+     *
+     * @param q The quantile, in [0,1].
+     *
+     * @return The estimated value, or NaN if there is no sample.
+     */
+    public double quantile(double q) {
+        if (sample == null || sampleSize == 0) {
+            return Double.NaN;
+        }
+        if (sorted == null) {
+            sorted = Arrays.copyOf(sample, sampleSize);
+            Arrays.sort(sorted);
+        }
+        double pos = Math.max(0, Math.min(1, q)) * (sorted.length - 1);
+        int i0 = (int) pos;
+        int i1 = Math.min(i0 + 1, sorted.length - 1);
+        double t = pos - i0;
+        return sorted[i0] * (1 - t) + sorted[i1] * t;
+    }
+
+    public boolean hasQuantiles() {
+        return sample != null && sampleSize > 0;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double min() {
+        return count > 0 ? min : Double.NaN;
+    }
+
+    public double max() {
+        return count > 0 ? max : Double.NaN;
+    }
+
+    public double sum() {
+        return sum;
+    }
+
+    public double mean() {
+        return count > 0 ? sum / count : Double.NaN;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+
+    /**
+     * Records that the data of the given octant is merged into these statistics, so that an octant which is unloaded
+     * and loaded again is only counted once.
+     *
+     * @param pageId The identifier of the octant.
+     *
+     * @return True if the octant had not been recorded before, and its data must be merged.
+     */
+    public boolean addOctant(long pageId) {
+        if (octants == null) {
+            octants = new HashSet<>();
+        }
+        return octants.add(pageId);
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count + ", min=" + min() + ", max=" + max() + ", mean=" + mean();
+    }
+}
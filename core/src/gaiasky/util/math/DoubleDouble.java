@@ -0,0 +1,212 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.util.math;
+
+/**
+ * Double-double arithmetic. A double-double number is the unevaluated sum of two doubles, <code>hi + lo</code>,
+ * with <code>|lo| &lt;= ulp(hi) / 2</code>, which gives about 106 bits of mantissa (some 32 decimal digits) with the
+ * range of a double.
+ * <p>
+ * The operations work in place on a pair of consecutive elements of an array, <code>a[i]</code> (high part) and
+ * <code>a[i + 1]</code> (low part), so that they never allocate, and can be used on preallocated primitive storage.
+ * The algorithms are those of the QD library by Hida, Li and Bailey, with fused multiply-adds for the exact products.
+ */
+public final class DoubleDouble {
+
+    private DoubleDouble() {
+    }
+
+    /**
+     * Sets the number at <code>a[i]</code> to the given double.
+     */
+    public static void set(double[] a, int i, double b) {
+        a[i] = b;
+        a[i + 1] = 0;
+    }
+
+    /**
+     * Sets the number at <code>a[i]</code> to the given double-double, which must be normalized.
+     */
+    public static void set(double[] a, int i, double bHi, double bLo) {
+        a[i] = bHi;
+        a[i + 1] = bLo;
+    }
+
+    /**
+     * @return The double closest to the number at <code>a[i]</code>.
+     */
+    public static double get(double[] a, int i) {
+        return a[i] + a[i + 1];
+    }
+
+    /**
+     * Adds the double-double <code>b</code> to the number at <code>a[i]</code>. This is the accurate addition, which
+     * keeps the full precision also when the operands cancel out.
+     */
+    public static void add(double[] a, int i, double bHi, double bLo) {
+        final double aHi = a[i], aLo = a[i + 1];
+        double s = aHi + bHi;
+        double bb = s - aHi;
+        double e = (aHi - (s - bb)) + (bHi - bb);
+        final double t = aLo + bLo;
+        bb = t - aLo;
+        final double f = (aLo - (t - bb)) + (bLo - bb);
+        e += t;
+        double hi = s + e;
+        e = e - (hi - s);
+        e += f;
+        s = hi + e;
+        a[i] = s;
+        a[i + 1] = e - (s - hi);
+    }
+
+    /**
+     * Adds the double <code>b</code> to the number at <code>a[i]</code>.
+     */
+    public static void add(double[] a, int i, double b) {
+        final double aHi = a[i];
+        final double s = aHi + b;
+        final double bb = s - aHi;
+        double e = (aHi - (s - bb)) + (b - bb);
+        e += a[i + 1];
+        final double hi = s + e;
+        a[i] = hi;
+        a[i + 1] = e - (hi - s);
+    }
+
+    /**
+     * Subtracts the double-double <code>b</code> from the number at <code>a[i]</code>.
+     */
+    public static void sub(double[] a, int i, double bHi, double bLo) {
+        add(a, i, -bHi, -bLo);
+    }
+
+    /**
+     * Subtracts the double <code>b</code> from the number at <code>a[i]</code>.
+     */
+    public static void sub(double[] a, int i, double b) {
+        add(a, i, -b);
+    }
+
+    /**
+     * Multiplies the number at <code>a[i]</code> by the double-double <code>b</code>.
+     */
+    public static void mul(double[] a, int i, double bHi, double bLo) {
+        final double aHi = a[i];
+        final double p = aHi * bHi;
+        double e = Math.fma(aHi, bHi, -p);
+        e += aHi * bLo + a[i + 1] * bHi;
+        final double hi = p + e;
+        a[i] = hi;
+        a[i + 1] = e - (hi - p);
+    }
+
+    /**
+     * Multiplies the number at <code>a[i]</code> by the double <code>b</code>.
+     */
+    public static void mul(double[] a, int i, double b) {
+        final double aHi = a[i];
+        final double p = aHi * b;
+        double e = Math.fma(aHi, b, -p);
+        e += a[i + 1] * b;
+        final double hi = p + e;
+        a[i] = hi;
+        a[i + 1] = e - (hi - p);
+    }
+
+    /**
+     * Adds the product of the double-doubles <code>b</code> and <code>c</code> to the number at <code>a[i]</code>.
+     */
+    public static void mulAdd(double[] a, int i, double bHi, double bLo, double cHi, double cLo) {
+        final double p = bHi * cHi;
+        double e = Math.fma(bHi, cHi, -p);
+        e += bHi * cLo + bLo * cHi;
+        final double hi = p + e;
+        add(a, i, hi, e - (hi - p));
+    }
+
+    /**
+     * Adds the product of the double-double <code>b</code> and the double <code>c</code> to the number at
+     * <code>a[i]</code>.
+     */
+    public static void mulAdd(double[] a, int i, double bHi, double bLo, double c) {
+        final double p = bHi * c;
+        double e = Math.fma(bHi, c, -p);
+        e += bLo * c;
+        final double hi = p + e;
+        add(a, i, hi, e - (hi - p));
+    }
+
+    /**
+     * Divides the number at <code>a[i]</code> by the double-double <code>b</code>.
+     */
+    public static void div(double[] a, int i, double bHi, double bLo) {
+        final double aHi = a[i], aLo = a[i + 1];
+        final double q1 = aHi / bHi;
+        // r = b * q1
+        final double p = bHi * q1;
+        double e = Math.fma(bHi, q1, -p);
+        e += bLo * q1;
+        final double rHi = p + e;
+        final double rLo = e - (rHi - p);
+        // s = a - r
+        final double s = aHi - rHi;
+        final double bb = s - aHi;
+        double f = (aHi - (s - bb)) + (-rHi - bb);
+        f -= rLo;
+        f += aLo;
+        final double q2 = (s + f) / bHi;
+        final double hi = q1 + q2;
+        a[i] = hi;
+        a[i + 1] = q2 - (hi - q1);
+    }
+
+    /**
+     * Divides the number at <code>a[i]</code> by the double <code>b</code>.
+     */
+    public static void div(double[] a, int i, double b) {
+        div(a, i, b, 0);
+    }
+
+    /**
+     * Sets the number at <code>a[i]</code> to its square root. Negative numbers give NaN.
+     */
+    public static void sqrt(double[] a, int i) {
+        final double aHi = a[i];
+        if (aHi <= 0) {
+            a[i] = aHi == 0 ? 0 : Double.NaN;
+            a[i + 1] = 0;
+            return;
+        }
+        final double x = 1.0 / Math.sqrt(aHi);
+        final double ax = aHi * x;
+        // diff = a - ax^2
+        final double p = ax * ax;
+        final double pe = Math.fma(ax, ax, -p);
+        final double s = aHi - p;
+        final double bb = s - aHi;
+        double e = (aHi - (s - bb)) + (-p - bb);
+        e += a[i + 1] - pe;
+        final double diff = s + e;
+        // ax + diff * x / 2
+        final double c = diff * (x * 0.5);
+        final double hi = ax + c;
+        final double b2 = hi - ax;
+        a[i] = hi;
+        a[i + 1] = (ax - (hi - b2)) + (c - b2);
+    }
+
+    /**
+     * Compares the numbers at <code>a[i]</code> and <code>b[j]</code>.
+     *
+     * @return A negative number, zero or a positive number if the first is smaller than, equal to or greater than the
+     * second.
+     */
+    public static int compare(double[] a, int i, double[] b, int j) {
+        final int c = Double.compare(a[i], b[j]);
+        return c != 0 ? c : Double.compare(a[i + 1], b[j + 1]);
+    }
+}
@@ -242,6 +242,55 @@ public class Matrix4d implements Serializable {
         }
     }
 
+    /**
+     * Multiplies the vectors in the given columns with this matrix, in place, like {@link Vector3d#mul(Matrix4d)}.
+     * The i-th vector is <code>(xs[i], ys[i], zs[i])</code>.
+     *
+     * @param xs   The x components.
+     * @param ys   The y components.
+     * @param zs   The z components.
+     * @param from The index of the first vector, inclusive.
+     * @param to   The index of the last vector, exclusive.
+     *
+     * @return This matrix for chaining.
+     */
+    public Matrix4d transform(double[] xs, double[] ys, double[] zs, int from, int to) {
+        transform(val, xs, ys, zs, from, to);
+        return this;
+    }
+
+    /**
+     * Multiplies the vectors in the given columns with the given matrix, in place. The matrix array is assumed to hold
+     * a 4x4 column major matrix as you can get from {@link Matrix4d#val}. The i-th vector is
+     * <code>(xs[i], ys[i], zs[i])</code>. This is the same as {@link Vector3d#mul(Matrix4d)} applied to multiple vectors.
+     * Large ranges are split across the common fork-join pool, see {@link ParallelChunks}.
+     *
+     * @param mat  The matrix.
+     * @param xs   The x components.
+     * @param ys   The y components.
+     * @param zs   The z components.
+     * @param from The index of the first vector, inclusive.
+     * @param to   The index of the last vector, exclusive.
+     */
+    public static void transform(double[] mat, double[] xs, double[] ys, double[] zs, int from, int to) {
+        ParallelChunks.forEach(from, to, (start, end) -> matrix4_transform(mat, xs, ys, zs, start, end));
+    }
+
+    static void matrix4_transform(double[] mat, double[] xs, double[] ys, double[] zs, int from, int to) {
+        // Keep the matrix in locals and the loop body free of branches, so that the JIT can vectorize it
+        final double m00 = mat[M00], m01 = mat[M01], m02 = mat[M02], m03 = mat[M03];
+        final double m10 = mat[M10], m11 = mat[M11], m12 = mat[M12], m13 = mat[M13];
+        final double m20 = mat[M20], m21 = mat[M21], m22 = mat[M22], m23 = mat[M23];
+        for (int i = from; i < to; i++) {
+            final double x = xs[i];
+            final double y = ys[i];
+            final double z = zs[i];
+            xs[i] = x * m00 + y * m01 + z * m02 + m03;
+            ys[i] = x * m10 + y * m11 + z * m12 + m13;
+            zs[i] = x * m20 + y * m21 + z * m22 + m23;
+        }
+    }
+
     static void matrix4_mul(double[] mata, double[] matb) {
         stmp[M00] = mata[M00] * matb[M00] + mata[M01] * matb[M10] + mata[M02] * matb[M20] + mata[M03] * matb[M30];
         stmp[M01] = mata[M00] * matb[M01] + mata[M01] * matb[M11] + mata[M02] * matb[M21] + mata[M03] * matb[M31];
@@ -0,0 +1,59 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.util.math;
+
+import java.util.stream.IntStream;
+
+/**
+ * Splits a range of indices into chunks and runs them in the common fork-join pool, if the range is large enough to
+ * make it worth it. Used by the batched operations on arrays of coordinates.
+ */
+public final class ParallelChunks {
+
+    /** Minimum number of elements for which the range is processed in parallel. **/
+    public static final int PARALLEL_THRESHOLD = 32_768;
+    /** Number of elements per parallel work unit. **/
+    public static final int CHUNK_SIZE = 4096;
+
+    private ParallelChunks() {
+    }
+
+    /**
+     * Runs the given operation on the range <code>[from, to)</code>. If the range has at least
+     * {@link #PARALLEL_THRESHOLD} elements, it is split in chunks of {@link #CHUNK_SIZE}, which run in parallel.
+     * Otherwise, the operation runs once, in the calling thread, over the whole range.
+     *
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @param op   The operation, which gets the bounds of each chunk.
+     */
+    public static void forEach(final int from, final int to, final RangeOp op) {
+        final int n = to - from;
+        if (n <= 0) {
+            return;
+        }
+        if (n < PARALLEL_THRESHOLD) {
+            op.apply(from, to);
+            return;
+        }
+        final int nChunks = (n + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream.range(0, nChunks).parallel().forEach(chunk -> {
+            final int start = from + chunk * CHUNK_SIZE;
+            op.apply(start, Math.min(start + CHUNK_SIZE, to));
+        });
+    }
+
+    /**
+     * An operation on a range of indices.
+     */
+    public interface RangeOp {
+        /**
+         * @param from The first index, inclusive.
+         * @param to   The last index, exclusive.
+         */
+        void apply(int from, int to);
+    }
+}
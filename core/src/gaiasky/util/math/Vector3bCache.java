@@ -0,0 +1,54 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.util.math;
+
+import org.apfloat.Apfloat;
+
+/**
+ * Keeps the double-double value of a {@link Vector3b}, and converts it again only when the vector changes, so that
+ * reading a vector which does not change every frame does not allocate. The components of {@link Vector3b} are
+ * immutable {@link Apfloat} objects which are replaced whenever the vector is modified, so comparing the references of
+ * the components is enough to know whether the vector has changed.
+ */
+public class Vector3bCache {
+    private final Vector3dd value = new Vector3dd();
+    private Apfloat x, y, z;
+
+    /**
+     * Gets the double-double value of the given vector. The returned vector is owned by this cache, and must not be
+     * modified.
+     *
+     * @param vec The vector.
+     *
+     * @return The double-double value of the vector.
+     */
+    public Vector3dd get(Vector3b vec) {
+        if (vec.x != x || vec.y != y || vec.z != z) {
+            value.set(vec);
+            x = vec.x;
+            y = vec.y;
+            z = vec.z;
+        }
+        return value;
+    }
+
+    /**
+     * Sets the double-double value of the given vector, when it is already known, so that it is not converted
+     * again. The vector must have been set to the given value before calling this.
+     *
+     * @param vec   The vector.
+     * @param value The double-double value of the vector.
+     *
+     * @return The double-double value of the vector.
+     */
+    public Vector3dd set(Vector3b vec, Vector3dd value) {
+        this.value.set(value);
+        x = vec.x;
+        y = vec.y;
+        z = vec.z;
+        return this.value;
+    }
+}
@@ -163,6 +163,12 @@ public class Vector3d implements Serializable, Vectord<Vector3d> {
         return this;
     }
 
+    public Vector3d set(final Vector3dd vec) {
+        if (vec != null)
+            return this.set(vec.x(), vec.y(), vec.z());
+        return this;
+    }
+
     public Vector3d set(final Vector3 vec) {
         if (vec != null)
             return this.set(vec.x, vec.y, vec.z);
@@ -246,6 +252,13 @@ public class Vector3d implements Serializable, Vectord<Vector3d> {
         return this;
     }
 
+    public Vector3d add(final Vector3dd vec) {
+        this.x = this.x + vec.x() + vec.xLo();
+        this.y = this.y + vec.y() + vec.yLo();
+        this.z = this.z + vec.z() + vec.zLo();
+        return this;
+    }
+
     public Vector3d add(final Vector3 vec) {
         this.x += vec.x;
         this.y += vec.y;
@@ -303,6 +316,13 @@ public class Vector3d implements Serializable, Vectord<Vector3d> {
         return this.sub(vec.x.doubleValue(), vec.y.doubleValue(), vec.z.doubleValue());
     }
 
+    public Vector3d sub(final Vector3dd vec) {
+        this.x = this.x - vec.x() - vec.xLo();
+        this.y = this.y - vec.y() - vec.yLo();
+        this.z = this.z - vec.z() - vec.zLo();
+        return this;
+    }
+
     public Vector3d sub(final Vector3 vec) {
         return this.sub(vec.x, vec.y, vec.z);
     }
@@ -411,6 +431,13 @@ public class Vector3d implements Serializable, Vectord<Vector3d> {
         return FastMath.sqrt(a * a + b * b + c * c);
     }
 
+    public double dst(final Vector3dd vec) {
+        final double a = vec.x() - x + vec.xLo();
+        final double b = vec.y() - y + vec.yLo();
+        final double c = vec.z() - z + vec.zLo();
+        return FastMath.sqrt(a * a + b * b + c * c);
+    }
+
     /** @return the distance between this point and the given point */
     public double dst(double x, double y, double z) {
         final double a = x - this.x;
@@ -457,6 +484,10 @@ public class Vector3d implements Serializable, Vectord<Vector3d> {
         return x * vector.x.doubleValue() + y * vector.y.doubleValue() + z * vector.z.doubleValue();
     }
 
+    public double dot(final Vector3dd vector) {
+        return x * vector.x() + y * vector.y() + z * vector.z();
+    }
+
     /**
      * Returns the dot product between this and the given vector.
      *
@@ -936,6 +967,11 @@ public class Vector3d implements Serializable, Vectord<Vector3d> {
         return MathUtilsDouble.radiansToDegrees * FastMath.acos(MathUtils.clamp(this.dot(v) / (this.len() * v.lend()), -1d, 1d));
     }
 
+    /** Gets the angle in degrees between the two vectors **/
+    public double angle(Vector3dd v) {
+        return MathUtilsDouble.radiansToDegrees * FastMath.acos(MathUtils.clamp(this.dot(v) / (this.len() * v.lend()), -1d, 1d));
+    }
+
     /** Gets the angle in degrees between the two vectors **/
     public double anglePrecise(Vector3d v) {
         return MathUtilsDouble.radiansToDegrees * Math.acos(MathUtils.clamp(this.dot(v) / (this.len() * v.len()), -1d, 1d));
@@ -0,0 +1,998 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.util.math;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import gaiasky.util.Constants;
+import net.jafama.FastMath;
+import org.apfloat.Apfloat;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Vector of double-double numbers, with about 106 bits of mantissa (some 32 decimal digits) per component, like
+ * {@link Vector3b}. Unlike {@link Vector3b}, all operations are mutable, have a fixed cost, and do not allocate, so
+ * that it can be used in per-frame code. The components and the intermediate results live in an array which is
+ * created with the vector. See {@link DoubleDouble} for the arithmetic.
+ * <p>
+ * The API mirrors that of {@link Vector3b}. The methods which return an {@link Apfloat} there return the closest
+ * double here.
+ */
+public class Vector3dd implements Serializable {
+    public final static Vector3dd X = new Vector3dd(1, 0, 0);
+    public final static Vector3dd Y = new Vector3dd(0, 1, 0);
+    public final static Vector3dd Z = new Vector3dd(0, 0, 1);
+    private static final long serialVersionUID = -2417628461903470611L;
+    private final static Matrix4d tmpMat = new Matrix4d();
+
+    // Offsets of the components and of the scratch numbers in the array
+    private static final int IX = 0, IY = 2, IZ = 4, T0 = 6, T1 = 8, T2 = 10;
+
+    /** High and low parts of the x, y and z components, followed by three scratch numbers. **/
+    private final double[] v = new double[12];
+
+    /** Constructs a vector at (0,0,0) */
+    public Vector3dd() {
+    }
+
+    /**
+     * Creates a vector with the given components
+     *
+     * @param x The x-component
+     * @param y The y-component
+     * @param z The z-component
+     */
+    public Vector3dd(double x, double y, double z) {
+        this.set(x, y, z);
+    }
+
+    public Vector3dd(Vector3d vec) {
+        this(vec.x, vec.y, vec.z);
+    }
+
+    /**
+     * Creates a vector from the given vector
+     *
+     * @param vector The vector
+     */
+    public Vector3dd(final Vector3dd vector) {
+        this.set(vector);
+    }
+
+    /**
+     * Creates a vector from the given arbitrary precision vector
+     *
+     * @param vector The vector
+     */
+    public Vector3dd(final Vector3b vector) {
+        this.set(vector);
+    }
+
+    /**
+     * Creates a vector from the given array. The array must have at least 3
+     * elements.
+     *
+     * @param values The array
+     */
+    public Vector3dd(final double[] values) {
+        this.set(values[0], values[1], values[2]);
+    }
+
+    /** @return The euclidian length */
+    public static double len(final double x, final double y, final double z) {
+        return FastMath.sqrt(x * x + y * y + z * z);
+    }
+
+    /** @return The squared euclidian length */
+    public static double len2(final double x, final double y, final double z) {
+        return x * x + y * y + z * z;
+    }
+
+    /**
+     * Calculates the outer product of two given vectors <code>v</code> and
+     * <code>w</code> and returns the result as a new <code>Vector3dd</code>.
+     *
+     * @param v left operand
+     * @param w right operand
+     *
+     * @return outer product of <code>v</code> and <code>w</code>
+     */
+    static public Vector3dd crs(final Vector3dd v, final Vector3dd w) {
+        final Vector3dd res = new Vector3dd(v);
+
+        return res.crs(w);
+    }
+
+    public double x() {
+        return v[IX];
+    }
+
+    /** @return The low part of the x-component **/
+    public double xLo() {
+        return v[IX + 1];
+    }
+
+    public double y() {
+        return v[IY];
+    }
+
+    /** @return The low part of the y-component **/
+    public double yLo() {
+        return v[IY + 1];
+    }
+
+    public double z() {
+        return v[IZ];
+    }
+
+    /** @return The low part of the z-component **/
+    public double zLo() {
+        return v[IZ + 1];
+    }
+
+    /**
+     * Sets the vector to the given components
+     *
+     * @param x The x-component
+     * @param y The y-component
+     * @param z The z-component
+     *
+     * @return this vector for chaining
+     */
+    public Vector3dd set(float x, float y, float z) {
+        return this.set((double) x, y, z);
+    }
+
+    /**
+     * Sets the vector to the given components
+     *
+     * @param x The x-component
+     * @param y The y-component
+     * @param z The z-component
+     *
+     * @return this vector for chaining
+     */
+    public Vector3dd set(double x, double y, double z) {
+        DoubleDouble.set(v, IX, x);
+        DoubleDouble.set(v, IY, y);
+        DoubleDouble.set(v, IZ, z);
+        return this;
+    }
+
+    /**
+     * Sets the vector to the given double-double components, which must be normalized.
+     *
+     * @param x   The high part of the x-component
+     * @param xLo The low part of the x-component
+     * @param y   The high part of the y-component
+     * @param yLo The low part of the y-component
+     * @param z   The high part of the z-component
+     * @param zLo The low part of the z-component
+     *
+     * @return this vector for chaining
+     */
+    public Vector3dd set(double x, double xLo, double y, double yLo, double z, double zLo) {
+        DoubleDouble.set(v, IX, x, xLo);
+        DoubleDouble.set(v, IY, y, yLo);
+        DoubleDouble.set(v, IZ, z, zLo);
+        return this;
+    }
+
+    public Vector3dd set(final Vector3dd vec) {
+        if (vec != null)
+            System.arraycopy(vec.v, IX, v, IX, 6);
+        return this;
+    }
+
+    public Vector3dd set(final Vector3d vec) {
+        if (vec != null)
+            return this.set(vec.x, vec.y, vec.z);
+        return this;
+    }
+
+    public Vector3dd set(final Vector3 vec) {
+        if (vec != null)
+            return this.set(vec.x, vec.y, vec.z);
+        return this;
+    }
+
+    /**
+     * Sets this vector to the given arbitrary precision vector, keeping the first 106 bits of each component. This
+     * allocates.
+     *
+     * @param vec The vector
+     *
+     * @return This vector for chaining
+     */
+    public Vector3dd set(final Vector3b vec) {
+        if (vec != null) {
+            set(vec.x, IX);
+            set(vec.y, IY);
+            set(vec.z, IZ);
+        }
+        return this;
+    }
+
+    private void set(Apfloat value, int i) {
+        final double hi = value.doubleValue();
+        final double lo = Double.isFinite(hi) ? value.subtract(new Apfloat(new BigDecimal(hi))).doubleValue() : 0;
+        // Normalize, the difference may be slightly above half an ulp
+        final double s = hi + lo;
+        DoubleDouble.set(v, i, s, lo - (s - hi));
+    }
+
+    public Vector3 put(final Vector3 vec) {
+        return vec.set((float) this.x(), (float) this.y(), (float) this.z());
+    }
+
+    public Vector3 tov3() {
+        return new Vector3((float) this.x(), (float) this.y(), (float) this.z());
+    }
+
+    public Vector3 tov3(Vector3 out) {
+        return out.set((float) this.x(), (float) this.y(), (float) this.z());
+    }
+
+    public Vector3d put(final Vector3d vec) {
+        return vec.set(this.x(), this.y(), this.z());
+    }
+
+    public Vector3d tov3d() {
+        return new Vector3d(this.x(), this.y(), this.z());
+    }
+
+    public Vector3d tov3d(Vector3d out) {
+        return out.set(this.x(), this.y(), this.z());
+    }
+
+    public Vector3dd put(final Vector3dd vec) {
+        return vec.set(this);
+    }
+
+    /**
+     * Sets the given arbitrary precision vector to this vector. This allocates.
+     *
+     * @param vec The vector
+     *
+     * @return The given vector
+     */
+    public Vector3b put(final Vector3b vec) {
+        return vec.set(toApfloat(IX), toApfloat(IY), toApfloat(IZ));
+    }
+
+    private Apfloat toApfloat(int i) {
+        return new Apfloat(toBigDecimal(i), Constants.PREC);
+    }
+
+    private BigDecimal toBigDecimal(int i) {
+        return new BigDecimal(v[i]).add(new BigDecimal(v[i + 1]));
+    }
+
+    /**
+     * Sets the components from the array. The array must have at least 3 elements
+     *
+     * @param vals The array
+     *
+     * @return this vector for chaining
+     */
+    public Vector3dd set(final double[] vals) {
+        return this.set(vals[0], vals[1], vals[2]);
+    }
+
+    /**
+     * Sets the components from the array. The array must have at least 3 elements
+     *
+     * @param vals The array
+     *
+     * @return this vector for chaining
+     */
+    public Vector3dd set(final float[] vals) {
+        return this.set(vals[0], vals[1], vals[2]);
+    }
+
+    /**
+     * Sets the components from the given spherical coordinate
+     *
+     * @param azimuthalAngle The angle between x-axis in radians [0, 2pi]
+     * @param polarAngle     The angle between z-axis in radians [0, pi]
+     *
+     * @return This vector for chaining
+     */
+    public Vector3dd setFromSpherical(double azimuthalAngle, double polarAngle) {
+        double cosPolar = MathUtilsDouble.cos(polarAngle);
+        double sinPolar = MathUtilsDouble.sin(polarAngle);
+
+        double cosAzim = MathUtilsDouble.cos(azimuthalAngle);
+        double sinAzim = MathUtilsDouble.sin(azimuthalAngle);
+
+        return this.set(cosAzim * sinPolar, sinAzim * sinPolar, cosPolar);
+    }
+
+    public Vector3dd setToRandomDirection() {
+        double u = MathUtilsDouble.random();
+        double v = MathUtilsDouble.random();
+
+        double theta = MathUtilsDouble.PI2 * u; // azimuthal angle
+        double phi = Math.acos(2f * v - 1f); // polar angle
+
+        return this.setFromSpherical(theta, phi);
+    }
+
+    public Vector3dd cpy() {
+        return new Vector3dd(this);
+    }
+
+    public Vector3dd add(final Vector3dd vec) {
+        final double[] w = vec.v;
+        DoubleDouble.add(v, IX, w[IX], w[IX + 1]);
+        DoubleDouble.add(v, IY, w[IY], w[IY + 1]);
+        DoubleDouble.add(v, IZ, w[IZ], w[IZ + 1]);
+        return this;
+    }
+
+    public Vector3dd add(final Vector3d vec) {
+        return this.add(vec.x, vec.y, vec.z);
+    }
+
+    public Vector3dd add(final Vector3 vec) {
+        return this.add(vec.x, vec.y, vec.z);
+    }
+
+    /**
+     * Adds the given vector to this component
+     *
+     * @param x The x-component of the other vector
+     * @param y The y-component of the other vector
+     * @param z The z-component of the other vector
+     *
+     * @return This vector for chaining.
+     */
+    public Vector3dd add(double x, double y, double z) {
+        DoubleDouble.add(v, IX, x);
+        DoubleDouble.add(v, IY, y);
+        DoubleDouble.add(v, IZ, z);
+        return this;
+    }
+
+    /**
+     * Adds the given vector to this component
+     *
+     * @param vals The 3-value double vector.
+     *
+     * @return This vector for chaining.
+     */
+    public Vector3dd add(double... vals) {
+        assert vals.length == 3 : "vals must contain 3 values";
+        return this.add(vals[0], vals[1], vals[2]);
+    }
+
+    /**
+     * Adds the given value to all three components of the vector.
+     *
+     * @param value The value
+     *
+     * @return This vector for chaining
+     */
+    public Vector3dd add(double value) {
+        return this.add(value, value, value);
+    }
+
+    public Vector3dd sub(final Vector3dd vec) {
+        final double[] w = vec.v;
+        DoubleDouble.sub(v, IX, w[IX], w[IX + 1]);
+        DoubleDouble.sub(v, IY, w[IY], w[IY + 1]);
+        DoubleDouble.sub(v, IZ, w[IZ], w[IZ + 1]);
+        return this;
+    }
+
+    public Vector3dd sub(final Vector3 a_vec) {
+        return this.sub(a_vec.x, a_vec.y, a_vec.z);
+    }
+
+    public Vector3dd sub(final Vector3d a_vec) {
+        return this.sub(a_vec.x, a_vec.y, a_vec.z);
+    }
+
+    /**
+     * Subtracts the other vector from this vector.
+     *
+     * @param x The x-component of the other vector
+     * @param y The y-component of the other vector
+     * @param z The z-component of the other vector
+     *
+     * @return This vector for chaining
+     */
+    public Vector3dd sub(double x, double y, double z) {
+        DoubleDouble.sub(v, IX, x);
+        DoubleDouble.sub(v, IY, y);
+        DoubleDouble.sub(v, IZ, z);
+        return this;
+    }
+
+    /**
+     * Subtracts the given value from all components of this vector
+     *
+     * @param value The value
+     *
+     * @return This vector for chaining
+     */
+    public Vector3dd sub(double value) {
+        return this.sub(value, value, value);
+    }
+
+    public Vector3dd div(double num) {
+        DoubleDouble.div(v, IX, num);
+        DoubleDouble.div(v, IY, num);
+        DoubleDouble.div(v, IZ, num);
+        return this;
+    }
+
+    public Vector3dd scl(double scalar) {
+        DoubleDouble.mul(v, IX, scalar);
+        DoubleDouble.mul(v, IY, scalar);
+        DoubleDouble.mul(v, IZ, scalar);
+        return this;
+    }
+
+    public Vector3dd scl(final Vector3dd vec) {
+        final double[] w = vec.v;
+        DoubleDouble.mul(v, IX, w[IX], w[IX + 1]);
+        DoubleDouble.mul(v, IY, w[IY], w[IY + 1]);
+        DoubleDouble.mul(v, IZ, w[IZ], w[IZ + 1]);
+        return this;
+    }
+
+    /**
+     * Scales this vector by the given values
+     *
+     * @param x X value
+     * @param y Y value
+     * @param z Z value
+     *
+     * @return This vector for chaining
+     */
+    public Vector3dd scl(double x, double y, double z) {
+        DoubleDouble.mul(v, IX, x);
+        DoubleDouble.mul(v, IY, y);
+        DoubleDouble.mul(v, IZ, z);
+        return this;
+    }
+
+    public Vector3dd mulAdd(Vector3dd vec, double scalar) {
+        final double[] w = vec.v;
+        DoubleDouble.mulAdd(v, IX, w[IX], w[IX + 1], scalar);
+        DoubleDouble.mulAdd(v, IY, w[IY], w[IY + 1], scalar);
+        DoubleDouble.mulAdd(v, IZ, w[IZ], w[IZ + 1], scalar);
+        return this;
+    }
+
+    public Vector3dd mulAdd(Vector3dd vec, Vector3dd mulVec) {
+        final double[] w = vec.v, m = mulVec.v;
+        DoubleDouble.mulAdd(v, IX, w[IX], w[IX + 1], m[IX], m[IX + 1]);
+        DoubleDouble.mulAdd(v, IY, w[IY], w[IY + 1], m[IY], m[IY + 1]);
+        DoubleDouble.mulAdd(v, IZ, w[IZ], w[IZ + 1], m[IZ], m[IZ + 1]);
+        return this;
+    }
+
+    public Vector3dd mul(Vector3dd vec) {
+        return this.scl(vec);
+    }
+
+    public Vector3dd div(Vector3dd vec) {
+        final double[] w = vec.v;
+        DoubleDouble.div(v, IX, w[IX], w[IX + 1]);
+        DoubleDouble.div(v, IY, w[IY], w[IY + 1]);
+        DoubleDouble.div(v, IZ, w[IZ], w[IZ + 1]);
+        return this;
+    }
+
+    public double lend() {
+        return len(x(), y(), z());
+    }
+
+    public float lenf() {
+        return (float) this.len();
+    }
+
+    public double len() {
+        len2(T0);
+        DoubleDouble.sqrt(v, T0);
+        return DoubleDouble.get(v, T0);
+    }
+
+    public double len2d() {
+        return this.len2();
+    }
+
+    public double len2() {
+        len2(T0);
+        return DoubleDouble.get(v, T0);
+    }
+
+    /** Puts the squared length in the scratch number at t. **/
+    private void len2(int t) {
+        DoubleDouble.set(v, t, 0);
+        DoubleDouble.mulAdd(v, t, v[IX], v[IX + 1], v[IX], v[IX + 1]);
+        DoubleDouble.mulAdd(v, t, v[IY], v[IY + 1], v[IY], v[IY + 1]);
+        DoubleDouble.mulAdd(v, t, v[IZ], v[IZ + 1], v[IZ], v[IZ + 1]);
+    }
+
+    /**
+     * @param vec The other vector
+     *
+     * @return Whether this and the other vector are equal
+     */
+    public boolean idt(final Vector3dd vec) {
+        final double[] w = vec.v;
+        for (int i = IX; i < T0; i++) {
+            if (v[i] != w[i])
+                return false;
+        }
+        return true;
+    }
+
+    public double dstd(final Vector3dd vec) {
+        return dst(vec);
+    }
+
+    public double dstd(final Vector3dd vec, final Vector3dd aux) {
+        return dst(vec, aux);
+    }
+
+    public double dst(final Vector3dd vec) {
+        final double[] w = vec.v;
+        dst2(w[IX], w[IX + 1], w[IY], w[IY + 1], w[IZ], w[IZ + 1]);
+        DoubleDouble.sqrt(v, T0);
+        return DoubleDouble.get(v, T0);
+    }
+
+    /**
+     * Same as {@link Vector3dd#dst(Vector3dd)}, kept for compatibility with {@link Vector3b}. The auxiliary vector is
+     * not needed.
+     *
+     * @param vec The vector to compute the distance to.
+     * @param aux The auxiliary vector.
+     *
+     * @return The distance between the two points.
+     */
+    public double dst(final Vector3dd vec, final Vector3dd aux) {
+        return dst(vec);
+    }
+
+    public double dst(final Vector3d vec) {
+        return dst(vec.x, vec.y, vec.z);
+    }
+
+    /**
+     * Same as {@link Vector3dd#dst(Vector3d)}, kept for compatibility with {@link Vector3b}. The auxiliary vector is
+     * not needed.
+     *
+     * @param vec The vector to compute the distance to.
+     * @param aux The auxiliary vector.
+     *
+     * @return The distance between the two points.
+     */
+    public double dst(final Vector3d vec, final Vector3dd aux) {
+        return dst(vec);
+    }
+
+    public double dstd(double x, double y, double z) {
+        return dst(x, y, z);
+    }
+
+    /** @return the distance between this point and the given point */
+    public double dst(double x, double y, double z) {
+        dst2(x, 0, y, 0, z, 0);
+        DoubleDouble.sqrt(v, T0);
+        return DoubleDouble.get(v, T0);
+    }
+
+    /** @return the distance between this point and the given point */
+    public double dst(double x, double y, double z, Vector3dd aux) {
+        return dst(x, y, z);
+    }
+
+    public double dst2d(Vector3dd vec) {
+        return this.dst2(vec);
+    }
+
+    public double dst2d(Vector3d vec) {
+        return this.dst2d(vec.x, vec.y, vec.z);
+    }
+
+    public double dst2(Vector3dd vec) {
+        final double[] w = vec.v;
+        dst2(w[IX], w[IX + 1], w[IY], w[IY + 1], w[IZ], w[IZ + 1]);
+        return DoubleDouble.get(v, T0);
+    }
+
+    public double dst2d(double x, double y, double z) {
+        return dst2(x, y, z);
+    }
+
+    /**
+     * Returns the squared distance between this point and the given point
+     *
+     * @param x The x-component of the other point
+     * @param y The y-component of the other point
+     * @param z The z-component of the other point
+     *
+     * @return The squared distance
+     */
+    public double dst2(double x, double y, double z) {
+        dst2(x, 0, y, 0, z, 0);
+        return DoubleDouble.get(v, T0);
+    }
+
+    /** Puts the squared distance to the given double-double point in the first scratch number. **/
+    private void dst2(double x, double xLo, double y, double yLo, double z, double zLo) {
+        DoubleDouble.set(v, T0, 0);
+        DoubleDouble.set(v, T1, v[IX], v[IX + 1]);
+        DoubleDouble.sub(v, T1, x, xLo);
+        DoubleDouble.mulAdd(v, T0, v[T1], v[T1 + 1], v[T1], v[T1 + 1]);
+        DoubleDouble.set(v, T1, v[IY], v[IY + 1]);
+        DoubleDouble.sub(v, T1, y, yLo);
+        DoubleDouble.mulAdd(v, T0, v[T1], v[T1 + 1], v[T1], v[T1 + 1]);
+        DoubleDouble.set(v, T1, v[IZ], v[IZ + 1]);
+        DoubleDouble.sub(v, T1, z, zLo);
+        DoubleDouble.mulAdd(v, T0, v[T1], v[T1 + 1], v[T1], v[T1 + 1]);
+    }
+
+    public Vector3dd nor() {
+        len2(T0);
+        final double len2d = DoubleDouble.get(v, T0);
+        if (len2d == 0f || len2d == 1f)
+            return this;
+        DoubleDouble.sqrt(v, T0);
+        final double lenHi = v[T0], lenLo = v[T0 + 1];
+        DoubleDouble.div(v, IX, lenHi, lenLo);
+        DoubleDouble.div(v, IY, lenHi, lenLo);
+        DoubleDouble.div(v, IZ, lenHi, lenLo);
+        return this;
+    }
+
+    public double dot(final Vector3d vec) {
+        return this.dot(vec.x, vec.y, vec.z);
+    }
+
+    public double dotd(final Vector3dd vec) {
+        return this.dot(vec);
+    }
+
+    public double dot(final Vector3dd vec) {
+        final double[] w = vec.v;
+        DoubleDouble.set(v, T0, 0);
+        DoubleDouble.mulAdd(v, T0, v[IX], v[IX + 1], w[IX], w[IX + 1]);
+        DoubleDouble.mulAdd(v, T0, v[IY], v[IY + 1], w[IY], w[IY + 1]);
+        DoubleDouble.mulAdd(v, T0, v[IZ], v[IZ + 1], w[IZ], w[IZ + 1]);
+        return DoubleDouble.get(v, T0);
+    }
+
+    public double dotd(double x, double y, double z) {
+        return this.dot(x, y, z);
+    }
+
+    /**
+     * Returns the dot product between this and the given vector.
+     *
+     * @param x The x-component of the other vector
+     * @param y The y-component of the other vector
+     * @param z The z-component of the other vector
+     *
+     * @return The dot product
+     */
+    public double dot(double x, double y, double z) {
+        DoubleDouble.set(v, T0, 0);
+        DoubleDouble.mulAdd(v, T0, v[IX], v[IX + 1], x);
+        DoubleDouble.mulAdd(v, T0, v[IY], v[IY + 1], y);
+        DoubleDouble.mulAdd(v, T0, v[IZ], v[IZ + 1], z);
+        return DoubleDouble.get(v, T0);
+    }
+
+    /**
+     * Sets this vector to the cross product between it and the other vector.
+     *
+     * @param vec The other vector
+     *
+     * @return This vector for chaining
+     */
+    public Vector3dd crs(final Vector3dd vec) {
+        final double[] w = vec.v;
+        return crs(w[IX], w[IX + 1], w[IY], w[IY + 1], w[IZ], w[IZ + 1]);
+    }
+
+    public Vector3dd crs(final Vector3d vec) {
+        return crs(vec.x, 0, vec.y, 0, vec.z, 0);
+    }
+
+    /**
+     * Sets this vector to the cross product between it and the other vector.
+     *
+     * @param x The x-component of the other vector
+     * @param y The y-component of the other vector
+     * @param z The z-component of the other vector
+     *
+     * @return This vector for chaining
+     */
+    public Vector3dd crs(double x, double y, double z) {
+        return crs(x, 0, y, 0, z, 0);
+    }
+
+    private Vector3dd crs(double x, double xLo, double y, double yLo, double z, double zLo) {
+        // this.y * z - this.z * y
+        DoubleDouble.set(v, T0, 0);
+        DoubleDouble.mulAdd(v, T0, v[IY], v[IY + 1], z, zLo);
+        DoubleDouble.mulAdd(v, T0, -v[IZ], -v[IZ + 1], y, yLo);
+        // this.z * x - this.x * z
+        DoubleDouble.set(v, T1, 0);
+        DoubleDouble.mulAdd(v, T1, v[IZ], v[IZ + 1], x, xLo);
+        DoubleDouble.mulAdd(v, T1, -v[IX], -v[IX + 1], z, zLo);
+        // this.x * y - this.y * x
+        DoubleDouble.set(v, T2, 0);
+        DoubleDouble.mulAdd(v, T2, v[IX], v[IX + 1], y, yLo);
+        DoubleDouble.mulAdd(v, T2, -v[IY], -v[IY + 1], x, xLo);
+        System.arraycopy(v, T0, v, IX, 6);
+        return this;
+    }
+
+    /**
+     * Left-multiplies the vector by the given 4x3 column major matrix. The matrix
+     * should be composed by a 3x3 matrix representing rotation and scale plus a 1x3
+     * matrix representing the translation.
+     *
+     * @param matrix The matrix
+     *
+     * @return This vector for chaining
+     */
+    public Vector3dd mul4x3(double[] matrix) {
+        row(T0, matrix[0], matrix[3], matrix[6], matrix[9]);
+        row(T1, matrix[1], matrix[4], matrix[7], matrix[10]);
+        row(T2, matrix[2], matrix[5], matrix[8], matrix[11]);
+        System.arraycopy(v, T0, v, IX, 6);
+        return this;
+    }
+
+    /**
+     * Left-multiplies the vector by the given matrix, assuming the fourth (w)
+     * component of the vector is 1.
+     *
+     * @param matrix The matrix
+     *
+     * @return This vector for chaining
+     */
+    public Vector3dd mul(final Matrix4d matrix) {
+        final double[] mat = matrix.val;
+        row(T0, mat[Matrix4d.M00], mat[Matrix4d.M01], mat[Matrix4d.M02], mat[Matrix4d.M03]);
+        row(T1, mat[Matrix4d.M10], mat[Matrix4d.M11], mat[Matrix4d.M12], mat[Matrix4d.M13]);
+        row(T2, mat[Matrix4d.M20], mat[Matrix4d.M21], mat[Matrix4d.M22], mat[Matrix4d.M23]);
+        System.arraycopy(v, T0, v, IX, 6);
+        return this;
+    }
+
+    /** Puts <code>x * m0 + y * m1 + z * m2 + m3</code> in the scratch number at t. **/
+    private void row(int t, double m0, double m1, double m2, double m3) {
+        DoubleDouble.set(v, t, m3);
+        DoubleDouble.mulAdd(v, t, v[IX], v[IX + 1], m0);
+        DoubleDouble.mulAdd(v, t, v[IY], v[IY + 1], m1);
+        DoubleDouble.mulAdd(v, t, v[IZ], v[IZ + 1], m2);
+    }
+
+    /**
+     * Rotates this vector by the given angle in degrees around the given axis.
+     *
+     * @param degrees the angle in degrees
+     * @param axisX   the x-component of the axis
+     * @param axisY   the y-component of the axis
+     * @param axisZ   the z-component of the axis
+     *
+     * @return This vector for chaining
+     */
+    public Vector3dd rotate(double degrees, double axisX, double axisY, double axisZ) {
+        return this.mul(tmpMat.setToRotation(axisX, axisY, axisZ, degrees));
+    }
+
+    /**
+     * Rotates this vector by the given angle in degrees around the given axis.
+     *
+     * @param axis    the axis
+     * @param degrees the angle in degrees
+     *
+     * @return This vector for chaining
+     */
+    public Vector3dd rotate(final Vector3d axis, double degrees) {
+        tmpMat.setToRotation(axis, degrees);
+        return this.mul(tmpMat);
+    }
+
+    /**
+     * Sets the given matrix to a translation matrix using this vector.
+     *
+     * @param matrix The matrix to set as a translation matrix.
+     *
+     * @return The matrix aux, for chaining.
+     */
+    public Matrix4 setToTranslation(Matrix4 matrix) {
+        return matrix.idt().translate((float) x(), (float) y(), (float) z());
+    }
+
+    /**
+     * Sets the given matrix to a translation matrix using this vector.
+     *
+     * @param matrix The matrix to set as a translation matrix.
+     *
+     * @return The matrix aux, for chaining.
+     */
+    public Matrix4d setToTranslation(Matrix4d matrix) {
+        return matrix.idt().translate(x(), y(), z());
+    }
+
+    public boolean isUnit() {
+        return isUnit(0.000000001);
+    }
+
+    public boolean isUnit(final double margin) {
+        return Math.abs(len2d() - 1f) < margin;
+    }
+
+    public boolean isZero() {
+        return x() == 0 && y() == 0 && z() == 0;
+    }
+
+    public boolean isZero(final double margin) {
+        return len2d() < margin;
+    }
+
+    public String toString() {
+        final MathContext mc = new MathContext(Constants.PREC);
+        return toBigDecimal(IX).round(mc) + "," + toBigDecimal(IY).round(mc) + "," + toBigDecimal(IZ).round(mc);
+    }
+
+    public Vector3dd setLength(double len) {
+        return setLength2(len * len);
+    }
+
+    public Vector3dd setLength2(double len2) {
+        double oldLen2 = len2d();
+        return (oldLen2 == 0 || oldLen2 == len2) ? this : scl(Math.sqrt(len2 / oldLen2));
+    }
+
+    public Vector3dd clamp(double min, double max) {
+        final double l2 = len2d();
+        if (l2 == 0f)
+            return this;
+        if (l2 > max * max)
+            return nor().scl(max);
+        if (l2 < min * min)
+            return nor().scl(min);
+        return this;
+    }
+
+    public double[] valuesd() {
+        return new double[] { x(), y(), z() };
+    }
+
+    public float[] valuesf() {
+        return new float[] { (float) x(), (float) y(), (float) z() };
+    }
+
+    public float[] valuesf(float[] vec) {
+        vec[0] = (float) x();
+        vec[1] = (float) y();
+        vec[2] = (float) z();
+        return vec;
+    }
+
+    /**
+     * Scales a given vector with a scalar and add the result to this one, i.e.
+     * <code>this = this + s*v</code>. Unlike {@link Vector3b#scaleAdd(double, Vector3b)}, the given vector is not
+     * modified.
+     *
+     * @param s scalar scaling factor
+     * @param v vector to scale
+     *
+     * @return vector modified in place
+     */
+    public Vector3dd scaleAdd(final double s, final Vector3dd v) {
+        return this.mulAdd(v, s);
+    }
+
+    /**
+     * Returns a vector3 representation of this vector by casting the doubles to
+     * floats. This creates a new object
+     *
+     * @return The vector3 representation of this vector3dd
+     */
+    public Vector3 toVector3() {
+        return tov3();
+    }
+
+    /**
+     * Returns a vector3d representation of this vector with the high parts of
+     * the components. This creates a new object
+     *
+     * @return The vector3d representation of this vector3dd
+     */
+    public Vector3d toVector3d() {
+        return tov3d();
+    }
+
+    /**
+     * Returns set v to this vector by casting doubles to floats.
+     *
+     * @return The float vector v.
+     */
+    public Vector3 setVector3(Vector3 v) {
+        return v.set((float) x(), (float) y(), (float) z());
+    }
+
+    /**
+     * Returns set v to this vector with the high parts of the components.
+     *
+     * @return The double vector v.
+     */
+    public Vector3d setVector3d(Vector3d v) {
+        return v.set(x(), y(), z());
+    }
+
+    /** Gets the angle in degrees between the two vectors **/
+    public double angle(Vector3dd v) {
+        return MathUtilsDouble.radiansToDegrees * FastMath.acos(MathUtils.clamp(this.dotd(v) / (this.lend() * v.lend()), -1d, 1d));
+    }
+
+    /** Gets the angle in degrees between the two vectors **/
+    public double angle(Vector3d v) {
+        return MathUtilsDouble.radiansToDegrees * FastMath.acos(MathUtils.clamp(this.dot(v) / (this.lend() * v.len()), -1d, 1d));
+    }
+
+    /** Gets the angle in degrees between the two vectors **/
+    public double anglePrecise(Vector3dd v) {
+        return MathUtilsDouble.radiansToDegrees * Math.acos(MathUtils.clamp(this.dotd(v) / (this.lend() * v.lend()), -1d, 1d));
+    }
+
+    /** Gets the angle in degrees between the two vectors **/
+    public double anglePrecise(Vector3d v) {
+        return MathUtilsDouble.radiansToDegrees * Math.acos(MathUtils.clamp(this.dot(v) / (this.lend() * v.len()), -1d, 1d));
+    }
+
+    @Override
+    public int hashCode() {
+        final long prime = 31;
+        long result = 1;
+        for (int i = IX; i < T0; i++) {
+            result = prime * result + Double.hashCode(v[i]);
+        }
+        return (int) result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        Vector3dd other = (Vector3dd) obj;
+        for (int i = IX; i < T0; i++) {
+            if (Double.doubleToLongBits(v[i]) != Double.doubleToLongBits(other.v[i]))
+                return false;
+        }
+        return true;
+    }
+
+    public Vector3dd setZero() {
+        return this.set(0, 0, 0);
+    }
+
+    public boolean hasNaN() {
+        return Double.isNaN(x()) || Double.isNaN(y()) || Double.isNaN(z());
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.util.math.test;
+
+import gaiasky.util.math.Matrix4d;
+import gaiasky.util.math.Vector3d;
+import gaiasky.util.math.Vector3dd;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+
+/**
+ * Checks the precision of {@link Vector3dd} against exact {@link BigDecimal} arithmetic, at scales from the inner solar
+ * system to the galaxy, with sub-millimetre offsets. Distances are in metres. For each scale, it reports the largest
+ * error of each operation with plain doubles and with double-doubles, and whether the double-double error stays within
+ * a few units in the last place of 106 bits.
+ */
+public class Vector3ddPrecisionTest {
+    private static final double AU = 1.495978707e11;
+    private static final double PC = 3.0856775814913673e16;
+
+    private static final double[] SCALES = new double[] { AU, 100 * AU, 1e3 * PC, 30e3 * PC };
+    private static final String[] SCALE_NAMES = new String[] { "1 AU", "100 AU", "1 kpc", "30 kpc" };
+
+    /** Tolerance, relative to the scale of the operands. **/
+    private static final double TOLERANCE = Math.scalb(1d, -100);
+
+    private static final int N_SAMPLES = 2000;
+    private static final int N_STEPS = 100_000;
+    private static final MathContext MC = new MathContext(80);
+
+    private static boolean failed = false;
+
+    public static void main(String[] args) {
+        Random rnd = new Random(1234L);
+        for (int s = 0; s < SCALES.length; s++) {
+            double scale = SCALES[s];
+            System.out.println("==========================");
+            System.out.println("Scale: " + SCALE_NAMES[s] + " (" + scale + " m), double ulp: " + Math.ulp(scale) + " m");
+            testRoundTrip(rnd, scale);
+            testDistance(rnd, scale);
+            testSteps(rnd, scale);
+            testRotation(rnd, scale);
+            testNormalize(rnd, scale);
+        }
+        System.out.println("==========================");
+        System.out.println(failed ? "FAILED" : "PASSED");
+        if (failed) {
+            System.exit(1);
+        }
+    }
+
+    /** (p + d) - p, which should give back the sub-millimetre offset d. **/
+    private static void testRoundTrip(Random rnd, double scale) {
+        double errD = 0, errDD = 0;
+        Vector3dd p = new Vector3dd(), q = new Vector3dd();
+        for (int i = 0; i < N_SAMPLES; i++) {
+            p.set(position(rnd, scale));
+            Vector3d d = offset(rnd);
+            q.set(p).add(d).sub(p);
+            errDD = Math.max(errDD, error(q, bd(d.x), bd(d.y), bd(d.z)));
+
+            Vector3d pd = p.tov3d();
+            Vector3d qd = new Vector3d(pd).add(d).sub(pd);
+            errD = Math.max(errD, error(qd, bd(d.x), bd(d.y), bd(d.z)));
+        }
+        report("(p + d) - p", errD, errDD, scale * TOLERANCE);
+    }
+
+    /** Distance between p and p + d. **/
+    private static void testDistance(Random rnd, double scale) {
+        double errD = 0, errDD = 0;
+        Vector3dd p = new Vector3dd(), q = new Vector3dd();
+        for (int i = 0; i < N_SAMPLES; i++) {
+            p.set(position(rnd, scale));
+            Vector3d d = offset(rnd);
+            q.set(p).add(d);
+            // Reference, from the exact components
+            BigDecimal dx = bd(q.x(), q.xLo()).subtract(bd(p.x(), p.xLo()));
+            BigDecimal dy = bd(q.y(), q.yLo()).subtract(bd(p.y(), p.yLo()));
+            BigDecimal dz = bd(q.z(), q.zLo()).subtract(bd(p.z(), p.zLo()));
+            BigDecimal ref = dx.multiply(dx).add(dy.multiply(dy)).add(dz.multiply(dz)).sqrt(MC);
+
+            errDD = Math.max(errDD, bd(q.dst(p)).subtract(ref).abs().doubleValue());
+            errD = Math.max(errD, bd(q.tov3d().dst(p.tov3d())).subtract(ref).abs().doubleValue());
+        }
+        report("|p + d - p|", errD, errDD, scale * TOLERANCE);
+    }
+
+    /** Many small displacements added to a position, like an orbit integrated frame by frame. **/
+    private static void testSteps(Random rnd, double scale) {
+        Vector3d p0 = position(rnd, scale);
+        Vector3d step = offset(rnd);
+        Vector3dd p = new Vector3dd(p0);
+        Vector3d pd = new Vector3d(p0);
+        for (int i = 0; i < N_STEPS; i++) {
+            p.add(step);
+            pd.add(step);
+        }
+        BigDecimal n = BigDecimal.valueOf(N_STEPS);
+        BigDecimal rx = bd(p0.x).add(bd(step.x).multiply(n));
+        BigDecimal ry = bd(p0.y).add(bd(step.y).multiply(n));
+        BigDecimal rz = bd(p0.z).add(bd(step.z).multiply(n));
+        report(N_STEPS + " steps", error(pd, rx, ry, rz), error(p, rx, ry, rz), N_STEPS * scale * TOLERANCE);
+    }
+
+    /** Rotation and translation of a position by a matrix. **/
+    private static void testRotation(Random rnd, double scale) {
+        double errD = 0, errDD = 0;
+        Vector3dd p = new Vector3dd();
+        Matrix4d m = new Matrix4d();
+        for (int i = 0; i < N_SAMPLES; i++) {
+            Vector3d axis = new Vector3d(rnd.nextGaussian(), rnd.nextGaussian(), rnd.nextGaussian()).nor();
+            Vector3d t = position(rnd, scale);
+            m.setToRotation(axis, rnd.nextDouble() * 360).setTranslation(t);
+            Vector3d p0 = position(rnd, scale);
+            p.set(p0).mul(m);
+
+            double[] v = m.val;
+            BigDecimal[] ref = new BigDecimal[3];
+            for (int row = 0; row < 3; row++) {
+                ref[row] = bd(p0.x).multiply(bd(v[row])).add(bd(p0.y).multiply(bd(v[row + 4]))).add(bd(p0.z).multiply(bd(v[row + 8]))).add(bd(v[row + 12]));
+            }
+            errDD = Math.max(errDD, error(p, ref[0], ref[1], ref[2]));
+            errD = Math.max(errD, error(new Vector3d(p0).mul(m), ref[0], ref[1], ref[2]));
+        }
+        report("rotate + translate", errD, errDD, 4 * scale * TOLERANCE);
+    }
+
+    /** Normalization of a position, relative error. **/
+    private static void testNormalize(Random rnd, double scale) {
+        double errD = 0, errDD = 0;
+        Vector3dd p = new Vector3dd();
+        for (int i = 0; i < N_SAMPLES; i++) {
+            Vector3d p0 = position(rnd, scale);
+            p.set(p0).nor();
+            BigDecimal x = bd(p0.x), y = bd(p0.y), z = bd(p0.z);
+            BigDecimal len = x.multiply(x).add(y.multiply(y)).add(z.multiply(z)).sqrt(MC);
+            BigDecimal rx = x.divide(len, MC), ry = y.divide(len, MC), rz = z.divide(len, MC);
+            errDD = Math.max(errDD, error(p, rx, ry, rz));
+            errD = Math.max(errD, error(new Vector3d(p0).nor(), rx, ry, rz));
+        }
+        report("nor", errD, errDD, TOLERANCE);
+    }
+
+    private static Vector3d position(Random rnd, double scale) {
+        return new Vector3d(rnd.nextGaussian(), rnd.nextGaussian(), rnd.nextGaussian()).nor().scl(scale * (0.5 + rnd.nextDouble()));
+    }
+
+    /** Random offset of less than a millimetre. **/
+    private static Vector3d offset(Random rnd) {
+        return new Vector3d(rnd.nextGaussian(), rnd.nextGaussian(), rnd.nextGaussian()).scl(1e-4);
+    }
+
+    private static BigDecimal bd(double value) {
+        return new BigDecimal(value);
+    }
+
+    private static BigDecimal bd(double hi, double lo) {
+        return new BigDecimal(hi).add(new BigDecimal(lo));
+    }
+
+    /** Largest absolute error of the components. **/
+    private static double error(Vector3dd v, BigDecimal x, BigDecimal y, BigDecimal z) {
+        double ex = bd(v.x(), v.xLo()).subtract(x).abs().doubleValue();
+        double ey = bd(v.y(), v.yLo()).subtract(y).abs().doubleValue();
+        double ez = bd(v.z(), v.zLo()).subtract(z).abs().doubleValue();
+        return Math.max(ex, Math.max(ey, ez));
+    }
+
+    private static double error(Vector3d v, BigDecimal x, BigDecimal y, BigDecimal z) {
+        double ex = bd(v.x).subtract(x).abs().doubleValue();
+        double ey = bd(v.y).subtract(y).abs().doubleValue();
+        double ez = bd(v.z).subtract(z).abs().doubleValue();
+        return Math.max(ex, Math.max(ey, ez));
+    }
+
+    private static void report(String name, double errorDouble, double errorDoubleDouble, double tolerance) {
+        boolean ok = errorDoubleDouble <= tolerance;
+        failed |= !ok;
+        System.out.printf("%-20s double: %-12.4g double-double: %-12.4g tolerance: %-12.4g %s%n", name, errorDouble, errorDoubleDouble, tolerance, ok ? "OK" : "FAIL");
+    }
+}
@@ -4,6 +4,7 @@
  */
 package gaiasky.util.parse;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
@@ -16,6 +17,9 @@ import java.util.stream.Collectors;
  * @since 10/02/2015 14:29:47
  */
 public final class Parser {
+    /** Powers of ten which are exactly representable as doubles. **/
+    private static final double[] POW10 = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
     /**
      * <p>
      * Quick long string parser that can handle negative and positive values.
@@ -617,4 +621,102 @@ public final class Parser {
         }
         return result;
     }
+
+    /**
+     * <p>
+     * Parses the ASCII representation of a double in the given range of a byte array, without creating any objects.
+     * </p>
+     * <p>
+     * Unlike {@link #parseDouble(String)}, the result is always the same as the one of {@link Double#parseDouble(String)}.
+     * Numbers with at most 15 significant digits and a decimal exponent within [-22, 22] are computed
+     * with a single, correctly rounded, multiplication or division. Anything else (more digits, large exponents, NaN,
+     * Infinity, type suffixes) is delegated to {@link Double#parseDouble(String)}.
+     * </p>
+     *
+     * @param input The bytes.
+     * @param from  The start of the number, inclusive.
+     * @param to    The end of the number, exclusive. The range must not contain white space.
+     *
+     * @return The parsed double.
+     *
+     * @throws NumberFormatException If the input is not a valid number.
+     */
+    public static double parseDouble(byte[] input, int from, int to) throws NumberFormatException {
+        int pos = from;
+        boolean negative = false;
+        if (pos < to && (input[pos] == '-' || input[pos] == '+')) {
+            negative = input[pos] == '-';
+            pos++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int exp10 = 0;
+        boolean any = false;
+        // Integer part
+        while (pos < to && input[pos] >= '0' && input[pos] <= '9') {
+            int d = input[pos++] - '0';
+            any = true;
+            if (mantissa != 0 || d != 0) {
+                if (++digits > 15)
+                    return parseDoubleSlow(input, from, to);
+                mantissa = mantissa * 10 + d;
+            }
+        }
+        // Fractional part
+        if (pos < to && input[pos] == '.') {
+            pos++;
+            while (pos < to && input[pos] >= '0' && input[pos] <= '9') {
+                int d = input[pos++] - '0';
+                any = true;
+                if (mantissa != 0 || d != 0) {
+                    if (++digits > 15)
+                        return parseDoubleSlow(input, from, to);
+                    mantissa = mantissa * 10 + d;
+                }
+                exp10--;
+            }
+        }
+        if (!any)
+            return parseDoubleSlow(input, from, to);
+        // Exponent
+        if (pos < to && (input[pos] == 'e' || input[pos] == 'E')) {
+            pos++;
+            boolean expNegative = false;
+            if (pos < to && (input[pos] == '-' || input[pos] == '+')) {
+                expNegative = input[pos] == '-';
+                pos++;
+            }
+            int exp = 0;
+            boolean expDigits = false;
+            while (pos < to && input[pos] >= '0' && input[pos] <= '9') {
+                if (exp < 10000)
+                    exp = exp * 10 + (input[pos] - '0');
+                pos++;
+                expDigits = true;
+            }
+            if (!expDigits)
+                return parseDoubleSlow(input, from, to);
+            exp10 += expNegative ? -exp : exp;
+        }
+        if (pos != to)
+            return parseDoubleSlow(input, from, to);
+
+        double value;
+        if (mantissa == 0) {
+            value = 0;
+        } else if (exp10 == 0) {
+            value = mantissa;
+        } else if (exp10 > 0 && exp10 < POW10.length) {
+            value = mantissa * POW10[exp10];
+        } else if (exp10 < 0 && -exp10 < POW10.length) {
+            value = mantissa / POW10[-exp10];
+        } else {
+            return parseDoubleSlow(input, from, to);
+        }
+        return negative ? -value : value;
+    }
+
+    private static double parseDoubleSlow(byte[] input, int from, int to) throws NumberFormatException {
+        return Double.parseDouble(new String(input, from, to - from, StandardCharsets.ISO_8859_1));
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.util.test;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Files;
+import gaiasky.data.group.DatasetOptions;
+import gaiasky.data.group.STILDataProvider;
+import gaiasky.scene.api.IParticleRecord;
+import gaiasky.util.SettingsManager;
+import uk.ac.starlink.util.FileDataSource;
+
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Loads a generated CSV catalog with progressive loading, as the dataset load dialog and the dataset loading calls of the
+ * scripting interface do when streaming is enabled. It checks that several chunks are published while the file is
+ * still loading and that the chunks add up to the loaded records, in order, and it prints when the first chunk is
+ * published.
+ */
+public class StreamingLoadTest {
+    /** Number of rows of the generated catalog. **/
+    private static final int N = 1_000_000;
+
+    public static void main(String[] args) {
+        try {
+            Gdx.files = new Lwjgl3Files();
+            SettingsManager.initialize(new FileInputStream("../assets/conf/config.yaml"), new FileInputStream("../assets/data/dummyversion"));
+
+            Path file = Files.createTempFile("gaiasky-streaming", ".csv");
+            Random rnd = new Random(1234L);
+            try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+                writer.write("source_id,ra,dec,parallax,phot_g_mean_mag\n");
+                for (int i = 0; i < N; i++) {
+                    writer.write((i + 1) + "," + rnd.nextDouble() * 360.0 + "," + (rnd.nextDouble() * 180.0 - 90.0) + "," + (0.1 + rnd.nextDouble() * 10.0) + "," + (5.0 + rnd.nextDouble() * 15.0) + "\n");
+                }
+            }
+
+            DatasetOptions datasetOptions = DatasetOptions.getStarDatasetOptions("streaming", 0, new double[] { 1, 1, 1, 1 }, null, null);
+            datasetOptions.streaming = true;
+            datasetOptions.cache = false;
+
+            final List<IParticleRecord> chunks = new ArrayList<>();
+            final long[] firstChunk = new long[] { -1 };
+            final int[] count = new int[1];
+            STILDataProvider provider = new STILDataProvider();
+            provider.setDatasetOptions(datasetOptions);
+            provider.setChunkConsumer(chunk -> {
+                count[0]++;
+                if (firstChunk[0] < 0) {
+                    firstChunk[0] = System.nanoTime();
+                }
+                chunks.addAll(chunk);
+            });
+            long start = System.nanoTime();
+            List<IParticleRecord> data = provider.loadData(new FileDataSource(file.toFile()), 1.0);
+            long end = System.nanoTime();
+            Files.delete(file);
+
+            boolean ok = data.size() == N && chunks.size() == N && count[0] > 1;
+            for (int i = 0; ok && i < N; i++) {
+                ok = chunks.get(i) == data.get(i);
+            }
+            System.out.printf("records: %d, chunks: %d%n", data.size(), count[0]);
+            System.out.printf("first chunk after %.1f ms, load finished after %.1f ms%n", (firstChunk[0] - start) / 1e6, (end - start) / 1e6);
+            System.out.println(ok ? "PASSED" : "FAILED");
+            if (!ok) {
+                System.exit(1);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+}
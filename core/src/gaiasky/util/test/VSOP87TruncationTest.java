@@ -0,0 +1,65 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.util.test;
+
+import gaiasky.util.Nature;
+import gaiasky.util.coord.vsop87.*;
+import gaiasky.util.math.Vector3d;
+
+/**
+ * Compares the VSOP87 series truncated with {@link AbstractVSOP87#LOW_ACCURACY_THRESHOLD} with the full series,
+ * for all planets, over the years 1000 to 3000. It checks that the differences in L, B and R are within the error
+ * bounds of the truncated series, and prints the number of terms and the largest position errors.
+ */
+public class VSOP87TruncationTest {
+    private static final String[] PLANETS = new String[] { "Mercury", "Venus", "Earth", "Mars", "Jupiter", "Saturn", "Uranus", "Neptune" };
+
+    public static void main(String[] args) {
+        AbstractVSOP87[] full = new AbstractVSOP87[] { new MercuryVSOP87(), new VenusVSOP87(), new EarthVSOP87(), new MarsVSOP87(), new JupiterVSOP87(), new SaturnVSOP87(), new UranusVSOP87(), new NeptuneVSOP87() };
+        AbstractVSOP87[] low = new AbstractVSOP87[] { new MercuryVSOP87(), new VenusVSOP87(), new EarthVSOP87(), new MarsVSOP87(), new JupiterVSOP87(), new SaturnVSOP87(), new UranusVSOP87(), new NeptuneVSOP87() };
+
+        Vector3d bounds = new Vector3d();
+        Vector3d exact = new Vector3d(), approx = new Vector3d();
+        boolean ok = true;
+        System.out.printf("%-10s%10s%10s%18s%18s%n", "planet", "terms", "full", "max error [km]", "max bound [km]");
+        for (int i = 0; i < PLANETS.length; i++) {
+            full[i].setHighAccuracy(true);
+            low[i].setHighAccuracy(false);
+            double maxError = 0, maxBound = 0;
+            // Julian millennia since J2000, from the year 1000 to the year 3000
+            for (double t = -1; t <= 1; t += 0.001) {
+                evaluate(full[i], t, exact);
+                evaluate(low[i], t, approx);
+                low[i].getErrorBounds(t, bounds);
+                if (Math.abs(exact.x - approx.x) > bounds.x || Math.abs(exact.y - approx.y) > bounds.y || Math.abs(exact.z - approx.z) > bounds.z) {
+                    System.out.println(PLANETS[i] + ": error out of bounds at t=" + t);
+                    ok = false;
+                }
+                double error = toCartesian(exact).dst(toCartesian(approx)) * Nature.AU_TO_KM;
+                double bound = (exact.z * (bounds.x + bounds.y) + bounds.z) * Nature.AU_TO_KM;
+                maxError = Math.max(maxError, error);
+                maxBound = Math.max(maxBound, bound);
+            }
+            System.out.printf("%-10s%10d%10d%18.1f%18.1f%n", PLANETS[i], low[i].getTermCount(), full[i].getTermCount(), maxError, maxBound);
+        }
+        System.out.println(ok ? "PASSED" : "FAILED");
+        if (!ok) {
+            System.exit(1);
+        }
+    }
+
+    private static void evaluate(AbstractVSOP87 coord, double t, Vector3d out) {
+        double l = coord.L0(t) + coord.L1(t) + coord.L2(t) + coord.L3(t) + coord.L4(t) + coord.L5(t);
+        double b = coord.B0(t) + coord.B1(t) + coord.B2(t) + coord.B3(t) + coord.B4(t) + coord.B5(t);
+        double r = coord.R0(t) + coord.R1(t) + coord.R2(t) + coord.R3(t) + coord.R4(t) + coord.R5(t);
+        out.set(l, b, r);
+    }
+
+    private static Vector3d toCartesian(Vector3d lbr) {
+        double cosb = Math.cos(lbr.y);
+        return lbr.set(lbr.z * cosb * Math.cos(lbr.x), lbr.z * cosb * Math.sin(lbr.x), lbr.z * Math.sin(lbr.y));
+    }
+}
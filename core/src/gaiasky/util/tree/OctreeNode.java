@@ -18,9 +18,10 @@ import gaiasky.scene.view.OctreeObjectView;
 import gaiasky.util.Pair;
 import gaiasky.util.Settings;
 import gaiasky.util.color.ColorUtils;
+import gaiasky.util.filter.attrib.AttributeStats;
 import gaiasky.util.math.MathUtilsDouble;
-import gaiasky.util.math.Vector3b;
 import gaiasky.util.math.Vector3d;
+import gaiasky.util.math.Vector3dd;
 import gaiasky.util.parse.Parser;
 import net.jafama.FastMath;
 
@@ -77,6 +78,8 @@ public class OctreeNode implements ILineRenderable {
     public boolean observed;
     /** The opacity of this node. **/
     public float opacity;
+    /** Summaries of the attributes of the objects in this node (not including descendants), if present in the metadata. **/
+    public Map<String, AttributeStats> attributeStats;
     ComponentTypes ct = new ComponentTypes(ComponentType.Others);
     com.badlogic.gdx.graphics.Color col = new com.badlogic.gdx.graphics.Color();
     /** The load status of this node. **/
@@ -527,7 +530,7 @@ public class OctreeNode implements ILineRenderable {
      * @param roulette        List where the nodes to be processed are to be added.
      * @param opacity         The opacity to set.
      */
-    public void update(Vector3b parentTransform, ICamera cam, List<IOctreeObject> roulette, float opacity) {
+    public void update(Vector3dd parentTransform, ICamera cam, List<IOctreeObject> roulette, float opacity) {
         this.opacity = opacity;
         this.observed = false;
 
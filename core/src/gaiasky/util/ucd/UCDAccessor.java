@@ -0,0 +1,167 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaiasky.util.ucd;
+
+import com.badlogic.gdx.utils.Array;
+import gaiasky.util.parse.Parser;
+
+/**
+ * Typed access to the cells of a group of candidate columns, as produced by {@link UCDParser}. The column indices
+ * are resolved once, and the values are converted without exceptions or intermediate objects, so that instances can be
+ * used in tight loops over many rows. The candidates are tried in order, and the first one with a valid value wins.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public class UCDAccessor {
+    /** The candidate columns, in order of preference. **/
+    public final UCD[] ucds;
+    private final int[] indices;
+
+    public UCDAccessor(Array<UCD> ucds) {
+        this.ucds = new UCD[ucds.size];
+        this.indices = new int[ucds.size];
+        for (int i = 0; i < ucds.size; i++) {
+            this.ucds[i] = ucds.get(i);
+            this.indices[i] = ucds.get(i).index;
+        }
+    }
+
+    public boolean isEmpty() {
+        return ucds.length == 0;
+    }
+
+    public int size() {
+        return ucds.length;
+    }
+
+    /**
+     * Gets the first value which can be converted to a number that is not NaN.
+     *
+     * @param row The row.
+     *
+     * @return The value, or NaN if no candidate column has a valid value.
+     */
+    public double getDouble(Object[] row) {
+        return getDouble(row, null);
+    }
+
+    /**
+     * Gets the first value which can be converted to a number that is not NaN.
+     *
+     * @param row    The row.
+     * @param column If not null, the position in {@link #ucds} of the column the value comes from, or -1, is
+     *               stored in its first element.
+     *
+     * @return The value, or NaN if no candidate column has a valid value.
+     */
+    public double getDouble(Object[] row, int[] column) {
+        for (int k = 0; k < indices.length; k++) {
+            double value = toDouble(row[indices[k]]);
+            if (!Double.isNaN(value)) {
+                if (column != null)
+                    column[0] = k;
+                return value;
+            }
+        }
+        if (column != null)
+            column[0] = -1;
+        return Double.NaN;
+    }
+
+    /**
+     * Gets the first value which is, or can be parsed to, an array of numbers.
+     *
+     * @param row The row.
+     *
+     * @return The array, or null if no candidate column has a valid value.
+     */
+    public double[] getDoubleArray(Object[] row) {
+        for (int index : indices) {
+            double[] value = toDoubleArray(row[index]);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the first non-null value as a stripped string.
+     *
+     * @param row    The row.
+     * @param column If not null, the position in {@link #ucds} of the column the value comes from, or -1, is
+     *               stored in its first element.
+     *
+     * @return The string, or null if all candidate columns are null.
+     */
+    public String getString(Object[] row, int[] column) {
+        for (int k = 0; k < indices.length; k++) {
+            Object value = row[indices[k]];
+            if (value != null) {
+                if (column != null)
+                    column[0] = k;
+                return value.toString().strip();
+            }
+        }
+        if (column != null)
+            column[0] = -1;
+        return null;
+    }
+
+    /**
+     * Gets the raw cell of the candidate column at the given position.
+     *
+     * @param row The row.
+     * @param k   The position of the column in {@link #ucds}.
+     *
+     * @return The cell.
+     */
+    public Object get(Object[] row, int k) {
+        return row[indices[k]];
+    }
+
+    /**
+     * Converts a cell to a double.
+     *
+     * @param cell The cell.
+     *
+     * @return The value, or NaN if the cell is not a number nor a string representing a number.
+     */
+    public static double toDouble(Object cell) {
+        if (cell instanceof Number) {
+            return ((Number) cell).doubleValue();
+        } else if (cell instanceof String) {
+            return Parser.parseDouble((String) cell);
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Converts a cell to a double array.
+     *
+     * @param cell The cell.
+     *
+     * @return The array, or null if the cell is not a double or float array nor a string representing one.
+     */
+    public static double[] toDoubleArray(Object cell) {
+        if (cell instanceof double[]) {
+            return (double[]) cell;
+        } else if (cell instanceof float[]) {
+            float[] floats = (float[]) cell;
+            double[] result = new double[floats.length];
+            for (int i = 0; i < floats.length; i++)
+                result[i] = floats[i];
+            return result;
+        } else if (cell instanceof String) {
+            try {
+                return Parser.parseDoubleArray((String) cell);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}